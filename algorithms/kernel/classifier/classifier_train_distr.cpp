@@ -62,6 +62,8 @@ __DAAL_REGISTER_SERIALIZATION_CLASS(PartialResult, SERIALIZATION_CLASSIFIER_TRAI
 
 PartialResult::PartialResult() : daal::algorithms::PartialResult(lastPartialResultId + 1) {};
 
+PartialResult::PartialResult(const size_t n) : daal::algorithms::PartialResult(n) {};
+
 /**
  * Returns the partial result in the training stage of the classification algorithm
  * \param[in] id   Identifier of the partial result, \ref PartialResultId
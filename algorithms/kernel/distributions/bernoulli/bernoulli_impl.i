@@ -95,13 +95,13 @@ Status BernoulliKernel<algorithmFPType, method, cpu>::computeInt(int *resultArra
 }
 
 template<typename algorithmFPType, Method method, CpuType cpu>
-Status BernoulliKernel<algorithmFPType, method, cpu>::computeFPType(NumericTable *resultTable, algorithmFPType p, engines::BatchBase &engine)
+Status BernoulliKernel<algorithmFPType, method, cpu>::computeFPType(NumericTable *resultTable, size_t iStartRow, size_t nRows,
+                                                                   algorithmFPType p, engines::BatchBase &engine)
 {
     const algorithmFPType one  = 1;
     const algorithmFPType zero = 0;
     const size_t nElemsInBlock = 1024;
 
-    size_t nRows = resultTable->getNumberOfRows();
     size_t nCols = resultTable->getNumberOfColumns();
 
     Status s;
@@ -117,7 +117,7 @@ Status BernoulliKernel<algorithmFPType, method, cpu>::computeFPType(NumericTable
             size_t nProcessedRows = block * nRowsInBlock;
             size_t nRowsToProcess = (block == nRowBlocks - 1) ? (nRows - nProcessedRows) : nRowsInBlock;
 
-            daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, nProcessedRows, nRowsToProcess);
+            daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, iStartRow + nProcessedRows, nRowsToProcess);
             DAAL_CHECK_BLOCK_STATUS(resultBlock);
             algorithmFPType *resultArray = resultBlock.get();
 
@@ -137,7 +137,7 @@ Status BernoulliKernel<algorithmFPType, method, cpu>::computeFPType(NumericTable
 
         for(size_t block = 0; block < nRows; block++) /* blocking by rows */
         {
-            daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, block, 1);
+            daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, iStartRow + block, 1);
             DAAL_CHECK_BLOCK_STATUS(resultBlock);
             algorithmFPType *resultArray = resultBlock.get();
 
@@ -162,17 +162,27 @@ Status BernoulliKernel<algorithmFPType, method, cpu>::computeFPType(NumericTable
 template<typename algorithmFPType, Method method, CpuType cpu>
 Status BernoulliKernel<algorithmFPType, method, cpu>::compute(algorithmFPType p, engines::BatchBase &engine, NumericTable *resultTable)
 {
+    const size_t nRows = resultTable->getNumberOfRows();
+    const size_t nCols = resultTable->getNumberOfColumns();
+
     NumericTableDictionary *resultDict = resultTable->getDictionary();
     if(resultDict->getFeaturesEqual() == DictionaryIface::equal && resultTable->getDataLayout() == NumericTableIface::aos &&
       (*resultDict)[0].indexType      == data_feature_utils::DAAL_INT32_S)  /* if table is HomogenNT<int> */
     {
-        size_t n = resultTable->getNumberOfRows() * resultTable->getNumberOfColumns();
         int *resultArray = ((HomogenNumericTable<int> *)resultTable)->getArray();
-        return computeInt(resultArray, n, p, engine);
+        return distributions::internal::generateInParallel<cpu>(engine, nRows, nCols,
+            [&](engines::BatchBase &engineLocal, size_t iStartRow, size_t nRowsInBlock) -> Status
+        {
+            return computeInt(resultArray + iStartRow * nCols, nRowsInBlock * nCols, p, engineLocal);
+        });
     }
     else
     {
-        return computeFPType(resultTable, p, engine);
+        return distributions::internal::generateInParallel<cpu>(engine, nRows, nCols,
+            [&](engines::BatchBase &engineLocal, size_t iStartRow, size_t nRowsInBlock) -> Status
+        {
+            return computeFPType(resultTable, iStartRow, nRowsInBlock, p, engineLocal);
+        });
     }
     return Status();
 }
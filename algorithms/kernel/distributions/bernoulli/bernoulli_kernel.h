@@ -75,7 +75,7 @@ class BernoulliKernel : public Kernel
 public:
     static Status compute(algorithmFPType p, engines::BatchBase &engine, NumericTable *resultTable);
     static Status computeInt(int *resultArray, size_t n, algorithmFPType p, engines::BatchBase &engine);
-    static Status computeFPType(NumericTable *resultTable, algorithmFPType p, engines::BatchBase &engine);
+    static Status computeFPType(NumericTable *resultTable, size_t iStartRow, size_t nRows, algorithmFPType p, engines::BatchBase &engine);
 };
 
 template<typename algorithmFPType, CpuType cpu>
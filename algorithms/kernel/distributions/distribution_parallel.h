@@ -0,0 +1,124 @@
+/* file: distribution_parallel.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Parallel generation of random numbers by distributions
+//--
+*/
+
+#ifndef __DISTRIBUTION_PARALLEL_H__
+#define __DISTRIBUTION_PARALLEL_H__
+
+#include "algorithms/engines/engine.h"
+#include "threading.h"
+#include "service_error_handling.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace distributions
+{
+namespace internal
+{
+
+/**
+ * Number of random numbers in the block generated by one task
+ */
+const size_t nElemsInParallelBlock = 1 << 20;
+
+/**
+ * Fills the rows of the table with random numbers in parallel.
+ * The rows are split into blocks of fixed size, and the block of rows starting at row iStartRow is generated
+ * by the copy of the engine moved forward by iStartRow*nCols elements with skipAhead.
+ * The split does not depend on the number of threads, so neither does the result. When each random number
+ * consumes one element of the engine sequence, the result is also equal to the result of the sequential generation.
+ * The engines that do not support skipAhead fill the table sequentially.
+ * On exit the engine is moved forward by nRows*nCols elements
+ *
+ * \param[in] engine       Engine used to generate random numbers
+ * \param[in] nRows        Number of rows to fill
+ * \param[in] nCols        Number of random numbers in one row
+ * \param[in] generateRows Functor generateRows(engine, iStartRow, nRowsInBlock) that fills the block of rows sequentially
+ */
+template <CpuType cpu, typename GenerateRows>
+services::Status generateInParallel(engines::BatchBase &engine, size_t nRows, size_t nCols, const GenerateRows &generateRows)
+{
+    const size_t nRowsInBlock = (nCols < nElemsInParallelBlock ? nElemsInParallelBlock / nCols : 1);
+    const size_t nBlocks = nRows / nRowsInBlock + !!(nRows % nRowsInBlock);
+
+    if(nBlocks < 2)
+        return generateRows(engine, 0, nRows);
+
+    /* Check on a copy of the engine that it can be moved forward before splitting the generation between the tasks */
+    {
+        engines::EnginePtr engineCheck = engine.clone();
+        DAAL_CHECK(engineCheck, ErrorCloneMethodFailed);
+        if(!engineCheck->skipAhead(nRowsInBlock * nCols))
+            return generateRows(engine, 0, nRows);
+    }
+
+    SafeStatus safeStat;
+    daal::threader_for(nBlocks, nBlocks, [&](size_t iBlock)
+    {
+        engines::EnginePtr engineLocal = engine.clone();
+        DAAL_CHECK_THR(engineLocal, ErrorCloneMethodFailed);
+
+        const size_t iStartRow = iBlock * nRowsInBlock;
+        const size_t nRowsToProcess = (iBlock == nBlocks - 1) ? nRows - iStartRow : nRowsInBlock;
+
+        services::Status s = engineLocal->skipAhead(iStartRow * nCols);
+        DAAL_CHECK_STATUS_THR(s);
+        s = generateRows(*engineLocal, iStartRow, nRowsToProcess);
+        DAAL_CHECK_STATUS_THR(s);
+    });
+    DAAL_CHECK_SAFE_STATUS();
+
+    return engine.skipAhead(nRows * nCols);
+}
+
+} // namespace internal
+} // namespace distributions
+} // namespace algorithms
+} // namespace daal
+
+#endif
@@ -64,15 +64,16 @@ Status NormalKernel<algorithmFPType, method, cpu>::compute(const normal::Paramet
                                                            engines::BatchBase &engine,
                                                            NumericTable *resultTable)
 {
-    size_t nRows = resultTable->getNumberOfRows();
+    const size_t nRows = resultTable->getNumberOfRows();
+    const size_t nCols = resultTable->getNumberOfColumns();
 
-    daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, 0, nRows);
-    DAAL_CHECK_BLOCK_STATUS(resultBlock);
-    algorithmFPType *result = resultBlock.get();
-
-    size_t size = nRows * resultTable->getNumberOfColumns();
-
-    return compute(parameter, engine, size, result);
+    return distributions::internal::generateInParallel<cpu>(engine, nRows, nCols,
+        [&](engines::BatchBase &engineLocal, size_t iStartRow, size_t nRowsInBlock) -> Status
+    {
+        daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, iStartRow, nRowsInBlock);
+        DAAL_CHECK_BLOCK_STATUS(resultBlock);
+        return compute(parameter, engineLocal, nRowsInBlock * nCols, resultBlock.get());
+    });
 }
 
 template<typename algorithmFPType, Method method, CpuType cpu>
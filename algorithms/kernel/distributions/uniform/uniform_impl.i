@@ -62,15 +62,16 @@ namespace internal
 template<typename algorithmFPType, Method method, CpuType cpu>
 Status UniformKernel<algorithmFPType, method, cpu>::compute(const uniform::Parameter<algorithmFPType> &parameter, engines::BatchBase &engine, NumericTable *resultTable)
 {
-    size_t nRows = resultTable->getNumberOfRows();
+    const size_t nRows = resultTable->getNumberOfRows();
+    const size_t nCols = resultTable->getNumberOfColumns();
 
-    daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, 0, nRows);
-    DAAL_CHECK_BLOCK_STATUS(resultBlock);
-    algorithmFPType *resultArray = resultBlock.get();
-
-    size_t n = nRows * resultTable->getNumberOfColumns();
-
-    return compute(parameter, engine, n, resultArray);
+    return distributions::internal::generateInParallel<cpu>(engine, nRows, nCols,
+        [&](engines::BatchBase &engineLocal, size_t iStartRow, size_t nRowsInBlock) -> Status
+    {
+        daal::internal::WriteRows<algorithmFPType, cpu> resultBlock(resultTable, iStartRow, nRowsInBlock);
+        DAAL_CHECK_BLOCK_STATUS(resultBlock);
+        return compute(parameter, engineLocal, nRowsInBlock * nCols, resultBlock.get());
+    });
 }
 
 template<typename algorithmFPType, Method method, CpuType cpu>
@@ -51,6 +51,7 @@
 #include "kernel.h"
 #include "numeric_table.h"
 #include "engine_batch_impl.h"
+#include "distribution_parallel.h"
 
 #include "service_rng.h"
 #include "service_unique_ptr.h"
@@ -103,6 +103,151 @@ void ModelImpl::clear()
     _nTree.set(0);
 }
 
+size_t ModelImpl::getNumberOfNodes(size_t iTree) const
+{
+    return (iTree < size() ? at(iTree)->getNumberOfRows() : 0);
+}
+
+services::Status ModelImpl::exportTree(size_t iTree, bool bClassification, int* featureIndex, ModelFPType* featureValue,
+    int* leftChild, int* rightChild, ModelFPType* response) const
+{
+    DAAL_CHECK(iTree < size(), services::ErrorIncorrectIndex);
+    DAAL_CHECK(featureIndex && featureValue && leftChild && rightChild && response, services::ErrorNullPtr);
+
+    const DecisionTreeTable& t = *at(iTree);
+    const DecisionTreeNode* aNode = (const DecisionTreeNode*)t.getArray();
+    const size_t nNodes = t.getNumberOfRows();
+    for(size_t i = 0; i < nNodes; ++i)
+    {
+        const DecisionTreeNode& n = aNode[i];
+        featureIndex[i] = n.featureIndex;
+        if(n.isSplit())
+        {
+            featureValue[i] = n.featureValue();
+            //right kid is next to left, zero index means the split has no kids
+            leftChild[i] = n.leftIndexOrClass ? int(n.leftIndexOrClass) : -1;
+            rightChild[i] = n.leftIndexOrClass ? int(n.leftIndexOrClass + 1) : -1;
+            response[i] = 0;
+        }
+        else
+        {
+            featureValue[i] = 0;
+            leftChild[i] = -1;
+            rightChild[i] = -1;
+            response[i] = bClassification ? ModelFPType(n.leftIndexOrClass) : n.featureValueOrResponse;
+        }
+    }
+    return Status();
+}
+
+services::Status ModelImpl::importTree(size_t nFeatures, size_t nNodes, bool bClassification, const int* featureIndex,
+    const ModelFPType* featureValue, const int* leftChild, const int* rightChild, const ModelFPType* response)
+{
+    DAAL_CHECK(nNodes > 0, services::ErrorIncorrectParameter);
+    DAAL_CHECK(featureIndex && featureValue && leftChild && rightChild && response, services::ErrorNullPtr);
+
+    //Nodes are renumbered in breadth first order starting from the root (node 0),
+    //so that the right kid of each split follows its left kid as the model requires
+    Collection<size_t> aOrder; //original indices of the nodes in the new order
+    Collection<int> aNewIdx(nNodes); //new indices of the nodes, -1 for not yet visited nodes
+    DAAL_CHECK_MALLOC(aNewIdx.size() == nNodes);
+    for(size_t i = 0; i < nNodes; ++i)
+        aNewIdx[i] = -1;
+
+    aOrder.push_back(0);
+    aNewIdx[0] = 0;
+    for(size_t i = 0; i < aOrder.size(); ++i)
+    {
+        const size_t iNode = aOrder[i];
+        if(featureIndex[iNode] == -1)
+        {
+            DAAL_CHECK(!bClassification || (response[iNode] >= 0 && response[iNode] == ModelFPType(ClassIndexType(response[iNode]))),
+                services::ErrorIncorrectParameter);
+            continue;
+        }
+        DAAL_CHECK(featureIndex[iNode] >= 0 && (!nFeatures || size_t(featureIndex[iNode]) < nFeatures), services::ErrorIncorrectParameter);
+
+        const int iLeft = leftChild[iNode];
+        const int iRight = rightChild[iNode];
+        DAAL_CHECK(iLeft >= 0 && size_t(iLeft) < nNodes && iRight >= 0 && size_t(iRight) < nNodes && iLeft != iRight,
+            services::ErrorIncorrectIndex);
+        //every node must have exactly one parent
+        DAAL_CHECK(aNewIdx[iLeft] == -1 && aNewIdx[iRight] == -1, services::ErrorIncorrectParameter);
+        aNewIdx[iLeft] = int(aOrder.size());
+        aOrder.push_back(size_t(iLeft));
+        aNewIdx[iRight] = int(aOrder.size());
+        aOrder.push_back(size_t(iRight));
+    }
+    //all the nodes must be reachable from the root
+    DAAL_CHECK(aOrder.size() == nNodes, services::ErrorIncorrectParameter);
+
+    DecisionTreeTable* pTbl = new DecisionTreeTable(nNodes);
+    DecisionTreeNode* aRow = pTbl ? (DecisionTreeNode*)pTbl->getArray() : nullptr;
+    if(!aRow)
+    {
+        delete pTbl;
+        return Status(services::ErrorMemoryAllocationFailed);
+    }
+    for(size_t i = 0; i < nNodes; ++i)
+    {
+        const size_t iNode = aOrder[i];
+        DecisionTreeNode& row = aRow[i];
+        row.featureIndex = featureIndex[iNode];
+        if(row.isSplit())
+        {
+            row.leftIndexOrClass = ClassIndexType(aNewIdx[leftChild[iNode]]);
+            row.featureValueOrResponse = featureValue[iNode];
+        }
+        else
+        {
+            row.leftIndexOrClass = bClassification ? ClassIndexType(response[iNode]) : 0;
+            row.featureValueOrResponse = bClassification ? 0 : response[iNode];
+        }
+    }
+
+    if(!_serializationData.get())
+    {
+        _serializationData.reset(new DataCollection());
+        if(!_serializationData.get())
+        {
+            delete pTbl;
+            return Status(services::ErrorMemoryAllocationFailed);
+        }
+    }
+    //the collection may have been resized in advance for the trees of this model
+    const size_t iTree = size();
+    if(iTree < _serializationData->size())
+        (*_serializationData)[iTree] = SerializationIfacePtr(pTbl);
+    else
+        _serializationData->push_back(SerializationIfacePtr(pTbl));
+    _nTree.inc();
+    return Status();
+}
+
+bool ModelImpl::appendTrees(const ModelImpl& other)
+{
+    const size_t nOther = other.size();
+    if(!nOther)
+        return true;
+    if(!_serializationData.get())
+    {
+        _serializationData.reset(new DataCollection());
+        if(!_serializationData.get())
+            return false;
+    }
+    for(size_t i = 0; i < nOther; ++i)
+    {
+        const size_t iTree = size();
+        //the collection may have been resized in advance for the trees of this model
+        if(iTree < _serializationData->size())
+            (*_serializationData)[iTree] = (*other._serializationData)[i];
+        else
+            _serializationData->push_back((*other._serializationData)[i]);
+        _nTree.inc();
+    }
+    return true;
+}
+
 void MemoryManager::destroy()
 {
     for(size_t i = 0; i < _aChunk.size(); ++i)
@@ -331,6 +331,19 @@ public:
         return (const DecisionTreeTable*)(*_serializationData)[i].get();
     }
 
+    size_t getNumberOfNodes(size_t iTree) const;
+
+    //Copies the nodes of the tree to flat arrays, leaf value of the classification tree is its class index
+    services::Status exportTree(size_t iTree, bool bClassification, int* featureIndex, ModelFPType* featureValue,
+        int* leftChild, int* rightChild, ModelFPType* response) const;
+
+    //Builds the tree from flat arrays with arbitrary order of the nodes and appends it to the model
+    services::Status importTree(size_t nFeatures, size_t nNodes, bool bClassification, const int* featureIndex,
+        const ModelFPType* featureValue, const int* leftChild, const int* rightChild, const ModelFPType* response);
+
+    //Appends the trees of the other model to this one, the trees are not copied but shared by the models
+    bool appendTrees(const ModelImpl& other);
+
 protected:
     void destroy();
     template<typename Archive, bool onDeserialize>
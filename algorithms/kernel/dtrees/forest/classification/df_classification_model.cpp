@@ -88,6 +88,14 @@ namespace classification
 namespace interface1
 {
 __DAAL_REGISTER_SERIALIZATION_CLASS2(Model, internal::ModelImpl, SERIALIZATION_DECISION_FOREST_CLASSIFICATION_MODEL_ID);
+
+ModelPtr Model::create(size_t nFeatures, services::Status *stat)
+{
+    daal::algorithms::decision_forest::classification::ModelPtr pRes(new decision_forest::classification::internal::ModelImpl(nFeatures));
+    if((!pRes.get()) && stat)
+        stat->add(services::ErrorMemoryAllocationFailed);
+    return pRes;
+}
 }
 
 namespace internal
@@ -123,6 +131,18 @@ void ModelImpl::traverseBF(size_t iTree, classifier::TreeNodeVisitor& visitor) c
     }
 }
 
+services::Status ModelImpl::exportTree(size_t iTree, int *featureIndex, double *featureValue,
+    int *leftChild, int *rightChild, double *response) const
+{
+    return ImplType::exportTree(iTree, true, featureIndex, featureValue, leftChild, rightChild, response);
+}
+
+services::Status ModelImpl::importTree(size_t nNodes, const int *featureIndex, const double *featureValue,
+    const int *leftChild, const int *rightChild, const double *response)
+{
+    return ImplType::importTree(getNumberOfFeatures(), nNodes, true, featureIndex, featureValue, leftChild, rightChild, response);
+}
+
 services::Status ModelImpl::serializeImpl(data_management::InputDataArchive  * arch)
 {
     auto s = daal::algorithms::classifier::Model::serialImpl<data_management::InputDataArchive, false>(arch);
@@ -51,9 +51,11 @@
 #include "kernel.h"
 #include "decision_forest_classification_training_types.h"
 #include "decision_forest_classification_training_batch.h"
+#include "decision_forest_classification_training_distributed.h"
 #include "df_classification_train_kernel.h"
 #include "df_classification_model_impl.h"
 #include "service_algo_utils.h"
+#include "service_numeric_table.h"
 
 namespace daal
 {
@@ -108,6 +110,102 @@ services::Status BatchContainer<algorithmFPType, method, cpu>::setupCompute()
     return services::Status();
 }
 
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step1Local, algorithmFPType, method, cpu>::DistributedContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::ClassificationTrainDistrStep1Kernel, algorithmFPType, method);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step1Local, algorithmFPType, method, cpu>::~DistributedContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step1Local, algorithmFPType, method, cpu>::compute()
+{
+    classifier::training::Input *input = static_cast<classifier::training::Input *>(_in);
+    PartialResult *pres = static_cast<PartialResult *>(_pres);
+
+    NumericTable *x = input->get(classifier::training::data).get();
+    NumericTable *y = input->get(classifier::training::labels).get();
+
+    decision_forest::classification::Model *m = pres->get(classifier::training::partialModel).get();
+
+    const DistributedStep1Parameter *par = static_cast<DistributedStep1Parameter*>(_par);
+    daal::services::Environment::env &env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::ClassificationTrainDistrStep1Kernel,
+        __DAAL_KERNEL_ARGUMENTS(algorithmFPType, method), compute, daal::services::internal::hostApp(*input), x, y, *m, *pres, *par);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step1Local, algorithmFPType, method, cpu>::finalizeCompute()
+{
+    return services::Status();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step1Local, algorithmFPType, method, cpu>::setupCompute()
+{
+    PartialResult *pres = static_cast<PartialResult *>(_pres);
+    decision_forest::classification::Model *m = pres->get(classifier::training::partialModel).get();
+    decision_forest::classification::internal::ModelImpl* pImpl = dynamic_cast<decision_forest::classification::internal::ModelImpl*>(m);
+    DAAL_ASSERT(pImpl);
+    pImpl->clear();
+    return services::Status();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::DistributedContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::ClassificationTrainDistrStep2Kernel, algorithmFPType, method);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::~DistributedContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::compute()
+{
+    DistributedInput *input = static_cast<DistributedInput *>(_in);
+    PartialResult *pres = static_cast<PartialResult *>(_pres);
+    data_management::DataCollection *dcInput = input->get(partialResults).get();
+
+    const size_t nPartials = dcInput->size();
+    daal::internal::TArray<const PartialResult *, cpu> aPartials(nPartials);
+    const PartialResult **partials = aPartials.get();
+    DAAL_CHECK_MALLOC(partials);
+    for(size_t i = 0; i < nPartials; i++)
+        partials[i] = static_cast<const PartialResult *>((*dcInput)[i].get());
+
+    const Parameter *par = static_cast<Parameter *>(_par);
+    daal::services::Environment::env &env = *_env;
+
+    services::Status s = __DAAL_CALL_KERNEL_STATUS(env, internal::ClassificationTrainDistrStep2Kernel,
+        __DAAL_KERNEL_ARGUMENTS(algorithmFPType, method), compute, nPartials, partials, *pres, *par);
+
+    dcInput->clear();
+    return s;
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::finalizeCompute()
+{
+    PartialResult *pres = static_cast<PartialResult *>(_pres);
+    Result *result = static_cast<Result *>(_res);
+
+    const Parameter *par = static_cast<Parameter *>(_par);
+    daal::services::Environment::env &env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::ClassificationTrainDistrStep2Kernel,
+        __DAAL_KERNEL_ARGUMENTS(algorithmFPType, method), finalizeCompute, *pres, *result, *par);
+}
+
 }
 }
 }
@@ -0,0 +1,210 @@
+/* file: df_classification_train_dense_default_distr_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+
+/*
+//++
+//  Implementation of auxiliary functions for decision forest classification
+//  training (defaultDense) method in the distributed processing mode.
+//  Local nodes build the trees of partial forests on their data,
+//  the master node merges the trees and the statistics of partial forests
+//--
+*/
+
+#ifndef __DF_CLASSIFICATION_TRAIN_DENSE_DEFAULT_DISTR_IMPL_I__
+#define __DF_CLASSIFICATION_TRAIN_DENSE_DEFAULT_DISTR_IMPL_I__
+
+#include "df_classification_train_dense_default_impl.i"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace decision_forest
+{
+namespace classification
+{
+namespace training
+{
+namespace internal
+{
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// ClassificationTrainDistrStep1Kernel
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status ClassificationTrainDistrStep1Kernel<algorithmFPType, method, cpu>::compute(HostAppIface* pHostApp,
+    const NumericTable *x, const NumericTable *y, decision_forest::classification::Model& m,
+    PartialResult& pres,
+    const decision_forest::classification::training::DistributedStep1Parameter& par)
+{
+    ResultData rd(par, pres.get(partialVariableImportance).get(), pres.get(partialOutOfBagError).get(), nullptr);
+    rd.partial = true;
+    return computeImpl<algorithmFPType, cpu,
+        daal::algorithms::decision_forest::classification::internal::ModelImpl,
+        TrainBatchTask<algorithmFPType, method, cpu> >
+        (pHostApp, x, y, *static_cast<daal::algorithms::decision_forest::classification::internal::ModelImpl*>(&m),
+        rd, par, par.nClasses, par.firstTreeIndex);
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// ClassificationTrainDistrStep2Kernel
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status ClassificationTrainDistrStep2Kernel<algorithmFPType, method, cpu>::compute(size_t nPartials,
+    const PartialResult* const* partials, PartialResult& pres,
+    const decision_forest::classification::training::Parameter& par)
+{
+    typedef daal::algorithms::decision_forest::classification::internal::ModelImpl ModelImplType;
+    ModelImplType& md = *static_cast<ModelImplType*>(pres.get(classifier::training::partialModel).get());
+    NumericTable* varImp = pres.get(partialVariableImportance).get();
+    NumericTable* oobError = pres.get(partialOutOfBagError).get();
+    const size_t nFeatures = md.getNumberOfFeatures();
+
+    for(size_t iPartial = 0; iPartial < nPartials; ++iPartial)
+    {
+        const PartialResult& other = *partials[iPartial];
+        const ModelImplType& otherMd = *static_cast<const ModelImplType*>(other.get(classifier::training::partialModel).get());
+        const size_t n1 = md.numberOfTrees();
+        const size_t n2 = otherMd.numberOfTrees();
+
+        if(varImp && n2)
+        {
+            //merge the means and the sums of squared deviations of the variable importance over the trees
+            WriteRows<algorithmFPType, cpu> accBD(varImp, 0, 2);
+            DAAL_CHECK_BLOCK_STATUS(accBD);
+            ReadRows<algorithmFPType, cpu> otherBD(other.get(partialVariableImportance).get(), 0, 2);
+            DAAL_CHECK_BLOCK_STATUS(otherBD);
+            algorithmFPType* mean = accBD.get();
+            algorithmFPType* dev = mean + nFeatures;
+            const algorithmFPType* otherMean = otherBD.get();
+            const algorithmFPType* otherDev = otherMean + nFeatures;
+            const algorithmFPType div = algorithmFPType(1) / algorithmFPType(n1 + n2);
+            const algorithmFPType w2 = algorithmFPType(n2)*div;
+            const algorithmFPType w12 = algorithmFPType(n1)*algorithmFPType(n2)*div;
+            for(size_t i = 0; i < nFeatures; ++i)
+            {
+                const algorithmFPType delta = otherMean[i] - mean[i];
+                mean[i] += delta*w2;
+                dev[i] += otherDev[i] + delta*delta*w12;
+            }
+        }
+
+        if(oobError)
+        {
+            WriteRows<algorithmFPType, cpu> accBD(oobError, 0, 1);
+            DAAL_CHECK_BLOCK_STATUS(accBD);
+            ReadRows<algorithmFPType, cpu> otherBD(other.get(partialOutOfBagError).get(), 0, 1);
+            DAAL_CHECK_BLOCK_STATUS(otherBD);
+            accBD.get()[0] += otherBD.get()[0];
+            accBD.get()[1] += otherBD.get()[1];
+        }
+
+        DAAL_CHECK_MALLOC(md.appendTrees(otherMd));
+    }
+    return services::Status();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status ClassificationTrainDistrStep2Kernel<algorithmFPType, method, cpu>::finalizeCompute(const PartialResult& pres,
+    Result& res, const decision_forest::classification::training::Parameter& par)
+{
+    const size_t nTrees = pres.get(classifier::training::partialModel)->numberOfTrees();
+    const size_t nFeatures = pres.getNumberOfFeatures();
+
+    NumericTable* varImp = res.get(variableImportance).get();
+    if(varImp)
+    {
+        ReadRows<algorithmFPType, cpu> presBD(pres.get(partialVariableImportance).get(), 0, 2);
+        DAAL_CHECK_BLOCK_STATUS(presBD);
+        WriteOnlyRows<algorithmFPType, cpu> resBD(varImp, 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(resBD);
+        const algorithmFPType* mean = presBD.get();
+        const algorithmFPType* dev = mean + nFeatures;
+        algorithmFPType* imp = resBD.get();
+        if(par.varImportance == decision_forest::training::MDA_Scaled)
+        {
+            //scale the mean by its standard error, the same as in the batch processing mode
+            if(nTrees > 1)
+            {
+                const algorithmFPType div = algorithmFPType(1) / algorithmFPType(nTrees);
+                for(size_t i = 0; i < nFeatures; ++i)
+                {
+                    const algorithmFPType var = dev[i]*div;
+                    imp[i] = mean[i];
+                    if(isPositive<algorithmFPType, cpu>(var))
+                        imp[i] /= daal::internal::Math<algorithmFPType, cpu>::sSqrt(var*div);
+                }
+            }
+            else
+            {
+                for(size_t i = 0; i < nFeatures; ++i)
+                    imp[i] = 0;
+            }
+        }
+        else
+        {
+            for(size_t i = 0; i < nFeatures; ++i)
+                imp[i] = mean[i];
+        }
+    }
+
+    NumericTable* oobError = res.get(outOfBagError).get();
+    if(oobError)
+    {
+        ReadRows<algorithmFPType, cpu> presBD(pres.get(partialOutOfBagError).get(), 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(presBD);
+        WriteOnlyRows<algorithmFPType, cpu> resBD(oobError, 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(resBD);
+        const algorithmFPType nPredicted = presBD.get()[0];
+        resBD.get()[0] = (nPredicted > 0 ? presBD.get()[1] / nPredicted : algorithmFPType(0));
+    }
+    return services::Status();
+}
+
+} /* namespace internal */
+} /* namespace training */
+} /* namespace classification */
+} /* namespace decision_forest */
+} /* namespace algorithms */
+} /* namespace daal */
+
+#endif
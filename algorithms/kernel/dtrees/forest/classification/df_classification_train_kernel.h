@@ -52,6 +52,7 @@
 #include "numeric_table.h"
 #include "algorithm_base_common.h"
 #include "decision_forest_training_parameter.h"
+#include "decision_forest_classification_training_types.h"
 
 using namespace daal::data_management;
 using namespace daal::services;
@@ -78,6 +79,25 @@ public:
         Result& res, const decision_forest::classification::training::Parameter& par);
 };
 
+template <typename algorithmFPType, Method method, CpuType cpu>
+class ClassificationTrainDistrStep1Kernel : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(HostAppIface* pHostApp, const NumericTable *x, const NumericTable *y,
+        decision_forest::classification::Model& m,
+        PartialResult& pres, const decision_forest::classification::training::DistributedStep1Parameter& par);
+};
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+class ClassificationTrainDistrStep2Kernel : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(size_t nPartials, const PartialResult* const* partials,
+        PartialResult& pres, const decision_forest::classification::training::Parameter& par);
+    services::Status finalizeCompute(const PartialResult& pres, Result& res,
+        const decision_forest::classification::training::Parameter& par);
+};
+
 } // namespace internal
 }
 }
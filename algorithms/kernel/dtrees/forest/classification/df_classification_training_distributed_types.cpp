@@ -0,0 +1,186 @@
+/* file: df_classification_training_distributed_types.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of decision forest classification training algorithm classes
+//  used in the distributed processing mode.
+//--
+*/
+
+#include "algorithms/decision_forest/decision_forest_classification_training_types.h"
+#include "serialization_utils.h"
+#include "daal_strings.h"
+
+using namespace daal::data_management;
+using namespace daal::services;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace decision_forest
+{
+namespace classification
+{
+namespace training
+{
+namespace interface1
+{
+
+__DAAL_REGISTER_SERIALIZATION_CLASS(PartialResult, SERIALIZATION_DECISION_FOREST_CLASSIFICATION_TRAINING_PARTIAL_RESULT_ID);
+PartialResult::PartialResult() : classifier::training::PartialResult(lastPartialResultNumericTableId + 1) {}
+
+daal::algorithms::decision_forest::classification::ModelPtr PartialResult::get(classifier::training::PartialResultId id) const
+{
+    return staticPointerCast<daal::algorithms::decision_forest::classification::Model, SerializationIface>(Argument::get(id));
+}
+
+void PartialResult::set(classifier::training::PartialResultId id, const ModelPtr &value)
+{
+    Argument::set(id, value);
+}
+
+NumericTablePtr PartialResult::get(PartialResultNumericTableId id) const
+{
+    return staticPointerCast<NumericTable, SerializationIface>(Argument::get(id));
+}
+
+void PartialResult::set(PartialResultNumericTableId id, const NumericTablePtr &value)
+{
+    Argument::set(id, value);
+}
+
+size_t PartialResult::getNumberOfFeatures() const
+{
+    ModelPtr m = get(classifier::training::partialModel);
+    return m ? m->getNumberOfFeatures() : 0;
+}
+
+services::Status PartialResult::check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const
+{
+    const classifier::training::InputIface *algInput = static_cast<const classifier::training::InputIface *>(input);
+    return checkImpl(algInput->getNumberOfFeatures(), par);
+}
+
+services::Status PartialResult::check(const daal::algorithms::Parameter *par, int method) const
+{
+    return checkImpl(getNumberOfFeatures(), par);
+}
+
+services::Status PartialResult::checkImpl(size_t nFeatures, const daal::algorithms::Parameter *par) const
+{
+    DAAL_CHECK(Argument::size() == lastPartialResultNumericTableId + 1, ErrorIncorrectNumberOfOutputNumericTables);
+
+    ModelPtr m = get(classifier::training::partialModel);
+    DAAL_CHECK(m.get(), ErrorNullModel);
+    DAAL_CHECK(m->getNumberOfFeatures() == nFeatures, ErrorIncorrectNumberOfFeatures);
+
+    services::Status s;
+    const Parameter* algParameter = static_cast<const Parameter *>(par);
+    if(algParameter->resultsToCompute & decision_forest::training::computeOutOfBagError)
+    {
+        DAAL_CHECK_STATUS(s, data_management::checkNumericTable(get(partialOutOfBagError).get(), partialOutOfBagErrorStr(), 0, 0, 2, 1));
+    }
+    if(algParameter->varImportance != decision_forest::training::none)
+    {
+        DAAL_CHECK_STATUS(s, data_management::checkNumericTable(get(partialVariableImportance).get(), partialVariableImportanceStr(), 0, 0, nFeatures, 2));
+    }
+    return s;
+}
+
+DistributedInput::DistributedInput() : classifier::training::InputIface(lastStep2MasterInputId + 1)
+{
+    Argument::set(partialResults, DataCollectionPtr(new DataCollection()));
+}
+
+size_t DistributedInput::getNumberOfFeatures() const
+{
+    DataCollectionPtr collection = get(partialResults);
+    if(!collection || !collection->size())
+        return 0;
+    PartialResultPtr firstResult = PartialResult::cast((*collection)[0]);
+    return firstResult ? firstResult->getNumberOfFeatures() : 0;
+}
+
+DataCollectionPtr DistributedInput::get(Step2MasterInputId id) const
+{
+    return DataCollection::cast(Argument::get(id));
+}
+
+void DistributedInput::set(Step2MasterInputId id, const DataCollectionPtr &value)
+{
+    Argument::set(id, value);
+}
+
+void DistributedInput::add(Step2MasterInputId id, const PartialResultPtr &partialResult)
+{
+    DataCollectionPtr collection = get(id);
+    if(!collection)
+        return;
+    collection->push_back(partialResult);
+}
+
+services::Status DistributedInput::check(const daal::algorithms::Parameter *par, int method) const
+{
+    DataCollectionPtr collection = get(partialResults);
+    DAAL_CHECK_EX(collection, ErrorNullInputDataCollection, ArgumentName, partialResultsStr());
+    const size_t nPartials = collection->size();
+    DAAL_CHECK_EX(nPartials > 0, ErrorEmptyInputCollection, ArgumentName, partialResultsStr());
+
+    const size_t nFeatures = getNumberOfFeatures();
+    services::Status s;
+    for(size_t i = 0; i < nPartials; ++i)
+    {
+        PartialResultPtr partial = PartialResult::cast((*collection)[i]);
+        DAAL_CHECK_EX(partial, ErrorIncorrectElementInPartialResultCollection, ArgumentName, partialResultsStr());
+        DAAL_CHECK_STATUS(s, partial->check(par, method));
+        DAAL_CHECK_EX(partial->getNumberOfFeatures() == nFeatures, ErrorIncorrectNumberOfFeatures, ArgumentName, partialResultsStr());
+    }
+    return s;
+}
+
+} // namespace interface1
+} // namespace training
+} // namespace classification
+} // namespace decision_forest
+} // namespace algorithms
+} // namespace daal
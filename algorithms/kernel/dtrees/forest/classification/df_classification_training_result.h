@@ -101,6 +101,34 @@ DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::Input *inp
     return status;
 }
 
+/**
+ * Allocates memory to store the result of decision forest model-based training in the distributed processing mode.
+ * The model of the result is the forest merged on the master node
+ * \param[in] partialResult Pointer to the partial result computed on the master node
+ * \param[in] method Computation method for the algorithm
+ * \param[in] parameter %Parameter of decision forest model-based training
+ */
+template<typename algorithmFPType>
+DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *prm, const int method)
+{
+    services::Status status;
+    const Parameter *parameter = static_cast<const Parameter *>(prm);
+    const PartialResult *pres = static_cast<const PartialResult *>(partialResult);
+
+    set(classifier::training::model, pres->get(classifier::training::partialModel));
+    if(parameter->resultsToCompute & decision_forest::training::computeOutOfBagError)
+    {
+        set(outOfBagError, NumericTablePtr(data_management::HomogenNumericTable<algorithmFPType>::create(1, 1,
+            data_management::NumericTable::doAllocate, status)));
+    }
+    if(parameter->varImportance != decision_forest::training::none)
+    {
+        set(variableImportance, NumericTablePtr(data_management::HomogenNumericTable<algorithmFPType>::create(pres->getNumberOfFeatures(),
+            1, data_management::NumericTable::doAllocate, status)));
+    }
+    return status;
+}
+
 } // namespace training
 } // namespace classification
 } // namespace decision_forest
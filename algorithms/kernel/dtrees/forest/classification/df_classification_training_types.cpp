@@ -118,6 +118,29 @@ services::Status Result::check(const daal::algorithms::Input *input, const daal:
     return s;
 }
 
+services::Status Result::check(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *par, int method) const
+{
+    DAAL_CHECK(Argument::size() == lastResultId + 1, ErrorIncorrectNumberOfOutputNumericTables);
+    const PartialResult *pres = static_cast<const PartialResult *>(partialResult);
+
+    ModelPtr m = get(classifier::training::model);
+    DAAL_CHECK(m.get(), ErrorNullModel);
+    const size_t nFeatures = pres->getNumberOfFeatures();
+    DAAL_CHECK(m->getNumberOfFeatures() == nFeatures, ErrorIncorrectNumberOfFeatures);
+
+    services::Status s;
+    const Parameter* algParameter = static_cast<const Parameter *>(par);
+    if(algParameter->resultsToCompute & decision_forest::training::computeOutOfBagError)
+    {
+        DAAL_CHECK_STATUS(s, data_management::checkNumericTable(get(outOfBagError).get(), outOfBagErrorStr(), 0, 0, 1, 1));
+    }
+    if(algParameter->varImportance != decision_forest::training::none)
+    {
+        DAAL_CHECK_STATUS(s, data_management::checkNumericTable(get(variableImportance).get(), variableImportanceStr(), 0, 0, nFeatures, 1));
+    }
+    return s;
+}
+
 services::Status Parameter::check() const
 {
     services::Status s;
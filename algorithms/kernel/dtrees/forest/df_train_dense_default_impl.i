@@ -85,6 +85,10 @@ public:
     NumericTable* oobError = nullptr; //if needed then allocated outside kernel
     NumericTable* oobErrorPerObs = nullptr; //if needed then allocated outside kernel
     NumericTablePtr oobIndices; //if needed then allocated in kernel
+    //if true then the statistics of the partial forest are computed instead of the final values:
+    //varImp contains the mean of the variable importance over the trees and the sum of squared deviations from it in two rows,
+    //oobError contains the number of observations predicted by out-of-bag trees and the sum of their errors
+    bool partial = false;
 };
 
 //////////////////////////////////////////////////////////////////////////////////////////
@@ -241,12 +245,62 @@ Ctx* createTlsContext(const NumericTable *x, const Parameter& par, size_t nClass
     return ctx;
 }
 
+//////////////////////////////////////////////////////////////////////////////////////////
+// Computes the statistics of the partial forest to be merged with the ones of other partial forests
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu, class Ctx>
+services::Status finalizePartialResults(Ctx& ctx, const NumericTable *y, ResultData& res, const Parameter& par, size_t nFeatures)
+{
+    if(ctx.varImp)
+    {
+        //the mean is already computed by MDA modes
+        if(par.varImportance == training::MDI && ctx.nTrees)
+        {
+            const algorithmFPType div = algorithmFPType(1) / algorithmFPType(ctx.nTrees);
+            for(size_t i = 0; i < nFeatures; ++i)
+                ctx.varImp[i] *= div;
+        }
+        WriteOnlyRows<algorithmFPType, cpu> varImpDev(res.varImp, 1, 1);
+        DAAL_CHECK_BLOCK_STATUS(varImpDev);
+        algorithmFPType* pDev = varImpDev.get();
+        for(size_t i = 0; i < nFeatures; ++i)
+            pDev[i] = (ctx.varImpVariance ? ctx.varImpVariance[i] : algorithmFPType(0));
+    }
+
+    if(res.oobError)
+    {
+        const size_t nRows = y->getNumberOfRows();
+        TArray<algorithmFPType, cpu> oobErrPerObs(nRows);
+        DAAL_CHECK_MALLOC(oobErrPerObs.get());
+        services::Status s = ctx.finalizeOOBError(y, nullptr, oobErrPerObs.get());
+        if(!s)
+            return s;
+
+        //negative error means the observation is not predicted by any out-of-bag tree
+        size_t nPredicted = 0;
+        algorithmFPType sumError = 0;
+        for(size_t i = 0; i < nRows; ++i)
+        {
+            if(oobErrPerObs[i] >= 0)
+            {
+                ++nPredicted;
+                sumError += oobErrPerObs[i];
+            }
+        }
+        WriteOnlyRows<algorithmFPType, cpu> oobErr(res.oobError, 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(oobErr);
+        oobErr.get()[0] = algorithmFPType(nPredicted);
+        oobErr.get()[1] = sumError;
+    }
+    return services::Status();
+}
+
 //////////////////////////////////////////////////////////////////////////////////////////
 // compute() implementation
 //////////////////////////////////////////////////////////////////////////////////////////
 template <typename algorithmFPType, CpuType cpu, typename ModelType, typename TaskType>
 services::Status computeImpl(HostAppIface* pHostApp, const NumericTable *x, const NumericTable *y,
-    ModelType& md, ResultData& res, const Parameter& par, size_t nClasses)
+    ModelType& md, ResultData& res, const Parameter& par, size_t nClasses, size_t firstTreeIndex = 0)
 {
     DAAL_CHECK(md.resize(par.nTrees), ErrorMemoryAllocationFailed);
     dtrees::internal::FeatureTypes featTypes;
@@ -297,7 +351,8 @@ services::Status computeImpl(HostAppIface* pHostApp, const NumericTable *x, cons
         TaskType* task = tlsTask.local();
         DAAL_CHECK_MALLOC_THR(task);
         dtrees::internal::Tree* pTree = nullptr;
-        services::Status s = task->run(size_t(par.seed)*(i + 1), pTree);
+        //the seed depends on the index of the tree in the whole forest only
+        services::Status s = task->run(size_t(par.seed)*(firstTreeIndex + i + 1), pTree);
         if(pTree)
             md.add((typename ModelType::TreeType&)*pTree);
         DAAL_CHECK_STATUS_THR(s);
@@ -321,6 +376,9 @@ services::Status computeImpl(HostAppIface* pHostApp, const NumericTable *x, cons
         return s;
     DAAL_CHECK_MALLOC(md.size() == par.nTrees);
 
+    if(res.partial)
+        return finalizePartialResults<algorithmFPType, cpu, Ctx>(mainCtx, y, res, par, nFeatures);
+
     //finalize results computation
     //variable importance
     if(varImpBD.get())
@@ -71,6 +71,14 @@ namespace interface1
 {
 __DAAL_REGISTER_SERIALIZATION_CLASS2(Model, internal::ModelImpl, SERIALIZATION_DECISION_FOREST_REGRESSION_MODEL_ID);
 
+ModelPtr Model::create(size_t nFeatures, services::Status *stat)
+{
+    daal::algorithms::decision_forest::regression::ModelPtr pRes(new decision_forest::regression::internal::ModelImpl(nFeatures));
+    if((!pRes.get()) && stat)
+        stat->add(services::ErrorMemoryAllocationFailed);
+    return pRes;
+}
+
 Model::Model(){}
 
 }
@@ -108,6 +116,18 @@ void ModelImpl::traverseBF(size_t iTree, algorithms::regression::TreeNodeVisitor
     }
 }
 
+services::Status ModelImpl::exportTree(size_t iTree, int *featureIndex, double *featureValue,
+    int *leftChild, int *rightChild, double *response) const
+{
+    return ImplType::exportTree(iTree, false, featureIndex, featureValue, leftChild, rightChild, response);
+}
+
+services::Status ModelImpl::importTree(size_t nNodes, const int *featureIndex, const double *featureValue,
+    const int *leftChild, const int *rightChild, const double *response)
+{
+    return ImplType::importTree(getNumberOfFeatures(), nNodes, false, featureIndex, featureValue, leftChild, rightChild, response);
+}
+
 services::Status ModelImpl::serializeImpl(data_management::InputDataArchive  * arch)
 {
     auto s = RegressionImplType::serialImpl<data_management::InputDataArchive, false>(arch);
@@ -82,6 +82,11 @@ public:
     virtual void traverseDF(size_t iTree, algorithms::regression::TreeNodeVisitor& visitor) const DAAL_C11_OVERRIDE;
     virtual void traverseBF(size_t iTree, algorithms::regression::TreeNodeVisitor& visitor) const DAAL_C11_OVERRIDE;
     virtual void clear() DAAL_C11_OVERRIDE { ImplType::clear(); }
+    virtual size_t getNumberOfNodes(size_t iTree) const DAAL_C11_OVERRIDE { return ImplType::getNumberOfNodes(iTree); }
+    virtual services::Status exportTree(size_t iTree, int *featureIndex, double *featureValue,
+                                        int *leftChild, int *rightChild, double *response) const DAAL_C11_OVERRIDE;
+    virtual services::Status importTree(size_t nNodes, const int *featureIndex, const double *featureValue,
+                                        const int *leftChild, const int *rightChild, const double *response) DAAL_C11_OVERRIDE;
 
     virtual services::Status serializeImpl(data_management::InputDataArchive * arch) DAAL_C11_OVERRIDE;
     virtual services::Status deserializeImpl(const data_management::OutputDataArchive * arch) DAAL_C11_OVERRIDE;
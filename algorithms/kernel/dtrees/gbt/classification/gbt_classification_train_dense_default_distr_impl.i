@@ -0,0 +1,150 @@
+/* file: gbt_classification_train_dense_default_distr_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of gradient boosted trees classification training (defaultDense) method
+//  in the distributed processing mode.
+//  Trees approximate the log-odds of class 1 and are built level by level: local nodes compute
+//  histograms of gradients of the logistic loss over the bins of feature values for the open nodes of the tree,
+//  the master node merges the histograms and finds the best splits
+//--
+*/
+
+#ifndef __GBT_CLASSIFICATION_TRAIN_DENSE_DEFAULT_DISTR_IMPL_I__
+#define __GBT_CLASSIFICATION_TRAIN_DENSE_DEFAULT_DISTR_IMPL_I__
+
+#include "gbt_classification_train_dense_default_impl.i"
+#include "gbt_train_dense_default_distr_impl.i"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace gbt
+{
+namespace classification
+{
+namespace training
+{
+namespace internal
+{
+
+/* The initial response is the log-odds of class 1, the share of class 1 is kept away from 0 and 1 */
+template <typename algorithmFPType, CpuType cpu>
+algorithmFPType logOdds(algorithmFPType nClassOne, algorithmFPType n)
+{
+    const algorithmFPType eps = algorithmFPType(1e-6);
+    algorithmFPType p = nClassOne / n;
+    if(p < eps)
+        p = eps;
+    if(p > algorithmFPType(1) - eps)
+        p = algorithmFPType(1) - eps;
+    return daal::internal::Math<algorithmFPType, cpu>::sLog(p / (algorithmFPType(1) - p));
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Local nodes: quantiles of the feature values in the first round,
+// histograms of gradients for the open nodes of the tree in the next rounds
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status ClassificationTrainDistrStep1Kernel<algorithmFPType, method, cpu>::compute(HostAppIface* pHostApp,
+    const NumericTable *x, const NumericTable *y, const DistributedPartialResult *state, const NumericTable *internalInput,
+    DistributedPartialResultStep1& pres, const Parameter& par)
+{
+    if(!state)
+        return computeBinCandidates<algorithmFPType, cpu>(x, y, pres.get(binCandidates).get(), pres.get(localStatistics).get(), par);
+
+    const gbt::classification::internal::ModelImpl *model =
+        static_cast<const gbt::classification::internal::ModelImpl *>(state->get(partialModel).get());
+    NumericTable *statusTable = state->get(trainingStatus).get();
+    NumericTable *fTable = pres.get(internalResult).get();
+    services::Status s;
+    DAAL_CHECK_STATUS(s, (computeTreesResponses<algorithmFPType, cpu>(pHostApp, x, *model, statusTable, internalInput, fTable)));
+
+    LogisticLoss<algorithmFPType, cpu> loss;
+    return computeHistograms<algorithmFPType, cpu>(x, y, fTable, model->size(), statusTable, state->get(treeNodes).get(),
+        state->get(binBorders).get(), loss, pres.get(histograms).get(), par);
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Master node: bin borders and the initial response in the first round,
+// splits of the open nodes of the tree in the next rounds
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status ClassificationTrainDistrStep2Kernel<algorithmFPType, method, cpu>::compute(HostAppIface* pHostApp, size_t nPartials,
+    const DistributedPartialResultStep1 *const *partials, DistributedPartialResult& state, const Parameter& par)
+{
+    gbt::classification::internal::ModelImpl *model =
+        static_cast<gbt::classification::internal::ModelImpl *>(state.get(partialModel).get());
+    TArray<const NumericTable *, cpu> aTables(2 * nPartials);
+    const NumericTable **tables = aTables.get();
+    DAAL_CHECK_MALLOC(tables);
+
+    if(partials[0]->get(binCandidates))
+    {
+        for(size_t i = 0; i < nPartials; ++i)
+        {
+            tables[i] = partials[i]->get(binCandidates).get();
+            tables[nPartials + i] = partials[i]->get(localStatistics).get();
+        }
+        return initializeState<algorithmFPType, cpu>(nPartials, tables, tables + nPartials, state.get(binBorders).get(),
+            state.get(treeNodes).get(), state.get(trainingStatus).get(), *model, par, logOdds<algorithmFPType, cpu>);
+    }
+
+    for(size_t i = 0; i < nPartials; ++i)
+        tables[i] = partials[i]->get(histograms).get();
+    NumericTablePtr nodesTable = state.get(treeNodes);
+    services::Status s = buildTreeLevel<algorithmFPType, cpu, gbt::classification::internal::ModelImpl>(nPartials, tables,
+        state.getNumberOfFeatures(), state.get(trainingStatus).get(), nodesTable, state.get(binBorders).get(), *model,
+        par.maxIterations, par);
+    state.set(treeNodes, nodesTable);
+    return s;
+}
+
+} /* namespace internal */
+} /* namespace training */
+} /* namespace classification */
+} /* namespace gbt */
+} /* namespace algorithms */
+} /* namespace daal */
+
+#endif
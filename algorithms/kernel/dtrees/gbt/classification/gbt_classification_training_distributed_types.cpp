@@ -0,0 +1,362 @@
+/* file: gbt_classification_training_distributed_types.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of gradient boosted trees classification training classes
+//  in the distributed and online processing modes
+//--
+*/
+
+#include "algorithms/gradient_boosted_trees/gbt_classification_training_types.h"
+#include "serialization_utils.h"
+#include "daal_strings.h"
+#include "gbt_classification_train_kernel.h"
+
+using namespace daal::data_management;
+using namespace daal::services;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace gbt
+{
+namespace classification
+{
+namespace training
+{
+namespace interface1
+{
+__DAAL_REGISTER_SERIALIZATION_CLASS(DistributedPartialResult, SERIALIZATION_GBT_CLASSIFICATION_TRAINING_DISTRIBUTED_PARTIAL_RESULT_ID);
+__DAAL_REGISTER_SERIALIZATION_CLASS(DistributedPartialResultStep1, SERIALIZATION_GBT_CLASSIFICATION_TRAINING_DISTRIBUTED_PARTIAL_RESULT_STEP1_ID);
+__DAAL_REGISTER_SERIALIZATION_CLASS(OnlinePartialResult, SERIALIZATION_GBT_CLASSIFICATION_TRAINING_ONLINE_PARTIAL_RESULT_ID);
+
+static double getStatusValue(const NumericTablePtr &status, size_t iColumn)
+{
+    BlockDescriptor<double> block;
+    status->getBlockOfRows(0, 1, readOnly, block);
+    const double value = block.getBlockPtr()[iColumn];
+    status->releaseBlockOfRows(block);
+    return value;
+}
+
+DistributedPartialResult::DistributedPartialResult() : daal::algorithms::PartialResult(lastDistributedPartialResultModelId + 1) {}
+
+NumericTablePtr DistributedPartialResult::get(DistributedPartialResultId id) const
+{
+    return NumericTable::cast(Argument::get(id));
+}
+
+void DistributedPartialResult::set(DistributedPartialResultId id, const NumericTablePtr &value)
+{
+    Argument::set(id, value);
+}
+
+gbt::classification::ModelPtr DistributedPartialResult::get(DistributedPartialResultModelId id) const
+{
+    return gbt::classification::Model::cast(Argument::get(id));
+}
+
+void DistributedPartialResult::set(DistributedPartialResultModelId id, const gbt::classification::ModelPtr &value)
+{
+    Argument::set(id, value);
+}
+
+bool DistributedPartialResult::isCompleted() const
+{
+    NumericTablePtr status = get(trainingStatus);
+    if(!status || status->getNumberOfColumns() != internal::nStatusColumns)
+        return false;
+    return getStatusValue(status, internal::statusCompleted) != 0;
+}
+
+size_t DistributedPartialResult::getNumberOfFeatures() const
+{
+    NumericTablePtr borders = get(binBorders);
+    return borders ? borders->getNumberOfRows() : 0;
+}
+
+Status DistributedPartialResult::check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const
+{
+    Status s;
+    DAAL_CHECK_STATUS(s, check(par, method));
+
+    const DistributedStep2MasterInput *masterInput = static_cast<const DistributedStep2MasterInput *>(input);
+    DataCollectionPtr collection = masterInput->get(partialResults);
+    const size_t nFeatures = getNumberOfFeatures();
+    for(size_t i = 0; i < collection->size(); i++)
+    {
+        const DistributedPartialResultStep1 *local = static_cast<const DistributedPartialResultStep1 *>((*collection)[i].get());
+        NumericTablePtr localHistograms = local->get(histograms);
+        if(!localHistograms)
+            continue;
+        DAAL_CHECK_EX(!isCompleted(), ErrorIncorrectInputNumericTable, ArgumentName, histogramsStr());
+        const size_t nOpenNodes = (size_t)getStatusValue(get(trainingStatus), internal::statusNumberOfOpenNodes);
+        DAAL_CHECK_EX(nOpenNodes && localHistograms->getNumberOfRows() == nOpenNodes * nFeatures,
+            ErrorIncorrectNumberOfRows, ArgumentName, histogramsStr());
+    }
+    return s;
+}
+
+Status DistributedPartialResult::check(const daal::algorithms::Parameter *par, int method) const
+{
+    const Parameter *parameter = static_cast<const Parameter *>(par);
+    Status s;
+    NumericTablePtr borders = get(binBorders);
+    DAAL_CHECK_EX(borders, ErrorNullPartialResult, ArgumentName, binBordersStr());
+    const size_t nFeatures = borders->getNumberOfRows();
+    const int unexpectedLayouts = (int)packed_mask;
+    DAAL_CHECK_STATUS(s, checkNumericTable(borders.get(), binBordersStr(), unexpectedLayouts, 0, parameter->maxBins - 1));
+    DAAL_CHECK_STATUS(s, checkNumericTable(get(treeNodes).get(), treeNodesStr(), unexpectedLayouts, 0, internal::nNodeColumns));
+    DAAL_CHECK_STATUS(s, checkNumericTable(get(trainingStatus).get(), trainingStatusStr(), unexpectedLayouts, 0,
+        internal::nStatusColumns, 1));
+    gbt::classification::ModelPtr m = get(partialModel);
+    DAAL_CHECK(m, ErrorNullModel);
+    DAAL_CHECK_EX(m->getNumberOfFeatures() == nFeatures, ErrorIncorrectNumberOfFeatures, ArgumentName, partialModelStr());
+    return s;
+}
+
+OnlinePartialResult::OnlinePartialResult() : DistributedPartialResult() {}
+
+Status OnlinePartialResult::check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const
+{
+    Status s;
+    DAAL_CHECK_STATUS(s, DistributedPartialResult::check(par, method));
+    const Parameter *parameter = static_cast<const Parameter *>(par);
+    /* Trees of the online processing mode approximate the log-odds of class 1, so only two classes are supported */
+    DAAL_CHECK_EX(parameter->nClasses == 2, ErrorIncorrectParameter, ParameterName, nClassesStr());
+    DAAL_CHECK_EX(parameter->maxBins >= 2, ErrorIncorrectParameter, ParameterName, maxBinsStr());
+    DAAL_CHECK_EX(parameter->minBinSize >= 1, ErrorIncorrectParameter, ParameterName, minBinSizeStr());
+
+    const classifier::training::Input *algInput = static_cast<const classifier::training::Input *>(input);
+    NumericTablePtr dataTable = algInput->get(classifier::training::data);
+    const size_t nFeatures = dataTable->getNumberOfColumns();
+    DAAL_CHECK_EX(getNumberOfFeatures() == nFeatures, ErrorIncorrectNumberOfFeatures, ArgumentName, dataStr());
+    for(size_t i = 0; i < nFeatures; i++)
+    {
+        /* Splits are found on the bins of ordered feature values */
+        DAAL_CHECK_EX(dataTable->getFeatureType(i) != data_feature_utils::DAAL_CATEGORICAL,
+            ErrorIncorrectTypeOfInputNumericTable, ArgumentName, dataStr());
+    }
+    return s;
+}
+
+DistributedStep1LocalInput::DistributedStep1LocalInput() : classifier::training::Input(lastDistributedStep1LocalInternalInputId + 1) {}
+
+DistributedPartialResultPtr DistributedStep1LocalInput::get(DistributedStep1LocalInputId id) const
+{
+    return staticPointerCast<DistributedPartialResult, SerializationIface>(Argument::get(id));
+}
+
+void DistributedStep1LocalInput::set(DistributedStep1LocalInputId id, const DistributedPartialResultPtr &value)
+{
+    Argument::set(id, value);
+}
+
+NumericTablePtr DistributedStep1LocalInput::get(DistributedStep1LocalInternalInputId id) const
+{
+    return NumericTable::cast(Argument::get(id));
+}
+
+void DistributedStep1LocalInput::set(DistributedStep1LocalInternalInputId id, const NumericTablePtr &value)
+{
+    Argument::set(id, value);
+}
+
+Status DistributedStep1LocalInput::check(const daal::algorithms::Parameter *par, int method) const
+{
+    Status s;
+    DAAL_CHECK_STATUS(s, classifier::training::Input::check(par, method));
+    const Parameter *parameter = static_cast<const Parameter *>(par);
+    /* Trees of the distributed processing mode approximate the log-odds of class 1, so only two classes are supported */
+    DAAL_CHECK_EX(parameter->nClasses == 2, ErrorIncorrectParameter, ParameterName, nClassesStr());
+    DAAL_CHECK_EX(parameter->maxBins >= 2, ErrorIncorrectParameter, ParameterName, maxBinsStr());
+    DAAL_CHECK_EX(parameter->minBinSize >= 1, ErrorIncorrectParameter, ParameterName, minBinSizeStr());
+
+    NumericTablePtr dataTable = get(classifier::training::data);
+    const size_t nFeatures = dataTable->getNumberOfColumns();
+    for(size_t i = 0; i < nFeatures; i++)
+    {
+        /* Splits are found on the bins of ordered feature values */
+        DAAL_CHECK_EX(dataTable->getFeatureType(i) != data_feature_utils::DAAL_CATEGORICAL,
+            ErrorIncorrectTypeOfInputNumericTable, ArgumentName, dataStr());
+    }
+
+    DistributedPartialResultPtr state = get(trainingState);
+    if(state)
+    {
+        DAAL_CHECK_STATUS(s, state->check(par, method));
+        DAAL_CHECK_EX(state->getNumberOfFeatures() == nFeatures, ErrorIncorrectNumberOfFeatures, ArgumentName, trainingStateStr());
+        DAAL_CHECK_EX(!state->isCompleted(), ErrorIncorrectInputNumericTable, ArgumentName, trainingStateStr());
+    }
+
+    NumericTablePtr internalTable = get(internalInput);
+    if(internalTable)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(internalTable.get(), internalInputStr(), 0, 0, 1, dataTable->getNumberOfRows()));
+    }
+    return s;
+}
+
+DistributedPartialResultStep1::DistributedPartialResultStep1() : daal::algorithms::PartialResult(lastDistributedPartialResultStep1Id + 1) {}
+
+NumericTablePtr DistributedPartialResultStep1::get(DistributedPartialResultStep1Id id) const
+{
+    return NumericTable::cast(Argument::get(id));
+}
+
+void DistributedPartialResultStep1::set(DistributedPartialResultStep1Id id, const NumericTablePtr &value)
+{
+    Argument::set(id, value);
+}
+
+Status DistributedPartialResultStep1::check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const
+{
+    const DistributedStep1LocalInput *localInput = static_cast<const DistributedStep1LocalInput *>(input);
+    const Parameter *parameter = static_cast<const Parameter *>(par);
+    const size_t nFeatures = localInput->get(classifier::training::data)->getNumberOfColumns();
+    const int unexpectedLayouts = (int)packed_mask;
+
+    Status s;
+    DistributedPartialResultPtr state = localInput->get(trainingState);
+    if(!state)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(binCandidates).get(), binCandidatesStr(), unexpectedLayouts, 0,
+            parameter->maxBins, nFeatures));
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(localStatistics).get(), localStatisticsStr(), unexpectedLayouts, 0,
+            internal::nLocalStatisticsColumns, 1));
+    }
+    else
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(histograms).get(), histogramsStr(), unexpectedLayouts, 0,
+            internal::nHistogramComponents * parameter->maxBins));
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(internalResult).get(), internalResultStr(), unexpectedLayouts, 0,
+            1, localInput->get(classifier::training::data)->getNumberOfRows()));
+    }
+    return s;
+}
+
+DistributedStep2MasterInput::DistributedStep2MasterInput() : daal::algorithms::Input(lastDistributedStep2MasterInputId + 1)
+{
+    Argument::set(partialResults, DataCollectionPtr(new DataCollection()));
+}
+
+DataCollectionPtr DistributedStep2MasterInput::get(DistributedStep2MasterInputId id) const
+{
+    return staticPointerCast<DataCollection, SerializationIface>(Argument::get(id));
+}
+
+void DistributedStep2MasterInput::set(DistributedStep2MasterInputId id, const DataCollectionPtr &ptr)
+{
+    Argument::set(id, staticPointerCast<SerializationIface, DataCollection>(ptr));
+}
+
+void DistributedStep2MasterInput::add(DistributedStep2MasterInputId id, const DistributedPartialResultStep1Ptr &value)
+{
+    DataCollectionPtr collection = get(id);
+    collection->push_back(value);
+}
+
+size_t DistributedStep2MasterInput::getNumberOfFeatures() const
+{
+    DataCollectionPtr collection = get(partialResults);
+    for(size_t i = 0; collection && i < collection->size(); i++)
+    {
+        DistributedPartialResultStep1Ptr local = dynamicPointerCast<DistributedPartialResultStep1, SerializationIface>((*collection)[i]);
+        NumericTablePtr candidates = local ? local->get(binCandidates) : NumericTablePtr();
+        if(candidates)
+            return candidates->getNumberOfRows();
+    }
+    return 0;
+}
+
+Status DistributedStep2MasterInput::check(const daal::algorithms::Parameter *par, int method) const
+{
+    DataCollectionPtr collection = get(partialResults);
+    DAAL_CHECK(collection, ErrorNullInputDataCollection);
+    const size_t nBlocks = collection->size();
+    DAAL_CHECK(nBlocks > 0, ErrorIncorrectNumberOfInputNumericTables);
+
+    const Parameter *parameter = static_cast<const Parameter *>(par);
+    const int unexpectedLayouts = (int)packed_mask;
+    size_t nFeatures = 0;
+    size_t nHistogramRows = 0;
+    Status s;
+    for(size_t i = 0; i < nBlocks; i++)
+    {
+        DistributedPartialResultStep1Ptr local = dynamicPointerCast<DistributedPartialResultStep1, SerializationIface>((*collection)[i]);
+        DAAL_CHECK_EX(local, ErrorIncorrectElementInPartialResultCollection, ArgumentName, partialResultsStr());
+
+        /* All the local nodes must provide the results of the same round */
+        NumericTablePtr candidates = local->get(binCandidates);
+        if(candidates)
+        {
+            DAAL_CHECK_EX(i == 0 || nFeatures, ErrorIncorrectElementInPartialResultCollection, ArgumentName, partialResultsStr());
+            if(!i)
+                nFeatures = candidates->getNumberOfRows();
+            DAAL_CHECK_STATUS(s, checkNumericTable(candidates.get(), binCandidatesStr(), unexpectedLayouts, 0,
+                parameter->maxBins, nFeatures));
+            DAAL_CHECK_STATUS(s, checkNumericTable(local->get(localStatistics).get(), localStatisticsStr(), unexpectedLayouts, 0,
+                internal::nLocalStatisticsColumns, 1));
+        }
+        else
+        {
+            DAAL_CHECK_EX(!nFeatures, ErrorIncorrectElementInPartialResultCollection, ArgumentName, partialResultsStr());
+            NumericTablePtr localHistograms = local->get(histograms);
+            if(!i)
+            {
+                DAAL_CHECK_EX(localHistograms, ErrorNullNumericTable, ArgumentName, histogramsStr());
+                nHistogramRows = localHistograms->getNumberOfRows();
+            }
+            DAAL_CHECK_STATUS(s, checkNumericTable(localHistograms.get(), histogramsStr(), unexpectedLayouts, 0,
+                internal::nHistogramComponents * parameter->maxBins, nHistogramRows));
+        }
+    }
+    return s;
+}
+
+} // namespace interface1
+} // namespace training
+} // namespace classification
+} // namespace gbt
+} // namespace algorithms
+} // namespace daal
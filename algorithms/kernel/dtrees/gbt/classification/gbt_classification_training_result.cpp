@@ -85,6 +85,16 @@ services::Status Result::check(const daal::algorithms::Input *input, const daal:
     return algorithms::classifier::training::Result::check(input, par, method);
 }
 
+services::Status Result::check(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *par, int method) const
+{
+    const DistributedPartialResult *state = static_cast<const DistributedPartialResult *>(partialResult);
+    gbt::classification::ModelPtr m = get(classifier::training::model);
+    DAAL_CHECK(m, services::ErrorNullModel);
+    DAAL_CHECK_EX(m->getNumberOfFeatures() == state->getNumberOfFeatures(), services::ErrorIncorrectNumberOfFeatures,
+        services::ArgumentName, modelStr());
+    return services::Status();
+}
+
 Status Parameter::check() const
 {
     return gbt::training::checkImpl(*this);
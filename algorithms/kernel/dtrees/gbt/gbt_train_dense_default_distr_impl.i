@@ -0,0 +1,738 @@
+/* file: gbt_train_dense_default_distr_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of auxiliary functions for gradient boosted trees training (defaultDense) method
+//  in the distributed and online processing modes, common for regression and classification.
+//  Trees are built level by level: histograms of gradients are computed over the bins of feature values
+//  for the open nodes of the tree, the merged histograms give the best splits of the nodes
+//--
+*/
+
+#ifndef __GBT_TRAIN_DENSE_DEFAULT_DISTR_IMPL_I__
+#define __GBT_TRAIN_DENSE_DEFAULT_DISTR_IMPL_I__
+
+#include "gbt_train_distr_types.h"
+#include "gbt_model_impl.h"
+#include "gbt_train_aux.i"
+#include "dtrees_regression_predict_dense_default_impl.i"
+#include "service_numeric_table.h"
+#include "service_error_handling.h"
+#include "service_memory.h"
+#include "service_sort.h"
+#include "service_data_utils.h"
+#include "threading.h"
+
+using namespace daal::internal;
+using namespace daal::services::internal;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace gbt
+{
+namespace training
+{
+namespace internal
+{
+
+/* Returns the index of the bin of the value, i.e. the number of bin borders less than the value */
+template <typename algorithmFPType, CpuType cpu>
+inline size_t findBin(const algorithmFPType *borders, size_t nBorders, algorithmFPType value)
+{
+    size_t first = 0;
+    size_t last = nBorders;
+    while(first < last)
+    {
+        const size_t mid = (first + last) / 2;
+        if(borders[mid] < value)
+            first = mid + 1;
+        else
+            last = mid;
+    }
+    return first;
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Sums of the responses of a range of trees of the model
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu>
+class TreesResponsesTask : public dtrees::regression::prediction::internal::PredictRegressionTaskBase<algorithmFPType, cpu>
+{
+public:
+    typedef dtrees::regression::prediction::internal::PredictRegressionTaskBase<algorithmFPType, cpu> super;
+    TreesResponsesTask(const NumericTable *x, NumericTable *y) : super(x, y) {}
+
+    services::Status run(const gbt::internal::ModelImpl& m, size_t iFirstTree, size_t nTrees, services::HostAppIface* pHostApp)
+    {
+        DAAL_ASSERT(iFirstTree + nTrees <= m.size());
+        DAAL_CHECK_MALLOC(this->_featHelper.init(*this->_data));
+        this->_aTree.reset(nTrees);
+        DAAL_CHECK_MALLOC(this->_aTree.get());
+        for(size_t i = 0; i < nTrees; ++i)
+            this->_aTree[i] = m.at(iFirstTree + i);
+        return super::run(pHostApp, algorithmFPType(1));
+    }
+};
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Quantiles of the feature values and statistics of the responses of a data block
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu>
+services::Status computeBinCandidates(const NumericTable *x, const NumericTable *y, NumericTable *candidatesTable,
+    NumericTable *statisticsTable, const Parameter& par)
+{
+    const size_t nRows = x->getNumberOfRows();
+    const size_t nFeatures = x->getNumberOfColumns();
+    const size_t nBins = par.maxBins;
+
+    {
+        ReadRows<algorithmFPType, cpu> yBD(const_cast<NumericTable *>(y), 0, nRows);
+        DAAL_CHECK_BLOCK_STATUS(yBD);
+        const algorithmFPType *py = yBD.get();
+        algorithmFPType sum = 0;
+        for(size_t i = 0; i < nRows; ++i)
+            sum += py[i];
+
+        WriteOnlyRows<algorithmFPType, cpu> statBD(statisticsTable, 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(statBD);
+        statBD.get()[statNumberOfObservations] = algorithmFPType(nRows);
+        statBD.get()[statSumOfResponses] = sum;
+    }
+
+    WriteOnlyRows<algorithmFPType, cpu> candBD(candidatesTable, 0, nFeatures);
+    DAAL_CHECK_BLOCK_STATUS(candBD);
+    algorithmFPType *candidates = candBD.get();
+
+    SafeStatus safeStat;
+    daal::threader_for(nFeatures, nFeatures, [&](size_t iFeature)
+    {
+        ReadColumns<algorithmFPType, cpu> colBD(const_cast<NumericTable *>(x), iFeature, 0, nRows);
+        DAAL_CHECK_BLOCK_STATUS_THR(colBD);
+        TArray<algorithmFPType, cpu> aValues(nRows);
+        algorithmFPType *values = aValues.get();
+        DAAL_CHECK_THR(values, services::ErrorMemoryAllocationFailed);
+
+        const algorithmFPType *col = colBD.get();
+        for(size_t i = 0; i < nRows; ++i)
+            values[i] = col[i];
+        daal::algorithms::internal::qSort<algorithmFPType, cpu>(nRows, values);
+
+        /* The i-th candidate is the (i + 1)/nBins quantile of the local feature values */
+        algorithmFPType *featureCandidates = candidates + iFeature * nBins;
+        for(size_t i = 0; i < nBins; ++i)
+        {
+            const size_t idx = ((i + 1) * nRows) / nBins;
+            featureCandidates[i] = values[idx ? idx - 1 : 0];
+        }
+    });
+    return safeStat.detach();
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Sums of the responses of the trees built so far for the rows of a data block.
+// The sums computed in the previous round are updated with the newest tree when a new tree is started,
+// they are computed with all the trees of the model if there are no previous sums
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu>
+services::Status computeTreesResponses(HostAppIface* pHostApp, const NumericTable *x, const gbt::internal::ModelImpl& model,
+    const NumericTable *statusTable, const NumericTable *prevTable, NumericTable *fTable)
+{
+    const size_t nRows = x->getNumberOfRows();
+    const size_t nTrees = model.size();
+    size_t iFirstTree = 0;
+    {
+        WriteRows<algorithmFPType, cpu> fBD(fTable, 0, nRows);
+        DAAL_CHECK_BLOCK_STATUS(fBD);
+        if(prevTable)
+        {
+            ReadRows<algorithmFPType, cpu> statusBD(const_cast<NumericTable *>(statusTable), 0, 1);
+            DAAL_CHECK_BLOCK_STATUS(statusBD);
+            const bool isNewTree = (size_t(statusBD.get()[statusLevel]) == 0);
+            iFirstTree = (nTrees && isNewTree) ? nTrees - 1 : nTrees;
+            if(prevTable != fTable)
+            {
+                ReadRows<algorithmFPType, cpu> prevBD(const_cast<NumericTable *>(prevTable), 0, nRows);
+                DAAL_CHECK_BLOCK_STATUS(prevBD);
+                daal::services::daal_memcpy_s(fBD.get(), nRows * sizeof(algorithmFPType), prevBD.get(), nRows * sizeof(algorithmFPType));
+            }
+        }
+        else
+        {
+            service_memset<algorithmFPType, cpu>(fBD.get(), 0, nRows);
+        }
+    }
+    if(iFirstTree == nTrees)
+        return services::Status();
+
+    services::Status s;
+    TArray<algorithmFPType, cpu> aTreesF(nRows);
+    algorithmFPType *treesF = aTreesF.get();
+    DAAL_CHECK_MALLOC(treesF);
+    NumericTablePtr treesFTable = HomogenNumericTableCPU<algorithmFPType, cpu>::create(treesF, 1, nRows, &s);
+    DAAL_CHECK_STATUS_VAR(s);
+    TreesResponsesTask<algorithmFPType, cpu> task(x, treesFTable.get());
+    DAAL_CHECK_STATUS(s, task.run(model, iFirstTree, nTrees - iFirstTree, pHostApp));
+
+    WriteRows<algorithmFPType, cpu> fBD(fTable, 0, nRows);
+    DAAL_CHECK_BLOCK_STATUS(fBD);
+    algorithmFPType *f = fBD.get();
+    PRAGMA_IVDEP
+    PRAGMA_VECTOR_ALWAYS
+    for(size_t i = 0; i < nRows; ++i)
+        f[i] += treesF[i];
+    return s;
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Histograms of gradients of the loss function for the open nodes of the tree being built
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu>
+services::Status computeHistograms(const NumericTable *x, const NumericTable *y, const NumericTable *fTable, size_t nTrees,
+    const NumericTable *statusTable, const NumericTable *nodesTable, const NumericTable *bordersTable,
+    LossFunction<algorithmFPType, cpu>& loss, NumericTable *histTable, const Parameter& par)
+{
+    const size_t nRows = x->getNumberOfRows();
+    const size_t nFeatures = x->getNumberOfColumns();
+    const size_t nBins = par.maxBins;
+    const size_t nBorders = nBins - 1;
+    const size_t histSize = nHistogramComponents * nBins;
+
+    ReadRows<algorithmFPType, cpu> statusBD(const_cast<NumericTable *>(statusTable), 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(statusBD);
+    const size_t nNodes = size_t(statusBD.get()[statusNumberOfNodes]);
+    const size_t nOpenNodes = size_t(statusBD.get()[statusNumberOfOpenNodes]);
+    const algorithmFPType initialF = statusBD.get()[statusInitialResponse];
+
+    ReadRows<algorithmFPType, cpu> nodesBD(const_cast<NumericTable *>(nodesTable), 0, nNodes);
+    DAAL_CHECK_BLOCK_STATUS(nodesBD);
+    const algorithmFPType *nodes = nodesBD.get();
+
+    ReadRows<algorithmFPType, cpu> bordersBD(const_cast<NumericTable *>(bordersTable), 0, nFeatures);
+    DAAL_CHECK_BLOCK_STATUS(bordersBD);
+    const algorithmFPType *borders = bordersBD.get();
+
+    /* Index of each node among the open nodes, -1 for the other nodes */
+    TArray<int, cpu> aOpenIndex(nNodes);
+    int *openIndex = aOpenIndex.get();
+    DAAL_CHECK_MALLOC(openIndex);
+    for(size_t i = 0, iOpen = 0; i < nNodes; ++i)
+        openIndex[i] = (int(nodes[i * nNodeColumns + nodeState]) == openNode) ? int(iOpen++) : -1;
+
+    /* Gradients and hessians of the loss function at the current predictions.
+       The initial response is a part of the first tree, so it is added only while there are no trees */
+    TArray<algorithmFPType, cpu> aGH(2 * nRows);
+    algorithmFPType *gh = aGH.get();
+    DAAL_CHECK_MALLOC(gh);
+    {
+        TArray<algorithmFPType, cpu> aF(nRows);
+        algorithmFPType *f = aF.get();
+        DAAL_CHECK_MALLOC(f);
+        ReadRows<algorithmFPType, cpu> fBD(const_cast<NumericTable *>(fTable), 0, nRows);
+        DAAL_CHECK_BLOCK_STATUS(fBD);
+        const algorithmFPType *treesF = fBD.get();
+        const algorithmFPType f0 = nTrees ? algorithmFPType(0) : initialF;
+        PRAGMA_IVDEP
+        PRAGMA_VECTOR_ALWAYS
+        for(size_t i = 0; i < nRows; ++i)
+            f[i] = treesF[i] + f0;
+
+        ReadRows<algorithmFPType, cpu> yBD(const_cast<NumericTable *>(y), 0, nRows);
+        DAAL_CHECK_BLOCK_STATUS(yBD);
+        loss.getGradients(nRows, yBD.get(), f, nullptr, gh);
+    }
+
+    /* Open node of each observation, -1 if the observation is in a leaf */
+    TArray<int, cpu> aRowNode(nRows);
+    int *rowNode = aRowNode.get();
+    DAAL_CHECK_MALLOC(rowNode);
+    const size_t nRowsInBlock = 256;
+    const size_t nBlocks = nRows / nRowsInBlock + !!(nRows % nRowsInBlock);
+    SafeStatus safeStat;
+    daal::threader_for(nBlocks, nBlocks, [&](size_t iBlock)
+    {
+        const size_t iStartRow = iBlock * nRowsInBlock;
+        const size_t nRowsToProcess = (iBlock == nBlocks - 1) ? nRows - iStartRow : nRowsInBlock;
+        ReadRows<algorithmFPType, cpu> xBD(const_cast<NumericTable *>(x), iStartRow, nRowsToProcess);
+        DAAL_CHECK_BLOCK_STATUS_THR(xBD);
+        for(size_t i = 0; i < nRowsToProcess; ++i)
+        {
+            const algorithmFPType *row = xBD.get() + i * nFeatures;
+            size_t iNode = 0;
+            while(int(nodes[iNode * nNodeColumns + nodeState]) == splitNode)
+            {
+                const algorithmFPType *node = nodes + iNode * nNodeColumns;
+                iNode = size_t(row[size_t(node[nodeFeatureIndex])] <= node[nodeFeatureValue] ? node[nodeLeftChild] : node[nodeRightChild]);
+            }
+            rowNode[iStartRow + i] = openIndex[iNode];
+        }
+    });
+    DAAL_CHECK_SAFE_STATUS();
+
+    WriteOnlyRows<algorithmFPType, cpu> histBD(histTable, 0, nOpenNodes * nFeatures);
+    DAAL_CHECK_BLOCK_STATUS(histBD);
+    algorithmFPType *hist = histBD.get();
+    service_memset<algorithmFPType, cpu>(hist, 0, nOpenNodes * nFeatures * histSize);
+
+    /* Each feature updates its own rows of the histograms table */
+    daal::threader_for(nFeatures, nFeatures, [&](size_t iFeature)
+    {
+        ReadColumns<algorithmFPType, cpu> colBD(const_cast<NumericTable *>(x), iFeature, 0, nRows);
+        DAAL_CHECK_BLOCK_STATUS_THR(colBD);
+        const algorithmFPType *col = colBD.get();
+        const algorithmFPType *featureBorders = borders + iFeature * nBorders;
+        for(size_t i = 0; i < nRows; ++i)
+        {
+            if(rowNode[i] < 0)
+                continue;
+            const size_t iBin = findBin<algorithmFPType, cpu>(featureBorders, nBorders, col[i]);
+            algorithmFPType *bin = hist + (size_t(rowNode[i]) * nFeatures + iFeature) * histSize + iBin * nHistogramComponents;
+            bin[0] += gh[2 * i];
+            bin[1] += gh[2 * i + 1];
+            bin[2] += algorithmFPType(1);
+        }
+    });
+    return safeStat.detach();
+}
+
+template <typename algorithmFPType, CpuType cpu>
+services::Status resetTree(algorithmFPType *nodes, algorithmFPType *status)
+{
+    service_memset<algorithmFPType, cpu>(nodes, 0, nNodeColumns);
+    nodes[nodeState] = algorithmFPType(openNode);
+    status[statusLevel] = 0;
+    status[statusNumberOfNodes] = 1;
+    status[statusNumberOfOpenNodes] = 1;
+    return services::Status();
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Bin borders merged from the quantiles of the data blocks and the initial response
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu, typename InitialResponseFunc>
+services::Status initializeState(size_t nPartials, const NumericTable *const *candidatesTables, const NumericTable *const *statisticsTables,
+    NumericTable *bordersTable, NumericTable *nodesTable, NumericTable *statusTable, gbt::internal::ModelImpl& model,
+    const Parameter& par, const InitialResponseFunc& initialResponse)
+{
+    const size_t nFeatures = candidatesTables[0]->getNumberOfRows();
+    const size_t nBins = par.maxBins;
+    const size_t nBorders = nBins - 1;
+    const algorithmFPType maxValue = daal::data_feature_utils::internal::MaxVal<algorithmFPType>::get();
+
+    TArray<algorithmFPType, cpu> aWeight(nPartials);
+    algorithmFPType *weight = aWeight.get();
+    DAAL_CHECK_MALLOC(weight);
+    algorithmFPType nTotal = 0;
+    algorithmFPType sumY = 0;
+    for(size_t i = 0; i < nPartials; ++i)
+    {
+        ReadRows<algorithmFPType, cpu> statBD(const_cast<NumericTable *>(statisticsTables[i]), 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(statBD);
+        nTotal += statBD.get()[statNumberOfObservations];
+        sumY += statBD.get()[statSumOfResponses];
+        /* Each candidate represents the same number of local observations */
+        weight[i] = statBD.get()[statNumberOfObservations] / algorithmFPType(nBins);
+    }
+    DAAL_CHECK(nTotal > 0, services::ErrorIncorrectNumberOfObservations);
+
+    WriteOnlyRows<algorithmFPType, cpu> bordersBD(bordersTable, 0, nFeatures);
+    DAAL_CHECK_BLOCK_STATUS(bordersBD);
+    algorithmFPType *borders = bordersBD.get();
+
+    const algorithmFPType binWeight = nTotal / algorithmFPType(nBins);
+    const algorithmFPType minBinWeight = binWeight > algorithmFPType(par.minBinSize) ? binWeight : algorithmFPType(par.minBinSize);
+    const size_t nCandidates = nPartials * nBins;
+
+    SafeStatus safeStat;
+    daal::threader_for(nFeatures, nFeatures, [&](size_t iFeature)
+    {
+        TArray<algorithmFPType, cpu> aValues(nCandidates);
+        TArray<algorithmFPType, cpu> aWeights(nCandidates);
+        algorithmFPType *values = aValues.get();
+        algorithmFPType *weights = aWeights.get();
+        DAAL_CHECK_THR(values && weights, services::ErrorMemoryAllocationFailed);
+        for(size_t i = 0; i < nPartials; ++i)
+        {
+            ReadRows<algorithmFPType, cpu> candBD(const_cast<NumericTable *>(candidatesTables[i]), iFeature, 1);
+            DAAL_CHECK_BLOCK_STATUS_THR(candBD);
+            for(size_t j = 0; j < nBins; ++j)
+            {
+                values[i * nBins + j] = candBD.get()[j];
+                weights[i * nBins + j] = weight[i];
+            }
+        }
+        daal::algorithms::internal::qSort<algorithmFPType, algorithmFPType, cpu>(nCandidates, values, weights);
+
+        /* Weighted quantiles of the merged candidates, each bin holds at least minBinSize observations */
+        algorithmFPType *featureBorders = borders + iFeature * nBorders;
+        const algorithmFPType lastValue = values[nCandidates - 1];
+        algorithmFPType accWeight = 0;
+        size_t nFeatureBorders = 0;
+        for(size_t i = 0; i < nCandidates && nFeatureBorders < nBorders; ++i)
+        {
+            accWeight += weights[i];
+            if(accWeight < minBinWeight || !(values[i] < lastValue))
+                continue;
+            if(nFeatureBorders && !(featureBorders[nFeatureBorders - 1] < values[i]))
+                continue;
+            featureBorders[nFeatureBorders++] = values[i];
+            accWeight = 0;
+        }
+        for(; nFeatureBorders < nBorders; ++nFeatureBorders)
+            featureBorders[nFeatureBorders] = maxValue;
+    });
+    DAAL_CHECK_SAFE_STATUS();
+
+    model.clear();
+
+    WriteRows<algorithmFPType, cpu> nodesBD(nodesTable, 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(nodesBD);
+    WriteOnlyRows<algorithmFPType, cpu> statusBD(statusTable, 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(statusBD);
+    algorithmFPType *status = statusBD.get();
+    service_memset<algorithmFPType, cpu>(status, 0, nStatusColumns);
+    status[statusInitialResponse] = initialResponse(sumY, nTotal);
+    return resetTree<algorithmFPType, cpu>(nodesBD.get(), status);
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Splits of the open nodes of the tree being built
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu>
+struct BestSplit
+{
+    algorithmFPType gain = 0;
+    size_t iFeature = 0;
+    size_t iBin = 0;
+    bool found = false;
+};
+
+template <typename algorithmFPType, CpuType cpu>
+BestSplit<algorithmFPType, cpu> findBestSplit(const algorithmFPType *nodeHist, const algorithmFPType *borders, size_t nFeatures,
+    size_t nBins, algorithmFPType g, algorithmFPType h, algorithmFPType n, const Parameter& par)
+{
+    const size_t nBorders = nBins - 1;
+    const size_t histSize = nHistogramComponents * nBins;
+    const algorithmFPType maxValue = daal::data_feature_utils::internal::MaxVal<algorithmFPType>::get();
+    const algorithmFPType lambda = algorithmFPType(par.lambda);
+    const algorithmFPType minObs = algorithmFPType(par.minObservationsInLeafNode);
+    const algorithmFPType parentScore = g * g / (h + lambda);
+
+    BestSplit<algorithmFPType, cpu> best;
+    for(size_t iFeature = 0; iFeature < nFeatures; ++iFeature)
+    {
+        const algorithmFPType *hist = nodeHist + iFeature * histSize;
+        const algorithmFPType *featureBorders = borders + iFeature * nBorders;
+        algorithmFPType gLeft = 0, hLeft = 0, nLeft = 0;
+        for(size_t iBin = 0; iBin < nBorders && featureBorders[iBin] < maxValue; ++iBin)
+        {
+            gLeft += hist[iBin * nHistogramComponents];
+            hLeft += hist[iBin * nHistogramComponents + 1];
+            nLeft += hist[iBin * nHistogramComponents + 2];
+            if(nLeft < minObs)
+                continue;
+            if(n - nLeft < minObs)
+                break;
+            const algorithmFPType gRight = g - gLeft;
+            const algorithmFPType hRight = h - hLeft;
+            const algorithmFPType gain = algorithmFPType(0.5) *
+                (gLeft * gLeft / (hLeft + lambda) + gRight * gRight / (hRight + lambda) - parentScore);
+            if(gain > algorithmFPType(par.minSplitLoss) && (!best.found || gain > best.gain))
+            {
+                best.gain = gain;
+                best.iFeature = iFeature;
+                best.iBin = iBin;
+                best.found = true;
+            }
+        }
+    }
+    return best;
+}
+
+template <typename algorithmFPType, CpuType cpu, typename ModelType>
+services::Status addTreeToModel(const algorithmFPType *nodes, size_t nNodes, ModelType& model)
+{
+    TArray<int, cpu> aFeatureIndex(nNodes);
+    TArray<double, cpu> aFeatureValue(nNodes);
+    TArray<int, cpu> aLeft(nNodes);
+    TArray<int, cpu> aRight(nNodes);
+    TArray<double, cpu> aResponse(nNodes);
+    DAAL_CHECK_MALLOC(aFeatureIndex.get() && aFeatureValue.get() && aLeft.get() && aRight.get() && aResponse.get());
+    for(size_t i = 0; i < nNodes; ++i)
+    {
+        const algorithmFPType *node = nodes + i * nNodeColumns;
+        const bool isSplit = (int(node[nodeState]) == splitNode);
+        aFeatureIndex[i] = isSplit ? int(node[nodeFeatureIndex]) : -1;
+        aFeatureValue[i] = isSplit ? double(node[nodeFeatureValue]) : 0;
+        aLeft[i] = isSplit ? int(node[nodeLeftChild]) : -1;
+        aRight[i] = isSplit ? int(node[nodeRightChild]) : -1;
+        aResponse[i] = isSplit ? 0 : double(node[nodeResponse]);
+    }
+    return model.importTree(nNodes, aFeatureIndex.get(), aFeatureValue.get(), aLeft.get(), aRight.get(), aResponse.get());
+}
+
+/* Splits the open nodes of the tree or turns them into leaves with the merged histograms.
+   The finished tree is added to the model, the training is completed when the model has maxIterations trees
+   or when a tree has no splits. The table of nodes is replaced when it cannot hold the new nodes */
+template <typename algorithmFPType, CpuType cpu, typename ModelType>
+services::Status buildTreeLevel(size_t nPartials, const NumericTable *const *histTables, size_t nFeatures, NumericTable *statusTable,
+    NumericTablePtr& nodesTable, const NumericTable *bordersTable, ModelType& model, size_t maxIterations, const Parameter& par)
+{
+    const size_t nBins = par.maxBins;
+    const size_t nBorders = nBins - 1;
+    const size_t histSize = nHistogramComponents * nBins;
+
+    WriteRows<algorithmFPType, cpu> statusBD(statusTable, 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(statusBD);
+    algorithmFPType *status = statusBD.get();
+    const size_t nNodes = size_t(status[statusNumberOfNodes]);
+    const size_t nOpenNodes = size_t(status[statusNumberOfOpenNodes]);
+    const size_t level = size_t(status[statusLevel]);
+    const bool isFirstTree = !model.size();
+
+    /* Merge the histograms computed on the data blocks */
+    const size_t nHistRows = nOpenNodes * nFeatures;
+    TArray<algorithmFPType, cpu> aHist(nHistRows * histSize);
+    algorithmFPType *hist = aHist.get();
+    DAAL_CHECK_MALLOC(hist);
+    service_memset<algorithmFPType, cpu>(hist, 0, nHistRows * histSize);
+    for(size_t i = 0; i < nPartials; ++i)
+    {
+        ReadRows<algorithmFPType, cpu> histBD(const_cast<NumericTable *>(histTables[i]), 0, nHistRows);
+        DAAL_CHECK_BLOCK_STATUS(histBD);
+        const algorithmFPType *localHist = histBD.get();
+        PRAGMA_IVDEP
+        PRAGMA_VECTOR_ALWAYS
+        for(size_t j = 0; j < nHistRows * histSize; ++j)
+            hist[j] += localHist[j];
+    }
+
+    ReadRows<algorithmFPType, cpu> bordersBD(const_cast<NumericTable *>(bordersTable), 0, nFeatures);
+    DAAL_CHECK_BLOCK_STATUS(bordersBD);
+    const algorithmFPType *borders = bordersBD.get();
+
+    /* Each open node gets two children at most, the table of nodes grows when it cannot hold them */
+    services::Status s;
+    const size_t capacity = nodesTable->getNumberOfRows();
+    if(nNodes + 2 * nOpenNodes > capacity)
+    {
+        const size_t newCapacity = (2 * capacity > nNodes + 2 * nOpenNodes) ? 2 * capacity : nNodes + 2 * nOpenNodes;
+        NumericTablePtr newTable = HomogenNumericTable<algorithmFPType>::create(nNodeColumns, newCapacity, NumericTable::doAllocate,
+            algorithmFPType(0), &s);
+        DAAL_CHECK_STATUS_VAR(s);
+        ReadRows<algorithmFPType, cpu> oldBD(nodesTable.get(), 0, nNodes);
+        DAAL_CHECK_BLOCK_STATUS(oldBD);
+        WriteOnlyRows<algorithmFPType, cpu> newBD(newTable.get(), 0, nNodes);
+        DAAL_CHECK_BLOCK_STATUS(newBD);
+        daal::services::daal_memcpy_s(newBD.get(), nNodes * nNodeColumns * sizeof(algorithmFPType),
+            oldBD.get(), nNodes * nNodeColumns * sizeof(algorithmFPType));
+        nodesTable = newTable;
+    }
+
+    WriteRows<algorithmFPType, cpu> nodesBD(nodesTable.get(), 0, nNodes + 2 * nOpenNodes);
+    DAAL_CHECK_BLOCK_STATUS(nodesBD);
+    algorithmFPType *nodes = nodesBD.get();
+    const algorithmFPType minObs = algorithmFPType(par.minObservationsInLeafNode);
+    const bool isMaxLevel = (par.maxTreeDepth > 0) && (level >= par.maxTreeDepth);
+
+    size_t nNewNodes = nNodes;
+    for(size_t iNode = 0, iOpen = 0; iNode < nNodes; ++iNode)
+    {
+        algorithmFPType *node = nodes + iNode * nNodeColumns;
+        if(int(node[nodeState]) != openNode)
+            continue;
+
+        const algorithmFPType *nodeHist = hist + iOpen * nFeatures * histSize;
+        ++iOpen;
+        algorithmFPType g = 0, h = 0, n = 0;
+        for(size_t iBin = 0; iBin < nBins; ++iBin)
+        {
+            g += nodeHist[iBin * nHistogramComponents];
+            h += nodeHist[iBin * nHistogramComponents + 1];
+            n += nodeHist[iBin * nHistogramComponents + 2];
+        }
+
+        BestSplit<algorithmFPType, cpu> split;
+        if(!isMaxLevel && !(n < 2 * minObs))
+            split = findBestSplit<algorithmFPType, cpu>(nodeHist, borders, nFeatures, nBins, g, h, n, par);
+
+        if(split.found)
+        {
+            node[nodeFeatureIndex] = algorithmFPType(split.iFeature);
+            node[nodeFeatureValue] = borders[split.iFeature * nBorders + split.iBin];
+            node[nodeLeftChild] = algorithmFPType(nNewNodes);
+            node[nodeRightChild] = algorithmFPType(nNewNodes + 1);
+            node[nodeState] = algorithmFPType(splitNode);
+            for(size_t iKid = 0; iKid < 2; ++iKid, ++nNewNodes)
+            {
+                algorithmFPType *kid = nodes + nNewNodes * nNodeColumns;
+                service_memset<algorithmFPType, cpu>(kid, 0, nNodeColumns);
+                kid[nodeState] = algorithmFPType(openNode);
+            }
+            continue;
+        }
+
+        /* Leaf response is the weight of the leaf scaled by shrinkage, the first tree also holds the initial response */
+        const algorithmFPType denom = h + algorithmFPType(par.lambda);
+        algorithmFPType response = (denom > 0) ? -g / denom * algorithmFPType(par.shrinkage) : algorithmFPType(0);
+        if(isFirstTree)
+            response += status[statusInitialResponse];
+        node[nodeResponse] = response;
+        node[nodeState] = algorithmFPType(leafNode);
+    }
+
+    const size_t nNewOpenNodes = nNewNodes - nNodes;
+    status[statusNumberOfNodes] = algorithmFPType(nNewNodes);
+    status[statusNumberOfOpenNodes] = algorithmFPType(nNewOpenNodes);
+    status[statusLevel] = algorithmFPType(level + 1);
+    if(nNewOpenNodes)
+        return s;
+
+    /* The tree is built. A tree without splits cannot improve the model, so the training stops after it */
+    if(nNewNodes > 1 || isFirstTree)
+    {
+        DAAL_CHECK_STATUS(s, (addTreeToModel<algorithmFPType, cpu, ModelType>(nodes, nNewNodes, model)));
+        status[statusIteration] += 1;
+    }
+    if(nNewNodes == 1 || size_t(status[statusIteration]) >= maxIterations)
+    {
+        status[statusCompleted] = 1;
+        return s;
+    }
+    return resetTree<algorithmFPType, cpu>(nodes, status);
+}
+
+//////////////////////////////////////////////////////////////////////////////////////////
+// Online processing mode: each data block adds maxIterations trees to the model,
+// the trees fit the loss function on the block starting from the responses of the trees built so far.
+// The bin borders and the initial response are computed on the first block
+//////////////////////////////////////////////////////////////////////////////////////////
+template <typename algorithmFPType, CpuType cpu, typename ModelType, typename InitialResponseFunc>
+services::Status trainOnline(HostAppIface* pHostApp, const NumericTable *x, const NumericTable *y, NumericTable *bordersTable,
+    NumericTablePtr& nodesTable, NumericTable *statusTable, ModelType& model, LossFunction<algorithmFPType, cpu>& loss,
+    const Parameter& par, const InitialResponseFunc& initialResponse)
+{
+    const size_t nRows = x->getNumberOfRows();
+    const size_t nFeatures = x->getNumberOfColumns();
+    services::Status s;
+
+    /* The state of the first block has no tree nodes, the state of the next blocks holds the last tree */
+    bool isFirstBlock = false;
+    {
+        WriteRows<algorithmFPType, cpu> statusBD(statusTable, 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(statusBD);
+        algorithmFPType *status = statusBD.get();
+        isFirstBlock = !size_t(status[statusNumberOfNodes]);
+        if(!isFirstBlock)
+        {
+            WriteRows<algorithmFPType, cpu> nodesBD(nodesTable.get(), 0, 1);
+            DAAL_CHECK_BLOCK_STATUS(nodesBD);
+            status[statusCompleted] = 0;
+            DAAL_CHECK_STATUS(s, (resetTree<algorithmFPType, cpu>(nodesBD.get(), status)));
+        }
+    }
+    if(isFirstBlock)
+    {
+        NumericTablePtr candidates = HomogenNumericTableCPU<algorithmFPType, cpu>::create(par.maxBins, nFeatures, &s);
+        DAAL_CHECK_STATUS_VAR(s);
+        NumericTablePtr statistics = HomogenNumericTableCPU<algorithmFPType, cpu>::create(nLocalStatisticsColumns, 1, &s);
+        DAAL_CHECK_STATUS_VAR(s);
+        DAAL_CHECK_STATUS(s, (computeBinCandidates<algorithmFPType, cpu>(x, y, candidates.get(), statistics.get(), par)));
+        const NumericTable *candidatesTable = candidates.get();
+        const NumericTable *statisticsTable = statistics.get();
+        DAAL_CHECK_STATUS(s, (initializeState<algorithmFPType, cpu>(1, &candidatesTable, &statisticsTable, bordersTable,
+            nodesTable.get(), statusTable, model, par, initialResponse)));
+    }
+
+    size_t maxIterations = 0;
+    {
+        ReadRows<algorithmFPType, cpu> statusBD(statusTable, 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(statusBD);
+        maxIterations = size_t(statusBD.get()[statusIteration]) + par.maxIterations;
+    }
+
+    /* Responses of the trees for the block are computed once with all the trees and updated with each new tree */
+    NumericTablePtr fTable = HomogenNumericTableCPU<algorithmFPType, cpu>::create(1, nRows, &s);
+    DAAL_CHECK_STATUS_VAR(s);
+    DAAL_CHECK_STATUS(s, (computeTreesResponses<algorithmFPType, cpu>(pHostApp, x, model, statusTable, nullptr, fTable.get())));
+
+    for(;;)
+    {
+        size_t nOpenNodes = 0;
+        {
+            ReadRows<algorithmFPType, cpu> statusBD(statusTable, 0, 1);
+            DAAL_CHECK_BLOCK_STATUS(statusBD);
+            if(statusBD.get()[statusCompleted] != 0)
+                break;
+            nOpenNodes = size_t(statusBD.get()[statusNumberOfOpenNodes]);
+        }
+
+        NumericTablePtr histTable = HomogenNumericTableCPU<algorithmFPType, cpu>::create(nHistogramComponents * par.maxBins,
+            nOpenNodes * nFeatures, &s);
+        DAAL_CHECK_STATUS_VAR(s);
+        DAAL_CHECK_STATUS(s, (computeHistograms<algorithmFPType, cpu>(x, y, fTable.get(), model.size(), statusTable, nodesTable.get(),
+            bordersTable, loss, histTable.get(), par)));
+
+        const NumericTable *hist = histTable.get();
+        DAAL_CHECK_STATUS(s, (buildTreeLevel<algorithmFPType, cpu, ModelType>(1, &hist, nFeatures, statusTable, nodesTable, bordersTable,
+            model, maxIterations, par)));
+
+        bool isNewTree = false;
+        {
+            ReadRows<algorithmFPType, cpu> statusBD(statusTable, 0, 1);
+            DAAL_CHECK_BLOCK_STATUS(statusBD);
+            isNewTree = (statusBD.get()[statusCompleted] == 0) && !size_t(statusBD.get()[statusLevel]);
+        }
+        if(isNewTree)
+            DAAL_CHECK_STATUS(s, (computeTreesResponses<algorithmFPType, cpu>(pHostApp, x, model, statusTable, fTable.get(), fTable.get())));
+    }
+    return s;
+}
+
+} /* namespace internal */
+} /* namespace training */
+} /* namespace gbt */
+} /* namespace algorithms */
+} /* namespace daal */
+
+#endif
@@ -0,0 +1,121 @@
+/* file: gbt_train_distr_types.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Internal definitions of the layout of the training state of gradient boosted trees
+//  in the distributed and online processing modes
+//--
+*/
+
+#ifndef __GBT_TRAIN_DISTR_TYPES_H__
+#define __GBT_TRAIN_DISTR_TYPES_H__
+
+#include "algorithms/gradient_boosted_trees/gbt_training_parameter.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace gbt
+{
+namespace training
+{
+namespace internal
+{
+
+/* Columns of the table of tree nodes in the training state */
+enum DistributedTreeNodeColumn
+{
+    nodeFeatureIndex,
+    nodeFeatureValue,
+    nodeLeftChild,
+    nodeRightChild,
+    nodeResponse,
+    nodeState,
+    nNodeColumns
+};
+
+/* States of the tree nodes */
+enum DistributedTreeNodeState
+{
+    leafNode  = 0,  /* Node with the final response */
+    openNode  = 1,  /* Node to be split or turned into a leaf in the next round */
+    splitNode = 2   /* Node with the split feature, split value and children */
+};
+
+/* Columns of the table of the training status */
+enum DistributedTrainingStatusColumn
+{
+    statusIteration,
+    statusLevel,
+    statusNumberOfNodes,
+    statusNumberOfOpenNodes,
+    statusCompleted,
+    statusInitialResponse,
+    nStatusColumns
+};
+
+/* Columns of the table of local statistics */
+enum DistributedLocalStatisticsColumn
+{
+    statNumberOfObservations,
+    statSumOfResponses,
+    nLocalStatisticsColumns
+};
+
+/* Sums of gradients, hessians and numbers of observations are stored one after another for each bin of a histogram */
+const size_t nHistogramComponents = 3;
+
+/* Initial number of rows of the table of tree nodes, the table grows when more nodes are needed */
+inline size_t initialTreeNodesCapacity(const gbt::training::Parameter& par)
+{
+    const size_t maxDepth = (par.maxTreeDepth > 0 && par.maxTreeDepth < 9) ? par.maxTreeDepth : 9;
+    return (size_t(2) << maxDepth) - 1;
+}
+
+} // namespace internal
+} // namespace training
+} // namespace gbt
+} // namespace algorithms
+} // namespace daal
+
+#endif
@@ -96,6 +96,18 @@ void ModelImpl::traverseBF(size_t iTree, algorithms::regression::TreeNodeVisitor
     ImplType::traverseBF(iTree, visitor);
 }
 
+services::Status ModelImpl::exportTree(size_t iTree, int *featureIndex, double *featureValue,
+    int *leftChild, int *rightChild, double *response) const
+{
+    return ImplType::exportTree(iTree, false, featureIndex, featureValue, leftChild, rightChild, response);
+}
+
+services::Status ModelImpl::importTree(size_t nNodes, const int *featureIndex, const double *featureValue,
+    const int *leftChild, const int *rightChild, const double *response)
+{
+    return ImplType::importTree(getNumberOfFeatures(), nNodes, false, featureIndex, featureValue, leftChild, rightChild, response);
+}
+
 services::Status ModelImpl::serializeImpl(data_management::InputDataArchive  * arch)
 {
     auto s = algorithms::regression::Model::serialImpl<data_management::InputDataArchive, false>(arch);
@@ -51,9 +51,12 @@
 #include "kernel.h"
 #include "gbt_regression_training_types.h"
 #include "gbt_regression_training_batch.h"
+#include "gbt_regression_training_distributed.h"
+#include "gbt_regression_training_online.h"
 #include "gbt_regression_train_kernel.h"
 #include "gbt_regression_model_impl.h"
 #include "service_algo_utils.h"
+#include "service_numeric_table.h"
 
 namespace daal
 {
@@ -120,6 +123,123 @@ services::Status BatchContainer<algorithmFPType, method, cpu>::setupCompute()
     return services::Status();
 }
 
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step1Local, algorithmFPType, method, cpu>::DistributedContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::RegressionTrainDistrStep1Kernel, algorithmFPType, method);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step1Local, algorithmFPType, method, cpu>::~DistributedContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step1Local, algorithmFPType, method, cpu>::compute()
+{
+    DistributedStep1LocalInput *input = static_cast<DistributedStep1LocalInput *>(_in);
+    DistributedPartialResultStep1 *pres = static_cast<DistributedPartialResultStep1 *>(_pres);
+
+    const NumericTable *x = input->get(data).get();
+    const NumericTable *y = input->get(dependentVariable).get();
+    const DistributedPartialResult *state = input->get(trainingState).get();
+    const NumericTable *internal = input->get(internalInput).get();
+
+    const Parameter *par = static_cast<Parameter *>(_par);
+    daal::services::Environment::env &env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::RegressionTrainDistrStep1Kernel,
+        __DAAL_KERNEL_ARGUMENTS(algorithmFPType, method), compute, daal::services::internal::hostApp(*input), x, y, state, internal, *pres, *par);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step1Local, algorithmFPType, method, cpu>::finalizeCompute()
+{
+    return services::Status();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::DistributedContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::RegressionTrainDistrStep2Kernel, algorithmFPType, method);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::~DistributedContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::compute()
+{
+    DistributedStep2MasterInput *input = static_cast<DistributedStep2MasterInput *>(_in);
+    DistributedPartialResult *pres = static_cast<DistributedPartialResult *>(_pres);
+    data_management::DataCollection *dcInput = input->get(partialResults).get();
+
+    const size_t nPartials = dcInput->size();
+    daal::internal::TArray<const DistributedPartialResultStep1 *, cpu> aPartials(nPartials);
+    const DistributedPartialResultStep1 **partials = aPartials.get();
+    DAAL_CHECK_MALLOC(partials);
+    for(size_t i = 0; i < nPartials; i++)
+        partials[i] = static_cast<const DistributedPartialResultStep1 *>((*dcInput)[i].get());
+
+    const Parameter *par = static_cast<Parameter *>(_par);
+    daal::services::Environment::env &env = *_env;
+
+    services::Status s = __DAAL_CALL_KERNEL_STATUS(env, internal::RegressionTrainDistrStep2Kernel,
+        __DAAL_KERNEL_ARGUMENTS(algorithmFPType, method), compute, daal::services::internal::hostApp(*input), nPartials, partials, *pres, *par);
+
+    dcInput->clear();
+    return s;
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::finalizeCompute()
+{
+    /* The result holds the model of the training state, see Result::allocate() */
+    return services::Status();
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+OnlineContainer<algorithmFPType, method, cpu>::OnlineContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::RegressionTrainOnlineKernel, algorithmFPType, method);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+OnlineContainer<algorithmFPType, method, cpu>::~OnlineContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+/**
+ *  \brief Choose appropriate kernel to add the trees trained on the data block to the model of the training state
+ */
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFPType, method, cpu>::compute()
+{
+    Input *input = static_cast<Input *>(_in);
+    OnlinePartialResult *pres = static_cast<OnlinePartialResult *>(_pres);
+
+    const NumericTable *x = input->get(data).get();
+    const NumericTable *y = input->get(dependentVariable).get();
+
+    const Parameter *par = static_cast<Parameter *>(_par);
+    daal::services::Environment::env &env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::RegressionTrainOnlineKernel,
+        __DAAL_KERNEL_ARGUMENTS(algorithmFPType, method), compute, daal::services::internal::hostApp(*input), x, y, *pres, *par);
+}
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFPType, method, cpu>::finalizeCompute()
+{
+    /* The result holds the model of the training state, see Result::allocate() */
+    return services::Status();
+}
+
 }
 }
 }
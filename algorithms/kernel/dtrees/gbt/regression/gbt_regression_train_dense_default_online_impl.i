@@ -0,0 +1,93 @@
+/* file: gbt_regression_train_dense_default_online_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of gradient boosted trees regression training (defaultDense) method
+//  in the online processing mode.
+//  Each data block adds trees to the model, the trees are built level by level
+//  with the histograms of gradients of the squared loss over the bins of feature values
+//--
+*/
+
+#ifndef __GBT_REGRESSION_TRAIN_DENSE_DEFAULT_ONLINE_IMPL_I__
+#define __GBT_REGRESSION_TRAIN_DENSE_DEFAULT_ONLINE_IMPL_I__
+
+#include "gbt_regression_train_dense_default_impl.i"
+#include "gbt_train_dense_default_distr_impl.i"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace gbt
+{
+namespace regression
+{
+namespace training
+{
+namespace internal
+{
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+services::Status RegressionTrainOnlineKernel<algorithmFPType, method, cpu>::compute(HostAppIface* pHostApp,
+    const NumericTable *x, const NumericTable *y, OnlinePartialResult& state, const Parameter& par)
+{
+    gbt::regression::internal::ModelImpl *model = static_cast<gbt::regression::internal::ModelImpl *>(state.get(partialModel).get());
+    NumericTablePtr nodesTable = state.get(treeNodes);
+    SquaredLoss<algorithmFPType, cpu> loss;
+
+    /* The initial response is the mean of the dependent variable of the first data block */
+    services::Status s = trainOnline<algorithmFPType, cpu, gbt::regression::internal::ModelImpl>(pHostApp, x, y,
+        state.get(binBorders).get(), nodesTable, state.get(trainingStatus).get(), *model, loss, par,
+        [](algorithmFPType sumY, algorithmFPType n) -> algorithmFPType { return sumY / n; });
+    state.set(treeNodes, nodesTable);
+    return s;
+}
+
+} /* namespace internal */
+} /* namespace training */
+} /* namespace regression */
+} /* namespace gbt */
+} /* namespace algorithms */
+} /* namespace daal */
+
+#endif
@@ -53,6 +53,7 @@
 #include "algorithm_base_common.h"
 #include "gbt_regression_training_types.h"
 #include "engine_batch_impl.h"
+#include "gbt_train_distr_types.h"
 
 using namespace daal::data_management;
 using namespace daal::services;
@@ -79,6 +80,33 @@ public:
         engines::internal::BatchBaseImpl& engine);
 };
 
+/* Layout of the training state of the distributed processing mode is common for regression and classification */
+using namespace daal::algorithms::gbt::training::internal;
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+class RegressionTrainDistrStep1Kernel : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(HostAppIface* pHostApp, const NumericTable *x, const NumericTable *y,
+        const DistributedPartialResult *state, const NumericTable *internalInput, DistributedPartialResultStep1& pres, const Parameter& par);
+};
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+class RegressionTrainDistrStep2Kernel : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(HostAppIface* pHostApp, size_t nPartials, const DistributedPartialResultStep1 *const *partials,
+        DistributedPartialResult& state, const Parameter& par);
+};
+
+template <typename algorithmFPType, Method method, CpuType cpu>
+class RegressionTrainOnlineKernel : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(HostAppIface* pHostApp, const NumericTable *x, const NumericTable *y, OnlinePartialResult& state,
+        const Parameter& par);
+};
+
 } // namespace internal
 }
 }
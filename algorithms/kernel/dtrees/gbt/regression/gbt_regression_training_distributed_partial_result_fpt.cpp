@@ -0,0 +1,141 @@
+/* file: gbt_regression_training_distributed_partial_result_fpt.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of gradient boosted trees regression training partial results
+//  in the distributed and online processing modes
+//--
+*/
+
+#include "algorithms/gradient_boosted_trees/gbt_regression_training_types.h"
+#include "data_management/data/homogen_numeric_table.h"
+#include "gbt_regression_train_kernel.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace gbt
+{
+namespace regression
+{
+namespace training
+{
+
+using namespace daal::data_management;
+
+template<typename algorithmFPType>
+DAAL_EXPORT services::Status DistributedPartialResultStep1::allocate(const daal::algorithms::Input *input,
+    const daal::algorithms::Parameter *parameter, const int method)
+{
+    const DistributedStep1LocalInput *localInput = static_cast<const DistributedStep1LocalInput *>(input);
+    const Parameter *par = static_cast<const Parameter *>(parameter);
+    const size_t nFeatures = localInput->get(data)->getNumberOfColumns();
+
+    services::Status s;
+    DistributedPartialResultPtr state = localInput->get(trainingState);
+    if(!state)
+    {
+        set(binCandidates, HomogenNumericTable<algorithmFPType>::create(par->maxBins, nFeatures, NumericTable::doAllocate, &s));
+        DAAL_CHECK_STATUS_VAR(s);
+        set(localStatistics, HomogenNumericTable<algorithmFPType>::create(internal::nLocalStatisticsColumns, 1, NumericTable::doAllocate, &s));
+        return s;
+    }
+
+    NumericTablePtr status = state->get(trainingStatus);
+    BlockDescriptor<algorithmFPType> block;
+    DAAL_CHECK_STATUS(s, status->getBlockOfRows(0, 1, readOnly, block));
+    const size_t nOpenNodes = (size_t)block.getBlockPtr()[internal::statusNumberOfOpenNodes];
+    DAAL_CHECK_STATUS(s, status->releaseBlockOfRows(block));
+
+    set(histograms, HomogenNumericTable<algorithmFPType>::create(internal::nHistogramComponents * par->maxBins, nOpenNodes * nFeatures,
+        NumericTable::doAllocate, &s));
+    DAAL_CHECK_STATUS_VAR(s);
+    set(internalResult, HomogenNumericTable<algorithmFPType>::create(1, localInput->get(data)->getNumberOfRows(), NumericTable::doAllocate, &s));
+    return s;
+}
+
+/* The training state is the same in the distributed and online processing modes */
+template<typename algorithmFPType>
+static services::Status allocateTrainingState(DistributedPartialResult& state, size_t nFeatures, const Parameter *par)
+{
+    services::Status s;
+    state.set(binBorders, HomogenNumericTable<algorithmFPType>::create(par->maxBins - 1, nFeatures, NumericTable::doAllocate, &s));
+    DAAL_CHECK_STATUS_VAR(s);
+    state.set(treeNodes, HomogenNumericTable<algorithmFPType>::create(internal::nNodeColumns, internal::initialTreeNodesCapacity(*par),
+        NumericTable::doAllocate, algorithmFPType(0), &s));
+    DAAL_CHECK_STATUS_VAR(s);
+    state.set(trainingStatus, HomogenNumericTable<algorithmFPType>::create(internal::nStatusColumns, 1, NumericTable::doAllocate, algorithmFPType(0), &s));
+    DAAL_CHECK_STATUS_VAR(s);
+    state.set(partialModel, gbt::regression::Model::create(nFeatures, &s));
+    return s;
+}
+
+template<typename algorithmFPType>
+DAAL_EXPORT services::Status DistributedPartialResult::allocate(const daal::algorithms::Input *input,
+    const daal::algorithms::Parameter *parameter, const int method)
+{
+    const DistributedStep2MasterInput *masterInput = static_cast<const DistributedStep2MasterInput *>(input);
+    return allocateTrainingState<algorithmFPType>(*this, masterInput->getNumberOfFeatures(), static_cast<const Parameter *>(parameter));
+}
+
+template<typename algorithmFPType>
+DAAL_EXPORT services::Status OnlinePartialResult::allocate(const daal::algorithms::Input *input,
+    const daal::algorithms::Parameter *parameter, const int method)
+{
+    const Input *algInput = static_cast<const Input *>(input);
+    const size_t nFeatures = algInput->get(data)->getNumberOfColumns();
+    return allocateTrainingState<algorithmFPType>(*this, nFeatures, static_cast<const Parameter *>(parameter));
+}
+
+template DAAL_EXPORT services::Status DistributedPartialResultStep1::allocate<DAAL_FPTYPE>(const daal::algorithms::Input *input,
+    const daal::algorithms::Parameter *parameter, const int method);
+template DAAL_EXPORT services::Status DistributedPartialResult::allocate<DAAL_FPTYPE>(const daal::algorithms::Input *input,
+    const daal::algorithms::Parameter *parameter, const int method);
+template DAAL_EXPORT services::Status OnlinePartialResult::allocate<DAAL_FPTYPE>(const daal::algorithms::Input *input,
+    const daal::algorithms::Parameter *parameter, const int method);
+
+} // namespace training
+} // namespace regression
+} // namespace gbt
+} // namespace algorithms
+} // namespace daal
@@ -71,7 +71,17 @@ DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::Input *inp
     return s;
 }
 
+template<typename algorithmFPType>
+DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::PartialResult *partialResult, const Parameter *parameter, const int method)
+{
+    const DistributedPartialResult *state = static_cast<const DistributedPartialResult *>(partialResult);
+    set(model, state->get(partialModel));
+    return services::Status();
+}
+
 template DAAL_EXPORT services::Status Result::allocate<DAAL_FPTYPE>(const daal::algorithms::Input *input, const Parameter *parameter, const int method);
+template DAAL_EXPORT services::Status Result::allocate<DAAL_FPTYPE>(const daal::algorithms::PartialResult *partialResult,
+    const Parameter *parameter, const int method);
 
 } // namespace training
 } // namespace regression
@@ -0,0 +1,256 @@
+/* file: philox4x32x10_batch_impl.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the class defining the philox4x32x10 engine
+//--
+*/
+
+#include "engines/philox4x32x10/philox4x32x10.h"
+#include "engine_batch_impl.h"
+#include "service_rng.h"
+#include "service_numeric_table.h"
+#include "service_memory.h"
+
+static const int leapfrogMethodErrcode  = -1002;
+static const int skipAheadMethodErrcode = -1003;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace engines
+{
+namespace philox4x32x10
+{
+namespace internal
+{
+
+/*
+// Philox4x32-10 counter-based basic generator.
+// The element with index i of the sequence is the (i % 4)-th word of the Philox4x32-10 bijection
+// applied to the 128-bit counter i / 4 with the 64-bit key equal to the seed
+*/
+template<CpuType cpu>
+class BaseRNG : public daal::internal::BaseRNGIface<cpu>, public daal::internal::NativeBaseRNGIface
+{
+public:
+    BaseRNG(const size_t seed)
+    {
+        _s.key[0] = (unsigned int)seed;
+        _s.key[1] = (unsigned int)((DAAL_UINT64)seed >> 32);
+        for (size_t i = 0; i < 4; i++) { _s.counter[i] = 0; }
+        _s.pos = 0;
+        generateBlock();
+        _state.native = this;
+    }
+
+    BaseRNG(const BaseRNG<cpu> &other) : _s(other._s)
+    {
+        _state.native = this;
+    }
+
+    int getStateSize() const DAAL_C11_OVERRIDE
+    {
+        return (int)sizeof(State);
+    }
+
+    int saveState(void *dest) const DAAL_C11_OVERRIDE
+    {
+        daal::services::daal_memcpy_s(dest, sizeof(State), &_s, sizeof(State));
+        return 0;
+    }
+
+    int loadState(const void *src) DAAL_C11_OVERRIDE
+    {
+        daal::services::daal_memcpy_s(&_s, sizeof(State), src, sizeof(State));
+        return 0;
+    }
+
+    int leapfrog(size_t threadNum, size_t nThreads) DAAL_C11_OVERRIDE
+    {
+        return leapfrogMethodErrcode;
+    }
+
+    /* Skip-ahead takes constant time since it only moves the counter */
+    int skipAhead(size_t nSkip) DAAL_C11_OVERRIDE
+    {
+        const DAAL_UINT64 nWords = (DAAL_UINT64)_s.pos + nSkip;
+        DAAL_UINT64 add = nWords / 4;
+        _s.pos = (unsigned int)(nWords % 4);
+        for (size_t i = 0; i < 4 && add; i++)
+        {
+            add += _s.counter[i];
+            _s.counter[i] = (unsigned int)add;
+            add >>= 32;
+        }
+        generateBlock();
+        return 0;
+    }
+
+    void *getState() DAAL_C11_OVERRIDE
+    {
+        return &_state;
+    }
+
+    void uniformBits32(const size_t n, unsigned int *r) DAAL_C11_OVERRIDE
+    {
+        for (size_t i = 0; i < n; i++)
+        {
+            if (_s.pos == 4)
+            {
+                incrementCounter();
+                generateBlock();
+                _s.pos = 0;
+            }
+            r[i] = _s.block[_s.pos++];
+        }
+    }
+
+protected:
+    struct State
+    {
+        unsigned int key[2];
+        unsigned int counter[4];
+        unsigned int block[4];  /* Result of the bijection applied to the counter */
+        unsigned int pos;       /* Position of the next element in the block */
+    };
+
+    void incrementCounter()
+    {
+        for (size_t i = 0; i < 4; i++)
+        {
+            if (++_s.counter[i]) { break; }
+        }
+    }
+
+    void generateBlock()
+    {
+        const DAAL_UINT64 m0 = 0xD2511F53, m1 = 0xCD9E8D57;
+        const unsigned int w0 = 0x9E3779B9, w1 = 0xBB67AE85;
+        unsigned int c[4] = { _s.counter[0], _s.counter[1], _s.counter[2], _s.counter[3] };
+        unsigned int k[2] = { _s.key[0], _s.key[1] };
+        for (size_t round = 0; round < 10; round++)
+        {
+            const DAAL_UINT64 p0 = m0 * c[0];
+            const DAAL_UINT64 p1 = m1 * c[2];
+            const unsigned int hi0 = (unsigned int)(p0 >> 32), lo0 = (unsigned int)p0;
+            const unsigned int hi1 = (unsigned int)(p1 >> 32), lo1 = (unsigned int)p1;
+            c[0] = hi1 ^ c[1] ^ k[0];
+            c[1] = lo1;
+            c[2] = hi0 ^ c[3] ^ k[1];
+            c[3] = lo0;
+            k[0] += w0;
+            k[1] += w1;
+        }
+        for (size_t i = 0; i < 4; i++) { _s.block[i] = c[i]; }
+    }
+
+    State _s;
+    daal::internal::BaseRNGState _state;
+};
+
+template<CpuType cpu, typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class BatchImpl : public algorithms::engines::philox4x32x10::interface1::Batch<algorithmFPType, method>, public algorithms::engines::internal::BatchBaseImpl
+{
+public:
+    typedef algorithms::engines::philox4x32x10::interface1::Batch<algorithmFPType, method> super1;
+    typedef algorithms::engines::internal::BatchBaseImpl super2;
+    BatchImpl(size_t seed = 777) : baseRng(seed) {}
+
+    void *getState() DAAL_C11_OVERRIDE
+    {
+        return baseRng.getState();
+    }
+
+    int getStateSize() const DAAL_C11_OVERRIDE
+    {
+        return baseRng.getStateSize();
+    }
+
+    services::Status saveStateImpl(byte* dest) const DAAL_C11_OVERRIDE
+    {
+        DAAL_CHECK(!baseRng.saveState((void *)dest), ErrorIncorrectErrorcodeFromGenerator);
+        return services::Status();
+    }
+
+    services::Status loadStateImpl(const byte* src) DAAL_C11_OVERRIDE
+    {
+        DAAL_CHECK(!baseRng.loadState((const void *)src), ErrorIncorrectErrorcodeFromGenerator);
+        return services::Status();
+    }
+
+    services::Status leapfrogImpl(size_t threadNum, size_t nThreads) DAAL_C11_OVERRIDE
+    {
+        int errcode = baseRng.leapfrog(threadNum, nThreads);
+        services::Status s;
+        if(errcode == leapfrogMethodErrcode) s.add(ErrorLeapfrogUnsupported);
+        else if(errcode) s.add(ErrorIncorrectErrorcodeFromGenerator);
+        return s;
+    }
+
+    services::Status skipAheadImpl(size_t nSkip) DAAL_C11_OVERRIDE
+    {
+        int errcode = baseRng.skipAhead(nSkip);
+        services::Status s;
+        if(errcode == skipAheadMethodErrcode) s.add(ErrorSkipAheadUnsupported);
+        else if (errcode) s.add(ErrorIncorrectErrorcodeFromGenerator);
+        return s;
+    }
+
+    virtual BatchImpl<cpu, algorithmFPType, method> *cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new BatchImpl<cpu, algorithmFPType, method>(*this);
+    }
+
+    ~BatchImpl() {}
+
+protected:
+    BatchImpl(const BatchImpl<cpu, algorithmFPType, method> &other) : super1(other), super2(other), baseRng(other.baseRng) {}
+    BaseRNG<cpu> baseRng;
+};
+
+} // namespace interface1
+} // namespace philox4x32x10
+} // namespace engines
+} // namespace algorithms
+} // namespace daal
@@ -1,4 +1,4 @@
-/* file: java_threading_helper.h */
+/* file: philox4x32x10_kernel.h */
 /*******************************************************************************
 * Copyright 2014-2018 Intel Corporation
 * All Rights Reserved.
@@ -39,71 +39,44 @@
 * limitations under the License.
 *******************************************************************************/
 
-#ifndef __JAVA_THREADING_HELPER_H__
-#define __JAVA_THREADING_HELPER_H__
+//++
+//  Declaration of template function that calculate philox4x32x10s.
+//--
 
-#include <jni.h>
-#include <tbb/tbb.h>
+#ifndef __PHILOX4X32X10_KERNEL_H__
+#define __PHILOX4X32X10_KERNEL_H__
 
-#include "services/error_handling.h"
+#include "engines/philox4x32x10/philox4x32x10.h"
+#include "kernel.h"
+#include "numeric_table.h"
+
+using namespace daal::services;
+using namespace daal::data_management;
 
 namespace daal
 {
-
-namespace internal
+namespace algorithms
 {
-
-struct _java_tls
+namespace engines
 {
-    JNIEnv *jenv;    // JNI interface poiner
-    jobject jbuf;
-    jclass jcls;     // Java class associated with this C++ object
-    bool is_main_thread;
-    bool is_attached;
-    /* Default constructor */
-    _java_tls()
-    {
-        jenv = NULL;
-        jbuf = NULL;
-        jcls = NULL;
-        is_main_thread = false;
-        is_attached = false;
-    }
-};
-
-static services::Status attachCurrentThread(JavaVM *jvm, _java_tls &local_tls)
+namespace philox4x32x10
 {
-    if (!local_tls.is_attached)
-    {
-        jint status = jvm->AttachCurrentThread((void **)(&(local_tls.jenv)), NULL);
-        if(status != JNI_OK)
-        {
-            return services::Status(services::ErrorCouldntAttachCurrentThreadToJavaVM);
-        }
-        local_tls.is_attached = true;
-    }
-    return services::Status();
-}
-
-static services::Status detachCurrentThread(JavaVM *jvm, _java_tls &local_tls, bool detach_main_thread = false)
+namespace internal
+{
+/**
+ *  \brief Kernel for philox4x32x10 calculation
+ */
+template<typename algorithmFPType, Method method, CpuType cpu>
+class Philox4x32x10Kernel : public Kernel
 {
-    if (local_tls.is_attached)
-    {
-        if(!local_tls.is_main_thread)
-        {
-            jint status = jvm->DetachCurrentThread();
-            if (status != JNI_OK)
-            {
-                return services::Status(services::ErrorCouldntDetachCurrentThreadFromJavaVM);
-            }
-            local_tls.is_attached = false;
-        }
-    }
-    return services::Status();
-}
+public:
+    Status compute(NumericTable *resultTable);
+};
 
 } // namespace internal
-
+} // namespace philox4x32x10
+} // namespace engines
+} // namespace algorithms
 } // namespace daal
 
 #endif
@@ -48,6 +48,7 @@
 #include "implicit_als_predict_ratings_dense_default_kernel.h"
 #include "implicit_als_predict_ratings_dense_default_container.h"
 #include "implicit_als_predict_ratings_dense_default_impl.i"
+#include "implicit_als_predict_ratings_dense_topk_impl.i"
 
 namespace daal
 {
@@ -62,6 +63,7 @@ namespace ratings
 namespace interface1
 {
 template class DistributedContainer<step1Local, DAAL_FPTYPE, defaultDense, DAAL_CPU>;
+template class DistributedContainer<step1Local, DAAL_FPTYPE, topK, DAAL_CPU>;
 }
 }
 }
@@ -56,6 +56,8 @@ namespace interface1
 {
 __DAAL_INSTANTIATE_DISPATCH_CONTAINER(implicit_als::prediction::ratings::DistributedContainer, distributed, step1Local, \
                                       DAAL_FPTYPE, implicit_als::prediction::ratings::defaultDense)
+__DAAL_INSTANTIATE_DISPATCH_CONTAINER(implicit_als::prediction::ratings::DistributedContainer, distributed, step1Local, \
+                                      DAAL_FPTYPE, implicit_als::prediction::ratings::topK)
 }
 }
 }
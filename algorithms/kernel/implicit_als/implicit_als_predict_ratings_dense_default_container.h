@@ -50,6 +50,7 @@
 
 #include "implicit_als_predict_ratings_batch.h"
 #include "implicit_als_predict_ratings_dense_default_kernel.h"
+#include "service_numeric_table.h"
 
 namespace daal
 {
@@ -88,10 +89,17 @@ services::Status BatchContainer<algorithmFPType, method, cpu>::compute()
     NumericTable *usersFactorsTable = alsModel->getUsersFactors().get();
     NumericTable *itemsFactorsTable = alsModel->getItemsFactors().get();
 
-    Parameter *par = static_cast<Parameter *>(_par);
     daal::services::Environment::env &env = *_env;
 
     NumericTable *ratingsTable = static_cast<NumericTable *>(result->get(prediction).get());
+    if (method == topK)
+    {
+        Parameter *par = static_cast<Parameter *>(_par);
+        NumericTable *topItemsTable = result->get(topItems).get();
+        __DAAL_CALL_KERNEL(env, internal::ImplicitALSPredictKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFPType),
+                           computeTopK, usersFactorsTable, itemsFactorsTable, NULL, ratingsTable, topItemsTable, par);
+    }
+    implicit_als::Parameter *par = static_cast<implicit_als::Parameter *>(_par);
     __DAAL_CALL_KERNEL(env, internal::ImplicitALSPredictKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFPType),
                        compute, usersFactorsTable, itemsFactorsTable, ratingsTable, par);
 }
@@ -126,11 +134,19 @@ services::Status DistributedContainer<step1Local, algorithmFPType, method, cpu>:
     NumericTablePtr usersFactorsTable = usersFactors->getFactors();
     NumericTablePtr itemsFactorsTable = itemsFactors->getFactors();
 
-    Parameter *par = static_cast<Parameter *>(_par);
     daal::services::Environment::env &env = *_env;
 
     NumericTable *ratingsTable = static_cast<NumericTable *>(result->get(prediction).get());
 
+    if (method == topK)
+    {
+        Parameter *par = static_cast<Parameter *>(_par);
+        NumericTable *topItemsTable = result->get(topItems).get();
+        __DAAL_CALL_KERNEL(env, internal::ImplicitALSPredictKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFPType),
+                           computeTopK, usersFactorsTable.get(), itemsFactorsTable.get(), itemsFactors->getIndices().get(),
+                           ratingsTable, topItemsTable, par);
+    }
+    implicit_als::Parameter *par = static_cast<implicit_als::Parameter *>(_par);
     __DAAL_CALL_KERNEL(env, internal::ImplicitALSPredictKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFPType),
                        compute, usersFactorsTable.get(), itemsFactorsTable.get(), ratingsTable, par);
 }
@@ -141,6 +157,55 @@ services::Status DistributedContainer<step1Local, algorithmFPType, method, cpu>:
     return services::Status();
 }
 
+template <typename algorithmFPType, prediction::ratings::Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::DistributedContainer(daal::services::Environment::env *daalEnv) :
+    DistributedPredictionContainerIface()
+{
+    __DAAL_INITIALIZE_KERNELS(internal::ImplicitALSPredictKernel, algorithmFPType);
+}
+
+template <typename algorithmFPType, prediction::ratings::Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::~DistributedContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template <typename algorithmFPType, prediction::ratings::Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::compute()
+{
+    DistributedInput<step2Master> *input = static_cast<DistributedInput<step2Master> *>(_in);
+    PartialResult *partialResult = static_cast<PartialResult *>(_pres);
+    Result *result = static_cast<Result *>(partialResult->get(finalResult).get());
+
+    DataCollection *collection = input->get(partialResults).get();
+    const size_t nBlocks = collection->size();
+
+    daal::internal::TArray<const NumericTable *, cpu> blockRatingsTables(nBlocks);
+    daal::internal::TArray<const NumericTable *, cpu> blockTopItemsTables(nBlocks);
+    DAAL_CHECK_MALLOC(blockRatingsTables.get() && blockTopItemsTables.get());
+    for (size_t i = 0; i < nBlocks; i++)
+    {
+        const Result *blockResult = static_cast<const Result *>((*collection)[i].get());
+        blockRatingsTables[i] = blockResult->get(prediction).get();
+        blockTopItemsTables[i] = blockResult->get(topItems).get();
+    }
+
+    NumericTable *ratingsTable = result->get(prediction).get();
+    NumericTable *topItemsTable = result->get(topItems).get();
+
+    Parameter *par = static_cast<Parameter *>(_par);
+    daal::services::Environment::env &env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::ImplicitALSPredictKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFPType),
+                       mergeTopK, nBlocks, blockRatingsTables.get(), blockTopItemsTables.get(), ratingsTable, topItemsTable, par);
+}
+
+template <typename algorithmFPType, prediction::ratings::Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::finalizeCompute()
+{
+    return services::Status();
+}
+
 } // ratings
 } // prediction
 } // implicit_als
@@ -71,7 +71,7 @@ namespace internal
 template <typename algorithmFPType, CpuType cpu>
 services::Status ImplicitALSPredictKernel<algorithmFPType, cpu>::compute(
             const NumericTable *usersFactorsTable, const NumericTable *itemsFactorsTable,
-            NumericTable *ratingsTable, const Parameter *parameter)
+            NumericTable *ratingsTable, const implicit_als::Parameter *parameter)
 {
     const size_t nUsers = usersFactorsTable->getNumberOfRows();
     const size_t nItems = itemsFactorsTable->getNumberOfRows();
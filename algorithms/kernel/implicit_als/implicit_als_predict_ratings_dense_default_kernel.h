@@ -77,7 +77,15 @@ public:
     virtual ~ImplicitALSPredictKernel() {}
 
     services::Status compute(const NumericTable *usersFactorsTable, const NumericTable *itemsFactorsTable,
-                NumericTable *ratingsTable, const Parameter *parameter);
+                NumericTable *ratingsTable, const implicit_als::Parameter *parameter);
+
+    services::Status computeTopK(const NumericTable *usersFactorsTable, const NumericTable *itemsFactorsTable,
+                const NumericTable *itemsIndicesTable, NumericTable *ratingsTable, NumericTable *topItemsTable,
+                const Parameter *parameter);
+
+    services::Status mergeTopK(size_t nBlocks, const NumericTable *const *blockRatingsTables,
+                const NumericTable *const *blockTopItemsTables, NumericTable *ratingsTable, NumericTable *topItemsTable,
+                const Parameter *parameter);
 };
 
 }
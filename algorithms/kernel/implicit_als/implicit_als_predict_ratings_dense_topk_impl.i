@@ -0,0 +1,347 @@
+/* file: implicit_als_predict_ratings_dense_topk_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the top-K ratings prediction method of the implicit ALS algorithm
+//--
+*/
+
+#ifndef __IMPLICIT_ALS_PREDICT_RATINGS_DENSE_TOPK_IMPL_I__
+#define __IMPLICIT_ALS_PREDICT_RATINGS_DENSE_TOPK_IMPL_I__
+
+#include "implicit_als_predict_ratings_dense_default_kernel.h"
+#include "service_numeric_table.h"
+#include "service_memory.h"
+#include "service_error_handling.h"
+#include "service_blas.h"
+#include "service_heap.h"
+#include "service_data_utils.h"
+#include "threading.h"
+
+using namespace daal::data_management;
+using namespace daal::internal;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace implicit_als
+{
+namespace prediction
+{
+namespace ratings
+{
+namespace internal
+{
+
+/* Number of users and items in a tile of ratings computed at once. The tile fits into L2 cache */
+const size_t topKUsersBlockSize = 64;
+const size_t topKItemsBlockSize = 256;
+
+template <typename algorithmFPType>
+struct RatedItem
+{
+    algorithmFPType rating;
+    int index;
+};
+
+/* Orders the heap of rated items so that the item with the lowest rating is on top */
+template <typename algorithmFPType>
+struct HigherRating
+{
+    bool operator()(const RatedItem<algorithmFPType> &a, const RatedItem<algorithmFPType> &b) const
+    {
+        return a.rating > b.rating;
+    }
+};
+
+template <typename algorithmFPType, CpuType cpu>
+struct TopKTls
+{
+    DAAL_NEW_DELETE();
+    TopKTls(size_t nTopItems) :
+        _ratings(topKUsersBlockSize * topKItemsBlockSize), _heaps(topKUsersBlockSize * nTopItems), _heapSizes(topKUsersBlockSize) {}
+    bool isValid() const { return _ratings.get() && _heaps.get() && _heapSizes.get(); }
+
+    TArray<algorithmFPType, cpu> _ratings;              /* Tile of ratings, topKItemsBlockSize ratings per user */
+    TArray<RatedItem<algorithmFPType>, cpu> _heaps;     /* Heaps of nTopItems best rated items, one per user */
+    TArray<size_t, cpu> _heapSizes;                     /* Number of items in each heap */
+};
+
+template <typename algorithmFPType, CpuType cpu>
+services::Status ImplicitALSPredictKernel<algorithmFPType, cpu>::computeTopK(
+            const NumericTable *usersFactorsTable, const NumericTable *itemsFactorsTable,
+            const NumericTable *itemsIndicesTable, NumericTable *ratingsTable, NumericTable *topItemsTable,
+            const Parameter *parameter)
+{
+    typedef RatedItem<algorithmFPType> Item;
+
+    const size_t nUsers    = usersFactorsTable->getNumberOfRows();
+    const size_t nItems    = itemsFactorsTable->getNumberOfRows();
+    const size_t nFactors  = parameter->nFactors;
+    const size_t nTopItems = parameter->nTopItems;
+
+    ReadRows<algorithmFPType, cpu> mtUsersFactors(*const_cast<NumericTable*>(usersFactorsTable), 0, nUsers);
+    DAAL_CHECK_BLOCK_STATUS(mtUsersFactors);
+    ReadRows<algorithmFPType, cpu> mtItemsFactors(*const_cast<NumericTable*>(itemsFactorsTable), 0, nItems);
+    DAAL_CHECK_BLOCK_STATUS(mtItemsFactors);
+    WriteOnlyRows<algorithmFPType, cpu> mtRatings(*ratingsTable, 0, nUsers);
+    DAAL_CHECK_BLOCK_STATUS(mtRatings);
+    WriteOnlyRows<int, cpu> mtTopItems(*topItemsTable, 0, nUsers);
+    DAAL_CHECK_BLOCK_STATUS(mtTopItems);
+
+    /* Indices of the items in the full data set are known for the partial models only */
+    const int *itemsIndices = NULL;
+    ReadRows<int, cpu> mtItemsIndices;
+    if (itemsIndicesTable && itemsIndicesTable->getNumberOfRows() == nItems)
+    {
+        mtItemsIndices.set(*const_cast<NumericTable*>(itemsIndicesTable), 0, nItems);
+        DAAL_CHECK_BLOCK_STATUS(mtItemsIndices);
+        itemsIndices = mtItemsIndices.get();
+    }
+
+    const algorithmFPType *usersFactors = mtUsersFactors.get();
+    const algorithmFPType *itemsFactors = mtItemsFactors.get();
+    algorithmFPType *ratings = mtRatings.get();
+    int *topItems = mtTopItems.get();
+
+    daal::tls<TopKTls<algorithmFPType, cpu> *> topKTls([=]()
+    {
+        auto ptr = new TopKTls<algorithmFPType, cpu>(nTopItems);
+        if (ptr && !ptr->isValid())
+        {
+            delete ptr;
+            ptr = nullptr;
+        }
+        return ptr;
+    });
+
+    /* GEMM parameters */
+    const char trans   = 'T';
+    const char notrans = 'N';
+    const algorithmFPType one(1.0);
+    const algorithmFPType zero(0.0);
+    const algorithmFPType lowestRating = -daal::data_feature_utils::internal::MaxVal<algorithmFPType>::get();
+
+    const size_t nUsersBlocks = (nUsers + topKUsersBlockSize - 1) / topKUsersBlockSize;
+    SafeStatus safeStat;
+    daal::threader_for(nUsersBlocks, nUsersBlocks, [ & ](size_t iBlock)
+    {
+        TopKTls<algorithmFPType, cpu> *local = topKTls.local();
+        DAAL_CHECK_THR(local, ErrorMemoryAllocationFailed);
+
+        const size_t userOffset = iBlock * topKUsersBlockSize;
+        const size_t nBlockUsers = (userOffset + topKUsersBlockSize > nUsers) ? nUsers - userOffset : topKUsersBlockSize;
+
+        algorithmFPType *tile = local->_ratings.get();
+        Item *heaps = local->_heaps.get();
+        size_t *heapSizes = local->_heapSizes.get();
+        for (size_t u = 0; u < nBlockUsers; u++) { heapSizes[u] = 0; }
+
+        for (size_t itemOffset = 0; itemOffset < nItems; itemOffset += topKItemsBlockSize)
+        {
+            const size_t nBlockItems = (itemOffset + topKItemsBlockSize > nItems) ? nItems - itemOffset : topKItemsBlockSize;
+
+            /* Ratings of the block of users for the block of items, nBlockItems ratings per user */
+            Blas<algorithmFPType, cpu>::xxgemm(&trans, &notrans, (DAAL_INT *)&nBlockItems, (DAAL_INT *)&nBlockUsers, (DAAL_INT *)&nFactors,
+                               &one, itemsFactors + itemOffset * nFactors, (DAAL_INT *)&nFactors,
+                               usersFactors + userOffset * nFactors, (DAAL_INT *)&nFactors, &zero,
+                               tile, (DAAL_INT *)&nBlockItems);
+
+            for (size_t u = 0; u < nBlockUsers; u++)
+            {
+                const algorithmFPType *userRatings = tile + u * nBlockItems;
+                Item *heap = heaps + u * nTopItems;
+                size_t &heapSize = heapSizes[u];
+                for (size_t i = 0; i < nBlockItems; i++)
+                {
+                    if (heapSize == nTopItems && !(userRatings[i] > heap[0].rating)) { continue; }
+
+                    Item item;
+                    item.rating = userRatings[i];
+                    item.index = (itemsIndices ? itemsIndices[itemOffset + i] : (int)(itemOffset + i));
+                    if (heapSize < nTopItems)
+                    {
+                        heap[heapSize++] = item;
+                        daal::algorithms::internal::pushMaxHeap<cpu>(heap, heap + heapSize, HigherRating<algorithmFPType>());
+                    }
+                    else
+                    {
+                        daal::algorithms::internal::popMaxHeap<cpu>(heap, heap + nTopItems, HigherRating<algorithmFPType>());
+                        heap[nTopItems - 1] = item;
+                        daal::algorithms::internal::pushMaxHeap<cpu>(heap, heap + nTopItems, HigherRating<algorithmFPType>());
+                    }
+                }
+            }
+        }
+
+        /* Sort the heaps in descending order of ratings and write them to the results */
+        for (size_t u = 0; u < nBlockUsers; u++)
+        {
+            Item *heap = heaps + u * nTopItems;
+            const size_t heapSize = heapSizes[u];
+            for (size_t n = heapSize; n > 1; n--)
+            {
+                daal::algorithms::internal::popMaxHeap<cpu>(heap, heap + n, HigherRating<algorithmFPType>());
+            }
+
+            algorithmFPType *userRatings = ratings + (userOffset + u) * nTopItems;
+            int *userTopItems = topItems + (userOffset + u) * nTopItems;
+            for (size_t j = 0; j < heapSize; j++)
+            {
+                userRatings[j] = heap[j].rating;
+                userTopItems[j] = heap[j].index;
+            }
+            for (size_t j = heapSize; j < nTopItems; j++)
+            {
+                userRatings[j] = lowestRating;
+                userTopItems[j] = -1;
+            }
+        }
+    } );
+
+    topKTls.reduce([ = ](TopKTls<algorithmFPType, cpu> *local)
+    {
+        delete local;
+    } );
+    return safeStat.detach();
+}
+
+/* Merges the lists of nTopItems best rated items computed for different blocks of items.
+   Each list is sorted in descending order of ratings and is terminated by the index -1 if shorter than nTopItems */
+template <typename algorithmFPType, CpuType cpu>
+services::Status ImplicitALSPredictKernel<algorithmFPType, cpu>::mergeTopK(
+            size_t nBlocks, const NumericTable *const *blockRatingsTables, const NumericTable *const *blockTopItemsTables,
+            NumericTable *ratingsTable, NumericTable *topItemsTable, const Parameter *parameter)
+{
+    const size_t nUsers    = ratingsTable->getNumberOfRows();
+    const size_t nTopItems = parameter->nTopItems;
+
+    TArray<ReadRows<algorithmFPType, cpu>, cpu> mtBlockRatings(nBlocks);
+    TArray<ReadRows<int, cpu>, cpu> mtBlockTopItems(nBlocks);
+    DAAL_CHECK_MALLOC(mtBlockRatings.get() && mtBlockTopItems.get());
+    for (size_t b = 0; b < nBlocks; b++)
+    {
+        mtBlockRatings[b].set(*const_cast<NumericTable*>(blockRatingsTables[b]), 0, nUsers);
+        DAAL_CHECK_BLOCK_STATUS(mtBlockRatings[b]);
+        mtBlockTopItems[b].set(*const_cast<NumericTable*>(blockTopItemsTables[b]), 0, nUsers);
+        DAAL_CHECK_BLOCK_STATUS(mtBlockTopItems[b]);
+    }
+
+    WriteOnlyRows<algorithmFPType, cpu> mtRatings(*ratingsTable, 0, nUsers);
+    DAAL_CHECK_BLOCK_STATUS(mtRatings);
+    WriteOnlyRows<int, cpu> mtTopItems(*topItemsTable, 0, nUsers);
+    DAAL_CHECK_BLOCK_STATUS(mtTopItems);
+    algorithmFPType *ratings = mtRatings.get();
+    int *topItems = mtTopItems.get();
+
+    const algorithmFPType lowestRating = -daal::data_feature_utils::internal::MaxVal<algorithmFPType>::get();
+
+    daal::tls<size_t *> positionsTls([=]()
+    {
+        return daal::services::internal::service_scalable_calloc<size_t, cpu>(nBlocks);
+    });
+
+    const size_t nUsersBlocks = (nUsers + topKUsersBlockSize - 1) / topKUsersBlockSize;
+    SafeStatus safeStat;
+    daal::threader_for(nUsersBlocks, nUsersBlocks, [ & ](size_t iBlock)
+    {
+        size_t *positions = positionsTls.local();
+        DAAL_CHECK_THR(positions, ErrorMemoryAllocationFailed);
+
+        const size_t userOffset = iBlock * topKUsersBlockSize;
+        const size_t nBlockUsers = (userOffset + topKUsersBlockSize > nUsers) ? nUsers - userOffset : topKUsersBlockSize;
+
+        for (size_t u = userOffset; u < userOffset + nBlockUsers; u++)
+        {
+            for (size_t b = 0; b < nBlocks; b++) { positions[b] = 0; }
+
+            algorithmFPType *userRatings = ratings + u * nTopItems;
+            int *userTopItems = topItems + u * nTopItems;
+            size_t j = 0;
+            for (; j < nTopItems; j++)
+            {
+                /* Take the best remaining item among the heads of the sorted lists */
+                size_t best = nBlocks;
+                algorithmFPType bestRating = lowestRating;
+                for (size_t b = 0; b < nBlocks; b++)
+                {
+                    const size_t pos = positions[b];
+                    if (pos == nTopItems) { continue; }
+                    const size_t offset = u * nTopItems + pos;
+                    if (mtBlockTopItems[b].get()[offset] < 0) { continue; }
+                    const algorithmFPType rating = mtBlockRatings[b].get()[offset];
+                    if (best == nBlocks || rating > bestRating)
+                    {
+                        best = b;
+                        bestRating = rating;
+                    }
+                }
+                if (best == nBlocks) { break; }
+
+                userRatings[j] = bestRating;
+                userTopItems[j] = mtBlockTopItems[best].get()[u * nTopItems + positions[best]];
+                positions[best]++;
+            }
+            for (; j < nTopItems; j++)
+            {
+                userRatings[j] = lowestRating;
+                userTopItems[j] = -1;
+            }
+        }
+    } );
+
+    positionsTls.reduce([ = ](size_t *positions)
+    {
+        daal::services::internal::service_scalable_free<size_t, cpu>(positions);
+    } );
+    return safeStat.detach();
+}
+
+}
+}
+}
+}
+}
+}
+
+#endif
@@ -125,7 +125,8 @@ size_t DistributedInput<step1Local>::getNumberOfItems() const
  */
 services::Status DistributedInput<step1Local>::check(const daal::algorithms::Parameter *parameter, int method) const
 {
-    const Parameter *algParameter = static_cast<const Parameter *>(parameter);
+    DAAL_CHECK(method != topK || dynamic_cast<const Parameter *>(parameter), ErrorIncorrectParameter);
+    const implicit_als::Parameter *algParameter = static_cast<const implicit_als::Parameter *>(parameter);
     size_t nFactors = algParameter->nFactors;
 
     PartialModelPtr usersModel = get(usersPartialModel);
@@ -149,6 +150,105 @@ services::Status DistributedInput<step1Local>::check(const daal::algorithms::Par
     return checkNumericTable(itemsModel->getIndices().get(), itemsIndicesStr(), unexpectedLayoutsIndices, 0, 1, nRowsItemsModel);
 }
 
+DistributedInput<step2Master>::DistributedInput() : InputIface(lastStep2MasterInputId + 1)
+{
+    Argument::set(partialResults, data_management::DataCollectionPtr(new data_management::DataCollection()));
+}
+
+/**
+ * Returns an input object for the rating prediction stage of the implicit ALS algorithm
+ * \param[in] id    Identifier of the input object
+ * \return          Input object that corresponds to the given identifier
+ */
+data_management::DataCollectionPtr DistributedInput<step2Master>::get(Step2MasterInputId id) const
+{
+    return services::staticPointerCast<data_management::DataCollection, data_management::SerializationIface>(Argument::get(id));
+}
+
+/**
+ * Sets an input object for the rating prediction stage of the implicit ALS algorithm
+ * \param[in] id    Identifier of the input object
+ * \param[in] ptr   Pointer to the new input object value
+ */
+void DistributedInput<step2Master>::set(Step2MasterInputId id, const data_management::DataCollectionPtr &ptr)
+{
+    Argument::set(id, ptr);
+}
+
+/**
+ * Adds a partial result computed in the first step of the distributed processing mode
+ * \param[in] id            Identifier of the input object
+ * \param[in] partialResult Partial result computed on a local node for one block of items
+ */
+void DistributedInput<step2Master>::add(Step2MasterInputId id, const PartialResultPtr &partialResult)
+{
+    data_management::DataCollectionPtr collection = get(id);
+    if (!collection)    { return; }
+    if (!partialResult) { return; }
+    collection->push_back(partialResult->get(finalResult));
+}
+
+/**
+ * Returns the number of rows in the input numeric tables
+ * \return Number of rows in the input numeric tables
+ */
+size_t DistributedInput<step2Master>::getNumberOfUsers() const
+{
+    data_management::DataCollectionPtr collection = get(partialResults);
+    if (collection && collection->size())
+    {
+        ResultPtr result = services::dynamicPointerCast<Result, data_management::SerializationIface>((*collection)[0]);
+        if (result && result->get(prediction))
+            return result->get(prediction)->getNumberOfRows();
+    }
+    return 0;
+}
+
+/**
+ * Returns the number of columns in the input numeric tables
+ * \return Number of columns in the input numeric tables
+ */
+size_t DistributedInput<step2Master>::getNumberOfItems() const
+{
+    data_management::DataCollectionPtr collection = get(partialResults);
+    if (collection && collection->size())
+    {
+        ResultPtr result = services::dynamicPointerCast<Result, data_management::SerializationIface>((*collection)[0]);
+        if (result && result->get(prediction))
+            return result->get(prediction)->getNumberOfColumns();
+    }
+    return 0;
+}
+
+/**
+ * Checks the parameters of the rating prediction stage of the implicit ALS algorithm
+ * \param[in] parameter     Algorithm %parameter
+ * \param[in] method        Computation method for the algorithm
+ */
+services::Status DistributedInput<step2Master>::check(const daal::algorithms::Parameter *parameter, int method) const
+{
+    DAAL_CHECK(method == topK, ErrorMethodNotSupported);
+
+    const size_t nTopItems = static_cast<const Parameter *>(parameter)->nTopItems;
+
+    data_management::DataCollectionPtr collection = get(partialResults);
+    DAAL_CHECK_EX(collection, ErrorNullInputDataCollection, ArgumentName, partialResultsStr());
+    const size_t nBlocks = collection->size();
+    DAAL_CHECK_EX(nBlocks > 0, ErrorIncorrectNumberOfElementsInInputCollection, ArgumentName, partialResultsStr());
+
+    const size_t nUsers = getNumberOfUsers();
+    const int unexpectedLayouts = (int)packed_mask;
+    services::Status s;
+    for (size_t i = 0; i < nBlocks; i++)
+    {
+        ResultPtr result = services::dynamicPointerCast<Result, data_management::SerializationIface>((*collection)[i]);
+        DAAL_CHECK_EX(result, ErrorIncorrectElementInPartialResultCollection, ArgumentName, partialResultsStr());
+        DAAL_CHECK_STATUS(s, checkNumericTable(result->get(prediction).get(), predictionStr(), unexpectedLayouts, 0, nTopItems, nUsers));
+        DAAL_CHECK_STATUS(s, checkNumericTable(result->get(topItems).get(), topItemsStr(), unexpectedLayouts, 0, nTopItems, nUsers));
+    }
+    return s;
+}
+
 }// namespace interface1
 }// namespace ratings
 }// namespace prediction
@@ -120,7 +120,8 @@ size_t Input::getNumberOfItems() const
 services::Status Input::check(const daal::algorithms::Parameter *parameter, int method) const
 {
     DAAL_CHECK(parameter, ErrorNullParameterNotSupported);
-    const Parameter *alsParameter = static_cast<const Parameter *>(parameter);
+    DAAL_CHECK(method != topK || dynamic_cast<const Parameter *>(parameter), ErrorIncorrectParameter);
+    const implicit_als::Parameter *alsParameter = static_cast<const implicit_als::Parameter *>(parameter);
     const size_t nFactors = alsParameter->nFactors;
 
     ModelPtr trainedModel = get(model);
@@ -100,6 +100,13 @@ services::Status Result::check(const daal::algorithms::Input *input, const daal:
     const size_t nItems = algInput->getNumberOfItems();
 
     const int unexpectedLayouts = (int)packed_mask;
+    if (method == topK)
+    {
+        const size_t nTopItems = static_cast<const Parameter *>(parameter)->nTopItems;
+        services::Status s = checkNumericTable(get(prediction).get(), predictionStr(), unexpectedLayouts, 0, nTopItems, nUsers);
+        s |= checkNumericTable(get(topItems).get(), topItemsStr(), unexpectedLayouts, 0, nTopItems, nUsers);
+        return s;
+    }
     return checkNumericTable(get(prediction).get(), predictionStr(), unexpectedLayouts, 0, nItems, nUsers);
 }
 
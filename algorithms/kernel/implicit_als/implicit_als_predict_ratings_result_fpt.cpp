@@ -77,6 +77,14 @@ DAAL_EXPORT Status Result::allocate(const daal::algorithms::Input *input, const
     size_t nUsers = algInput->getNumberOfUsers();
     size_t nItems = algInput->getNumberOfItems();
     Status st;
+    if (method == topK)
+    {
+        const size_t nTopItems = algParameter->nTopItems;
+        set(prediction, HomogenNumericTable<algorithmFPType>::create(nTopItems, nUsers, NumericTableIface::doAllocate, &st));
+        DAAL_CHECK_STATUS_VAR(st);
+        set(topItems, HomogenNumericTable<int>::create(nTopItems, nUsers, NumericTableIface::doAllocate, &st));
+        return st;
+    }
     set(prediction, HomogenNumericTable<algorithmFPType>::create(nItems, nUsers, NumericTableIface::doAllocate, &st));
     return st;
 }
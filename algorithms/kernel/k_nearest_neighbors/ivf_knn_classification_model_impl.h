@@ -0,0 +1,155 @@
+/* file: ivf_knn_classification_model_impl.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the class defining the inverted file index based K-Nearest Neighbors (kNN) model
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_MODEL_IMPL_
+#define __IVF_KNN_CLASSIFICATION_MODEL_IMPL_
+
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_model.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace interface1
+{
+
+/**
+ * The points of the training data set are stored grouped by the lists of the inverted file index:
+ * the points of the list i occupy the rows from listOffsets[i] to listOffsets[i + 1] of the data, labels and indices tables
+ */
+class Model::ModelImpl
+{
+public:
+    /**
+     * Empty constructor for deserialization
+     */
+    ModelImpl(size_t nFeatures = 0) : _nFeatures(nFeatures), _centroids(), _listOffsets(), _data(), _labels(), _indices() {}
+
+    /**
+     * Returns the table of the centroids of the lists, one centroid per row
+     * \return Table of the centroids of the lists
+     */
+    data_management::NumericTableConstPtr getCentroids() const { return _centroids; }
+
+    data_management::NumericTablePtr getCentroids() { return _centroids; }
+
+    void setCentroids(const data_management::NumericTablePtr & value) { _centroids = value; }
+
+    /**
+     * Returns the table of nLists + 1 offsets of the lists in the data of the model
+     * \return Table of the offsets of the lists
+     */
+    data_management::NumericTableConstPtr getListOffsets() const { return _listOffsets; }
+
+    data_management::NumericTablePtr getListOffsets() { return _listOffsets; }
+
+    void setListOffsets(const data_management::NumericTablePtr & value) { _listOffsets = value; }
+
+    /**
+     * Returns training data grouped by the lists
+     * \return Training data
+     */
+    data_management::NumericTableConstPtr getData() const { return _data; }
+
+    data_management::NumericTablePtr getData() { return _data; }
+
+    void setData(const data_management::NumericTablePtr & value) { _data = value; }
+
+    /**
+     * Returns training labels grouped by the lists
+     * \return Training labels
+     */
+    data_management::NumericTableConstPtr getLabels() const { return _labels; }
+
+    data_management::NumericTablePtr getLabels() { return _labels; }
+
+    void setLabels(const data_management::NumericTablePtr & value) { _labels = value; }
+
+    /**
+     * Returns the table that maps the rows of the data stored in the model to the rows of the training data set
+     * \return Indices of the points in the training data set
+     */
+    data_management::NumericTableConstPtr getIndices() const { return _indices; }
+
+    data_management::NumericTablePtr getIndices() { return _indices; }
+
+    void setIndices(const data_management::NumericTablePtr & value) { _indices = value; }
+
+    size_t getNumberOfFeatures() const { return _nFeatures; }
+
+    size_t getNumberOfLists() const { return _centroids ? _centroids->getNumberOfRows() : 0; }
+
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive * arch)
+    {
+        arch->set(_nFeatures);
+        arch->setSharedPtrObj(_centroids);
+        arch->setSharedPtrObj(_listOffsets);
+        arch->setSharedPtrObj(_data);
+        arch->setSharedPtrObj(_labels);
+        arch->setSharedPtrObj(_indices);
+
+        return services::Status();
+    }
+
+private:
+    size_t _nFeatures;
+    data_management::NumericTablePtr _centroids;
+    data_management::NumericTablePtr _listOffsets;
+    data_management::NumericTablePtr _data;
+    data_management::NumericTablePtr _labels;
+    data_management::NumericTablePtr _indices;
+};
+
+} // namespace interface1
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
@@ -0,0 +1,187 @@
+/* file: ivf_knn_classification_predict_batch.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the interface for inverted file index based K-Nearest Neighbors (kNN) model-based prediction
+//--
+*/
+
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_predict_types.h"
+#include "ivf_knn_classification_model_impl.h"
+#include "serialization_utils.h"
+#include "daal_strings.h"
+
+using namespace daal::data_management;
+using namespace daal::services;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace prediction
+{
+namespace interface1
+{
+__DAAL_REGISTER_SERIALIZATION_CLASS(Result, SERIALIZATION_IVF_K_NEAREST_NEIGHBOR_PREDICTION_RESULT_ID);
+
+/** Default constructor */
+Input::Input() : classifier::prediction::Input() {}
+
+/**
+ * Returns the input Model object in the prediction stage of the inverted file index based kNN algorithm
+ * \param[in] id    Identifier of the input Model object
+ * \return          %Input object that corresponds to the given identifier
+ */
+ivf_knn_classification::ModelPtr Input::get(classifier::prediction::ModelInputId id) const
+{
+    return services::staticPointerCast<ivf_knn_classification::interface1::Model, data_management::SerializationIface>(Argument::get(id));
+}
+
+/**
+ * Sets the input NumericTable object in the prediction stage of the classification algorithm
+ * \param[in] id    Identifier of the input object
+ * \param[in] ptr   Pointer to the input object
+ */
+void Input::set(classifier::prediction::NumericTableInputId id, const data_management::NumericTablePtr & ptr)
+{
+    Argument::set(id, ptr);
+}
+
+/**
+ * Sets the input Model object in the prediction stage of the inverted file index based kNN algorithm
+ * \param[in] id    Identifier of the input object
+ * \param[in] ptr   Pointer to the input object
+ */
+void Input::set(classifier::prediction::ModelInputId id, const ivf_knn_classification::interface1::ModelPtr & value)
+{
+    Argument::set(id, value);
+}
+
+/**
+ * Checks the correctness of the input object
+ * \param[in] parameter Pointer to the structure of the algorithm parameters
+ * \param[in] method    Computation method
+ */
+services::Status Input::check(const daal::algorithms::Parameter *parameter, int method) const
+{
+    services::Status s = classifier::prediction::Input::check(parameter, method);
+    if(!s) return s;
+
+    const ivf_knn_classification::ModelPtr m = get(classifier::prediction::model);
+    const size_t nFeatures = m->getNumberOfFeatures();
+    s |= checkNumericTable(m->impl()->getData().get(), dataStr(), 0, 0, nFeatures);
+    if(!s) return services::Status(ErrorModelNotFullInitialized);
+
+    const size_t nTrainingRows = m->impl()->getData()->getNumberOfRows();
+    s |= checkNumericTable(m->impl()->getLabels().get(), labelsStr(), 0, 0, 1, nTrainingRows);
+    if(!s) return services::Status(ErrorModelNotFullInitialized);
+    s |= checkNumericTable(m->impl()->getIndices().get(), indicesStr(), 0, 0, 1, nTrainingRows);
+    if(!s) return services::Status(ErrorModelNotFullInitialized);
+    s |= checkNumericTable(m->impl()->getCentroids().get(), centroidsStr(), 0, 0, nFeatures);
+    if(!s) return services::Status(ErrorModelNotFullInitialized);
+
+    const size_t nLists = m->impl()->getCentroids()->getNumberOfRows();
+    s |= checkNumericTable(m->impl()->getListOffsets().get(), listOffsetsStr(), 0, 0, 1, nLists + 1);
+    if(!s) return services::Status(ErrorModelNotFullInitialized);
+    return s;
+}
+
+Result::Result() : classifier::prediction::Result(lastResultNumericTableId + 1) {}
+
+/**
+ * Returns the result of inverted file index based kNN model-based prediction
+ * \param[in] id    Identifier of the result
+ * \return          Result that corresponds to the given identifier
+ */
+data_management::NumericTablePtr Result::get(ResultNumericTableId id) const
+{
+    return services::staticPointerCast<data_management::NumericTable, data_management::SerializationIface>(Argument::get(id));
+}
+
+/**
+ * Sets the result of inverted file index based kNN model-based prediction
+ * \param[in] id      Identifier of the result
+ * \param[in] value   Result
+ */
+void Result::set(ResultNumericTableId id, const data_management::NumericTablePtr &value)
+{
+    Argument::set(id, value);
+}
+
+/**
+ * Checks the result of inverted file index based kNN model-based prediction
+ * \param[in] input   %Input object for the algorithm
+ * \param[in] par     %Parameter of the algorithm
+ * \param[in] method  Computation method
+ */
+services::Status Result::check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const
+{
+    const Parameter *const algParameter = static_cast<const Parameter *>(par);
+    const DAAL_UINT64 resultsToCompute = algParameter ? algParameter->resultsToCompute : computeClassLabels;
+
+    services::Status s;
+    if (resultsToCompute & computeClassLabels)
+    {
+        DAAL_CHECK_STATUS(s, classifier::prediction::Result::check(input, par, method));
+    }
+
+    const size_t nRows = (static_cast<const classifier::prediction::InputIface *>(input))->getNumberOfRows();
+    const size_t k = algParameter ? algParameter->k : 1;
+    const int unexpectedLayouts = (int)data_management::NumericTableIface::csrArray;
+    if (resultsToCompute & computeIndicesOfNeighbors)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(indices).get(), indicesStr(), unexpectedLayouts, 0, k, nRows));
+    }
+    if (resultsToCompute & computeDistances)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(distances).get(), distancesStr(), unexpectedLayouts, 0, k, nRows));
+    }
+    return s;
+}
+
+} // namespace interface1
+} // namespace prediction
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
@@ -0,0 +1,106 @@
+/* file: ivf_knn_classification_predict_dense_default_batch.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Declaration of template function that computes inverted file index based K-Nearest Neighbors prediction results.
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_PREDICT_DENSE_DEFAULT_BATCH_H__
+#define __IVF_KNN_CLASSIFICATION_PREDICT_DENSE_DEFAULT_BATCH_H__
+
+#include "ivf_knn_classification_predict.h"
+#include "ivf_knn_classification_model_impl.h"
+#include "service_memory.h"
+#include "kernel.h"
+#include "numeric_table.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+
+namespace internal
+{
+template <typename algorithmFpType> struct Neighbor;
+} // namespace internal
+
+namespace prediction
+{
+namespace internal
+{
+
+using namespace daal::data_management;
+using ivf_knn_classification::internal::Neighbor;
+
+template <typename algorithmFpType, prediction::Method method, CpuType cpu>
+class IVFKNNClassificationPredictKernel : public daal::algorithms::Kernel
+{};
+
+template <typename algorithmFpType, CpuType cpu>
+class IVFKNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu> : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(const NumericTable * x, const classifier::Model * m, NumericTable * y, NumericTable * indices,
+                             NumericTable * distances, const daal::algorithms::Parameter * par);
+
+protected:
+    size_t findNearestNeighbors(const algorithmFpType * query, const Neighbor<algorithmFpType> * probes, size_t nProbes,
+                                const int * listOffsets, const algorithmFpType * data, size_t p, size_t k,
+                                Neighbor<algorithmFpType> * neighbors);
+
+    void predict(algorithmFpType & predictedClass, const Neighbor<algorithmFpType> * neighbors, size_t nNeighbors,
+                 const algorithmFpType * labels, algorithmFpType * classes);
+
+    void getNeighbors(int * indices, algorithmFpType * distances, const Neighbor<algorithmFpType> * neighbors, size_t nNeighbors,
+                      const int * modelIndices, size_t k);
+};
+
+} // namespace internal
+} // namespace prediction
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
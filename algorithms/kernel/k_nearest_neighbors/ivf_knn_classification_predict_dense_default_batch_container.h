@@ -0,0 +1,99 @@
+/* file: ivf_knn_classification_predict_dense_default_batch_container.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of inverted file index based K-Nearest Neighbors algorithm container - a class that contains
+//  inverted file index based K-Nearest Neighbors prediction kernels for supported architectures.
+//--
+*/
+
+#include "ivf_knn_classification_predict.h"
+#include "ivf_knn_classification_predict_dense_default_batch.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace prediction
+{
+
+template <typename algorithmFpType, Method method, CpuType cpu>
+BatchContainer<algorithmFpType, method, cpu>::BatchContainer(daal::services::Environment::env * daalEnv) : PredictionContainerIface()
+{
+    __DAAL_INITIALIZE_KERNELS(internal::IVFKNNClassificationPredictKernel, algorithmFpType, method);
+}
+
+template <typename algorithmFpType, Method method, CpuType cpu>
+BatchContainer<algorithmFpType, method, cpu>::~BatchContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template <typename algorithmFpType, Method method, CpuType cpu>
+services::Status BatchContainer<algorithmFpType, method, cpu>::compute()
+{
+    const classifier::prediction::Input * const input = static_cast<const classifier::prediction::Input *>(_in);
+    classifier::prediction::Result * const result = static_cast<classifier::prediction::Result *>(_res);
+    const ivf_knn_classification::Parameter * const par = static_cast<const ivf_knn_classification::Parameter *>(_par);
+
+    const data_management::NumericTableConstPtr a = input->get(classifier::prediction::data);
+    const classifier::ModelConstPtr m = input->get(classifier::prediction::model);
+
+    /* The result registered by the user can be of the base classifier type that has no neighbors */
+    const Result * const knnResult = dynamic_cast<const Result *>(result);
+    data_management::NumericTablePtr r, indices, distances;
+    if (par->resultsToCompute & computeClassLabels) { r = result->get(classifier::prediction::prediction); }
+    if (knnResult && (par->resultsToCompute & computeIndicesOfNeighbors)) { indices = knnResult->get(prediction::indices); }
+    if (knnResult && (par->resultsToCompute & computeDistances)) { distances = knnResult->get(prediction::distances); }
+
+    daal::services::Environment::env & env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::IVFKNNClassificationPredictKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFpType, method), \
+                       compute, a.get(), m.get(), r.get(), indices.get(), distances.get(), par);
+}
+
+} // namespace prediction
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
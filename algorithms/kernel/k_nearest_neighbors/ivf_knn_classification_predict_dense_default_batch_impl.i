@@ -0,0 +1,322 @@
+/* file: ivf_knn_classification_predict_dense_default_batch_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of inverted file index based K-Nearest Neighbors prediction.
+//  For each query the lists of nProbes nearest centroids are scanned with the exact distances.
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_PREDICT_DENSE_DEFAULT_BATCH_IMPL_I__
+#define __IVF_KNN_CLASSIFICATION_PREDICT_DENSE_DEFAULT_BATCH_IMPL_I__
+
+#include "threading.h"
+#include "daal_defines.h"
+#include "service_memory.h"
+#include "service_data_utils.h"
+#include "service_math.h"
+#include "service_sort.h"
+#include "service_numeric_table.h"
+#include "ivf_knn_classification_predict_dense_default_batch.h"
+#include "ivf_knn_classification_model_impl.h"
+#include "ivf_knn_impl.i"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace prediction
+{
+namespace internal
+{
+
+using namespace daal::services::internal;
+using namespace daal::services;
+using namespace daal::internal;
+using namespace ivf_knn_classification::internal;
+
+template <typename algorithmFpType, CpuType cpu>
+Status IVFKNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
+                 compute(const NumericTable * x, const classifier::Model * m, NumericTable * y, NumericTable * indices,
+                         NumericTable * distances, const daal::algorithms::Parameter * par)
+{
+    Status status;
+
+    typedef Neighbor<algorithmFpType> Neighbors;
+
+    const ivf_knn_classification::Parameter * const parameter = static_cast<const ivf_knn_classification::Parameter *>(par);
+    const Model * const model = static_cast<const Model *>(m);
+    const size_t k = parameter->k;
+    const size_t p = x->getNumberOfColumns();
+    const size_t nLists = model->getNumberOfLists();
+    const size_t nProbes = (parameter->nProbes < nLists) ? parameter->nProbes : nLists;
+
+    const bool computeLabels = (parameter->resultsToCompute & computeClassLabels) != 0;
+    const bool computeIndices = (parameter->resultsToCompute & computeIndicesOfNeighbors) != 0;
+    const bool computeDists = (parameter->resultsToCompute & computeDistances) != 0;
+    DAAL_CHECK(!computeLabels || y, ErrorNullOutputNumericTable);
+    DAAL_CHECK(!computeIndices || indices, ErrorNullOutputNumericTable);
+    DAAL_CHECK(!computeDists || distances, ErrorNullOutputNumericTable);
+    const bool computeNeighbors = computeIndices || computeDists;
+
+    NumericTable * const centroidsTable = const_cast<NumericTable *>(model->impl()->getCentroids().get());
+    NumericTable * const offsetsTable = const_cast<NumericTable *>(model->impl()->getListOffsets().get());
+    NumericTable * const dataTable = const_cast<NumericTable *>(model->impl()->getData().get());
+
+    ReadRows<algorithmFpType, cpu> centroidsRows(centroidsTable, 0, nLists);
+    DAAL_CHECK_BLOCK_STATUS(centroidsRows);
+    ReadRows<int, cpu> offsetsRows(offsetsTable, 0, nLists + 1);
+    DAAL_CHECK_BLOCK_STATUS(offsetsRows);
+    ReadRows<algorithmFpType, cpu> dataRows(dataTable, 0, dataTable->getNumberOfRows());
+    DAAL_CHECK_BLOCK_STATUS(dataRows);
+
+    ReadRows<algorithmFpType, cpu> labelsRows;
+    if (computeLabels)
+    {
+        NumericTable * const labelsTable = const_cast<NumericTable *>(model->impl()->getLabels().get());
+        labelsRows.set(labelsTable, 0, labelsTable->getNumberOfRows());
+        DAAL_CHECK_BLOCK_STATUS(labelsRows);
+    }
+
+    /* Positions of the points in the model data are mapped to the rows of the training data set */
+    ReadRows<int, cpu> modelIndicesRows;
+    if (computeIndices)
+    {
+        NumericTable * const modelIndicesTable = const_cast<NumericTable *>(model->impl()->getIndices().get());
+        modelIndicesRows.set(modelIndicesTable, 0, modelIndicesTable->getNumberOfRows());
+        DAAL_CHECK_BLOCK_STATUS(modelIndicesRows);
+    }
+
+    const algorithmFpType * const centroids = centroidsRows.get();
+    const int * const listOffsets = offsetsRows.get();
+    const algorithmFpType * const data = dataRows.get();
+    const algorithmFpType * const labels = labelsRows.get();
+    const int * const modelIndices = modelIndicesRows.get();
+
+    TArray<algorithmFpType, cpu> halfNormsSq(nLists);
+    DAAL_CHECK_MALLOC(halfNormsSq.get());
+    computeHalfNormsSq<algorithmFpType, cpu>(centroids, nLists, p, halfNormsSq.get());
+    const algorithmFpType * const norms = halfNormsSq.get();
+
+    struct Local
+    {
+        algorithmFpType * scores;
+        Neighbors * probes;
+        Neighbors * neighbors;
+        algorithmFpType * classes;
+    };
+    daal::tls<Local *> localTLS([=]()-> Local *
+    {
+        Local * const ptr = service_scalable_calloc<Local, cpu>(1);
+        if (ptr)
+        {
+            ptr->scores = service_scalable_malloc<algorithmFpType, cpu>(__IVF_KNN_BLOCK_SIZE * nLists);
+            ptr->probes = service_scalable_malloc<Neighbors, cpu>(nProbes);
+            ptr->neighbors = service_scalable_malloc<Neighbors, cpu>(k);
+            ptr->classes = service_scalable_malloc<algorithmFpType, cpu>(k);
+        }
+        return ptr;
+    } );
+
+    const size_t xRowCount = x->getNumberOfRows();
+    const size_t yColumnCount = computeLabels ? y->getNumberOfColumns() : 0;
+    const size_t indicesColumnCount = computeIndices ? indices->getNumberOfColumns() : 0;
+    const size_t distancesColumnCount = computeDists ? distances->getNumberOfColumns() : 0;
+    const size_t blockCount = (xRowCount + __IVF_KNN_BLOCK_SIZE - 1) / __IVF_KNN_BLOCK_SIZE;
+    SafeStatus safeStat;
+    daal::threader_for(blockCount, blockCount, [&](int iBlock)
+    {
+        Local * const local = localTLS.local();
+        DAAL_CHECK_THR(local && local->scores && local->probes && local->neighbors && local->classes, ErrorMemoryAllocationFailed);
+
+        const size_t first = iBlock * __IVF_KNN_BLOCK_SIZE;
+        const size_t blockSize = (first + __IVF_KNN_BLOCK_SIZE < xRowCount) ? __IVF_KNN_BLOCK_SIZE : xRowCount - first;
+
+        ReadRows<algorithmFpType, cpu> xRows(const_cast<NumericTable *>(x), first, blockSize);
+        DAAL_CHECK_BLOCK_STATUS_THR(xRows);
+        WriteOnlyRows<algorithmFpType, cpu> yRows;
+        WriteOnlyRows<int, cpu> indicesRows;
+        WriteOnlyRows<algorithmFpType, cpu> distancesRows;
+        if (computeLabels)
+        {
+            yRows.set(y, first, blockSize);
+            DAAL_CHECK_BLOCK_STATUS_THR(yRows);
+        }
+        if (computeIndices)
+        {
+            indicesRows.set(indices, first, blockSize);
+            DAAL_CHECK_BLOCK_STATUS_THR(indicesRows);
+        }
+        if (computeDists)
+        {
+            distancesRows.set(distances, first, blockSize);
+            DAAL_CHECK_BLOCK_STATUS_THR(distancesRows);
+        }
+        const algorithmFpType * const dx = xRows.get();
+        algorithmFpType * const dy = yRows.get();
+        int * const dIndices = indicesRows.get();
+        algorithmFpType * const dDistances = distancesRows.get();
+
+        /* The lists to scan are chosen with the scores of the centroids computed for the whole block at once */
+        computeCentroidScores<algorithmFpType, cpu>(dx, blockSize, centroids, norms, nLists, p, local->scores);
+
+        for (size_t i = 0; i < blockSize; ++i)
+        {
+            size_t nProbed = 0;
+            for (size_t j = 0; j < nLists; ++j)
+            {
+                insertNeighbor<algorithmFpType, cpu>(local->probes, nProbed, nProbes, local->scores[i + j * blockSize], j);
+            }
+
+            const size_t nNeighbors = findNearestNeighbors(&dx[i * p], local->probes, nProbed, listOffsets, data, p, k, local->neighbors);
+            if (computeLabels)
+            {
+                predict(dy[i * yColumnCount], local->neighbors, nNeighbors, labels, local->classes);
+            }
+            if (computeNeighbors)
+            {
+                getNeighbors(computeIndices ? &dIndices[i * indicesColumnCount] : nullptr,
+                             computeDists ? &dDistances[i * distancesColumnCount] : nullptr,
+                             local->neighbors, nNeighbors, modelIndices, k);
+            }
+        }
+    } );
+
+    localTLS.reduce([=](Local * ptr) -> void
+    {
+        if (ptr)
+        {
+            if (ptr->scores) { service_scalable_free<algorithmFpType, cpu>(ptr->scores); }
+            if (ptr->probes) { service_scalable_free<Neighbors, cpu>(ptr->probes); }
+            if (ptr->neighbors) { service_scalable_free<Neighbors, cpu>(ptr->neighbors); }
+            if (ptr->classes) { service_scalable_free<algorithmFpType, cpu>(ptr->classes); }
+            service_scalable_free<Local, cpu>(ptr);
+        }
+    } );
+    status |= safeStat.detach();
+    return status;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+size_t IVFKNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
+    findNearestNeighbors(const algorithmFpType * query, const Neighbor<algorithmFpType> * probes, size_t nProbes,
+                         const int * listOffsets, const algorithmFpType * data, size_t p, size_t k, Neighbor<algorithmFpType> * neighbors)
+{
+    size_t nNeighbors = 0;
+    for (size_t iProbe = 0; iProbe < nProbes; ++iProbe)
+    {
+        const size_t iList = probes[iProbe].index;
+        const size_t last = listOffsets[iList + 1];
+        for (size_t i = listOffsets[iList]; i < last; ++i)
+        {
+            const algorithmFpType distance = computeDistanceSq<algorithmFpType, cpu>(query, data + i * p, p);
+            insertNeighbor<algorithmFpType, cpu>(neighbors, nNeighbors, k, distance, i);
+        }
+    }
+    return nNeighbors;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+void IVFKNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
+    predict(algorithmFpType & predictedClass, const Neighbor<algorithmFpType> * neighbors, size_t nNeighbors,
+            const algorithmFpType * labels, algorithmFpType * classes)
+{
+    /* All the scanned lists are empty */
+    if (nNeighbors < 1)
+    {
+        predictedClass = algorithmFpType(-1);
+        return;
+    }
+
+    for (size_t i = 0; i < nNeighbors; ++i) { classes[i] = labels[neighbors[i].index]; }
+    daal::algorithms::internal::qSort<algorithmFpType, cpu>(nNeighbors, classes);
+    algorithmFpType currentClass = classes[0];
+    algorithmFpType winnerClass = currentClass;
+    size_t currentWeight = 1;
+    size_t winnerWeight = currentWeight;
+    for (size_t i = 1; i < nNeighbors; ++i)
+    {
+        if (classes[i] == currentClass)
+        {
+            if ((++currentWeight) > winnerWeight)
+            {
+                winnerWeight = currentWeight;
+                winnerClass = currentClass;
+            }
+        }
+        else
+        {
+            currentWeight = 1;
+            currentClass = classes[i];
+        }
+    }
+    predictedClass = winnerClass;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+void IVFKNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
+    getNeighbors(int * indices, algorithmFpType * distances, const Neighbor<algorithmFpType> * neighbors, size_t nNeighbors,
+                 const int * modelIndices, size_t k)
+{
+    for (size_t i = 0; i < nNeighbors; ++i)
+    {
+        if (indices) { indices[i] = modelIndices[neighbors[i].index]; }
+        if (distances) { distances[i] = daal::internal::Math<algorithmFpType, cpu>::sSqrt(neighbors[i].distance); }
+    }
+
+    /* The scanned lists have less than k points */
+    for (size_t i = nNeighbors; i < k; ++i)
+    {
+        if (indices) { indices[i] = -1; }
+        if (distances) { distances[i] = daal::data_feature_utils::internal::MaxVal<algorithmFpType>::get(); }
+    }
+}
+
+} // namespace internal
+} // namespace prediction
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
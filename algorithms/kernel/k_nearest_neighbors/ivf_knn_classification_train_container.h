@@ -0,0 +1,111 @@
+/* file: ivf_knn_classification_train_container.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of inverted file index based K-Nearest Neighbors training container.
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_TRAIN_CONTAINER_H__
+#define __IVF_KNN_CLASSIFICATION_TRAIN_CONTAINER_H__
+
+#include "kernel.h"
+#include "data_management/data/numeric_table.h"
+#include "services/daal_shared_ptr.h"
+#include "ivf_knn_classification_training_batch.h"
+#include "ivf_knn_classification_train_kernel.h"
+#include "ivf_knn_classification_model_impl.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace training
+{
+
+using namespace daal::data_management;
+
+/**
+ *  \brief Initialize list of inverted file index based K-Nearest Neighbors kernels with implementations for supported architectures
+ */
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+BatchContainer<algorithmFpType, method, cpu>::BatchContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::IVFKNNClassificationTrainBatchKernel, algorithmFpType, method);
+}
+
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+BatchContainer<algorithmFpType, method, cpu>::~BatchContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+/**
+ *  \brief Choose appropriate kernel to calculate inverted file index based K-Nearest Neighbors model.
+ */
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+services::Status BatchContainer<algorithmFpType, method, cpu>::compute()
+{
+    const classifier::training::Input * const input = static_cast<classifier::training::Input *>(_in);
+    Result * const result = static_cast<Result *>(_res);
+
+    const NumericTablePtr x = input->get(classifier::training::data);
+    const NumericTablePtr y = input->get(classifier::training::labels);
+
+    const ivf_knn_classification::ModelPtr r = result->get(classifier::training::model);
+
+    const ivf_knn_classification::Parameter * const par = static_cast<ivf_knn_classification::Parameter *>(_par);
+
+    daal::services::Environment::env & env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::IVFKNNClassificationTrainBatchKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFpType, method),    \
+                       compute, x.get(), y.get(), r.get(), *par, *par->engine);
+}
+
+} // namespace training
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
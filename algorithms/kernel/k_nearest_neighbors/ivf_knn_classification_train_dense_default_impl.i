@@ -0,0 +1,291 @@
+/* file: ivf_knn_classification_train_dense_default_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of inverted file index based K-Nearest Neighbors training.
+//  The centroids of the lists are computed with K-Means clustering of a random subset of the training data set,
+//  then every observation is added to the list of the nearest centroid.
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_TRAIN_DENSE_DEFAULT_IMPL_I__
+#define __IVF_KNN_CLASSIFICATION_TRAIN_DENSE_DEFAULT_IMPL_I__
+
+#include "threading.h"
+#include "daal_defines.h"
+#include "service_memory.h"
+#include "service_numeric_table.h"
+#include "service_rng.h"
+#include "service_data_utils.h"
+#include "ivf_knn_classification_train_kernel.h"
+#include "ivf_knn_classification_model_impl.h"
+#include "ivf_knn_impl.i"
+#include "engine_batch_impl.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace training
+{
+namespace internal
+{
+
+using namespace daal::services::internal;
+using namespace daal::internal;
+using namespace ivf_knn_classification::internal;
+
+template <typename algorithmFpType, CpuType cpu>
+Status IVFKNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu>::compute(const NumericTable * x, const NumericTable * y,
+        ivf_knn_classification::Model * r, const ivf_knn_classification::Parameter & par, engines::BatchBase & engine)
+{
+    Status status;
+
+    const size_t nRows = x->getNumberOfRows();
+    const size_t p = x->getNumberOfColumns();
+    const size_t nLists = (par.nLists < nRows) ? par.nLists : nRows;
+
+    /* The offsets of the lists and the indices of the observations are stored as 32 bit integers */
+    DAAL_CHECK(nRows < static_cast<size_t>(daal::data_feature_utils::internal::MaxVal<int>::get()), ErrorIncorrectNumberOfObservations);
+
+    ReadRows<algorithmFpType, cpu> xRows(const_cast<NumericTable *>(x), 0, nRows);
+    DAAL_CHECK_BLOCK_STATUS(xRows);
+    const algorithmFpType * const dx = xRows.get();
+
+    ReadRows<algorithmFpType, cpu> yRows(const_cast<NumericTable *>(y), 0, nRows);
+    DAAL_CHECK_BLOCK_STATUS(yRows);
+    const algorithmFpType * const dy = yRows.get();
+
+    typedef data_management::HomogenNumericTable<algorithmFpType> FpTable;
+    typedef data_management::HomogenNumericTable<int> IntTable;
+
+    services::SharedPtr<FpTable> centroidsTable = FpTable::create(p, nLists, NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    algorithmFpType * const centroids = centroidsTable->getArray();
+    DAAL_CHECK_STATUS(status, computeCentroids(dx, nRows, p, nLists, par.nIterations, engine, centroids));
+
+    TArray<int, cpu> assignments(nRows);
+    TArray<int, cpu> order(nRows);
+    DAAL_CHECK_MALLOC(assignments.get() && order.get());
+    DAAL_CHECK_STATUS(status, assignToLists(dx, nRows, p, centroids, nLists, assignments.get()));
+
+    services::SharedPtr<IntTable> offsetsTable = IntTable::create(1, nLists + 1, NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    int * const offsets = offsetsTable->getArray();
+    groupByLists(assignments.get(), nRows, nLists, offsets, order.get());
+
+    services::SharedPtr<FpTable> dataTable = FpTable::create(p, nRows, NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    services::SharedPtr<FpTable> labelsTable = FpTable::create(1, nRows, NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    services::SharedPtr<IntTable> indicesTable = IntTable::create(1, nRows, NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+
+    algorithmFpType * const data = dataTable->getArray();
+    algorithmFpType * const labels = labelsTable->getArray();
+    int * const indices = indicesTable->getArray();
+    const int * const rowOrder = order.get();
+
+    const size_t nBlocks = (nRows + __IVF_KNN_BLOCK_SIZE - 1) / __IVF_KNN_BLOCK_SIZE;
+    daal::threader_for(nBlocks, nBlocks, [&](size_t iBlock)
+    {
+        const size_t first = iBlock * __IVF_KNN_BLOCK_SIZE;
+        const size_t last = (first + __IVF_KNN_BLOCK_SIZE < nRows) ? first + __IVF_KNN_BLOCK_SIZE : nRows;
+        for (size_t i = first; i < last; ++i)
+        {
+            const size_t iRow = rowOrder[i];
+            const algorithmFpType * const src = dx + iRow * p;
+            algorithmFpType * const dst = data + i * p;
+          PRAGMA_IVDEP
+          PRAGMA_VECTOR_ALWAYS
+            for (size_t j = 0; j < p; ++j) { dst[j] = src[j]; }
+            labels[i] = dy[iRow];
+            indices[i] = rowOrder[i];
+        }
+    } );
+
+    r->impl()->setCentroids(centroidsTable);
+    r->impl()->setListOffsets(offsetsTable);
+    r->impl()->setData(dataTable);
+    r->impl()->setLabels(labelsTable);
+    r->impl()->setIndices(indicesTable);
+    return status;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status IVFKNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu>::computeCentroids(const algorithmFpType * x,
+        size_t nRows, size_t p, size_t nLists, size_t nIterations, engines::BatchBase & engine, algorithmFpType * centroids)
+{
+    const size_t sampleLimit = nLists * __IVF_KNN_TRAINING_SAMPLES_PER_LIST;
+    const size_t nSamples = (sampleLimit < nRows) ? sampleLimit : nRows;
+
+    auto engineImpl = dynamic_cast<daal::algorithms::engines::internal::BatchBaseImpl *>(&engine);
+    DAAL_CHECK(engineImpl, ErrorIncorrectEngineParameter);
+    RNGs<int, cpu> rng;
+
+    /* Partial Fisher-Yates shuffle of the observation indices. The first nSamples indices are a subset
+       of the observations without repetitions, and its first nLists observations are the initial centroids */
+    TArray<int, cpu> sampleIndices(nRows);
+    DAAL_CHECK_MALLOC(sampleIndices.get());
+    int * const sample = sampleIndices.get();
+    for (size_t i = 0; i < nRows; ++i) { sample[i] = (int)i; }
+
+    const size_t nShuffled = (nSamples < nRows) ? nSamples : nLists;
+    for (size_t i = 0; i < nShuffled; ++i)
+    {
+        int j = 0;
+        DAAL_CHECK(!rng.uniform(1, &j, engineImpl->getState(), (int)i, (int)nRows), ErrorIncorrectErrorcodeFromGenerator);
+        const int temp = sample[i]; sample[i] = sample[j]; sample[j] = temp;
+    }
+
+    TArray<algorithmFpType, cpu> samplesData(nSamples * p);
+    DAAL_CHECK_MALLOC(samplesData.get());
+    algorithmFpType * const samples = samplesData.get();
+    for (size_t i = 0; i < nSamples; ++i)
+    {
+        const algorithmFpType * const src = x + sample[i] * p;
+        for (size_t j = 0; j < p; ++j) { samples[i * p + j] = src[j]; }
+    }
+    for (size_t i = 0; i < nLists * p; ++i) { centroids[i] = samples[i]; }
+
+    TArray<int, cpu> assignments(nSamples);
+    TArray<int, cpu> order(nSamples);
+    TArray<int, cpu> offsetsArray(nLists + 1);
+    DAAL_CHECK_MALLOC(assignments.get() && order.get() && offsetsArray.get());
+    const int * const offsets = offsetsArray.get();
+    const int * const members = order.get();
+
+    Status status;
+    for (size_t iter = 0; iter < nIterations; ++iter)
+    {
+        DAAL_CHECK_STATUS(status, assignToLists(samples, nSamples, p, centroids, nLists, assignments.get()));
+        groupByLists(assignments.get(), nSamples, nLists, offsetsArray.get(), order.get());
+
+        /* The centroid of the empty list stays at its previous position */
+        daal::threader_for(nLists, nLists, [&](size_t iList)
+        {
+            const size_t first = offsets[iList];
+            const size_t last = offsets[iList + 1];
+            if (first == last) { return; }
+
+            algorithmFpType * const c = centroids + iList * p;
+            for (size_t j = 0; j < p; ++j) { c[j] = 0; }
+            for (size_t i = first; i < last; ++i)
+            {
+                const algorithmFpType * const row = samples + members[i] * p;
+              PRAGMA_IVDEP
+              PRAGMA_VECTOR_ALWAYS
+                for (size_t j = 0; j < p; ++j) { c[j] += row[j]; }
+            }
+            const algorithmFpType invCount = algorithmFpType(1) / algorithmFpType(last - first);
+            for (size_t j = 0; j < p; ++j) { c[j] *= invCount; }
+        } );
+    }
+    return status;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status IVFKNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu>::assignToLists(const algorithmFpType * rows,
+        size_t nRows, size_t p, const algorithmFpType * centroids, size_t nLists, int * assignments)
+{
+    TArray<algorithmFpType, cpu> halfNormsSq(nLists);
+    DAAL_CHECK_MALLOC(halfNormsSq.get());
+    computeHalfNormsSq<algorithmFpType, cpu>(centroids, nLists, p, halfNormsSq.get());
+    const algorithmFpType * const norms = halfNormsSq.get();
+
+    daal::tls<algorithmFpType *> scoresTLS([=]()-> algorithmFpType *
+    {
+        return service_scalable_malloc<algorithmFpType, cpu>(__IVF_KNN_BLOCK_SIZE * nLists);
+    } );
+
+    SafeStatus safeStat;
+    const size_t nBlocks = (nRows + __IVF_KNN_BLOCK_SIZE - 1) / __IVF_KNN_BLOCK_SIZE;
+    daal::threader_for(nBlocks, nBlocks, [&](size_t iBlock)
+    {
+        algorithmFpType * const scores = scoresTLS.local();
+        DAAL_CHECK_MALLOC_THR(scores);
+
+        const size_t first = iBlock * __IVF_KNN_BLOCK_SIZE;
+        const size_t blockSize = (first + __IVF_KNN_BLOCK_SIZE < nRows) ? __IVF_KNN_BLOCK_SIZE : nRows - first;
+        computeCentroidScores<algorithmFpType, cpu>(rows + first * p, blockSize, centroids, norms, nLists, p, scores);
+
+        for (size_t i = 0; i < blockSize; ++i)
+        {
+            size_t best = 0;
+            for (size_t j = 1; j < nLists; ++j)
+            {
+                if (scores[i + j * blockSize] < scores[i + best * blockSize]) { best = j; }
+            }
+            assignments[first + i] = (int)best;
+        }
+    } );
+
+    scoresTLS.reduce([](algorithmFpType * scores)-> void
+    {
+        if (scores) { service_scalable_free<algorithmFpType, cpu>(scores); }
+    } );
+    return safeStat.detach();
+}
+
+template <typename algorithmFpType, CpuType cpu>
+void IVFKNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu>::groupByLists(const int * assignments, size_t nRows,
+        size_t nLists, int * offsets, int * order)
+{
+    for (size_t i = 0; i <= nLists; ++i) { offsets[i] = 0; }
+    for (size_t i = 0; i < nRows; ++i) { ++offsets[assignments[i] + 1]; }
+    for (size_t i = 0; i < nLists; ++i) { offsets[i + 1] += offsets[i]; }
+
+    /* The observations keep their relative order within the list */
+    for (size_t i = 0; i < nRows; ++i) { order[offsets[assignments[i]]++] = (int)i; }
+    for (size_t i = nLists; i > 0; --i) { offsets[i] = offsets[i - 1]; }
+    offsets[0] = 0;
+}
+
+} // namespace internal
+} // namespace training
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
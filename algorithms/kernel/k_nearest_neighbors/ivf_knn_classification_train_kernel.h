@@ -0,0 +1,97 @@
+/* file: ivf_knn_classification_train_kernel.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Declaration of structure containing kernels for inverted file index based K-Nearest Neighbors training.
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_TRAIN_KERNEL_H__
+#define __IVF_KNN_CLASSIFICATION_TRAIN_KERNEL_H__
+
+#include "numeric_table.h"
+#include "algorithm_base_common.h"
+#include "ivf_knn_classification_training_types.h"
+#include "service_error_handling.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace training
+{
+namespace internal
+{
+
+using namespace daal::data_management;
+using namespace daal::services;
+
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+class IVFKNNClassificationTrainBatchKernel
+{};
+
+template <typename algorithmFpType, CpuType cpu>
+class IVFKNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu> : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(const NumericTable * x, const NumericTable * y, ivf_knn_classification::Model * r,
+                             const ivf_knn_classification::Parameter & par, engines::BatchBase & engine);
+
+protected:
+    services::Status computeCentroids(const algorithmFpType * x, size_t nRows, size_t p, size_t nLists, size_t nIterations,
+                                      engines::BatchBase & engine, algorithmFpType * centroids);
+
+    services::Status assignToLists(const algorithmFpType * rows, size_t nRows, size_t p, const algorithmFpType * centroids, size_t nLists,
+                                   int * assignments);
+
+    void groupByLists(const int * assignments, size_t nRows, size_t nLists, int * offsets, int * order);
+};
+
+} // namespace internal
+} // namespace training
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
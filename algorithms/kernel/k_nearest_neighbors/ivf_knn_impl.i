@@ -0,0 +1,153 @@
+/* file: ivf_knn_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Common functions for inverted file index based K-Nearest Neighbors
+//--
+*/
+
+#ifndef __IVF_KNN_IMPL_I__
+#define __IVF_KNN_IMPL_I__
+
+#include "threading.h"
+#include "service_defines.h"
+#include "service_blas.h"
+#include "service_numeric_table.h"
+#include "service_error_handling.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace internal
+{
+
+#define __IVF_KNN_BLOCK_SIZE 128                 // Number of the observations processed in one call of the matrix multiplication
+#define __IVF_KNN_TRAINING_SAMPLES_PER_LIST 256  // K-Means clustering is trained on at most that many observations per list
+
+using namespace daal::services;
+using namespace daal::services::internal;
+using namespace daal::internal;
+
+template <typename algorithmFpType>
+struct Neighbor
+{
+    algorithmFpType distance;
+    size_t index;
+};
+
+/**
+ * Inserts the point into the list of at most capacity points sorted in the ascending order of the distances,
+ * the farthest point is dropped if the list is full
+ */
+template <typename algorithmFpType, CpuType cpu>
+inline void insertNeighbor(Neighbor<algorithmFpType> * sorted, size_t & count, size_t capacity, algorithmFpType distance, size_t index)
+{
+    if (count == capacity && !(distance < sorted[count - 1].distance)) { return; }
+
+    size_t pos = (count < capacity) ? count++ : count - 1;
+    for (; pos > 0 && distance < sorted[pos - 1].distance; --pos)
+    {
+        sorted[pos] = sorted[pos - 1];
+    }
+    sorted[pos].distance = distance;
+    sorted[pos].index = index;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+void computeHalfNormsSq(const algorithmFpType * centroids, size_t nCentroids, size_t p, algorithmFpType * halfNormsSq)
+{
+    for (size_t j = 0; j < nCentroids; ++j)
+    {
+        const algorithmFpType * const c = centroids + j * p;
+        algorithmFpType sum = 0;
+      PRAGMA_IVDEP
+      PRAGMA_VECTOR_ALWAYS
+        for (size_t i = 0; i < p; ++i) { sum += c[i] * c[i]; }
+        halfNormsSq[j] = sum * 0.5;
+    }
+}
+
+/**
+ * Computes the scores of the centroids for the block of observations, scores[i + j * nRows] = ||c_j||^2 / 2 - (x_i, c_j).
+ * For an observation the scores are in the same order as the distances to the centroids
+ */
+template <typename algorithmFpType, CpuType cpu>
+void computeCentroidScores(const algorithmFpType * rows, size_t nRows, const algorithmFpType * centroids, const algorithmFpType * halfNormsSq,
+                           size_t nCentroids, size_t p, algorithmFpType * scores)
+{
+    for (size_t j = 0; j < nCentroids; ++j)
+    {
+        for (size_t i = 0; i < nRows; ++i) { scores[i + j * nRows] = halfNormsSq[j]; }
+    }
+
+    char transa = 't';
+    char transb = 'n';
+    DAAL_INT _m = nRows;
+    DAAL_INT _n = nCentroids;
+    DAAL_INT _k = p;
+    algorithmFpType alpha = -1.0;
+    DAAL_INT lda = p;
+    DAAL_INT ldy = p;
+    algorithmFpType beta = 1.0;
+    DAAL_INT ldaty = nRows;
+    Blas<algorithmFpType, cpu>::xxgemm(&transa, &transb, &_m, &_n, &_k, &alpha, rows, &lda, centroids, &ldy, &beta, scores, &ldaty);
+}
+
+template <typename algorithmFpType, CpuType cpu>
+inline algorithmFpType computeDistanceSq(const algorithmFpType * a, const algorithmFpType * b, size_t p)
+{
+    algorithmFpType sum = 0;
+  PRAGMA_IVDEP
+  PRAGMA_VECTOR_ALWAYS
+    for (size_t i = 0; i < p; ++i) { sum += (a[i] - b[i]) * (a[i] - b[i]); }
+    return sum;
+}
+
+} // namespace internal
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
@@ -110,6 +110,23 @@ services::Status Parameter::check() const
 }
 
 } // namespace interface1
+
+namespace interface2
+{
+
+services::Status Parameter::check() const
+{
+    // Inherited.
+    services::Status s = interface1::Parameter::check();
+    if(!s) { return s; }
+
+    DAAL_CHECK_EX(resultsToCompute & (computeClassLabels | computeIndicesOfNeighbors | computeDistances), services::ErrorIncorrectParameter,
+                  services::ParameterName, resultsToComputeStr());
+    DAAL_CHECK_EX(rebalanceRatio > 0, services::ErrorIncorrectParameter, services::ParameterName, rebalanceRatioStr());
+    return s;
+}
+
+} // namespace interface2
 } // namespace kdtree_knn_classification
 } // namespace algorithms
 } // namespace daal
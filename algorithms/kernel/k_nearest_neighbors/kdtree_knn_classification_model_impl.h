@@ -89,7 +89,8 @@ public:
     /**
      * Empty constructor for deserialization
      */
-    ModelImpl(size_t nFeatures = 0) : _kdTreeTable(), _rootNodeIndex(0), _lastNodeIndex(0), _data(), _labels(), _nFeatures(nFeatures) {}
+    ModelImpl(size_t nFeatures = 0) : _kdTreeTable(), _rootNodeIndex(0), _lastNodeIndex(0), _data(), _labels(), _indices(), _nFeatures(nFeatures),
+        _nIndices(0), _nRemoved(0), _pendingModel(), _removedFlags() {}
 
     /**
      * Returns the KD-tree table
@@ -154,6 +155,16 @@ public:
         arch->setSharedPtrObj(_kdTreeTable);
         arch->setSharedPtrObj(_data);
         arch->setSharedPtrObj(_labels);
+        /* Models serialized by the library of version 2018 Update 2 or older end after the training labels */
+        if (!onDeserialize || arch->getMajorVersion() > 2018 ||
+            (arch->getMajorVersion() == 2018 && (arch->getMinorVersion() > 0 || arch->getUpdateVersion() > 2)))
+        {
+            arch->setSharedPtrObj(_indices);
+            arch->set(_nIndices);
+            arch->set(_nRemoved);
+            arch->setSharedPtrObj(_pendingModel);
+            arch->setSharedPtrObj(_removedFlags);
+        }
 
         return services::Status();
     }
@@ -235,11 +246,56 @@ public:
         }
     }
 
+    /**
+     * Returns the table that maps the rows of the data stored in the model
+     * to the rows of the training data set, in the order of the KD-tree leaves
+     */
+    data_management::NumericTableConstPtr getIndices() const { return _indices; }
+
+    data_management::NumericTablePtr getIndices() { return _indices; }
+
+    void setIndices(const data_management::NumericTablePtr & value) { _indices = value; }
+
+    /**
+     * Returns the model with the KD-tree of the observations inserted by the online training since the last rebuild of this model
+     */
+    ModelConstPtr getPendingModel() const { return _pendingModel; }
+
+    ModelPtr getPendingModel() { return _pendingModel; }
+
+    void setPendingModel(const ModelPtr & value) { _pendingModel = value; }
+
+    /**
+     * Returns the table of the flags of the observations removed by the online training,
+     * with one element per index of the observation in the training data set
+     */
+    data_management::NumericTableConstPtr getRemovedFlags() const { return _removedFlags; }
+
+    data_management::NumericTablePtr getRemovedFlags() { return _removedFlags; }
+
+    void setRemovedFlags(const data_management::NumericTablePtr & value) { _removedFlags = value; }
+
+    /**
+     * Returns the number of the removed observations that are still stored in the model or in its pending model
+     */
+    size_t getNumberOfRemoved() const { return _nRemoved; }
+
+    void setNumberOfRemoved(size_t value) { _nRemoved = value; }
+
+    /**
+     * Returns the number of the indices given to the observations of the training data set,
+     * 0 if the model was not updated by the online training
+     */
+    size_t getNumberOfIndices() const { return _nIndices; }
+
+    void setNumberOfIndices(size_t value) { _nIndices = value; }
+
     /**
      *  Retrieves the number of features in the dataset was used on the training stage
      *  \return Number of features in the dataset was used on the training stage
      */
     size_t getNumberOfFeatures() const { return _nFeatures; }
+
 private:
     size_t _nFeatures;
     KDTreeTablePtr _kdTreeTable;
@@ -247,6 +303,11 @@ private:
     size_t _lastNodeIndex;
     data_management::NumericTablePtr _data;
     data_management::NumericTablePtr _labels;
+    data_management::NumericTablePtr _indices;
+    size_t _nIndices;
+    size_t _nRemoved;
+    ModelPtr _pendingModel;
+    data_management::NumericTablePtr _removedFlags;
 };
 
 } // namespace interface1
@@ -47,6 +47,7 @@
 
 #include "algorithms/k_nearest_neighbors/kdtree_knn_classification_predict_types.h"
 #include "kdtree_knn_classification_model_impl.h"
+#include "serialization_utils.h"
 #include "daal_strings.h"
 
 using namespace daal::data_management;
@@ -62,6 +63,7 @@ namespace prediction
 {
 namespace interface1
 {
+__DAAL_REGISTER_SERIALIZATION_CLASS(Result, SERIALIZATION_K_NEAREST_NEIGHBOR_PREDICTION_RESULT_ID);
 
 /** Default constructor */
 Input::Input() : classifier::prediction::Input() {}
@@ -119,6 +121,70 @@ services::Status Input::check(const daal::algorithms::Parameter *parameter, int
     const auto kdTreeNumberOfRows = m->impl()->getKDTreeTable()->getNumberOfRows();
     DAAL_CHECK(kdTreeNumberOfRows > 0, ErrorModelNotFullInitialized);
     DAAL_CHECK(m->impl()->getRootNodeIndex() < kdTreeNumberOfRows, ErrorModelNotFullInitialized);
+
+    const kdtree_knn_classification::Parameter *const par = dynamic_cast<const kdtree_knn_classification::Parameter *>(parameter);
+    if (par && (par->resultsToCompute & computeIndicesOfNeighbors))
+    {
+        /* Models trained before the indices were stored in the model cannot map the neighbors to the training data set */
+        const size_t nTrainingRows = m->impl()->getData()->getNumberOfRows();
+        s |= checkNumericTable(m->impl()->getIndices().get(), indicesStr(), 0, 0, 1, nTrainingRows);
+        if(!s) return services::Status(ErrorModelNotFullInitialized);
+    }
+    return s;
+}
+
+Result::Result() : classifier::prediction::Result(lastResultNumericTableId + 1) {}
+
+/**
+ * Returns the result of KD-tree based kNN model-based prediction
+ * \param[in] id    Identifier of the result
+ * \return          Result that corresponds to the given identifier
+ */
+data_management::NumericTablePtr Result::get(ResultNumericTableId id) const
+{
+    return services::staticPointerCast<data_management::NumericTable, data_management::SerializationIface>(Argument::get(id));
+}
+
+/**
+ * Sets the result of KD-tree based kNN model-based prediction
+ * \param[in] id      Identifier of the result
+ * \param[in] value   Result
+ */
+void Result::set(ResultNumericTableId id, const data_management::NumericTablePtr &value)
+{
+    Argument::set(id, value);
+}
+
+/**
+ * Checks the result of KD-tree based kNN model-based prediction
+ * \param[in] input   %Input object for the algorithm
+ * \param[in] par     %Parameter of the algorithm
+ * \param[in] method  Computation method
+ */
+services::Status Result::check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const
+{
+    const kdtree_knn_classification::interface1::Parameter *const algParameter =
+        static_cast<const kdtree_knn_classification::interface1::Parameter *>(par);
+    const kdtree_knn_classification::Parameter *const algParameter2 = dynamic_cast<const kdtree_knn_classification::Parameter *>(algParameter);
+    const DAAL_UINT64 resultsToCompute = algParameter2 ? algParameter2->resultsToCompute : computeClassLabels;
+
+    services::Status s;
+    if (resultsToCompute & computeClassLabels)
+    {
+        DAAL_CHECK_STATUS(s, classifier::prediction::Result::check(input, par, method));
+    }
+
+    const size_t nRows = (static_cast<const classifier::prediction::InputIface *>(input))->getNumberOfRows();
+    const size_t k = algParameter ? algParameter->k : 1;
+    const int unexpectedLayouts = (int)data_management::NumericTableIface::csrArray;
+    if (resultsToCompute & computeIndicesOfNeighbors)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(indices).get(), indicesStr(), unexpectedLayouts, 0, k, nRows));
+    }
+    if (resultsToCompute & computeDistances)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(distances).get(), distancesStr(), unexpectedLayouts, 0, k, nRows));
+    }
     return s;
 }
 
@@ -86,15 +86,21 @@ template <typename algorithmFpType, CpuType cpu>
 class KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu> : public daal::algorithms::Kernel
 {
 public:
-    services::Status compute(const NumericTable * x, const classifier::Model * m, NumericTable * y, const daal::algorithms::Parameter * par);
+    services::Status compute(const NumericTable * x, const classifier::Model * m, NumericTable * y, NumericTable * indices,
+                             NumericTable * distances, const daal::algorithms::Parameter * par);
 
 protected:
     void findNearestNeighbors(const algorithmFpType * query, Heap<GlobalNeighbors<algorithmFpType, cpu>, cpu> & heap,
                               kdtree_knn_classification::internal::Stack<SearchNode<algorithmFpType>, cpu> & stack, size_t k, algorithmFpType radius,
-                              const KDTreeTable & kdTreeTable, size_t rootTreeNodeIndex, const NumericTable & data);
+                              const KDTreeTable & kdTreeTable, size_t rootTreeNodeIndex, const NumericTable & data, size_t indexOffset,
+                              const int * modelIndices, const int * removedFlags);
 
     void predict(algorithmFpType & predictedClass, const Heap<GlobalNeighbors<algorithmFpType, cpu>, cpu> & heap, const NumericTable & labels,
-                 size_t k);
+                 const NumericTable * pendingLabels, size_t nMainRows, size_t k);
+
+    void getNeighbors(int * indices, algorithmFpType * distances, GlobalNeighbors<algorithmFpType, cpu> * sorted,
+                      const Heap<GlobalNeighbors<algorithmFpType, cpu>, cpu> & heap, const int * modelIndices, const int * pendingIndices,
+                      size_t nMainRows, size_t k);
 };
 
 } // namespace internal
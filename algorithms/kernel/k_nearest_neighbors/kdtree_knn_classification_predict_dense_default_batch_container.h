@@ -75,16 +75,24 @@ services::Status BatchContainer<algorithmFpType, method, cpu>::compute()
 {
     const classifier::prediction::Input * const input = static_cast<const classifier::prediction::Input *>(_in);
     classifier::prediction::Result * const result = static_cast<classifier::prediction::Result *>(_res);
+    const kdtree_knn_classification::interface1::Parameter * const par = static_cast<const kdtree_knn_classification::interface1::Parameter *>(_par);
+    const kdtree_knn_classification::Parameter * const par2 = dynamic_cast<const kdtree_knn_classification::Parameter *>(par);
+    const DAAL_UINT64 resultsToCompute = par2 ? par2->resultsToCompute : computeClassLabels;
 
     const data_management::NumericTableConstPtr a = input->get(classifier::prediction::data);
     const classifier::ModelConstPtr m = input->get(classifier::prediction::model);
-    const data_management::NumericTablePtr r = result->get(classifier::prediction::prediction);
 
-    const daal::algorithms::Parameter * const par = _par;
+    /* The result registered by the user can be of the base classifier type that has no neighbors */
+    const Result * const knnResult = dynamic_cast<const Result *>(result);
+    data_management::NumericTablePtr r, indices, distances;
+    if (resultsToCompute & computeClassLabels) { r = result->get(classifier::prediction::prediction); }
+    if (knnResult && (resultsToCompute & computeIndicesOfNeighbors)) { indices = knnResult->get(prediction::indices); }
+    if (knnResult && (resultsToCompute & computeDistances)) { distances = knnResult->get(prediction::distances); }
+
     daal::services::Environment::env & env = *_env;
 
     __DAAL_CALL_KERNEL(env, internal::KNNClassificationPredictKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFpType, method), \
-                       compute, a.get(), m.get(), r.get(), par);
+                       compute, a.get(), m.get(), r.get(), indices.get(), distances.get(), par);
 }
 
 } // namespace prediction
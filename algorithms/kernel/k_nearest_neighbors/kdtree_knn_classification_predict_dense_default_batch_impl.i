@@ -58,6 +58,7 @@
 #include "service_rng.h"
 #include "service_sort.h"
 #include "numeric_table.h"
+#include "service_numeric_table.h"
 #include "kdtree_knn_classification_predict_dense_default_batch.h"
 #include "kdtree_knn_classification_model_impl.h"
 #include "kdtree_knn_impl.i"
@@ -321,7 +322,8 @@ struct SearchNode
 
 template<typename algorithmFpType, CpuType cpu>
 Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
-                 compute(const NumericTable * x, const classifier::Model * m, NumericTable * y, const daal::algorithms::Parameter * par)
+                 compute(const NumericTable * x, const classifier::Model * m, NumericTable * y, NumericTable * indices,
+                         NumericTable * distances, const daal::algorithms::Parameter * par)
 {
     Status status;
 
@@ -331,7 +333,11 @@ Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
     typedef daal::data_feature_utils::internal::MaxVal<algorithmFpType> MaxVal;
     typedef daal::internal::Math<algorithmFpType, cpu> Math;
 
-    const kdtree_knn_classification::Parameter * const parameter = static_cast<const kdtree_knn_classification::Parameter *>(par);
+    const kdtree_knn_classification::interface1::Parameter * const parameter =
+        static_cast<const kdtree_knn_classification::interface1::Parameter *>(par);
+    /* Only the interface2 parameter selects the results, the class labels are computed otherwise */
+    const kdtree_knn_classification::Parameter * const parameter2 = dynamic_cast<const kdtree_knn_classification::Parameter *>(parameter);
+    const DAAL_UINT64 resultsToCompute = parameter2 ? parameter2->resultsToCompute : computeClassLabels;
     const Model * const model = static_cast<const Model *>(m);
     const auto k = parameter->k;
     const auto & kdTreeTable = *(model->impl()->getKDTreeTable());
@@ -339,6 +345,51 @@ Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
     const NumericTable & data = *(model->impl()->getData());
     const NumericTable & labels = *(model->impl()->getLabels());
 
+    /* The observations inserted by the online training since the last rebuild of the KD-tree are searched in the separate KD-tree
+       of the pending model, their positions follow the positions of the points in the model data */
+    const Model * const pendingModel = model->impl()->getPendingModel().get();
+    const size_t nMainRows = data.getNumberOfRows();
+    const KDTreeTable * const pendingKDTreeTable = pendingModel ? pendingModel->impl()->getKDTreeTable().get() : nullptr;
+    const size_t pendingRootTreeNodeIndex = pendingModel ? pendingModel->impl()->getRootNodeIndex() : 0;
+    const NumericTable * const pendingData = pendingModel ? pendingModel->impl()->getData().get() : nullptr;
+    const NumericTable * const pendingLabels = pendingModel ? pendingModel->impl()->getLabels().get() : nullptr;
+
+    const bool computeLabels = (resultsToCompute & computeClassLabels) != 0;
+    const bool computeIndices = (resultsToCompute & computeIndicesOfNeighbors) != 0;
+    const bool computeDists = (resultsToCompute & computeDistances) != 0;
+    DAAL_CHECK(!computeLabels || y, ErrorNullOutputNumericTable);
+    DAAL_CHECK(!computeIndices || indices, ErrorNullOutputNumericTable);
+    DAAL_CHECK(!computeDists || distances, ErrorNullOutputNumericTable);
+    const bool computeNeighbors = computeIndices || computeDists;
+
+    /* Positions of the points in the model data are mapped to the rows of the training data set.
+       The indices are also needed to skip the points removed by the online training */
+    const bool hasRemoved = model->impl()->getNumberOfRemoved() > 0;
+    ReadRows<int, cpu> modelIndicesRows;
+    ReadRows<int, cpu> pendingIndicesRows;
+    ReadRows<int, cpu> removedFlagsRows;
+    if (computeIndices || hasRemoved)
+    {
+        NumericTable * const modelIndicesTable = const_cast<NumericTable *>(model->impl()->getIndices().get());
+        modelIndicesRows.set(modelIndicesTable, 0, modelIndicesTable->getNumberOfRows());
+        DAAL_CHECK_BLOCK_STATUS(modelIndicesRows);
+        if (pendingModel)
+        {
+            NumericTable * const pendingIndicesTable = const_cast<NumericTable *>(pendingModel->impl()->getIndices().get());
+            pendingIndicesRows.set(pendingIndicesTable, 0, pendingIndicesTable->getNumberOfRows());
+            DAAL_CHECK_BLOCK_STATUS(pendingIndicesRows);
+        }
+    }
+    if (hasRemoved)
+    {
+        NumericTable * const removedFlagsTable = const_cast<NumericTable *>(model->impl()->getRemovedFlags().get());
+        removedFlagsRows.set(removedFlagsTable, 0, removedFlagsTable->getNumberOfRows());
+        DAAL_CHECK_BLOCK_STATUS(removedFlagsRows);
+    }
+    const int * const modelIndices = modelIndicesRows.get();
+    const int * const pendingIndices = pendingIndicesRows.get();
+    const int * const removedFlags = removedFlagsRows.get();
+
     size_t iSize = 1;
     while (iSize < k) { iSize *= 2; }
     const size_t heapSize = (iSize / 16 + 1) * 16;
@@ -351,6 +402,7 @@ Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
     {
         MaxHeap heap;
         SearchStack stack;
+        Neighbors * sorted;
     };
     daal::tls<Local *> localTLS([=, &status]()-> Local *
     {
@@ -370,6 +422,18 @@ Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
                 service_scalable_free<Local, cpu>(ptr);
                 return nullptr;
             }
+            if (computeNeighbors)
+            {
+                ptr->sorted = service_scalable_malloc<Neighbors, cpu>(heapSize);
+                if (!ptr->sorted)
+                {
+                    status.add(services::ErrorMemoryAllocationFailed);
+                    ptr->stack.clear();
+                    ptr->heap.clear();
+                    service_scalable_free<Local, cpu>(ptr);
+                    return nullptr;
+                }
+            }
         }
         else { status.add(services::ErrorMemoryAllocationFailed); }
         return ptr;
@@ -379,10 +443,13 @@ Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
 
     const auto maxThreads = threader_get_threads_number();
     const size_t xColumnCount = x->getNumberOfColumns();
-    const size_t yColumnCount = y->getNumberOfColumns();
+    const size_t yColumnCount = computeLabels ? y->getNumberOfColumns() : 0;
+    const size_t indicesColumnCount = computeIndices ? indices->getNumberOfColumns() : 0;
+    const size_t distancesColumnCount = computeDists ? distances->getNumberOfColumns() : 0;
     const auto rowsPerBlock = (xRowCount + maxThreads - 1) / maxThreads;
     const auto blockCount = (xRowCount + rowsPerBlock - 1) / rowsPerBlock;
-    daal::threader_for(blockCount, blockCount, [=, &localTLS, &kdTreeTable, &data, &labels, &rowsPerBlock, &k](int iBlock)
+    SafeStatus safeStat;
+    daal::threader_for(blockCount, blockCount, [=, &localTLS, &kdTreeTable, &data, &labels, &rowsPerBlock, &k, &safeStat](int iBlock)
     {
         Local * const local = localTLS.local();
         if (local)
@@ -394,15 +461,48 @@ Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
             data_management::BlockDescriptor<algorithmFpType> xBD;
             const_cast<NumericTable &>(*x).getBlockOfRows(first, last - first, readOnly, xBD);
             const algorithmFpType * const dx = xBD.getBlockPtr();
-            data_management::BlockDescriptor<algorithmFpType> yBD;
-            y->getBlockOfRows(first, last - first, writeOnly, yBD);
-            auto * const dy = yBD.getBlockPtr();
+            WriteOnlyRows<algorithmFpType, cpu> yRows;
+            WriteOnlyRows<int, cpu> indicesRows;
+            WriteOnlyRows<algorithmFpType, cpu> distancesRows;
+            if (computeLabels)
+            {
+                yRows.set(y, first, last - first);
+                DAAL_CHECK_BLOCK_STATUS_THR(yRows);
+            }
+            if (computeIndices)
+            {
+                indicesRows.set(indices, first, last - first);
+                DAAL_CHECK_BLOCK_STATUS_THR(indicesRows);
+            }
+            if (computeDists)
+            {
+                distancesRows.set(distances, first, last - first);
+                DAAL_CHECK_BLOCK_STATUS_THR(distancesRows);
+            }
+            algorithmFpType * const dy = yRows.get();
+            int * const dIndices = indicesRows.get();
+            algorithmFpType * const dDistances = distancesRows.get();
             for (size_t i = 0; i < last - first; ++i)
             {
-                findNearestNeighbors(&dx[i * xColumnCount], local->heap, local->stack, k, radius, kdTreeTable, rootTreeNodeIndex, data);
-                predict(dy[i * yColumnCount], local->heap, labels, k);
+                local->heap.reset();
+                findNearestNeighbors(&dx[i * xColumnCount], local->heap, local->stack, k, radius, kdTreeTable, rootTreeNodeIndex, data,
+                                     0, modelIndices, removedFlags);
+                if (pendingModel)
+                {
+                    findNearestNeighbors(&dx[i * xColumnCount], local->heap, local->stack, k, radius, *pendingKDTreeTable,
+                                         pendingRootTreeNodeIndex, *pendingData, nMainRows, pendingIndices, removedFlags);
+                }
+                if (computeLabels)
+                {
+                    predict(dy[i * yColumnCount], local->heap, labels, pendingLabels, nMainRows, k);
+                }
+                if (computeNeighbors)
+                {
+                    getNeighbors(computeIndices ? &dIndices[i * indicesColumnCount] : nullptr,
+                                 computeDists ? &dDistances[i * distancesColumnCount] : nullptr,
+                                 local->sorted, local->heap, modelIndices, pendingIndices, nMainRows, k);
+                }
             }
-            y->releaseBlockOfRows(yBD);
             const_cast<NumericTable &>(*x).releaseBlockOfRows(xBD);
         }
     } );
@@ -413,9 +513,11 @@ Status KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
         {
             ptr->stack.clear();
             ptr->heap.clear();
+            if (ptr->sorted) { service_scalable_free<Neighbors, cpu>(ptr->sorted); }
             service_scalable_free<Local, cpu>(ptr);
         }
     } );
+    status |= safeStat.detach();
     return status;
 }
 
@@ -423,9 +525,11 @@ template<typename algorithmFpType, CpuType cpu>
 void KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
     findNearestNeighbors(const algorithmFpType * query, Heap<GlobalNeighbors<algorithmFpType, cpu>, cpu> & heap,
                          kdtree_knn_classification::internal::Stack<SearchNode<algorithmFpType>, cpu> & stack, size_t k, algorithmFpType radius,
-                         const KDTreeTable & kdTreeTable, size_t rootTreeNodeIndex, const NumericTable & data)
+                         const KDTreeTable & kdTreeTable, size_t rootTreeNodeIndex, const NumericTable & data, size_t indexOffset,
+                         const int * modelIndices, const int * removedFlags)
 {
-    heap.reset();
+    /* The heap may already hold the neighbors found in another KD-tree */
+    if (heap.size() == k) { radius = heap.getMax()->distance; }
     stack.reset();
     GlobalNeighbors<algorithmFpType, cpu> curNeighbor;
     size_t i, j;
@@ -488,10 +592,10 @@ void KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
 
             for (i = start; i < end; ++i)
             {
-                if (distance[i - start] <= radius)
+                if (distance[i - start] <= radius && !(removedFlags && removedFlags[modelIndices[i]]))
                 {
                     curNeighbor.distance = distance[i - start];
-                    curNeighbor.index = i;
+                    curNeighbor.index = indexOffset + i;
                     if (heap.size() < k)
                     {
                         heap.push(curNeighbor, k);
@@ -545,7 +649,39 @@ void KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
 
 template<typename algorithmFpType, CpuType cpu>
 void KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
-    predict(algorithmFpType & predictedClass, const Heap<GlobalNeighbors<algorithmFpType, cpu>, cpu> & heap, const NumericTable & labels, size_t k)
+    getNeighbors(int * indices, algorithmFpType * distances, GlobalNeighbors<algorithmFpType, cpu> * sorted,
+                 const Heap<GlobalNeighbors<algorithmFpType, cpu>, cpu> & heap, const int * modelIndices, const int * pendingIndices,
+                 size_t nMainRows, size_t k)
+{
+    const size_t heapSize = heap.size();
+
+    /* The heap is sorted on a copy in the ascending order of the distances */
+    for (size_t i = 0; i < heapSize; ++i) { sorted[i] = heap[i]; }
+    makeMaxHeap<cpu>(sorted, sorted + heapSize);
+    for (size_t i = heapSize; i > 1; --i) { popMaxHeap<cpu>(sorted, sorted + i); }
+
+    for (size_t i = 0; i < heapSize; ++i)
+    {
+        if (indices)
+        {
+            const size_t index = sorted[i].index;
+            indices[i] = (index < nMainRows) ? modelIndices[index] : pendingIndices[index - nMainRows];
+        }
+        if (distances) { distances[i] = daal::internal::Math<algorithmFpType, cpu>::sSqrt(sorted[i].distance); }
+    }
+
+    /* Training data set has less than k points */
+    for (size_t i = heapSize; i < k; ++i)
+    {
+        if (indices) { indices[i] = -1; }
+        if (distances) { distances[i] = daal::data_feature_utils::internal::MaxVal<algorithmFpType>::get(); }
+    }
+}
+
+template<typename algorithmFpType, CpuType cpu>
+void KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
+    predict(algorithmFpType & predictedClass, const Heap<GlobalNeighbors<algorithmFpType, cpu>, cpu> & heap, const NumericTable & labels,
+            const NumericTable * pendingLabels, size_t nMainRows, size_t k)
 {
     const size_t heapSize = heap.size();
     if (heapSize < 1) { return; }
@@ -562,9 +698,11 @@ void KNNClassificationPredictKernel<algorithmFpType, defaultDense, cpu>::
     algorithmFpType * const classes = static_cast<algorithmFpType *>(daal_malloc(heapSize * sizeof(*classes)));
     for (size_t i = 0; i < heapSize; ++i)
     {
-        const_cast<NumericTable &>(labels).getBlockOfColumnValues(0, heap[i].index, 1, readOnly, labelBD);
+        const size_t index = heap[i].index;
+        NumericTable & neighborLabels = const_cast<NumericTable &>((index < nMainRows) ? labels : *pendingLabels);
+        neighborLabels.getBlockOfColumnValues(0, (index < nMainRows) ? index : index - nMainRows, 1, readOnly, labelBD);
         classes[i] = *(labelBD.getBlockPtr());
-        const_cast<NumericTable &>(labels).releaseBlockOfColumnValues(labelBD);
+        neighborLabels.releaseBlockOfColumnValues(labelBD);
     }
     daal::algorithms::internal::qSort<algorithmFpType, cpu>(heapSize, classes);
     algorithmFpType currentClass = classes[0];
@@ -52,6 +52,7 @@
 #include "data_management/data/numeric_table.h"
 #include "services/daal_shared_ptr.h"
 #include "kdtree_knn_classification_training_batch.h"
+#include "kdtree_knn_classification_training_online.h"
 #include "kdtree_knn_classification_train_kernel.h"
 #include "kdtree_knn_classification_model_impl.h"
 
@@ -95,7 +96,7 @@ services::Status BatchContainer<algorithmFpType, method, cpu>::compute()
 
     const kdtree_knn_classification::ModelPtr r = result->get(classifier::training::model);
 
-    const kdtree_knn_classification::Parameter * const par = static_cast<kdtree_knn_classification::Parameter *>(_par);
+    const kdtree_knn_classification::interface1::Parameter * const par = static_cast<kdtree_knn_classification::interface1::Parameter *>(_par);
 
     daal::services::Environment::env & env = *_env;
 
@@ -107,6 +108,59 @@ services::Status BatchContainer<algorithmFpType, method, cpu>::compute()
                        compute, r->impl()->getData().get(), r->impl()->getLabels().get(), r.get(), *par, *par->engine);
 }
 
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+OnlineContainer<algorithmFpType, method, cpu>::OnlineContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::KNNClassificationTrainOnlineKernel, algorithmFpType, method);
+}
+
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+OnlineContainer<algorithmFpType, method, cpu>::~OnlineContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+/**
+ *  \brief Choose appropriate kernel to insert the observations into K-Nearest Neighbors model and remove them from it.
+ */
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFpType, method, cpu>::compute()
+{
+    const OnlineInput * const input = static_cast<OnlineInput *>(_in);
+    PartialResult * const partialResult = static_cast<PartialResult *>(_pres);
+
+    const NumericTable * const x = input->get(classifier::training::data).get();
+    const NumericTable * const y = input->get(classifier::training::labels).get();
+    const NumericTable * const removed = input->get(removedIndices).get();
+
+    const kdtree_knn_classification::ModelPtr r = partialResult->get(classifier::training::partialModel);
+
+    const kdtree_knn_classification::Parameter * const par = static_cast<kdtree_knn_classification::Parameter *>(_par);
+
+    daal::services::Environment::env & env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::KNNClassificationTrainOnlineKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFpType, method),    \
+                       compute, x, y, removed, r.get(), *par, *par->engine);
+}
+
+/**
+ *  \brief Choose appropriate kernel to rebuild the KD-tree of K-Nearest Neighbors model with all the updates.
+ */
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFpType, method, cpu>::finalizeCompute()
+{
+    Result * const result = static_cast<Result *>(_res);
+
+    const kdtree_knn_classification::ModelPtr r = result->get(classifier::training::model);
+
+    const kdtree_knn_classification::Parameter * const par = static_cast<kdtree_knn_classification::Parameter *>(_par);
+
+    daal::services::Environment::env & env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::KNNClassificationTrainOnlineKernel, __DAAL_KERNEL_ARGUMENTS(algorithmFpType, method),    \
+                       finalizeCompute, r.get(), *par, *par->engine);
+}
+
 } // namespace training
 } // namespace kdtree_knn_classification
 } // namespace algorithms
@@ -179,7 +179,7 @@ int compareIndexValuePair(const void * p1, const void * p2)
 
 template <typename algorithmFpType, CpuType cpu>
 Status KNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu>::
-                 compute(NumericTable * x, NumericTable * y, kdtree_knn_classification::Model * r, const kdtree_knn_classification::Parameter& par, engines::BatchBase &engine)
+                 compute(NumericTable * x, NumericTable * y, kdtree_knn_classification::Model * r, const kdtree_knn_classification::interface1::Parameter& par, engines::BatchBase &engine)
 {
     Status status;
 
@@ -209,6 +209,16 @@ Status KNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense
     DAAL_CHECK_STATUS(status, rearrangePoints(*x, indexes));
     DAAL_CHECK_STATUS(status, rearrangePoints(*y, indexes));
 
+    /* Keeps the positions of the rearranged points in the training data set to report the indices of the neighbors */
+    services::SharedPtr<HomogenNumericTable<int> > indexTable = HomogenNumericTable<int>::create(1, xRowCount, NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    int * const dIndexes = indexTable->getArray();
+    for (size_t i = 0; i < xRowCount; ++i)
+    {
+        dIndexes[i] = static_cast<int>(indexes[i]);
+    }
+    r->impl()->setIndices(indexTable);
+
     daal_free(bboxQ);
     daal_free(indexes);
     return status;
@@ -997,7 +1007,13 @@ Status KNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense
             return;
         }
 
-        safeStat |= engineLocal->leapfrog(iBlock, blockCount);
+        services::Status s = engineLocal->leapfrog(iBlock, blockCount);
+        if (!s)
+        {
+            /* The engine does not support leapfrog, so the block uses its own part of the engine sequence */
+            s = engineLocal->skipAheadToBlock(iBlock, blockCount);
+        }
+        safeStat |= s;
 
         Local * const local = localTLS.local();
         if (local)
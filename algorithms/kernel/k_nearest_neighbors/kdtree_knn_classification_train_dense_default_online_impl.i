@@ -0,0 +1,394 @@
+/* file: kdtree_knn_classification_train_dense_default_online_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of K-Nearest Neighbors K-D Tree (kDTreeDense) training in the online processing mode.
+//--
+*/
+
+#ifndef __KDTREE_KNN_CLASSIFICATION_TRAIN_DENSE_DEFAULT_ONLINE_IMPL_I__
+#define __KDTREE_KNN_CLASSIFICATION_TRAIN_DENSE_DEFAULT_ONLINE_IMPL_I__
+
+#include "kdtree_knn_classification_train_dense_default_impl.i"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace kdtree_knn_classification
+{
+namespace training
+{
+namespace internal
+{
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    compute(const NumericTable * x, const NumericTable * y, const NumericTable * removed, kdtree_knn_classification::Model * r,
+            const kdtree_knn_classification::Parameter & par, engines::BatchBase & engine)
+{
+    Status status;
+    DAAL_CHECK_STATUS(status, initializeOnlineState(*r));
+
+    Model::ModelImpl & impl = *r->impl();
+    const size_t nOldIndices = impl.getNumberOfIndices();
+    const size_t nNewRows = x ? x->getNumberOfRows() : 0;
+    const size_t nIndices = nOldIndices + nNewRows;
+    DAAL_CHECK(nIndices > 0, ErrorIncorrectIndex);
+
+    /* The table of the flags is reallocated only when its capacity is exhausted */
+    NumericTablePtr flagsTable = impl.getRemovedFlags();
+    const bool growFlags = !flagsTable || flagsTable->getNumberOfRows() < nIndices;
+    if (growFlags)
+    {
+        DAAL_CHECK_STATUS(status, growRemovedFlags(flagsTable, nOldIndices, nIndices));
+    }
+    WriteRows<int, cpu> flagsRows(flagsTable.get(), 0, nIndices);
+    DAAL_CHECK_BLOCK_STATUS(flagsRows);
+    int * const flags = flagsRows.get();
+
+    /* Only the flags of the observations removed by this call are set in place. They are cleared back if the update fails */
+    TArray<int, cpu> changed(removed ? removed->getNumberOfRows() : 0);
+    DAAL_CHECK(!removed || changed.get(), ErrorMemoryAllocationFailed);
+    size_t nChanged = 0;
+    if (removed)
+    {
+        status = markRemoved(*removed, flags, nOldIndices, changed.get(), nChanged);
+    }
+
+    size_t nRemoved = impl.getNumberOfRemoved() + nChanged;
+    if (status)
+    {
+        status = update(*r, x, y, nOldIndices, flags, par, engine, nRemoved);
+    }
+    if (!status)
+    {
+        for (size_t i = 0; i < nChanged; ++i) { flags[changed[i]] = 0; }
+        return status;
+    }
+
+    if (growFlags) { impl.setRemovedFlags(flagsTable); }
+    impl.setNumberOfRemoved(nRemoved);
+    impl.setNumberOfIndices(nIndices);
+    return status;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    finalizeCompute(kdtree_knn_classification::Model * r, const kdtree_knn_classification::Parameter & par, engines::BatchBase & engine)
+{
+    Status status;
+    DAAL_CHECK_STATUS(status, initializeOnlineState(*r));
+
+    Model::ModelImpl & impl = *r->impl();
+    const ModelPtr pending = impl.getPendingModel();
+    if (!pending && !impl.getNumberOfRemoved()) { return status; }
+
+    const NumericTablePtr flagsTable = impl.getRemovedFlags();
+    ReadRows<int, cpu> flagsRows(flagsTable.get(), 0, flagsTable ? flagsTable->getNumberOfRows() : 0);
+    DAAL_CHECK_BLOCK_STATUS(flagsRows);
+
+    ModelPtr built = Model::create(r->getNumberOfFeatures(), &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    size_t nStored = 0;
+    DAAL_CHECK_STATUS(status, rebuild(*built, r, pending.get(), nullptr, nullptr, 0, flagsRows.get(), par, engine, nStored));
+
+    assignKDTree(*r, *built);
+    impl.setPendingModel(ModelPtr());
+    impl.setNumberOfRemoved(0);
+    return status;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    update(kdtree_knn_classification::Model & r, const NumericTable * x, const NumericTable * y, size_t firstId, const int * flags,
+           const kdtree_knn_classification::Parameter & par, engines::BatchBase & engine, size_t & nRemoved)
+{
+    Model::ModelImpl & impl = *r.impl();
+    const size_t nNewRows = x ? x->getNumberOfRows() : 0;
+    const NumericTablePtr data = impl.getData();
+    const size_t nMainRows = data ? data->getNumberOfRows() : 0;
+    const ModelPtr pending = impl.getPendingModel();
+    const size_t nPendingRows = pending ? pending->impl()->getData()->getNumberOfRows() : 0;
+    DAAL_CHECK(nMainRows + nPendingRows + nNewRows > nRemoved, ErrorIncorrectNumberOfObservations);
+
+    /* The KD-tree of the model is rebuilt when the observations not reflected in it make up a large enough part of the model.
+       Otherwise only the smaller KD-tree of the pending observations is rebuilt */
+    const bool rebuildMain = !nMainRows || (algorithmFpType)(nPendingRows + nNewRows + nRemoved) > (algorithmFpType)(par.rebalanceRatio * nMainRows);
+    if (!rebuildMain && !nNewRows) { return Status(); }
+
+    /* The KD-tree is built in a separate model, so the updated model is not changed if the build fails */
+    Status status;
+    ModelPtr built = Model::create(r.getNumberOfFeatures(), &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    size_t nStored = 0;
+    DAAL_CHECK_STATUS(status, rebuild(*built, rebuildMain ? &r : nullptr, pending.get(), x, y, firstId, flags, par, engine, nStored));
+
+    if (rebuildMain)
+    {
+        assignKDTree(r, *built);
+        impl.setPendingModel(ModelPtr());
+        nRemoved = 0;
+    }
+    else
+    {
+        /* The removed pending observations are not copied to the new KD-tree */
+        nRemoved -= nPendingRows + nNewRows - nStored;
+        impl.setPendingModel(built);
+    }
+    return status;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+void KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    assignKDTree(kdtree_knn_classification::Model & r, kdtree_knn_classification::Model & built)
+{
+    Model::ModelImpl & impl = *r.impl();
+    Model::ModelImpl & builtImpl = *built.impl();
+    impl.setKDTreeTable(builtImpl.getKDTreeTable());
+    impl.setRootNodeIndex(builtImpl.getRootNodeIndex());
+    impl.setLastNodeIndex(builtImpl.getLastNodeIndex());
+    impl.template setData<algorithmFpType>(builtImpl.getData(), false);
+    impl.template setLabels<algorithmFpType>(builtImpl.getLabels(), false);
+    impl.setIndices(builtImpl.getIndices());
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    growRemovedFlags(NumericTablePtr & flagsTable, size_t nOldIndices, size_t nIndices)
+{
+    /* The capacity is doubled, so the flags of an observation are copied a constant number of times on average */
+    const size_t oldCapacity = flagsTable ? flagsTable->getNumberOfRows() : 0;
+    const size_t capacity = (2 * oldCapacity > nIndices) ? 2 * oldCapacity : nIndices;
+
+    Status status;
+    services::SharedPtr<HomogenNumericTable<int> > grownTable = HomogenNumericTable<int>::create(1, capacity, NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    int * const flags = grownTable->getArray();
+    for (size_t i = 0; i < capacity; ++i) { flags[i] = 0; }
+
+    if (flagsTable && nOldIndices)
+    {
+        ReadRows<int, cpu> oldFlagsRows(flagsTable.get(), 0, nOldIndices);
+        DAAL_CHECK_BLOCK_STATUS(oldFlagsRows);
+        const int * const oldFlags = oldFlagsRows.get();
+        for (size_t i = 0; i < nOldIndices; ++i) { flags[i] = oldFlags[i]; }
+    }
+    flagsTable = grownTable;
+    return status;
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::initializeOnlineState(kdtree_knn_classification::Model & r)
+{
+    Model::ModelImpl & impl = *r.impl();
+    const NumericTablePtr data = impl.getData();
+    if (impl.getNumberOfIndices() || !data || !data->getNumberOfRows()) { return Status(); }
+
+    /* The model trained in the batch processing mode gets the observations of its training data set */
+    const NumericTablePtr indices = impl.getIndices();
+    const size_t nRows = indices->getNumberOfRows();
+    ReadRows<int, cpu> indicesRows(indices.get(), 0, nRows);
+    DAAL_CHECK_BLOCK_STATUS(indicesRows);
+    const int * const dIndices = indicesRows.get();
+
+    int maxIndex = -1;
+    for (size_t i = 0; i < nRows; ++i)
+    {
+        DAAL_CHECK(dIndices[i] >= 0, ErrorIncorrectIndex);
+        if (dIndices[i] > maxIndex) { maxIndex = dIndices[i]; }
+    }
+    impl.setNumberOfIndices(static_cast<size_t>(maxIndex) + 1);
+    impl.setNumberOfRemoved(0);
+    return Status();
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    markRemoved(const NumericTable & removed, int * flags, size_t nIndices, int * changed, size_t & nChanged)
+{
+    const size_t nRows = removed.getNumberOfRows();
+    ReadRows<int, cpu> removedRows(const_cast<NumericTable &>(removed), 0, nRows);
+    DAAL_CHECK_BLOCK_STATUS(removedRows);
+    const int * const dRemoved = removedRows.get();
+
+    for (size_t i = 0; i < nRows; ++i)
+    {
+        const int index = dRemoved[i];
+        DAAL_CHECK(index >= 0 && static_cast<size_t>(index) < nIndices, ErrorIncorrectIndex);
+        if (!flags[index])
+        {
+            flags[index] = 1;
+            changed[nChanged++] = index;
+        }
+    }
+    return Status();
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    countLiveRows(const kdtree_knn_classification::Model * model, const int * flags, size_t & nRows)
+{
+    if (!model || !model->impl()->getData()) { return Status(); }
+
+    NumericTable * const indices = const_cast<NumericTable *>(model->impl()->getIndices().get());
+    const size_t nModelRows = indices->getNumberOfRows();
+    ReadRows<int, cpu> indicesRows(indices, 0, nModelRows);
+    DAAL_CHECK_BLOCK_STATUS(indicesRows);
+    const int * const dIndices = indicesRows.get();
+
+    for (size_t i = 0; i < nModelRows; ++i)
+    {
+        if (!(flags && flags[dIndices[i]])) { ++nRows; }
+    }
+    return Status();
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    copyLiveRows(const kdtree_knn_classification::Model * model, const int * flags, size_t nFeatures, algorithmFpType * dx,
+                 algorithmFpType * dy, int * ids, size_t & pos)
+{
+    if (!model || !model->impl()->getData()) { return Status(); }
+
+    NumericTable * const data = const_cast<NumericTable *>(model->impl()->getData().get());
+    NumericTable * const labels = const_cast<NumericTable *>(model->impl()->getLabels().get());
+    NumericTable * const indices = const_cast<NumericTable *>(model->impl()->getIndices().get());
+    const size_t nModelRows = data->getNumberOfRows();
+
+    ReadRows<algorithmFpType, cpu> dataRows(data, 0, nModelRows);
+    DAAL_CHECK_BLOCK_STATUS(dataRows);
+    ReadRows<algorithmFpType, cpu> labelsRows(labels, 0, nModelRows);
+    DAAL_CHECK_BLOCK_STATUS(labelsRows);
+    ReadRows<int, cpu> indicesRows(indices, 0, nModelRows);
+    DAAL_CHECK_BLOCK_STATUS(indicesRows);
+    const algorithmFpType * const mx = dataRows.get();
+    const algorithmFpType * const my = labelsRows.get();
+    const int * const dIndices = indicesRows.get();
+
+    for (size_t i = 0; i < nModelRows; ++i)
+    {
+        if (flags && flags[dIndices[i]]) { continue; }
+        for (size_t j = 0; j < nFeatures; ++j) { dx[pos * nFeatures + j] = mx[i * nFeatures + j]; }
+        dy[pos] = my[i];
+        ids[pos] = dIndices[i];
+        ++pos;
+    }
+    return Status();
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    copyNewRows(const NumericTable * x, const NumericTable * y, size_t firstId, size_t nFeatures, algorithmFpType * dx,
+                algorithmFpType * dy, int * ids, size_t & pos)
+{
+    if (!x) { return Status(); }
+
+    const size_t nRows = x->getNumberOfRows();
+    ReadRows<algorithmFpType, cpu> xRows(const_cast<NumericTable *>(x), 0, nRows);
+    DAAL_CHECK_BLOCK_STATUS(xRows);
+    ReadRows<algorithmFpType, cpu> yRows(const_cast<NumericTable *>(y), 0, nRows);
+    DAAL_CHECK_BLOCK_STATUS(yRows);
+    const algorithmFpType * const nx = xRows.get();
+    const algorithmFpType * const ny = yRows.get();
+
+    for (size_t i = 0; i < nRows; ++i)
+    {
+        for (size_t j = 0; j < nFeatures; ++j) { dx[pos * nFeatures + j] = nx[i * nFeatures + j]; }
+        dy[pos] = ny[i];
+        ids[pos] = static_cast<int>(firstId + i);
+        ++pos;
+    }
+    return Status();
+}
+
+template <typename algorithmFpType, CpuType cpu>
+Status KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu>::
+    rebuild(kdtree_knn_classification::Model & target, const kdtree_knn_classification::Model * main,
+            const kdtree_knn_classification::Model * pending, const NumericTable * x, const NumericTable * y, size_t firstId,
+            const int * flags, const kdtree_knn_classification::Parameter & par, engines::BatchBase & engine, size_t & nStored)
+{
+    Status status;
+    const size_t nFeatures = x ? x->getNumberOfColumns() : target.getNumberOfFeatures();
+
+    nStored = x ? x->getNumberOfRows() : 0;
+    DAAL_CHECK_STATUS(status, countLiveRows(main, flags, nStored));
+    DAAL_CHECK_STATUS(status, countLiveRows(pending, flags, nStored));
+    DAAL_CHECK(nStored, ErrorIncorrectNumberOfObservations);
+
+    services::SharedPtr<HomogenNumericTable<algorithmFpType> > dataTable = HomogenNumericTable<algorithmFpType>::create(nFeatures, nStored,
+                                                                                                                     NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    services::SharedPtr<HomogenNumericTable<algorithmFpType> > labelsTable = HomogenNumericTable<algorithmFpType>::create(1, nStored,
+                                                                                                                       NumericTable::doAllocate, &status);
+    DAAL_CHECK_STATUS_VAR(status);
+    TArray<int, cpu> ids(nStored);
+    DAAL_CHECK_MALLOC(ids.get());
+
+    algorithmFpType * const dx = dataTable->getArray();
+    algorithmFpType * const dy = labelsTable->getArray();
+    size_t pos = 0;
+    DAAL_CHECK_STATUS(status, copyLiveRows(main, flags, nFeatures, dx, dy, ids.get(), pos));
+    DAAL_CHECK_STATUS(status, copyLiveRows(pending, flags, nFeatures, dx, dy, ids.get(), pos));
+    DAAL_CHECK_STATUS(status, copyNewRows(x, y, firstId, nFeatures, dx, dy, ids.get(), pos));
+
+    /* The batch training rearranges the copied observations and stores their positions in the copy as the indices */
+    target.impl()->setData<algorithmFpType>(dataTable, false);
+    target.impl()->setLabels<algorithmFpType>(labelsTable, false);
+    DAAL_CHECK_STATUS(status, (KNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu>().compute(dataTable.get(),
+                               labelsTable.get(), &target, par, engine)));
+
+    NumericTable * const indices = target.impl()->getIndices().get();
+    WriteRows<int, cpu> indicesRows(indices, 0, nStored);
+    DAAL_CHECK_BLOCK_STATUS(indicesRows);
+    int * const dIndices = indicesRows.get();
+    for (size_t i = 0; i < nStored; ++i) { dIndices[i] = ids[dIndices[i]]; }
+    return status;
+}
+
+} // namespace internal
+} // namespace training
+} // namespace kdtree_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
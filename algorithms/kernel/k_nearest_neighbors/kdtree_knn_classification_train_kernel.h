@@ -88,7 +88,7 @@ template <typename algorithmFpType, CpuType cpu>
 class KNNClassificationTrainBatchKernel<algorithmFpType, training::defaultDense, cpu> : public daal::algorithms::Kernel
 {
 public:
-    services::Status compute(NumericTable * x, NumericTable * y, kdtree_knn_classification::Model * r, const kdtree_knn_classification::Parameter& par, engines::BatchBase &engine);
+    services::Status compute(NumericTable * x, NumericTable * y, kdtree_knn_classification::Model * r, const kdtree_knn_classification::interface1::Parameter& par, engines::BatchBase &engine);
 
 protected:
     Status buildFirstPartOfKDTree(Queue<BuildNode, cpu> & q, BoundingBox<algorithmFpType> * & bboxQ, const NumericTable & x,
@@ -128,6 +128,45 @@ protected:
                                     IndexValuePair<algorithmFpType, cpu> * outValues);
 };
 
+template <typename algorithmFpType, training::Method method, CpuType cpu>
+class KNNClassificationTrainOnlineKernel
+{};
+
+template <typename algorithmFpType, CpuType cpu>
+class KNNClassificationTrainOnlineKernel<algorithmFpType, training::defaultDense, cpu> : public daal::algorithms::Kernel
+{
+public:
+    services::Status compute(const NumericTable * x, const NumericTable * y, const NumericTable * removed, kdtree_knn_classification::Model * r,
+                             const kdtree_knn_classification::Parameter & par, engines::BatchBase & engine);
+
+    services::Status finalizeCompute(kdtree_knn_classification::Model * r, const kdtree_knn_classification::Parameter & par,
+                                     engines::BatchBase & engine);
+
+protected:
+    Status initializeOnlineState(kdtree_knn_classification::Model & r);
+
+    Status update(kdtree_knn_classification::Model & r, const NumericTable * x, const NumericTable * y, size_t firstId, const int * flags,
+                  const kdtree_knn_classification::Parameter & par, engines::BatchBase & engine, size_t & nRemoved);
+
+    void assignKDTree(kdtree_knn_classification::Model & r, kdtree_knn_classification::Model & built);
+
+    Status growRemovedFlags(NumericTablePtr & flagsTable, size_t nOldIndices, size_t nIndices);
+
+    Status markRemoved(const NumericTable & removed, int * flags, size_t nIndices, int * changed, size_t & nChanged);
+
+    Status countLiveRows(const kdtree_knn_classification::Model * model, const int * flags, size_t & nRows);
+
+    Status copyLiveRows(const kdtree_knn_classification::Model * model, const int * flags, size_t nFeatures, algorithmFpType * dx,
+                        algorithmFpType * dy, int * ids, size_t & pos);
+
+    Status copyNewRows(const NumericTable * x, const NumericTable * y, size_t firstId, size_t nFeatures, algorithmFpType * dx,
+                       algorithmFpType * dy, int * ids, size_t & pos);
+
+    Status rebuild(kdtree_knn_classification::Model & target, const kdtree_knn_classification::Model * main,
+                   const kdtree_knn_classification::Model * pending, const NumericTable * x, const NumericTable * y, size_t firstId,
+                   const int * flags, const kdtree_knn_classification::Parameter & par, engines::BatchBase & engine, size_t & nStored);
+};
+
 } // namespace internal
 } // namespace training
 } // namespace kdtree_knn_classification
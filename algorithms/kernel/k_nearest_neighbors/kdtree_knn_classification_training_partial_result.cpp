@@ -0,0 +1,163 @@
+/* file: kdtree_knn_classification_training_partial_result.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the input and the partial result of K-Nearest Neighbors (kNN) training in the online processing mode
+//--
+*/
+
+#include "kdtree_knn_classification_model_impl.h"
+#include "algorithms/k_nearest_neighbors/kdtree_knn_classification_training_types.h"
+#include "serialization_utils.h"
+#include "daal_strings.h"
+
+using namespace daal::data_management;
+using namespace daal::services;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace kdtree_knn_classification
+{
+namespace training
+{
+namespace interface1
+{
+__DAAL_REGISTER_SERIALIZATION_CLASS(PartialResult, SERIALIZATION_K_NEAREST_NEIGHBOR_TRAINING_PARTIAL_RESULT_ID);
+
+OnlineInput::OnlineInput() : classifier::training::Input(lastOnlineInputId + 1) {}
+
+/**
+ * Returns the input object of KD-tree based kNN model-based training in the online processing mode
+ * \param[in] id    Identifier of the input object, \ref OnlineInputId
+ * \return          %Input object that corresponds to the given identifier
+ */
+NumericTablePtr OnlineInput::get(OnlineInputId id) const
+{
+    return services::staticPointerCast<NumericTable, SerializationIface>(Argument::get(id));
+}
+
+/**
+ * Sets the input object of KD-tree based kNN model-based training in the online processing mode
+ * \param[in] id    Identifier of the input object, \ref OnlineInputId
+ * \param[in] value Pointer to the input object
+ */
+void OnlineInput::set(OnlineInputId id, const NumericTablePtr & value)
+{
+    Argument::set(id, value);
+}
+
+size_t OnlineInput::getNumberOfFeatures() const
+{
+    const NumericTablePtr dataTable = get(classifier::training::data);
+    return dataTable ? dataTable->getNumberOfColumns() : 0;
+}
+
+services::Status OnlineInput::check(const daal::algorithms::Parameter * parameter, int method) const
+{
+    services::Status s;
+    if (parameter != NULL)
+    {
+        const Parameter * const algParameter = static_cast<const Parameter *>(parameter);
+        DAAL_CHECK_EX(algParameter->nClasses > 1, ErrorIncorrectParameter, ParameterName, nClassesStr());
+    }
+
+    const NumericTablePtr dataTable = get(classifier::training::data);
+    const NumericTablePtr removedTable = get(removedIndices);
+    DAAL_CHECK(dataTable || removedTable, ErrorNullInputNumericTable);
+
+    if (dataTable)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(dataTable.get(), dataStr()));
+        DAAL_CHECK_STATUS(s, checkNumericTable(get(classifier::training::labels).get(), labelsStr(), 0, 0, 1, dataTable->getNumberOfRows()));
+    }
+    if (removedTable)
+    {
+        DAAL_CHECK_STATUS(s, checkNumericTable(removedTable.get(), removedIndicesStr(), 0, 0, 1));
+    }
+    return s;
+}
+
+PartialResult::PartialResult() : classifier::training::PartialResult() {}
+
+/**
+ * Returns the model updated with KD-tree based kNN model-based training in the online processing mode
+ * \param[in] id    Identifier of the partial result, \ref classifier::training::PartialResultId
+ * \return          Model that corresponds to the given identifier
+ */
+kdtree_knn_classification::ModelPtr PartialResult::get(classifier::training::PartialResultId id) const
+{
+    return services::staticPointerCast<kdtree_knn_classification::Model, SerializationIface>(Argument::get(id));
+}
+
+services::Status PartialResult::check(const daal::algorithms::Input * input, const daal::algorithms::Parameter * parameter, int method) const
+{
+    services::Status s;
+    DAAL_CHECK_STATUS(s, check(parameter, method));
+
+    const size_t nFeatures = static_cast<const classifier::training::InputIface *>(input)->getNumberOfFeatures();
+    const size_t modelFeatures = get(classifier::training::partialModel)->getNumberOfFeatures();
+    DAAL_CHECK(!nFeatures || !modelFeatures || nFeatures == modelFeatures, ErrorIncorrectNumberOfFeatures);
+    return s;
+}
+
+services::Status PartialResult::check(const daal::algorithms::Parameter * parameter, int method) const
+{
+    const kdtree_knn_classification::ModelPtr m = get(classifier::training::partialModel);
+    DAAL_CHECK(m, ErrorNullModel);
+
+    /* The observations of the trained model can be removed only if their indices in the training data set are known */
+    const NumericTableConstPtr data = m->impl()->getData();
+    if (data && data->getNumberOfRows())
+    {
+        const NumericTableConstPtr indices = m->impl()->getIndices();
+        DAAL_CHECK(indices && indices->getNumberOfRows() == data->getNumberOfRows(), ErrorModelNotFullInitialized);
+    }
+    return services::Status();
+}
+
+} // namespace interface1
+} // namespace training
+} // namespace kdtree_knn_classification
+} // namespace algorithms
+} // namespace daal
@@ -76,6 +76,18 @@ daal::algorithms::kdtree_knn_classification::ModelPtr Result::get(classifier::tr
                                       data_management::SerializationIface>(Argument::get(id));
 }
 
+/**
+ * Checks the result of KD-tree based kNN model-based training in the online processing mode
+ * \param[in] partialResult Pointer to the partial result of the algorithm
+ * \param[in] parameter     Algorithm %parameter
+ * \param[in] method        Computation method
+ */
+services::Status Result::check(const daal::algorithms::PartialResult * partialResult, const daal::algorithms::Parameter * parameter, int method) const
+{
+    DAAL_CHECK(get(classifier::training::model), ErrorNullModel);
+    return services::Status();
+}
+
 } // namespace interface1
 } // namespace training
 } // namespace kdtree_knn_classification
@@ -66,7 +66,7 @@ namespace training
  * \param[in] method Computation method for the algorithm
  */
 template<typename algorithmFPType>
-DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::Input * input, const Parameter * parameter, int method)
+DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::Input * input, const kdtree_knn_classification::interface1::Parameter * parameter, int method)
 {
     services::Status status;
     const classifier::training::Input *algInput = static_cast<const classifier::training::Input *>(input);
@@ -74,6 +74,20 @@ DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::Input * in
     return status;
 }
 
+/**
+ * Sets the model updated in the online processing mode as the result of KD-tree based kNN model-based training
+ * \param[in] partialResult Pointer to the partial result of the algorithm
+ * \param[in] parameter     %Parameter of KD-tree based kNN model-based training
+ * \param[in] method        Computation method for the algorithm
+ */
+template<typename algorithmFPType>
+DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::PartialResult * partialResult, const kdtree_knn_classification::interface1::Parameter * parameter, int method)
+{
+    const PartialResult * const pres = static_cast<const PartialResult *>(partialResult);
+    set(classifier::training::model, pres->get(classifier::training::partialModel));
+    return services::Status();
+}
+
 } // namespace training
 } // namespace kdtree_knn_classification
 } // namespace algorithms
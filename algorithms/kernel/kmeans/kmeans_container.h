@@ -49,6 +49,7 @@
 #include "kmeans_types.h"
 #include "kmeans_batch.h"
 #include "kmeans_distributed.h"
+#include "kmeans_online.h"
 #include "kmeans_lloyd_kernel.h"
 
 #include "service_numeric_table.h"
@@ -238,6 +239,69 @@ services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>
                        __DAAL_KERNEL_ARGUMENTS(method, algorithmFPType), finalizeCompute, na, a, nr, r, par);
 }
 
+template<typename algorithmFPType, Method method, CpuType cpu>
+OnlineContainer<algorithmFPType, method, cpu>::OnlineContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::KMeansOnlineKernel, method, algorithmFPType);
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+OnlineContainer<algorithmFPType, method, cpu>::~OnlineContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFPType, method, cpu>::compute()
+{
+    Input               *input = static_cast<Input *>(_in);
+    OnlinePartialResult *pres  = static_cast<OnlinePartialResult *>(_pres);
+    Parameter           *par   = static_cast<Parameter *>(_par);
+
+    const size_t na = 1;
+    NumericTable *a[na];
+    a[0] = static_cast<NumericTable *>(input->get(data).get());
+
+    const size_t nr = 3;
+    NumericTable *r[nr];
+    r[0] = static_cast<NumericTable *>(pres->get(onlineCentroids        ).get());
+    r[1] = static_cast<NumericTable *>(pres->get(onlineClusterSizes     ).get());
+    r[2] = static_cast<NumericTable *>(pres->get(onlineObjectiveFunction).get());
+
+    daal::services::Environment::env &env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::KMeansOnlineKernel,
+                       __DAAL_KERNEL_ARGUMENTS(method, algorithmFPType), compute, na, a, nr, r, par);
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFPType, method, cpu>::finalizeCompute()
+{
+    Input               *input  = static_cast<Input *>(_in);
+    OnlinePartialResult *pres   = static_cast<OnlinePartialResult *>(_pres);
+    Result              *result = static_cast<Result *>(_res);
+    Parameter           *par    = static_cast<Parameter *>(_par);
+
+    const size_t na = 4;
+    NumericTable *a[na];
+    a[0] = static_cast<NumericTable *>(pres->get(onlineCentroids        ).get());
+    a[1] = static_cast<NumericTable *>(pres->get(onlineClusterSizes     ).get());
+    a[2] = static_cast<NumericTable *>(pres->get(onlineObjectiveFunction).get());
+    a[3] = static_cast<NumericTable *>(input->get(data).get());
+
+    const size_t nr = 4;
+    NumericTable *r[nr];
+    r[0] = static_cast<NumericTable *>(result->get(centroids        ).get());
+    r[1] = static_cast<NumericTable *>(result->get(assignments      ).get());
+    r[2] = static_cast<NumericTable *>(result->get(objectiveFunction).get());
+    r[3] = static_cast<NumericTable *>(result->get(nIterations      ).get());
+
+    daal::services::Environment::env &env = *_env;
+
+    __DAAL_CALL_KERNEL(env, internal::KMeansOnlineKernel,
+                       __DAAL_KERNEL_ARGUMENTS(method, algorithmFPType), finalizeCompute, na, a, nr, r, par);
+}
+
 } // namespace daal::algorithms::kmeans
 } // namespace daal::algorithms
 } // namespace daal
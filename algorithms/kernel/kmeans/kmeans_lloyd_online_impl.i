@@ -0,0 +1,221 @@
+/* file: kmeans_lloyd_online_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of Lloyd method for K-means algorithm in the online processing mode.
+//  Each data block is assigned to the current centroids, then every centroid moves towards
+//  the mean of its new observations with the learning rate equal to the inverse of the
+//  number of observations assigned to it so far (mini-batch K-means).
+//--
+*/
+
+#include "algorithm.h"
+#include "numeric_table.h"
+#include "threading.h"
+#include "daal_defines.h"
+#include "service_memory.h"
+#include "service_numeric_table.h"
+
+#include "kmeans_lloyd_impl.i"
+
+using namespace daal::internal;
+using namespace daal::services::internal;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace kmeans
+{
+namespace internal
+{
+
+template <typename algorithmFPType, CpuType cpu>
+Status initCategoricalCoefficients(const NumericTable *ntData, const Parameter *par, TArray<algorithmFPType, cpu> &catCoef)
+{
+    const size_t p = ntData->getNumberOfColumns();
+    int catFlag = 0;
+    for(size_t i = 0; i < p; i++)
+    {
+        if(ntData->getFeatureType(i) == data_feature_utils::DAAL_CATEGORICAL)
+        {
+            catFlag = 1;
+            break;
+        }
+    }
+    if(!catFlag)
+        return Status();
+
+    catCoef.reset(p);
+    DAAL_CHECK(catCoef.get(), services::ErrorMemoryAllocationFailed);
+    for(size_t i = 0; i < p; i++)
+    {
+        if(ntData->getFeatureType(i) == data_feature_utils::DAAL_CATEGORICAL)
+        {
+            catCoef[i] = par->gamma;
+        }
+        else
+        {
+            catCoef[i] = (algorithmFPType)1.0;
+        }
+    }
+    return Status();
+}
+
+template <Method method, typename algorithmFPType, CpuType cpu>
+Status KMeansOnlineKernel<method, algorithmFPType, cpu>::compute( size_t na, const NumericTable *const *a,
+                                                                  size_t nr, const NumericTable *const *r, const Parameter *par)
+{
+    NumericTable *ntData = const_cast<NumericTable *>(a[0]);
+
+    const size_t p = ntData->getNumberOfColumns();
+    const size_t nClusters = par->nClusters;
+
+    WriteRows<algorithmFPType, cpu> mtCentroids(*const_cast<NumericTable *>(r[0]), 0, nClusters);
+    DAAL_CHECK_BLOCK_STATUS(mtCentroids);
+    algorithmFPType *centroids = mtCentroids.get();
+    WriteRows<algorithmFPType, cpu> mtClusterSizes(*const_cast<NumericTable *>(r[1]), 0, nClusters);
+    DAAL_CHECK_BLOCK_STATUS(mtClusterSizes);
+    algorithmFPType *clusterSizes = mtClusterSizes.get();
+    WriteRows<algorithmFPType, cpu> mtTargetFunc(*const_cast<NumericTable *>(r[2]), 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(mtTargetFunc);
+    algorithmFPType *goalFunc = mtTargetFunc.get();
+
+    TArray<algorithmFPType, cpu> catCoef;
+    Status s;
+    DAAL_CHECK_STATUS(s, (initCategoricalCoefficients<algorithmFPType, cpu>(ntData, par, catCoef)));
+
+    TArray<int, cpu> clusterS0(nClusters);
+    TArray<algorithmFPType, cpu> clusterS1(nClusters * p);
+    DAAL_CHECK(clusterS0.get() && clusterS1.get(), services::ErrorMemoryAllocationFailed);
+
+    TArray<double, cpu> dS1(method == defaultDense ? p : 0);
+    if (method == defaultDense)
+    {
+        DAAL_CHECK(dS1.get(), services::ErrorMemoryAllocationFailed);
+    }
+
+    algorithmFPType blockTargetFunc = (algorithmFPType)0.0;
+    {
+        SharedPtr<task_t<algorithmFPType, cpu> > task = task_t<algorithmFPType, cpu>::create(p, nClusters, centroids);
+        DAAL_CHECK(task.get(), services::ErrorMemoryAllocationFailed);
+        DAAL_ASSERT(task);
+
+        s = task->template addNTToTaskThreaded<method>(ntData, catCoef.get());
+        if(!s)
+        {
+            task->kmeansClearClusters(&blockTargetFunc);
+            return s;
+        }
+
+        task->template kmeansComputeCentroids<method>(clusterS0.get(), clusterS1.get(), dS1.get());
+        task->kmeansClearClusters(&blockTargetFunc);
+    }
+
+    /* Clusters with no observations in the block keep their centroids */
+    for (size_t i = 0; i < nClusters; i++)
+    {
+        if (clusterS0[i] > 0)
+        {
+            const algorithmFPType newSize = clusterSizes[i] + (algorithmFPType)clusterS0[i];
+            const algorithmFPType coeff = (algorithmFPType)1.0 / newSize;
+
+            for (size_t j = 0; j < p; j++)
+            {
+                centroids[i * p + j] += (clusterS1[i * p + j] - clusterS0[i] * centroids[i * p + j]) * coeff;
+            }
+            clusterSizes[i] = newSize;
+        }
+    }
+
+    *goalFunc += blockTargetFunc;
+    return s;
+}
+
+template <Method method, typename algorithmFPType, CpuType cpu>
+Status KMeansOnlineKernel<method, algorithmFPType, cpu>::finalizeCompute( size_t na, const NumericTable *const *a,
+                                                                          size_t nr, const NumericTable *const *r, const Parameter *par)
+{
+    const size_t nClusters = par->nClusters;
+    const size_t p = a[0]->getNumberOfColumns();
+
+    ReadRows<algorithmFPType, cpu> mtInCentroids(*const_cast<NumericTable *>(a[0]), 0, nClusters);
+    DAAL_CHECK_BLOCK_STATUS(mtInCentroids);
+    algorithmFPType *inCentroids = const_cast<algorithmFPType *>(mtInCentroids.get());
+    ReadRows<algorithmFPType, cpu> mtInTargetFunc(*const_cast<NumericTable *>(a[2]), 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(mtInTargetFunc);
+
+    WriteOnlyRows<algorithmFPType, cpu> mtCentroids(*const_cast<NumericTable *>(r[0]), 0, nClusters);
+    DAAL_CHECK_BLOCK_STATUS(mtCentroids);
+    daal::services::daal_memcpy_s(mtCentroids.get(), nClusters * p * sizeof(algorithmFPType), inCentroids, nClusters * p * sizeof(algorithmFPType));
+
+    WriteOnlyRows<algorithmFPType, cpu> mtTarget(*const_cast<NumericTable *>(r[2]), 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(mtTarget);
+    *mtTarget.get() = *mtInTargetFunc.get();
+
+    /* Each observation of the stream is visited once */
+    WriteOnlyRows<int, cpu> mtIterations(*const_cast<NumericTable *>(r[3]), 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(mtIterations);
+    *mtIterations.get() = 1;
+
+    Status s;
+    if (par->assignFlag)
+    {
+        /* Assignments are computed for the last data block with the final centroids */
+        NumericTable *ntData = const_cast<NumericTable *>(a[3]);
+        TArray<algorithmFPType, cpu> catCoef;
+        DAAL_CHECK_STATUS(s, (initCategoricalCoefficients<algorithmFPType, cpu>(ntData, par, catCoef)));
+
+        SharedPtr<task_t<algorithmFPType, cpu> > task = task_t<algorithmFPType, cpu>::create(p, nClusters, inCentroids);
+        DAAL_CHECK(task.get(), services::ErrorMemoryAllocationFailed);
+        DAAL_ASSERT(task);
+
+        s = task->template getNTAssignmentsThreaded<method>(ntData, r[1], catCoef.get());
+        task->kmeansClearClusters(0);
+    }
+    return s;
+}
+
+} // namespace daal::algorithms::kmeans::internal
+} // namespace daal::algorithms::kmeans
+} // namespace daal::algorithms
+} // namespace daal
@@ -120,8 +120,9 @@ services::Status Result::check(const daal::algorithms::PartialResult *pres, cons
 {
     const Parameter *kmPar = static_cast<const Parameter *>(par);
     const int unexpectedLayouts = (int)packed_mask;
-    PartialResult *algPres = static_cast<PartialResult *>(const_cast<daal::algorithms::PartialResult *>(pres));
-    size_t presFeatures = algPres->get(partialSums)->getNumberOfColumns();
+    const OnlinePartialResult *onlinePres = dynamic_cast<const OnlinePartialResult *>(pres);
+    size_t presFeatures = (onlinePres ? onlinePres->getNumberOfFeatures() :
+                           static_cast<const PartialResult *>(pres)->get(partialSums)->getNumberOfColumns());
     services::Status s;
     DAAL_CHECK_STATUS(s, checkNumericTable(get(centroids).get(), centroidsStr(), unexpectedLayouts, 0, presFeatures, kmPar->nClusters));
     return checkNumericTable(get(objectiveFunction).get(), goalFunctionStr(), unexpectedLayouts, 0, 1, 1);
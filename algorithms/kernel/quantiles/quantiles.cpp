@@ -72,8 +72,8 @@ Parameter::Parameter(const NumericTablePtr quantileOrders)
     }
 }
 
-Input::Input() : daal::algorithms::Input(lastInputId + 1) {}
-Input::Input(const Input& other) : daal::algorithms::Input(other){}
+Input::Input() : InputIface(lastInputId + 1) {}
+Input::Input(const Input& other) : InputIface(other){}
 
 /**
  * Returns an input object for the quantiles algorithm
@@ -95,6 +95,15 @@ void Input::set(InputId id, const NumericTablePtr &ptr)
     Argument::set(id, ptr);
 }
 
+/**
+ * Returns the number of features in the input data table
+ * \return Number of features in the input data table
+ */
+size_t Input::getNumberOfFeatures() const
+{
+    return get(data)->getNumberOfColumns();
+}
+
 /**
  * Check the correctness of the %Input object
  * \param[in] parameter Pointer to the parameters structure
@@ -140,13 +149,13 @@ void Result::set(ResultId id, const NumericTablePtr &value)
  */
 Status Result::check(const daal::algorithms::Input *in, const daal::algorithms::Parameter *par, int method) const
 {
-    const Input *input = static_cast<const Input *>(in);
+    const InputIface *input = static_cast<const InputIface *>(in);
     const Parameter *parameter = static_cast<const Parameter *>(par);
 
     Status s = checkNumericTable(parameter->quantileOrders.get(), quantileOrdersStr(), 0, 0, 0, 1);
     if(!s) return s;
 
-    size_t nVectors  = input->get(data)->getNumberOfColumns();
+    size_t nVectors  = input->getNumberOfFeatures();
     size_t nFeatures = parameter->quantileOrders->getNumberOfColumns();
 
     int unexpectedLayouts = (int)NumericTableIface::csrArray |
@@ -65,10 +65,10 @@ template <typename algorithmFPType>
 DAAL_EXPORT services::Status Result::allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method)
 {
     services::Status s;
-    const Input *in = static_cast<const Input *>(input);
+    const InputIface *in = static_cast<const InputIface *>(input);
     const Parameter *par = static_cast<const Parameter *>(parameter);
 
-    size_t nFeatures = in->get(data)->getNumberOfColumns();
+    size_t nFeatures = in->getNumberOfFeatures();
     size_t nQuantileOrders = par->quantileOrders->getNumberOfColumns();
 
     set(quantiles, data_management::HomogenNumericTable<algorithmFPType>::create(nQuantileOrders, nFeatures,
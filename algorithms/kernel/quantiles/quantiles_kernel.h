@@ -50,6 +50,8 @@
 
 #include "numeric_table.h"
 #include "quantiles_batch.h"
+#include "quantiles_online.h"
+#include "quantiles_distributed.h"
 
 #include "service_defines.h"
 #include "service_micro_table.h"
@@ -72,6 +74,16 @@ struct QuantilesKernel : public Kernel
     services::Status compute(const NumericTable &dataTable, const NumericTable& quantileOrdersTable, NumericTable &quantilesTable);
 };
 
+template<Method method, typename algorithmFPType, CpuType cpu>
+struct QuantilesSketchKernel : public Kernel
+{
+    virtual ~QuantilesSketchKernel() {}
+    services::Status compute(const NumericTable &dataTable, NumericTable &itemsTable, NumericTable &levelSizesTable, const SketchParameter &par);
+    services::Status merge(const DataCollection &partialResults, NumericTable &itemsTable, NumericTable &levelSizesTable, const SketchParameter &par);
+    services::Status finalizeCompute(const NumericTable &itemsTable, const NumericTable &levelSizesTable,
+                                     const NumericTable &quantileOrdersTable, NumericTable &quantilesTable);
+};
+
 } // namespace daal::algorithms::quantiles::internal
 
 } // namespace daal::algorithms::quantiles
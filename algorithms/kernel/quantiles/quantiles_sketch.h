@@ -0,0 +1,304 @@
+/* file: quantiles_sketch.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Declaration of the KLL sketch used to compute quantiles in the online and distributed processing modes.
+//
+//  The sketch of a feature is a hierarchy of compactors: the items at level h have the weight 2^h.
+//  When the sketch is full, the lowest level that reached its capacity is sorted and every other item
+//  of it, starting from a random one, is promoted to the next level. The capacities of the levels decrease
+//  geometrically from the top level, so the size of the sketch is O(k) for any number of observations.
+//
+//  Compaction decisions depend only on the numbers of items at the levels, and one random bit is drawn
+//  for each compaction, so all the features of a data set share the same layout of levels and the same
+//  random bits. The items of a sketch are stored level by level starting from the top level.
+//  All the levels except level 0 are sorted.
+//--
+*/
+
+#ifndef __QUANTILES_SKETCH_H__
+#define __QUANTILES_SKETCH_H__
+
+#include <cmath>
+#include "service_defines.h"
+#include "service_sort.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace quantiles
+{
+namespace internal
+{
+
+const size_t sketchMaxLevels        = 64; /* Maximal number of levels in the sketch */
+const size_t sketchMinLevelCapacity = 8;  /* Minimal capacity of a level of the sketch */
+
+/* Returns the parameter k of the sketch such that the normalized rank error 2.296 / k^0.9723
+ * is not greater than the accuracy with probability 99% */
+inline size_t getSketchK(double accuracy)
+{
+    const double k = std::ceil(std::pow(2.296 / accuracy, 1.0 / 0.9723));
+    return (k < (double)sketchMinLevelCapacity) ? sketchMinLevelCapacity : (size_t)k;
+}
+
+/* Returns the capacity of level h in the sketch with nLevels levels */
+inline size_t getLevelCapacity(size_t k, size_t nLevels, size_t h)
+{
+    size_t capacity = k;
+    for (size_t depth = nLevels - 1 - h; depth > 0 && capacity > sketchMinLevelCapacity; depth--)
+    {
+        capacity = 2 * capacity / 3;
+    }
+    return (capacity < sketchMinLevelCapacity) ? sketchMinLevelCapacity : capacity;
+}
+
+/* Returns the total capacity of the sketch with nLevels levels */
+inline size_t getTotalCapacity(size_t k, size_t nLevels)
+{
+    size_t capacity = 0;
+    for (size_t h = 0; h < nLevels; h++)
+    {
+        capacity += getLevelCapacity(k, nLevels, h);
+    }
+    return capacity;
+}
+
+/* Returns the number of items to store in the sketch with the parameter k.
+ * The total capacity does not decrease with the number of levels */
+inline size_t getSketchCapacity(size_t k)
+{
+    return getTotalCapacity(k, sketchMaxLevels);
+}
+
+/* Returns the number of levels in use */
+inline size_t getNumberOfLevels(const int *levelSizes)
+{
+    size_t nLevels = sketchMaxLevels;
+    while (nLevels > 1 && levelSizes[nLevels - 1] == 0) { nLevels--; }
+    return nLevels;
+}
+
+/* Returns the number of observations summarized by the sketch */
+inline double getNumberOfObservations(const int *levelSizes)
+{
+    double n = 0.0;
+    double weight = 1.0;
+    for (size_t h = 0; h < sketchMaxLevels; h++, weight *= 2.0)
+    {
+        n += weight * levelSizes[h];
+    }
+    return n;
+}
+
+/*
+ * KLL sketch of one feature over the arrays of the caller.
+ * If the array of items is null, only the sizes of the levels are updated, which gives the number of compactions
+ * and therefore the number of random bits needed to update all the sketches with the same layout
+ */
+template<typename algorithmFPType, CpuType cpu>
+class Sketch
+{
+public:
+    /*
+     * \param[in]     k          Parameter of the sketch
+     * \param[in,out] levelSizes Numbers of items at the levels of the sketch, sketchMaxLevels elements
+     * \param[in,out] items      Items of the sketch, the array must hold the items of all the levels and the new items
+     * \param[in]     buffer     Work array of the same size as the array of items
+     * \param[in]     coins      Random bits in {0, 1}, one per compaction
+     */
+    Sketch(size_t k, int *levelSizes, algorithmFPType *items, algorithmFPType *buffer, const int *coins) :
+        _k(k), _sizes(levelSizes), _items(items), _buffer(buffer), _coins(coins), _nCompactions(0)
+    {
+        _nLevels = getNumberOfLevels(_sizes);
+        _size = 0;
+        for (size_t h = 0; h < _nLevels; h++) { _size += _sizes[h]; }
+    }
+
+    /* Adds n observations to the sketch */
+    void insert(const algorithmFPType *values, size_t n)
+    {
+        while (n > 0)
+        {
+            compress();
+            const size_t nFree = getTotalCapacity(_k, _nLevels) - _size;
+            const size_t nToAdd = (nFree < n) ? nFree : n;
+            if (_items)
+            {
+                algorithmFPType *level0 = _items + _size;
+                for (size_t i = 0; i < nToAdd; i++) { level0[i] = values[i]; }
+                values += nToAdd;
+            }
+            _sizes[0] += (int)nToAdd;
+            _size += nToAdd;
+            n -= nToAdd;
+        }
+    }
+
+    /*
+     * Adds the items of the other sketch level by level and compacts the result.
+     * The arrays of items and the buffer must hold the items of both sketches
+     */
+    void merge(const int *otherSizes, const algorithmFPType *otherItems)
+    {
+        const size_t otherLevels = getNumberOfLevels(otherSizes);
+        if (otherLevels > _nLevels) { _nLevels = otherLevels; }
+
+        if (_items)
+        {
+            size_t iThis = 0, iOther = 0, iMerged = 0;
+            for (size_t h = _nLevels; h-- > 0;)
+            {
+                const algorithmFPType *a = _items + iThis;
+                const algorithmFPType *b = otherItems + iOther;
+                const size_t na = _sizes[h];
+                const size_t nb = otherSizes[h];
+                if (h > 0)
+                {
+                    mergeSorted(a, na, b, nb, _buffer + iMerged);
+                }
+                else
+                {
+                    for (size_t i = 0; i < na; i++) { _buffer[iMerged + i] = a[i]; }
+                    for (size_t i = 0; i < nb; i++) { _buffer[iMerged + na + i] = b[i]; }
+                }
+                iThis += na;
+                iOther += nb;
+                iMerged += na + nb;
+            }
+            for (size_t i = 0; i < iMerged; i++) { _items[i] = _buffer[i]; }
+        }
+
+        for (size_t h = 0; h < _nLevels; h++)
+        {
+            _sizes[h] += otherSizes[h];
+            _size += otherSizes[h];
+        }
+        compress();
+    }
+
+    /* Compacts the levels of the sketch until it has a free slot */
+    void compress()
+    {
+        while (_size >= getTotalCapacity(_k, _nLevels))
+        {
+            size_t h = 0;
+            while ((size_t)_sizes[h] < getLevelCapacity(_k, _nLevels, h)) { h++; }
+            if (h + 1 == _nLevels && _nLevels < sketchMaxLevels) { _nLevels++; }
+            compactLevel(h);
+        }
+    }
+
+    size_t getNumberOfCompactions() const { return _nCompactions; }
+
+    size_t getSize() const { return _size; }
+
+private:
+    /* Promotes every other item of level h to level h + 1 */
+    void compactLevel(size_t h)
+    {
+        const size_t n = _sizes[h];
+        const size_t nOdd = n & 1;
+        const size_t nPromoted = n / 2;
+        const int coin = _coins ? _coins[_nCompactions] : 0;
+        _nCompactions++;
+
+        if (_items)
+        {
+            size_t offset = 0;
+            for (size_t j = _nLevels; --j > h;) { offset += _sizes[j]; }
+            const size_t nUpper = _sizes[h + 1];
+            algorithmFPType *upper = _items + offset - nUpper;
+            algorithmFPType *level = _items + offset;
+
+            if (h == 0) { daal::algorithms::internal::qSort<algorithmFPType, cpu>(n, level); }
+
+            /* The smallest item stays at the level if the number of items is odd */
+            const algorithmFPType *promoted = level + nOdd + coin;
+            size_t i = 0, j = 0, iOut = 0;
+            while (i < nUpper && j < nPromoted)
+            {
+                _buffer[iOut++] = (promoted[2 * j] < upper[i]) ? promoted[2 * j++] : upper[i++];
+            }
+            while (i < nUpper) { _buffer[iOut++] = upper[i++]; }
+            while (j < nPromoted) { _buffer[iOut++] = promoted[2 * j++]; }
+            if (nOdd) { _buffer[iOut++] = level[0]; }
+
+            for (size_t i = 0; i < iOut; i++) { upper[i] = _buffer[i]; }
+
+            /* Shift the lower levels to the freed space */
+            const size_t nLower = _size - offset - n;
+            algorithmFPType *lower = level + n;
+            algorithmFPType *dst = upper + iOut;
+            for (size_t i = 0; i < nLower; i++) { dst[i] = lower[i]; }
+        }
+
+        _sizes[h + 1] += (int)nPromoted;
+        _sizes[h] = (int)nOdd;
+        _size -= nPromoted;
+    }
+
+    static void mergeSorted(const algorithmFPType *a, size_t na, const algorithmFPType *b, size_t nb, algorithmFPType *out)
+    {
+        size_t i = 0, j = 0;
+        while (i < na && j < nb) { *out++ = (b[j] < a[i]) ? b[j++] : a[i++]; }
+        while (i < na) { *out++ = a[i++]; }
+        while (j < nb) { *out++ = b[j++]; }
+    }
+
+    size_t _k;
+    size_t _nLevels;
+    size_t _size;
+    int *_sizes;
+    algorithmFPType *_items;
+    algorithmFPType *_buffer;
+    const int *_coins;
+    size_t _nCompactions;
+};
+
+} // namespace daal::algorithms::quantiles::internal
+} // namespace daal::algorithms::quantiles
+} // namespace daal::algorithms
+} // namespace daal
+
+#endif
@@ -0,0 +1,157 @@
+/* file: quantiles_sketch_container.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of quantiles algorithm containers for the online and distributed processing modes.
+//--
+*/
+
+#ifndef __QUANTILES_SKETCH_CONTAINER_H__
+#define __QUANTILES_SKETCH_CONTAINER_H__
+
+#include "quantiles_online.h"
+#include "quantiles_distributed.h"
+#include "quantiles_kernel.h"
+#include "kernel.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace quantiles
+{
+namespace interface1
+{
+template<typename algorithmFPType, Method method, CpuType cpu>
+OnlineContainer<algorithmFPType, method, cpu>::OnlineContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::QuantilesSketchKernel, method, algorithmFPType);
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+OnlineContainer<algorithmFPType, method, cpu>::~OnlineContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFPType, method, cpu>::compute()
+{
+    Input *input          = static_cast<Input *>(_in);
+    PartialResult *pres   = static_cast<PartialResult *>(_pres);
+    SketchParameter *par  = static_cast<SketchParameter *>(_par);
+
+    NumericTable *dataTable       = input->get(data).get();
+    NumericTable *itemsTable      = pres->get(sketchItems).get();
+    NumericTable *levelSizesTable = pres->get(sketchLevelSizes).get();
+
+    daal::services::Environment::env &env = *_env;
+    __DAAL_CALL_KERNEL(env, internal::QuantilesSketchKernel, __DAAL_KERNEL_ARGUMENTS(method, algorithmFPType), compute,
+                       *dataTable, *itemsTable, *levelSizesTable, *par);
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+services::Status OnlineContainer<algorithmFPType, method, cpu>::finalizeCompute()
+{
+    PartialResult *pres   = static_cast<PartialResult *>(_pres);
+    Result *result        = static_cast<Result *>(_res);
+    SketchParameter *par  = static_cast<SketchParameter *>(_par);
+
+    NumericTable *itemsTable      = pres->get(sketchItems).get();
+    NumericTable *levelSizesTable = pres->get(sketchLevelSizes).get();
+    NumericTable *quantilesTable  = result->get(quantiles).get();
+
+    daal::services::Environment::env &env = *_env;
+    __DAAL_CALL_KERNEL(env, internal::QuantilesSketchKernel, __DAAL_KERNEL_ARGUMENTS(method, algorithmFPType), finalizeCompute,
+                       *itemsTable, *levelSizesTable, *par->quantileOrders, *quantilesTable);
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::DistributedContainer(daal::services::Environment::env *daalEnv)
+{
+    __DAAL_INITIALIZE_KERNELS(internal::QuantilesSketchKernel, method, algorithmFPType);
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+DistributedContainer<step2Master, algorithmFPType, method, cpu>::~DistributedContainer()
+{
+    __DAAL_DEINITIALIZE_KERNELS();
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::compute()
+{
+    DistributedStep2MasterInput *input = static_cast<DistributedStep2MasterInput *>(_in);
+    PartialResult *pres   = static_cast<PartialResult *>(_pres);
+    SketchParameter *par  = static_cast<SketchParameter *>(_par);
+
+    DataCollection *partialResults = input->get(quantiles::partialResults).get();
+    NumericTable *itemsTable       = pres->get(sketchItems).get();
+    NumericTable *levelSizesTable  = pres->get(sketchLevelSizes).get();
+
+    daal::services::Environment::env &env = *_env;
+    __DAAL_CALL_KERNEL(env, internal::QuantilesSketchKernel, __DAAL_KERNEL_ARGUMENTS(method, algorithmFPType), merge,
+                       *partialResults, *itemsTable, *levelSizesTable, *par);
+}
+
+template<typename algorithmFPType, Method method, CpuType cpu>
+services::Status DistributedContainer<step2Master, algorithmFPType, method, cpu>::finalizeCompute()
+{
+    PartialResult *pres   = static_cast<PartialResult *>(_pres);
+    Result *result        = static_cast<Result *>(_res);
+    SketchParameter *par  = static_cast<SketchParameter *>(_par);
+
+    NumericTable *itemsTable      = pres->get(sketchItems).get();
+    NumericTable *levelSizesTable = pres->get(sketchLevelSizes).get();
+    NumericTable *quantilesTable  = result->get(quantiles).get();
+
+    daal::services::Environment::env &env = *_env;
+    __DAAL_CALL_KERNEL(env, internal::QuantilesSketchKernel, __DAAL_KERNEL_ARGUMENTS(method, algorithmFPType), finalizeCompute,
+                       *itemsTable, *levelSizesTable, *par->quantileOrders, *quantilesTable);
+}
+
+} // namespace interface1
+} // namespace daal::algorithms::quantiles
+} // namespace daal::algorithms
+} // namespace daal
+
+#endif
@@ -0,0 +1,338 @@
+/* file: quantiles_sketch_impl.i */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the quantiles computation with KLL sketches in the online and distributed processing modes
+//--
+*/
+
+#ifndef __QUANTILES_SKETCH_IMPL__
+#define __QUANTILES_SKETCH_IMPL__
+
+#include "threading.h"
+#include "service_numeric_table.h"
+#include "service_memory.h"
+#include "service_arrays.h"
+#include "service_rng.h"
+#include "service_error_handling.h"
+#include "engine_batch_impl.h"
+#include "quantiles_sketch.h"
+
+using namespace daal::internal;
+using namespace daal::services;
+using namespace daal::services::internal;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace quantiles
+{
+namespace internal
+{
+
+/* Draws the random bits for the given number of compactions of the sketches */
+template<CpuType cpu>
+services::Status generateCoins(size_t nCoins, int *coins, engines::BatchBase *engine)
+{
+    if (nCoins == 0) { return Status(); }
+    engines::internal::BatchBaseImpl *engineImpl = dynamic_cast<engines::internal::BatchBaseImpl *>(engine);
+    DAAL_CHECK(engineImpl, ErrorIncorrectEngineParameter);
+    RNGs<int, cpu> rng;
+    DAAL_CHECK(!rng.uniform(nCoins, coins, engineImpl->getState(), 0, 2), ErrorIncorrectErrorcodeFromGenerator);
+    return Status();
+}
+
+template<Method method, typename algorithmFPType, CpuType cpu>
+services::Status QuantilesSketchKernel<method, algorithmFPType, cpu>::compute(const NumericTable &dataTable,
+    NumericTable &itemsTable, NumericTable &levelSizesTable, const SketchParameter &par)
+{
+    const size_t nFeatures = dataTable.getNumberOfColumns();
+    const size_t nVectors  = dataTable.getNumberOfRows();
+    const size_t nCapacity = itemsTable.getNumberOfColumns();
+    const size_t k = getSketchK(par.accuracy);
+
+    WriteRows<int, cpu> levelSizesBlock(levelSizesTable, 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(levelSizesBlock)
+    int *levelSizes = levelSizesBlock.get();
+
+    /* The layout of the sketches after the update is the same for all the features */
+    int newLevelSizes[sketchMaxLevels];
+    for (size_t h = 0; h < sketchMaxLevels; h++) { newLevelSizes[h] = levelSizes[h]; }
+    Sketch<algorithmFPType, cpu> layout(k, newLevelSizes, nullptr, nullptr, nullptr);
+    layout.insert(nullptr, nVectors);
+
+    const size_t nCoins = layout.getNumberOfCompactions();
+    TArray<int, cpu> coinsArray(nCoins);
+    DAAL_CHECK_MALLOC(!nCoins || coinsArray.get());
+    const int *coins = coinsArray.get();
+    Status s;
+    DAAL_CHECK_STATUS(s, generateCoins<cpu>(nCoins, coinsArray.get(), par.engine.get()));
+
+    SafeStatus safeStat;
+    daal::tls<algorithmFPType *> tlsBuffer([=]()
+    {
+        return service_scalable_malloc<algorithmFPType, cpu>(nCapacity);
+    });
+
+    daal::threader_for(nFeatures, nFeatures, [&](size_t iFeature)
+    {
+        algorithmFPType *buffer = tlsBuffer.local();
+        DAAL_CHECK_THR(buffer, ErrorMemoryAllocationFailed);
+
+        ReadColumns<algorithmFPType, cpu> dataBlock(const_cast<NumericTable &>(dataTable), iFeature, 0, nVectors);
+        DAAL_CHECK_BLOCK_STATUS_THR(dataBlock);
+
+        WriteRows<algorithmFPType, cpu> itemsBlock(itemsTable, iFeature, 1);
+        DAAL_CHECK_BLOCK_STATUS_THR(itemsBlock);
+
+        int featureLevelSizes[sketchMaxLevels];
+        for (size_t h = 0; h < sketchMaxLevels; h++) { featureLevelSizes[h] = levelSizes[h]; }
+
+        Sketch<algorithmFPType, cpu> sketch(k, featureLevelSizes, itemsBlock.get(), buffer, coins);
+        sketch.insert(dataBlock.get(), nVectors);
+    });
+
+    tlsBuffer.reduce([](algorithmFPType *buffer)
+    {
+        service_scalable_free<algorithmFPType, cpu>(buffer);
+    });
+    DAAL_CHECK_SAFE_STATUS();
+
+    for (size_t h = 0; h < sketchMaxLevels; h++) { levelSizes[h] = newLevelSizes[h]; }
+    return Status();
+}
+
+template<Method method, typename algorithmFPType, CpuType cpu>
+services::Status QuantilesSketchKernel<method, algorithmFPType, cpu>::merge(const DataCollection &partialResults,
+    NumericTable &itemsTable, NumericTable &levelSizesTable, const SketchParameter &par)
+{
+    const size_t nFeatures = itemsTable.getNumberOfRows();
+    const size_t nCapacity = itemsTable.getNumberOfColumns();
+    const size_t nBlocks   = partialResults.size();
+    const size_t k = getSketchK(par.accuracy);
+
+    WriteRows<int, cpu> levelSizesBlock(levelSizesTable, 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(levelSizesBlock)
+    int *levelSizes = levelSizesBlock.get();
+
+    TArray<NumericTable *, cpu> otherItemsArray(nBlocks);
+    TArray<int, cpu> otherLevelSizesArray(nBlocks * sketchMaxLevels);
+    TArray<size_t, cpu> coinsOffsetsArray(nBlocks + 1);
+    DAAL_CHECK_MALLOC(otherItemsArray.get() && otherLevelSizesArray.get() && coinsOffsetsArray.get());
+    NumericTable **otherItems = otherItemsArray.get();
+    int *otherLevelSizes = otherLevelSizesArray.get();
+    size_t *coinsOffsets = coinsOffsetsArray.get();
+
+    /* Compute the layout of the merged sketches and the number of compactions needed to merge each partial result */
+    int newLevelSizes[sketchMaxLevels];
+    for (size_t h = 0; h < sketchMaxLevels; h++) { newLevelSizes[h] = levelSizes[h]; }
+    coinsOffsets[0] = 0;
+    for (size_t i = 0; i < nBlocks; i++)
+    {
+        PartialResult *partialResult = static_cast<PartialResult *>(partialResults[i].get());
+        otherItems[i] = partialResult->get(sketchItems).get();
+
+        ReadRows<int, cpu> otherLevelSizesBlock(partialResult->get(sketchLevelSizes).get(), 0, 1);
+        DAAL_CHECK_BLOCK_STATUS(otherLevelSizesBlock)
+        const int *otherSizes = otherLevelSizesBlock.get();
+        for (size_t h = 0; h < sketchMaxLevels; h++) { otherLevelSizes[i * sketchMaxLevels + h] = otherSizes[h]; }
+
+        Sketch<algorithmFPType, cpu> layout(k, newLevelSizes, nullptr, nullptr, nullptr);
+        layout.merge(otherSizes, nullptr);
+        coinsOffsets[i + 1] = coinsOffsets[i] + layout.getNumberOfCompactions();
+    }
+
+    const size_t nCoins = coinsOffsets[nBlocks];
+    TArray<int, cpu> coinsArray(nCoins);
+    DAAL_CHECK_MALLOC(!nCoins || coinsArray.get());
+    const int *coins = coinsArray.get();
+    Status s;
+    DAAL_CHECK_STATUS(s, generateCoins<cpu>(nCoins, coinsArray.get(), par.engine.get()));
+
+    /* The merged sketch may temporarily hold the items of both sketches */
+    SafeStatus safeStat;
+    daal::tls<algorithmFPType *> tlsBuffer([=]()
+    {
+        return service_scalable_malloc<algorithmFPType, cpu>(4 * nCapacity);
+    });
+
+    daal::threader_for(nFeatures, nFeatures, [&](size_t iFeature)
+    {
+        algorithmFPType *work = tlsBuffer.local();
+        DAAL_CHECK_THR(work, ErrorMemoryAllocationFailed);
+        algorithmFPType *buffer = work + 2 * nCapacity;
+
+        WriteRows<algorithmFPType, cpu> itemsBlock(itemsTable, iFeature, 1);
+        DAAL_CHECK_BLOCK_STATUS_THR(itemsBlock);
+        algorithmFPType *items = itemsBlock.get();
+
+        int featureLevelSizes[sketchMaxLevels];
+        for (size_t h = 0; h < sketchMaxLevels; h++) { featureLevelSizes[h] = levelSizes[h]; }
+
+        size_t nItems = 0;
+        for (size_t h = 0; h < sketchMaxLevels; h++) { nItems += featureLevelSizes[h]; }
+        for (size_t j = 0; j < nItems; j++) { work[j] = items[j]; }
+
+        for (size_t i = 0; i < nBlocks; i++)
+        {
+            ReadRows<algorithmFPType, cpu> otherItemsBlock(otherItems[i], iFeature, 1);
+            DAAL_CHECK_BLOCK_STATUS_THR(otherItemsBlock);
+
+            Sketch<algorithmFPType, cpu> sketch(k, featureLevelSizes, work, buffer, coins + coinsOffsets[i]);
+            sketch.merge(otherLevelSizes + i * sketchMaxLevels, otherItemsBlock.get());
+            nItems = sketch.getSize();
+        }
+
+        for (size_t j = 0; j < nItems; j++) { items[j] = work[j]; }
+    });
+
+    tlsBuffer.reduce([](algorithmFPType *buffer)
+    {
+        service_scalable_free<algorithmFPType, cpu>(buffer);
+    });
+    DAAL_CHECK_SAFE_STATUS();
+
+    for (size_t h = 0; h < sketchMaxLevels; h++) { levelSizes[h] = newLevelSizes[h]; }
+    return Status();
+}
+
+template<Method method, typename algorithmFPType, CpuType cpu>
+services::Status QuantilesSketchKernel<method, algorithmFPType, cpu>::finalizeCompute(const NumericTable &itemsTable,
+    const NumericTable &levelSizesTable, const NumericTable &quantileOrdersTable, NumericTable &quantilesTable)
+{
+    const size_t nFeatures = itemsTable.getNumberOfRows();
+    const size_t nCapacity = itemsTable.getNumberOfColumns();
+    const size_t nQuantileOrders = quantilesTable.getNumberOfColumns();
+
+    ReadRows<int, cpu> levelSizesBlock(const_cast<NumericTable &>(levelSizesTable), 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(levelSizesBlock)
+    const int *levelSizes = levelSizesBlock.get();
+
+    const double nObservations = getNumberOfObservations(levelSizes);
+    DAAL_CHECK(nObservations > 0.0, ErrorIncorrectNumberOfObservations);
+
+    ReadRows<algorithmFPType, cpu> quantileOrdersBlock(const_cast<NumericTable &>(quantileOrdersTable), 0, 1);
+    DAAL_CHECK_BLOCK_STATUS(quantileOrdersBlock)
+    const algorithmFPType *quantileOrders = quantileOrdersBlock.get();
+    for (size_t j = 0; j < nQuantileOrders; j++)
+    {
+        DAAL_CHECK(quantileOrders[j] >= 0 && quantileOrders[j] <= 1, ErrorQuantileOrderValueIsInvalid);
+    }
+
+    const size_t nLevels = getNumberOfLevels(levelSizes);
+    size_t nItems = 0;
+    for (size_t h = 0; h < nLevels; h++) { nItems += levelSizes[h]; }
+
+    SafeStatus safeStat;
+    daal::tls<double *> tlsWeights([=]()
+    {
+        return service_scalable_malloc<double, cpu>(nItems);
+    });
+    daal::tls<algorithmFPType *> tlsValues([=]()
+    {
+        return service_scalable_malloc<algorithmFPType, cpu>(nItems);
+    });
+
+    daal::threader_for(nFeatures, nFeatures, [&](size_t iFeature)
+    {
+        double *weights = tlsWeights.local();
+        algorithmFPType *values = tlsValues.local();
+        DAAL_CHECK_THR(weights && values, ErrorMemoryAllocationFailed);
+
+        ReadRows<algorithmFPType, cpu> itemsBlock(const_cast<NumericTable &>(itemsTable), iFeature, 1);
+        DAAL_CHECK_BLOCK_STATUS_THR(itemsBlock);
+        const algorithmFPType *items = itemsBlock.get();
+
+        /* Items at level h represent 2^h observations each */
+        size_t iItem = 0;
+        for (size_t h = nLevels; h-- > 0;)
+        {
+            const double weight = (double)((size_t)1 << h);
+            for (size_t j = 0; j < (size_t)levelSizes[h]; j++, iItem++)
+            {
+                values[iItem] = items[iItem];
+                weights[iItem] = weight;
+            }
+        }
+        daal::algorithms::internal::qSort<algorithmFPType, double, cpu>(nItems, values, weights);
+        for (size_t j = 1; j < nItems; j++) { weights[j] += weights[j - 1]; }
+
+        WriteOnlyRows<algorithmFPType, cpu> quantilesBlock(quantilesTable, iFeature, 1);
+        DAAL_CHECK_BLOCK_STATUS_THR(quantilesBlock);
+        algorithmFPType *quantiles = quantilesBlock.get();
+
+        /* The quantile is the smallest item whose cumulative weight reaches the required rank */
+        for (size_t j = 0; j < nQuantileOrders; j++)
+        {
+            const double rank = (double)quantileOrders[j] * nObservations;
+            size_t left = 0, right = nItems - 1;
+            while (left < right)
+            {
+                const size_t middle = (left + right) / 2;
+                if (weights[middle] < rank) { left = middle + 1; }
+                else { right = middle; }
+            }
+            quantiles[j] = values[left];
+        }
+    });
+
+    tlsWeights.reduce([](double *weights)
+    {
+        service_scalable_free<double, cpu>(weights);
+    });
+    tlsValues.reduce([](algorithmFPType *values)
+    {
+        service_scalable_free<algorithmFPType, cpu>(values);
+    });
+    return safeStat.detach();
+}
+
+} // namespace daal::algorithms::quantiles::internal
+
+} // namespace daal::algorithms::quantiles
+
+} // namespace daal::algorithms
+
+} // namespace daal
+
+#endif
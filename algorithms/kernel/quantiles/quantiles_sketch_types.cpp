@@ -0,0 +1,254 @@
+/* file: quantiles_sketch_types.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of quantiles types for the online and distributed processing modes.
+//--
+*/
+
+#include "quantiles_types.h"
+#include "quantiles_sketch.h"
+#include "serialization_utils.h"
+#include "daal_strings.h"
+
+using namespace daal::data_management;
+using namespace daal::services;
+
+namespace daal
+{
+namespace algorithms
+{
+namespace quantiles
+{
+namespace interface1
+{
+__DAAL_REGISTER_SERIALIZATION_CLASS(PartialResult, SERIALIZATION_QUANTILES_PARTIAL_RESULT_ID);
+
+SketchParameter::SketchParameter(const NumericTablePtr quantileOrders, double accuracy) :
+    Parameter(quantileOrders), accuracy(accuracy), engine(engines::mt19937::Batch<>::create()) {}
+
+/**
+ * Checks the correctness of the parameter
+ */
+Status SketchParameter::check() const
+{
+    DAAL_CHECK_EX(accuracy > 0 && accuracy < 1, ErrorIncorrectParameter, ParameterName, accuracyStr());
+    DAAL_CHECK_EX(engine, ErrorNullParameterNotSupported, ParameterName, engineStr());
+    return Status();
+}
+
+/**
+ * Checks the tables of the sketches
+ * \param[in] pres      Partial result that holds the sketches
+ * \param[in] accuracy  Accuracy of the sketches
+ * \param[in] nFeatures Expected number of features, 0 if any number of features is allowed
+ */
+static Status checkSketches(const PartialResult *pres, double accuracy, size_t nFeatures)
+{
+    const int unexpectedLayouts = (int)packed_mask;
+    const size_t nItems = internal::getSketchCapacity(internal::getSketchK(accuracy));
+
+    Status s;
+    DAAL_CHECK_STATUS(s, checkNumericTable(pres->get(sketchItems).get(), sketchItemsStr(), unexpectedLayouts, 0, nItems, nFeatures));
+    return checkNumericTable(pres->get(sketchLevelSizes).get(), sketchLevelSizesStr(), unexpectedLayouts, 0, internal::sketchMaxLevels, 1);
+}
+
+PartialResult::PartialResult() : daal::algorithms::PartialResult(lastPartialResultId + 1) {}
+
+/**
+ * Returns the partial result of the quantiles algorithm
+ * \param[in] id   Identifier of the partial result, \ref PartialResultId
+ * \return         Partial result that corresponds to the given identifier
+ */
+NumericTablePtr PartialResult::get(PartialResultId id) const
+{
+    return staticPointerCast<NumericTable, SerializationIface>(Argument::get(id));
+}
+
+/**
+ * Sets the partial result of the quantiles algorithm
+ * \param[in] id    Identifier of the partial result
+ * \param[in] ptr   Pointer to the partial result
+ */
+void PartialResult::set(PartialResultId id, const NumericTablePtr &ptr)
+{
+    Argument::set(id, ptr);
+}
+
+/**
+ * Returns the number of features in the partial result
+ * \return Number of features in the partial result
+ */
+size_t PartialResult::getNumberOfFeatures() const
+{
+    return get(sketchItems)->getNumberOfRows();
+}
+
+/**
+ * Checks the correctness of the partial result
+ * \param[in] input     Input objects of the algorithm
+ * \param[in] parameter Parameters of the algorithm
+ * \param[in] method    Algorithm computation method
+ */
+Status PartialResult::check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, int method) const
+{
+    const size_t nFeatures = static_cast<const InputIface *>(input)->getNumberOfFeatures();
+    return checkSketches(this, static_cast<const SketchParameter *>(parameter)->accuracy, nFeatures);
+}
+
+/**
+ * Checks the correctness of the partial result
+ * \param[in] parameter Parameters of the algorithm
+ * \param[in] method    Algorithm computation method
+ */
+Status PartialResult::check(const daal::algorithms::Parameter *parameter, int method) const
+{
+    return checkSketches(this, static_cast<const SketchParameter *>(parameter)->accuracy, 0);
+}
+
+/**
+ * Checks the correctness of the Result object in the online and distributed processing modes
+ * \param[in] partialResult Pointer to the partial results
+ * \param[in] par           Pointer to the parameters structure
+ * \param[in] method        Algorithm computation method
+ */
+Status Result::check(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *par, int method) const
+{
+    const PartialResult *pres = static_cast<const PartialResult *>(partialResult);
+    const Parameter *parameter = static_cast<const Parameter *>(par);
+
+    Status s = checkNumericTable(parameter->quantileOrders.get(), quantileOrdersStr(), 0, 0, 0, 1);
+    if(!s) return s;
+
+    const size_t nFeatures = pres->getNumberOfFeatures();
+    const size_t nQuantileOrders = parameter->quantileOrders->getNumberOfColumns();
+    const int unexpectedLayouts = (int)packed_mask;
+
+    return checkNumericTable(get(quantiles).get(), quantilesStr(), unexpectedLayouts, 0, nQuantileOrders, nFeatures);
+}
+
+DistributedStep2MasterInput::DistributedStep2MasterInput() : InputIface(lastMasterInputId + 1)
+{
+    Argument::set(partialResults, DataCollectionPtr(new DataCollection()));
+}
+
+DistributedStep2MasterInput::DistributedStep2MasterInput(const DistributedStep2MasterInput& other) : InputIface(other) {}
+
+/**
+ * Returns an input object for the quantiles algorithm on the second step in the distributed processing mode
+ * \param[in] id    Identifier of the input object
+ * \return          %Input object that corresponds to the given identifier
+ */
+DataCollectionPtr DistributedStep2MasterInput::get(MasterInputId id) const
+{
+    return staticPointerCast<DataCollection, SerializationIface>(Argument::get(id));
+}
+
+/**
+ * Sets an input object for the quantiles algorithm on the second step in the distributed processing mode
+ * \param[in] id    Identifier of the input object
+ * \param[in] ptr   Pointer to the object
+ */
+void DistributedStep2MasterInput::set(MasterInputId id, const DataCollectionPtr &ptr)
+{
+    Argument::set(id, staticPointerCast<SerializationIface, DataCollection>(ptr));
+}
+
+/**
+ * Adds the partial result computed on a local node to the input of the quantiles algorithm
+ * on the second step in the distributed processing mode
+ * \param[in] id            Identifier of the input object
+ * \param[in] partialResult Partial result obtained on the first step in the distributed processing mode
+ */
+void DistributedStep2MasterInput::add(MasterInputId id, const PartialResultPtr &partialResult)
+{
+    DataCollectionPtr collection = staticPointerCast<DataCollection, SerializationIface>(Argument::get(id));
+    collection->push_back(partialResult);
+}
+
+/**
+ * Returns the number of features in the partial results computed on local nodes
+ * \return Number of features in the partial results computed on local nodes
+ */
+size_t DistributedStep2MasterInput::getNumberOfFeatures() const
+{
+    DataCollectionPtr collection = get(partialResults);
+    PartialResultPtr pres = staticPointerCast<PartialResult, SerializationIface>((*collection)[0]);
+    return pres->getNumberOfFeatures();
+}
+
+/**
+ * Checks the input objects of the quantiles algorithm on the second step in the distributed processing mode
+ * \param[in] parameter Parameters of the algorithm
+ * \param[in] method    Algorithm computation method
+ */
+Status DistributedStep2MasterInput::check(const daal::algorithms::Parameter *parameter, int method) const
+{
+    const SketchParameter *par = static_cast<const SketchParameter *>(parameter);
+
+    Status s = checkNumericTable(par->quantileOrders.get(), quantileOrdersStr(), 0, 0, 0, 1);
+    if(!s) return s;
+
+    DataCollectionPtr collection = get(partialResults);
+    DAAL_CHECK(collection, ErrorNullInputDataCollection);
+
+    const size_t nBlocks = collection->size();
+    DAAL_CHECK(nBlocks > 0, ErrorIncorrectNumberOfInputNumericTables);
+
+    PartialResultPtr firstPres = dynamicPointerCast<PartialResult, SerializationIface>((*collection)[0]);
+    DAAL_CHECK(firstPres, ErrorIncorrectElementInPartialResultCollection);
+    DAAL_CHECK_STATUS(s, checkSketches(firstPres.get(), par->accuracy, 0));
+
+    const size_t nFeatures = firstPres->getNumberOfFeatures();
+    for(size_t i = 1; i < nBlocks; i++)
+    {
+        PartialResultPtr pres = dynamicPointerCast<PartialResult, SerializationIface>((*collection)[i]);
+        DAAL_CHECK(pres, ErrorIncorrectElementInPartialResultCollection);
+        DAAL_CHECK_STATUS(s, checkSketches(pres.get(), par->accuracy, nFeatures));
+    }
+    return s;
+}
+
+} // namespace interface1
+} // namespace quantiles
+} // namespace algorithms
+} // namespace daal
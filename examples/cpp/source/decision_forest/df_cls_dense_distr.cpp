@@ -0,0 +1,189 @@
+/* file: df_cls_dense_distr.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+!  Content:
+!    C++ example of decision forest classification in the distributed processing mode.
+!
+!    The program builds partial forests on the training data blocks, merges them
+!    into one decision forest classification model and computes classification
+!    for the test data.
+!******************************************************************************/
+
+/**
+ * <a name="DAAL-EXAMPLE-CPP-DF_CLS_DENSE_DISTRIBUTED"></a>
+ * \example df_cls_dense_distr.cpp
+ */
+
+#include "daal.h"
+#include "service.h"
+
+using namespace std;
+using namespace daal;
+using namespace daal::algorithms;
+using namespace daal::algorithms::decision_forest::classification;
+
+/* Input data set parameters */
+const size_t nBlocks = 4;
+
+const string trainDatasetFileNames[] =
+{
+    "../data/distributed/df_classification_train_1.csv", "../data/distributed/df_classification_train_2.csv",
+    "../data/distributed/df_classification_train_3.csv", "../data/distributed/df_classification_train_4.csv"
+};
+const string testDatasetFileName = "../data/distributed/df_classification_test.csv";
+const size_t categoricalFeaturesIndices[] = { 2 };
+const size_t nFeatures  = 3;  /* Number of features in training and testing data sets */
+
+/* Decision forest parameters */
+const size_t nTreesPerBlock = 3;  /* Number of trees built on each local node */
+const size_t minObservationsInLeafNode = 8;
+
+const size_t nClasses = 5;  /* Number of classes */
+
+training::ResultPtr trainModel();
+void testModel(const training::ResultPtr& res);
+void loadData(const std::string& fileName, NumericTablePtr& pData, NumericTablePtr& pDependentVar);
+
+int main(int argc, char *argv[])
+{
+    checkArguments(argc, argv, 5, &trainDatasetFileNames[0], &trainDatasetFileNames[1],
+                   &trainDatasetFileNames[2], &trainDatasetFileNames[3], &testDatasetFileName);
+
+    training::ResultPtr trainingResult = trainModel();
+    testModel(trainingResult);
+
+    return 0;
+}
+
+training::ResultPtr trainModel()
+{
+    /* Create an algorithm object to merge the partial forests on the master node */
+    training::Distributed<step2Master> masterAlgorithm(nClasses);
+
+    masterAlgorithm.parameter.varImportance = algorithms::decision_forest::training::MDI;
+    masterAlgorithm.parameter.resultsToCompute = algorithms::decision_forest::training::computeOutOfBagError;
+
+    for (size_t i = 0; i < nBlocks; i++)
+    {
+        /* Create Numeric Tables for training data and dependent variables */
+        NumericTablePtr trainData;
+        NumericTablePtr trainDependentVariable;
+
+        loadData(trainDatasetFileNames[i], trainData, trainDependentVariable);
+
+        /* Create an algorithm object to build the partial forest on the local node */
+        training::Distributed<step1Local> localAlgorithm(nClasses);
+
+        /* Pass a training data set and dependent values to the algorithm */
+        localAlgorithm.input.set(classifier::training::data, trainData);
+        localAlgorithm.input.set(classifier::training::labels, trainDependentVariable);
+
+        /* Build the trees with the indices from i * nTreesPerBlock to (i + 1) * nTreesPerBlock - 1 in the forest */
+        localAlgorithm.parameter.nTrees = nTreesPerBlock;
+        localAlgorithm.parameter.firstTreeIndex = i * nTreesPerBlock;
+        localAlgorithm.parameter.featuresPerNode = nFeatures;
+        localAlgorithm.parameter.minObservationsInLeafNode = minObservationsInLeafNode;
+        localAlgorithm.parameter.varImportance = algorithms::decision_forest::training::MDI;
+        localAlgorithm.parameter.resultsToCompute = algorithms::decision_forest::training::computeOutOfBagError;
+
+        /* Build the partial forest */
+        localAlgorithm.compute();
+
+        /* Pass the partial forest to the master node */
+        masterAlgorithm.input.add(training::partialResults, localAlgorithm.getPartialResult());
+    }
+
+    /* Merge the partial forests into the decision forest classification model */
+    masterAlgorithm.compute();
+    masterAlgorithm.finalizeCompute();
+
+    /* Retrieve the algorithm results */
+    training::ResultPtr trainingResult = masterAlgorithm.getResult();
+    printNumericTable(trainingResult->get(training::variableImportance), "Variable importance results: ");
+    printNumericTable(trainingResult->get(training::outOfBagError), "OOB error: ");
+    return trainingResult;
+}
+
+void testModel(const training::ResultPtr& trainingResult)
+{
+    /* Create Numeric Tables for testing data and ground truth values */
+    NumericTablePtr testData;
+    NumericTablePtr testGroundTruth;
+
+    loadData(testDatasetFileName, testData, testGroundTruth);
+
+    /* Create an algorithm object to predict values of decision forest classification */
+    prediction::Batch<> algorithm(nClasses);
+
+    /* Pass a testing data set and the trained model to the algorithm */
+    algorithm.input.set(classifier::prediction::data, testData);
+    algorithm.input.set(classifier::prediction::model, trainingResult->get(classifier::training::model));
+
+    /* Predict values of decision forest classification */
+    algorithm.compute();
+
+    /* Retrieve the algorithm results */
+    classifier::prediction::ResultPtr predictionResult = algorithm.getResult();
+    printNumericTable(predictionResult->get(classifier::prediction::prediction),
+        "Decision forest prediction results (first 10 rows):", 10);
+    printNumericTable(testGroundTruth, "Ground truth (first 10 rows):", 10);
+}
+
+void loadData(const std::string& fileName, NumericTablePtr& pData, NumericTablePtr& pDependentVar)
+{
+    /* Initialize FileDataSource<CSVFeatureManager> to retrieve the input data from a .csv file */
+    FileDataSource<CSVFeatureManager> trainDataSource(fileName,
+        DataSource::notAllocateNumericTable,
+        DataSource::doDictionaryFromContext);
+
+    /* Create Numeric Tables for training data and dependent variables */
+    pData.reset(new HomogenNumericTable<>(nFeatures, 0, NumericTable::notAllocate));
+    pDependentVar.reset(new HomogenNumericTable<>(1, 0, NumericTable::notAllocate));
+    NumericTablePtr mergedData(new MergedNumericTable(pData, pDependentVar));
+
+    /* Retrieve the data from input file */
+    trainDataSource.loadDataBlock(mergedData.get());
+
+    NumericTableDictionaryPtr pDictionary = pData->getDictionarySharedPtr();
+    for(size_t i = 0, n = sizeof(categoricalFeaturesIndices) / sizeof(categoricalFeaturesIndices[0]); i < n; ++i)
+        (*pDictionary)[categoricalFeaturesIndices[i]].featureType = data_feature_utils::DAAL_CATEGORICAL;
+}
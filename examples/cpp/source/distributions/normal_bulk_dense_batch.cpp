@@ -0,0 +1,95 @@
+/* file: normal_bulk_dense_batch.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+!  Content:
+!    C++ example of filling a large table with normally distributed random numbers
+!******************************************************************************/
+
+/**
+ * <a name="DAAL-EXAMPLE-CPP-NORMAL_BULK_DENSE_BATCH"></a>
+ * \example normal_bulk_dense_batch.cpp
+ */
+
+#include "daal.h"
+#include "service.h"
+
+using namespace std;
+using namespace daal;
+using namespace daal::algorithms;
+using namespace daal::algorithms::engines;
+using namespace daal::algorithms::distributions;
+
+const size_t nFeatures = 4;
+const size_t nVectors  = 4000000;
+
+int main(int argc, char *argv[])
+{
+    /* Create input table to fill with random numbers */
+    NumericTablePtr dataTable(new HomogenNumericTable<>(nFeatures, nVectors, NumericTable::doAllocate));
+
+    /* Create the algorithm */
+    normal::Batch<> normal;
+
+    /* Set the algorithm input */
+    normal.input.set(distributions::tableToFill, dataTable);
+
+    /* Set the Mersenne Twister engine to the distribution.
+       Large tables are filled in parallel, and the result does not depend on the number of threads */
+    normal.parameter.engine = mt19937::Batch<>::create(777);
+
+    /* Perform computations */
+    normal.compute();
+
+    /* Print the first rows of the results */
+    printNumericTable(dataTable, "Normal distribution output (first 10 rows):", 10);
+
+    /* Compute the mean and the variance of the generated numbers */
+    low_order_moments::Batch<> moments;
+    moments.input.set(low_order_moments::data, dataTable);
+    moments.compute();
+
+    low_order_moments::ResultPtr res = moments.getResult();
+    printNumericTable(res->get(low_order_moments::mean),     "Mean:");
+    printNumericTable(res->get(low_order_moments::variance), "Variance:");
+
+    return 0;
+}
@@ -0,0 +1,98 @@
+/* file: philox4x32x10_dense_batch.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+!  Content:
+!    C++ example of the usage of the Philox4x32x10 engine in parallel computations
+!******************************************************************************/
+
+/**
+ * <a name="DAAL-EXAMPLE-CPP-PHILOX4X32X10_DENSE_BATCH"></a>
+ * \example philox4x32x10_dense_batch.cpp
+ */
+
+#include "daal.h"
+#include "service.h"
+
+using namespace std;
+using namespace daal;
+using namespace daal::algorithms;
+using namespace daal::algorithms::engines;
+using namespace daal::algorithms::distributions;
+
+const size_t nBlocks = 4;
+const size_t nRowsInBlock = 5;
+
+int main(int argc, char *argv[])
+{
+    /* Create the Philox4x32x10 engine */
+    EnginePtr engine = philox4x32x10::Batch<>::create(777);
+
+    for (size_t i = 0; i < nBlocks; i++)
+    {
+        /* Create input table to fill with random numbers */
+        NumericTablePtr dataTable(new HomogenNumericTable<>(1, nRowsInBlock, NumericTable::doAllocate));
+
+        /* Create a copy of the engine for the block of computations.
+           Each copy of the engine generates its own non-overlapping part of the engine sequence */
+        EnginePtr engineBlock = engine->clone();
+        engineBlock->skipAheadToBlock(i, nBlocks);
+
+        /* Create the algorithm */
+        uniform::Batch<> uniform;
+
+        /* Set the algorithm input */
+        uniform.input.set(distributions::tableToFill, dataTable);
+
+        /* Set the copy of the engine to the distribution */
+        uniform.parameter.engine = engineBlock;
+
+        /* Perform computations */
+        uniform.compute();
+
+        /* Print the results */
+        std::ostringstream title;
+        title << "Uniform distribution output for block " << i << ":";
+        printNumericTable(dataTable, title.str().c_str());
+    }
+
+    return 0;
+}
@@ -0,0 +1,193 @@
+/* file: gbt_cls_dense_distr.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+!  Content:
+!    C++ example of gradient boosted trees classification in the distributed processing mode.
+!
+!    The program trains the gradient boosted trees classification model on the training
+!    data split into blocks and computes classification for the test data.
+!******************************************************************************/
+
+/**
+ * <a name="DAAL-EXAMPLE-CPP-GBT_CLS_DENSE_DISTRIBUTED"></a>
+ * \example gbt_cls_dense_distr.cpp
+ */
+
+#include "daal.h"
+#include "service.h"
+
+using namespace std;
+using namespace daal;
+using namespace daal::algorithms;
+using namespace daal::algorithms::gbt::classification;
+
+/* Input data set parameters */
+const size_t nBlocks = 4;
+
+const string trainDatasetFileNames[] =
+{
+    "../data/distributed/gbt_classification_train_1.csv", "../data/distributed/gbt_classification_train_2.csv",
+    "../data/distributed/gbt_classification_train_3.csv", "../data/distributed/gbt_classification_train_4.csv"
+};
+const string testDatasetFileName = "../data/distributed/gbt_classification_test.csv";
+const size_t nFeatures = 3;  /* Number of features in training and testing data sets */
+
+/* Gradient boosted trees training parameters */
+const size_t nClasses = 2;  /* Number of classes, only binary classification is supported */
+const size_t maxIterations = 40;
+
+training::ResultPtr trainModel();
+void testModel(const training::ResultPtr& res);
+void loadData(const std::string& fileName, NumericTablePtr& pData, NumericTablePtr& pLabels);
+
+int main(int argc, char *argv[])
+{
+    checkArguments(argc, argv, 5, &trainDatasetFileNames[0], &trainDatasetFileNames[1],
+                   &trainDatasetFileNames[2], &trainDatasetFileNames[3], &testDatasetFileName);
+
+    training::ResultPtr trainingResult = trainModel();
+    testModel(trainingResult);
+
+    return 0;
+}
+
+training::ResultPtr trainModel()
+{
+    /* Create Numeric Tables for training data and labels on local nodes */
+    NumericTablePtr trainData[nBlocks];
+    NumericTablePtr trainLabels[nBlocks];
+    NumericTablePtr treesResponses[nBlocks];
+
+    for (size_t i = 0; i < nBlocks; i++)
+    {
+        loadData(trainDatasetFileNames[i], trainData[i], trainLabels[i]);
+    }
+
+    /* Create an algorithm object to build the trees on the master node */
+    training::Distributed<step2Master> masterAlgorithm(nClasses);
+    masterAlgorithm.parameter.maxIterations = maxIterations;
+
+    training::DistributedPartialResultPtr trainingState;
+
+    /* Build the trees level by level until the training is completed */
+    do
+    {
+        for (size_t i = 0; i < nBlocks; i++)
+        {
+            /* Create an algorithm object to compute the statistics of the local data */
+            training::Distributed<step1Local> localAlgorithm(nClasses);
+            localAlgorithm.parameter.maxIterations = maxIterations;
+
+            /* Pass the local data set, the training state and the cached responses of the trees to the algorithm */
+            localAlgorithm.input.set(classifier::training::data, trainData[i]);
+            localAlgorithm.input.set(classifier::training::labels, trainLabels[i]);
+            if (trainingState)
+            {
+                localAlgorithm.input.set(training::trainingState, trainingState);
+            }
+            if (treesResponses[i])
+            {
+                localAlgorithm.input.set(training::internalInput, treesResponses[i]);
+            }
+
+            /* Compute the partial results on the local node */
+            localAlgorithm.compute();
+
+            training::DistributedPartialResultStep1Ptr localResult = localAlgorithm.getPartialResult();
+            treesResponses[i] = localResult->get(training::internalResult);
+
+            /* Pass the partial results to the master node */
+            masterAlgorithm.input.add(training::partialResults, localResult);
+        }
+
+        /* Update the training state on the master node */
+        masterAlgorithm.compute();
+        trainingState = masterAlgorithm.getPartialResult();
+    }
+    while (!trainingState->isCompleted());
+
+    /* Retrieve the model from the master node */
+    masterAlgorithm.finalizeCompute();
+
+    return masterAlgorithm.getResult();
+}
+
+void testModel(const training::ResultPtr& trainingResult)
+{
+    /* Create Numeric Tables for testing data and ground truth labels */
+    NumericTablePtr testData;
+    NumericTablePtr testGroundTruth;
+
+    loadData(testDatasetFileName, testData, testGroundTruth);
+
+    /* Create an algorithm object to predict labels of gradient boosted trees classification */
+    prediction::Batch<> algorithm(nClasses);
+
+    /* Pass a testing data set and the trained model to the algorithm */
+    algorithm.input.set(classifier::prediction::data, testData);
+    algorithm.input.set(classifier::prediction::model, trainingResult->get(classifier::training::model));
+
+    /* Predict labels of gradient boosted trees classification */
+    algorithm.compute();
+
+    /* Retrieve the algorithm results */
+    classifier::prediction::ResultPtr predictionResult = algorithm.getResult();
+    printNumericTable(predictionResult->get(classifier::prediction::prediction),
+        "Gradient boosted trees prediction results (first 10 rows):", 10);
+    printNumericTable(testGroundTruth, "Ground truth (first 10 rows):", 10);
+}
+
+void loadData(const std::string& fileName, NumericTablePtr& pData, NumericTablePtr& pLabels)
+{
+    /* Initialize FileDataSource<CSVFeatureManager> to retrieve the input data from a .csv file */
+    FileDataSource<CSVFeatureManager> dataSource(fileName,
+        DataSource::notAllocateNumericTable,
+        DataSource::doDictionaryFromContext);
+
+    /* Create Numeric Tables for the data and labels */
+    pData.reset(new HomogenNumericTable<>(nFeatures, 0, NumericTable::notAllocate));
+    pLabels.reset(new HomogenNumericTable<>(1, 0, NumericTable::notAllocate));
+    NumericTablePtr mergedData(new MergedNumericTable(pData, pLabels));
+
+    /* Retrieve the data from input file */
+    dataSource.loadDataBlock(mergedData.get());
+}
@@ -0,0 +1,201 @@
+/* file: DfClsDenseDistr.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of decision forest classification in the distributed processing mode.
+ //
+ //     The program builds partial forests on the training data blocks, merges them
+ //     into one decision forest classification model and then performs classification
+ //     of previously unseen data.
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-DfClsDenseDistr">
+ * @example DfClsDenseDistr.java
+ */
+
+package com.intel.daal.examples.decision_forest;
+
+import com.intel.daal.algorithms.classifier.prediction.ModelInputId;
+import com.intel.daal.algorithms.classifier.prediction.NumericTableInputId;
+import com.intel.daal.algorithms.classifier.training.InputId;
+import com.intel.daal.algorithms.classifier.training.TrainingResultId;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResult;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResultId;
+import com.intel.daal.algorithms.decision_forest.classification.Model;
+import com.intel.daal.algorithms.decision_forest.classification.prediction.*;
+import com.intel.daal.algorithms.decision_forest.classification.training.*;
+import com.intel.daal.algorithms.decision_forest.*;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.MergedNumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+import com.intel.daal.data_management.data.*;
+
+class DfClsDenseDistr {
+    /* Input data set parameters */
+    private static final String[] trainDatasets = {
+            "../data/distributed/df_classification_train_1.csv", "../data/distributed/df_classification_train_2.csv",
+            "../data/distributed/df_classification_train_3.csv", "../data/distributed/df_classification_train_4.csv"
+    };
+
+    private static final String testDataset = "../data/distributed/df_classification_test.csv";
+
+    private static final int nBlocks       = 4;
+    private static final int nFeatures     = 3;
+    private static final int nClasses      = 5;
+
+    /* Decision forest classification algorithm parameters */
+    private static final int nTreesPerBlock = 3;  /* Number of trees built on each local node */
+    private static final int minObservationsInLeafNode = 8;
+
+    private static NumericTable testGroundTruth;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+
+        TrainingResult trainingResult = trainModel();
+
+        PredictionResult predictionResult = testModel(trainingResult);
+
+        printResults(predictionResult);
+
+        context.dispose();
+    }
+
+    private static TrainingResult trainModel() {
+        /* Create algorithm objects to merge the partial forests on the master node */
+        TrainingDistributedStep2Master masterAlgorithm = new TrainingDistributedStep2Master(context, Float.class,
+                TrainingMethod.defaultDense, nClasses);
+        masterAlgorithm.parameter.setVariableImportanceMode(VariableImportanceModeId.MDI);
+        masterAlgorithm.parameter.setResultsToCompute(ResultsToComputeId.computeOutOfBagError);
+
+        for (int i = 0; i < nBlocks; i++) {
+            /* Retrieve the data from the input data sets */
+            FileDataSource trainDataSource = new FileDataSource(context, trainDatasets[i],
+                    DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                    DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+            /* Create Numeric Tables for training data and labels */
+            NumericTable trainData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+            NumericTable trainGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+            MergedNumericTable mergedData = new MergedNumericTable(context);
+            mergedData.addNumericTable(trainData);
+            mergedData.addNumericTable(trainGroundTruth);
+
+            /* Retrieve the data from an input file */
+            trainDataSource.loadDataBlock(mergedData);
+
+            /* Set feature as categorical */
+            trainData.getDictionary().setFeature(Float.class,2,DataFeatureUtils.FeatureType.DAAL_CATEGORICAL);
+
+            /* Create algorithm objects to build the partial forest on the local node */
+            TrainingDistributedStep1Local localAlgorithm = new TrainingDistributedStep1Local(context, Float.class,
+                    TrainingMethod.defaultDense, nClasses);
+
+            /* Build the trees with the indices from i * nTreesPerBlock to (i + 1) * nTreesPerBlock - 1 in the forest */
+            localAlgorithm.parameter.setNTrees(nTreesPerBlock);
+            localAlgorithm.parameter.setFirstTreeIndex(i * nTreesPerBlock);
+            localAlgorithm.parameter.setFeaturesPerNode(nFeatures);
+            localAlgorithm.parameter.setMinObservationsInLeafNode(minObservationsInLeafNode);
+            localAlgorithm.parameter.setVariableImportanceMode(VariableImportanceModeId.MDI);
+            localAlgorithm.parameter.setResultsToCompute(ResultsToComputeId.computeOutOfBagError);
+
+            /* Pass a training data set and labels to the algorithm */
+            localAlgorithm.input.set(InputId.data, trainData);
+            localAlgorithm.input.set(InputId.labels, trainGroundTruth);
+
+            /* Build the partial forest and pass it to the master node */
+            TrainingPartialResult partialResult = localAlgorithm.compute();
+            masterAlgorithm.input.add(DistributedStep2MasterInputId.partialResults, partialResult);
+        }
+
+        /* Merge the partial forests into the decision forest classification model */
+        masterAlgorithm.compute();
+        TrainingResult trainingResult = masterAlgorithm.finalizeCompute();
+
+        Service.printNumericTable("Variable importance results: ", trainingResult.get(ResultNumericTableId.variableImportance));
+        Service.printNumericTable("OOB error: ", trainingResult.get(ResultNumericTableId.outOfBagError));
+        return trainingResult;
+    }
+
+    private static PredictionResult testModel(TrainingResult trainingResult) {
+        FileDataSource testDataSource = new FileDataSource(context, testDataset,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        /* Create Numeric Tables for testing data and labels */
+        NumericTable testData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+        testGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(testData);
+        mergedData.addNumericTable(testGroundTruth);
+
+        /* Retrieve the data from an input file */
+        testDataSource.loadDataBlock(mergedData);
+        /* Set feature as categorical */
+        testData.getDictionary().setFeature(Float.class,2,DataFeatureUtils.FeatureType.DAAL_CATEGORICAL);
+
+        /* Create algorithm objects for decision forest classification prediction with the fast method */
+        PredictionBatch algorithm = new PredictionBatch(context, Float.class, PredictionMethod.defaultDense, nClasses);
+
+        /* Pass a testing data set and the trained model to the algorithm */
+        Model model = trainingResult.get(TrainingResultId.model);
+        algorithm.input.set(NumericTableInputId.data, testData);
+        algorithm.input.set(ModelInputId.model, model);
+
+        /* Compute prediction results */
+        return algorithm.compute();
+    }
+
+    private static void printResults(PredictionResult predictionResult) {
+        NumericTable predictionResults = predictionResult.get(PredictionResultId.prediction);
+        Service.printNumericTable("Decision forest prediction results (first 10 rows):", predictionResults, 10);
+        Service.printNumericTable("Ground truth (first 10 rows):", testGroundTruth, 10);
+    }
+
+}
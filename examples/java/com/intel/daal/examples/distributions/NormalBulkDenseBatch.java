@@ -0,0 +1,99 @@
+/* file: NormalBulkDenseBatch.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of filling a large table with normally distributed random numbers
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+package com.intel.daal.examples.distributions;
+
+import com.intel.daal.algorithms.distributions.*;
+import com.intel.daal.algorithms.distributions.normal.*;
+import com.intel.daal.algorithms.low_order_moments.ResultId;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-NORMALBULKDENSEBATCH">
+ * @example NormalBulkDenseBatch.java
+ */
+class NormalBulkDenseBatch {
+    private static final long nFeatures = 4;
+    private static final long nVectors  = 4000000;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+        /* Create input table to fill with random numbers */
+        HomogenNumericTable dataTable = new HomogenNumericTable(context, Float.class, nFeatures, nVectors, NumericTable.AllocationFlag.DoAllocate);
+
+        /* Create the algorithm */
+        Batch normal = new Batch(context, Float.class, Method.defaultDense, 0.0, 1.0);
+
+        /* Set the algorithm input */
+        normal.input.set(InputId.tableToFill, dataTable);
+
+        /* Set the Mersenne Twister engine to the distribution.
+           Large tables are filled in parallel, and the result does not depend on the number of threads */
+        com.intel.daal.algorithms.engines.mt19937.Batch eng = new com.intel.daal.algorithms.engines.mt19937.Batch(context, Float.class, com.intel.daal.algorithms.engines.mt19937.Method.defaultDense, 777);
+        normal.parameter.setEngine(eng);
+
+        /* Perform computations */
+        normal.compute();
+
+        /* Print the first rows of the results */
+        Service.printNumericTable("Normal distribution output (first 10 rows):", dataTable, 10);
+
+        /* Compute the mean and the variance of the generated numbers */
+        com.intel.daal.algorithms.low_order_moments.Batch moments = new com.intel.daal.algorithms.low_order_moments.Batch(context, Float.class, com.intel.daal.algorithms.low_order_moments.Method.defaultDense);
+        moments.input.set(com.intel.daal.algorithms.low_order_moments.InputId.data, dataTable);
+        com.intel.daal.algorithms.low_order_moments.Result res = moments.compute();
+
+        Service.printNumericTable("Mean:", res.get(ResultId.mean));
+        Service.printNumericTable("Variance:", res.get(ResultId.variance));
+
+        context.dispose();
+    }
+}
@@ -0,0 +1,98 @@
+/* file: Philox4x32x10DenseBatch.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of the usage of the Philox4x32x10 engine in parallel computations
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+package com.intel.daal.examples.distributions;
+
+import com.intel.daal.algorithms.distributions.*;
+import com.intel.daal.algorithms.distributions.uniform.*;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-PHILOX4X32X10DENSEBATCH">
+ * @example Philox4x32x10DenseBatch.java
+ */
+class Philox4x32x10DenseBatch {
+    private static final long nBlocks      = 4;
+    private static final long nRowsInBlock = 5;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+        /* Create the Philox4x32x10 engine */
+        com.intel.daal.algorithms.engines.philox4x32x10.Batch engine = new com.intel.daal.algorithms.engines.philox4x32x10.Batch(context, Float.class, com.intel.daal.algorithms.engines.philox4x32x10.Method.defaultDense, 777);
+
+        for (long i = 0; i < nBlocks; i++) {
+            /* Create input table to fill with random numbers */
+            HomogenNumericTable dataTable = new HomogenNumericTable(context, Float.class, 1, nRowsInBlock, NumericTable.AllocationFlag.DoAllocate);
+
+            /* Create a copy of the engine for the block of computations.
+               Each copy of the engine generates its own non-overlapping part of the engine sequence */
+            com.intel.daal.algorithms.engines.BatchBase engineBlock = engine.clone(context);
+            engineBlock.skipAheadToBlock(i, nBlocks);
+
+            /* Create the algorithm */
+            Batch uniform = new Batch(context, Float.class, Method.defaultDense, 0.0, 1.0);
+
+            /* Set the algorithm input */
+            uniform.input.set(InputId.tableToFill, dataTable);
+
+            /* Set the copy of the engine to the distribution */
+            uniform.parameter.setEngine(engineBlock);
+
+            /* Perform computations */
+            uniform.compute();
+
+            /* Print the results */
+            Service.printNumericTable("Uniform distribution output for block " + i + ":", dataTable);
+        }
+
+        context.dispose();
+    }
+}
@@ -0,0 +1,198 @@
+/* file: GbtClsDenseDistr.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of gradient boosted trees classification in the distributed processing mode.
+ //
+ //     The program trains the gradient boosted trees classification model on the training
+ //     data split into blocks and then predicts previously unseen data.
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-GbtClsDenseDistr">
+ * @example GbtClsDenseDistr.java
+ */
+
+package com.intel.daal.examples.gbt;
+
+import com.intel.daal.algorithms.classifier.prediction.ModelInputId;
+import com.intel.daal.algorithms.classifier.prediction.NumericTableInputId;
+import com.intel.daal.algorithms.classifier.training.InputId;
+import com.intel.daal.algorithms.classifier.training.TrainingResultId;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResult;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResultId;
+import com.intel.daal.algorithms.gbt.classification.Model;
+import com.intel.daal.algorithms.gbt.classification.prediction.*;
+import com.intel.daal.algorithms.gbt.classification.training.*;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.MergedNumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+class GbtClsDenseDistr {
+    /* Input data set parameters */
+    private static final String[] trainDatasets = {
+            "../data/distributed/gbt_classification_train_1.csv", "../data/distributed/gbt_classification_train_2.csv",
+            "../data/distributed/gbt_classification_train_3.csv", "../data/distributed/gbt_classification_train_4.csv"
+    };
+
+    private static final String testDataset = "../data/distributed/gbt_classification_test.csv";
+
+    private static final int nBlocks   = 4;
+    private static final int nFeatures = 3;
+
+    private static final int nClasses = 2;  /* Number of classes, only binary classification is supported */
+
+    /* Gradient boosted trees classification algorithm parameters */
+    private static final int maxIterations = 40;
+
+    private static NumericTable testGroundTruth;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+
+        TrainingResult trainingResult = trainModel();
+
+        PredictionResult predictionResult = testModel(trainingResult);
+
+        printResults(predictionResult);
+
+        context.dispose();
+    }
+
+    private static TrainingResult trainModel() {
+        /* Create Numeric Tables for training data and labels on local nodes */
+        NumericTable[] trainData = new NumericTable[nBlocks];
+        NumericTable[] trainGroundTruth = new NumericTable[nBlocks];
+        NumericTable[] treesResponses = new NumericTable[nBlocks];
+
+        for (int i = 0; i < nBlocks; i++) {
+            trainData[i] = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+            trainGroundTruth[i] = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+            loadData(trainDatasets[i], trainData[i], trainGroundTruth[i]);
+        }
+
+        /* Create an algorithm object to build the trees on the master node */
+        TrainingDistributedStep2Master masterAlgorithm = new TrainingDistributedStep2Master(context, Float.class,
+                TrainingMethod.defaultDense, nClasses);
+        masterAlgorithm.parameter.setMaxIterations(maxIterations);
+
+        DistributedPartialResult trainingState = null;
+
+        /* Build the trees level by level until the training is completed */
+        do {
+            for (int i = 0; i < nBlocks; i++) {
+                /* Create an algorithm object to compute the statistics of the local data */
+                TrainingDistributedStep1Local localAlgorithm = new TrainingDistributedStep1Local(context, Float.class,
+                        TrainingMethod.defaultDense, nClasses);
+                localAlgorithm.parameter.setMaxIterations(maxIterations);
+
+                /* Pass the local data set, the training state and the cached responses of the trees to the algorithm */
+                localAlgorithm.input.set(InputId.data, trainData[i]);
+                localAlgorithm.input.set(InputId.labels, trainGroundTruth[i]);
+                if (trainingState != null) {
+                    localAlgorithm.input.set(DistributedStep1LocalInputId.trainingState, trainingState);
+                }
+                if (treesResponses[i] != null) {
+                    localAlgorithm.input.set(DistributedStep1LocalInternalInputId.internalInput, treesResponses[i]);
+                }
+
+                /* Compute the partial results on the local node */
+                DistributedPartialResultStep1 localResult = localAlgorithm.compute();
+                treesResponses[i] = localResult.get(DistributedPartialResultStep1Id.internalResult);
+
+                /* Pass the partial results to the master node */
+                masterAlgorithm.input.add(DistributedStep2MasterInputId.partialResults, localResult);
+            }
+
+            /* Update the training state on the master node */
+            trainingState = masterAlgorithm.compute();
+        } while (!trainingState.isCompleted());
+
+        /* Retrieve the model from the master node */
+        return masterAlgorithm.finalizeCompute();
+    }
+
+    private static PredictionResult testModel(TrainingResult trainingResult) {
+        /* Create Numeric Tables for testing data and ground truth labels */
+        NumericTable testData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+        testGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+        loadData(testDataset, testData, testGroundTruth);
+
+        /* Create algorithm objects for gradient boosted trees classification prediction with the default method */
+        PredictionBatch algorithm = new PredictionBatch(context, Float.class, PredictionMethod.defaultDense, nClasses);
+
+        /* Pass a testing data set and the trained model to the algorithm */
+        Model model = trainingResult.get(TrainingResultId.model);
+        algorithm.input.set(NumericTableInputId.data, testData);
+        algorithm.input.set(ModelInputId.model, model);
+
+        /* Compute prediction results */
+        return algorithm.compute();
+    }
+
+    private static void printResults(PredictionResult predictionResult) {
+        NumericTable predictionResults = predictionResult.get(PredictionResultId.prediction);
+
+        Service.printNumericTable("Gradient boosted trees prediction results (first 10 rows):", predictionResults, 10);
+        Service.printNumericTable("Ground truth (first 10 rows):", testGroundTruth, 10);
+    }
+
+    private static void loadData(String fileName, NumericTable data, NumericTable labels) {
+        /* Initialize FileDataSource to retrieve the input data from a .csv file */
+        FileDataSource dataSource = new FileDataSource(context, fileName,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(data);
+        mergedData.addNumericTable(labels);
+
+        /* Retrieve the data from an input file */
+        dataSource.loadDataBlock(mergedData);
+    }
+}
@@ -0,0 +1,172 @@
+/* file: GbtClsDenseOnline.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of gradient boosted trees classification in the online processing mode.
+ //
+ //     The program trains the gradient boosted trees classification model on the training
+ //     data that arrives block by block and then predicts previously unseen data.
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-GbtClsDenseOnline">
+ * @example GbtClsDenseOnline.java
+ */
+
+package com.intel.daal.examples.gbt;
+
+import com.intel.daal.algorithms.classifier.prediction.ModelInputId;
+import com.intel.daal.algorithms.classifier.prediction.NumericTableInputId;
+import com.intel.daal.algorithms.classifier.training.InputId;
+import com.intel.daal.algorithms.classifier.training.TrainingResultId;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResult;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResultId;
+import com.intel.daal.algorithms.gbt.classification.Model;
+import com.intel.daal.algorithms.gbt.classification.prediction.*;
+import com.intel.daal.algorithms.gbt.classification.training.*;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.MergedNumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+class GbtClsDenseOnline {
+    /* Input data set parameters */
+    private static final String trainDataset = "../data/online/gbt_classification_train.csv";
+
+    private static final String testDataset  = "../data/online/gbt_classification_test.csv";
+
+    private static final int nFeatures            = 3;
+    private static final int nTrainVectorsInBlock = 2500;
+
+    private static final int nClasses = 2;  /* Number of classes, only binary classification is supported */
+
+    /* Gradient boosted trees classification algorithm parameters */
+    private static final int maxIterations = 10;  /* Number of trees added on each data block */
+
+    private static NumericTable testGroundTruth;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+
+        TrainingResult trainingResult = trainModel();
+
+        PredictionResult predictionResult = testModel(trainingResult);
+
+        printResults(predictionResult);
+
+        context.dispose();
+    }
+
+    private static TrainingResult trainModel() {
+        /* Initialize FileDataSource to retrieve the input data from a .csv file */
+        FileDataSource trainDataSource = new FileDataSource(context, trainDataset,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        /* Create Numeric Tables for training data and labels */
+        NumericTable trainData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+        NumericTable trainGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(trainData);
+        mergedData.addNumericTable(trainGroundTruth);
+
+        /* Create an algorithm object to train the gradient boosted trees classification model */
+        TrainingOnline algorithm = new TrainingOnline(context, Float.class, TrainingMethod.defaultDense, nClasses);
+        algorithm.parameter.setMaxIterations(maxIterations);
+
+        /* Pass a training data set and labels to the algorithm */
+        algorithm.input.set(InputId.data, trainData);
+        algorithm.input.set(InputId.labels, trainGroundTruth);
+
+        while (trainDataSource.loadDataBlock(nTrainVectorsInBlock, mergedData) == nTrainVectorsInBlock) {
+            /* Add the trees that fit the data block to the model */
+            algorithm.compute();
+        }
+
+        /* Finalize the gradient boosted trees classification model */
+        return algorithm.finalizeCompute();
+    }
+
+    private static PredictionResult testModel(TrainingResult trainingResult) {
+        /* Create Numeric Tables for testing data and ground truth labels */
+        NumericTable testData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+        testGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+        loadData(testDataset, testData, testGroundTruth);
+
+        /* Create algorithm objects for gradient boosted trees classification prediction with the default method */
+        PredictionBatch algorithm = new PredictionBatch(context, Float.class, PredictionMethod.defaultDense, nClasses);
+
+        /* Pass a testing data set and the trained model to the algorithm */
+        Model model = trainingResult.get(TrainingResultId.model);
+        algorithm.input.set(NumericTableInputId.data, testData);
+        algorithm.input.set(ModelInputId.model, model);
+
+        /* Compute prediction results */
+        return algorithm.compute();
+    }
+
+    private static void printResults(PredictionResult predictionResult) {
+        NumericTable predictionResults = predictionResult.get(PredictionResultId.prediction);
+
+        Service.printNumericTable("Gradient boosted trees prediction results (first 10 rows):", predictionResults, 10);
+        Service.printNumericTable("Ground truth (first 10 rows):", testGroundTruth, 10);
+    }
+
+    private static void loadData(String fileName, NumericTable data, NumericTable labels) {
+        /* Initialize FileDataSource to retrieve the input data from a .csv file */
+        FileDataSource dataSource = new FileDataSource(context, fileName,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(data);
+        mergedData.addNumericTable(labels);
+
+        /* Retrieve the data from an input file */
+        dataSource.loadDataBlock(mergedData);
+    }
+}
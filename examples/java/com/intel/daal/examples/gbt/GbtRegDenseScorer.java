@@ -0,0 +1,184 @@
+/* file: GbtRegDenseScorer.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+
+/*
+ //  Content:
+ //     Java example of scoring the gradient boosted trees regression model in Java.
+ //
+ //     The program trains the gradient boosted trees regression model on a supplied
+ //     training data set, replaces a part of the values of previously unseen data
+ //     with missing values (NaN) and checks that the Java scorer of the model
+ //     gives the same predictions as the native prediction algorithm.
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-GbtRegDenseScorer">
+ * @example GbtRegDenseScorer.java
+ */
+
+package com.intel.daal.examples.gbt;
+
+import java.nio.DoubleBuffer;
+
+import com.intel.daal.algorithms.gbt.regression.*;
+import com.intel.daal.algorithms.gbt.regression.prediction.*;
+import com.intel.daal.algorithms.gbt.regression.training.*;
+import com.intel.daal.algorithms.tree_utils.RegressionScorer;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.MergedNumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+class GbtRegDenseScorer {
+    /* Input data set parameters */
+    private static final String trainDataset = "../data/batch/df_regression_train.csv";
+
+    private static final String testDataset  = "../data/batch/df_regression_test.csv";
+
+    private static final int nFeatures     = 13;
+
+    /* Gradient boosted trees regression algorithm parameters */
+    private static final int maxIterations = 40;
+
+    /* Every missingValueStep-th value of the test data set is replaced with a missing value */
+    private static final int missingValueStep = 7;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+
+        Model model = trainModel();
+
+        NumericTable testData = loadTestData();
+
+        /* Compute the predictions with the native prediction algorithm */
+        PredictionBatch algorithm = new PredictionBatch(context, Double.class, PredictionMethod.defaultDense);
+        algorithm.input.set(NumericTableInputId.data, testData);
+        algorithm.input.set(ModelInputId.model, model);
+        NumericTable predictionResults = algorithm.compute().get(PredictionResultId.prediction);
+
+        /* Compute the predictions with the Java scorer of the model */
+        final int nRows = (int)testData.getNumberOfRows();
+        double[] data = new double[nRows * nFeatures];
+        DoubleBuffer dataBuffer = testData.getBlockOfRows(0, nRows, DoubleBuffer.allocate(nRows * nFeatures));
+        dataBuffer.get(data);
+        testData.releaseBlockOfRows(0, nRows, dataBuffer);
+
+        RegressionScorer scorer = model.createScorer();
+        double[] scores = new double[nRows];
+        scorer.predict(data, nRows, nFeatures, scores);
+
+        int nMismatches = 0;
+        for (int i = 0; i < nRows; i++) {
+            double expected = predictionResults.getDoubleValue(0, i);
+            if (Math.abs(scores[i] - expected) > 1e-6 * Math.max(1.0, Math.abs(expected))) {
+                nMismatches++;
+            }
+        }
+
+        Service.printNumericTable("Gradient boosted trees native prediction results (first 10 rows):", predictionResults, 10);
+        Service.printNumericTable("Gradient boosted trees Java scorer results (first 10 rows):",
+                                  new HomogenNumericTable(context, scores, 1, nRows), 10);
+        System.out.println("Number of observations with different predictions: " + nMismatches);
+
+        context.dispose();
+
+        if (nMismatches != 0) {
+            throw new IllegalStateException("The Java scorer and the native prediction differ on " + nMismatches + " observations");
+        }
+    }
+
+    private static Model trainModel() {
+        /* Retrieve the data from the input data sets */
+        FileDataSource trainDataSource = new FileDataSource(context, trainDataset,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        /* Create Numeric Tables for training data and labels */
+        NumericTable trainData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+        NumericTable trainGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(trainData);
+        mergedData.addNumericTable(trainGroundTruth);
+
+        /* Retrieve the data from an input file */
+        trainDataSource.loadDataBlock(mergedData);
+
+        /* Create algorithm objects to train the gradient boosted trees regression model */
+        TrainingBatch algorithm = new TrainingBatch(context, Float.class, TrainingMethod.defaultDense);
+        algorithm.parameter.setMaxIterations(maxIterations);
+
+        /* Pass a training data set and dependent values to the algorithm */
+        algorithm.input.set(InputId.data, trainData);
+        algorithm.input.set(InputId.dependentVariable, trainGroundTruth);
+
+        /* Train the gradient boosted trees regression model */
+        TrainingResult trainingResult = algorithm.compute();
+        return trainingResult.get(TrainingResultId.model);
+    }
+
+    private static NumericTable loadTestData() {
+        FileDataSource testDataSource = new FileDataSource(context, testDataset,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        /* Create Numeric Tables for testing data and labels */
+        NumericTable testData = new HomogenNumericTable(context, Double.class, nFeatures, 0, NumericTable.AllocationFlag.NotAllocate);
+        NumericTable testGroundTruth = new HomogenNumericTable(context, Double.class, 1, 0, NumericTable.AllocationFlag.NotAllocate);
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(testData);
+        mergedData.addNumericTable(testGroundTruth);
+
+        /* Retrieve the data from an input file */
+        testDataSource.loadDataBlock(mergedData);
+
+        /* Replace a part of the values with missing values */
+        final int nRows = (int)testData.getNumberOfRows();
+        DoubleBuffer dataBuffer = testData.getBlockOfRows(0, nRows, DoubleBuffer.allocate(nRows * nFeatures));
+        for (int i = 0; i < nRows * nFeatures; i += missingValueStep) {
+            dataBuffer.put(i, Double.NaN);
+        }
+        testData.releaseBlockOfRows(0, nRows, dataBuffer);
+        return testData;
+    }
+}
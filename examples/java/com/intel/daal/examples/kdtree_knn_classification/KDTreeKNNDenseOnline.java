@@ -0,0 +1,180 @@
+/* file: KDTreeKNNDenseOnline.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of k nearest neighbors algorithm in the online processing mode.
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-KDTREEKNNDENSEONLINE">
+ * @example KDTreeKNNDenseOnline.java
+ */
+
+package com.intel.daal.examples.kdtree_knn_classification;
+
+import com.intel.daal.algorithms.kdtree_knn_classification.Model;
+import com.intel.daal.algorithms.kdtree_knn_classification.prediction.*;
+import com.intel.daal.algorithms.kdtree_knn_classification.training.*;
+import com.intel.daal.algorithms.classifier.training.InputId;
+import com.intel.daal.algorithms.classifier.training.TrainingResultId;
+import com.intel.daal.algorithms.classifier.prediction.ModelInputId;
+import com.intel.daal.algorithms.classifier.prediction.NumericTableInputId;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResultId;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResult;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.MergedNumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+class KDTreeKNNDenseOnline {
+    /* Input data set parameters */
+    private static final String trainDatasetFileName = "../data/batch/k_nearest_neighbors_train.csv";
+
+    private static final String testDatasetFileName  = "../data/batch/k_nearest_neighbors_test.csv";
+
+    private static final int nFeatures           = 5;
+    private static final int nTrainVectorsInBlock = 4000;
+    private static final int nRemovedVectors      = 100;
+
+    static Model        model;
+    static NumericTable results;
+    static NumericTable testGroundTruth;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+
+        trainModel();
+
+        testModel();
+
+        printResults();
+
+        context.dispose();
+    }
+
+    private static void trainModel() {
+
+        /* Initialize FileDataSource to retrieve the input data from a .csv file */
+        FileDataSource trainDataSource = new FileDataSource(context, trainDatasetFileName,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        /* Create Numeric Tables for training data and labels */
+        NumericTable trainData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.DoNotAllocate);
+        NumericTable trainGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.DoNotAllocate);
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(trainData);
+        mergedData.addNumericTable(trainGroundTruth);
+
+        /* Create an algorithm object to train the k nearest neighbors model with the default dense method */
+        TrainingOnline kNearestNeighborsTrain = new TrainingOnline(context, Float.class, TrainingMethod.defaultDense);
+
+        kNearestNeighborsTrain.input.set(InputId.data, trainData);
+        kNearestNeighborsTrain.input.set(InputId.labels, trainGroundTruth);
+
+        /* Create a Numeric Table with the indices of the observations to remove from the model.
+           The observations are indexed in the order of their insertion */
+        int[] removedIndicesArray = new int[nRemovedVectors];
+        for (int i = 0; i < nRemovedVectors; i++) {
+            removedIndicesArray[i] = i;
+        }
+        NumericTable removedIndices = new HomogenNumericTable(context, removedIndicesArray, 1, nRemovedVectors);
+
+        int nBlocks = 0;
+        while (trainDataSource.loadDataBlock(nTrainVectorsInBlock, mergedData) == nTrainVectorsInBlock) {
+            /* Remove the first observations of the first block when the second block is inserted.
+               The flags of the observations that are already removed are not changed by the next blocks */
+            if (nBlocks == 1) {
+                kNearestNeighborsTrain.getInput().set(TrainingOnlineInputId.removedIndices, removedIndices);
+            }
+
+            /* Insert the observations of the block into the k nearest neighbors model */
+            kNearestNeighborsTrain.compute();
+            nBlocks++;
+        }
+
+        /* Rebuild the KD-tree of the model */
+        TrainingResult trainingResult = kNearestNeighborsTrain.finalizeCompute();
+
+        model = trainingResult.get(TrainingResultId.model);
+    }
+
+    private static void testModel() {
+        /* Initialize FileDataSource to retrieve the input data from a .csv file */
+        FileDataSource testDataSource = new FileDataSource(context, testDatasetFileName,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.NotAllocateNumericTable);
+
+        /* Create Numeric Tables for testing data and labels */
+        NumericTable testData = new HomogenNumericTable(context, Float.class, nFeatures, 0, NumericTable.AllocationFlag.DoNotAllocate);
+        testGroundTruth = new HomogenNumericTable(context, Float.class, 1, 0, NumericTable.AllocationFlag.DoNotAllocate);
+        MergedNumericTable mergedData = new MergedNumericTable(context);
+        mergedData.addNumericTable(testData);
+        mergedData.addNumericTable(testGroundTruth);
+
+        /* Retrieve the data from an input file */
+        testDataSource.loadDataBlock(mergedData);
+
+        /* Create algorithm objects to predict values of k nearest neighbors with the default method */
+        PredictionBatch kNearestNeighborsPredict = new PredictionBatch(context, Float.class,
+                PredictionMethod.defaultDense);
+
+        kNearestNeighborsPredict.input.set(NumericTableInputId.data, testData);
+        kNearestNeighborsPredict.input.set(ModelInputId.model, model);
+
+        /* Compute prediction results */
+        PredictionResult predictionResult = kNearestNeighborsPredict.compute();
+
+        results = predictionResult.get(PredictionResultId.prediction);
+    }
+
+    private static void printResults() {
+        NumericTable expected = testGroundTruth;
+        Service.printClassificationResult(expected,results,"Ground truth","Classification results","KD-tree based kNN classification results (first 20 observations):",20);
+        System.out.println("");
+    }
+}
@@ -0,0 +1,111 @@
+/* file: KMeansDenseOnline.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of dense K-Means clustering in the online processing mode
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-KMEANSDENSEONLINE">
+ * @example KMeansDenseOnline.java
+ */
+
+package com.intel.daal.examples.kmeans;
+
+import com.intel.daal.algorithms.kmeans.*;
+import com.intel.daal.algorithms.kmeans.init.*;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+class KMeansDenseOnline {
+    /* Input data set parameters */
+    private static final String dataset       = "../data/batch/kmeans_dense.csv";
+    private static final int    nClusters     = 20;
+
+    /* K-Means algorithm parameters */
+    private static final int nVectorsInBlock = 1000;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+        /* Initialize FileDataSource to retrieve the input data from a .csv file */
+        FileDataSource dataSource = new FileDataSource(context, dataset,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.DoAllocateNumericTable);
+
+        /* Create an algorithm for K-Means clustering */
+        Online algorithm = new Online(context, Float.class, Method.lloydDense, nClusters);
+
+        NumericTable inputCentroids = null;
+        while (dataSource.loadDataBlock(nVectorsInBlock) == nVectorsInBlock) {
+            NumericTable input = dataSource.getNumericTable();
+
+            if (inputCentroids == null) {
+                /* Calculate initial clusters for K-Means clustering from the first data block */
+                InitBatch init = new InitBatch(context, Float.class, InitMethod.randomDense, nClusters);
+                init.input.set(InitInputId.data, input);
+                InitResult initResult = init.compute();
+                inputCentroids = initResult.get(InitResultId.centroids);
+                algorithm.input.set(InputId.inputCentroids, inputCentroids);
+            }
+
+            algorithm.input.set(InputId.data, input);
+
+            /* Update the centroids with the observations of the data block */
+            algorithm.compute();
+        }
+
+        /* Finalize the computations and retrieve the results */
+        Result result = algorithm.finalizeCompute();
+
+        /* Print the results */
+        Service.printNumericTable("First 10 cluster assignments of the last data block:", result.get(ResultId.assignments), 10);
+        Service.printNumericTable("First 10 dimensions of centroids:", result.get(ResultId.centroids), 20, 10);
+        Service.printNumericTable("Objective function value:", result.get(ResultId.objectiveFunction));
+
+        context.dispose();
+    }
+}
@@ -0,0 +1,140 @@
+/* file: QuantilesDenseDistr.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of computing quantiles in the distributed processing mode
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-QUANTILESDISTRIBUTED">
+ * @example QuantilesDenseDistr.java
+ */
+
+package com.intel.daal.examples.quantiles;
+
+import com.intel.daal.algorithms.quantiles.DistributedStep1Local;
+import com.intel.daal.algorithms.quantiles.DistributedStep2Master;
+import com.intel.daal.algorithms.quantiles.DistributedStep2MasterInputId;
+import com.intel.daal.algorithms.quantiles.InputId;
+import com.intel.daal.algorithms.quantiles.Method;
+import com.intel.daal.algorithms.quantiles.PartialResult;
+import com.intel.daal.algorithms.quantiles.Result;
+import com.intel.daal.algorithms.quantiles.ResultId;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+class QuantilesDenseDistr {
+    /* Input data set parameters */
+    private static final String datasetFileNames[] = new String[] { "../data/distributed/covcormoments_dense_1.csv",
+            "../data/distributed/covcormoments_dense_2.csv", "../data/distributed/covcormoments_dense_3.csv",
+            "../data/distributed/covcormoments_dense_4.csv" };
+
+    private static final int nBlocks = 4;
+
+    /* Quantile orders */
+    private static final double[] quantileOrders = { 0.1, 0.25, 0.5, 0.75, 0.9 };
+
+    private static PartialResult[] partialResult = new PartialResult[nBlocks];
+    private static Result          result;
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+
+        for (int i = 0; i < nBlocks; i++) {
+            computeOnLocalNode(i);
+        }
+
+        computeOnMasterNode();
+
+        Service.printNumericTable("Quantiles:", result.get(ResultId.quantiles));
+
+        context.dispose();
+    }
+
+    private static void computeOnLocalNode(int block) {
+        /* Retrieve the input data from a .csv file */
+        FileDataSource dataSource = new FileDataSource(context, datasetFileNames[block],
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.DoAllocateNumericTable);
+        dataSource.loadDataBlock();
+
+        /* Create an algorithm to compute the sketches of the features in the distributed processing mode */
+        DistributedStep1Local algorithm = new DistributedStep1Local(context, Float.class, Method.sketchDense);
+
+        /* Set the engine that produces its own part of the random numbers sequence on each local node */
+        com.intel.daal.algorithms.engines.mt19937.Batch engine = new com.intel.daal.algorithms.engines.mt19937.Batch(context, Float.class, com.intel.daal.algorithms.engines.mt19937.Method.defaultDense, 777);
+        engine.skipAheadToBlock(block, nBlocks);
+        algorithm.parameter.setEngine(engine);
+        algorithm.parameter.setAccuracy(0.01);
+
+        /* Set input objects for the algorithm */
+        algorithm.input.set(InputId.data, dataSource.getNumericTable());
+
+        /* Compute the sketches of the features on the local node */
+        partialResult[block] = algorithm.compute();
+    }
+
+    private static void computeOnMasterNode() {
+        /* Create an algorithm to compute quantiles in the distributed processing mode */
+        DistributedStep2Master algorithm = new DistributedStep2Master(context, Float.class, Method.sketchDense);
+
+        /* Set the parameters of the algorithm */
+        algorithm.parameter.setQuantileOrders(new HomogenNumericTable(context, quantileOrders, quantileOrders.length, 1));
+        algorithm.parameter.setAccuracy(0.01);
+
+        /* Set input objects for the algorithm */
+        for (int i = 0; i < nBlocks; i++) {
+            algorithm.input.add(DistributedStep2MasterInputId.partialResults, partialResult[i]);
+        }
+
+        /* Merge the sketches computed on local nodes */
+        algorithm.compute();
+
+        /* Compute quantiles from the merged sketches */
+        result = algorithm.finalizeCompute();
+    }
+}
@@ -0,0 +1,105 @@
+/* file: QuantilesDenseOnline.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+ //  Content:
+ //     Java example of computing quantiles in the online processing mode
+ ////////////////////////////////////////////////////////////////////////////////
+ */
+
+/**
+ * <a name="DAAL-EXAMPLE-JAVA-QUANTILESONLINE">
+ * @example QuantilesDenseOnline.java
+ */
+
+package com.intel.daal.examples.quantiles;
+
+import com.intel.daal.algorithms.quantiles.InputId;
+import com.intel.daal.algorithms.quantiles.Method;
+import com.intel.daal.algorithms.quantiles.Online;
+import com.intel.daal.algorithms.quantiles.Result;
+import com.intel.daal.algorithms.quantiles.ResultId;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.examples.utils.Service;
+import com.intel.daal.services.DaalContext;
+
+class QuantilesDenseOnline {
+    /* Input data set parameters */
+    private static final String datasetFileName = "../data/online/covcormoments_dense.csv";
+    private static final int    nVectorsInBlock = 50;
+
+    /* Quantile orders */
+    private static final double[] quantileOrders = { 0.1, 0.25, 0.5, 0.75, 0.9 };
+
+    private static DaalContext context = new DaalContext();
+
+    public static void main(String[] args) throws java.io.FileNotFoundException, java.io.IOException {
+
+        /* Initialize FileDataSource to retrieve the input data from a .csv file */
+        FileDataSource dataSource = new FileDataSource(context, datasetFileName,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.DoAllocateNumericTable);
+
+        /* Create an algorithm to compute approximate quantiles in the online processing mode using the sketch method */
+        Online algorithm = new Online(context, Float.class, Method.sketchDense);
+
+        /* Set the parameters of the algorithm */
+        algorithm.parameter.setQuantileOrders(new HomogenNumericTable(context, quantileOrders, quantileOrders.length, 1));
+        algorithm.parameter.setAccuracy(0.01);
+
+        while (dataSource.loadDataBlock(nVectorsInBlock) == nVectorsInBlock) {
+            /* Set input objects for the algorithm */
+            algorithm.input.set(InputId.data, dataSource.getNumericTable());
+
+            /* Update the sketches of the features with the block of data */
+            algorithm.compute();
+        }
+
+        /* Compute quantiles from the sketches */
+        Result res = algorithm.finalizeCompute();
+
+        Service.printNumericTable("Quantiles:", res.get(ResultId.quantiles));
+
+        context.dispose();
+    }
+}
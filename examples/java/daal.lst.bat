@@ -70,6 +70,7 @@ datasource\DataStructuresPackedSymmetric ^
 datasource\DataStructuresPackedTriangular ^
 datasource\DataStructuresRowMerged ^
 decision_forest\DfClsDenseBatch ^
+decision_forest\DfClsDenseDistr ^
 decision_forest\DfClsTraverseModel ^
 decision_forest\DfRegDenseBatch ^
 decision_forest\DfRegTraverseModel ^
@@ -81,9 +82,17 @@ distance\CorDistDenseBatch ^
 distance\CosDistDenseBatch ^
 em\EmGmmDenseBatch ^
 gbt\GbtClsDenseBatch ^
+gbt\GbtClsDenseDistr ^
+gbt\GbtClsDenseOnline ^
 gbt\GbtRegDenseBatch ^
+gbt\GbtRegDenseDistr ^
+gbt\GbtRegDenseOnline ^
+gbt\GbtRegDenseScorer ^
 kdtree_knn_classification\KDTreeKNNDenseBatch ^
+kdtree_knn_classification\KDTreeKNNDenseOnline ^
+ivf_knn_classification\IVFKNNDenseBatch ^
 kmeans\KMeansDenseBatch ^
+kmeans\KMeansDenseOnline ^
 kmeans\KMeansCSRBatch ^
 kmeans\KMeansDenseBatchAssign ^
 kmeans\KMeansInitDenseBatch ^
@@ -140,6 +149,8 @@ svm\SVMTwoClassDenseBatch ^
 svm\SVMTwoClassCSRBatch ^
 services\LibraryVersionInfoExample ^
 quantiles\QuantilesDenseBatch ^
+quantiles\QuantilesDenseOnline ^
+quantiles\QuantilesDenseDistr ^
 pivoted_qr\PivotedQRDenseBatch ^
 quality_metrics\LinRegMetricsDenseBatch ^
 quality_metrics\PCAMetricsDenseBatch ^
@@ -215,4 +226,6 @@ neural_networks\EltwiseSumLayerDenseBatch ^
 distributions\UniformDenseBatch ^
 distributions\BernoulliDenseBatch ^
 distributions\NormalDenseBatch ^
+distributions\NormalBulkDenseBatch ^
+distributions\Philox4x32x10DenseBatch ^
 enable_thread_pinning\EnableThreadPinning
@@ -48,6 +48,8 @@
 #ifndef __SERVICE_RNG_COMMON_H__
 #define __SERVICE_RNG_COMMON_H__
 
+#include "service_math.h"
+
 namespace daal
 {
 namespace internal
@@ -65,6 +67,172 @@ public:
     virtual void *getState() = 0;
 };
 
+/* Basic random number generator implemented in the library instead of the math library */
+class NativeBaseRNGIface
+{
+public:
+    /* Generates n 32-bit random integers uniformly distributed on [0, 2^32) */
+    virtual void uniformBits32(const size_t n, unsigned int *r) = 0;
+    virtual ~NativeBaseRNGIface() {}
+};
+
+/* State of the basic random number generator passed to the generator functions */
+struct BaseRNGState
+{
+    BaseRNGState() : stream(nullptr), native(nullptr) {}
+
+    void *stream;               /* Stream of the basic generator from the math library */
+    NativeBaseRNGIface *native; /* Basic generator implemented in the library, if not null it is used instead of the stream */
+};
+
+/*
+// Generator functions for the basic generators implemented in the library.
+// Each random number consumes one element of the sequence, except for size_t numbers from the intervals
+// longer than 2^32. Gaussian numbers are generated with inverse CDF method regardless of the requested one
+*/
+template<CpuType cpu>
+class NativeRNGs
+{
+public:
+    /* Generates random numbers uniformly distributed on the interval [a, b) */
+    static int uniform(const size_t n, int *r, NativeBaseRNGIface &brng, const int a, const int b)
+    {
+        if (a >= b) { return errcodeBadParameter; }
+        return uniformIntegers<int>(n, r, brng, a, (DAAL_UINT64)((DAAL_INT64)b - (DAAL_INT64)a));
+    }
+
+    static int uniform(const size_t n, size_t *r, NativeBaseRNGIface &brng, const size_t a, const size_t b)
+    {
+        if (a >= b) { return errcodeBadParameter; }
+        const DAAL_UINT64 len = (DAAL_UINT64)(b - a);
+        if (len <= ((DAAL_UINT64)1 << 32))
+        {
+            return uniformIntegers<size_t>(n, r, brng, a, len);
+        }
+
+        /* Rejects the 64-bit values that are greater than the largest multiple of len to avoid the bias */
+        const DAAL_UINT64 limit = (DAAL_UINT64)(-1) - ((DAAL_UINT64)(-1) % len + 1) % len;
+        unsigned int buf[2 * blockSize];
+        size_t pos = 0;
+        while (pos < n)
+        {
+            const size_t nBlock = (n - pos < blockSize ? n - pos : blockSize);
+            brng.uniformBits32(2 * nBlock, buf);
+            for (size_t i = 0; i < nBlock && pos < n; i++)
+            {
+                const DAAL_UINT64 value = ((DAAL_UINT64)buf[2 * i] << 32) | buf[2 * i + 1];
+                if (value <= limit)
+                {
+                    r[pos++] = a + (size_t)(value % len);
+                }
+            }
+        }
+        return 0;
+    }
+
+    static int uniform(const size_t n, float *r, NativeBaseRNGIface &brng, const float a, const float b)
+    {
+        if (a >= b) { return errcodeBadParameter; }
+        unsigned int buf[blockSize];
+        for (size_t iStart = 0; iStart < n; iStart += blockSize)
+        {
+            const size_t nBlock = (n - iStart < blockSize ? n - iStart : blockSize);
+            brng.uniformBits32(nBlock, buf);
+            for (size_t i = 0; i < nBlock; i++)
+            {
+                const float value = a + (b - a) * ((float)(buf[i] >> 8) * (1.0f / 16777216.0f));
+                /* Rounding may produce the right bound of the interval */
+                r[iStart + i] = (value < b ? value : a);
+            }
+        }
+        return 0;
+    }
+
+    static int uniform(const size_t n, double *r, NativeBaseRNGIface &brng, const double a, const double b)
+    {
+        if (a >= b) { return errcodeBadParameter; }
+        unsigned int buf[blockSize];
+        for (size_t iStart = 0; iStart < n; iStart += blockSize)
+        {
+            const size_t nBlock = (n - iStart < blockSize ? n - iStart : blockSize);
+            brng.uniformBits32(nBlock, buf);
+            for (size_t i = 0; i < nBlock; i++)
+            {
+                const double value = a + (b - a) * ((double)buf[i] * twoPowMinus32);
+                r[iStart + i] = (value < b ? value : a);
+            }
+        }
+        return 0;
+    }
+
+    /* Generates normally distributed random numbers with mean a and standard deviation sigma */
+    template<typename T>
+    static int gaussian(const size_t n, T *r, NativeBaseRNGIface &brng, const T a, const T sigma)
+    {
+        if (sigma <= 0) { return errcodeBadParameter; }
+        unsigned int buf[blockSize];
+        double u[blockSize];
+        for (size_t iStart = 0; iStart < n; iStart += blockSize)
+        {
+            const size_t nBlock = (n - iStart < blockSize ? n - iStart : blockSize);
+            brng.uniformBits32(nBlock, buf);
+            for (size_t i = 0; i < nBlock; i++)
+            {
+                /* Shift to the middle of the interval to get the values in (0, 1) */
+                u[i] = ((double)buf[i] + 0.5) * twoPowMinus32;
+            }
+            Math<double, cpu>::vCdfNormInv(nBlock, u, u);
+            for (size_t i = 0; i < nBlock; i++)
+            {
+                r[iStart + i] = (T)(a + sigma * u[i]);
+            }
+        }
+        return 0;
+    }
+
+    /* Generates Bernoulli distributed random numbers with probability of success p */
+    static int bernoulli(const size_t n, int *r, NativeBaseRNGIface &brng, const double p)
+    {
+        if (p < 0.0 || p > 1.0) { return errcodeBadParameter; }
+        unsigned int buf[blockSize];
+        for (size_t iStart = 0; iStart < n; iStart += blockSize)
+        {
+            const size_t nBlock = (n - iStart < blockSize ? n - iStart : blockSize);
+            brng.uniformBits32(nBlock, buf);
+            for (size_t i = 0; i < nBlock; i++)
+            {
+                r[iStart + i] = ((double)buf[i] * twoPowMinus32 < p ? 1 : 0);
+            }
+        }
+        return 0;
+    }
+
+private:
+    static const size_t blockSize = 256;
+    static const int errcodeBadParameter = -3;
+    static const double twoPowMinus32;
+
+    /* Generates integers uniformly distributed on [a, a + len), len <= 2^32 */
+    template<typename T>
+    static int uniformIntegers(const size_t n, T *r, NativeBaseRNGIface &brng, const T a, const DAAL_UINT64 len)
+    {
+        unsigned int buf[blockSize];
+        for (size_t iStart = 0; iStart < n; iStart += blockSize)
+        {
+            const size_t nBlock = (n - iStart < blockSize ? n - iStart : blockSize);
+            brng.uniformBits32(nBlock, buf);
+            for (size_t i = 0; i < nBlock; i++)
+            {
+                r[iStart + i] = (T)((DAAL_INT64)a + (DAAL_INT64)(((DAAL_UINT64)buf[i] * len) >> 32));
+            }
+        }
+        return 0;
+    }
+};
+
+template<CpuType cpu>
+const double NativeRNGs<cpu>::twoPowMinus32 = 1.0 / 4294967296.0;
+
 } // namespace internal
 } // namespace daal
 
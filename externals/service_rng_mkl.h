@@ -347,7 +347,8 @@ public:
 
     void* getState()
     {
-        return _stream;
+        _state.stream = _stream;
+        return &_state;
     }
 
 protected:
@@ -361,6 +362,7 @@ protected:
 
 private:
     void* _stream;
+    BaseRNGState _state;
     unsigned int *_seed;
     size_t _seedSize;
     const int _brngId;
@@ -380,32 +382,47 @@ public:
 
     int uniform(const SizeType n, Type* r, BaseType &brng, const Type a, const Type b, const int method)
     {
-        return uniformRNG<cpu>(n, r, brng.getState(), a, b, method);
+        return uniform(n, r, brng.getState(), a, b, method);
     }
 
     int uniform(const SizeType n, Type* r, void *state, const Type a, const Type b, const int method)
     {
-        return uniformRNG<cpu>(n, r, state, a, b, method);
+        BaseRNGState *s = (BaseRNGState *)state;
+        if (s->native)
+        {
+            return NativeRNGs<cpu>::uniform(n, r, *s->native, a, b);
+        }
+        return uniformRNG<cpu>(n, r, s->stream, a, b, method);
     }
 
     int bernoulli(const SizeType n, Type* r, BaseType &brng, const double p, const int method)
     {
-        return bernoulliRNG<cpu>(n, r, brng.getState(), p, method);
+        return bernoulli(n, r, brng.getState(), p, method);
     }
 
     int bernoulli(const SizeType n, Type* r, void *state, const double p, const int method)
     {
-        return bernoulliRNG<cpu>(n, r, state, p, method);
+        BaseRNGState *s = (BaseRNGState *)state;
+        if (s->native)
+        {
+            return NativeRNGs<cpu>::bernoulli(n, r, *s->native, p);
+        }
+        return bernoulliRNG<cpu>(n, r, s->stream, p, method);
     }
 
     int gaussian(const SizeType n, Type* r, BaseType &brng, const Type a, const Type sigma, const int method)
     {
-        return gaussianRNG<cpu>(n, r, brng.getState(), a, sigma, method);
+        return gaussian(n, r, brng.getState(), a, sigma, method);
     }
 
     int gaussian(const SizeType n, Type* r, void *state, const Type a, const Type sigma, const int method)
     {
-        return gaussianRNG<cpu>(n, r, state, a, sigma, method);
+        BaseRNGState *s = (BaseRNGState *)state;
+        if (s->native)
+        {
+            return NativeRNGs<cpu>::gaussian(n, r, *s->native, a, sigma);
+        }
+        return gaussianRNG<cpu>(n, r, s->stream, a, sigma, method);
     }
 };
 
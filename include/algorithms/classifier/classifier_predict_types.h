@@ -227,6 +227,7 @@ public:
                            int method) const DAAL_C11_OVERRIDE;
 
 protected:
+    Result(const size_t n);
     services::Status checkImpl(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter) const;
 
     /** \private */
@@ -0,0 +1,453 @@
+/* file: decision_forest_classification_training_distributed.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+
+/*
+//++
+//  Implementation of the interface for decision forest classification model-based training
+//  in the distributed processing mode
+//--
+*/
+
+#ifndef __DECISION_FOREST_CLASSIFICATION_TRAINING_DISTRIBUTED_H__
+#define __DECISION_FOREST_CLASSIFICATION_TRAINING_DISTRIBUTED_H__
+
+#include "algorithms/algorithm.h"
+#include "algorithms/classifier/classifier_training_types.h"
+#include "algorithms/decision_forest/decision_forest_classification_training_types.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace decision_forest
+{
+namespace classification
+{
+namespace training
+{
+namespace interface1
+{
+/**
+ * @defgroup decision_forest_classification_training_distributed Distributed
+ * @ingroup decision_forest_classification_training
+ * @{
+ */
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTEDCONTAINER"></a>
+ * \brief Provides methods to run implementations of decision forest classification model-based training
+ *        in the distributed processing mode.
+ *        This class is associated with daal::algorithms::decision_forest::classification::training::Distributed class
+ *
+ * \tparam step             Step of the distributed processing mode, \ref ComputeStep
+ * \tparam algorithmFPType  Data type to use in intermediate computations, double or float
+ * \tparam method           Decision forest model training method, \ref Method
+ */
+template<ComputeStep step, typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT DistributedContainer;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTEDCONTAINER_STEP1LOCAL_ALGORITHMFPTYPE_METHOD_CPU"></a>
+ * \brief Provides methods to build the partial forest on the local node in the first step of the distributed processing mode
+ */
+template<typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT DistributedContainer<step1Local, algorithmFPType, method, cpu> : public TrainingContainerIface<distributed>
+{
+public:
+    /**
+     * Constructs a container for decision forest classification model-based training with a specified environment
+     * in the first step of the distributed processing mode
+     * \param[in] daalEnv   Environment object
+     */
+    DistributedContainer(daal::services::Environment::env *daalEnv);
+    /** Default destructor */
+    ~DistributedContainer();
+    /**
+     * Computes the partial result of decision forest classification model-based training
+     * in the first step of the distributed processing mode
+     * \return Status of computations
+     */
+    services::Status compute() DAAL_C11_OVERRIDE;
+    /**
+     * Does nothing in the first step of the distributed processing mode
+     * \return Status of computations
+     */
+    services::Status finalizeCompute() DAAL_C11_OVERRIDE;
+    services::Status setupCompute() DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTEDCONTAINER_STEP2MASTER_ALGORITHMFPTYPE_METHOD_CPU"></a>
+ * \brief Provides methods to merge the partial forests on the master node in the second step of the distributed processing mode
+ */
+template<typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT DistributedContainer<step2Master, algorithmFPType, method, cpu> : public TrainingContainerIface<distributed>
+{
+public:
+    /**
+     * Constructs a container for decision forest classification model-based training with a specified environment
+     * in the second step of the distributed processing mode
+     * \param[in] daalEnv   Environment object
+     */
+    DistributedContainer(daal::services::Environment::env *daalEnv);
+    /** Default destructor */
+    ~DistributedContainer();
+    /**
+     * Merges the partial results computed on local nodes into the partial result of the master node
+     * \return Status of computations
+     */
+    services::Status compute() DAAL_C11_OVERRIDE;
+    /**
+     * Computes the result of decision forest classification model-based training
+     * in the second step of the distributed processing mode
+     * \return Status of computations
+     */
+    services::Status finalizeCompute() DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTED"></a>
+ * \brief Trains model of the decision forest classification algorithm in the distributed processing mode
+ * <!-- \n<a href="DAAL-REF-DECISION_FOREST__CLASSIFICATION-ALGORITHM">Decision forest algorithm description and usage models</a> -->
+ *
+ * \tparam step             Step of the distributed processing mode, \ref ComputeStep
+ * \tparam algorithmFPType  Data type to use in intermediate computations for decision forest, double or float
+ * \tparam method           Decision forest computation method, \ref daal::algorithms::decision_forest::classification::training::Method
+ */
+template<ComputeStep step, typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class DAAL_EXPORT Distributed {};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTED_STEP1LOCAL_ALGORITHMFPTYPE_METHOD"></a>
+ * \brief Builds the partial forest of parameter.nTrees trees on the local data
+ *        in the first step of the distributed processing mode.
+ *        The trees are built with the same random streams as the trees of the batch processing mode
+ *        with the indices from parameter.firstTreeIndex to parameter.firstTreeIndex + parameter.nTrees - 1
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for decision forest, double or float
+ * \tparam method           Decision forest computation method, \ref daal::algorithms::decision_forest::classification::training::Method
+ *
+ * \par Enumerations
+ *      - \ref Method                                 Decision forest training methods
+ *      - \ref classifier::training::InputId          Identifiers of input objects for the decision forest training algorithm
+ *      - \ref classifier::training::PartialResultId  Identifiers of partial models of decision forest training
+ *      - \ref PartialResultNumericTableId            Identifiers of numeric tables of decision forest training partial results
+ */
+template<typename algorithmFPType, Method method>
+class DAAL_EXPORT Distributed<step1Local, algorithmFPType, method> : public Training<distributed>
+{
+public:
+    typedef algorithms::classifier::training::Input                                      InputType;
+    typedef algorithms::decision_forest::classification::training::DistributedStep1Parameter ParameterType;
+    typedef algorithms::decision_forest::classification::training::PartialResult        PartialResultType;
+
+    ParameterType parameter;    /*!< \ref interface1::DistributedStep1Parameter "Parameters" of the algorithm */
+    InputType input;            /*!< %Input data structure */
+
+    /**
+     * Constructs the decision forest training algorithm
+     * \param[in] nClasses  Number of classes
+     */
+    Distributed(size_t nClasses) : parameter(nClasses)
+    {
+        initialize();
+        parameter.minObservationsInLeafNode = 1;
+    }
+
+    /**
+     * Constructs a decision forest training algorithm by copying input objects and parameters
+     * of another decision forest training algorithm
+     * \param[in] other An algorithm to be used as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Distributed(const Distributed<step1Local, algorithmFPType, method> &other) : Training<distributed>(other),
+        parameter(other.parameter), input(other.input)
+    {
+        initialize();
+    }
+
+    virtual ~Distributed() {}
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Registers user-allocated memory to store the partial result of decision forest training
+     * \param[in] partialResult    Structure to store the partial result
+     *
+     * \return Status of computations
+     */
+    services::Status setPartialResult(const PartialResultPtr& partialResult)
+    {
+        DAAL_CHECK(partialResult, services::ErrorNullPartialResult);
+        _partialResult = partialResult;
+        _pres = _partialResult.get();
+        return services::Status();
+    }
+
+    /**
+     * Returns the structure that contains the partial result of decision forest training
+     * \return Structure that contains the partial result
+     */
+    PartialResultPtr getPartialResult() { return _partialResult; }
+
+    /**
+     * Returns a pointer to the newly allocated decision forest training algorithm with a copy of input objects
+     * and parameters of this decision forest training algorithm
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Distributed<step1Local, algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Distributed<step1Local, algorithmFPType, method> >(cloneImpl());
+    }
+
+    virtual services::Status checkComputeParams() DAAL_C11_OVERRIDE;
+
+protected:
+    PartialResultPtr _partialResult;
+
+    virtual Distributed<step1Local, algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Distributed<step1Local, algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        return services::Status();
+    }
+
+    services::Status allocatePartialResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = _partialResult->template allocate<algorithmFPType>(&input, &parameter, (int)method);
+        _pres = _partialResult.get();
+        return s;
+    }
+
+    services::Status initializePartialResult() DAAL_C11_OVERRIDE
+    {
+        return services::Status();
+    }
+
+    void initialize()
+    {
+        _ac  = new __DAAL_ALGORITHM_CONTAINER(distributed, DistributedContainer, step1Local, algorithmFPType, method)(&_env);
+        _in  = &input;
+        _par = &parameter;
+        _partialResult.reset(new PartialResultType());
+    }
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTED_STEP2MASTER_ALGORITHMFPTYPE_METHOD"></a>
+ * \brief Merges the partial forests computed on local nodes into the decision forest
+ *        in the second step of the distributed processing mode
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for decision forest, double or float
+ * \tparam method           Decision forest computation method, \ref daal::algorithms::decision_forest::classification::training::Method
+ *
+ * \par Enumerations
+ *      - \ref Method                         Decision forest training methods
+ *      - \ref Step2MasterInputId             Identifiers of input objects in the second step of the distributed processing mode
+ *      - \ref classifier::training::ResultId Identifiers of decision forest training results
+ */
+template<typename algorithmFPType, Method method>
+class DAAL_EXPORT Distributed<step2Master, algorithmFPType, method> : public Training<distributed>
+{
+public:
+    typedef algorithms::decision_forest::classification::training::DistributedInput InputType;
+    typedef algorithms::decision_forest::classification::training::Parameter        ParameterType;
+    typedef algorithms::decision_forest::classification::training::Result           ResultType;
+    typedef algorithms::decision_forest::classification::training::PartialResult    PartialResultType;
+
+    ParameterType parameter;    /*!< \ref interface1::Parameter "Parameters" of the algorithm */
+    InputType input;            /*!< %Input objects of the algorithm */
+
+    /**
+     * Constructs the decision forest training algorithm
+     * \param[in] nClasses  Number of classes
+     */
+    Distributed(size_t nClasses) : parameter(nClasses)
+    {
+        initialize();
+        parameter.minObservationsInLeafNode = 1;
+    }
+
+    /**
+     * Constructs a decision forest training algorithm by copying input objects and parameters
+     * of another decision forest training algorithm
+     * \param[in] other An algorithm to be used as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Distributed(const Distributed<step2Master, algorithmFPType, method> &other) : Training<distributed>(other),
+        parameter(other.parameter), input(other.input)
+    {
+        initialize();
+    }
+
+    virtual ~Distributed() {}
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Registers user-allocated memory to store the merged partial result of decision forest training
+     * \param[in] partialResult    Structure to store the partial result
+     *
+     * \return Status of computations
+     */
+    services::Status setPartialResult(const PartialResultPtr& partialResult)
+    {
+        DAAL_CHECK(partialResult, services::ErrorNullPartialResult);
+        _partialResult = partialResult;
+        _pres = _partialResult.get();
+        return services::Status();
+    }
+
+    /**
+     * Returns the structure that contains the merged partial result of decision forest training
+     * \return Structure that contains the partial result
+     */
+    PartialResultPtr getPartialResult() { return _partialResult; }
+
+    /**
+     * Registers user-allocated memory to store results of decision forest training
+     * \param[in] result  Structure to store results of decision forest training
+     *
+     * \return Status of computations
+     */
+    services::Status setResult(const ResultPtr& result)
+    {
+        DAAL_CHECK(result, services::ErrorNullResult)
+        _result = result;
+        _res = _result.get();
+        return services::Status();
+    }
+
+    /**
+     * Returns the structure that contains results of decision forest training
+     * \return Structure that contains results of decision forest training
+     */
+    ResultPtr getResult()
+    {
+        return ResultType::cast(_result);
+    }
+
+    /**
+     * Validates parameters of the finalizeCompute() method
+     *
+     * \return Status of computations
+     */
+    services::Status checkFinalizeComputeParams() DAAL_C11_OVERRIDE
+    {
+        PartialResultPtr partialResult = getPartialResult();
+        DAAL_CHECK(partialResult, services::ErrorNullPartialResult);
+        services::Status s;
+        DAAL_CHECK_STATUS(s, partialResult->check(_par, method));
+        ResultPtr result = getResult();
+        DAAL_CHECK(result, services::ErrorNullResult);
+        DAAL_CHECK_STATUS(s, result->check(_pres, _par, method));
+        return s;
+    }
+
+    /**
+     * Returns a pointer to the newly allocated decision forest training algorithm with a copy of input objects
+     * and parameters of this decision forest training algorithm
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Distributed<step2Master, algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Distributed<step2Master, algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    PartialResultPtr _partialResult;
+    ResultPtr _result;
+
+    virtual Distributed<step2Master, algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Distributed<step2Master, algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = _result->template allocate<algorithmFPType>(_partialResult.get(), &parameter, (int)method);
+        _res = _result.get();
+        return s;
+    }
+
+    services::Status allocatePartialResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = _partialResult->template allocate<algorithmFPType>(&input, &parameter, (int)method);
+        _pres = _partialResult.get();
+        return s;
+    }
+
+    services::Status initializePartialResult() DAAL_C11_OVERRIDE
+    {
+        return services::Status();
+    }
+
+    void initialize()
+    {
+        _ac  = new __DAAL_ALGORITHM_CONTAINER(distributed, DistributedContainer, step2Master, algorithmFPType, method)(&_env);
+        _in  = &input;
+        _par = &parameter;
+        _result.reset(new ResultType());
+        _partialResult.reset(new PartialResultType());
+    }
+};
+/** @} */
+} // namespace interface1
+using interface1::DistributedContainer;
+using interface1::Distributed;
+
+} // namespace training
+} // namespace classification
+} // namespace decision_forest
+} // namespace algorithms
+} // namespace daal
+#endif
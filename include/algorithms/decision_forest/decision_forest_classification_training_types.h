@@ -52,6 +52,7 @@
 #include "algorithms/classifier/classifier_training_types.h"
 #include "algorithms/decision_forest/decision_forest_classification_model.h"
 #include "algorithms/decision_forest/decision_forest_training_parameter.h"
+#include "data_management/data/data_collection.h"
 
 namespace daal
 {
@@ -96,6 +97,32 @@ enum ResultNumericTableId
     lastResultId = outOfBagErrorPerObservation
 };
 
+/**
+* <a name="DAAL-ENUM-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__PARTIAL_RESULT_NUMERIC_TABLEID"></a>
+* \brief Available identifiers of the partial results of decision forest model-based training in the distributed processing mode
+*/
+enum PartialResultNumericTableId
+{
+    partialVariableImportance = classifier::training::partialModel + 1, /*!< %Numeric table 2x(number of features) containing the mean of the variable
+                                                                              importance over the trees of the partial forest in the first row
+                                                                              and the sum of squared deviations from the mean in the second row.
+                                                                              Computed when parameter.varImportance != none */
+    partialOutOfBagError,                                               /*!< %Numeric table 1x2 containing the number of observations predicted by
+                                                                              the out-of-bag trees and the sum of their out-of-bag errors.
+                                                                              Computed when computeOutOfBagError option is on */
+    lastPartialResultNumericTableId = partialOutOfBagError
+};
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__STEP2MASTERINPUTID"></a>
+ * \brief Available identifiers of input objects of decision forest model-based training on the master node
+ */
+enum Step2MasterInputId
+{
+    partialResults,     /*!< Collection of partial results computed on local nodes */
+    lastStep2MasterInputId = partialResults
+};
+
 /**
  * \brief Contains version 1.0 of Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface.
  */
@@ -116,6 +143,25 @@ struct DAAL_EXPORT Parameter : public classifier::Parameter, public daal::algori
 };
 /* [Parameter source code] */
 
+/**
+ * <a name="DAAL-STRUCT-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTEDSTEP1PARAMETER"></a>
+ * \brief Parameters of decision forest model-based training in the first step of the distributed processing mode.
+ *        The local node builds nTrees trees of the forest starting from the tree with index firstTreeIndex.
+ *        The random numbers generator of each tree is initialized with the seed and the index of the tree in the forest,
+ *        so the trees do not depend on the number of local nodes the forest is split between
+ *
+ * \snippet decision_forest/decision_forest_classification_training_types.h DistributedStep1Parameter source code
+ */
+/* [DistributedStep1Parameter source code] */
+struct DAAL_EXPORT DistributedStep1Parameter : public Parameter
+{
+    /** Default constructor */
+    DistributedStep1Parameter(size_t nClasses) : Parameter(nClasses), firstTreeIndex(0) {}
+
+    size_t firstTreeIndex;  /*!< Index of the first tree built on the local node in the forest. Default is 0 */
+};
+/* [DistributedStep1Parameter source code] */
+
 
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__RESULT"></a>
@@ -168,6 +214,25 @@ public:
     template <typename algorithmFPType>
     DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
 
+    /**
+     * Allocates memory to store final results of decision forest model-based training in the distributed processing mode
+     * \param[in] partialResult Partial result of the algorithm computed on the master node
+     * \param[in] parameter     Parameters of the algorithm
+     * \param[in] method        Computation method
+     * \return Status of allocation
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+    * Checks the result of decision forest model-based training in the distributed processing mode
+    * \param[in] partialResult Partial result of the algorithm computed on the master node
+    * \param[in] par           %Parameter of the algorithm
+    * \param[in] method        Computation method
+    * \return Status of checking
+    */
+    services::Status check(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
     /**s
     * Checks the result of decision forest model-based training
     * \param[in] input   %Input object for the algorithm
@@ -187,10 +252,149 @@ protected:
 };
 typedef services::SharedPtr<Result> ResultPtr;
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__PARTIALRESULT"></a>
+ * \brief Provides methods to access partial results obtained with the compute() method
+ *        of decision forest model-based training in the distributed processing mode.
+ *        The partial result holds the forest built on a local node, or the forest merged on the master node,
+ *        along with the statistics required to compute the out-of-bag error and the variable importance of the whole forest
+ */
+class DAAL_EXPORT PartialResult : public classifier::training::PartialResult
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(PartialResult);
+
+    PartialResult();
+    virtual ~PartialResult() {}
+
+    /**
+     * Returns the partial forest
+     * \param[in] id    Identifier of the partial result, \ref classifier::training::PartialResultId
+     * \return          Partial forest
+     */
+    ModelPtr get(classifier::training::PartialResultId id) const;
+
+    /**
+     * Sets the partial forest
+     * \param[in] id      Identifier of the partial result, \ref classifier::training::PartialResultId
+     * \param[in] value   Partial forest
+     */
+    void set(classifier::training::PartialResultId id, const ModelPtr &value);
+
+    /**
+     * Returns the partial result of decision forest model-based training
+     * \param[in] id    Identifier of the partial result
+     * \return          Partial result that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(PartialResultNumericTableId id) const;
+
+    /**
+     * Sets the partial result of decision forest model-based training
+     * \param[in] id      Identifier of the partial result
+     * \param[in] value   Partial result
+     */
+    void set(PartialResultNumericTableId id, const data_management::NumericTablePtr &value);
+
+    /**
+     * Returns the number of features in the training data set
+     * \return Number of features in the training data set
+     */
+    size_t getNumberOfFeatures() const;
+
+    /**
+     * Allocates memory to store partial results of decision forest model-based training
+     * \param[in] input         %Input of the algorithm, \ref classifier::training::InputIface
+     * \param[in] parameter     Parameters of the algorithm
+     * \param[in] method        Computation method
+     * \return Status of allocation
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Checks partial results of decision forest model-based training
+     * \param[in] input     %Input object for the algorithm
+     * \param[in] par       %Parameter of the algorithm
+     * \param[in] method    Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks partial results of decision forest model-based training
+     * \param[in] par       %Parameter of the algorithm
+     * \param[in] method    Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return classifier::training::PartialResult::serialImpl<Archive, onDeserialize>(arch);
+    }
+
+    services::Status checkImpl(size_t nFeatures, const daal::algorithms::Parameter *par) const;
+};
+typedef services::SharedPtr<PartialResult> PartialResultPtr;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTEDINPUT"></a>
+ * \brief %Input objects of decision forest model-based training on the master node in the distributed processing mode
+ */
+class DAAL_EXPORT DistributedInput : public classifier::training::InputIface
+{
+public:
+    DistributedInput();
+    DistributedInput(const DistributedInput& other) : classifier::training::InputIface(other) {}
+    virtual ~DistributedInput() {}
+
+    /**
+     * Returns the number of features in the training data set
+     * \return Number of features in the training data set
+     */
+    virtual size_t getNumberOfFeatures() const DAAL_C11_OVERRIDE;
+
+    /**
+     * Returns the collection of partial results computed on local nodes
+     * \param[in] id    Identifier of the input object
+     * \return          Input object that corresponds to the given identifier
+     */
+    data_management::DataCollectionPtr get(Step2MasterInputId id) const;
+
+    /**
+     * Sets the collection of partial results computed on local nodes
+     * \param[in] id      Identifier of the input object
+     * \param[in] value   Input object
+     */
+    void set(Step2MasterInputId id, const data_management::DataCollectionPtr &value);
+
+    /**
+     * Adds the partial result computed on a local node to the input of the master node
+     * \param[in] id              Identifier of the input object
+     * \param[in] partialResult   Partial result computed on a local node
+     */
+    void add(Step2MasterInputId id, const PartialResultPtr &partialResult);
+
+    /**
+     * Checks the input objects of decision forest model-based training on the master node
+     * \param[in] par       %Parameter of the algorithm
+     * \param[in] method    Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+};
+
 } // namespace interface1
 using interface1::Parameter;
+using interface1::DistributedStep1Parameter;
 using interface1::Result;
 using interface1::ResultPtr;
+using interface1::PartialResult;
+using interface1::PartialResultPtr;
+using interface1::DistributedInput;
 
 } // namespace daal::algorithms::decision_forest::classification::training
 /** @} */
@@ -64,7 +64,9 @@ namespace interface1
 {
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__DISTRIBUTIONS__BATCHBASE"></a>
- *  \brief Class representing distributions
+ *  \brief Class representing distributions.
+ *         Large tables are filled in parallel with copies of the engine moved forward with skipAhead,
+ *         so the result depends on the seed of the engine and not on the number of threads
  */
 class DAAL_EXPORT BatchBase : public daal::algorithms::Analysis<batch>
 {
@@ -122,6 +122,23 @@ public:
         return skipAheadImpl(nSkip);
     }
 
+    /**
+     * Enables the usage of current engine in parallel regions of code with block-splitting method.
+     * Splits the sequence of the engine into nThreads non-overlapping blocks of equal size
+     * and skips ahead to the beginning of the threadIdx-th block
+     * \param[in] threadIdx  Index of the thread
+     * \param[in] nThreads   Number of threads
+     *
+     * \return Status of computations
+     */
+    services::Status skipAheadToBlock(size_t threadIdx, size_t nThreads)
+    {
+        if(threadIdx >= nThreads)
+            return services::Status(services::ErrorIncorrectParameter);
+        const size_t blockSize = (size_t(-1) >> 1) / nThreads;
+        return skipAheadImpl(threadIdx * blockSize);
+    }
+
     /**
      * Returns a pointer to the newly allocated engine
      * with a copy of input objects and parameters of this engine
@@ -136,7 +153,7 @@ protected:
     virtual services::Status saveStateImpl(byte* dest) const { return services::Status(); }
     virtual services::Status loadStateImpl(const byte* src) { return services::Status(); }
     virtual services::Status leapfrogImpl(size_t threadNum, size_t nThreads) { return services::Status(services::ErrorMethodNotSupported); }
-    virtual services::Status skipAheadImpl(size_t nSkip) { return services::Status(); }
+    virtual services::Status skipAheadImpl(size_t nSkip) { return services::Status(services::ErrorSkipAheadUnsupported); }
     virtual BatchBase *cloneImpl() const = 0;
 };
 typedef services::SharedPtr<BatchBase> EnginePtr;
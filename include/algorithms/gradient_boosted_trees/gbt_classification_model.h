@@ -121,6 +121,42 @@ public:
      */
     virtual void clear() = 0;
 
+    /**
+     *  Returns the number of nodes in i-th tree
+     *  \param[in] iTree    Index of the tree
+     *  \return number of nodes in the tree, 0 if there is no tree with such index
+     */
+    virtual size_t getNumberOfNodes(size_t iTree) const = 0;
+
+    /**
+     *  Copies i-th tree into flat arrays of node attributes, with one element per node of the tree.
+     *  Node 0 is the root of the tree. Observations with the value of the split feature less than or equal to
+     *  the split value (equal to it for categorical features) go to the left child of the split node
+     *  \param[in]  iTree         Index of the tree
+     *  \param[out] featureIndex  Index of the split feature of each split node, -1 for leaf nodes
+     *  \param[out] featureValue  Split value of each split node, 0 for leaf nodes
+     *  \param[out] leftChild     Index of the left child of each split node, -1 for leaf nodes
+     *  \param[out] rightChild    Index of the right child of each split node, -1 for leaf nodes
+     *  \param[out] response      Value of each leaf node added to the raw prediction of the class of the tree, 0 for split nodes
+     *  \return Status of the operation
+     */
+    virtual services::Status exportTree(size_t iTree, int *featureIndex, double *featureValue,
+                                        int *leftChild, int *rightChild, double *response) const = 0;
+
+    /**
+     *  Adds the tree given by flat arrays of node attributes to the model, in the format produced by exportTree().
+     *  Nodes may be stored in any order, but node 0 must be the root and every other node must be a child of exactly one split node
+     *  \param[in] nNodes        Number of nodes in the tree
+     *  \param[in] featureIndex  Index of the split feature of each split node, -1 for leaf nodes
+     *  \param[in] featureValue  Split value of each split node
+     *  \param[in] leftChild     Index of the left child of each split node
+     *  \param[in] rightChild    Index of the right child of each split node
+     *  \param[in] response      Value of each leaf node added to the raw prediction of the class of the tree
+     *  \return Status of the operation
+     */
+    virtual services::Status importTree(size_t nNodes, const int *featureIndex, const double *featureValue,
+                                        const int *leftChild, const int *rightChild, const double *response) = 0;
+
 protected:
     Model() : classifier::Model()
     {}
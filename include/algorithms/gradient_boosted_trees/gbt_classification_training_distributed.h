@@ -0,0 +1,451 @@
+/* file: gbt_classification_training_distributed.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the interface for gradient boosted trees classification model-based training
+//  in the distributed processing mode
+//--
+*/
+
+#ifndef __GBT_CLASSIFICATION_TRAINING_DISTRIBUTED_H__
+#define __GBT_CLASSIFICATION_TRAINING_DISTRIBUTED_H__
+
+#include "algorithms/algorithm.h"
+#include "algorithms/training.h"
+#include "data_management/data/numeric_table.h"
+#include "services/daal_defines.h"
+#include "services/daal_memory.h"
+#include "algorithms/gradient_boosted_trees/gbt_classification_training_types.h"
+#include "algorithms/gradient_boosted_trees/gbt_classification_model.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace gbt
+{
+namespace classification
+{
+namespace training
+{
+namespace interface1
+{
+/**
+ * @defgroup gbt_classification_training_distributed Distributed
+ * @ingroup gbt_classification_training
+ * @{
+ */
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__CLASSIFICATION__TRAINING__DISTRIBUTEDCONTAINER"></a>
+ * \brief Class containing methods for gradient boosted trees classification model-based training in the distributed processing mode
+ */
+template<ComputeStep step, typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT DistributedContainer
+{};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__CLASSIFICATION__TRAINING__DISTRIBUTEDCONTAINER_STEP1LOCAL_ALGORITHMFPTYPE_METHOD_CPU"></a>
+ * \brief Class containing methods for gradient boosted trees classification model-based training
+ * in the first step of the distributed processing mode
+ */
+template<typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT DistributedContainer<step1Local, algorithmFPType, method, cpu> : public TrainingContainerIface<distributed>
+{
+public:
+    /**
+     * Constructs a container for model-based training with a specified environment
+     * in the first step of the distributed processing mode
+     * \param[in] daalEnv   Environment object
+     */
+    DistributedContainer(daal::services::Environment::env *daalEnv);
+    /** Default destructor */
+    ~DistributedContainer();
+
+    /**
+     * Computes a partial result of model-based training in the first step of the distributed processing mode
+     * \return Status of computations
+     */
+    services::Status compute() DAAL_C11_OVERRIDE;
+    /**
+     * Does nothing, the result of model-based training is computed in the second step of the distributed processing mode
+     * \return Status of computations
+     */
+    services::Status finalizeCompute() DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__CLASSIFICATION__TRAINING__DISTRIBUTEDCONTAINER_STEP2MASTER_ALGORITHMFPTYPE_METHOD_CPU"></a>
+ * \brief Class containing methods for gradient boosted trees classification model-based training
+ * in the second step of the distributed processing mode
+ */
+template<typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT DistributedContainer<step2Master, algorithmFPType, method, cpu> : public TrainingContainerIface<distributed>
+{
+public:
+    /**
+     * Constructs a container for model-based training with a specified environment
+     * in the second step of the distributed processing mode
+     * \param[in] daalEnv   Environment object
+     */
+    DistributedContainer(daal::services::Environment::env *daalEnv);
+    /** Default destructor */
+    ~DistributedContainer();
+
+    /**
+     * Computes the training state in the second step of the distributed processing mode
+     * \return Status of computations
+     */
+    services::Status compute() DAAL_C11_OVERRIDE;
+    /**
+     * Computes the result of model-based training in the second step of the distributed processing mode
+     * \return Status of computations
+     */
+    services::Status finalizeCompute() DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__CLASSIFICATION__TRAINING__DISTRIBUTED"></a>
+ * \brief Provides methods for gradient boosted trees classification model-based training in the distributed processing mode.
+ *        Only binary classification with the logistic loss function is supported.
+ *        Trees are built level by level with the histogram-based split finding method.
+ *        In each round, every local node runs Distributed<step1Local> on its data block with the training state
+ *        computed in the previous round, and the master node runs Distributed<step2Master> on the collected partial results
+ *        to get the training state for the next round, until DistributedPartialResult::isCompleted() returns true.
+ *        Then the master node runs finalizeCompute() to get the model
+ * <!-- \n<a href="DAAL-REF-GBT__CLASSIFICATION__TRAINING-ALGORITHM">gradient boosted trees algorithm description and usage models</a> -->
+ *
+ * \tparam step             Step of the algorithm in the distributed processing mode, \ref ComputeStep
+ * \tparam algorithmFPType  Data type to use in intermediate computations for model-based training, double or float
+ * \tparam method           gradient boosted trees training method, \ref Method
+ *
+ * \par Enumerations
+ *      - \ref Method  Computation methods
+ *
+ * \par References
+ *      - \ref gbt::classification::interface1::Model "Model" class
+ *      - \ref prediction::interface1::Batch "prediction::Batch" class
+ */
+template<ComputeStep step, typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class DAAL_EXPORT Distributed : public Training<distributed> {};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__CLASSIFICATION__TRAINING__DISTRIBUTED_STEP1LOCAL_ALGORITHMFPTYPE_METHOD"></a>
+ * \brief Performs gradient boosted trees classification model-based training in the first step of the distributed processing mode.
+ *        In the first round, the algorithm computes quantiles of the local feature values,
+ *        in the next rounds it computes histograms of gradients for the open nodes of the tree being built.
+ *        A new algorithm object is used in each round
+ * <!-- \n<a href="DAAL-REF-GBT__CLASSIFICATION__TRAINING-ALGORITHM">gradient boosted trees algorithm description and usage models</a> -->
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for model-based training, double or float
+ * \tparam method           gradient boosted trees training method, \ref Method
+ *
+ * \par Enumerations
+ *      - \ref Method  Computation methods
+ */
+template<typename algorithmFPType, Method method>
+class DAAL_EXPORT Distributed<step1Local, algorithmFPType, method> : public Training<distributed>
+{
+public:
+    typedef algorithms::gbt::classification::training::DistributedStep1LocalInput    InputType;
+    typedef algorithms::gbt::classification::training::Parameter                     ParameterType;
+    typedef algorithms::gbt::classification::training::DistributedPartialResultStep1 PartialResultType;
+
+    InputType input;            /*!< %Input data structure */
+    ParameterType parameter;    /*!< %Training \ref interface1::Parameter "parameters" */
+
+    /**
+     * Constructs a gradient boosted trees training algorithm
+     * \param[in] nClasses  Number of classes, only binary classification is supported
+     */
+    Distributed(size_t nClasses) : parameter(nClasses)
+    {
+        initialize();
+    }
+
+    /**
+     * Constructs a gradient boosted trees training algorithm by copying input objects and parameters
+     * of another gradient boosted trees training algorithm in the first step of the distributed processing mode
+     * \param[in] other Algorithm to use as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Distributed(const Distributed<step1Local, algorithmFPType, method> &other) : input(other.input), parameter(other.parameter)
+    {
+        initialize();
+    }
+
+    ~Distributed() {}
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Returns the structure that contains a partial result of model-based training
+     * in the first step of the distributed processing mode
+     * \return Structure that contains a partial result of model-based training
+     */
+    DistributedPartialResultStep1Ptr getPartialResult() { return _partialResult; }
+
+    /**
+     * Registers user-allocated memory to store a partial result of model-based training
+     * in the first step of the distributed processing mode
+     * \param[in] partialResult    Structure to store a partial result of model-based training
+     * \return Status of computations
+     */
+    services::Status setPartialResult(const DistributedPartialResultStep1Ptr& partialResult)
+    {
+        DAAL_CHECK(partialResult, services::ErrorNullPartialResult);
+        _partialResult = partialResult;
+        _pres = _partialResult.get();
+        return services::Status();
+    }
+
+    /**
+     * Validates the parameters of the finalizeCompute() method
+     */
+    services::Status checkFinalizeComputeParams() DAAL_C11_OVERRIDE
+    {
+        return services::Status();
+    }
+
+    /**
+     * Returns a pointer to a newly allocated gradient boosted trees training algorithm
+     * with a copy of the input objects and parameters of this algorithm
+     * in the first step of the distributed processing mode
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Distributed<step1Local, algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Distributed<step1Local, algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    DistributedPartialResultStep1Ptr _partialResult;
+
+    virtual Distributed<step1Local, algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Distributed<step1Local, algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        return services::Status();
+    }
+
+    services::Status allocatePartialResult() DAAL_C11_OVERRIDE
+    {
+        _partialResult.reset(new PartialResultType());
+        services::Status s = _partialResult->allocate<algorithmFPType>(&input, &parameter, method);
+        _pres = _partialResult.get();
+        return s;
+    }
+
+    services::Status initializePartialResult() DAAL_C11_OVERRIDE
+    {
+        return services::Status();
+    }
+
+    void initialize()
+    {
+        _ac = new __DAAL_ALGORITHM_CONTAINER(distributed, DistributedContainer, step1Local, algorithmFPType, method)(&_env);
+        _in = &input;
+        _par = &parameter;
+    }
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__CLASSIFICATION__TRAINING__DISTRIBUTED_STEP2MASTER_ALGORITHMFPTYPE_METHOD"></a>
+ * \brief Performs gradient boosted trees classification model-based training in the second step of the distributed processing mode.
+ *        The compute() method merges the partial results of the current round, which are removed from the input afterwards,
+ *        and updates the training state. The same algorithm object is used in all the rounds
+ * <!-- \n<a href="DAAL-REF-GBT__CLASSIFICATION__TRAINING-ALGORITHM">gradient boosted trees algorithm description and usage models</a> -->
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for model-based training, double or float
+ * \tparam method           gradient boosted trees training method, \ref Method
+ *
+ * \par Enumerations
+ *      - \ref Method  Computation methods
+ *
+ * \par References
+ *      - \ref gbt::classification::interface1::Model "Model" class
+ *      - \ref prediction::interface1::Batch "prediction::Batch" class
+ */
+template<typename algorithmFPType, Method method>
+class DAAL_EXPORT Distributed<step2Master, algorithmFPType, method> : public Training<distributed>
+{
+public:
+    typedef algorithms::gbt::classification::training::DistributedStep2MasterInput InputType;
+    typedef algorithms::gbt::classification::training::Parameter                   ParameterType;
+    typedef algorithms::gbt::classification::training::Result                      ResultType;
+    typedef algorithms::gbt::classification::training::DistributedPartialResult    PartialResultType;
+
+    InputType input;            /*!< %Input data structure */
+    ParameterType parameter;    /*!< %Training \ref interface1::Parameter "parameters" */
+
+    /**
+     * Constructs a gradient boosted trees training algorithm
+     * \param[in] nClasses  Number of classes, only binary classification is supported
+     */
+    Distributed(size_t nClasses) : parameter(nClasses)
+    {
+        initialize();
+    }
+
+    /**
+     * Constructs a gradient boosted trees training algorithm by copying input objects and parameters
+     * of another gradient boosted trees training algorithm in the second step of the distributed processing mode
+     * \param[in] other Algorithm to use as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Distributed(const Distributed<step2Master, algorithmFPType, method> &other) : parameter(other.parameter)
+    {
+        initialize();
+        input.set(partialResults, other.input.get(partialResults));
+    }
+
+    ~Distributed() {}
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Registers user-allocated memory to store the training state
+     * \param[in] partialResult    Structure to store the training state
+     * \return Status of computations
+     */
+    services::Status setPartialResult(const DistributedPartialResultPtr& partialResult)
+    {
+        DAAL_CHECK(partialResult, services::ErrorNullPartialResult);
+        _partialResult = partialResult;
+        _pres = _partialResult.get();
+        return services::Status();
+    }
+
+    /**
+     * Returns the structure that contains the training state, which is passed to local nodes in the next round
+     * \return Structure that contains the training state
+     */
+    DistributedPartialResultPtr getPartialResult() { return _partialResult; }
+
+    /**
+     * Registers user-allocated memory to store the result of model-based training
+     * \param[in] res    Structure to store the result of model-based training
+     * \return Status of computations
+     */
+    services::Status setResult(const ResultPtr& res)
+    {
+        DAAL_CHECK(res, services::ErrorNullResult)
+        _result = res;
+        _res = _result.get();
+        return services::Status();
+    }
+
+    /**
+     * Returns the structure that contains the result of model-based training
+     * \return Structure that contains the result of model-based training
+     */
+    ResultPtr getResult() { return _result; }
+
+    /**
+     * Returns a pointer to a newly allocated gradient boosted trees training algorithm
+     * with a copy of the input objects and parameters of this algorithm
+     * in the second step of the distributed processing mode
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Distributed<step2Master, algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Distributed<step2Master, algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    DistributedPartialResultPtr _partialResult;
+    ResultPtr _result;
+
+    virtual Distributed<step2Master, algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Distributed<step2Master, algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = _result->allocate<algorithmFPType>(_pres, &parameter, method);
+        _res = _result.get();
+        return s;
+    }
+
+    services::Status allocatePartialResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = _partialResult->allocate<algorithmFPType>(&input, &parameter, method);
+        _pres = _partialResult.get();
+        return s;
+    }
+
+    services::Status initializePartialResult() DAAL_C11_OVERRIDE
+    {
+        return services::Status();
+    }
+
+    void initialize()
+    {
+        _ac = new __DAAL_ALGORITHM_CONTAINER(distributed, DistributedContainer, step2Master, algorithmFPType, method)(&_env);
+        _in = &input;
+        _par = &parameter;
+        _partialResult.reset(new PartialResultType());
+        _result.reset(new ResultType());
+    }
+};
+/** @} */
+} // namespace interface1
+using interface1::DistributedContainer;
+using interface1::Distributed;
+
+} // namespace training
+} // namespace classification
+} // namespace gbt
+} // namespace algorithms
+} // namespace daal
+#endif
@@ -51,6 +51,7 @@
 #include "algorithms/algorithm.h"
 #include "data_management/data/numeric_table.h"
 #include "data_management/data/data_serialize.h"
+#include "data_management/data/data_collection.h"
 #include "services/daal_defines.h"
 #include "algorithms/gradient_boosted_trees/gbt_regression_model.h"
 #include "algorithms/gradient_boosted_trees/gbt_training_parameter.h"
@@ -120,6 +121,78 @@ enum ResultId
     lastResultId = model
 };
 
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDSTEP1LOCALINPUTID"></a>
+ * \brief Available identifiers of input objects for model-based training in the first step of the distributed processing mode
+ */
+enum DistributedStep1LocalInputId
+{
+    trainingState = lastInputId + 1,   /*!< Training state computed on the master node in the previous round.
+                                            Not set in the first round */
+    lastDistributedStep1LocalInputId = trainingState
+};
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDSTEP1LOCALINTERNALINPUTID"></a>
+ * \brief Available identifiers of internal input objects for model-based training in the first step of the distributed processing mode
+ */
+enum DistributedStep1LocalInternalInputId
+{
+    internalInput = lastDistributedStep1LocalInputId + 1,  /*!< Optional. Sums of the responses of the trees built so far for the local data,
+                                                                the internal result computed on this node in the previous round.
+                                                                If it is not set, the sums are computed with all the trees of the model */
+    lastDistributedStep1LocalInternalInputId = internalInput
+};
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDPARTIALRESULTSTEP1ID"></a>
+ * \brief Available identifiers of partial results of model-based training in the first step of the distributed processing mode
+ */
+enum DistributedPartialResultStep1Id
+{
+    binCandidates,      /*!< Quantiles of each feature of the local data, computed in the first round only */
+    localStatistics,    /*!< Number of observations and sum of the dependent variable values of the local data,
+                             computed in the first round only */
+    histograms,         /*!< Sums of gradients, hessians and numbers of observations per bin
+                             for each open node of the tree and each feature, computed in all the rounds except the first one */
+    internalResult,     /*!< Sums of the responses of the trees built so far for the local data, computed in all the rounds
+                             except the first one. It is the internal input of the next round on this node and is not serialized */
+    lastDistributedPartialResultStep1Id = internalResult
+};
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDSTEP2MASTERINPUTID"></a>
+ * \brief Available identifiers of input objects for model-based training in the second step of the distributed processing mode
+ */
+enum DistributedStep2MasterInputId
+{
+    partialResults,     /*!< Collection of partial results computed on local nodes in the current round */
+    lastDistributedStep2MasterInputId = partialResults
+};
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDPARTIALRESULTID"></a>
+ * \brief Available identifiers of numeric tables of the training state computed in the second step of the distributed processing mode
+ */
+enum DistributedPartialResultId
+{
+    binBorders,         /*!< Upper borders of the bins of each feature */
+    treeNodes,          /*!< Nodes of the tree being built: split feature, split value, left child, right child, response, state */
+    trainingStatus,     /*!< Number of built trees, current level of the tree, number of tree nodes,
+                             completion flag and initial response */
+    lastDistributedPartialResultId = trainingStatus
+};
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDPARTIALRESULTMODELID"></a>
+ * \brief Available identifiers of the model of the training state computed in the second step of the distributed processing mode
+ */
+enum DistributedPartialResultModelId
+{
+    partialModel = lastDistributedPartialResultId + 1,  /*!< Model that contains the trees built so far */
+    lastDistributedPartialResultModelId = partialModel
+};
+
 /**
  * \brief Contains version 1.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface
  */
@@ -178,6 +251,9 @@ public:
     * \return Status of checking
     */
     services::Status check(const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    Input(size_t nElements) : algorithms::regression::training::Input(nElements) {}
 };
 
 /**
@@ -201,6 +277,16 @@ public:
     template<typename algorithmFPType>
     DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const Parameter *parameter, const int method);
 
+    /**
+     * Allocates memory to store the result of model-based training in the distributed processing mode
+     * \param[in] partialResult Pointer to the training state computed in the second step of the distributed processing mode
+     * \param[in] parameter     %Parameter of model-based training
+     * \param[in] method        Computation method for the algorithm
+     * \return Status of allocation
+     */
+    template<typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::PartialResult *partialResult, const Parameter *parameter, const int method);
+
     /**
      * Returns the result of model-based training
      * \param[in] id    Identifier of the result
@@ -224,6 +310,16 @@ public:
      */
     services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
 
+    /**
+     * Checks the result of model-based training in the distributed processing mode
+     * \param[in] partialResult %Training state computed in the second step of the distributed processing mode
+     * \param[in] par           %Parameter of the algorithm
+     * \param[in] method        Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *par,
+                           int method) const DAAL_C11_OVERRIDE;
+
 protected:
     /** \private */
     template<typename Archive, bool onDeserialize>
@@ -234,11 +330,323 @@ protected:
 };
 typedef services::SharedPtr<Result> ResultPtr;
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSSION__TRAINING__DISTRIBUTEDPARTIALRESULT"></a>
+ * \brief Provides methods to access the training state computed with the compute() method
+ *        in the second step of the distributed processing mode.
+ *        The state is passed to local nodes as the input of the next round of training
+ */
+class DAAL_EXPORT DistributedPartialResult : public daal::algorithms::PartialResult
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(DistributedPartialResult)
+    DistributedPartialResult();
+
+    virtual ~DistributedPartialResult() {}
+
+    /**
+     * Allocates memory to store the training state
+     * \param[in] input     Pointer to an object containing the input data
+     * \param[in] parameter %Parameter of model-based training
+     * \param[in] method    Computation method for the algorithm
+     * \return Status of allocation
+     */
+    template<typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Returns a numeric table of the training state
+     * \param[in] id    Identifier of the numeric table
+     * \return          Numeric table that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(DistributedPartialResultId id) const;
+
+    /**
+     * Sets a numeric table of the training state
+     * \param[in] id      Identifier of the numeric table
+     * \param[in] value   Pointer to the numeric table
+     */
+    void set(DistributedPartialResultId id, const data_management::NumericTablePtr &value);
+
+    /**
+     * Returns the model that contains the trees built so far
+     * \param[in] id    Identifier of the model
+     * \return          Model that corresponds to the given identifier
+     */
+    gbt::regression::ModelPtr get(DistributedPartialResultModelId id) const;
+
+    /**
+     * Sets the model that contains the trees built so far
+     * \param[in] id      Identifier of the model
+     * \param[in] value   Pointer to the model
+     */
+    void set(DistributedPartialResultModelId id, const gbt::regression::ModelPtr &value);
+
+    /**
+     * Returns true if the training is completed and the model can be obtained with the finalizeCompute() method
+     * \return Flag that indicates the completion of the training
+     */
+    bool isCompleted() const;
+
+    /**
+     * Returns the number of features in the input data set
+     * \return Number of features in the input data set
+     */
+    size_t getNumberOfFeatures() const;
+
+    /**
+     * Checks the training state computed in the second step of the distributed processing mode
+     * \param[in] input   %Input object for the algorithm
+     * \param[in] par     %Parameter of the algorithm
+     * \param[in] method  Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks the training state computed in the second step of the distributed processing mode
+     * \param[in] par     %Parameter of the algorithm
+     * \param[in] method  Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return daal::algorithms::PartialResult::serialImpl<Archive, onDeserialize>(arch);
+    }
+};
+typedef services::SharedPtr<DistributedPartialResult> DistributedPartialResultPtr;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSSION__TRAINING__ONLINEPARTIALRESULT"></a>
+ * \brief Provides methods to access the training state computed with the compute() method in the online processing mode.
+ *        The state has the same layout as the training state of the distributed processing mode
+ */
+class DAAL_EXPORT OnlinePartialResult : public DistributedPartialResult
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(OnlinePartialResult)
+    OnlinePartialResult();
+
+    virtual ~OnlinePartialResult() {}
+
+    /**
+     * Allocates memory to store the training state in the online processing mode
+     * \param[in] input     Pointer to an object containing the input data
+     * \param[in] parameter %Parameter of model-based training
+     * \param[in] method    Computation method for the algorithm
+     * \return Status of allocation
+     */
+    template<typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Checks the training state computed in the online processing mode
+     * \param[in] input   %Input object for the algorithm
+     * \param[in] par     %Parameter of the algorithm
+     * \param[in] method  Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+    using DistributedPartialResult::check;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return DistributedPartialResult::serialImpl<Archive, onDeserialize>(arch);
+    }
+};
+typedef services::SharedPtr<OnlinePartialResult> OnlinePartialResultPtr;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSSION__TRAINING__DISTRIBUTEDSTEP1LOCALINPUT"></a>
+ * \brief %Input objects for model-based training in the first step of the distributed processing mode
+ */
+class DAAL_EXPORT DistributedStep1LocalInput : public Input
+{
+public:
+    /** Default constructor */
+    DistributedStep1LocalInput();
+
+    /** Copy constructor */
+    DistributedStep1LocalInput(const DistributedStep1LocalInput& other) : Input(other) {}
+
+    virtual ~DistributedStep1LocalInput() {}
+
+    using Input::get;
+    using Input::set;
+
+    /**
+     * Returns the training state computed on the master node in the previous round
+     * \param[in] id    Identifier of the input object
+     * \return          %Input object that corresponds to the given identifier
+     */
+    DistributedPartialResultPtr get(DistributedStep1LocalInputId id) const;
+
+    /**
+     * Sets the training state computed on the master node in the previous round
+     * \param[in] id      Identifier of the input object
+     * \param[in] value   Pointer to the object
+     */
+    void set(DistributedStep1LocalInputId id, const DistributedPartialResultPtr &value);
+
+    /**
+     * Returns the internal input object computed on this node in the previous round
+     * \param[in] id    Identifier of the input object
+     * \return          %Input object that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(DistributedStep1LocalInternalInputId id) const;
+
+    /**
+     * Sets the internal input object computed on this node in the previous round
+     * \param[in] id      Identifier of the input object
+     * \param[in] value   Pointer to the object
+     */
+    void set(DistributedStep1LocalInternalInputId id, const data_management::NumericTablePtr &value);
+
+    /**
+    * Checks an input object for model-based training in the first step of the distributed processing mode
+    * \param[in] par     Algorithm parameter
+    * \param[in] method  Computation method
+    * \return Status of checking
+    */
+    services::Status check(const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSSION__TRAINING__DISTRIBUTEDPARTIALRESULTSTEP1"></a>
+ * \brief Provides methods to access partial results obtained with the compute() method
+ *        in the first step of the distributed processing mode
+ */
+class DAAL_EXPORT DistributedPartialResultStep1 : public daal::algorithms::PartialResult
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(DistributedPartialResultStep1)
+    DistributedPartialResultStep1();
+
+    virtual ~DistributedPartialResultStep1() {}
+
+    /**
+     * Allocates memory to store partial results of model-based training in the first step of the distributed processing mode.
+     * The results computed in the round depend on the training state set in the input
+     * \param[in] input     Pointer to an object containing the input data
+     * \param[in] parameter %Parameter of model-based training
+     * \param[in] method    Computation method for the algorithm
+     * \return Status of allocation
+     */
+    template<typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Returns a partial result of model-based training in the first step of the distributed processing mode
+     * \param[in] id    Identifier of the partial result
+     * \return          Partial result that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(DistributedPartialResultStep1Id id) const;
+
+    /**
+     * Sets a partial result of model-based training in the first step of the distributed processing mode
+     * \param[in] id      Identifier of the partial result
+     * \param[in] value   Pointer to the partial result
+     */
+    void set(DistributedPartialResultStep1Id id, const data_management::NumericTablePtr &value);
+
+    /**
+     * Checks partial results of model-based training in the first step of the distributed processing mode
+     * \param[in] input   %Input object for the algorithm
+     * \param[in] par     %Parameter of the algorithm
+     * \param[in] method  Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        /* The internal result stays on the local node, so it is not sent to the master node with the other partial results */
+        data_management::SerializationIfacePtr internal = Argument::get(internalResult);
+        Argument::set(internalResult, data_management::SerializationIfacePtr());
+        services::Status s = daal::algorithms::PartialResult::serialImpl<Archive, onDeserialize>(arch);
+        if(!onDeserialize)
+            Argument::set(internalResult, internal);
+        return s;
+    }
+};
+typedef services::SharedPtr<DistributedPartialResultStep1> DistributedPartialResultStep1Ptr;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSSION__TRAINING__DISTRIBUTEDSTEP2MASTERINPUT"></a>
+ * \brief %Input objects for model-based training in the second step of the distributed processing mode
+ */
+class DAAL_EXPORT DistributedStep2MasterInput : public daal::algorithms::Input
+{
+public:
+    /** Default constructor */
+    DistributedStep2MasterInput();
+
+    /** Copy constructor */
+    DistributedStep2MasterInput(const DistributedStep2MasterInput& other) : daal::algorithms::Input(other) {}
+
+    virtual ~DistributedStep2MasterInput() {}
+
+    /**
+     * Returns an input object for model-based training in the second step of the distributed processing mode
+     * \param[in] id    Identifier of the input object
+     * \return          %Input object that corresponds to the given identifier
+     */
+    data_management::DataCollectionPtr get(DistributedStep2MasterInputId id) const;
+
+    /**
+     * Sets an input object for model-based training in the second step of the distributed processing mode
+     * \param[in] id    Identifier of the input object
+     * \param[in] ptr   Pointer to the object
+     */
+    void set(DistributedStep2MasterInputId id, const data_management::DataCollectionPtr &ptr);
+
+    /**
+     * Adds a partial result computed on a local node in the current round
+     * \param[in] id    Identifier of the input object
+     * \param[in] value Pointer to the partial result
+     */
+    void add(DistributedStep2MasterInputId id, const DistributedPartialResultStep1Ptr &value);
+
+    /**
+     * Returns the number of features in the input data set
+     * \return Number of features in the input data set, 0 if it cannot be obtained from the partial results
+     */
+    size_t getNumberOfFeatures() const;
+
+    /**
+     * Checks an input object for model-based training in the second step of the distributed processing mode
+     * \param[in] par     Algorithm parameter
+     * \param[in] method  Computation method
+     * \return Status of checking
+     */
+    services::Status check(const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+};
+
 } // namespace interface1
 using interface1::Parameter;
 using interface1::Input;
 using interface1::Result;
 using interface1::ResultPtr;
+using interface1::DistributedPartialResult;
+using interface1::DistributedPartialResultPtr;
+using interface1::OnlinePartialResult;
+using interface1::OnlinePartialResultPtr;
+using interface1::DistributedStep1LocalInput;
+using interface1::DistributedPartialResultStep1;
+using interface1::DistributedPartialResultStep1Ptr;
+using interface1::DistributedStep2MasterInput;
 
 } // namespace training
 /** @} */
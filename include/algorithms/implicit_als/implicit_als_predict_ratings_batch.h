@@ -202,7 +202,124 @@ protected:
 /** @} */
 } // interface1
 using interface1::BatchContainer;
-using interface1::Batch;
+
+/**
+ * \brief Contains version 2.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface
+ */
+namespace interface2
+{
+/**
+ * @addtogroup implicit_als_prediction_batch
+ * @{
+ */
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__IMPLICIT_ALS__PREDICTION__RATINGS__BATCH"></a>
+ *  \brief Predicts the results of the implicit ALS algorithm
+ * <!-- \n<a href="DAAL-REF-IMPLICIT_ALS-ALGORITHM">Implicit ALS algorithm description and usage models</a> -->
+ *
+ *  \tparam algorithmFPType  Data type to use in intermediate computations for implicit ALS model-based prediction, double or float
+ *  \tparam method           Implicit ALS prediction method, \ref Method
+ *
+ *  \par Enumerations
+ *      - \ref Method Implicit ALS prediction methods
+ */
+template<typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class Batch : public daal::algorithms::Prediction
+{
+public:
+    typedef algorithms::implicit_als::prediction::ratings::Input     InputType;
+    typedef algorithms::implicit_als::prediction::ratings::Parameter ParameterType;
+    typedef algorithms::implicit_als::prediction::ratings::Result    ResultType;
+
+    InputType input;            /*!< Input objects for the algorithm */
+    ParameterType parameter;    /*!< \ref prediction::ratings::interface2::Parameter "Parameters" of the ratings prediction algorithm */
+
+    /**
+     * Default constructor
+     */
+    Batch()
+    {
+        initialize();
+    }
+
+    /**
+     * Constructs an implicit ALS ratings prediction algorithm by copying input objects and parameters
+     * of another implicit ALS ratings prediction algorithm
+     * \param[in] other An algorithm to be used as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Batch(const Batch<algorithmFPType, method> &other) : input(other.input), parameter(other.parameter)
+    {
+        initialize();
+    }
+
+    virtual ~Batch() {}
+
+    /**
+     * Returns the structure that contains the computed prediction results
+     * \return Structure that contains the computed prediction results
+     */
+    ResultPtr getResult()
+    {
+        return _result;
+    }
+
+    /**
+     * Registers user-allocated memory for storing the prediction results
+     * \param[in] result Structure for storing the prediction results
+     */
+    services::Status setResult(const ResultPtr &result)
+    {
+        DAAL_CHECK(result, services::ErrorNullResult)
+        _result = result;
+        _res = _result.get();
+        return services::Status();
+    }
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Returns a pointer to the newly allocated ALS ratings prediction algorithm with a copy of input objects
+     * of this ALS ratings prediction algorithm
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Batch<algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Batch<algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    ResultPtr _result;
+
+    virtual Batch<algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Batch<algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = _result->allocate<algorithmFPType>(&input, &parameter, (int)method);
+        _res = _result.get();
+        return s;
+    }
+
+    void initialize()
+    {
+        _ac = new __DAAL_ALGORITHM_CONTAINER(batch, BatchContainer, algorithmFPType, method)(&_env);
+        _in = &input;
+        _par = &parameter;
+        _result.reset(new ResultType());
+    }
+
+};
+
+/** @} */
+} // interface2
+using interface2::Batch;
 
 }
 }
@@ -83,7 +83,9 @@ namespace ratings
 enum Method
 {
     defaultDense = 0,       /*!< Default: predicts ratings based on the ALS model and input data in the dense format */
-    allUsersAllItems = 0    /*!< Predicts ratings for all users and items based on the ALS model and input data in the dense format */
+    allUsersAllItems = 0,   /*!< Predicts ratings for all users and items based on the ALS model and input data in the dense format */
+    topK = 1                /*!< Predicts only the Parameter::nTopItems highest ratings and the indices of the corresponding items
+                                 for each user based on the ALS model and input data in the dense format */
 };
 
 /**
@@ -122,14 +124,30 @@ enum PartialResultId
     lastPartialResultId = finalResult
 };
 
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__IMPLICIT_ALS__PREDICTION__RATINGS__STEP2MASTERINPUTID"></a>
+ * Available identifiers of input objects for the second step of the rating prediction stage
+ * of the implicit ALS algorithm in the distributed processing mode
+ */
+enum Step2MasterInputId
+{
+    partialResults,           /*!< Collection of results computed on local nodes for one block of users
+                                   and different blocks of items with the topK method */
+    lastStep2MasterInputId = partialResults
+};
+
 /**
  * <a name="DAAL-ENUM-ALGORITHMS__IMPLICIT_ALS__PREDICTION__RATINGS__RESULTID"></a>
  * Available identifiers of the results of the rating prediction stage of the implicit ALS algorithm
  */
 enum ResultId
 {
-    prediction,         /*!< Numeric table with the predicted ratings */
-    lastResultId = prediction
+    prediction,         /*!< Numeric table with the predicted ratings.
+                             For the topK method, the numeric table of size nUsers x nTopItems with the highest ratings
+                             of each user sorted in descending order */
+    topItems,           /*!< Numeric table of size nUsers x nTopItems with the indices of the items that correspond
+                             to the ratings in the prediction table. Computed by the topK method only */
+    lastResultId = topItems
 };
 
 /**
@@ -374,7 +392,101 @@ protected:
 };
 typedef services::SharedPtr<PartialResult> PartialResultPtr;
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__IMPLICIT_ALS__PREDICTION__RATINGS__DISTRIBUTEDINPUT_STEP2MASTER"></a>
+ * \brief %Input objects for the second step of the rating prediction stage of the implicit ALS algorithm
+ * in the distributed processing mode. The step merges the top-K lists computed on local nodes for
+ * different blocks of items into one list of nTopItems best rated items per user
+ */
+template<>
+class DAAL_EXPORT DistributedInput<step2Master> : public InputIface
+{
+public:
+    DistributedInput();
+    DistributedInput(const DistributedInput& other) : InputIface(other){}
+
+    virtual ~DistributedInput() {}
+
+    /**
+     * Returns an input object for the rating prediction stage of the implicit ALS algorithm
+     * \param[in] id    Identifier of the input object
+     * \return          Input object that corresponds to the given identifier
+     */
+    data_management::DataCollectionPtr get(Step2MasterInputId id) const;
+
+    /**
+     * Sets an input object for the rating prediction stage of the implicit ALS algorithm
+     * \param[in] id    Identifier of the input object
+     * \param[in] ptr   Pointer to the new input object value
+     */
+    void set(Step2MasterInputId id, const data_management::DataCollectionPtr &ptr);
+
+    /**
+     * Adds a partial result computed in the first step of the distributed processing mode
+     * \param[in] id            Identifier of the input object
+     * \param[in] partialResult Partial result computed on a local node for one block of items
+     */
+    void add(Step2MasterInputId id, const PartialResultPtr &partialResult);
+
+    /**
+     * Returns the number of rows in the input numeric tables
+     * \return Number of rows in the input numeric tables
+     */
+    size_t getNumberOfUsers() const DAAL_C11_OVERRIDE;
+
+    /**
+     * Returns the number of columns in the input numeric tables
+     * \return Number of columns in the input numeric tables
+     */
+    size_t getNumberOfItems() const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks the parameters of the rating prediction stage of the implicit ALS algorithm
+     * \param[in] parameter     Algorithm %parameter
+     * \param[in] method        Computation method for the algorithm
+     */
+    services::Status check(const daal::algorithms::Parameter *parameter, int method) const DAAL_C11_OVERRIDE;
+};
+
 } // interface1
+
+/**
+ * \brief Contains version 2.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface
+ */
+namespace interface2
+{
+
+/**
+ * <a name="DAAL-STRUCT-ALGORITHMS__IMPLICIT_ALS__PREDICTION__RATINGS__PARAMETER"></a>
+ * \brief Parameters of the rating prediction stage of the implicit ALS algorithm
+ *
+ * \snippet implicit_als/implicit_als_predict_ratings_types.h Parameter source code
+ */
+/* [Parameter source code] */
+struct DAAL_EXPORT Parameter : public implicit_als::Parameter
+{
+    /**
+     * Constructs parameters of the rating prediction stage of the implicit ALS algorithm
+     * \param[in] nFactors    Number of factors
+     * \param[in] nTopItems   Number of items with the highest ratings to return for each user by the topK method
+     */
+    Parameter(size_t nFactors = 10, size_t nTopItems = 10);
+
+    /**
+     * Constructs parameters of the rating prediction stage from the parameters of the implicit ALS algorithm
+     * \param[in] other       Parameters of the implicit ALS algorithm
+     * \param[in] nTopItems   Number of items with the highest ratings to return for each user by the topK method
+     */
+    Parameter(const implicit_als::Parameter &other, size_t nTopItems = 10);
+
+    size_t nTopItems;   /*!< Number of items with the highest ratings to return for each user by the topK method */
+
+    services::Status check() const DAAL_C11_OVERRIDE;
+};
+/* [Parameter source code] */
+
+} // interface2
+using interface2::Parameter;
 using interface1::InputIface;
 using interface1::Input;
 using interface1::DistributedInput;
@@ -0,0 +1,212 @@
+/* file: ivf_knn_classification_model.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the class defining the inverted file index based K-Nearest Neighbors (kNN) classification model
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_MODEL_H__
+#define __IVF_KNN_CLASSIFICATION_MODEL_H__
+
+#include "algorithms/classifier/classifier_model.h"
+#include "data_management/data/homogen_numeric_table.h"
+#include "algorithms/engines/mcg59/mcg59.h"
+
+namespace daal
+{
+namespace algorithms
+{
+
+/**
+ * @defgroup ivf_knn_classification Approximate k-Nearest Neighbors
+ * \copydoc daal::algorithms::ivf_knn_classification
+ * @ingroup classification
+ * @{
+ */
+
+/**
+ * \brief Contains classes for the approximate kNN algorithm based on the inverted file index.
+ *        Training splits the data set into the lists of the points nearest to the centroids found by K-Means clustering.
+ *        Prediction searches for the nearest neighbors only in the lists of the centroids nearest to the query
+ */
+namespace ivf_knn_classification
+{
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__IVF_KNN_CLASSIFICATION__RESULTTOCOMPUTEID"></a>
+ * \brief Available identifiers to specify the results of the inverted file index based kNN prediction
+ */
+enum ResultToComputeId
+{
+    computeClassLabels        = 0x00000001ULL, /*!< Compute the class labels voted by the nearest neighbors */
+    computeIndicesOfNeighbors = 0x00000002ULL, /*!< Compute the indices of the nearest neighbors in the training data set */
+    computeDistances          = 0x00000004ULL  /*!< Compute the Euclidean distances to the nearest neighbors */
+};
+
+/**
+ * \brief Contains version 1.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface.
+ */
+namespace interface1
+{
+
+/**
+ * <a name="DAAL-STRUCT-ALGORITHMS__IVF_KNN_CLASSIFICATION__PARAMETER"></a>
+ * \brief Inverted file index based kNN algorithm parameters
+ *
+ * \snippet k_nearest_neighbors/ivf_knn_classification_model.h Parameter source code
+ */
+/* [Parameter source code] */
+struct DAAL_EXPORT Parameter : public daal::algorithms::classifier::Parameter
+{
+    /**
+     *  Parameter constructor
+     *  \param[in] nClasses     Number of classes
+     *  \param[in] nNeighbors   Number of neighbors
+     *  \param[in] nListsValue  Number of lists in the inverted file index
+     *  \param[in] nProbesValue Number of lists searched for the nearest neighbors of the query
+     */
+    Parameter(size_t nClasses = 2, size_t nNeighbors = 1, size_t nListsValue = 1024, size_t nProbesValue = 8)
+        : daal::algorithms::classifier::Parameter(nClasses),
+          k(nNeighbors),
+          nLists(nListsValue),
+          nProbes(nProbesValue),
+          nIterations(10),
+          engine(engines::mcg59::Batch<>::create()),
+          resultsToCompute(computeClassLabels)
+    {}
+
+    /**
+     * Checks a parameter of the inverted file index based kNN algorithm
+     */
+    services::Status check() const DAAL_C11_OVERRIDE;
+
+    size_t k;                      /*!< Number of neighbors */
+    size_t nLists;                 /*!< Number of lists in the inverted file index. Training uses the number of observations
+                                        in the training data set if it is less */
+    size_t nProbes;                /*!< Number of lists searched in the prediction stage. Greater values give more accurate
+                                        neighbors at the cost of the query time, nLists gives the exact search */
+    size_t nIterations;            /*!< Number of iterations of K-Means clustering that computes the centroids of the lists */
+    engines::EnginePtr engine;     /*!< Engine for random choosing the observations that K-Means clustering is trained on */
+    DAAL_UINT64 resultsToCompute;  /*!< 64 bit integer flag that indicates the results to compute in the prediction stage */
+};
+/* [Parameter source code] */
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__IVF_KNN_CLASSIFICATION__MODEL"></a>
+ * \brief %Base class for models trained with the inverted file index based kNN algorithm
+ *
+ * \par References
+ *      - Parameter class
+ *      - \ref training::interface1::Batch "training::Batch" class
+ *      - \ref prediction::interface1::Batch "prediction::Batch" class
+ */
+class DAAL_EXPORT Model : public daal::algorithms::classifier::Model
+{
+public:
+    DECLARE_MODEL_IFACE(Model, classifier::Model);
+
+    /**
+     * Constructs the model trained with the inverted file index based kNN algorithm
+     * \param[in] nFeatures Number of features in the dataset
+     */
+    Model(size_t nFeatures = 0);
+
+    /**
+     * Constructs the model trained with the inverted file index based kNN algorithm
+     * \param[in]  nFeatures Number of features in the dataset
+     * \param[out] stat      Status of the model construction
+     */
+    static services::SharedPtr<Model> create(size_t nFeatures = 0, services::Status *stat = NULL);
+
+    virtual ~Model();
+
+    class ModelImpl;
+
+    /**
+     * Returns actual model implementation
+     * \return Model implementation
+     */
+    const ModelImpl *impl() const { return _impl; }
+
+    /**
+     * Returns actual model implementation
+     * \return Model implementation
+     */
+    ModelImpl *impl() { return _impl; }
+
+    /**
+     *  Retrieves the number of features in the dataset was used on the training stage
+     *  \return Number of features in the dataset was used on the training stage
+     */
+    size_t getNumberOfFeatures() const DAAL_C11_OVERRIDE;
+
+    /**
+     *  Retrieves the number of lists in the inverted file index
+     *  \return Number of lists in the inverted file index
+     */
+    size_t getNumberOfLists() const;
+
+protected:
+    Model(size_t nFeatures, services::Status &st);
+
+    services::Status serializeImpl(data_management::InputDataArchive   *arch) DAAL_C11_OVERRIDE;
+
+    services::Status deserializeImpl(const data_management::OutputDataArchive *arch) DAAL_C11_OVERRIDE;
+
+private:
+    ModelImpl *_impl;  /*!< Model implementation */
+};
+typedef services::SharedPtr<Model> ModelPtr;
+} // namespace interface1
+
+using interface1::Parameter;
+using interface1::Model;
+using interface1::ModelPtr;
+
+} // namespace ivf_knn_classification
+
+/** @} */
+} // namespace algorithms
+} // namespace daal
+
+#endif
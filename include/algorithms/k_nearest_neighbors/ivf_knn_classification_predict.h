@@ -0,0 +1,202 @@
+/* file: ivf_knn_classification_predict.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the interface for inverted file index based K-Nearest Neighbors (kNN) model-based prediction
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_PREDICT_H__
+#define __IVF_KNN_CLASSIFICATION_PREDICT_H__
+
+#include "algorithms/algorithm.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_predict_types.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_model.h"
+#include "algorithms/classifier/classifier_predict.h"
+#include "data_management/data/homogen_numeric_table.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace ivf_knn_classification
+{
+namespace prediction
+{
+namespace interface1
+{
+/**
+ * @defgroup ivf_knn_classification_prediction_batch Batch
+ * @ingroup ivf_knn_classification_prediction
+ * @{
+ */
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__IVF_KNN_CLASSIFICATION__PREDICTION__BATCHCONTAINER"></a>
+ *  \brief Class containing computation methods for inverted file index based kNN model-based prediction
+ */
+template<typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT BatchContainer : public PredictionContainerIface
+{
+public:
+    /**
+     * Constructs a container for inverted file index based kNN model-based prediction with a specified environment
+     * \param[in] daalEnv   Environment object
+     */
+    BatchContainer(daal::services::Environment::env *daalEnv);
+
+    ~BatchContainer();
+
+    /**
+     *  Computes the result of inverted file index based kNN model-based prediction
+     */
+    services::Status compute() DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__IVF_KNN_CLASSIFICATION__PREDICTION__BATCH"></a>
+ * \brief Provides methods to run implementations of the inverted file index based kNN model-based prediction
+ * <!-- \n<a href="DAAL-REF-KNN-ALGORITHM">kNN algorithm description and usage models</a> -->
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for inverted file index based kNN model-based prediction
+ *                          in the batch processing mode, double or float
+ * \tparam method           Computation method in the batch processing mode, \ref Method
+ *
+ * \par Enumerations
+ *      - \ref Method  Computation methods for inverted file index based kNN model-based prediction
+ *
+ * \par References
+ *      - \ref ivf_knn_classification::interface1::Model "ivf_knn_classification::Model" class
+ *      - \ref training::interface1::Batch "training::Batch" class
+ */
+template<typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class Batch : public classifier::prediction::Batch
+{
+public:
+    typedef classifier::prediction::Batch super;
+
+    typedef algorithms::ivf_knn_classification::prediction::Input  InputType;
+    typedef algorithms::ivf_knn_classification::Parameter          ParameterType;
+    typedef algorithms::ivf_knn_classification::prediction::Result ResultType;
+
+    InputType input;         /*!< %Input data structure */
+    ParameterType parameter; /*!< \ref ivf_knn_classification::interface1::Parameter "Parameters" of prediction */
+
+    /** Default constructor */
+    Batch()
+    {
+        initialize();
+    }
+
+    /**
+     * Constructs a inverted file index based kNN prediction algorithm by copying input objects and parameters
+     * of another inverted file index based kNN prediction algorithm
+     * \param[in] other Algorithm to use as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Batch(const Batch<algorithmFPType, method> & other) : classifier::prediction::Batch(other), input(other.input), parameter(other.parameter)
+    {
+        initialize();
+    }
+
+    /**
+     * Get input objects for the inverted file index based kNN prediction algorithm
+     * \return %Input objects for the inverted file index based kNN prediction algorithm
+     */
+    InputType * getInput() DAAL_C11_OVERRIDE { return &input; }
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Returns the structure that contains the results of the inverted file index based kNN prediction algorithm
+     * \return Structure that contains the results of the inverted file index based kNN prediction algorithm
+     */
+    ResultPtr getResult() { return ResultType::cast(_result); }
+
+    /**
+     * Returns a pointer to the newly allocated inverted file index based kNN prediction algorithm with a copy of input objects
+     * of this inverted file index based kNN prediction algorithm
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Batch<algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Batch<algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    virtual Batch<algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Batch<algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = getResult()->template allocate<algorithmFPType>(&input, &parameter, (int)method);
+        _res = _result.get();
+        return s;
+    }
+
+    void initialize()
+    {
+        _in = &input;
+        _ac = new __DAAL_ALGORITHM_CONTAINER(batch, BatchContainer, algorithmFPType, method)(&_env);
+        _result.reset(new ResultType());
+        _par = &parameter;
+    }
+};
+
+/** @} */
+} // namespace interface1
+
+using interface1::BatchContainer;
+using interface1::Batch;
+
+} // namespace prediction
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
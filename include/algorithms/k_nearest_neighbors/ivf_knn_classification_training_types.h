@@ -0,0 +1,140 @@
+/* file: ivf_knn_classification_training_types.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the inverted file index based k-Nearest Neighbor (kNN) training interface
+//--
+*/
+
+#ifndef __IVF_KNN_CLASSIFICATION_TRAINING_TYPES_H__
+#define __IVF_KNN_CLASSIFICATION_TRAINING_TYPES_H__
+
+#include "algorithms/algorithm.h"
+#include "data_management/data/data_serialize.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_model.h"
+#include "algorithms/classifier/classifier_training_types.h"
+
+namespace daal
+{
+namespace algorithms
+{
+
+/**
+ * \brief Contains classes of the inverted file index based kNN algorithm
+ */
+namespace ivf_knn_classification
+{
+
+/**
+ * @defgroup ivf_knn_classification_training Training
+ * \copydoc daal::algorithms::ivf_knn_classification::training
+ * @ingroup ivf_knn_classification
+ * @{
+ */
+/**
+ * \brief Contains a class for inverted file index based kNN model-based training
+ */
+namespace training
+{
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__IVF_KNN_CLASSIFICATION__TRAINING__METHOD"></a>
+ * \brief Computation methods for inverted file index based kNN model-based training
+ */
+enum Method
+{
+    defaultDense = 0 /*!< Default method */
+};
+
+/**
+ * \brief Contains version 1.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface
+ */
+namespace interface1
+{
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__IVF_KNN_CLASSIFICATION__TRAINING__RESULT"></a>
+ * \brief Provides methods to access the result obtained with the compute() method of inverted file index based kNN model-based training
+ */
+class DAAL_EXPORT Result : public classifier::training::Result
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(Result);
+    Result();
+
+    /**
+     * Returns the result of inverted file index based kNN model-based training
+     * \param[in] id    Identifier of the result
+     * \return          Result that corresponds to the given identifier
+     */
+    daal::algorithms::ivf_knn_classification::interface1::ModelPtr get(classifier::training::ResultId id) const;
+
+    /**
+     * Allocates memory to store the result of inverted file index based kNN model-based training
+     * \param[in] input Pointer to an object containing the input data
+     * \param[in] parameter %Parameter of inverted file index based kNN model-based training
+     * \param[in] method Computation method for the algorithm
+     */
+    template<typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const Parameter *parameter, int method);
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return classifier::training::Result::serialImpl<Archive, onDeserialize>(arch);
+    }
+};
+typedef services::SharedPtr<Result> ResultPtr;
+} // namespace interface1
+
+using interface1::Result;
+using interface1::ResultPtr;
+
+} // namespace training
+/** @} */
+} // namespace ivf_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
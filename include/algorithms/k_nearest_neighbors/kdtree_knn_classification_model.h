@@ -82,6 +82,17 @@ enum DataUseInModel
     doUse    = 1  /*!< The input data and labels will be the component of the trained kNN model */
 };
 
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__RESULTTOCOMPUTEID"></a>
+ * \brief Available identifiers to specify the results of the KD-tree based kNN prediction
+ */
+enum ResultToComputeId
+{
+    computeClassLabels        = 0x00000001ULL, /*!< Compute the class labels voted by the nearest neighbors */
+    computeIndicesOfNeighbors = 0x00000002ULL, /*!< Compute the indices of the nearest neighbors in the training data set */
+    computeDistances          = 0x00000004ULL  /*!< Compute the Euclidean distances to the nearest neighbors */
+};
+
 /**
  * \brief Contains version 1.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface.
  */
@@ -187,11 +198,54 @@ private:
     ModelImpl *_impl;  /*!< Model implementation */
 };
 typedef services::SharedPtr<Model> ModelPtr;
+typedef services::SharedPtr<const Model> ModelConstPtr;
 } // namespace interface1
 
-using interface1::Parameter;
+/**
+ * \brief Contains version 2.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface.
+ */
+namespace interface2
+{
+
+/**
+ * <a name="DAAL-STRUCT-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__PARAMETER"></a>
+ * \brief KD-tree based kNN algorithm parameters
+ *
+ * \snippet k_nearest_neighbors/kdtree_knn_classification_model.h Parameter interface2 source code
+ */
+/* [Parameter interface2 source code] */
+struct DAAL_EXPORT Parameter : public interface1::Parameter
+{
+    /**
+     *  Parameter constructor
+     *  \param[in] nClasses             Number of classes
+     *  \param[in] nNeighbors           Number of neighbors
+     *  \param[in] randomSeed           Seed for random choosing elements from training dataset \DAAL_DEPRECATED_USE{ engine }
+     *  \param[in] dataUse              The option to enable/disable an usage of the input dataset in kNN model
+     */
+    Parameter(size_t nClasses = 2, size_t nNeighbors = 1, int randomSeed = 777, DataUseInModel dataUse = doNotUse)
+        : interface1::Parameter(nClasses, nNeighbors, randomSeed, dataUse),
+          resultsToCompute(computeClassLabels),
+          rebalanceRatio(0.1)
+    {}
+
+    /**
+     * Checks a parameter of the KD-tree based kNN algorithm
+     */
+    services::Status check() const DAAL_C11_OVERRIDE;
+
+    DAAL_UINT64 resultsToCompute;  /*!< 64 bit integer flag that indicates the results to compute in the prediction stage */
+    double rebalanceRatio;         /*!< The online training rebuilds the KD-tree of the model when the number of the inserted and removed
+                                        observations not yet reflected in the KD-tree exceeds this fraction of its observations */
+};
+/* [Parameter interface2 source code] */
+
+} // namespace interface2
+
+using interface2::Parameter;
 using interface1::Model;
 using interface1::ModelPtr;
+using interface1::ModelConstPtr;
 
 } // namespace kdtree_knn_classification
 
@@ -114,9 +114,9 @@ class Batch : public classifier::prediction::Batch
 public:
     typedef classifier::prediction::Batch super;
 
-    typedef algorithms::kdtree_knn_classification::prediction::Input InputType;
-    typedef algorithms::kdtree_knn_classification::Parameter         ParameterType;
-    typedef typename super::ResultType                               ResultType;
+    typedef algorithms::kdtree_knn_classification::prediction::Input     InputType;
+    typedef algorithms::kdtree_knn_classification::interface1::Parameter ParameterType;
+    typedef typename super::ResultType                                   ResultType;
 
     InputType input;         /*!< %Input data structure */
     ParameterType parameter; /*!< \ref kdtree_knn_classification::interface1::Parameter "Parameters" of prediction */
@@ -185,7 +185,117 @@ protected:
 } // namespace interface1
 
 using interface1::BatchContainer;
-using interface1::Batch;
+
+/**
+ * \brief Contains version 2.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface.
+ */
+namespace interface2
+{
+/**
+ * @addtogroup kdtree_knn_classification_prediction_batch
+ * @{
+ */
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__PREDICTION__BATCH"></a>
+ * \brief Provides methods to run implementations of the KD-tree based kNN model-based prediction
+ * <!-- \n<a href="DAAL-REF-KNN-ALGORITHM">kNN algorithm description and usage models</a> -->
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for KD-tree based kNN model-based prediction
+ *                          in the batch processing mode, double or float
+ * \tparam method           Computation method in the batch processing mode, \ref Method
+ *
+ * \par Enumerations
+ *      - \ref Method  Computation methods for KD-tree based kNN model-based prediction
+ *
+ * \par References
+ *      - \ref kdtree_knn_classification::interface1::Model "kdtree_knn_classification::Model" class
+ *      - \ref training::interface1::Batch "training::Batch" class
+ */
+template<typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class Batch : public classifier::prediction::Batch
+{
+public:
+    typedef classifier::prediction::Batch super;
+
+    typedef algorithms::kdtree_knn_classification::prediction::Input  InputType;
+    typedef algorithms::kdtree_knn_classification::Parameter          ParameterType;
+    typedef algorithms::kdtree_knn_classification::prediction::Result ResultType;
+
+    InputType input;         /*!< %Input data structure */
+    ParameterType parameter; /*!< \ref kdtree_knn_classification::interface2::Parameter "Parameters" of prediction */
+
+    /** Default constructor */
+    Batch()
+    {
+        initialize();
+    }
+
+    /**
+     * Constructs a KD-tree based kNN prediction algorithm by copying input objects and parameters
+     * of another KD-tree based kNN prediction algorithm
+     * \param[in] other Algorithm to use as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Batch(const Batch<algorithmFPType, method> & other) : classifier::prediction::Batch(other), input(other.input), parameter(other.parameter)
+    {
+        initialize();
+    }
+
+    /**
+     * Get input objects for the KD-tree based kNN prediction algorithm
+     * \return %Input objects for the KD-tree based kNN prediction algorithm
+     */
+    InputType * getInput() DAAL_C11_OVERRIDE { return &input; }
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Returns the structure that contains the results of the KD-tree based kNN prediction algorithm
+     * \return Structure that contains the results of the KD-tree based kNN prediction algorithm
+     */
+    ResultPtr getResult() { return ResultType::cast(_result); }
+
+    /**
+     * Returns a pointer to the newly allocated KD-tree based kNN prediction algorithm with a copy of input objects
+     * of this KD-tree based kNN prediction algorithm
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Batch<algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Batch<algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    virtual Batch<algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Batch<algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        services::Status s = getResult()->template allocate<algorithmFPType>(&input, &parameter, (int)method);
+        _res = _result.get();
+        return s;
+    }
+
+    void initialize()
+    {
+        _in = &input;
+        _ac = new __DAAL_ALGORITHM_CONTAINER(batch, BatchContainer, algorithmFPType, method)(&_env);
+        _result.reset(new ResultType());
+        _par = &parameter;
+    }
+};
+
+
+/** @} */
+} // namespace interface2
+
+using interface2::Batch;
 
 } // namespace prediction
 } // namespace kdtree_knn_classification
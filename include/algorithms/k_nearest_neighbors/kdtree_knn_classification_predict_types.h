@@ -85,6 +85,18 @@ enum Method
     defaultDense = 0 /*!< Default method */
 };
 
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__PREDICTION__RESULTNUMERICTABLEID"></a>
+ * \brief Available identifiers of the results of KD-tree based kNN model-based prediction
+ */
+enum ResultNumericTableId
+{
+    indices = classifier::prediction::lastResultId + 1, /*!< Indices of the nearest neighbors in the training data set,
+                                                             in the ascending order of the distances */
+    distances,                                          /*!< Euclidean distances to the nearest neighbors */
+    lastResultNumericTableId = distances
+};
+
 /**
  * \brief Contains version 1.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface
  */
@@ -134,9 +146,65 @@ public:
     services::Status check(const daal::algorithms::Parameter *parameter, int method) const DAAL_C11_OVERRIDE;
 };
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__PREDICTION__RESULT"></a>
+ * \brief Provides interface for the result of KD-tree based kNN model-based prediction
+ */
+class DAAL_EXPORT Result : public classifier::prediction::Result
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(Result);
+    Result();
+
+    using classifier::prediction::Result::get;
+    using classifier::prediction::Result::set;
+
+    /**
+     * Returns the result of KD-tree based kNN model-based prediction
+     * \param[in] id    Identifier of the result
+     * \return          Result that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(ResultNumericTableId id) const;
+
+    /**
+     * Sets the result of KD-tree based kNN model-based prediction
+     * \param[in] id      Identifier of the result
+     * \param[in] value   Result
+     */
+    void set(ResultNumericTableId id, const data_management::NumericTablePtr &value);
+
+    /**
+     * Allocates memory to store the results of KD-tree based kNN model-based prediction
+     * \param[in] input     Pointer to the input structure
+     * \param[in] parameter Pointer to the parameter structure
+     * \param[in] method    Computation method
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Checks the result of KD-tree based kNN model-based prediction
+     * \param[in] input   %Input object for the algorithm
+     * \param[in] par     %Parameter of the algorithm
+     * \param[in] method  Computation method
+     */
+    services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return classifier::prediction::Result::serialImpl<Archive, onDeserialize>(arch);
+    }
+};
+typedef services::SharedPtr<Result> ResultPtr;
+
 } // namespace interface1
 
 using interface1::Input;
+using interface1::Result;
+using interface1::ResultPtr;
 
 } // namespace prediction
 /** @} */
@@ -113,9 +113,9 @@ class DAAL_EXPORT Batch : public classifier::training::Batch
 public:
     typedef classifier::training::Batch super;
 
-    typedef typename super::InputType                               InputType;
-    typedef algorithms::kdtree_knn_classification::Parameter        ParameterType;
-    typedef algorithms::kdtree_knn_classification::training::Result ResultType;
+    typedef typename super::InputType                                    InputType;
+    typedef algorithms::kdtree_knn_classification::interface1::Parameter ParameterType;
+    typedef algorithms::kdtree_knn_classification::training::Result      ResultType;
 
     ParameterType parameter;        /*!< \ref interface1::Parameter "Parameters" of the algorithm */
     InputType input;                /*!< %Input objects of the algorithm */
@@ -206,7 +206,131 @@ protected:
 } // namespace interface1
 
 using interface1::BatchContainer;
-using interface1::Batch;
+
+/**
+ * \brief Contains version 2.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface.
+ */
+namespace interface2
+{
+/**
+ * @addtogroup kdtree_knn_classification_batch
+ * @{
+ */
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__BATCH"></a>
+ * \brief Provides methods for KD-tree based kNN model-based training in the batch processing mode
+ * <!-- \n<a href="DAAL-REF-KNN-ALGORITHM">k-Nearest Neighbors algorithm description and usage models</a> -->
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for KD-tree based kNN model-based training, double or float
+ * \tparam method           KD-tree based kNN training method, \ref Method
+ *
+ * \par Enumerations
+ *      - \ref Method  Computation methods
+ *
+ * \par References
+ *      - \ref kdtree_knn_classification::interface1::Model "kdtree_knn_classification::Model" class
+ *      - \ref prediction::interface2::Batch "prediction::Batch" class
+ */
+template<typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class DAAL_EXPORT Batch : public classifier::training::Batch
+{
+public:
+    typedef classifier::training::Batch super;
+
+    typedef typename super::InputType                               InputType;
+    typedef algorithms::kdtree_knn_classification::Parameter        ParameterType;
+    typedef algorithms::kdtree_knn_classification::training::Result ResultType;
+
+    ParameterType parameter;        /*!< \ref interface2::Parameter "Parameters" of the algorithm */
+    InputType input;                /*!< %Input objects of the algorithm */
+
+    /** Default constructor */
+    Batch()
+    {
+        initialize();
+    }
+
+    /**
+     * Constructs a KD-tree based kNN training algorithm by copying input objects
+     * and parameters of another KD-tree based kNN training algorithm in the batch processing mode
+     * \param[in] other Algorithm to use as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Batch(const Batch<algorithmFPType, method> & other) : classifier::training::Batch(other),
+        parameter(other.parameter), input(other.input)
+    {
+        initialize();
+    }
+
+    /**
+     * Get input objects for KD-tree based kNN model-based training algorithm
+     * \return %Input objects for KD-tree based kNN model-based training algorithm
+     */
+    InputType * getInput() DAAL_C11_OVERRIDE { return &input; }
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Returns the structure that contains the result of KD-tree based kNN model-based training
+     * \return Structure that contains the result of KD-tree based kNN model-based training
+     */
+    ResultPtr getResult() { return Result::cast(_result); }
+
+    /**
+     * Resets the results of KD-tree based kNN model training algorithm
+     */
+    services::Status resetResult() DAAL_C11_OVERRIDE
+    {
+        _result.reset(new ResultType());
+        DAAL_CHECK(_result, services::ErrorNullResult);
+        _res = NULL;
+        return services::Status();
+    }
+
+    /**
+     * Returns a pointer to a newly allocated KD-tree based kNN training algorithm
+     * with a copy of the input objects and parameters for this KD-tree based kNN training algorithm
+     * in the batch processing mode
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Batch<algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Batch<algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    virtual Batch<algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Batch<algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        const ResultPtr res = getResult();
+        DAAL_CHECK(_result, services::ErrorNullResult);
+        services::Status s = res->template allocate<algorithmFPType>((classifier::training::InputIface *)(&input), &parameter, (int)method);
+        _res = _result.get();
+        return s;
+    }
+
+    void initialize()
+    {
+        _ac  = new __DAAL_ALGORITHM_CONTAINER(batch, BatchContainer, algorithmFPType, method)(&_env);
+        _in  = &input;
+        _par = &parameter;
+        _result.reset(new ResultType());
+    }
+};
+
+
+/** @} */
+} // namespace interface2
+
+using interface2::Batch;
 
 } // namespace training
 } // namespace kdtree_knn_classification
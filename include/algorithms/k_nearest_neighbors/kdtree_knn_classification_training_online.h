@@ -0,0 +1,267 @@
+/* file: kdtree_knn_classification_training_online.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the interface for k-Nearest Neighbor (kNN) model-based training in the online processing mode
+//--
+*/
+
+#ifndef __KDTREE_KNN_CLASSIFICATION_TRAINING_ONLINE_H__
+#define __KDTREE_KNN_CLASSIFICATION_TRAINING_ONLINE_H__
+
+#include "algorithms/algorithm.h"
+#include "algorithms/k_nearest_neighbors/kdtree_knn_classification_training_types.h"
+#include "algorithms/k_nearest_neighbors/kdtree_knn_classification_model.h"
+#include "algorithms/classifier/classifier_training_online.h"
+
+namespace daal
+{
+namespace algorithms
+{
+namespace kdtree_knn_classification
+{
+namespace training
+{
+namespace interface1
+{
+/**
+ * @defgroup kdtree_knn_classification_online Online
+ * @ingroup kdtree_knn_classification_training
+ * @{
+ */
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__ONLINECONTAINER"></a>
+ * \brief Class containing methods for KD-tree based kNN model-based training using algorithmFPType precision arithmetic
+ *        in the online processing mode
+ */
+template <typename algorithmFPType, Method method, CpuType cpu>
+class DAAL_EXPORT OnlineContainer : public TrainingContainerIface<online>
+{
+public:
+    /**
+     * Constructs a container for KD-tree based kNN model-based training with a specified environment in the online processing mode
+     * \param[in] daalEnv   Environment object
+     */
+    OnlineContainer(daal::services::Environment::env * daalEnv);
+
+    /** Default destructor */
+    ~OnlineContainer();
+
+    /**
+     * Inserts the observations into the model and removes them from it in the online processing mode
+     *
+     * \return Status of computations
+     */
+    services::Status compute() DAAL_C11_OVERRIDE;
+
+    /**
+     * Rebuilds the KD-tree of the model with all the inserted and removed observations in the online processing mode
+     *
+     * \return Status of computations
+     */
+    services::Status finalizeCompute() DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__ONLINE"></a>
+ * \brief Provides methods for KD-tree based kNN model-based training in the online processing mode.
+ *        Each call of compute() inserts the observations of the data set into the model and removes the observations
+ *        with the given indices from it without rebuilding the whole KD-tree. The inserted observations get the indices
+ *        that follow the indices of the observations already in the model. The KD-tree of the model is rebuilt
+ *        when the updates not reflected in it exceed \ref interface2::Parameter::rebalanceRatio "rebalanceRatio" of its observations,
+ *        and by finalizeCompute()
+ * <!-- \n<a href="DAAL-REF-KNN-ALGORITHM">k-Nearest Neighbors algorithm description and usage models</a> -->
+ *
+ * \tparam algorithmFPType  Data type to use in intermediate computations for KD-tree based kNN model-based training, double or float
+ * \tparam method           KD-tree based kNN training method, \ref Method
+ *
+ * \par Enumerations
+ *      - \ref Method         Computation methods
+ *      - \ref OnlineInputId  Identifiers of the additional input objects
+ *
+ * \par References
+ *      - \ref kdtree_knn_classification::interface1::Model "kdtree_knn_classification::Model" class
+ *      - \ref prediction::interface1::Batch "prediction::Batch" class
+ */
+template<typename algorithmFPType = DAAL_ALGORITHM_FP_TYPE, Method method = defaultDense>
+class DAAL_EXPORT Online : public classifier::training::Online
+{
+public:
+    typedef classifier::training::Online super;
+
+    typedef algorithms::kdtree_knn_classification::training::OnlineInput   InputType;
+    typedef algorithms::kdtree_knn_classification::Parameter               ParameterType;
+    typedef algorithms::kdtree_knn_classification::training::Result        ResultType;
+    typedef algorithms::kdtree_knn_classification::training::PartialResult PartialResultType;
+
+    ParameterType parameter;        /*!< \ref interface2::Parameter "Parameters" of the algorithm */
+    InputType input;                /*!< %Input objects of the algorithm */
+
+    /** Default constructor */
+    Online()
+    {
+        initialize();
+    }
+
+    /**
+     * Constructs a KD-tree based kNN training algorithm by copying input objects
+     * and parameters of another KD-tree based kNN training algorithm in the online processing mode
+     * \param[in] other Algorithm to use as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    Online(const Online<algorithmFPType, method> & other) : classifier::training::Online(other),
+        parameter(other.parameter), input(other.input)
+    {
+        initialize();
+    }
+
+    virtual ~Online() {}
+
+    /**
+     * Returns the method of the algorithm
+     * \return Method of the algorithm
+     */
+    virtual int getMethod() const DAAL_C11_OVERRIDE { return(int)method; }
+
+    /**
+     * Returns the structure that contains the result of KD-tree based kNN model-based training
+     * \return Structure that contains the result of KD-tree based kNN model-based training
+     */
+    ResultPtr getResult()
+    {
+        return services::staticPointerCast<ResultType, classifier::training::Result>(_result);
+    }
+
+    /**
+     * Registers user-allocated memory to store the result of KD-tree based kNN model-based training
+     * \param[in] result  Structure to store the result of KD-tree based kNN model-based training
+     *
+     * \return Status of computations
+     */
+    services::Status setResult(const ResultPtr & result)
+    {
+        DAAL_CHECK(result, services::ErrorNullResult)
+        _result = result;
+        _res = _result.get();
+        return services::Status();
+    }
+
+    /**
+     * Resets the result of KD-tree based kNN model-based training
+     */
+    void resetResult()
+    {
+        _result.reset(new ResultType());
+        _res = NULL;
+    }
+
+    /**
+     * Returns the structure that contains the model updated with KD-tree based kNN model-based training
+     * \return Structure that contains the updated model
+     */
+    PartialResultPtr getPartialResult() { return PartialResultType::cast(_partialResult); }
+
+    /**
+     * Returns a pointer to a newly allocated KD-tree based kNN training algorithm
+     * with a copy of the input objects and parameters for this KD-tree based kNN training algorithm
+     * in the online processing mode
+     * \return Pointer to the newly allocated algorithm
+     */
+    services::SharedPtr<Online<algorithmFPType, method> > clone() const
+    {
+        return services::SharedPtr<Online<algorithmFPType, method> >(cloneImpl());
+    }
+
+protected:
+    virtual Online<algorithmFPType, method> * cloneImpl() const DAAL_C11_OVERRIDE
+    {
+        return new Online<algorithmFPType, method>(*this);
+    }
+
+    services::Status allocateResult() DAAL_C11_OVERRIDE
+    {
+        PartialResultPtr pres = getPartialResult();
+        ResultPtr res = getResult();
+        services::Status s = res->template allocate<algorithmFPType>(pres.get(), &parameter, (int)method);
+        _res = _result.get();
+        return s;
+    }
+
+    services::Status allocatePartialResult() DAAL_C11_OVERRIDE
+    {
+        PartialResultPtr pres = getPartialResult();
+        services::Status s = pres->template allocate<algorithmFPType>(&input, &parameter, (int)method);
+        _pres = _partialResult.get();
+        return s;
+    }
+
+    services::Status initializePartialResult() DAAL_C11_OVERRIDE
+    {
+        PartialResultPtr pres = getPartialResult();
+        services::Status s = pres->template initialize<algorithmFPType>(&input, &parameter, (int)method);
+        _pres = _partialResult.get();
+        return s;
+    }
+
+    void initialize()
+    {
+        _ac  = new __DAAL_ALGORITHM_CONTAINER(online, OnlineContainer, algorithmFPType, method)(&_env);
+        _in  = &input;
+        _par = &parameter;
+        _result.reset(new ResultType());
+        _partialResult.reset(new PartialResultType());
+    }
+};
+
+/** @} */
+} // namespace interface1
+
+using interface1::OnlineContainer;
+using interface1::Online;
+
+} // namespace training
+} // namespace kdtree_knn_classification
+} // namespace algorithms
+} // namespace daal
+
+#endif
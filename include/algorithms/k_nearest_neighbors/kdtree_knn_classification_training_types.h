@@ -85,12 +85,131 @@ enum Method
     defaultDense = 0 /*!< Default method */
 };
 
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__ONLINEINPUTID"></a>
+ * \brief Available identifiers of the additional input objects of KD-tree based kNN model-based training in the online processing mode
+ */
+enum OnlineInputId
+{
+    removedIndices = classifier::training::lastInputId + 1, /*!< Optional. Indices of the observations to remove from the model,
+                                                                 as returned by the prediction with computeIndicesOfNeighbors */
+    lastOnlineInputId = removedIndices
+};
+
 /**
  * \brief Contains version 1.0 of the Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface
  */
 namespace interface1
 {
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__ONLINEINPUT"></a>
+ * \brief %Input objects of KD-tree based kNN model-based training in the online processing mode.
+ *        The data set and labels hold the observations to insert into the model and can be omitted if only removedIndices is set
+ */
+class DAAL_EXPORT OnlineInput : public classifier::training::Input
+{
+public:
+    OnlineInput();
+    OnlineInput(const OnlineInput & other) : classifier::training::Input(other) {}
+
+    virtual ~OnlineInput() {}
+
+    using classifier::training::Input::get;
+    using classifier::training::Input::set;
+
+    /**
+     * Returns the input object of KD-tree based kNN model-based training in the online processing mode
+     * \param[in] id    Identifier of the input object, \ref OnlineInputId
+     * \return          %Input object that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(OnlineInputId id) const;
+
+    /**
+     * Sets the input object of KD-tree based kNN model-based training in the online processing mode
+     * \param[in] id    Identifier of the input object, \ref OnlineInputId
+     * \param[in] value Pointer to the input object
+     */
+    void set(OnlineInputId id, const data_management::NumericTablePtr & value);
+
+    /**
+     * Returns the number of features in the observations to insert, 0 if there are no such observations
+     * \return Number of features
+     */
+    size_t getNumberOfFeatures() const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks the correctness of the input object
+     * \param[in] parameter Pointer to the structure of the algorithm parameters
+     * \param[in] method    Computation method
+     */
+    services::Status check(const daal::algorithms::Parameter * parameter, int method) const DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__PARTIALRESULT"></a>
+ * \brief Provides methods to access the model updated with the compute() method of KD-tree based kNN model-based training
+ *        in the online processing mode. To update a trained model, set it as the partialModel of the partial result
+ *        registered in the algorithm
+ */
+class DAAL_EXPORT PartialResult : public classifier::training::PartialResult
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(PartialResult);
+    PartialResult();
+
+    virtual ~PartialResult() {}
+
+    /**
+     * Returns the model updated with KD-tree based kNN model-based training in the online processing mode
+     * \param[in] id    Identifier of the partial result, \ref classifier::training::PartialResultId
+     * \return          Model that corresponds to the given identifier
+     */
+    daal::algorithms::kdtree_knn_classification::interface1::ModelPtr get(classifier::training::PartialResultId id) const;
+
+    /**
+     * Allocates the empty model to insert the observations into
+     * \param[in] input     Pointer to an object containing the input data
+     * \param[in] parameter %Parameter of KD-tree based kNN model-based training
+     * \param[in] method    Computation method for the algorithm
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input * input, const daal::algorithms::Parameter * parameter, const int method);
+
+    /**
+     * Initializes the partial result of KD-tree based kNN model-based training in the online processing mode
+     * \param[in] input     Pointer to an object containing the input data
+     * \param[in] parameter %Parameter of KD-tree based kNN model-based training
+     * \param[in] method    Computation method for the algorithm
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status initialize(const daal::algorithms::Input * input, const daal::algorithms::Parameter * parameter, const int method);
+
+    /**
+     * Checks the partial result of KD-tree based kNN model-based training in the online processing mode
+     * \param[in] input     Algorithm %input object
+     * \param[in] parameter Algorithm %parameter
+     * \param[in] method    Computation method
+     */
+    services::Status check(const daal::algorithms::Input * input, const daal::algorithms::Parameter * parameter, int method) const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks the partial result of KD-tree based kNN model-based training in the online processing mode
+     * \param[in] parameter Algorithm %parameter
+     * \param[in] method    Computation method
+     */
+    services::Status check(const daal::algorithms::Parameter * parameter, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return classifier::training::PartialResult::serialImpl<Archive, onDeserialize>(arch);
+    }
+};
+typedef services::SharedPtr<PartialResult> PartialResultPtr;
+
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__RESULT"></a>
  * \brief Provides methods to access the result obtained with the compute() method of KD-tree based kNN model-based training
@@ -115,7 +234,27 @@ public:
      * \param[in] method Computation method for the algorithm
      */
     template<typename algorithmFPType>
-    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const Parameter *parameter, int method);
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const kdtree_knn_classification::interface1::Parameter *parameter, int method);
+
+    /**
+     * Sets the model updated in the online processing mode as the result of KD-tree based kNN model-based training
+     * \param[in] partialResult Pointer to the partial result of the algorithm
+     * \param[in] parameter     %Parameter of KD-tree based kNN model-based training
+     * \param[in] method        Computation method for the algorithm
+     */
+    template<typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::PartialResult *partialResult, const kdtree_knn_classification::interface1::Parameter *parameter, int method);
+
+    /**
+     * Checks the result of KD-tree based kNN model-based training in the online processing mode
+     * \param[in] partialResult Pointer to the partial result of the algorithm
+     * \param[in] parameter     Algorithm %parameter
+     * \param[in] method        Computation method
+     */
+    services::Status check(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *parameter,
+                           int method) const DAAL_C11_OVERRIDE;
+
+    using classifier::training::Result::check;
 
 protected:
     /** \private */
@@ -128,6 +267,9 @@ protected:
 typedef services::SharedPtr<Result> ResultPtr;
 } // namespace interface1
 
+using interface1::OnlineInput;
+using interface1::PartialResult;
+using interface1::PartialResultPtr;
 using interface1::Result;
 using interface1::ResultPtr;
 
@@ -124,6 +124,18 @@ enum PartialResultId
     lastPartialResultId = partialCandidatesCentroids
 };
 
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__KMEANS__ONLINEPARTIALRESULTID"></a>
+ * \brief Available identifiers of partial results of the K-Means algorithm in the online processing mode
+ */
+enum OnlinePartialResultId
+{
+    onlineCentroids,         /*!< Table containing centroids updated with the data blocks processed so far */
+    onlineClusterSizes,      /*!< Table containing the number of observations assigned to centroids so far */
+    onlineObjectiveFunction, /*!< Table containing the sum of objective function values of the processed data blocks */
+    lastOnlinePartialResultId = onlineObjectiveFunction
+};
+
 /**
  * <a name="DAAL-ENUM-ALGORITHMS__KMEANS__RESULTID"></a>
  * \brief Available identifiers of results of the K-Means algorithm
@@ -296,6 +308,82 @@ protected:
 };
 typedef services::SharedPtr<PartialResult> PartialResultPtr;
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KMEANS__ONLINEPARTIALRESULT"></a>
+ * \brief Partial results obtained with the compute() method of the K-Means algorithm in the online processing mode
+ */
+class DAAL_EXPORT OnlinePartialResult : public daal::algorithms::PartialResult
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(OnlinePartialResult);
+    OnlinePartialResult();
+
+    virtual ~OnlinePartialResult() {};
+
+    /**
+     * Allocates memory to store partial results of the K-Means algorithm in the online processing mode
+     * \param[in] input        Pointer to the structure of the input objects
+     * \param[in] parameter    Pointer to the structure of the algorithm parameters
+     * \param[in] method       Computation method of the algorithm
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Initializes partial results of the K-Means algorithm in the online processing mode
+     * with the initial centroids from the input
+     * \param[in] input        Pointer to the structure of the input objects
+     * \param[in] parameter    Pointer to the structure of the algorithm parameters
+     * \param[in] method       Computation method of the algorithm
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status initialize(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Returns a partial result of the K-Means algorithm in the online processing mode
+     * \param[in] id   Identifier of the partial result
+     * \return         Partial result that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(OnlinePartialResultId id) const;
+
+    /**
+     * Sets a partial result of the K-Means algorithm in the online processing mode
+     * \param[in] id    Identifier of the partial result
+     * \param[in] ptr   Pointer to the object
+     */
+    void set(OnlinePartialResultId id, const data_management::NumericTablePtr &ptr);
+
+    /**
+     * Returns the number of features in the centroids table
+     * \return Number of features in the centroids table
+     */
+    size_t getNumberOfFeatures() const;
+
+    /**
+     * Checks partial results of the K-Means algorithm in the online processing mode
+     * \param[in] input   %Input object of the algorithm
+     * \param[in] par     Algorithm parameter
+     * \param[in] method  Computation method
+     */
+    services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks partial results of the K-Means algorithm in the online processing mode
+     * \param[in] par     Algorithm parameter
+     * \param[in] method  Computation method
+     */
+    services::Status check(const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return daal::algorithms::PartialResult::serialImpl<Archive, onDeserialize>(arch);
+    }
+};
+typedef services::SharedPtr<OnlinePartialResult> OnlinePartialResultPtr;
+
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__KMEANS__RESULT"></a>
  * \brief Results obtained with the compute() method of the K-Means algorithm in the batch processing mode
@@ -419,6 +507,8 @@ using interface1::InputIface;
 using interface1::Input;
 using interface1::PartialResult;
 using interface1::PartialResultPtr;
+using interface1::OnlinePartialResult;
+using interface1::OnlinePartialResultPtr;
 using interface1::Result;
 using interface1::ResultPtr;
 using interface1::DistributedStep2MasterInput;
@@ -49,6 +49,8 @@
 #define __QUANTILES_TYPES_H__
 
 #include "data_management/data/homogen_numeric_table.h"
+#include "data_management/data/data_collection.h"
+#include "algorithms/engines/mt19937/mt19937.h"
 
 namespace daal
 {
@@ -71,7 +73,9 @@ namespace quantiles
  */
 enum Method
 {
-    defaultDense = 0    /*!< Default: performance-oriented method. Works with all types of input numeric tables */
+    defaultDense = 0,   /*!< Default: performance-oriented method. Works with all types of input numeric tables */
+    sketchDense  = 1    /*!< Method that computes approximate quantiles with KLL sketches of the features
+                             in one pass over the data. Supported in the online and distributed processing modes */
 };
 
 /**
@@ -94,6 +98,27 @@ enum ResultId
     lastResultId = quantiles
 };
 
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__QUANTILES__PARTIALRESULTID"></a>
+ * Available identifiers of partial results of the quantiles algorithm in the online and distributed processing modes
+ */
+enum PartialResultId
+{
+    sketchItems,      /*!< Table with the items of the sketches, one row per feature */
+    sketchLevelSizes, /*!< Table with one row that contains the number of items at each level of the sketches */
+    lastPartialResultId = sketchLevelSizes
+};
+
+/**
+ * <a name="DAAL-ENUM-ALGORITHMS__QUANTILES__MASTERINPUTID"></a>
+ * Available identifiers of input objects for the quantiles algorithm on the second step in the distributed processing mode
+ */
+enum MasterInputId
+{
+    partialResults,   /*!< Collection of partial results computed on local nodes */
+    lastMasterInputId = partialResults
+};
+
 /**
  * \brief Contains version 1.0 of Intel(R) Data Analytics Acceleration Library (Intel(R) DAAL) interface.
  */
@@ -109,11 +134,49 @@ struct DAAL_EXPORT Parameter : public daal::algorithms::Parameter
     data_management::NumericTablePtr quantileOrders;    /*!< Numeric table with quantile orders. Default value is 0.5 (median) */
 };
 
+/**
+ * <a name="DAAL-STRUCT-ALGORITHMS__QUANTILES__SKETCHPARAMETER"></a>
+ * \brief Parameters of the quantiles algorithm in the online and distributed processing modes
+ */
+struct DAAL_EXPORT SketchParameter : public Parameter
+{
+    SketchParameter(const data_management::NumericTablePtr quantileOrders = data_management::NumericTablePtr(), double accuracy = 0.01);
+
+    double accuracy;           /*!< Bound of the error of the rank of computed quantiles relative to the number of observations,
+                                    that holds with probability 99%. Defines the size of the sketches. Default value is 0.01 */
+    engines::EnginePtr engine; /*!< Engine for the random numbers generator that chooses the items kept in the compactions of the sketches.
+                                    Engines on different local nodes should produce different sequences, for example after skipAheadToBlock() */
+
+    /**
+     * Checks the correctness of the parameter
+     */
+    virtual services::Status check() const DAAL_C11_OVERRIDE;
+};
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__QUANTILES__INPUTIFACE"></a>
+ * \brief Interface for input objects of the quantiles algorithm
+ */
+class DAAL_EXPORT InputIface : public daal::algorithms::Input
+{
+public:
+    InputIface(size_t nElements) : daal::algorithms::Input(nElements) {}
+    InputIface(const InputIface& other) : daal::algorithms::Input(other) {}
+
+    virtual ~InputIface() {}
+
+    /**
+     * Returns the number of features in the input object
+     * \return Number of features in the input object
+     */
+    virtual size_t getNumberOfFeatures() const = 0;
+};
+
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__QUANTILES__INPUT"></a>
  * \brief %Input objects for the quantiles algorithm
  */
-class DAAL_EXPORT Input : public daal::algorithms::Input
+class DAAL_EXPORT Input : public InputIface
 {
 public:
     Input();
@@ -135,6 +198,12 @@ public:
      */
     void set(InputId id, const data_management::NumericTablePtr &ptr);
 
+    /**
+     * Returns the number of features in the input data table
+     * \return Number of features in the input data table
+     */
+    size_t getNumberOfFeatures() const DAAL_C11_OVERRIDE;
+
     /**
      * Check the correctness of the %Input object
      * \param[in] parameter Pointer to the parameters structure
@@ -143,6 +212,84 @@ public:
     virtual services::Status check(const daal::algorithms::Parameter *parameter, int method) const DAAL_C11_OVERRIDE;
 };
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__QUANTILES__PARTIALRESULT"></a>
+ * \brief Provides methods to access partial results obtained with the compute() method of the
+ *        quantiles algorithm in the online and distributed processing modes.
+ *        Partial results hold the KLL sketches of the features. The sketches computed on different
+ *        data sets with the same accuracy can be merged on the second step of the distributed processing mode
+ */
+class DAAL_EXPORT PartialResult : public daal::algorithms::PartialResult
+{
+public:
+    DECLARE_SERIALIZABLE_CAST(PartialResult);
+    PartialResult();
+
+    virtual ~PartialResult() {};
+
+    /**
+     * Allocates memory to store partial results of the quantiles algorithm
+     * \param[in] input     Input objects for the quantiles algorithm
+     * \param[in] parameter Parameters of the quantiles algorithm
+     * \param[in] method    Algorithm computation method
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Initializes partial results of the quantiles algorithm with empty sketches
+     * \param[in] input     Input objects for the quantiles algorithm
+     * \param[in] parameter Parameters of the quantiles algorithm
+     * \param[in] method    Algorithm computation method
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status initialize(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
+
+    /**
+     * Returns the partial result of the quantiles algorithm
+     * \param[in] id   Identifier of the partial result, \ref PartialResultId
+     * \return         Partial result that corresponds to the given identifier
+     */
+    data_management::NumericTablePtr get(PartialResultId id) const;
+
+    /**
+     * Sets the partial result of the quantiles algorithm
+     * \param[in] id    Identifier of the partial result
+     * \param[in] ptr   Pointer to the partial result
+     */
+    void set(PartialResultId id, const data_management::NumericTablePtr &ptr);
+
+    /**
+     * Returns the number of features in the partial result
+     * \return Number of features in the partial result
+     */
+    size_t getNumberOfFeatures() const;
+
+    /**
+     * Checks the correctness of the partial result
+     * \param[in] input     Input objects of the algorithm
+     * \param[in] parameter Parameters of the algorithm
+     * \param[in] method    Algorithm computation method
+     */
+    services::Status check(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, int method) const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks the correctness of the partial result
+     * \param[in] parameter Parameters of the algorithm
+     * \param[in] method    Algorithm computation method
+     */
+    services::Status check(const daal::algorithms::Parameter *parameter, int method) const DAAL_C11_OVERRIDE;
+
+protected:
+    /** \private */
+    template<typename Archive, bool onDeserialize>
+    services::Status serialImpl(Archive *arch)
+    {
+        return daal::algorithms::PartialResult::serialImpl<Archive, onDeserialize>(arch);
+    }
+};
+typedef services::SharedPtr<PartialResult> PartialResultPtr;
+
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__QUANTILES__RESULT"></a>
  * \brief Provides methods to access final results obtained with the compute() method of the
@@ -165,6 +312,15 @@ public:
     template <typename algorithmFPType>
     DAAL_EXPORT services::Status allocate(const daal::algorithms::Input *input, const daal::algorithms::Parameter *parameter, const int method);
 
+    /**
+     * Allocates memory to store final results of the quantile algorithms in the online and distributed processing modes
+     * \param[in] partialResult Partial results of the quantiles algorithm
+     * \param[in] parameter     Parameters of the quantiles algorithm
+     * \param[in] method        Algorithm computation method
+     */
+    template <typename algorithmFPType>
+    DAAL_EXPORT services::Status allocate(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *parameter, const int method);
+
     /**
      * Returns the final result of the quantiles algorithm
      * \param[in] id   Identifier of the final result, \ref ResultId
@@ -187,6 +343,14 @@ public:
      */
     virtual services::Status check(const daal::algorithms::Input *in, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
 
+    /**
+     * Checks the correctness of the Result object in the online and distributed processing modes
+     * \param[in] partialResult Pointer to the partial results
+     * \param[in] par           Pointer to the parameters structure
+     * \param[in] method        Algorithm computation method
+     */
+    virtual services::Status check(const daal::algorithms::PartialResult *partialResult, const daal::algorithms::Parameter *par, int method) const DAAL_C11_OVERRIDE;
+
 protected:
     /** \private */
     template<typename Archive, bool onDeserialize>
@@ -197,12 +361,65 @@ protected:
 };
 typedef services::SharedPtr<Result> ResultPtr;
 
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__QUANTILES__DISTRIBUTEDSTEP2MASTERINPUT"></a>
+ * \brief %Input objects for the quantiles algorithm on the second step in the distributed processing mode
+ */
+class DAAL_EXPORT DistributedStep2MasterInput : public InputIface
+{
+public:
+    DistributedStep2MasterInput();
+    DistributedStep2MasterInput(const DistributedStep2MasterInput& other);
+
+    virtual ~DistributedStep2MasterInput() {}
+
+    /**
+     * Returns an input object for the quantiles algorithm on the second step in the distributed processing mode
+     * \param[in] id    Identifier of the input object
+     * \return          %Input object that corresponds to the given identifier
+     */
+    data_management::DataCollectionPtr get(MasterInputId id) const;
+
+    /**
+     * Sets an input object for the quantiles algorithm on the second step in the distributed processing mode
+     * \param[in] id    Identifier of the input object
+     * \param[in] ptr   Pointer to the object
+     */
+    void set(MasterInputId id, const data_management::DataCollectionPtr &ptr);
+
+    /**
+     * Adds the partial result computed on a local node to the input of the quantiles algorithm
+     * on the second step in the distributed processing mode
+     * \param[in] id            Identifier of the input object
+     * \param[in] partialResult Partial result obtained on the first step in the distributed processing mode
+     */
+    void add(MasterInputId id, const PartialResultPtr &partialResult);
+
+    /**
+     * Returns the number of features in the partial results computed on local nodes
+     * \return Number of features in the partial results computed on local nodes
+     */
+    size_t getNumberOfFeatures() const DAAL_C11_OVERRIDE;
+
+    /**
+     * Checks the input objects of the quantiles algorithm on the second step in the distributed processing mode
+     * \param[in] parameter Parameters of the algorithm
+     * \param[in] method    Algorithm computation method
+     */
+    services::Status check(const daal::algorithms::Parameter *parameter, int method) const DAAL_C11_OVERRIDE;
+};
+
 /** @} */
 } // namespace interface1
 using interface1::Parameter;
+using interface1::SketchParameter;
+using interface1::InputIface;
 using interface1::Input;
+using interface1::PartialResult;
+using interface1::PartialResultPtr;
 using interface1::Result;
 using interface1::ResultPtr;
+using interface1::DistributedStep2MasterInput;
 
 } // namespace daal::algorithms::quantiles
 } // namespace daal::algorithms
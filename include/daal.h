@@ -52,6 +52,7 @@
 #include "data_management/compression/lzocompression.h"
 #include "data_management/compression/rlecompression.h"
 #include "data_management/compression/zlibcompression.h"
+#include "data_management/data_source/binary_file_data_source.h"
 #include "data_management/data_source/csv_feature_manager.h"
 #include "data_management/data_source/data_source.h"
 #include "data_management/data_source/data_source_utils.h"
@@ -85,6 +86,7 @@
 #include "algorithms/kmeans/kmeans_types.h"
 #include "algorithms/kmeans/kmeans_batch.h"
 #include "algorithms/kmeans/kmeans_distributed.h"
+#include "algorithms/kmeans/kmeans_online.h"
 #include "algorithms/kmeans/kmeans_init_types.h"
 #include "algorithms/kmeans/kmeans_init_batch.h"
 #include "algorithms/kmeans/kmeans_init_distributed.h"
@@ -202,6 +204,8 @@
 #include "algorithms/boosting/boosting_training_batch.h"
 #include "algorithms/quantiles/quantiles_types.h"
 #include "algorithms/quantiles/quantiles_batch.h"
+#include "algorithms/quantiles/quantiles_online.h"
+#include "algorithms/quantiles/quantiles_distributed.h"
 #include "algorithms/implicit_als/implicit_als_model.h"
 #include "algorithms/implicit_als/implicit_als_predict_ratings_batch.h"
 #include "algorithms/implicit_als/implicit_als_predict_ratings_distributed.h"
@@ -346,8 +350,14 @@
 #include "algorithms/k_nearest_neighbors/kdtree_knn_classification_model.h"
 #include "algorithms/k_nearest_neighbors/kdtree_knn_classification_predict.h"
 #include "algorithms/k_nearest_neighbors/kdtree_knn_classification_training_batch.h"
+#include "algorithms/k_nearest_neighbors/kdtree_knn_classification_training_online.h"
 #include "algorithms/k_nearest_neighbors/kdtree_knn_classification_training_types.h"
 #include "algorithms/k_nearest_neighbors/kdtree_knn_classification_predict_types.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_model.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_predict.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_training_batch.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_training_types.h"
+#include "algorithms/k_nearest_neighbors/ivf_knn_classification_predict_types.h"
 #include "algorithms/decision_tree/decision_tree_classification_model.h"
 #include "algorithms/decision_tree/decision_tree_classification_predict.h"
 #include "algorithms/decision_tree/decision_tree_classification_training_batch.h"
@@ -361,6 +371,7 @@
 #include "algorithms/decision_forest/decision_forest_classification_model.h"
 #include "algorithms/decision_forest/decision_forest_classification_predict.h"
 #include "algorithms/decision_forest/decision_forest_classification_training_batch.h"
+#include "algorithms/decision_forest/decision_forest_classification_training_distributed.h"
 #include "algorithms/decision_forest/decision_forest_regression_model.h"
 #include "algorithms/decision_forest/decision_forest_regression_predict.h"
 #include "algorithms/decision_forest/decision_forest_regression_training_batch.h"
@@ -368,10 +379,14 @@
 #include "algorithms/gradient_boosted_trees/gbt_classification_model.h"
 #include "algorithms/gradient_boosted_trees/gbt_classification_predict.h"
 #include "algorithms/gradient_boosted_trees/gbt_classification_training_batch.h"
+#include "algorithms/gradient_boosted_trees/gbt_classification_training_distributed.h"
+#include "algorithms/gradient_boosted_trees/gbt_classification_training_online.h"
 #include "algorithms/gradient_boosted_trees/gbt_classification_training_types.h"
 #include "algorithms/gradient_boosted_trees/gbt_regression_model.h"
 #include "algorithms/gradient_boosted_trees/gbt_regression_predict.h"
 #include "algorithms/gradient_boosted_trees/gbt_regression_training_batch.h"
+#include "algorithms/gradient_boosted_trees/gbt_regression_training_distributed.h"
+#include "algorithms/gradient_boosted_trees/gbt_regression_training_online.h"
 #include "algorithms/gradient_boosted_trees/gbt_regression_training_types.h"
 #include "algorithms/regression/regression_training_batch.h"
 #include "algorithms/regression/regression_predict.h"
@@ -388,5 +403,7 @@
 #include "algorithms/engines/engine.h"
 #include "algorithms/engines/mt19937/mt19937.h"
 #include "algorithms/engines/mt19937/mt19937_types.h"
+#include "algorithms/engines/philox4x32x10/philox4x32x10.h"
+#include "algorithms/engines/philox4x32x10/philox4x32x10_types.h"
 
 #endif /* #ifndef __DAAL_H__ */
@@ -0,0 +1,855 @@
+/* file: binary_file_data_source.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the data source and the writer for binary columnar files.
+//--
+*/
+
+#ifndef __BINARY_FILE_DATA_SOURCE_H__
+#define __BINARY_FILE_DATA_SOURCE_H__
+
+#include <cstdio>
+
+#include "services/daal_memory.h"
+#include "data_management/data_source/data_source.h"
+#include "data_management/data/data_dictionary.h"
+#include "data_management/data/numeric_table.h"
+#include "data_management/data/homogen_numeric_table.h"
+#include "data_management/data/soa_numeric_table.h"
+#include "data_management/compression/compression_stream.h"
+#include "data_management/compression/zlibcompression.h"
+#include "data_management/compression/lzocompression.h"
+#include "data_management/compression/rlecompression.h"
+#include "data_management/compression/bzip2compression.h"
+
+namespace daal
+{
+namespace data_management
+{
+
+namespace interface1
+{
+/**
+ * @ingroup data_sources
+ * @{
+ */
+/**
+ *  <a name="DAAL-CLASS-DATA_MANAGEMENT__BINARYFILEFORMAT"></a>
+ *  \brief Describes the layout of binary columnar files and provides methods shared by the reader and the writer.
+ *
+ *  A file consists of
+ *      - the header: signature, version, number of features, compression method, number of rows,
+ *        number of rows in a chunk (4 x 32-bit and 2 x 64-bit unsigned integers),
+ *      - the feature descriptors: storage type (data_feature_utils::IndexNumType), feature type and
+ *        number of categories of each feature (4 x 32-bit integers per feature),
+ *      - the chunks of rows. A chunk stores the values of each feature as a contiguous column
+ *        preceded by the 64-bit size of the column in bytes. Columns are optionally compressed.
+ *
+ *  Values are stored as 32-bit floats, 64-bit doubles, 32-bit or 64-bit signed integers.
+ *  All values, including the header, are stored in the little-endian byte order and are converted on big-endian hosts.
+ */
+class BinaryFileFormat
+{
+public:
+    static const unsigned int signature           = 0x46434244; /*!< Bytes "DBCF" */
+    static const unsigned int version             = 1;
+    static const unsigned int noCompression       = 0xFFFFFFFF; /*!< Value of the compression method for uncompressed columns */
+    static const size_t      defaultRowsPerChunk = 65536;
+
+    /**
+     *  Returns the type used to store the values of a feature of the given type
+     *  \param[in] indexType    Type of the feature
+     *  \return Type used to store the values
+     */
+    static data_feature_utils::IndexNumType getStorageType(data_feature_utils::IndexNumType indexType)
+    {
+        switch(indexType)
+        {
+        case data_feature_utils::DAAL_FLOAT32:
+            return data_feature_utils::DAAL_FLOAT32;
+        case data_feature_utils::DAAL_INT32_S:
+        case data_feature_utils::DAAL_INT32_U:
+        case data_feature_utils::DAAL_INT8_S:
+        case data_feature_utils::DAAL_INT8_U:
+        case data_feature_utils::DAAL_INT16_S:
+        case data_feature_utils::DAAL_INT16_U:
+            return data_feature_utils::DAAL_INT32_S;
+        case data_feature_utils::DAAL_INT64_S:
+        case data_feature_utils::DAAL_INT64_U:
+            return data_feature_utils::DAAL_INT64_S;
+        default:
+            return data_feature_utils::DAAL_FLOAT64;
+        }
+    }
+
+    /**
+     *  Returns the size in bytes of a value of the storage type
+     *  \param[in] storageType  Storage type, DAAL_FLOAT32, DAAL_FLOAT64, DAAL_INT32_S, or DAAL_INT64_S
+     *  \return Size of a value, 0 if the type is not a storage type
+     */
+    static size_t getElementSize(unsigned int storageType)
+    {
+        switch(storageType)
+        {
+        case data_feature_utils::DAAL_FLOAT32: return sizeof(float);
+        case data_feature_utils::DAAL_FLOAT64: return sizeof(double);
+        case data_feature_utils::DAAL_INT32_S: return sizeof(int);
+        case data_feature_utils::DAAL_INT64_S: return sizeof(DAAL_INT64);
+        default: return 0;
+        }
+    }
+
+    /**
+     *  Converts the values between the byte order of the host and the little-endian byte order of the file.
+     *  The values are not changed on little-endian hosts
+     *  \param[in,out] data         Array of values
+     *  \param[in]     elementSize  Size of a value in bytes
+     *  \param[in]     n            Number of values
+     */
+    static void convertByteOrder(byte *data, size_t elementSize, size_t n)
+    {
+        const unsigned int one = 1;
+        if (*(const byte *)&one == 1)
+            return;
+        for (size_t i = 0; i < n; i++, data += elementSize)
+        {
+            for (size_t k = 0; k < elementSize / 2; k++)
+            {
+                const byte tmp = data[k];
+                data[k] = data[elementSize - 1 - k];
+                data[elementSize - 1 - k] = tmp;
+            }
+        }
+    }
+
+    template<typename T>
+    static bool readValue(FILE *file, T &value)
+    {
+        if (fread(&value, sizeof(T), 1, file) != 1)
+            return false;
+        convertByteOrder((byte *)&value, sizeof(T), 1);
+        return true;
+    }
+
+    template<typename T>
+    static bool writeValue(FILE *file, const T &value)
+    {
+        T fileValue = value;
+        convertByteOrder((byte *)&fileValue, sizeof(T), 1);
+        return (fwrite(&fileValue, sizeof(T), 1, file) == 1);
+    }
+
+    /**
+     *  Compresses an array with the compression method
+     *  \param[in]  method      Compression method
+     *  \param[in]  data        Array to compress
+     *  \param[in]  size        Size of the array in bytes
+     *  \param[out] out         Buffer for the compressed data, reallocated if it is too small
+     *  \param[out] outCapacity Size of the buffer in bytes
+     *  \param[out] outSize     Size of the compressed data in bytes
+     *  \return Status of the compression
+     */
+    static services::Status compress(unsigned int method, byte *data, size_t size, byte *&out, size_t &outCapacity, size_t &outSize)
+    {
+        switch(method)
+        {
+        case zlib:  return compress<zlib> (data, size, out, outCapacity, outSize);
+        case lzo:   return compress<lzo>  (data, size, out, outCapacity, outSize);
+        case rle:   return compress<rle>  (data, size, out, outCapacity, outSize);
+        case bzip2: return compress<bzip2>(data, size, out, outCapacity, outSize);
+        default:    return services::Status(services::ErrorIncorrectParameter);
+        }
+    }
+
+    /**
+     *  Decompresses an array compressed with the compression method
+     *  \param[in]  method      Compression method
+     *  \param[in]  data        Array with the compressed data
+     *  \param[in]  size        Size of the compressed data in bytes
+     *  \param[out] out         Array to store the decompressed data
+     *  \param[in]  outSize     Expected size of the decompressed data in bytes
+     *  \return Status of the decompression
+     */
+    static services::Status decompress(unsigned int method, byte *data, size_t size, byte *out, size_t outSize)
+    {
+        switch(method)
+        {
+        case zlib:  return decompress<zlib> (data, size, out, outSize);
+        case lzo:   return decompress<lzo>  (data, size, out, outSize);
+        case rle:   return decompress<rle>  (data, size, out, outSize);
+        case bzip2: return decompress<bzip2>(data, size, out, outSize);
+        default:    return services::Status(services::ErrorOnFileRead);
+        }
+    }
+
+    /**
+     *  Makes the buffer at least of the requested size. The contents of the buffer are not preserved
+     *  \param[in,out] buffer    Buffer allocated with daal_malloc
+     *  \param[in,out] capacity  Size of the buffer in bytes
+     *  \param[in]     size      Requested size in bytes
+     *  \return true if the buffer has the requested size
+     */
+    static bool reserve(byte *&buffer, size_t &capacity, size_t size)
+    {
+        if (size <= capacity)
+            return true;
+        daal::services::daal_free(buffer);
+        buffer = (byte *)daal::services::daal_malloc(size);
+        capacity = (buffer ? size : 0);
+        return (buffer != NULL);
+    }
+
+private:
+    static services::Status getStatus(const services::SharedPtr<services::ErrorCollection> &errors)
+    {
+        if (!errors || errors->isEmpty())
+            return services::Status();
+        return services::Status(errors->getErrors()->at(0)->id());
+    }
+
+    template<CompressionMethod method>
+    static services::Status compress(byte *data, size_t size, byte *&out, size_t &outCapacity, size_t &outSize)
+    {
+        Compressor<method> compressor;
+        CompressionStream stream(&compressor);
+        DataBlock block(data, size);
+        stream.push_back(&block);
+        services::Status s = getStatus(stream.getErrors());
+        if (!s)
+            return s;
+
+        outSize = stream.getCompressedDataSize();
+        if (!reserve(out, outCapacity, outSize))
+            return services::Status(services::ErrorMemoryAllocationFailed);
+        stream.copyCompressedArray(out, outSize);
+        return getStatus(stream.getErrors());
+    }
+
+    template<CompressionMethod method>
+    static services::Status decompress(byte *data, size_t size, byte *out, size_t outSize)
+    {
+        Decompressor<method> decompressor;
+        DecompressionStream stream(&decompressor);
+        DataBlock block(data, size);
+        stream.push_back(&block);
+        services::Status s = getStatus(stream.getErrors());
+        if (!s)
+            return s;
+
+        if (stream.getDecompressedDataSize() != outSize)
+            return services::Status(services::ErrorOnFileRead);
+        stream.copyDecompressedArray(out, outSize);
+        return getStatus(stream.getErrors());
+    }
+};
+
+/**
+ *  <a name="DAAL-CLASS-DATA_MANAGEMENT__BINARYFILEWRITER"></a>
+ *  \brief Writes Numeric Tables into binary columnar files that are read with BinaryFileDataSource
+ */
+class BinaryFileWriter
+{
+public:
+    /**
+     *  Writes the Numeric Table into a binary columnar file without compression
+     *  \param[in]  fileName      Name of the file
+     *  \param[in]  nt            Numeric Table to write
+     *  \param[in]  rowsPerChunk  Number of rows in a chunk of the file
+     *  \return Status of the operation
+     */
+    static services::Status write(const std::string &fileName, NumericTable &nt,
+                                  size_t rowsPerChunk = BinaryFileFormat::defaultRowsPerChunk)
+    {
+        return writeImpl(fileName, nt, BinaryFileFormat::noCompression, rowsPerChunk);
+    }
+
+    /**
+     *  Writes the Numeric Table into a binary columnar file with compressed columns
+     *  \param[in]  fileName      Name of the file
+     *  \param[in]  nt            Numeric Table to write
+     *  \param[in]  method        Compression method used to compress each column of a chunk
+     *  \param[in]  rowsPerChunk  Number of rows in a chunk of the file
+     *  \return Status of the operation
+     */
+    static services::Status write(const std::string &fileName, NumericTable &nt, CompressionMethod method,
+                                  size_t rowsPerChunk = BinaryFileFormat::defaultRowsPerChunk)
+    {
+        return writeImpl(fileName, nt, (unsigned int)method, rowsPerChunk);
+    }
+
+private:
+    template<typename T>
+    static void packColumn(const double *rows, size_t nRows, size_t nColumns, size_t column, byte *out)
+    {
+        T *values = (T *)out;
+        for (size_t i = 0; i < nRows; i++)
+        {
+            values[i] = (T)rows[i * nColumns + column];
+        }
+    }
+
+    /* Returns the 64-bit integer values of the column if the table stores them in memory, NULL otherwise.
+       Blocks of rows of other tables are read as doubles that cannot hold all 64-bit integers exactly */
+    static const DAAL_INT64 *getInt64Column(NumericTable &nt, size_t column, size_t &stride)
+    {
+        HomogenNumericTable<DAAL_INT64> *homogenTable = dynamic_cast<HomogenNumericTable<DAAL_INT64> *>(&nt);
+        if (homogenTable)
+        {
+            stride = nt.getNumberOfColumns();
+            return homogenTable->getArray() + column;
+        }
+        SOANumericTable *soaTable = dynamic_cast<SOANumericTable *>(&nt);
+        if (soaTable)
+        {
+            stride = 1;
+            return (const DAAL_INT64 *)soaTable->getArray(column);
+        }
+        return NULL;
+    }
+
+    static services::Status writeImpl(const std::string &fileName, NumericTable &nt, unsigned int method, size_t rowsPerChunk)
+    {
+        const size_t nColumns = nt.getNumberOfColumns();
+        const size_t nRows    = nt.getNumberOfRows();
+        if (!nColumns || !rowsPerChunk)
+            return services::Status(services::ErrorIncorrectParameter);
+
+        services::Collection<unsigned int> types(nColumns);
+        if (types.size() != nColumns)
+            return services::Status(services::ErrorMemoryAllocationFailed);
+
+        NumericTableDictionaryPtr ntDict = nt.getDictionarySharedPtr();
+        const bool hasFeatures = (ntDict && ntDict->getNumberOfFeatures() == nColumns);
+
+#if (defined(_MSC_VER)&&(_MSC_VER >= 1400))
+        FILE *file = NULL;
+        if (fopen_s(&file, fileName.c_str(), "wb") != 0)
+            file = NULL;
+#else
+        FILE *file = fopen(fileName.c_str(), "wb");
+#endif
+        if (!file)
+            return services::Status(services::ErrorOnFileOpen);
+
+        bool ok = BinaryFileFormat::writeValue(file, (unsigned int)BinaryFileFormat::signature) &&
+                  BinaryFileFormat::writeValue(file, (unsigned int)BinaryFileFormat::version)   &&
+                  BinaryFileFormat::writeValue(file, (unsigned int)nColumns)                    &&
+                  BinaryFileFormat::writeValue(file, method)                                   &&
+                  BinaryFileFormat::writeValue(file, (DAAL_UINT64)nRows)                       &&
+                  BinaryFileFormat::writeValue(file, (DAAL_UINT64)rowsPerChunk);
+
+        for (size_t j = 0; j < nColumns && ok; j++)
+        {
+            NumericTableFeature feature;
+            if (hasFeatures)
+                feature = (*ntDict)[j];
+            types[j] = (unsigned int)BinaryFileFormat::getStorageType(feature.indexType);
+
+            ok = BinaryFileFormat::writeValue(file, types[j])                      &&
+                 BinaryFileFormat::writeValue(file, (int)feature.featureType)    &&
+                 BinaryFileFormat::writeValue(file, (int)feature.categoryNumber) &&
+                 BinaryFileFormat::writeValue(file, (int)0);
+        }
+
+        services::Status s;
+        if (!ok)
+            s = services::Status(services::ErrorOnFileWrite);
+
+        byte  *column = NULL;
+        size_t columnCapacity = 0;
+        byte  *compressed = NULL;
+        size_t compressedCapacity = 0;
+
+        BlockDescriptor<double> block;
+        for (size_t start = 0; start < nRows && s; start += rowsPerChunk)
+        {
+            const size_t chunkRows = (nRows - start < rowsPerChunk ? nRows - start : rowsPerChunk);
+            nt.getBlockOfRows(start, chunkRows, readOnly, block);
+            const double *rows = block.getBlockPtr();
+            if (!rows || !BinaryFileFormat::reserve(column, columnCapacity, chunkRows * sizeof(double)))
+            {
+                nt.releaseBlockOfRows(block);
+                s = services::Status(rows ? services::ErrorMemoryAllocationFailed : services::ErrorIncorrectInputNumericTable);
+                break;
+            }
+
+            for (size_t j = 0; j < nColumns && s; j++)
+            {
+                switch(types[j])
+                {
+                case data_feature_utils::DAAL_FLOAT32: packColumn<float> (rows, chunkRows, nColumns, j, column); break;
+                case data_feature_utils::DAAL_INT32_S: packColumn<int>   (rows, chunkRows, nColumns, j, column); break;
+                case data_feature_utils::DAAL_INT64_S:
+                    {
+                        size_t stride = 0;
+                        const DAAL_INT64 *values = getInt64Column(nt, j, stride);
+                        if (!values)
+                        {
+                            packColumn<DAAL_INT64>(rows, chunkRows, nColumns, j, column);
+                            break;
+                        }
+                        DAAL_INT64 *out = (DAAL_INT64 *)column;
+                        for (size_t i = 0; i < chunkRows; i++)
+                            out[i] = values[(start + i) * stride];
+                    }
+                    break;
+                default:                               packColumn<double>(rows, chunkRows, nColumns, j, column); break;
+                }
+
+                byte  *data = column;
+                size_t size = chunkRows * BinaryFileFormat::getElementSize(types[j]);
+                BinaryFileFormat::convertByteOrder(column, BinaryFileFormat::getElementSize(types[j]), chunkRows);
+                if (method != BinaryFileFormat::noCompression)
+                {
+                    s = BinaryFileFormat::compress(method, column, size, compressed, compressedCapacity, size);
+                    data = compressed;
+                }
+
+                if (s && (!BinaryFileFormat::writeValue(file, (DAAL_UINT64)size) || fwrite(data, 1, size, file) != size))
+                    s = services::Status(services::ErrorOnFileWrite);
+            }
+            nt.releaseBlockOfRows(block);
+        }
+
+        daal::services::daal_free(column);
+        daal::services::daal_free(compressed);
+
+        if (fclose(file) != 0 && s)
+            s = services::Status(services::ErrorOnFileWrite);
+        return s;
+    }
+};
+
+/**
+ *  <a name="DAAL-CLASS-DATA_MANAGEMENT__BINARYFILEDATASOURCE"></a>
+ *  \brief Specifies methods to access data stored in binary columnar files written with BinaryFileWriter.
+ *         The Data %Dictionary is read from the header of the file. Column values are copied
+ *         into the Numeric Table without parsing, so dense tables of any layout can be used as the destination
+ */
+template< typename _summaryStatisticsType = DAAL_SUMMARY_STATISTICS_TYPE >
+class BinaryFileDataSource : public DataSourceTemplate<data_management::HomogenNumericTable<DAAL_DATA_TYPE>, _summaryStatisticsType>
+{
+public:
+    using DataSource::checkDictionary;
+    using DataSource::checkNumericTable;
+    using DataSource::_dict;
+
+protected:
+    typedef data_management::HomogenNumericTable<DAAL_DATA_TYPE> DefaultNumericTableType;
+    typedef DataSourceTemplate<DefaultNumericTableType, _summaryStatisticsType> super;
+
+public:
+    /**
+     *  Main constructor for a Data Source
+     *  \param[in]  fileName                        Name of the file that stores data
+     *  \param[in]  doAllocateNumericTable          Flag that specifies whether a Numeric Table
+     *                                              associated with a Data Source is allocated inside the Data Source
+     *  \param[in]  doCreateDictionaryFromContext   Flag that specifies whether a Data %Dictionary
+     *                                              is created from the header of the file
+     */
+    BinaryFileDataSource( const std::string &fileName,
+                          DataSourceIface::NumericTableAllocationFlag doAllocateNumericTable    = DataSource::notAllocateNumericTable,
+                          DataSourceIface::DictionaryCreationFlag doCreateDictionaryFromContext = DataSource::doDictionaryFromContext ) :
+        super(doAllocateNumericTable, doCreateDictionaryFromContext),
+        _file(NULL), _nFeatures(0), _compression(BinaryFileFormat::noCompression), _nRows(0), _rowsPerChunk(0),
+        _rowsRead(0), _chunkRows(0), _chunkPos(0), _compressed(NULL), _compressedCapacity(0)
+    {
+#if (defined(_MSC_VER)&&(_MSC_VER >= 1400))
+        if (fopen_s(&_file, fileName.c_str(), "rb") != 0)
+            _file = NULL;
+#else
+        _file = fopen(fileName.c_str(), "rb");
+#endif
+        if (!_file)
+        {
+            this->_status.add(services::throwIfPossible(services::Status(services::ErrorOnFileOpen)));
+            return;
+        }
+
+        services::Status s = readHeader();
+        if (!s)
+            this->_status.add(services::throwIfPossible(s));
+    }
+
+    ~BinaryFileDataSource()
+    {
+        if (_file)
+            fclose(_file);
+        for (size_t j = 0; j < _columns.size(); j++)
+            daal::services::daal_free(_columns[j]);
+        daal::services::daal_free(_compressed);
+        super::freeNumericTable();
+    }
+
+public:
+    services::Status createDictionaryFromContext() DAAL_C11_OVERRIDE
+    {
+        if (_dict)
+            return services::throwIfPossible(services::Status(services::ErrorDictionaryAlreadyAvailable));
+        if (!_nFeatures)
+            return services::throwIfPossible(services::Status(services::ErrorOnFileRead));
+
+        services::Status s;
+        _dict = DataSourceDictionary::create(&s);
+        if (!s)
+            return services::throwIfPossible(s);
+
+        _dict->setNumberOfFeatures(_nFeatures);
+        for (size_t j = 0; j < _nFeatures; j++)
+        {
+            DataSourceFeature feature;
+            switch (_types[j])
+            {
+            case data_feature_utils::DAAL_FLOAT32: feature.setType<float> (); break;
+            case data_feature_utils::DAAL_INT32_S: feature.setType<int>   (); break;
+            case data_feature_utils::DAAL_INT64_S: feature.setType<DAAL_INT64>(); break;
+            default:                               feature.setType<double>(); break;
+            }
+            feature.ntFeature.featureType    = (data_feature_utils::FeatureType)_featureTypes[j];
+            feature.ntFeature.categoryNumber = _categoryNumbers[j];
+            _dict->setFeature(feature, j);
+        }
+        return services::Status();
+    }
+
+    DataSourceIface::DataSourceStatus getStatus() DAAL_C11_OVERRIDE
+    {
+        return (_rowsRead < _nRows ? DataSourceIface::readyForLoad : DataSourceIface::endOfData);
+    }
+
+    size_t getNumberOfAvailableRows() DAAL_C11_OVERRIDE
+    {
+        return (size_t)(_nRows - _rowsRead);
+    }
+
+    size_t loadDataBlock() DAAL_C11_OVERRIDE
+    {
+        return DataSource::loadDataBlock();
+    }
+
+    size_t loadDataBlock(size_t maxRows) DAAL_C11_OVERRIDE
+    {
+        return DataSource::loadDataBlock(maxRows);
+    }
+
+    size_t loadDataBlock(size_t maxRows, size_t rowOffset, size_t fullRows) DAAL_C11_OVERRIDE
+    {
+        return DataSource::loadDataBlock(maxRows, rowOffset, fullRows);
+    }
+
+    size_t loadDataBlock(NumericTable *nt) DAAL_C11_OVERRIDE
+    {
+        return loadDataBlock(getNumberOfAvailableRows(), nt);
+    }
+
+    size_t loadDataBlock(size_t maxRows, NumericTable *nt) DAAL_C11_OVERRIDE
+    {
+        const size_t nRows = getNumberOfAvailableRows();
+        if (maxRows > nRows)
+            maxRows = nRows;
+        const size_t nLines = loadDataBlock(maxRows, 0, maxRows, nt);
+        if (nt)
+            nt->resize(nLines);
+        return nLines;
+    }
+
+    size_t loadDataBlock(size_t maxRows, size_t rowOffset, size_t fullRows, NumericTable *nt) DAAL_C11_OVERRIDE
+    {
+        services::Status s = checkDictionary();
+        if (s)
+            s = checkInputNumericTable(nt);
+        if (s && rowOffset + maxRows > fullRows)
+            s = services::Status(services::ErrorIncorrectDataRange);
+        if (s)
+            s = resetNumericTable(nt, fullRows);
+        if (!s)
+        {
+            this->_status.add(services::throwIfPossible(s));
+            return 0;
+        }
+
+        services::Collection<_summaryStatisticsType> minimum(_nFeatures), maximum(_nFeatures), sum(_nFeatures), sumSquares(_nFeatures);
+
+        size_t nLoaded = 0;
+        while (nLoaded < maxRows && _rowsRead < _nRows)
+        {
+            if (_chunkPos == _chunkRows)
+            {
+                s = readChunk();
+                if (!s)
+                    break;
+            }
+
+            const size_t nRows = (maxRows - nLoaded < _chunkRows - _chunkPos ? maxRows - nLoaded : _chunkRows - _chunkPos);
+            for (size_t j = 0; j < _nFeatures && s; j++)
+            {
+                Statistics stat(minimum[j], maximum[j], sum[j], sumSquares[j], nLoaded == 0);
+                switch (_types[j])
+                {
+                case data_feature_utils::DAAL_FLOAT32: s = copyColumn<float,  float>     (j, nt, rowOffset + nLoaded, nRows, stat); break;
+                case data_feature_utils::DAAL_INT32_S: s = copyColumn<int,    int>       (j, nt, rowOffset + nLoaded, nRows, stat); break;
+                case data_feature_utils::DAAL_INT64_S: s = copyColumn<double, DAAL_INT64>(j, nt, rowOffset + nLoaded, nRows, stat); break;
+                default:                               s = copyColumn<double, double>    (j, nt, rowOffset + nLoaded, nRows, stat); break;
+                }
+            }
+            if (!s)
+                break;
+
+            _chunkPos += nRows;
+            _rowsRead += nRows;
+            nLoaded   += nRows;
+        }
+
+        if (!s)
+            this->_status.add(services::throwIfPossible(s));
+        if (nLoaded)
+            writeStatistics(nt, minimum, maximum, sum, sumSquares);
+
+        return rowOffset + nLoaded;
+    }
+
+protected:
+    /* References to the statistics of a column accumulated over the loaded rows */
+    struct Statistics
+    {
+        Statistics(_summaryStatisticsType &minimum, _summaryStatisticsType &maximum,
+                   _summaryStatisticsType &sum, _summaryStatisticsType &sumSquares, bool isEmpty) :
+            minimum(minimum), maximum(maximum), sum(sum), sumSquares(sumSquares), isEmpty(isEmpty) {}
+
+        _summaryStatisticsType &minimum;
+        _summaryStatisticsType &maximum;
+        _summaryStatisticsType &sum;
+        _summaryStatisticsType &sumSquares;
+        bool isEmpty;
+    };
+
+    services::Status readHeader()
+    {
+        unsigned int fileSignature = 0, fileVersion = 0, nFeatures = 0;
+        DAAL_UINT64 rowsPerChunk = 0;
+        bool ok = BinaryFileFormat::readValue(_file, fileSignature) &&
+                  BinaryFileFormat::readValue(_file, fileVersion)   &&
+                  BinaryFileFormat::readValue(_file, nFeatures)     &&
+                  BinaryFileFormat::readValue(_file, _compression)  &&
+                  BinaryFileFormat::readValue(_file, _nRows)        &&
+                  BinaryFileFormat::readValue(_file, rowsPerChunk);
+        if (!ok || fileSignature != BinaryFileFormat::signature || fileVersion != BinaryFileFormat::version ||
+            !nFeatures || !rowsPerChunk || (DAAL_UINT64)(size_t)rowsPerChunk != rowsPerChunk)
+            return services::Status(services::ErrorOnFileRead);
+
+        _rowsPerChunk = (size_t)rowsPerChunk;
+        for (size_t j = 0; j < nFeatures; j++)
+        {
+            unsigned int type = 0;
+            int featureType = 0, categoryNumber = 0, reserved = 0;
+            ok = BinaryFileFormat::readValue(_file, type)           &&
+                 BinaryFileFormat::readValue(_file, featureType)    &&
+                 BinaryFileFormat::readValue(_file, categoryNumber) &&
+                 BinaryFileFormat::readValue(_file, reserved);
+            if (!ok || !BinaryFileFormat::getElementSize(type))
+                return services::Status(services::ErrorOnFileRead);
+
+            byte *column = (byte *)daal::services::daal_malloc(_rowsPerChunk * BinaryFileFormat::getElementSize(type));
+            if (!column)
+                return services::Status(services::ErrorMemoryAllocationFailed);
+
+            _types.push_back(type);
+            _featureTypes.push_back(featureType);
+            _categoryNumbers.push_back((size_t)categoryNumber);
+            _columns.push_back(column);
+        }
+        _nFeatures = nFeatures;
+        return services::Status();
+    }
+
+    services::Status readChunk()
+    {
+        _chunkRows = (_nRows - _rowsRead < _rowsPerChunk ? (size_t)(_nRows - _rowsRead) : _rowsPerChunk);
+        _chunkPos  = 0;
+
+        for (size_t j = 0; j < _nFeatures; j++)
+        {
+            const size_t size = _chunkRows * BinaryFileFormat::getElementSize(_types[j]);
+            DAAL_UINT64 storedSize = 0;
+            if (!BinaryFileFormat::readValue(_file, storedSize))
+                return services::Status(services::ErrorOnFileRead);
+
+            if (_compression == BinaryFileFormat::noCompression)
+            {
+                if (storedSize != size || fread(_columns[j], 1, size, _file) != size)
+                    return services::Status(services::ErrorOnFileRead);
+                BinaryFileFormat::convertByteOrder(_columns[j], BinaryFileFormat::getElementSize(_types[j]), _chunkRows);
+                continue;
+            }
+
+            if ((DAAL_UINT64)(size_t)storedSize != storedSize ||
+                !BinaryFileFormat::reserve(_compressed, _compressedCapacity, (size_t)storedSize))
+                return services::Status(services::ErrorMemoryAllocationFailed);
+            if (fread(_compressed, 1, (size_t)storedSize, _file) != storedSize)
+                return services::Status(services::ErrorOnFileRead);
+
+            services::Status s = BinaryFileFormat::decompress(_compression, _compressed, (size_t)storedSize, _columns[j], size);
+            if (!s)
+                return s;
+            BinaryFileFormat::convertByteOrder(_columns[j], BinaryFileFormat::getElementSize(_types[j]), _chunkRows);
+        }
+        return services::Status();
+    }
+
+    /* Copies the values of the column stored as StoredT into the Numeric Table through the block of type T */
+    template<typename T, typename StoredT>
+    services::Status copyColumn(size_t j, NumericTable *nt, size_t ntRowIndex, size_t nRows, Statistics &stat)
+    {
+        const StoredT *values = (const StoredT *)_columns[j] + _chunkPos;
+
+        BlockDescriptor<T> block;
+        nt->getBlockOfColumnValues(j, ntRowIndex, nRows, writeOnly, block);
+        T *dst = block.getBlockPtr();
+        if (!dst)
+        {
+            nt->releaseBlockOfColumnValues(block);
+            return services::Status(services::ErrorIncorrectInputNumericTable);
+        }
+        for (size_t i = 0; i < nRows; i++)
+            dst[i] = (T)values[i];
+        nt->releaseBlockOfColumnValues(block);
+
+        size_t i = 0;
+        if (stat.isEmpty && nRows)
+        {
+            stat.minimum    = (_summaryStatisticsType)values[0];
+            stat.maximum    = stat.minimum;
+            stat.sum        = stat.minimum;
+            stat.sumSquares = stat.minimum * stat.minimum;
+            i = 1;
+        }
+        for (; i < nRows; i++)
+        {
+            const _summaryStatisticsType value = (_summaryStatisticsType)values[i];
+            if (stat.minimum > value) { stat.minimum = value; }
+            if (stat.maximum < value) { stat.maximum = value; }
+            stat.sum        += value;
+            stat.sumSquares += value * value;
+        }
+        return services::Status();
+    }
+
+    void writeStatistics(NumericTable *nt, services::Collection<_summaryStatisticsType> &minimum, services::Collection<_summaryStatisticsType> &maximum,
+                         services::Collection<_summaryStatisticsType> &sum, services::Collection<_summaryStatisticsType> &sumSquares)
+    {
+        writeStatistics(nt, NumericTable::minimum,    minimum);
+        writeStatistics(nt, NumericTable::maximum,    maximum);
+        writeStatistics(nt, NumericTable::sum,        sum);
+        writeStatistics(nt, NumericTable::sumSquares, sumSquares);
+    }
+
+    void writeStatistics(NumericTable *nt, NumericTable::BasicStatisticsId id, services::Collection<_summaryStatisticsType> &values)
+    {
+        NumericTablePtr ntStat = nt->basicStatistics.get(id);
+        if (!ntStat)
+            return;
+
+        BlockDescriptor<_summaryStatisticsType> block;
+        ntStat->getBlockOfRows(0, 1, writeOnly, block);
+        _summaryStatisticsType *dst = block.getBlockPtr();
+        if (dst)
+        {
+            for (size_t j = 0; j < _nFeatures; j++)
+                dst[j] = values[j];
+        }
+        ntStat->releaseBlockOfRows(block);
+    }
+
+    services::Status resetNumericTable(NumericTable *nt, const size_t newSize)
+    {
+        NumericTableDictionaryPtr ntDict = nt->getDictionarySharedPtr();
+        ntDict->setNumberOfFeatures(_nFeatures);
+        for (size_t j = 0; j < _nFeatures; j++)
+            ntDict->setFeature((*_dict)[j].ntFeature, j);
+
+        services::Status s = super::resizeNumericTableImpl(newSize, nt);
+        if (!s)
+            return s;
+
+        nt->setNormalizationFlag(NumericTable::nonNormalized);
+        return services::Status();
+    }
+
+    services::Status checkInputNumericTable(const NumericTable *const nt) const
+    {
+        if (!nt)
+            return services::Status(services::ErrorNullInputNumericTable);
+        if (nt->getDataLayout() == NumericTable::csrArray)
+            return services::Status(services::ErrorIncorrectTypeOfInputNumericTable);
+        return services::Status();
+    }
+
+protected:
+    FILE *_file;
+
+    size_t      _nFeatures;
+    unsigned int _compression;
+    DAAL_UINT64 _nRows;
+    size_t      _rowsPerChunk;
+
+    services::Collection<unsigned int> _types;
+    services::Collection<int>  _featureTypes;
+    services::Collection<size_t>      _categoryNumbers;
+
+    DAAL_UINT64 _rowsRead;   /* Number of rows loaded from the file */
+    size_t      _chunkRows;  /* Number of rows in the current chunk */
+    size_t      _chunkPos;   /* Number of rows loaded from the current chunk */
+
+    services::Collection<byte *> _columns; /* Decoded columns of the current chunk */
+    byte  *_compressed;
+    size_t _compressedCapacity;
+};
+/** @} */
+} // namespace interface1
+using interface1::BinaryFileFormat;
+using interface1::BinaryFileWriter;
+using interface1::BinaryFileDataSource;
+
+}
+}
+#endif
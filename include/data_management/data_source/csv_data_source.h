@@ -104,7 +104,12 @@ public:
                   size_t initialMaxRows = 10):
         DataSourceTemplate<DefaultNumericTableType, _summaryStatisticsType>(doAllocateNumericTable, doCreateDictionaryFromContext),
         _rawLineBuffer(NULL),
-        _rawLineLength(0)
+        _rawLineLength(0),
+        _nThreads(1),
+        _blockBuffer(NULL),
+        _blockBufferLen(0),
+        _blockRowOffsets(NULL),
+        _blockRowOffsetsLen(0)
     {
         _rawLineBufferLen = 1024;
         _rawLineBuffer = (char *)daal::services::daal_malloc(_rawLineBufferLen);
@@ -116,6 +121,8 @@ public:
     ~CsvDataSource()
     {
         daal::services::daal_free( _rawLineBuffer );
+        daal::services::daal_free( _blockBuffer );
+        daal::services::daal_free( _blockRowOffsets );
         DataSourceTemplate<DefaultNumericTableType, _summaryStatisticsType>::freeNumericTable();
     }
 
@@ -128,6 +135,26 @@ public:
         return featureManager;
     }
 
+    /**
+     *  Sets the number of threads used to parse the rows in loadDataBlock() methods.
+     *  If the number of threads is not equal to 1, the rows are read in blocks and
+     *  the blocks are split into disjoint ranges of rows that are parsed concurrently
+     *  \param[in] nThreads  Number of threads, 0 to use all threads of the library, 1 to parse the rows sequentially (default)
+     */
+    void setNumberOfThreads(size_t nThreads)
+    {
+        _nThreads = nThreads;
+    }
+
+    /**
+     *  Returns the number of threads used to parse the rows in loadDataBlock() methods
+     *  \return Number of threads, 0 if all threads of the library are used
+     */
+    size_t getNumberOfThreads() const
+    {
+        return _nThreads;
+    }
+
 public:
     size_t getNumericTableNumberOfColumns() DAAL_C11_OVERRIDE
     {
@@ -242,6 +269,11 @@ public:
             return 0;
         }
 
+        if (_nThreads != 1)
+        {
+            return rowOffset + loadRowBlocks(maxRows, rowOffset, nt);
+        }
+
         size_t j = 0;
         for(; j < maxRows && !iseof() ; j++ )
         {
@@ -338,6 +370,103 @@ protected:
         return services::Status();
     }
 
+    /**
+     *  Reads the rows into blocks of null-terminated strings and parses each block with the feature manager
+     *  \param[in]  maxRows    Maximum number of rows to load
+     *  \param[in]  rowOffset  Position in the Numeric Table at which to store the first row
+     *  \param[out] nt         Pointer to the Numeric Table to store the rows
+     *  \return Number of loaded rows
+     */
+    size_t loadRowBlocks(size_t maxRows, size_t rowOffset, NumericTable *nt)
+    {
+        const size_t maxBlockSize = ((size_t)1 << 24);
+        const size_t maxBlockRows = ((size_t)1 << 16);
+
+        size_t nLoaded = 0;
+        bool isEnd = false;
+        while (nLoaded < maxRows && !isEnd && !iseof())
+        {
+            const size_t blockRows = (maxRows - nLoaded < maxBlockRows ? maxRows - nLoaded : maxBlockRows);
+            if (!enlargeRowOffsets(blockRows + 1))
+            {
+                this->_status.add(services::throwIfPossible(services::Status(services::ErrorMemoryAllocationFailed)));
+                break;
+            }
+
+            size_t nRows = 0;
+            size_t blockSize = 0;
+            while (nRows < blockRows && blockSize < maxBlockSize && !iseof())
+            {
+                services::Status s = readLine();
+                if (!s || !_rawLineLength)
+                {
+                    isEnd = true;
+                    break;
+                }
+                if (!enlargeBlockBuffer(blockSize + _rawLineLength + 1))
+                {
+                    this->_status.add(services::throwIfPossible(services::Status(services::ErrorMemoryAllocationFailed)));
+                    isEnd = true;
+                    break;
+                }
+                daal::services::daal_memcpy_s(_blockBuffer + blockSize, _blockBufferLen - blockSize, _rawLineBuffer, _rawLineLength + 1);
+                _blockRowOffsets[nRows++] = blockSize;
+                blockSize += _rawLineLength + 1;
+            }
+            _blockRowOffsets[nRows] = blockSize;
+
+            if (!nRows)
+                break;
+
+            if (!featureManager.parseRowBlockIn(_blockBuffer, _blockRowOffsets, nRows, this->_dict.get(), nt, rowOffset + nLoaded, _nThreads))
+            {
+                for (size_t i = 0; i < nRows; i++)
+                {
+                    featureManager.parseRowIn(_blockBuffer + _blockRowOffsets[i], _blockRowOffsets[i + 1] - _blockRowOffsets[i] - 1,
+                                              this->_dict.get(), nt, rowOffset + nLoaded + i);
+                }
+            }
+
+            for (size_t i = 0; i < nRows; i++)
+            {
+                DataSourceTemplate<DefaultNumericTableType, _summaryStatisticsType>::updateStatistics( nLoaded + i, nt, rowOffset );
+            }
+            nLoaded += nRows;
+        }
+        return nLoaded;
+    }
+
+    bool enlargeBlockBuffer(size_t size)
+    {
+        if (size <= _blockBufferLen)
+            return true;
+        size_t newBlockBufferLen = (_blockBufferLen ? _blockBufferLen : 1024);
+        while (newBlockBufferLen < size)
+            newBlockBufferLen *= 2;
+        char *newBlockBuffer = (char *)daal::services::daal_malloc( newBlockBufferLen );
+        if(newBlockBuffer == 0)
+            return false;
+        if (_blockBufferLen)
+            daal::services::daal_memcpy_s(newBlockBuffer, newBlockBufferLen, _blockBuffer, _blockBufferLen);
+        daal::services::daal_free( _blockBuffer );
+        _blockBuffer = newBlockBuffer;
+        _blockBufferLen = newBlockBufferLen;
+        return true;
+    }
+
+    bool enlargeRowOffsets(size_t size)
+    {
+        if (size <= _blockRowOffsetsLen)
+            return true;
+        size_t *newRowOffsets = (size_t *)daal::services::daal_malloc( size * sizeof(size_t) );
+        if(newRowOffsets == 0)
+            return false;
+        daal::services::daal_free( _blockRowOffsets );
+        _blockRowOffsets = newRowOffsets;
+        _blockRowOffsetsLen = size;
+        return true;
+    }
+
     bool enlargeBuffer()
     {
         int newRawLineBufferLen = _rawLineBufferLen * 2;
@@ -357,6 +486,12 @@ protected:
     int   _rawLineLength;
 
     bool _contextDictFlag;
+
+    size_t  _nThreads;
+    char   *_blockBuffer;
+    size_t  _blockBufferLen;
+    size_t *_blockRowOffsets;
+    size_t  _blockRowOffsetsLen;
 };
 /** @} */
 } // namespace interface1
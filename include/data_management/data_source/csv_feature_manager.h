@@ -62,6 +62,44 @@ namespace daal
 namespace data_management
 {
 
+namespace csv_internal
+{
+/**
+ *  Converts the string with the value of a continuous feature into the number.
+ *  The same conversion is used by the sequential and the parallel parsers of the CSV rows
+ *  \param[in]  text  Null-terminated string with the value
+ *  \param[out] f     Value of the feature
+ */
+template<typename T>
+inline void readContinuousValue(const char *text, T &f)
+{
+    f = (T)daal::services::daal_string_to_float(text, 0);
+}
+
+/**
+ *  Parses a block of null-terminated strings with continuous features in the CSV format
+ *  and converts them into the rows of a dense row-major array. Disjoint ranges of strings are parsed concurrently
+ *  \param[in]  rawData         Array of characters with the strings
+ *  \param[in]  rowOffsets      Positions of the strings in the rawData array
+ *  \param[in]  nRows           Number of strings to parse
+ *  \param[in]  delimiter       Character that separates the features in a string
+ *  \param[in]  featureIndices  Indices of the columns of the array to store the features in,
+ *                              (size_t)-1 for the features that are filtered out
+ *  \param[in]  nFeatures       Number of features in the data source
+ *  \param[out] data            Array of nRows x nColumns elements to store the result of parsing
+ *  \param[in]  nColumns        Number of columns in the array
+ *  \param[in]  nThreads        Number of threads to use for parsing, 0 to use all threads of the library
+ */
+DAAL_EXPORT void parseContinuousRows(char *rawData, const size_t *rowOffsets, size_t nRows, char delimiter,
+                                     const size_t *featureIndices, size_t nFeatures, float *data, size_t nColumns, size_t nThreads);
+
+/**
+ *  \copydoc parseContinuousRows
+ */
+DAAL_EXPORT void parseContinuousRows(char *rawData, const size_t *rowOffsets, size_t nRows, char delimiter,
+                                     const size_t *featureIndices, size_t nFeatures, double *data, size_t nColumns, size_t nThreads);
+} // namespace csv_internal
+
 /**
  *  <a name="DAAL-CLASS-DATA_MANAGEMENT__FEATUREAUXDATA"></a>
  *  \brief Structure for auxiliary data used for feature extraction.
@@ -121,7 +159,7 @@ protected:
     template<class T>
     static void readNumeric(const char *text, T &f)
     {
-        f = daal::services::daal_string_to_float(text, 0);
+        csv_internal::readContinuousValue<T>(text, f);
     }
 
     static void binFunc(const char* word, FeatureAuxData& aux, DAAL_DATA_TYPE* arr)
@@ -474,6 +512,57 @@ public:
         delete[] words;
     }
 
+    /**
+     *  Parses a block of strings that represent feature vectors and converts them into a numeric representation.
+     *  The strings are parsed concurrently if all the features are continuous,
+     *  otherwise the method returns false and the strings must be parsed with parseRowIn()
+     *  \param[in]  rawData      Array of characters with the null-terminated strings that represent the feature vectors
+     *  \param[in]  rowOffsets   Positions of the strings in the rawData array
+     *  \param[in]  nRows        Number of strings to parse
+     *  \param[in]  dict         Pointer to the dictionary
+     *  \param[out] nt           Pointer to a Numeric Table to store the result of parsing
+     *  \param[in]  ntRowIndex   Position in the Numeric Table at which to store the result of parsing of the first string
+     *  \param[in]  nThreads     Number of threads to use for parsing, 0 to use all threads of the library
+     *  \return true if the block is parsed
+     */
+    virtual bool parseRowBlockIn( char *rawData, const size_t *rowOffsets, size_t nRows, DataSourceDictionary *dict,
+                                  NumericTable *nt, size_t ntRowIndex, size_t nThreads ) DAAL_C11_OVERRIDE
+    {
+        const size_t dFeatures = auxVect.size();
+        services::Collection<size_t> featureIndices(dFeatures);
+        if(!dFeatures || featureIndices.size() != dFeatures)
+        {
+            return false;
+        }
+
+        for( size_t i = 0; i < dFeatures; i++ )
+        {
+            if( auxVect[i].wide == 0 )
+            {
+                featureIndices[i] = (size_t)-1;
+            }
+            else if( funcList[i] == ModifierIface::contFunc && auxVect[i].wide == 1 )
+            {
+                featureIndices[i] = auxVect[i].idx;
+            }
+            else
+            {
+                return false;
+            }
+        }
+
+        nt->getBlockOfRows( ntRowIndex, nRows, writeOnly, block );
+        DAAL_DATA_TYPE *rows = block.getBlockPtr();
+        if( rows )
+        {
+            csv_internal::parseContinuousRows( rawData, rowOffsets, nRows, _delimiter, &featureIndices[0], dFeatures,
+                                               rows, getNumericTableNumberOfColumns(), nThreads );
+        }
+        nt->releaseBlockOfRows( block );
+
+        return (rows != NULL);
+    }
+
 protected:
     BlockDescriptor<DAAL_DATA_TYPE> block;
 
@@ -90,6 +90,26 @@ public:
      */
     virtual void parseRowIn ( char *rawRowData, size_t rawDataSize, DataSourceDictionary *dict, NumericTable *nt,
                               size_t  ntRowIndex  ) = 0;
+
+    /**
+     *  Parses a block of strings that represent feature vectors and converts them into a numeric representation.
+     *  The strings may be parsed concurrently
+     *  \param[in]  rawData      Array of characters with the null-terminated strings that represent the feature vectors
+     *  \param[in]  rowOffsets   Positions of the strings in the rawData array, nRows + 1 elements.
+     *                           The last element is the total size of the strings in the rawData array
+     *  \param[in]  nRows        Number of strings to parse
+     *  \param[in]  dict         Pointer to the dictionary
+     *  \param[out] nt           Pointer to a Numeric Table to store the result of parsing
+     *  \param[in]  ntRowIndex   Position in the Numeric Table at which to store the result of parsing of the first string
+     *  \param[in]  nThreads     Number of threads to use for parsing, 0 to use all threads of the library
+     *  \return true if the block is parsed, false if the feature manager cannot parse the block and
+     *          the strings must be parsed one by one with parseRowIn()
+     */
+    virtual bool parseRowBlockIn( char *rawData, const size_t *rowOffsets, size_t nRows, DataSourceDictionary *dict,
+                                  NumericTable *nt, size_t ntRowIndex, size_t nThreads )
+    {
+        return false;
+    }
 };
 /** @} */
 } // namespace interface1
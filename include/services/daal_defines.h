@@ -242,6 +242,7 @@ const int SERIALIZATION_COVARIANCE_RESULT_ID
 
 const int SERIALIZATION_KMEANS_PARTIAL_RESULT_ID                                               = 101100;
 const int SERIALIZATION_KMEANS_RESULT_ID                                                       = 101110;
+const int SERIALIZATION_KMEANS_ONLINE_PARTIAL_RESULT_ID                                        = 101120;
 const int SERIALIZATION_KMEANS_INIT_PARTIAL_RESULT_ID                                          = 101200;
 const int SERIALIZATION_KMEANS_INIT_STEP2LOCAL_PP_PARTIAL_RESULT_ID                            = 101210;
 const int SERIALIZATION_KMEANS_INIT_STEP3MASTER_PP_PARTIAL_RESULT_ID                           = 101220;
@@ -297,6 +298,7 @@ const int SERIALIZATION_QR_DISTRIBUTED_PARTIAL_RESULT_ID
 const int SERIALIZATION_QR_DISTRIBUTED_PARTIAL_RESULT_STEP3_ID                                 = 102430;
 
 const int SERIALIZATION_QUANTILES_RESULT_ID                                                    = 102500;
+const int SERIALIZATION_QUANTILES_PARTIAL_RESULT_ID                                            = 102510;
 
 const int SERIALIZATION_WEAK_LEARNER_RESULT_ID                                                 = 102600;
 
@@ -411,6 +413,11 @@ const int SERIALIZATION_RIDGE_REGRESSION_PREDICTION_RESULT_ID
 
 const int SERIALIZATION_K_NEAREST_NEIGHBOR_MODEL_ID                                            = 106000;
 const int SERIALIZATION_K_NEAREST_NEIGHBOR_TRAINING_RESULT_ID                                  = 106010;
+const int SERIALIZATION_K_NEAREST_NEIGHBOR_PREDICTION_RESULT_ID                                = 106020;
+const int SERIALIZATION_K_NEAREST_NEIGHBOR_TRAINING_PARTIAL_RESULT_ID                          = 106030;
+const int SERIALIZATION_IVF_K_NEAREST_NEIGHBOR_MODEL_ID                                        = 106100;
+const int SERIALIZATION_IVF_K_NEAREST_NEIGHBOR_TRAINING_RESULT_ID                              = 106110;
+const int SERIALIZATION_IVF_K_NEAREST_NEIGHBOR_PREDICTION_RESULT_ID                            = 106120;
 
 const int SERIALIZATION_DECISION_FOREST_CLASSIFICATION_MODEL_ID                                = 107000;
 const int SERIALIZATION_DECISION_FOREST_CLASSIFICATION_TRAINING_RESULT_ID                      = 107010;
@@ -418,12 +425,19 @@ const int SERIALIZATION_DECISION_FOREST_CLASSIFICATION_PREDICTION_RESULT_ID
 const int SERIALIZATION_DECISION_FOREST_REGRESSION_MODEL_ID                                    = 107030;
 const int SERIALIZATION_DECISION_FOREST_REGRESSION_TRAINING_RESULT_ID                          = 107040;
 const int SERIALIZATION_DECISION_FOREST_REGRESSION_PREDICTION_RESULT_ID                        = 107050;
+const int SERIALIZATION_DECISION_FOREST_CLASSIFICATION_TRAINING_PARTIAL_RESULT_ID              = 107060;
 const int SERIALIZATION_GBT_CLASSIFICATION_MODEL_ID                                            = 107100;
 const int SERIALIZATION_GBT_CLASSIFICATION_TRAINING_RESULT_ID                                  = 107110;
 const int SERIALIZATION_GBT_CLASSIFICATION_PREDICTION_RESULT_ID                                = 107120;
 const int SERIALIZATION_GBT_REGRESSION_MODEL_ID                                                = 107130;
 const int SERIALIZATION_GBT_REGRESSION_TRAINING_RESULT_ID                                      = 107140;
 const int SERIALIZATION_GBT_REGRESSION_PREDICTION_RESULT_ID                                    = 107150;
+const int SERIALIZATION_GBT_REGRESSION_TRAINING_DISTRIBUTED_PARTIAL_RESULT_STEP1_ID             = 107160;
+const int SERIALIZATION_GBT_REGRESSION_TRAINING_DISTRIBUTED_PARTIAL_RESULT_ID                   = 107170;
+const int SERIALIZATION_GBT_CLASSIFICATION_TRAINING_DISTRIBUTED_PARTIAL_RESULT_STEP1_ID         = 107180;
+const int SERIALIZATION_GBT_CLASSIFICATION_TRAINING_DISTRIBUTED_PARTIAL_RESULT_ID               = 107190;
+const int SERIALIZATION_GBT_REGRESSION_TRAINING_ONLINE_PARTIAL_RESULT_ID                        = 107200;
+const int SERIALIZATION_GBT_CLASSIFICATION_TRAINING_ONLINE_PARTIAL_RESULT_ID                    = 107210;
 
 const int SERIALIZATION_DECISION_TREE_CLASSIFICATION_MODEL_ID                                  = 108000;
 const int SERIALIZATION_DECISION_TREE_CLASSIFICATION_TRAINING_RESULT_ID                        = 108010;
@@ -401,6 +401,7 @@ enum ErrorID
     ErrorSQLstmtHandle = -90044,                                        /*!< ErrorSQLstmtHandle */
     ErrorOnFileOpen = -90045,                                           /*!< Error on file open */
     ErrorOnFileRead = -90046,                                           /*!< Error on file read */
+    ErrorOnFileWrite = -90047,                                          /*!< Error on file write */
 
     ErrorKDBNoConnection = -90051,                                      /*!< ErrorKDBNoConnection */
     ErrorKDBWrongCredentials = -90052,                                  /*!< ErrorKDBWrongCredentials */
@@ -422,6 +423,7 @@ enum ErrorID
     ErrorCouldntFindJavaMethod = -110003,                               /*!< Couldn't find Java method */
     ErrorCouldntFindClassForJavaObject = -110004,                       /*!< Couldn't find class for Java object */
     ErrorCouldntDetachCurrentThreadFromJavaVM = -110005,                /*!< Couldn't detach current thread from Java VM */
+    ErrorJavaMethodThrewException = -110006,                            /*!< Java method called from the library threw an exception */
 
     UnknownError = -1000000,                                            /*!< Unknown error */
     NoErrorMessageFound = -1000001                                      /*!< No error message found */
@@ -74,6 +74,14 @@ public abstract class Prediction extends Algorithm implements Disposable {
         return null;
     }
 
+    /**
+     * Computes prediction results into the result object registered in the algorithm,
+     * without constructing the Java object for the result
+     */
+    protected void computeResult() {
+        cCompute(this.cObject);
+    }
+
     /**
      * Validates parameters of the compute method
      */
@@ -0,0 +1,230 @@
+/* file: PredictionSession.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup base_algorithms
+ * @{
+ */
+package com.intel.daal.algorithms;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+import com.intel.daal.services.Disposable;
+
+/**
+ *  <a name="DAAL-CLASS-ALGORITHMS__PREDICTIONSESSION"></a>
+ *  \brief Binds the model to the prediction algorithm once and computes predictions for many threads concurrently.
+ *         Each computation uses a worker taken from the pool of the session. The worker holds its own copy of the algorithm,
+ *         its own context and numeric tables for the input data and the prediction results allocated once,
+ *         so that calls to predict() neither construct algorithms nor register objects in contexts.
+ *         Workers are not bound to threads and can be used by virtual threads.
+ *         Classes that implement sessions for specific algorithms are derived classes of the PredictionSession class.
+ */
+public abstract class PredictionSession implements Disposable {
+    private final Prediction prototype;
+    private final int nFeatures;
+    private final int nResponses;
+    private final int maxRows;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<Worker> workers = new ConcurrentLinkedQueue<Worker>();
+    private volatile boolean disposed = false;
+
+    /**
+     * Constructs the prediction session
+     * @param prototype       Prediction algorithm to copy to the workers of the session, with parameters set
+     * @param nFeatures       Number of features in the observations
+     * @param nResponses      Number of values predicted for each observation
+     * @param maxRows         Maximal number of observations in one computation. Larger blocks of observations
+     *                        are split into several computations
+     * @param maxConcurrency  Maximal number of concurrent computations. Further calls to predict() wait until
+     *                        one of the computations completes
+     */
+    protected PredictionSession(Prediction prototype, long nFeatures, long nResponses, int maxRows, int maxConcurrency) {
+        if (nFeatures <= 0 || nResponses <= 0 || maxRows <= 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("number of features, responses, rows and concurrent computations must be positive");
+        }
+        if (nFeatures * maxRows > Integer.MAX_VALUE / 8 || nResponses * maxRows > Integer.MAX_VALUE / 8) {
+            throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
+        }
+        this.prototype  = prototype;
+        this.nFeatures  = (int)nFeatures;
+        this.nResponses = (int)nResponses;
+        this.maxRows    = maxRows;
+        this.permits    = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Returns the number of features in the observations
+     * @return Number of features
+     */
+    public long getNumberOfFeatures() {
+        return nFeatures;
+    }
+
+    /**
+     * Returns the number of values predicted for each observation
+     * @return Number of values predicted for each observation
+     */
+    public long getNumberOfResponses() {
+        return nResponses;
+    }
+
+    /**
+     * Computes predictions for the block of observations. The method can be called from many threads concurrently
+     * @param data      Observations stored row by row, nRows * getNumberOfFeatures() values
+     * @param nRows     Number of observations
+     * @param result    Array to store the predictions row by row, at least nRows * getNumberOfResponses() values
+     */
+    public void predict(double[] data, int nRows, double[] result) {
+        if (data.length < (long)nRows * nFeatures || result.length < (long)nRows * nResponses) {
+            throw new IllegalArgumentException("size of the arrays is less than the size of the block of rows");
+        }
+        if (disposed) {
+            throw new IllegalStateException("prediction session is disposed");
+        }
+
+        permits.acquireUninterruptibly();
+        Worker worker = null;
+        try {
+            worker = workers.poll();
+            if (worker == null) {
+                worker = new Worker();
+            }
+            for (int iRow = 0; iRow < nRows; iRow += maxRows) {
+                worker.compute(data, result, iRow, Math.min(maxRows, nRows - iRow));
+            }
+        } finally {
+            if (worker != null) {
+                release(worker);
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * Releases the memory allocated for the workers of the session. Workers that are in use
+     * are released when their computations complete
+     */
+    @Override
+    public void dispose() {
+        disposed = true;
+        Worker worker;
+        while ((worker = workers.poll()) != null) {
+            worker.context.dispose();
+        }
+    }
+
+    /**
+     * Sets the input data and the model of the algorithm of the worker, and registers the table to store the predictions.
+     * Called once for each worker of the session
+     * @param context     Context of the worker
+     * @param algorithm   Copy of the prediction algorithm owned by the worker
+     * @param data        Table of the worker to store the input data
+     * @param prediction  Table of the worker to store the predictions
+     */
+    protected abstract void bind(DaalContext context, Prediction algorithm, NumericTable data, NumericTable prediction);
+
+    private void release(Worker worker) {
+        workers.add(worker);
+        if (disposed) {
+            dispose();
+        }
+    }
+
+    private static DoubleBuffer allocateBuffer(int size) {
+        return ByteBuffer.allocateDirect(size * 8).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+
+    /* Copy of the algorithm with the preallocated input and output of one computation */
+    private final class Worker {
+        final DaalContext context = new DaalContext();
+        final Prediction algorithm;
+        final HomogenNumericTable data;
+        final HomogenNumericTable prediction;
+        final DoubleBuffer dataBuffer;
+        final DoubleBuffer predictionBuffer;
+        int nRows;
+
+        Worker() {
+            try {
+                synchronized (prototype) {
+                    algorithm = prototype.clone(context);
+                }
+                data = new HomogenNumericTable(context, Double.class, nFeatures, maxRows, NumericTable.AllocationFlag.DoAllocate);
+                prediction = new HomogenNumericTable(context, Double.class, nResponses, maxRows, NumericTable.AllocationFlag.DoAllocate);
+                bind(context, algorithm, data, prediction);
+            } catch (RuntimeException e) {
+                context.dispose();
+                throw e;
+            }
+            dataBuffer = allocateBuffer(nFeatures * maxRows);
+            predictionBuffer = allocateBuffer(nResponses * maxRows);
+            nRows = maxRows;
+        }
+
+        void compute(double[] input, double[] output, int iRow, int nBlockRows) {
+            /* The tables are resized only when the number of observations changes between the computations */
+            if (nRows != nBlockRows) {
+                data.setNumberOfRows(nBlockRows);
+                prediction.setNumberOfRows(nBlockRows);
+                nRows = nBlockRows;
+            }
+
+            dataBuffer.clear();
+            dataBuffer.put(input, iRow * nFeatures, nBlockRows * nFeatures);
+            data.releaseBlockOfRows(0, nBlockRows, dataBuffer);
+
+            algorithm.computeResult();
+
+            prediction.getBlockOfRows(0, nBlockRows, predictionBuffer);
+            predictionBuffer.position(0);
+            predictionBuffer.get(output, iRow * nResponses, nBlockRows * nResponses);
+        }
+    }
+}
+/** @} */
@@ -54,7 +54,9 @@ import com.intel.daal.services.DaalContext;
  * @brief Provides methods to access final results obtained with the compute() method of the classifier model-based prediction algorithm in the batch processing mode
  */
 
-public final class PredictionResult extends com.intel.daal.algorithms.Result {
+public class PredictionResult extends com.intel.daal.algorithms.Result {
+    private static final long serialVersionUID = -6202368573456683661L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
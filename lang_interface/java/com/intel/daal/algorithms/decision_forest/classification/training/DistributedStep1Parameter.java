@@ -0,0 +1,80 @@
+/* file: DistributedStep1Parameter.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup decision_forest_classification_training_distributed
+ * @{
+ */
+package com.intel.daal.algorithms.decision_forest.classification.training;
+
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__DISTRIBUTEDSTEP1PARAMETER"></a>
+ * @brief Parameters of the decision forest classification training algorithm in the first step of the distributed processing mode
+ */
+public class DistributedStep1Parameter extends Parameter {
+
+    public DistributedStep1Parameter(DaalContext context, long cParameter) {
+        super(context, cParameter);
+    }
+
+    /**
+     * Returns the index of the first tree built on the local node in the forest
+     * @return Index of the first tree
+     */
+    public long getFirstTreeIndex() {
+        return cGetFirstTreeIndex(this.cObject);
+    }
+
+    /**
+     * Sets the index of the first tree built on the local node in the forest.
+     * Local nodes build the trees with the same random streams as the batch algorithm builds the trees with the same indices
+     * @param value Index of the first tree
+     */
+    public void setFirstTreeIndex(long value) {
+        cSetFirstTreeIndex(this.cObject, value);
+    }
+
+    private native long cGetFirstTreeIndex(long parAddr);
+    private native void cSetFirstTreeIndex(long parAddr, long value);
+}
+/** @} */
@@ -0,0 +1,80 @@
+/* file: PartialResultNumericTableId.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup decision_forest_classification_training_distributed
+ * @{
+ */
+package com.intel.daal.algorithms.decision_forest.classification.training;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__PARTIALRESULTNUMERICTABLEID"></a>
+ * @brief Available identifiers of the numeric tables of the partial result of decision forest model-based training
+ *        in the distributed processing mode
+ */
+public final class PartialResultNumericTableId {
+    private int _value;
+
+    /**
+     * Constructs the partial result numeric table object identifier using the provided value
+     * @param value     Value corresponding to the partial result numeric table object identifier
+     */
+    public PartialResultNumericTableId(int value) {
+        _value = value;
+    }
+
+    /**
+     * Returns the value corresponding to the partial result numeric table object identifier
+     * @return Value corresponding to the partial result numeric table object identifier
+     */
+    public int getValue() {
+        return _value;
+    }
+
+    private static final int partialVariableImportanceId = 1;
+    private static final int partialOutOfBagErrorId = 2;
+
+    public static final PartialResultNumericTableId partialVariableImportance = new PartialResultNumericTableId(partialVariableImportanceId);
+                        /*!< Mean of the variable importance over the trees of the partial forest and the sum of squared deviations from it */
+    public static final PartialResultNumericTableId partialOutOfBagError = new PartialResultNumericTableId(partialOutOfBagErrorId);
+                        /*!< Number of observations predicted by the out-of-bag trees and the sum of their out-of-bag errors */
+}
+/** @} */
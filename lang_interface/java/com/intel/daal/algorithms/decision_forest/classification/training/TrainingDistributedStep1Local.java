@@ -0,0 +1,157 @@
+/* file: TrainingDistributedStep1Local.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @defgroup decision_forest_classification_training_distributed Distributed
+ * @ingroup decision_forest_classification_training
+ * @{
+ */
+package com.intel.daal.algorithms.decision_forest.classification.training;
+
+import com.intel.daal.algorithms.Precision;
+import com.intel.daal.algorithms.TrainingDistributed;
+import com.intel.daal.algorithms.classifier.training.TrainingInput;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__CLASSIFICATION__TRAINING__TRAININGDISTRIBUTEDSTEP1LOCAL"></a>
+ * @brief Builds the partial forest of the decision forest classification algorithm on the local data
+ *        in the first step of the distributed processing mode.
+ *        The trees are built with the same random streams as the trees of the batch processing mode
+ *        with the indices starting from parameter.getFirstTreeIndex()
+ *
+ * @par References
+ *      - com.intel.daal.algorithms.classifier.training.InputId class
+ *      - com.intel.daal.algorithms.classifier.training.PartialResultId class
+ *      - com.intel.daal.algorithms.classifier.training.TrainingInput class
+ */
+public class TrainingDistributedStep1Local extends TrainingDistributed {
+    public TrainingInput             input;     /*!< %Input data */
+    public DistributedStep1Parameter parameter; /*!< Parameters of the algorithm */
+    public TrainingMethod            method;    /*!< %Training method for the algorithm */
+    private Precision                prec;      /*!< Precision of intermediate computations */
+
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /**
+     * Constructs the decision forest classification training algorithm in the first step of the distributed processing mode
+     * by copying input objects and parameters of another algorithm
+     * @param context   Context to manage the algorithm
+     * @param other     An algorithm to be used as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    public TrainingDistributedStep1Local(DaalContext context, TrainingDistributedStep1Local other) {
+        super(context);
+        this.method = other.method;
+        prec = other.prec;
+
+        this.cObject = cClone(other.cObject, prec.getValue(), method.getValue());
+        input = new TrainingInput(getContext(), cGetInput(cObject, prec.getValue(), method.getValue()));
+        parameter = new DistributedStep1Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Constructs the decision forest classification training algorithm in the first step of the distributed processing mode
+     * @param context   Context to manage the algorithm
+     * @param cls       Data type to use in intermediate computations for the algorithm,
+     *                  Double.class or Float.class
+     * @param method    Computation method of the algorithm, @ref TrainingMethod
+     * @param nClasses  Number of classes
+     */
+    public TrainingDistributedStep1Local(DaalContext context, Class<? extends Number> cls, TrainingMethod method, long nClasses) {
+        super(context);
+
+        this.method = method;
+        if (this.method != TrainingMethod.defaultDense) {
+            throw new IllegalArgumentException("method unsupported");
+        }
+
+        if (cls != Double.class && cls != Float.class) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+
+        if (cls == Double.class) {
+            prec = Precision.doublePrecision;
+        } else {
+            prec = Precision.singlePrecision;
+        }
+
+        this.cObject = cInit(prec.getValue(), method.getValue(), nClasses);
+        input = new TrainingInput(getContext(), cGetInput(cObject, prec.getValue(), method.getValue()));
+        parameter = new DistributedStep1Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Builds the partial forest on the local data
+     * @return  Partial results of the algorithm to be sent to the master node
+     */
+    @Override
+    public TrainingPartialResult compute() {
+        super.compute();
+        return new TrainingPartialResult(getContext(), cGetPartialResult(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Returns the newly allocated decision forest classification training algorithm
+     * with a copy of input objects and parameters of this algorithm
+     * @param context   Context to manage the algorithm
+     *
+     * @return The newly allocated algorithm
+     */
+    @Override
+    public TrainingDistributedStep1Local clone(DaalContext context) {
+        return new TrainingDistributedStep1Local(context, this);
+    }
+
+    private native long cInit(int prec, int method, long nClasses);
+
+    private native long cInitParameter(long algAddr, int prec, int method);
+
+    private native long cGetInput(long algAddr, int prec, int method);
+
+    private native long cGetPartialResult(long algAddr, int prec, int method);
+
+    private native long cClone(long algAddr, int prec, int method);
+}
+/** @} */
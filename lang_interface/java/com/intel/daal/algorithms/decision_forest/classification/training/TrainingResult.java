@@ -59,11 +59,17 @@ import com.intel.daal.services.DaalContext;
  *                                                                                                in the batch processing mode.
  */
 public final class TrainingResult extends com.intel.daal.algorithms.classifier.training.TrainingResult {
+    private static final long serialVersionUID = -4397088978186002727L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
     }
 
+    public TrainingResult(DaalContext context, long cResult) {
+        super(context, cResult);
+    }
+
     public TrainingResult(DaalContext context, long cAlgorithm, ComputeMode cmode) {
         super(context);
         cObject = cGetResult(cAlgorithm, cmode.getValue());
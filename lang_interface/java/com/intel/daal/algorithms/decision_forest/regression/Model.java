@@ -51,13 +51,17 @@
 package com.intel.daal.algorithms.decision_forest.regression;
 
 import com.intel.daal.algorithms.regression.TreeNodeVisitor;
+import com.intel.daal.algorithms.tree_utils.RegressionScorer;
+import com.intel.daal.algorithms.tree_utils.TreeEnsemble;
 import com.intel.daal.services.DaalContext;
 
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__DECISION_FOREST__REGRESSION__MODEL"></a>
  * @brief %Model trained by decision forest regression algorithm in batch processing mode.
  */
-public class Model extends com.intel.daal.algorithms.Model {
+public class Model extends com.intel.daal.algorithms.Model implements TreeEnsemble {
+    private static final long serialVersionUID = -1279489300612307565L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
@@ -67,6 +71,16 @@ public class Model extends com.intel.daal.algorithms.Model {
         super(context, cModel);
     }
 
+    /**
+     * Constructs the model with no trees. The trees can be added to the model with importTree()
+     * @param context   Context to manage the model
+     * @param nFeatures Number of features in the dataset
+     * @return Model with no trees
+     */
+    public static Model create(DaalContext context, long nFeatures) {
+        return new Model(context, cCreate(nFeatures));
+    }
+
     /**
      * Get number of trees in the model
      * @return number of trees
@@ -100,9 +114,72 @@ public class Model extends com.intel.daal.algorithms.Model {
         cClear(this.cObject);
     }
 
+    /**
+     * Returns the number of nodes in a tree of the model
+     * @param iTree   Index of the tree
+     * @return Number of nodes in the tree, 0 if there is no tree with such index
+     */
+    public long getNumberOfNodes(long iTree) {
+        return cGetNumberOfNodes(this.cObject, iTree);
+    }
+
+    /**
+     * Copies a tree of the model into arrays of node attributes in one call, with one element per node.
+     * Node 0 is the root of the tree. Observations with the value of the split feature less than or equal to
+     * the split value (equal to it for categorical features) go to the left child of the split node.
+     * Each array must hold at least getNumberOfNodes(iTree) elements
+     * @param iTree        Index of the tree
+     * @param featureIndex Index of the split feature of each split node, -1 for leaf nodes
+     * @param featureValue Split value of each split node, 0 for leaf nodes
+     * @param leftChild    Index of the left child of each split node, -1 for leaf nodes
+     * @param rightChild   Index of the right child of each split node, -1 for leaf nodes
+     * @param response     Response of each leaf node, 0 for split nodes
+     */
+    public void exportTree(long iTree, int[] featureIndex, double[] featureValue, int[] leftChild, int[] rightChild, double[] response) {
+        long nNodes = getNumberOfNodes(iTree);
+        if (featureIndex.length < nNodes || featureValue.length < nNodes || leftChild.length < nNodes ||
+            rightChild.length < nNodes || response.length < nNodes) {
+            throw new IllegalArgumentException("Arrays must hold at least " + nNodes + " elements");
+        }
+        cExportTree(this.cObject, iTree, featureIndex, featureValue, leftChild, rightChild, response);
+    }
+
+    /**
+     * Adds the tree given by arrays of node attributes to the model, in the format produced by exportTree().
+     * Nodes may be stored in any order, but node 0 must be the root and every other node must be a child of exactly one split node
+     * @param featureIndex Index of the split feature of each split node, -1 for leaf nodes
+     * @param featureValue Split value of each split node
+     * @param leftChild    Index of the left child of each split node
+     * @param rightChild   Index of the right child of each split node
+     * @param response     Response of each leaf node
+     */
+    public void importTree(int[] featureIndex, double[] featureValue, int[] leftChild, int[] rightChild, double[] response) {
+        int nNodes = featureIndex.length;
+        if (featureValue.length != nNodes || leftChild.length != nNodes || rightChild.length != nNodes || response.length != nNodes) {
+            throw new IllegalArgumentException("Arrays of node attributes must have equal lengths");
+        }
+        cImportTree(this.cObject, featureIndex, featureValue, leftChild, rightChild, response);
+    }
+
+    /**
+     * Compiles the model into the scorer that computes predictions in Java without native calls,
+     * for low latency scoring of a few observations at a time. All the features are treated as numerical
+     * @return Scorer for the model
+     */
+    public RegressionScorer createScorer() {
+        return RegressionScorer.averaged(this, null);
+    }
+
     private native long cGetNumberOfTrees(long modAddr);
     private native void cTraverseDF(long modAddr, long iTree, TreeNodeVisitor visitorObj);
     private native void cTraverseBF(long modAddr, long iTree, TreeNodeVisitor visitorObj);
     private native void cClear(long modAddr);
+    private native long cGetNumberOfNodes(long modAddr, long iTree);
+    private native void cExportTree(long modAddr, long iTree, int[] featureIndex, double[] featureValue,
+                                    int[] leftChild, int[] rightChild, double[] response);
+    private native void cImportTree(long modAddr, int[] featureIndex, double[] featureValue,
+                                    int[] leftChild, int[] rightChild, double[] response);
+
+    private static native long cCreate(long nFeatures);
 }
 /** @} */
@@ -131,6 +131,14 @@ public class PredictionBatch extends com.intel.daal.algorithms.Prediction {
         return result;
     }
 
+    /**
+     * Registers user-allocated memory to store the result of decision tree regression model-based prediction
+     * @param result Object to store the result of decision tree regression model-based prediction
+     */
+    public void setResult(PredictionResult result) {
+        cSetResult(cObject, prec.getValue(), method.getValue(), result.getCObject());
+    }
+
     /**
      * Returns the newly allocated decision tree regression prediction algorithm with a copy of input objects
      * and parameters of this decision tree regression prediction algorithm
@@ -151,6 +159,8 @@ public class PredictionBatch extends com.intel.daal.algorithms.Prediction {
 
     private native long cGetResult(long algAddr, int prec, int method);
 
+    private native void cSetResult(long algAddr, int prec, int method, long resAddr);
+
     private native long cClone(long algAddr, int prec, int method);
 }
 /** @} */
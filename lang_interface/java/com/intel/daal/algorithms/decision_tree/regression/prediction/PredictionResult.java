@@ -57,11 +57,22 @@ import com.intel.daal.algorithms.Precision;
  *        the decision_tree regression model-based prediction algorithm in the batch processing mode
  */
 public final class PredictionResult extends com.intel.daal.algorithms.Result {
+    private static final long serialVersionUID = 1190168339916613251L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
     }
 
+    /**
+     * Constructs the result of the decision tree regression model-based prediction algorithm
+     * @param context   Context to manage the result of the decision tree regression model-based prediction algorithm
+     */
+    public PredictionResult(DaalContext context) {
+        super(context);
+        cObject = cNewResult();
+    }
+
     /** Default constructor */
     public PredictionResult(DaalContext context, long cObject) {
         super(context, cObject);
@@ -93,6 +104,8 @@ public final class PredictionResult extends com.intel.daal.algorithms.Result {
         cSetResultTable(cObject, id.getValue(), value.getCObject());
     }
 
+    private native long cNewResult();
+
     private native long cGetResultTable(long resAddr, int id);
 
     private native void cSetResultTable(long resAddr, int id, long ntAddr);
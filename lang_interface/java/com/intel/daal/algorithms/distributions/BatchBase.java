@@ -54,7 +54,9 @@ import com.intel.daal.services.DaalContext;
 
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__DISTRIBUTIONS__BATCHBASE"></a>
- * @brief Class representing distributions
+ * @brief Class representing distributions.
+ *        Large tables are filled in parallel directly in the native memory of the table with copies of the engine
+ *        moved forward with skipAhead, so the result depends on the seed of the engine and not on the number of threads
  *
  * @par References
  *      - Input class
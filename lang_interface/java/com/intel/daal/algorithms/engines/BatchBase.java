@@ -84,6 +84,38 @@ public abstract class BatchBase extends com.intel.daal.algorithms.AnalysisBatch
     @Override
     public abstract BatchBase clone(DaalContext context);
 
+    /**
+     * Skips the specified number of elements of the sequence generated by the engine.
+     * Enables the usage of the engine in parallel computations with the skipAhead method
+     * @param nSkip Number of elements to skip
+     */
+    public void skipAhead(long nSkip) {
+        cSkipAhead(this.cObject, nSkip);
+    }
+
+    /**
+     * Enables the usage of the engine in parallel computations with the leapfrog method
+     * @param threadIdx Index of the thread
+     * @param nThreads  Number of threads
+     */
+    public void leapfrog(long threadIdx, long nThreads) {
+        cLeapfrog(this.cObject, threadIdx, nThreads);
+    }
+
+    /**
+     * Enables the usage of the engine in parallel computations with the block-splitting method.
+     * Splits the sequence of the engine into nThreads non-overlapping blocks of equal size
+     * and skips ahead to the beginning of the threadIdx-th block
+     * @param threadIdx Index of the thread
+     * @param nThreads  Number of threads
+     */
+    public void skipAheadToBlock(long threadIdx, long nThreads) {
+        cSkipAheadToBlock(this.cObject, threadIdx, nThreads);
+    }
+
     protected native long cGetInput(long cAlgorithm);
+    private native void cSkipAhead(long algAddr, long nSkip);
+    private native void cLeapfrog(long algAddr, long threadIdx, long nThreads);
+    private native void cSkipAheadToBlock(long algAddr, long threadIdx, long nThreads);
 }
 /** @} */
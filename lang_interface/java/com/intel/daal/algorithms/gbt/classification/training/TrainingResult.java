@@ -55,14 +55,20 @@ import com.intel.daal.services.DaalContext;
 /**
  * <a name="DAAL-CLASS-ALGORITHMS__GBT__CLASSIFICATION__TRAINING__TRAININGRESULT"></a>
  * @brief Provides methods to access final results obtained with the compute() method
- *        of the gradient boosted trees classification training algorithm in the batch processing mode.
+ *        of the gradient boosted trees classification training algorithm in the batch and distributed processing modes.
  */
 public final class TrainingResult extends com.intel.daal.algorithms.classifier.training.TrainingResult {
+    private static final long serialVersionUID = -3767044734538922036L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
     }
 
+    public TrainingResult(DaalContext context, long cResult) {
+        super(context, cResult);
+    }
+
     public TrainingResult(DaalContext context, long cAlgorithm, ComputeMode cmode) {
         super(context);
         cObject = cGetResult(cAlgorithm, cmode.getValue());
@@ -136,6 +136,14 @@ public class PredictionBatch extends com.intel.daal.algorithms.Prediction {
         return result;
     }
 
+    /**
+     * Registers user-allocated memory to store the result of gradient boosted trees regression model-based prediction
+     * @param result Object to store the result of gradient boosted trees regression model-based prediction
+     */
+    public void setResult(PredictionResult result) {
+        cSetResult(cObject, prec.getValue(), method.getValue(), result.getCObject());
+    }
+
     /**
      * Returns the newly allocated gradient boosted trees regression prediction algorithm with a copy of input objects
      * and parameters of this gradient boosted trees regression prediction algorithm
@@ -152,6 +160,8 @@ public class PredictionBatch extends com.intel.daal.algorithms.Prediction {
 
     private native long cInitParameter(long algAddr, int prec, int method, int cmode);
 
+    private native void cSetResult(long algAddr, int prec, int method, long resAddr);
+
     private native long cClone(long algAddr, int prec, int method);
 }
 /** @} */
@@ -0,0 +1,85 @@
+/* file: PredictionSession.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup gbt_regression_prediction
+ * @{
+ */
+package com.intel.daal.algorithms.gbt.regression.prediction;
+
+import com.intel.daal.algorithms.Prediction;
+import com.intel.daal.algorithms.gbt.regression.Model;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSION__PREDICTION__PREDICTIONSESSION"></a>
+ * @brief Computes responses with the gradient boosted trees regression model for many threads concurrently,
+ *        with the algorithm, the input and the result allocated once for each concurrent computation
+ */
+public class PredictionSession extends com.intel.daal.algorithms.PredictionSession {
+    private final Model model;
+
+    /**
+     * Constructs the prediction session for the gradient boosted trees regression model
+     * @param prototype       Gradient boosted trees regression prediction algorithm
+     * @param model           Trained gradient boosted trees regression model
+     * @param nFeatures       Number of features in the observations
+     * @param maxRows         Maximal number of observations in one computation
+     * @param maxConcurrency  Maximal number of concurrent computations
+     */
+    public PredictionSession(PredictionBatch prototype, Model model, long nFeatures, int maxRows, int maxConcurrency) {
+        super(prototype, nFeatures, 1, maxRows, maxConcurrency);
+        this.model = model;
+    }
+
+    @Override
+    protected void bind(DaalContext context, Prediction algorithm, NumericTable data, NumericTable prediction) {
+        PredictionBatch batch = (PredictionBatch)algorithm;
+        batch.input.set(NumericTableInputId.data, data);
+        batch.input.set(ModelInputId.model, model);
+
+        PredictionResult result = new PredictionResult(context);
+        result.set(PredictionResultId.prediction, prediction);
+        batch.setResult(result);
+    }
+}
+/** @} */
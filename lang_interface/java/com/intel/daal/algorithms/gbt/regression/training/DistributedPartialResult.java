@@ -0,0 +1,110 @@
+/* file: DistributedPartialResult.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup gbt_regression_training
+ * @{
+ */
+package com.intel.daal.algorithms.gbt.regression.training;
+
+import com.intel.daal.algorithms.gbt.regression.Model;
+import com.intel.daal.data_management.data.Factory;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDPARTIALRESULT"></a>
+ * @brief Provides methods to access the training state obtained with the compute() method
+ *        of the gradient boosted trees regression training algorithm in the second step of the distributed processing mode.
+ *        The state is passed to local nodes as the input of the next round
+ */
+public final class DistributedPartialResult extends com.intel.daal.algorithms.PartialResult {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    public DistributedPartialResult(DaalContext context, long cObject) {
+        super(context, cObject);
+    }
+
+    /**
+     * Returns the numeric table partial result of the gradient boosted trees regression training algorithm
+     * @param id   Identifier of the partial result
+     * @return     Partial result that corresponds to the given identifier
+     */
+    public NumericTable get(DistributedPartialResultId id) {
+        if (id != DistributedPartialResultId.binBorders && id != DistributedPartialResultId.treeNodes &&
+            id != DistributedPartialResultId.trainingStatus) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        return (NumericTable)Factory.instance().createObject(getContext(), cGetNumericTable(cObject, id.getValue()));
+    }
+
+    /**
+     * Returns the model partial result of the gradient boosted trees regression training algorithm
+     * @param id   Identifier of the partial result
+     * @return     Partial result that corresponds to the given identifier
+     */
+    public Model get(DistributedPartialResultModelId id) {
+        if (id != DistributedPartialResultModelId.partialModel) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        return new Model(getContext(), cGetModel(cObject, id.getValue()));
+    }
+
+    /**
+     * Checks whether the training is completed and the model can be obtained with finalizeCompute()
+     * @return true if no more rounds are required
+     */
+    public boolean isCompleted() {
+        return cIsCompleted(cObject);
+    }
+
+    private native long cGetNumericTable(long presAddr, int id);
+
+    private native long cGetModel(long presAddr, int id);
+
+    private native boolean cIsCompleted(long presAddr);
+}
+/** @} */
@@ -0,0 +1,137 @@
+/* file: DistributedStep1LocalInput.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup gbt_regression_training
+ * @{
+ */
+package com.intel.daal.algorithms.gbt.regression.training;
+
+import com.intel.daal.data_management.data.Factory;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__GBT__REGRESSION__TRAINING__DISTRIBUTEDSTEP1LOCALINPUT"></a>
+ * @brief %Input objects for the gradient boosted trees regression training algorithm
+ *        in the first step of the distributed processing mode
+ */
+public final class DistributedStep1LocalInput extends TrainingInput {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    public DistributedStep1LocalInput(DaalContext context, long cInput) {
+        super(context, cInput);
+    }
+
+    /**
+     * Sets the training state computed on the master node in the previous round.
+     * The state is not set in the first round
+     * @param id    Identifier of the input object
+     * @param val   Value of the input object
+     */
+    public void set(DistributedStep1LocalInputId id, DistributedPartialResult val) {
+        if (id != DistributedStep1LocalInputId.trainingState) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        cSetTrainingState(cObject, id.getValue(), val.getCObject());
+    }
+
+    /**
+     * Returns the training state computed on the master node in the previous round
+     * @param id Identifier of the input object
+     * @return   Input object that corresponds to the given identifier
+     */
+    public DistributedPartialResult get(DistributedStep1LocalInputId id) {
+        if (id != DistributedStep1LocalInputId.trainingState) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        long cState = cGetTrainingState(cObject, id.getValue());
+        if (cState == 0) {
+            return null;
+        }
+        return new DistributedPartialResult(getContext(), cState);
+    }
+
+    /**
+     * Sets the internal result computed on this node in the previous round.
+     * If it is not set, the predictions of the trees are computed with all the trees of the model
+     * @param id    Identifier of the input object
+     * @param val   Value of the input object
+     */
+    public void set(DistributedStep1LocalInternalInputId id, NumericTable val) {
+        if (id != DistributedStep1LocalInternalInputId.internalInput) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        cSetInternalInput(cObject, id.getValue(), val.getCObject());
+    }
+
+    /**
+     * Returns the internal result computed on this node in the previous round
+     * @param id Identifier of the input object
+     * @return   Input object that corresponds to the given identifier
+     */
+    public NumericTable get(DistributedStep1LocalInternalInputId id) {
+        if (id != DistributedStep1LocalInternalInputId.internalInput) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        long cTable = cGetInternalInput(cObject, id.getValue());
+        if (cTable == 0) {
+            return null;
+        }
+        return (NumericTable)Factory.instance().createObject(getContext(), cTable);
+    }
+
+    private native void cSetTrainingState(long inputAddr, int id, long presAddr);
+
+    private native long cGetTrainingState(long inputAddr, int id);
+
+    private native void cSetInternalInput(long inputAddr, int id, long ntAddr);
+
+    private native long cGetInternalInput(long inputAddr, int id);
+}
+/** @} */
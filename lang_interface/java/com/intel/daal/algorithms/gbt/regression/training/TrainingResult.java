@@ -59,11 +59,17 @@ import com.intel.daal.algorithms.Precision;
  *        of the gradient boosted trees regression training algorithm in the batch processing mode.
  */
 public final class TrainingResult extends com.intel.daal.algorithms.Result {
+    private static final long serialVersionUID = -8136881539524450454L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
     }
 
+    public TrainingResult(DaalContext context, long cResult) {
+        super(context, cResult);
+    }
+
     public TrainingResult(DaalContext context, long cAlgorithm, Precision prec, ComputeMode cmode) {
         super(context);
         this.cObject = cGetResult(cAlgorithm, prec.getValue(), cmode.getValue());
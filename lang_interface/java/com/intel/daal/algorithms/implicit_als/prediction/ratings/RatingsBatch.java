@@ -50,7 +50,6 @@
 package com.intel.daal.algorithms.implicit_als.prediction.ratings;
 
 import com.intel.daal.algorithms.Precision;
-import com.intel.daal.algorithms.implicit_als.Parameter;
 import com.intel.daal.services.DaalContext;
 
 /**
@@ -59,7 +58,7 @@ import com.intel.daal.services.DaalContext;
  */
 public class RatingsBatch extends com.intel.daal.algorithms.Prediction {
     public RatingsInput    input;        /*!< %Input data */
-    public Parameter  parameter;     /*!< Parameters of the algorithm */
+    public RatingsParameter parameter;    /*!< Parameters of the algorithm */
     private RatingsMethod  method; /*!< %Prediction method for the algorithm */
     private Precision                 prec; /*!< Precision of intermediate computations */
 
@@ -82,7 +81,7 @@ public class RatingsBatch extends com.intel.daal.algorithms.Prediction {
 
         this.cObject = cClone(other.cObject, prec.getValue(), method.getValue());
         input = new RatingsInput(getContext(), cObject, prec, method);
-        parameter = new Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+        parameter = new RatingsParameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
     }
 
     /**
@@ -96,7 +95,8 @@ public class RatingsBatch extends com.intel.daal.algorithms.Prediction {
         super(context);
 
         this.method = method;
-        if (method != RatingsMethod.defaultDense && method != RatingsMethod.allUsersAllItems) {
+        if (method != RatingsMethod.defaultDense && method != RatingsMethod.allUsersAllItems &&
+            method != RatingsMethod.topK) {
             throw new IllegalArgumentException("method unsupported");
         }
 
@@ -110,7 +110,7 @@ public class RatingsBatch extends com.intel.daal.algorithms.Prediction {
 
         this.cObject = cInit(prec.getValue(), method.getValue());
         input = new RatingsInput(getContext(), cObject, prec, method);
-        parameter = new Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+        parameter = new RatingsParameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
     }
 
     /**
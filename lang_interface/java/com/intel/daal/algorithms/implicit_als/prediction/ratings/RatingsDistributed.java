@@ -49,7 +49,6 @@ package com.intel.daal.algorithms.implicit_als.prediction.ratings;
 import com.intel.daal.algorithms.ComputeMode;
 import com.intel.daal.algorithms.ComputeStep;
 import com.intel.daal.algorithms.Precision;
-import com.intel.daal.algorithms.implicit_als.Parameter;
 import com.intel.daal.services.DaalContext;
 
 /**
@@ -58,7 +57,7 @@ import com.intel.daal.services.DaalContext;
  */
 public class RatingsDistributed extends com.intel.daal.algorithms.PredictionDistributed {
     public RatingsDistributedInput input;        /*!< %Input data */
-    public Parameter  parameter;     /*!< Parameters of the algorithm */
+    public RatingsParameter parameter;    /*!< Parameters of the algorithm */
     private RatingsMethod method; /*!< %Prediction method for the algorithm */
     private Precision                 prec; /*!< Precision of intermediate computations */
 
@@ -81,7 +80,7 @@ public class RatingsDistributed extends com.intel.daal.algorithms.PredictionDist
 
         this.cObject = cClone(other.cObject, prec.getValue(), method.getValue());
         input = new RatingsDistributedInput(getContext(), cObject, prec, method);
-        parameter = new Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+        parameter = new RatingsParameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
     }
 
     /**
@@ -95,7 +94,8 @@ public class RatingsDistributed extends com.intel.daal.algorithms.PredictionDist
         super(context);
 
         this.method = method;
-        if (method != RatingsMethod.defaultDense && method != RatingsMethod.allUsersAllItems) {
+        if (method != RatingsMethod.defaultDense && method != RatingsMethod.allUsersAllItems &&
+            method != RatingsMethod.topK) {
             throw new IllegalArgumentException("method unsupported");
         }
 
@@ -109,7 +109,7 @@ public class RatingsDistributed extends com.intel.daal.algorithms.PredictionDist
 
         this.cObject = cInit(prec.getValue(), method.getValue());
         input = new RatingsDistributedInput(getContext(), cObject, prec, method);
-        parameter = new Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+        parameter = new RatingsParameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
     }
 
     /**
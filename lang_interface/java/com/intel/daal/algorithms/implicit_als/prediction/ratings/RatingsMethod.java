@@ -54,6 +54,8 @@ import java.io.Serializable;
  * @brief Available methods for computing the results of implicit ALS model-based ratings prediction
  */
 public final class RatingsMethod implements Serializable {
+    private static final long serialVersionUID = 2663324506474928209L;
+
 
     /** @private */
     static {
@@ -82,11 +84,15 @@ public final class RatingsMethod implements Serializable {
 
     private static final int defaultDenseId = 0;
     private static final int allUsersAllItemsId = 0;
+    private static final int topKId = 1;
 
     /** Default: predicts ratings based on the implicit ALS model and input data in the dense format */
     public static final RatingsMethod defaultDense = new RatingsMethod(defaultDenseId);
 
     /** Predicts ratings for all users and items based on the implicit ALS model and input data in the dense format */
     public static final RatingsMethod allUsersAllItems = new RatingsMethod(allUsersAllItemsId);
+
+    /** Predicts only the RatingsParameter.nTopItems highest ratings for each user and the indices of the corresponding items */
+    public static final RatingsMethod topK = new RatingsMethod(topKId);
 }
 /** @} */
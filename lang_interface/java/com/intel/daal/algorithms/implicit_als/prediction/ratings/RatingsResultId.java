@@ -73,8 +73,11 @@ public final class RatingsResultId {
     }
 
     private static final int predictionId  = 0;
+    private static final int topItemsId    = 1;
 
     /** Numeric table containing predicted ratings */
     public static final RatingsResultId prediction  = new RatingsResultId(predictionId);
+    /** Numeric table containing indices of the items with the highest ratings. Computed by the topK method only */
+    public static final RatingsResultId topItems    = new RatingsResultId(topItemsId);
 }
 /** @} */
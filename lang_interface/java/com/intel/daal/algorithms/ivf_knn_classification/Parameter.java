@@ -0,0 +1,168 @@
+/* file: Parameter.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup ivf_knn_classification
+ * @{
+ */
+package com.intel.daal.algorithms.ivf_knn_classification;
+
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__IVF_KNN_CLASSIFICATION__PARAMETER"></a>
+ * @brief Inverted file index based approximate k nearest neighbors algorithm parameters
+ */
+public class Parameter extends com.intel.daal.algorithms.Parameter {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    public Parameter(DaalContext context, long cParameter) {
+        super(context);
+        this.cObject = cParameter;
+    }
+
+    /**
+     * Sets the number of neighbors
+     * @param k  Number of neighbors
+     */
+    public void setK(long k) {
+        cSetK(this.cObject, k);
+    }
+
+    /**
+     * Returns the number of neighbors
+     * @return Number of neighbors
+     */
+    public long getK() {
+        return cGetK(this.cObject);
+    }
+
+    /**
+     * Sets the number of lists in the inverted file index
+     * @param nLists Number of lists in the inverted file index
+     */
+    public void setNLists(long nLists) {
+        cSetNLists(this.cObject, nLists);
+    }
+
+    /**
+     * Returns the number of lists in the inverted file index
+     * @return Number of lists in the inverted file index
+     */
+    public long getNLists() {
+        return cGetNLists(this.cObject);
+    }
+
+    /**
+     * Sets the number of lists searched for the nearest neighbors of the query.
+     * Greater values give more accurate neighbors at the cost of the query time
+     * @param nProbes Number of lists searched for the nearest neighbors of the query
+     */
+    public void setNProbes(long nProbes) {
+        cSetNProbes(this.cObject, nProbes);
+    }
+
+    /**
+     * Returns the number of lists searched for the nearest neighbors of the query
+     * @return Number of lists searched for the nearest neighbors of the query
+     */
+    public long getNProbes() {
+        return cGetNProbes(this.cObject);
+    }
+
+    /**
+     * Sets the number of iterations of K-Means clustering that computes the centroids of the lists
+     * @param nIterations Number of iterations of K-Means clustering
+     */
+    public void setNIterations(long nIterations) {
+        cSetNIterations(this.cObject, nIterations);
+    }
+
+    /**
+     * Returns the number of iterations of K-Means clustering that computes the centroids of the lists
+     * @return Number of iterations of K-Means clustering
+     */
+    public long getNIterations() {
+        return cGetNIterations(this.cObject);
+    }
+
+    /**
+     * Sets the engine to be used by the algorithm
+     * @param engine to be used by the algorithm
+     */
+    public void setEngine(com.intel.daal.algorithms.engines.BatchBase engine) {
+        cSetEngine(cObject, engine.cObject);
+    }
+
+    /**
+     * Sets the 64 bit integer flag that indicates the results to compute in the prediction stage
+     * @param resultsToCompute The 64 bit integer flag that indicates the results to compute, @ref ResultsToComputeId
+     */
+    public void setResultsToCompute(long resultsToCompute) {
+        cSetResultsToCompute(this.cObject, resultsToCompute);
+    }
+
+    /**
+     * Gets the 64 bit integer flag that indicates the results to compute in the prediction stage
+     * @return The 64 bit integer flag that indicates the results to compute, @ref ResultsToComputeId
+     */
+    public long getResultsToCompute() {
+        return cGetResultsToCompute(this.cObject);
+    }
+
+    private native void cSetK(long algAddr, long k);
+    private native void cSetNLists(long algAddr, long nLists);
+    private native void cSetNProbes(long algAddr, long nProbes);
+    private native void cSetNIterations(long algAddr, long nIterations);
+    private native void cSetEngine(long cObject, long cEngineObject);
+
+    private native long cGetK(long algAddr);
+    private native long cGetNLists(long algAddr);
+    private native long cGetNProbes(long algAddr);
+    private native long cGetNIterations(long algAddr);
+
+    private native void cSetResultsToCompute(long algAddr, long value);
+    private native long cGetResultsToCompute(long algAddr);
+}
+/** @} */
@@ -120,6 +120,40 @@ public class Parameter extends com.intel.daal.algorithms.Parameter {
         return new DataUseInModelId(cGetDataUseInModel(this.cObject));
     }
 
+    /**
+     * Sets the 64 bit integer flag that indicates the results to compute in the prediction stage
+     * @param resultsToCompute The 64 bit integer flag that indicates the results to compute, @ref ResultsToComputeId
+     */
+    public void setResultsToCompute(long resultsToCompute) {
+        cSetResultsToCompute(this.cObject, resultsToCompute);
+    }
+
+    /**
+     * Gets the 64 bit integer flag that indicates the results to compute in the prediction stage
+     * @return The 64 bit integer flag that indicates the results to compute, @ref ResultsToComputeId
+     */
+    public long getResultsToCompute() {
+        return cGetResultsToCompute(this.cObject);
+    }
+
+    /**
+     * Sets the fraction of the observations of the model that the online training can insert or remove
+     * before it rebuilds the KD-tree of the model
+     * @param rebalanceRatio Fraction of the observations of the model
+     */
+    public void setRebalanceRatio(double rebalanceRatio) {
+        cSetRebalanceRatio(this.cObject, rebalanceRatio);
+    }
+
+    /**
+     * Returns the fraction of the observations of the model that the online training can insert or remove
+     * before it rebuilds the KD-tree of the model
+     * @return Fraction of the observations of the model
+     */
+    public double getRebalanceRatio() {
+        return cGetRebalanceRatio(this.cObject);
+    }
+
     private native void cSetK(long algAddr, long k);
     private native void cSetSeed(long algAddr, int seed);
     private native void cSetEngine(long cObject, long cEngineObject);
@@ -128,5 +162,11 @@ public class Parameter extends com.intel.daal.algorithms.Parameter {
     private native long cGetK(long algAddr);
     private native int cGetSeed(long algAddr);
     private native int cGetDataUseInModel(long algAddr);
+
+    private native void cSetResultsToCompute(long algAddr, long value);
+    private native long cGetResultsToCompute(long algAddr);
+
+    private native void cSetRebalanceRatio(long algAddr, double value);
+    private native double cGetRebalanceRatio(long algAddr);
 }
 /** @} */
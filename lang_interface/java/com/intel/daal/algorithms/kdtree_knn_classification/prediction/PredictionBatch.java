@@ -65,7 +65,8 @@ import com.intel.daal.services.DaalContext;
  *      - com.intel.daal.algorithms.classifier.prediction.NumericTableInputId class
  *      - com.intel.daal.algorithms.classifier.prediction.ModelInputId class
  *      - com.intel.daal.algorithms.classifier.prediction.PredictionResultId class
- *      - com.intel.daal.algorithms.classifier.prediction.PredictionResult class
+ *      - PredictionResultId class
+ *      - PredictionResult class
  */
 public class PredictionBatch extends com.intel.daal.algorithms.classifier.prediction.PredictionBatch {
     public PredictionInput  input;     /*!< %Input data */
@@ -125,6 +126,16 @@ public class PredictionBatch extends com.intel.daal.algorithms.classifier.predic
         parameter = new Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
     }
 
+    /**
+     * Computes the results of k nearest neighbors model-based prediction
+     * @return %Prediction results
+     */
+    @Override
+    public PredictionResult compute() {
+        computeResult();
+        return new PredictionResult(getContext(), cObject);
+    }
+
     /**
      * Returns the newly allocated k nearest neighbors prediction algorithm
      * with a copy of input objects and parameters of this k nearest neighbors prediction algorithm
@@ -0,0 +1,79 @@
+/* file: PredictionResultId.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup kdtree_knn_classification_prediction
+ * @{
+ */
+package com.intel.daal.algorithms.kdtree_knn_classification.prediction;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__PREDICTION__PREDICTIONRESULTID"></a>
+ * @brief Available identifiers of the results of k nearest neighbors model-based prediction
+ */
+public final class PredictionResultId {
+    private int _value;
+
+    /**
+     * Constructs the prediction result object identifier using the provided value
+     * @param value     Value corresponding to the prediction result object identifier
+     */
+    public PredictionResultId(int value) {
+        _value = value;
+    }
+
+    /**
+     * Returns the value corresponding to the prediction result object identifier
+     * @return Value corresponding to the prediction result object identifier
+     */
+    public int getValue() {
+        return _value;
+    }
+
+    private static final int Indices   = 1;
+    private static final int Distances = 2;
+
+    /** Indices of the nearest neighbors in the training data set, in the ascending order of the distances */
+    public static final PredictionResultId indices   = new PredictionResultId(Indices);
+    /** Euclidean distances to the nearest neighbors */
+    public static final PredictionResultId distances = new PredictionResultId(Distances);
+}
+/** @} */
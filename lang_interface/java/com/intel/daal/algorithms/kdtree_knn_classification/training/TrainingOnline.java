@@ -0,0 +1,181 @@
+/* file: TrainingOnline.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @defgroup kdtree_knn_classification_online Online
+ * @ingroup kdtree_knn_classification_training
+ * @{
+ */
+package com.intel.daal.algorithms.kdtree_knn_classification.training;
+
+import com.intel.daal.algorithms.Precision;
+import com.intel.daal.algorithms.kdtree_knn_classification.Parameter;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__TRAININGONLINE"></a>
+ * @brief Provides methods for k nearest neighbors model-based training in the online processing mode.
+ *        Each call of compute() inserts the observations of the data set into the model and removes the observations
+ *        with the removed indices from it without rebuilding the whole KD-tree. The KD-tree of the model is rebuilt
+ *        when the updates not reflected in it exceed the rebalance ratio of its observations, and by finalizeCompute()
+ * <!-- \n<a href="DAAL-REF-KNN-ALGORITHM">k nearest neighbors algorithm description and usage models</a> -->
+ */
+public class TrainingOnline extends com.intel.daal.algorithms.classifier.training.TrainingOnline {
+    public  Parameter      parameter; /*!< Parameters of the algorithm */
+    public  TrainingMethod method;    /*!< %Training method for the algorithm */
+
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /**
+     * Constructs a k nearest neighbors training algorithm by copying input objects
+     * and parameters of another k nearest neighbors training algorithm
+     * in the online processing mode
+     * @param context   Context to manage k nearest neighbors model-based training
+     * @param other     Algorithm to use as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    public TrainingOnline(DaalContext context, TrainingOnline other) {
+        super(context);
+        this.method = other.method;
+        prec = other.prec;
+
+        this.cObject = cClone(other.cObject, prec.getValue(), method.getValue());
+        input = new TrainingOnlineInput(getContext(), cGetInput(cObject, prec.getValue(), method.getValue()));
+        parameter = new Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Constructs the k nearest neighbors training algorithm in the online processing mode
+     * @param context   Context to manage k nearest neighbors model-based training
+     * @param cls       Data type to use in intermediate computations of k nearest neighbors,
+     *                  Double.class or Float.class
+     * @param method    Algorithm computation method, @ref TrainingMethod
+     */
+    public TrainingOnline(DaalContext context, Class<? extends Number> cls, TrainingMethod method) {
+        super(context);
+
+        this.method = method;
+        if (this.method != TrainingMethod.defaultDense) {
+            throw new IllegalArgumentException("method unsupported");
+        }
+
+        if (cls != Double.class && cls != Float.class) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+
+        if (cls == Double.class) {
+            prec = Precision.doublePrecision;
+        } else {
+            prec = Precision.singlePrecision;
+        }
+
+        this.cObject = cInit(prec.getValue(), method.getValue());
+        input = new TrainingOnlineInput(getContext(), cGetInput(cObject, prec.getValue(), method.getValue()));
+        parameter = new Parameter(getContext(), cInitParameter(this.cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Returns the input objects of k nearest neighbors model-based training in the online processing mode
+     * @return %Input objects of the algorithm
+     */
+    public TrainingOnlineInput getInput() {
+        return (TrainingOnlineInput)input;
+    }
+
+    /**
+     * Inserts the observations into the model and removes them from it
+     * @return Partial result that holds the updated model
+     */
+    @Override
+    public TrainingPartialResult compute() {
+        super.compute();
+        return new TrainingPartialResult(getContext(), cGetPartialResult(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Rebuilds the KD-tree of the model with all the inserted and removed observations
+     * @return Result of k nearest neighbors model-based training
+     */
+    @Override
+    public TrainingResult finalizeCompute() {
+        super.finalizeCompute();
+        return new TrainingResult(getContext(), cGetResult(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Registers the partial result that holds the model to update with k nearest neighbors model-based training
+     * @param result    Partial result of k nearest neighbors model-based training
+     */
+    public void setPartialResult(TrainingPartialResult result) {
+        cSetPartialResult(cObject, prec.getValue(), method.getValue(), result.getCObject());
+    }
+
+    /**
+     * Returns a newly allocated k nearest neighbors training algorithm
+     * with a copy of the input objects and parameters of this k nearest neighbors
+     * training algorithm in the online processing mode
+     * @param context   Context to manage k nearest neighbors model-based training
+     *
+     * @return Newly allocated algorithm
+     */
+    @Override
+    public TrainingOnline clone(DaalContext context) {
+        return new TrainingOnline(context, this);
+    }
+
+    private native long cInit(int prec, int method);
+
+    private native long cInitParameter(long algAddr, int prec, int method);
+
+    private native long cGetInput(long algAddr, int prec, int method);
+
+    private native long cGetResult(long algAddr, int prec, int method);
+
+    private native long cGetPartialResult(long algAddr, int prec, int method);
+
+    private native void cSetPartialResult(long algAddr, int prec, int method, long presAddr);
+
+    private native long cClone(long algAddr, int prec, int method);
+}
+/** @} */
@@ -0,0 +1,98 @@
+/* file: TrainingOnlineInput.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup kdtree_knn_classification_online
+ * @{
+ */
+package com.intel.daal.algorithms.kdtree_knn_classification.training;
+
+import com.intel.daal.algorithms.classifier.training.TrainingInput;
+import com.intel.daal.data_management.data.Factory;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__TRAININGONLINEINPUT"></a>
+ * @brief %Input objects of k nearest neighbors model-based training in the online processing mode.
+ *        The data set and labels hold the observations to insert into the model and can be omitted if only the removed indices are set
+ */
+public final class TrainingOnlineInput extends TrainingInput {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    public TrainingOnlineInput(DaalContext context, long cInput) {
+        super(context, cInput);
+    }
+
+    /**
+     * Sets the input object of k nearest neighbors model-based training in the online processing mode
+     * @param id    Identifier of the input object
+     * @param val   Value of the input object
+     */
+    public void set(TrainingOnlineInputId id, NumericTable val) {
+        if (id != TrainingOnlineInputId.removedIndices) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        cSetInput(cObject, id.getValue(), val.getCObject());
+    }
+
+    /**
+     * Returns the input object of k nearest neighbors model-based training in the online processing mode
+     * @param id Identifier of the input object
+     * @return   Input object that corresponds to the given identifier
+     */
+    public NumericTable get(TrainingOnlineInputId id) {
+        if (id != TrainingOnlineInputId.removedIndices) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+
+        return (NumericTable)Factory.instance().createObject(getContext(), cGetInput(cObject, id.getValue()));
+    }
+
+    private native void cSetInput(long inputAddr, int id, long ntAddr);
+
+    private native long cGetInput(long inputAddr, int id);
+}
+/** @} */
@@ -0,0 +1,108 @@
+/* file: TrainingPartialResult.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup kdtree_knn_classification_online
+ * @{
+ */
+package com.intel.daal.algorithms.kdtree_knn_classification.training;
+
+import com.intel.daal.algorithms.classifier.training.PartialResultId;
+import com.intel.daal.algorithms.kdtree_knn_classification.Model;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KDTREE_KNN_CLASSIFICATION__TRAINING__TRAININGPARTIALRESULT"></a>
+ * @brief Provides methods to access the model updated with the compute() method of k nearest neighbors model-based training
+ *        in the online processing mode. To update a trained model, set it as the partial model of the partial result
+ *        registered in the algorithm
+ */
+public final class TrainingPartialResult extends com.intel.daal.algorithms.classifier.training.TrainingPartialResult {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /**
+     * Constructs the partial result of k nearest neighbors model-based training in the online processing mode
+     * @param context   Context to manage the partial result of k nearest neighbors model-based training
+     */
+    public TrainingPartialResult(DaalContext context) {
+        super(context);
+        cObject = cNewPartialResult();
+    }
+
+    public TrainingPartialResult(DaalContext context, long cObject) {
+        super(context);
+        this.cObject = cObject;
+    }
+
+    /**
+     * Returns the model updated with k nearest neighbors model-based training
+     * @param id   Identifier of the partial result, @ref classifier.training.PartialResultId
+     * @return     Model that corresponds to the given identifier
+     */
+    public Model get(PartialResultId id) {
+        if (id != PartialResultId.partialModel) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+        return new Model(getContext(), cGetModel(cObject, id.getValue()));
+    }
+
+    /**
+     * Sets the model to update with k nearest neighbors model-based training
+     * @param id    Identifier of the partial result, @ref classifier.training.PartialResultId
+     * @param model Model to update
+     */
+    public void set(PartialResultId id, Model model) {
+        if (id != PartialResultId.partialModel) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+        cSetModel(cObject, id.getValue(), model.getCObject());
+    }
+
+    private native long cNewPartialResult();
+
+    private native long cGetModel(long resAddr, int id);
+
+    private native void cSetModel(long resAddr, int id, long modelAddr);
+}
+/** @} */
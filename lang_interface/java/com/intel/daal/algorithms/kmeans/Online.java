@@ -0,0 +1,210 @@
+/* file: Online.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @defgroup kmeans_online Online
+ * @ingroup kmeans_compute
+ * @{
+ */
+package com.intel.daal.algorithms.kmeans;
+
+import com.intel.daal.algorithms.AnalysisOnline;
+import com.intel.daal.algorithms.Precision;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KMEANS__ONLINE"></a>
+ * @brief Computes K-Means in the online processing mode.
+ *        Each call of compute() assigns the observations of a data block to the current centroids
+ *        and moves every centroid towards the mean of its new observations with the learning rate
+ *        equal to the inverse of the number of observations assigned to the centroid so far.
+ *        The initial centroids are taken from the input on the first call of compute().
+ *        The partial result can be serialized with pack() to checkpoint the computation
+ *        and set back with setPartialResult() to resume it
+ * <!-- \n<a href="DAAL-REF-KMEANS-ALGORITHM">K-Means algorithm description and usage models</a> -->
+ *
+ * @par References
+ *      - InputId class. Input objects for the algorithm
+ *      - OnlinePartialResultId class. Partial results of the algorithm
+ *      - ResultId class. Results of the algorithm
+ */
+public class Online extends AnalysisOnline {
+    public Input                  input;         /*!< %Input data */
+    public Parameter              parameter;     /*!< Parameters of the algorithm */
+    private Method                method;        /*!< Computation method for the algorithm */
+    private Precision             prec;          /*!< Precision of intermediate computations */
+    protected OnlinePartialResult partialResult; /*!< Partial result of the algorithm */
+
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /**
+     * Constructs the K-Means algorithm by copying input objects and parameters
+     * of another K-Means algorithm
+     * @param context   Context to manage the algorithm
+     * @param other     An algorithm to be used as the source to initialize the input objects
+     *                  and parameters of the algorithm
+     */
+    public Online(DaalContext context, Online other) {
+        super(context);
+        this.method = other.method;
+        prec = other.prec;
+
+        this.cObject = cClone(other.cObject, prec.getValue(), this.method.getValue());
+
+        partialResult = null;
+        input     = new Input    (getContext(), cGetInput     (cObject, prec.getValue(), method.getValue()));
+        parameter = new Parameter(getContext(), cInitParameter(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Constructs the K-Means algorithm
+     * @param context   Context to manage the algorithm
+     * @param cls       Data type to use in intermediate computations for the algorithm,
+     *                  Double.class or Float.class
+     * @param method    Computation method of the algorithm, @ref Method
+     * @param nClusters Number of clusters for the algorithm
+     */
+    public Online(DaalContext context, Class<? extends Number> cls, Method method, long nClusters) {
+        super(context);
+
+        this.method = method;
+        if (cls != Double.class && cls != Float.class) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+
+        if (this.method != Method.defaultDense && this.method != Method.lloydCSR) {
+            throw new IllegalArgumentException("method unsupported");
+        }
+
+        if (cls == Double.class) {
+            prec = Precision.doublePrecision;
+        } else {
+            prec = Precision.singlePrecision;
+        }
+
+        this.cObject = cInit(prec.getValue(), this.method.getValue(), nClusters);
+
+        partialResult = null;
+        input     = new Input    (getContext(), cGetInput     (cObject, prec.getValue(), method.getValue()));
+        parameter = new Parameter(getContext(), cInitParameter(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Updates the centroids of the K-Means algorithm with the block of data set in the input
+     * @return  Partial results of the K-Means algorithm
+     */
+    @Override
+    public OnlinePartialResult compute() {
+        super.compute();
+        partialResult = new OnlinePartialResult(getContext(), cGetPartialResult(cObject, prec.getValue(), method.getValue()));
+        return partialResult;
+    }
+
+    /**
+     * Computes the results of the K-Means algorithm.
+     * Assignments, if computed, correspond to the last block of data set in the input
+     * @return  Results of the K-Means algorithm
+     */
+    @Override
+    public Result finalizeCompute() {
+        super.finalizeCompute();
+        return new Result(getContext(), cGetResult(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Registers user-allocated memory to store partial results of the K-Means algorithm and
+     * optionally tells the library to initialize the memory
+     * @param partialResult         Structure to store partial results of the K-Means algorithm
+     * @param initializationFlag    Flag that specifies whether the partial results are initialized
+     */
+    public void setPartialResult(OnlinePartialResult partialResult, boolean initializationFlag) {
+        this.partialResult = partialResult;
+        cSetPartialResult(cObject, prec.getValue(), method.getValue(), partialResult.getCObject(), initializationFlag);
+    }
+
+    /**
+     * Registers user-allocated memory to store partial results of the K-Means algorithm
+     * @param partialResult         Structure to store partial results of the K-Means algorithm
+     */
+    public void setPartialResult(OnlinePartialResult partialResult) {
+        setPartialResult(partialResult, false);
+    }
+
+    /**
+     * Registers user-allocated memory to store the results of the K-Means algorithm
+     * @param result    Structure to store the results of the K-Means algorithm
+     */
+    public void setResult(Result result) {
+        cSetResult(cObject, prec.getValue(), method.getValue(), result.getCObject());
+    }
+
+    /**
+     * Returns the newly allocated K-Means algorithm with a copy of input objects
+     * and parameters of this K-Means algorithm
+     * @param context   Context to manage the algorithm
+     *
+     * @return The newly allocated algorithm
+     */
+    @Override
+    public Online clone(DaalContext context) {
+        return new Online(context, this);
+    }
+
+    private native long cInit(int prec, int method, long nClusters);
+
+    private native long cInitParameter(long addr, int prec, int method);
+
+    private native long cGetInput(long addr, int prec, int method);
+
+    private native long cGetResult(long addr, int prec, int method);
+
+    private native void cSetResult(long addr, int prec, int method, long cResult);
+
+    private native long cGetPartialResult(long addr, int prec, int method);
+
+    private native void cSetPartialResult(long addr, int prec, int method, long cPartialResult, boolean initializationFlag);
+
+    private native long cClone(long addr, int prec, int method);
+}
+/** @} */
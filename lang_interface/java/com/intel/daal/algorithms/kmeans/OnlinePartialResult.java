@@ -0,0 +1,110 @@
+/* file: OnlinePartialResult.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup kmeans_online
+ * @{
+ */
+package com.intel.daal.algorithms.kmeans;
+
+import com.intel.daal.data_management.data.Factory;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__KMEANS__ONLINEPARTIALRESULT"></a>
+ * @brief Provides methods to access partial results obtained with the compute() method of the
+ *        K-Means algorithm in the online processing mode
+ */
+public class OnlinePartialResult extends com.intel.daal.algorithms.PartialResult {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /**
+     * Default constructor. Constructs empty OnlinePartialResult
+     * @param context      Context to manage the partial result for the K-Means algorithm
+     */
+    public OnlinePartialResult(DaalContext context) {
+        super(context);
+        this.cObject = cNewPartialResult();
+    }
+
+    public OnlinePartialResult(DaalContext context, long cPartialResult) {
+        super(context, cPartialResult);
+    }
+
+    /**
+     * Returns a partial result of the K-Means algorithm
+     * @param  id   Identifier of the partial result, @ref OnlinePartialResultId
+     * @return Partial result that corresponds to the given identifier
+     */
+    public NumericTable get(OnlinePartialResultId id) {
+        int idValue = id.getValue();
+        if (idValue != OnlinePartialResultId.onlineCentroids.getValue() && idValue != OnlinePartialResultId.onlineClusterSizes.getValue()
+                && idValue != OnlinePartialResultId.onlineObjectiveFunction.getValue()) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+        return (NumericTable)Factory.instance().createObject(getContext(), cGetPartialResultTable(getCObject(), idValue));
+    }
+
+    /**
+     * Sets a partial result of the K-Means algorithm
+     * @param id                 Identifier of the partial result, @ref OnlinePartialResultId
+     * @param value              Value of the partial result
+     */
+    public void set(OnlinePartialResultId id, NumericTable value) {
+        int idValue = id.getValue();
+        if (idValue != OnlinePartialResultId.onlineCentroids.getValue() && idValue != OnlinePartialResultId.onlineClusterSizes.getValue()
+                && idValue != OnlinePartialResultId.onlineObjectiveFunction.getValue()) {
+            throw new IllegalArgumentException("id unsupported");
+        }
+        cSetPartialResultTable(getCObject(), idValue, value.getCObject());
+    }
+
+    private native long cNewPartialResult();
+
+    private native long cGetPartialResultTable(long cPartialResult, int id);
+
+    private native void cSetPartialResultTable(long cPartialResult, int id, long cNumericTable);
+}
+/** @} */
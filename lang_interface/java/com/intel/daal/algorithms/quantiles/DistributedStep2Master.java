@@ -0,0 +1,200 @@
+/* file: DistributedStep2Master.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup quantiles_distributed
+ * @{
+ */
+package com.intel.daal.algorithms.quantiles;
+
+import com.intel.daal.algorithms.AnalysisDistributed;
+import com.intel.daal.algorithms.Precision;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__QUANTILES__DISTRIBUTEDSTEP2MASTER"></a>
+ * @brief Merges the sketches computed on local nodes and computes the quantiles on the second step
+ *        of the quantiles algorithm in the distributed processing mode
+ * <!-- \n<a href="DAAL-REF-QUANTILES-ALGORITHM">Quantiles algorithm description and usage models</a> -->
+ *
+ * @par References
+ *      - DistributedStep2MasterInputId class. Identifiers of the input objects for the algorithm
+ *      - PartialResultId class. Identifiers of partial results of the algorithm
+ *      - ResultId class. Identifiers of results of the algorithm
+ */
+public class DistributedStep2Master extends AnalysisDistributed {
+    public DistributedStep2MasterInput input;         /*!< %Input data */
+    public SketchParameter             parameter;     /*!< Parameters of the algorithm */
+    public Method                      method;        /*!< Computation method for the algorithm */
+    protected PartialResult            partialResult; /*!< Partial result of the algorithm */
+    private Precision                  prec;          /*!< Precision of intermediate computations */
+
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /**
+     * Constructs algorithm that computes quantiles by copying input objects and parameters
+     * of another algorithm
+     * @param context      Context to manage the quantile algorithms
+     * @param other        An algorithm to be used as the source to initialize the input objects
+     *                     and parameters of the algorithm
+     */
+    public DistributedStep2Master(DaalContext context, DistributedStep2Master other) {
+        super(context);
+        this.method = other.method;
+        prec = other.prec;
+
+        this.cObject = cClone(other.cObject, prec.getValue(), this.method.getValue());
+
+        partialResult = null;
+        input     = new DistributedStep2MasterInput(getContext(), cGetInput     (cObject, prec.getValue(), method.getValue()));
+        parameter = new SketchParameter            (getContext(), cInitParameter(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Constructs algorithm that merges the sketches computed on local nodes
+     * @param context      Context to manage the quantile algorithms
+     * @param cls          Data type to use in intermediate computations for the quantile algorithms, Double.class or Float.class
+     * @param method       Quantiles computation method, @ref Method
+     */
+    public DistributedStep2Master(DaalContext context, Class<? extends Number> cls, Method method) {
+        super(context);
+        this.method = method;
+        if (cls != Double.class && cls != Float.class) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+
+        if (this.method != Method.sketchDense) {
+            throw new IllegalArgumentException("method unsupported");
+        }
+
+        if (cls == Double.class) {
+            prec = Precision.doublePrecision;
+        } else {
+            prec = Precision.singlePrecision;
+        }
+
+        this.cObject = cInit(prec.getValue(), this.method.getValue());
+
+        partialResult = null;
+        input     = new DistributedStep2MasterInput(getContext(), cGetInput     (cObject, prec.getValue(), method.getValue()));
+        parameter = new SketchParameter            (getContext(), cInitParameter(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Merges the sketches computed on local nodes into the partial result of the algorithm
+     * @return  Partial results of the quantiles algorithm
+     */
+    @Override
+    public PartialResult compute() {
+        super.compute();
+        partialResult = new PartialResult(getContext(), cGetPartialResult(cObject, prec.getValue(), method.getValue()));
+        return partialResult;
+    }
+
+    /**
+     * Computes the quantiles from the merged sketches
+     * @return  Quantiles computation results
+     */
+    @Override
+    public Result finalizeCompute() {
+        super.finalizeCompute();
+        return new Result(getContext(), cGetResult(cObject, prec.getValue(), method.getValue()));
+    }
+
+    /**
+     * Registers user-allocated memory to store partial results of the quantiles algorithm and
+     * optionally tells the library to initialize the memory
+     * @param partialResult         Structure to store partial results of the quantiles algorithm
+     * @param initializationFlag    Flag that specifies whether the partial results are initialized
+     */
+    public void setPartialResult(PartialResult partialResult, boolean initializationFlag) {
+        this.partialResult = partialResult;
+        cSetPartialResult(cObject, prec.getValue(), method.getValue(), partialResult.getCObject(), initializationFlag);
+    }
+
+    /**
+     * Registers user-allocated memory to store partial results of the quantiles algorithm
+     * @param partialResult         Structure to store partial results of the quantiles algorithm
+     */
+    public void setPartialResult(PartialResult partialResult) {
+        setPartialResult(partialResult, false);
+    }
+
+    /**
+     * Registers user-allocated memory to store results of the quantile algorithms
+     * @param result    Structure to store results of the quantile algorithms
+     */
+    public void setResult(Result result) {
+        cSetResult(cObject, prec.getValue(), method.getValue(), result.getCObject());
+    }
+
+    /**
+     * Returns the newly allocated algorithm that computes quantiles
+     * with a copy of input objects and parameters of this algorithm
+     * @param context      Context to manage the quantile algorithms
+     *
+     * @return The newly allocated algorithm
+     */
+    @Override
+    public DistributedStep2Master clone(DaalContext context) {
+        return new DistributedStep2Master(context, this);
+    }
+
+    private native long cInit(int prec, int method);
+
+    private native long cInitParameter(long algAddr, int prec, int method);
+
+    private native long cGetInput(long algAddr, int prec, int method);
+
+    private native long cGetResult(long algAddr, int prec, int method);
+
+    private native void cSetResult(long algAddr, int prec, int method, long cResult);
+
+    private native long cGetPartialResult(long algAddr, int prec, int method);
+
+    private native void cSetPartialResult(long algAddr, int prec, int method, long cPartialResult, boolean initializationFlag);
+
+    private native long cClone(long algAddr, int prec, int method);
+}
+/** @} */
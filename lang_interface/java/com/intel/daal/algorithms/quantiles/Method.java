@@ -74,9 +74,13 @@ public final class Method {
     }
 
     private static final int DefaultDense = 0;
+    private static final int SketchDense  = 1;
 
     public static final Method defaultDense = new Method(
             DefaultDense); /*!< Default: performance-oriented method.
                                 Supports all types of input numeric tables */
+    public static final Method sketchDense  = new Method(
+            SketchDense);  /*!< Method that computes approximate quantiles with KLL sketches of the features
+                                in one pass over the data. Supported in the online and distributed processing modes */
 }
 /** @} */
@@ -0,0 +1,96 @@
+/* file: SketchParameter.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup quantiles
+ * @{
+ */
+package com.intel.daal.algorithms.quantiles;
+
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__QUANTILES__SKETCHPARAMETER"></a>
+ * @brief Parameters of the quantiles algorithm in the online and distributed processing modes
+ */
+public class SketchParameter extends Parameter {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    public SketchParameter(DaalContext context, long cObject) {
+        super(context, cObject);
+    }
+
+    /**
+     * Sets the bound of the error of the rank of computed quantiles relative to the number of observations,
+     * that holds with probability 99%. Defines the size of the sketches
+     * @param accuracy Bound of the relative rank error, between 0 and 1. Default value is 0.01
+     */
+    public void setAccuracy(double accuracy) {
+        cSetAccuracy(this.cObject, accuracy);
+    }
+
+    /**
+     * Returns the bound of the error of the rank of computed quantiles relative to the number of observations
+     * @return Bound of the relative rank error
+     */
+    public double getAccuracy() {
+        return cGetAccuracy(this.cObject);
+    }
+
+    /**
+     * Sets the engine for the random numbers generator that chooses the items kept in the compactions of the sketches.
+     * Engines on different local nodes should produce different sequences, for example after skipAheadToBlock()
+     * @param engine Engine for the random numbers generator
+     */
+    public void setEngine(com.intel.daal.algorithms.engines.BatchBase engine) {
+        cSetEngine(this.cObject, engine.cObject);
+    }
+
+    private native void cSetAccuracy(long parAddr, double accuracy);
+
+    private native double cGetAccuracy(long parAddr);
+
+    private native void cSetEngine(long parAddr, long engineAddr);
+}
+/** @} */
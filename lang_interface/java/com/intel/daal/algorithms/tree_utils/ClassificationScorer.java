@@ -0,0 +1,161 @@
+/* file: ClassificationScorer.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup tree_utils
+ * @{
+ */
+package com.intel.daal.algorithms.tree_utils;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__TREE_UTILS__CLASSIFICATIONSCORER"></a>
+ * @brief Scorer that computes the class labels predicted by a classification tree ensemble model
+ */
+public final class ClassificationScorer extends TreeEnsembleScorer {
+
+    private final int     nClasses;
+    private final boolean boosted;
+
+    /* Scores of the classes computed by predict(double[],int) in the current thread */
+    private final ThreadLocal<double[]> scores = new ThreadLocal<double[]>() {
+        @Override
+        protected double[] initialValue() {
+            return new double[nClasses];
+        }
+    };
+
+    private ClassificationScorer(TreeEnsemble model, long nClasses, boolean boosted, boolean[] categoricalFeatures) {
+        super(model, categoricalFeatures);
+        if (nClasses < 2 || nClasses > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Incorrect number of classes");
+        }
+        this.nClasses = (int)nClasses;
+        this.boosted = boosted;
+    }
+
+    /**
+     * Constructs the scorer that predicts the class that gets the majority of votes of the trees,
+     * as in decision forest classification. The leaves of the trees hold class labels
+     * @param model               Tree ensemble model
+     * @param nClasses            Number of classes
+     * @param categoricalFeatures Flags of the categorical features of the data set, null if all the features are numerical
+     * @return Scorer for the model
+     */
+    public static ClassificationScorer voting(TreeEnsemble model, long nClasses, boolean[] categoricalFeatures) {
+        return new ClassificationScorer(model, nClasses, false, categoricalFeatures);
+    }
+
+    /**
+     * Constructs the scorer that predicts the class with the largest sum of the values of the leaves,
+     * as in gradient boosted trees classification. For two classes all the trees contribute to the raw value of class 1,
+     * otherwise tree i contributes to the raw value of class i % nClasses
+     * @param model               Tree ensemble model
+     * @param nClasses            Number of classes
+     * @param categoricalFeatures Flags of the categorical features of the data set, null if all the features are numerical
+     * @return Scorer for the model
+     */
+    public static ClassificationScorer boosted(TreeEnsemble model, long nClasses, boolean[] categoricalFeatures) {
+        return new ClassificationScorer(model, nClasses, true, categoricalFeatures);
+    }
+
+    /**
+     * Returns the number of classes
+     * @return Number of classes
+     */
+    public int getNumberOfClasses() {
+        return nClasses;
+    }
+
+    /**
+     * Computes the class label for one observation
+     * @param data    Array that contains the observation
+     * @param offset  Index of the first feature of the observation in the array
+     * @return Predicted class label
+     */
+    @Override
+    public double predict(double[] data, int offset) {
+        return predict(data, offset, scores.get());
+    }
+
+    /**
+     * Computes the class label and the scores of the classes for one observation.
+     * The scores are the numbers of votes of the trees for the voting scorer and the raw boosted values for the boosted scorer.
+     * For the boosted scorer with two classes only the first element is used, it holds the raw value of class 1
+     * @param data    Array that contains the observation
+     * @param offset  Index of the first feature of the observation in the array
+     * @param scores  Array of at least getNumberOfClasses() elements to store the scores of the classes
+     * @return Predicted class label
+     */
+    public double predict(double[] data, int offset, double[] scores) {
+        int nTrees = getNumberOfTrees();
+        if (boosted && nClasses == 2) {
+            double raw = 0;
+            for (int t = 0; t < nTrees; t++) {
+                raw += getLeafValue(t, data, offset);
+            }
+            scores[0] = raw;
+            return (raw >= 0 ? 1 : 0);
+        }
+
+        for (int i = 0; i < nClasses; i++) {
+            scores[i] = 0;
+        }
+        if (boosted) {
+            for (int t = 0; t < nTrees; t++) {
+                scores[t % nClasses] += getLeafValue(t, data, offset);
+            }
+        } else {
+            for (int t = 0; t < nTrees; t++) {
+                scores[(int)getLeafValue(t, data, offset)] += 1;
+            }
+        }
+
+        /* Ties are resolved in favor of the class with the smaller label as in the native prediction */
+        int maxClass = 0;
+        for (int i = 1; i < nClasses; i++) {
+            if (scores[maxClass] < scores[i]) {
+                maxClass = i;
+            }
+        }
+        return maxClass;
+    }
+}
+/** @} */
@@ -0,0 +1,98 @@
+/* file: RegressionScorer.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup tree_utils
+ * @{
+ */
+package com.intel.daal.algorithms.tree_utils;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__TREE_UTILS__REGRESSIONSCORER"></a>
+ * @brief Scorer that computes the responses of a regression tree ensemble model as the sum of the values of the leaves
+ *        that the observation falls into, multiplied by a constant factor
+ */
+public final class RegressionScorer extends TreeEnsembleScorer {
+
+    private final double factor;
+
+    private RegressionScorer(TreeEnsemble model, double factor, boolean[] categoricalFeatures) {
+        super(model, categoricalFeatures);
+        this.factor = factor;
+    }
+
+    /**
+     * Constructs the scorer that computes the response as the average over all the trees, as in decision forest regression
+     * @param model               Tree ensemble model
+     * @param categoricalFeatures Flags of the categorical features of the data set, null if all the features are numerical
+     * @return Scorer for the model
+     */
+    public static RegressionScorer averaged(TreeEnsemble model, boolean[] categoricalFeatures) {
+        long nTrees = model.getNumberOfTrees();
+        return new RegressionScorer(model, nTrees > 0 ? 1.0 / nTrees : 0.0, categoricalFeatures);
+    }
+
+    /**
+     * Constructs the scorer that computes the response as the sum over all the trees, as in gradient boosted trees regression
+     * @param model               Tree ensemble model
+     * @param categoricalFeatures Flags of the categorical features of the data set, null if all the features are numerical
+     * @return Scorer for the model
+     */
+    public static RegressionScorer boosted(TreeEnsemble model, boolean[] categoricalFeatures) {
+        return new RegressionScorer(model, 1.0, categoricalFeatures);
+    }
+
+    /**
+     * Computes the response for one observation
+     * @param data    Array that contains the observation
+     * @param offset  Index of the first feature of the observation in the array
+     * @return Predicted response
+     */
+    @Override
+    public double predict(double[] data, int offset) {
+        double sum = 0;
+        for (int t = 0, nTrees = getNumberOfTrees(); t < nTrees; t++) {
+            sum += getLeafValue(t, data, offset);
+        }
+        return factor * sum;
+    }
+}
+/** @} */
@@ -0,0 +1,85 @@
+/* file: TreeEnsemble.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @defgroup tree_utils Tree Utilities
+ * @brief Contains classes for the compiled scoring of tree ensemble models
+ * @ingroup training_and_prediction
+ * @{
+ */
+/**
+ * @brief Contains classes for the compiled scoring of tree ensemble models
+ */
+package com.intel.daal.algorithms.tree_utils;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__TREE_UTILS__TREEENSEMBLE"></a>
+ * @brief Interface of the models that consist of decision trees and can copy them into arrays of node attributes
+ */
+public interface TreeEnsemble {
+
+    /**
+     * Get number of trees in the model
+     * @return number of trees
+     */
+    long getNumberOfTrees();
+
+    /**
+     * Returns the number of nodes in a tree of the model
+     * @param iTree   Index of the tree
+     * @return Number of nodes in the tree, 0 if there is no tree with such index
+     */
+    long getNumberOfNodes(long iTree);
+
+    /**
+     * Copies a tree of the model into arrays of node attributes, with one element per node.
+     * Node 0 is the root of the tree. Observations with the value of the split feature less than or equal to
+     * the split value (equal to it for categorical features) go to the left child of the split node
+     * @param iTree        Index of the tree
+     * @param featureIndex Index of the split feature of each split node, -1 for leaf nodes
+     * @param featureValue Split value of each split node, 0 for leaf nodes
+     * @param leftChild    Index of the left child of each split node, -1 for leaf nodes
+     * @param rightChild   Index of the right child of each split node, -1 for leaf nodes
+     * @param response     Value of each leaf node, 0 for split nodes
+     */
+    void exportTree(long iTree, int[] featureIndex, double[] featureValue, int[] leftChild, int[] rightChild, double[] response);
+}
+/** @} */
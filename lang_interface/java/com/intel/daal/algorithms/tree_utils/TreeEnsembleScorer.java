@@ -0,0 +1,204 @@
+/* file: TreeEnsembleScorer.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup tree_utils
+ * @{
+ */
+package com.intel.daal.algorithms.tree_utils;
+
+/**
+ * <a name="DAAL-CLASS-ALGORITHMS__TREE_UTILS__TREEENSEMBLESCORER"></a>
+ * @brief Base class for the scorers that compute predictions of a tree ensemble model in Java.
+ *        The trees of the model are copied once into flat arrays where the nodes of each tree are stored
+ *        in breadth first order and the right child of a split node follows its left child.
+ *        The scorer does not call native code and does not allocate memory when it computes predictions,
+ *        which makes it suitable for scoring a few observations at a time with low latency.
+ *        The scorer is immutable, so one scorer can be used by several threads at the same time
+ */
+public abstract class TreeEnsembleScorer {
+
+    /* Index of the split feature of each node, -1 for leaf nodes */
+    private final int[] splitFeature;
+
+    /* Split value of each split node, value of each leaf node */
+    private final double[] splitValueOrResponse;
+
+    /* Index of the left child of each split node in the flat arrays, the right child follows it */
+    private final int[] leftChild;
+
+    /* True for split nodes that compare categorical features for equality, null if there are no such nodes */
+    private final boolean[] equalitySplit;
+
+    /* Index of the root of each tree in the flat arrays */
+    private final int[] treeRoot;
+
+    /**
+     * Copies the trees of the model into the flat arrays
+     * @param model               Tree ensemble model
+     * @param categoricalFeatures Flags of the categorical features of the data set, null if all the features are numerical
+     */
+    protected TreeEnsembleScorer(TreeEnsemble model, boolean[] categoricalFeatures) {
+        int nTrees = (int)model.getNumberOfTrees();
+        long nNodesTotal = 0;
+        int maxTreeSize = 0;
+        for (int t = 0; t < nTrees; t++) {
+            long nNodes = model.getNumberOfNodes(t);
+            nNodesTotal += nNodes;
+            maxTreeSize = Math.max(maxTreeSize, (int)nNodes);
+        }
+        if (nNodesTotal > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Model is too large to be scored in Java");
+        }
+
+        treeRoot             = new int[nTrees];
+        splitFeature         = new int[(int)nNodesTotal];
+        splitValueOrResponse = new double[(int)nNodesTotal];
+        leftChild            = new int[(int)nNodesTotal];
+
+        int[]    featureIndex = new int[maxTreeSize];
+        double[] featureValue = new double[maxTreeSize];
+        int[]    left         = new int[maxTreeSize];
+        int[]    right        = new int[maxTreeSize];
+        double[] response     = new double[maxTreeSize];
+        int[]    order        = new int[maxTreeSize];
+
+        boolean hasEqualitySplits = false;
+        boolean[] isEqualitySplit = new boolean[(int)nNodesTotal];
+
+        int offset = 0;
+        for (int t = 0; t < nTrees; t++) {
+            int nNodes = (int)model.getNumberOfNodes(t);
+            treeRoot[t] = offset;
+            if (nNodes == 0) {
+                throw new IllegalArgumentException("Tree " + t + " of the model is empty");
+            }
+            model.exportTree(t, featureIndex, featureValue, left, right, response);
+
+            /* Renumber the nodes in breadth first order, so that the first levels of the tree are close in memory */
+            order[0] = 0;
+            int nOrdered = 1;
+            for (int i = 0; i < nOrdered; i++) {
+                int src = order[i];
+                int dst = offset + i;
+                int feature = featureIndex[src];
+                splitFeature[dst] = feature;
+                if (feature < 0) {
+                    splitValueOrResponse[dst] = response[src];
+                    leftChild[dst] = -1;
+                } else {
+                    if (left[src] < 0 || right[src] < 0) {
+                        throw new IllegalArgumentException("Split node of tree " + t + " has no children");
+                    }
+                    splitValueOrResponse[dst] = featureValue[src];
+                    leftChild[dst] = offset + nOrdered;
+                    order[nOrdered++] = left[src];
+                    order[nOrdered++] = right[src];
+                    if (categoricalFeatures != null && feature < categoricalFeatures.length && categoricalFeatures[feature]) {
+                        isEqualitySplit[dst] = true;
+                        hasEqualitySplits = true;
+                    }
+                }
+            }
+            offset += nNodes;
+        }
+        equalitySplit = hasEqualitySplits ? isEqualitySplit : null;
+    }
+
+    /**
+     * Returns the number of trees in the scorer
+     * @return Number of trees
+     */
+    public int getNumberOfTrees() {
+        return treeRoot.length;
+    }
+
+    /**
+     * Returns the value of the leaf of the tree that the observation falls into
+     * @param iTree   Index of the tree
+     * @param data    Array that contains the observation
+     * @param offset  Index of the first feature of the observation in the array
+     * @return Value of the leaf node
+     */
+    protected final double getLeafValue(int iTree, double[] data, int offset) {
+        int node = treeRoot[iTree];
+        int feature = splitFeature[node];
+        if (equalitySplit == null) {
+            while (feature >= 0) {
+                /* Missing values (NaN) go to the left child as in the native prediction that tests the sign of (value - x) */
+                node = leftChild[node] + (!(data[offset + feature] > splitValueOrResponse[node]) ? 0 : 1);
+                feature = splitFeature[node];
+            }
+        } else {
+            while (feature >= 0) {
+                double x = data[offset + feature];
+                /* NaN never equals a category, so it goes right on a categorical split and left on a numerical one */
+                boolean goLeft = equalitySplit[node] ? (!Double.isNaN(x) && (int)x == (int)splitValueOrResponse[node])
+                                                     : !(x > splitValueOrResponse[node]);
+                node = leftChild[node] + (goLeft ? 0 : 1);
+                feature = splitFeature[node];
+            }
+        }
+        return splitValueOrResponse[node];
+    }
+
+    /**
+     * Computes the prediction for one observation
+     * @param data    Array that contains the observation
+     * @param offset  Index of the first feature of the observation in the array
+     * @return Predicted value
+     */
+    public abstract double predict(double[] data, int offset);
+
+    /**
+     * Computes the predictions for a block of observations stored contiguously in the array
+     * @param data      Array that contains the observations
+     * @param nRows     Number of observations
+     * @param nColumns  Number of features in each observation
+     * @param result    Array to store the predicted values, one per observation
+     */
+    public void predict(double[] data, int nRows, int nColumns, double[] result) {
+        for (int i = 0; i < nRows; i++) {
+            result[i] = predict(data, i * nColumns);
+        }
+    }
+}
+/** @} */
@@ -76,10 +76,11 @@ public class AOSNumericTableImpl extends NumericTableImpl {
     public AOSNumericTableImpl(DaalContext context, Class<?> cls, long nVectors) {
         super(context);
         this.objClass = cls;
-        this.fields = this.objClass.getFields();
+        this.accessor = AOSRowAccessor.forClass(this.objClass);
+        this.fields = this.accessor.getFields();
 
         nJavaVectors = nVectors;
-        nJavaFeatures = cls.getFields().length;
+        nJavaFeatures = fields.length;
         dataAllocatedInJava = true;
 
         this.cObject = newJavaNumericTable(nJavaFeatures, nJavaVectors, NumericTable.StorageLayout.aos,
@@ -98,10 +99,11 @@ public class AOSNumericTableImpl extends NumericTableImpl {
     public AOSNumericTableImpl(DaalContext context, Object[] ptr) {
         super(context);
         this.objClass = ptr[0].getClass();
-        this.fields = this.objClass.getFields();
+        this.accessor = AOSRowAccessor.forClass(this.objClass);
+        this.fields = this.accessor.getFields();
         this.ptr = ptr;
 
-        nJavaFeatures = this.objClass.getFields().length;
+        nJavaFeatures = fields.length;
         nJavaVectors = ptr.length;
         dataAllocatedInJava = true;
 
@@ -167,166 +169,92 @@ public class AOSNumericTableImpl extends NumericTableImpl {
     /** @copydoc NumericTable::getBlockOfRows(long,long,DoubleBuffer) */
     @Override
     public DoubleBuffer getBlockOfRows(long vectorIndex, long vectorNum, DoubleBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                for (int j = 0; j < fields.length; j++) {
-                    buf.put(fields[j].getDouble(this.ptr[(int) vectorIndex + i]));
-                }
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.getRows(this.ptr, (int) vectorIndex, (int) vectorNum, buf);
         return buf;
     }
 
     /** @copydoc NumericTable::getBlockOfRows(long,long,FloatBuffer) */
     @Override
     public FloatBuffer getBlockOfRows(long vectorIndex, long vectorNum, FloatBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                for (int j = 0; j < fields.length; j++) {
-                    double d = fields[j].getDouble(this.ptr[(int) vectorIndex + i]);
-                    buf.put((float) d);
-                }
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.getRows(this.ptr, (int) vectorIndex, (int) vectorNum, buf);
         return buf;
     }
 
     /** @copydoc NumericTable::getBlockOfRows(long,long,IntBuffer) */
     @Override
     public IntBuffer getBlockOfRows(long vectorIndex, long vectorNum, IntBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                for (int j = 0; j < fields.length; j++) {
-                    double d = fields[j].getDouble(this.ptr[(int) vectorIndex + i]);
-                    buf.put((int) d);
-                }
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.getRows(this.ptr, (int) vectorIndex, (int) vectorNum, buf);
         return buf;
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,DoubleBuffer) */
     @Override
     public DoubleBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, DoubleBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                buf.put(fields[(int) featureIndex].getDouble(this.ptr[(int) vectorIndex + i]));
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.getColumn((int) featureIndex, this.ptr, (int) vectorIndex, (int) vectorNum, buf);
         return buf;
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,FloatBuffer) */
     @Override
     public FloatBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, FloatBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                double d = fields[(int) featureIndex].getFloat(this.ptr[(int) vectorIndex + i]);
-                buf.put((float) d);
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.getColumn((int) featureIndex, this.ptr, (int) vectorIndex, (int) vectorNum, buf);
         return buf;
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,IntBuffer) */
     @Override
     public IntBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, IntBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                double d = fields[(int) featureIndex].getFloat(this.ptr[(int) vectorIndex + i]);
-                buf.put((int) d);
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.getColumn((int) featureIndex, this.ptr, (int) vectorIndex, (int) vectorNum, buf);
         return buf;
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,DoubleBuffer) */
     @Override
     public void releaseBlockOfRows(long vectorIndex, long vectorNum, DoubleBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                for (int j = 0; j < fields.length; j++) {
-                    fields[j].setDouble(this.ptr[(int) vectorIndex + i], buf.get());
-                }
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.setRows(this.ptr, (int) vectorIndex, (int) vectorNum, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,FloatBuffer) */
     @Override
     public void releaseBlockOfRows(long vectorIndex, long vectorNum, FloatBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                for (int j = 0; j < fields.length; j++) {
-                    fields[j].setFloat(this.ptr[(int) vectorIndex + i], buf.get());
-                }
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.setRows(this.ptr, (int) vectorIndex, (int) vectorNum, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,IntBuffer) */
     @Override
     public void releaseBlockOfRows(long vectorIndex, long vectorNum, IntBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                for (int j = 0; j < fields.length; j++) {
-                    fields[j].setInt(this.ptr[(int) vectorIndex + i], buf.get());
-                }
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.setRows(this.ptr, (int) vectorIndex, (int) vectorNum, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,DoubleBuffer) */
     @Override
     public void releaseBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, DoubleBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                fields[(int) featureIndex].setDouble(this.ptr[(int) vectorIndex + i], buf.get());
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.setColumn((int) featureIndex, this.ptr, (int) vectorIndex, (int) vectorNum, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,FloatBuffer) */
     @Override
     public void releaseBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, FloatBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                fields[(int) featureIndex].setFloat(this.ptr[(int) vectorIndex + i], buf.get());
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.setColumn((int) featureIndex, this.ptr, (int) vectorIndex, (int) vectorNum, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,IntBuffer) */
     @Override
     public void releaseBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, IntBuffer buf) {
-        try {
-            for (int i = 0; i < vectorNum; i++) {
-                fields[(int) featureIndex].setInt(this.ptr[(int) vectorIndex + i], buf.get());
-            }
-        } catch (java.lang.IllegalAccessException e) {
-        }
+        accessor.setColumn((int) featureIndex, this.ptr, (int) vectorIndex, (int) vectorNum, buf);
     }
 
     protected transient Class<?> objClass;
     protected transient Field[]  fields;
+    private transient AOSRowAccessor accessor;  /* Copies the fields of the feature vectors to and from buffers */
     protected Object[]           ptr;
 
     @Override
     protected void onUnpack(DaalContext context) {
         if (dataAllocatedInJava) {
             this.objClass = this.ptr[0].getClass();
-            this.fields = this.objClass.getFields();
+            this.accessor = AOSRowAccessor.forClass(this.objClass);
+            this.fields = this.accessor.getFields();
 
             dataAllocatedInJava = true;
 
@@ -0,0 +1,360 @@
+/* file: AOSRowAccessor.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup numeric_tables
+ * @{
+ */
+package com.intel.daal.data_management.data;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * <a name="DAAL-CLASS-DATA_MANAGEMENT__DATA__AOSROWACCESSOR"></a>
+ * @brief Copies the public fields of the feature vectors of an AOS numeric table to and from NIO buffers.
+ *        The accessor is built once per class of the feature vectors. Each field is accessed through
+ *        a method handle that converts the field value directly to the type of the buffer, so the copy
+ *        does not perform the access checks and type dispatch of java.lang.reflect.Field on every value
+ */
+final class AOSRowAccessor {
+
+    private static final ClassValue<AOSRowAccessor> accessors = new ClassValue<AOSRowAccessor>() {
+        @Override
+        protected AOSRowAccessor computeValue(Class<?> cls) {
+            return new AOSRowAccessor(cls);
+        }
+    };
+
+    private final Field[] fields;
+
+    private final MethodHandle[] doubleGetters;
+    private final MethodHandle[] floatGetters;
+    private final MethodHandle[] intGetters;
+
+    private final MethodHandle[] doubleSetters;
+    private final MethodHandle[] floatSetters;
+    private final MethodHandle[] intSetters;
+
+    private AOSRowAccessor(Class<?> cls) {
+        fields = instanceFields(cls);
+        int nFields = fields.length;
+
+        doubleGetters = new MethodHandle[nFields];
+        floatGetters  = new MethodHandle[nFields];
+        intGetters    = new MethodHandle[nFields];
+        doubleSetters = new MethodHandle[nFields];
+        floatSetters  = new MethodHandle[nFields];
+        intSetters    = new MethodHandle[nFields];
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (int j = 0; j < nFields; j++) {
+            Field field = fields[j];
+            try {
+                /* Public fields of non-public classes are not accessible without this */
+                field.setAccessible(true);
+            } catch (RuntimeException e) {
+                /* SecurityException, or InaccessibleObjectException for classes of modules that are not open
+                   on Java 9 and later. The lookup below reports the field if it is still not accessible */
+            }
+
+            MethodHandle getter;
+            MethodHandle setter;
+            try {
+                getter = lookup.unreflectGetter(field);
+                setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Field " + field.getName() + " of the feature vector class is not accessible");
+            }
+
+            doubleGetters[j] = MethodHandles.explicitCastArguments(getter, MethodType.methodType(double.class, Object.class));
+            floatGetters[j]  = MethodHandles.explicitCastArguments(getter, MethodType.methodType(float.class,  Object.class));
+            intGetters[j]    = MethodHandles.explicitCastArguments(getter, MethodType.methodType(int.class,    Object.class));
+
+            doubleSetters[j] = MethodHandles.explicitCastArguments(setter, MethodType.methodType(void.class, Object.class, double.class));
+            floatSetters[j]  = MethodHandles.explicitCastArguments(setter, MethodType.methodType(void.class, Object.class, float.class));
+            intSetters[j]    = MethodHandles.explicitCastArguments(setter, MethodType.methodType(void.class, Object.class, int.class));
+        }
+    }
+
+    /* Static fields are not features of the vectors */
+    private static Field[] instanceFields(Class<?> cls) {
+        Field[] publicFields = cls.getFields();
+        int nFields = 0;
+        for (Field field : publicFields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                nFields++;
+            }
+        }
+
+        Field[] fields = new Field[nFields];
+        int j = 0;
+        for (Field field : publicFields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fields[j++] = field;
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the accessor for the class of the feature vectors
+     *
+     * @param cls   Class of the feature vectors
+     * @return Accessor for the class
+     */
+    static AOSRowAccessor forClass(Class<?> cls) {
+        return accessors.get(cls);
+    }
+
+    /**
+     * Returns the public non-static fields of the class in the order of the features of the table
+     *
+     * @return Fields of the class
+     */
+    Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Copies the feature vectors into the buffer row by row
+     *
+     * @param rows          Array of feature vectors
+     * @param vectorIndex   Index of the first feature vector to copy
+     * @param vectorNum     Number of feature vectors to copy
+     * @param buf           Buffer to copy the values to
+     */
+    void getRows(Object[] rows, int vectorIndex, int vectorNum, DoubleBuffer buf) {
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                Object row = rows[i];
+                for (int j = 0; j < doubleGetters.length; j++) {
+                    buf.put((double)doubleGetters[j].invokeExact(row));
+                }
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::getRows(Object[],int,int,DoubleBuffer) */
+    void getRows(Object[] rows, int vectorIndex, int vectorNum, FloatBuffer buf) {
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                Object row = rows[i];
+                for (int j = 0; j < floatGetters.length; j++) {
+                    buf.put((float)floatGetters[j].invokeExact(row));
+                }
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::getRows(Object[],int,int,DoubleBuffer) */
+    void getRows(Object[] rows, int vectorIndex, int vectorNum, IntBuffer buf) {
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                Object row = rows[i];
+                for (int j = 0; j < intGetters.length; j++) {
+                    buf.put((int)intGetters[j].invokeExact(row));
+                }
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Copies the values of one feature of the feature vectors into the buffer
+     *
+     * @param featureIndex  Index of the feature
+     * @param rows          Array of feature vectors
+     * @param vectorIndex   Index of the first feature vector to copy
+     * @param vectorNum     Number of feature vectors to copy
+     * @param buf           Buffer to copy the values to
+     */
+    void getColumn(int featureIndex, Object[] rows, int vectorIndex, int vectorNum, DoubleBuffer buf) {
+        MethodHandle getter = doubleGetters[featureIndex];
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                buf.put((double)getter.invokeExact(rows[i]));
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::getColumn(int,Object[],int,int,DoubleBuffer) */
+    void getColumn(int featureIndex, Object[] rows, int vectorIndex, int vectorNum, FloatBuffer buf) {
+        MethodHandle getter = floatGetters[featureIndex];
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                buf.put((float)getter.invokeExact(rows[i]));
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::getColumn(int,Object[],int,int,DoubleBuffer) */
+    void getColumn(int featureIndex, Object[] rows, int vectorIndex, int vectorNum, IntBuffer buf) {
+        MethodHandle getter = intGetters[featureIndex];
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                buf.put((int)getter.invokeExact(rows[i]));
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Copies the values from the buffer into the feature vectors row by row
+     *
+     * @param rows          Array of feature vectors
+     * @param vectorIndex   Index of the first feature vector to update
+     * @param vectorNum     Number of feature vectors to update
+     * @param buf           Buffer to copy the values from
+     */
+    void setRows(Object[] rows, int vectorIndex, int vectorNum, DoubleBuffer buf) {
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                Object row = rows[i];
+                for (int j = 0; j < doubleSetters.length; j++) {
+                    doubleSetters[j].invokeExact(row, buf.get());
+                }
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::setRows(Object[],int,int,DoubleBuffer) */
+    void setRows(Object[] rows, int vectorIndex, int vectorNum, FloatBuffer buf) {
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                Object row = rows[i];
+                for (int j = 0; j < floatSetters.length; j++) {
+                    floatSetters[j].invokeExact(row, buf.get());
+                }
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::setRows(Object[],int,int,DoubleBuffer) */
+    void setRows(Object[] rows, int vectorIndex, int vectorNum, IntBuffer buf) {
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                Object row = rows[i];
+                for (int j = 0; j < intSetters.length; j++) {
+                    intSetters[j].invokeExact(row, buf.get());
+                }
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Copies the values of one feature from the buffer into the feature vectors
+     *
+     * @param featureIndex  Index of the feature
+     * @param rows          Array of feature vectors
+     * @param vectorIndex   Index of the first feature vector to update
+     * @param vectorNum     Number of feature vectors to update
+     * @param buf           Buffer to copy the values from
+     */
+    void setColumn(int featureIndex, Object[] rows, int vectorIndex, int vectorNum, DoubleBuffer buf) {
+        MethodHandle setter = doubleSetters[featureIndex];
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                setter.invokeExact(rows[i], buf.get());
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::setColumn(int,Object[],int,int,DoubleBuffer) */
+    void setColumn(int featureIndex, Object[] rows, int vectorIndex, int vectorNum, FloatBuffer buf) {
+        MethodHandle setter = floatSetters[featureIndex];
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                setter.invokeExact(rows[i], buf.get());
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /** @copydoc AOSRowAccessor::setColumn(int,Object[],int,int,DoubleBuffer) */
+    void setColumn(int featureIndex, Object[] rows, int vectorIndex, int vectorNum, IntBuffer buf) {
+        MethodHandle setter = intSetters[featureIndex];
+        try {
+            for (int i = vectorIndex; i < vectorIndex + vectorNum; i++) {
+                setter.invokeExact(rows[i], buf.get());
+            }
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /* Method handles declare Throwable, only unchecked exceptions can actually be thrown by the field accesses */
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException)e;
+        }
+        if (e instanceof Error) {
+            throw (Error)e;
+        }
+        return new RuntimeException(e);
+    }
+}
+/** @} */
@@ -0,0 +1,325 @@
+/* file: DirectBufferPool.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup numeric_tables
+ * @{
+ */
+package com.intel.daal.data_management.data;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+ * <a name="DAAL-CLASS-DATA_MANAGEMENT__DATA__DIRECTBUFFERPOOL"></a>
+ * @brief Thread-local pool of direct NIO buffers used to transfer blocks of data
+ *        between Java and the native numeric tables.
+ *        Buffers are grouped into size classes of powers of two. Buffers larger than
+ *        the largest size class are allocated on every request and are not pooled.
+ *        A pooled buffer is only used for the duration of a single transfer and is returned
+ *        to the pool by the code that acquired it, so the buffers returned to the user
+ *        are never backed by the pooled memory and remain valid after the block is released.
+ */
+final class DirectBufferPool {
+
+    private static final int minSizeClass        = 12;  /* 4 kilobytes */
+    private static final int maxSizeClass        = 26;  /* 64 megabytes */
+    private static final int maxBuffersPerClass  = 4;
+
+    private static final ThreadLocal<DirectBufferPool> pools = new ThreadLocal<DirectBufferPool>() {
+        @Override
+        protected DirectBufferPool initialValue() {
+            return new DirectBufferPool();
+        }
+    };
+
+    /* Free buffers of each size class */
+    private final ArrayList<ArrayDeque<ByteBuffer>> freeBuffers;
+
+    private DirectBufferPool() {
+        freeBuffers = new ArrayList<ArrayDeque<ByteBuffer>>(maxSizeClass - minSizeClass + 1);
+        for (int i = minSizeClass; i <= maxSizeClass; i++) {
+            freeBuffers.add(new ArrayDeque<ByteBuffer>(maxBuffersPerClass));
+        }
+    }
+
+    /**
+     * Returns the direct little-endian buffer of at least the requested size
+     * from the pool of the current thread. Position of the buffer is set to zero
+     * and its limit is set to the requested size
+     *
+     * @param nBytes    Size of the buffer in bytes, must not exceed Integer.MAX_VALUE
+     * @return Direct byte buffer
+     */
+    static ByteBuffer acquire(long nBytes) {
+        if (nBytes < 0 || nBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Block of " + nBytes + " bytes does not fit into a single NIO buffer");
+        }
+        return pools.get().acquireBuffer((int)nBytes);
+    }
+
+    /**
+     * Returns the number of elements in the block that is transferred through a single NIO buffer
+     *
+     * @param nElements Number of elements in the block, must not exceed Integer.MAX_VALUE
+     * @return Number of elements in the block
+     */
+    static int elementCount(long nElements) {
+        if (nElements < 0 || nElements > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Block of " + nElements + " elements does not fit into a single NIO buffer");
+        }
+        return (int)nElements;
+    }
+
+    /**
+     * Returns the buffer obtained by acquire() to the pool of the current thread
+     *
+     * @param buf   Buffer to return to the pool
+     */
+    static void release(ByteBuffer buf) {
+        pools.get().releaseBuffer(buf);
+    }
+
+    /**
+     * Returns the buffer that contains the block of doubles written into the buffer returned by getDestination().
+     * If the block was written into the pooled buffer, the data is copied into the buffer provided by the caller
+     * and the pooled buffer is returned to the pool; otherwise the buffer the block was written into is returned
+     *
+     * @param dst       Buffer returned by getDestination() that contains the block
+     * @param buf       Buffer provided by the caller, can be null
+     * @param size      Number of elements in the block
+     * @return Buffer with the block of doubles
+     */
+    static DoubleBuffer toDoubleBuffer(Buffer dst, DoubleBuffer buf, int size) {
+        if (dst == buf) {
+            buf.position(0);
+            return buf;
+        }
+        ByteBuffer byteBuf = (ByteBuffer)dst;
+        byteBuf.limit(size * 8);
+        DoubleBuffer src = byteBuf.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        if (!isWritable(buf, size)) {
+            return src;
+        }
+        buf.clear();
+        buf.put(src);
+        buf.position(0);
+        release(byteBuf);
+        return buf;
+    }
+
+    /** @copydoc DirectBufferPool::toDoubleBuffer(Buffer,DoubleBuffer,int) */
+    static FloatBuffer toFloatBuffer(Buffer dst, FloatBuffer buf, int size) {
+        if (dst == buf) {
+            buf.position(0);
+            return buf;
+        }
+        ByteBuffer byteBuf = (ByteBuffer)dst;
+        byteBuf.limit(size * 4);
+        FloatBuffer src = byteBuf.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        if (!isWritable(buf, size)) {
+            return src;
+        }
+        buf.clear();
+        buf.put(src);
+        buf.position(0);
+        release(byteBuf);
+        return buf;
+    }
+
+    /** @copydoc DirectBufferPool::toDoubleBuffer(Buffer,DoubleBuffer,int) */
+    static IntBuffer toIntBuffer(Buffer dst, IntBuffer buf, int size) {
+        if (dst == buf) {
+            buf.position(0);
+            return buf;
+        }
+        ByteBuffer byteBuf = (ByteBuffer)dst;
+        byteBuf.limit(size * 4);
+        IntBuffer src = byteBuf.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        if (!isWritable(buf, size)) {
+            return src;
+        }
+        buf.clear();
+        buf.put(src);
+        buf.position(0);
+        release(byteBuf);
+        return buf;
+    }
+
+    /**
+     * Returns the buffer that can be passed to the native side to fill it with the block of data:
+     * the buffer provided by the caller if it is a direct little-endian buffer of sufficient size,
+     * the buffer from the pool if the block can be copied into the buffer provided by the caller,
+     * or the newly allocated direct buffer that is returned to the caller otherwise
+     *
+     * @param buf       Buffer provided by the caller, can be null
+     * @param size      Number of elements in the block
+     * @param elemSize  Size of an element in bytes
+     * @return Buffer to be filled on the native side
+     */
+    static Buffer getDestination(Buffer buf, int size, int elemSize) {
+        if (isDirectDestination(buf, size)) {
+            buf.clear();
+            buf.limit(size);
+            return buf;
+        }
+        if (isWritable(buf, size)) {
+            return acquire((long)size * elemSize);
+        }
+        return ByteBuffer.allocateDirect(size * elemSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the direct little-endian buffer that contains the first size elements of the given buffer.
+     * If the given buffer is such a buffer itself, it is returned without copying
+     *
+     * @param buf       Buffer with the block of doubles
+     * @param size      Number of elements in the block
+     * @return Buffer to be passed to the native side
+     */
+    static Buffer getSource(DoubleBuffer buf, int size) {
+        if (isDirectDestination(buf, size)) {
+            return buf;
+        }
+        ByteBuffer byteBuf = acquire((long)size * 8);
+        DoubleBuffer src = buf.duplicate();
+        src.position(0);
+        src.limit(size);
+        byteBuf.asDoubleBuffer().put(src);
+        return byteBuf;
+    }
+
+    /** @copydoc DirectBufferPool::getSource(DoubleBuffer,int) */
+    static Buffer getSource(FloatBuffer buf, int size) {
+        if (isDirectDestination(buf, size)) {
+            return buf;
+        }
+        ByteBuffer byteBuf = acquire((long)size * 4);
+        FloatBuffer src = buf.duplicate();
+        src.position(0);
+        src.limit(size);
+        byteBuf.asFloatBuffer().put(src);
+        return byteBuf;
+    }
+
+    /** @copydoc DirectBufferPool::getSource(DoubleBuffer,int) */
+    static Buffer getSource(IntBuffer buf, int size) {
+        if (isDirectDestination(buf, size)) {
+            return buf;
+        }
+        ByteBuffer byteBuf = acquire((long)size * 4);
+        IntBuffer src = buf.duplicate();
+        src.position(0);
+        src.limit(size);
+        byteBuf.asIntBuffer().put(src);
+        return byteBuf;
+    }
+
+    /**
+     * Returns the temporary buffer returned by getSource() to the pool of the current thread
+     *
+     * @param source    Buffer returned by getSource()
+     * @param buf       Buffer passed by the user to the release method
+     */
+    static void releaseSource(Buffer source, Buffer buf) {
+        if (source != buf && source instanceof ByteBuffer) {
+            release((ByteBuffer)source);
+        }
+    }
+
+    private static boolean isWritable(Buffer buf, int size) {
+        return buf != null && !buf.isReadOnly() && buf.capacity() >= size;
+    }
+
+    private static boolean isDirectDestination(Buffer buf, int size) {
+        if (buf == null || !buf.isDirect() || buf.isReadOnly() || buf.capacity() < size) {
+            return false;
+        }
+        if (buf instanceof DoubleBuffer) { return ((DoubleBuffer)buf).order() == ByteOrder.LITTLE_ENDIAN; }
+        if (buf instanceof FloatBuffer)  { return ((FloatBuffer)buf).order()  == ByteOrder.LITTLE_ENDIAN; }
+        if (buf instanceof IntBuffer)    { return ((IntBuffer)buf).order()    == ByteOrder.LITTLE_ENDIAN; }
+        return false;
+    }
+
+    private static int sizeClass(int nBytes) {
+        int sizeClass = 32 - Integer.numberOfLeadingZeros(nBytes > 1 ? nBytes - 1 : 1);
+        return (sizeClass < minSizeClass) ? minSizeClass : sizeClass;
+    }
+
+    private ByteBuffer acquireBuffer(int nBytes) {
+        int sizeClass = sizeClass(nBytes);
+        ByteBuffer buf = null;
+        if (sizeClass <= maxSizeClass) {
+            buf = freeBuffers.get(sizeClass - minSizeClass).pollFirst();
+            if (buf == null) {
+                buf = ByteBuffer.allocateDirect(1 << sizeClass);
+            }
+        } else {
+            buf = ByteBuffer.allocateDirect(nBytes);
+        }
+        buf.clear();
+        buf.limit(nBytes);
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        return buf;
+    }
+
+    private void releaseBuffer(ByteBuffer buf) {
+        int capacity = buf.capacity();
+        if (!buf.isDirect() || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        if (sizeClass < minSizeClass || sizeClass > maxSizeClass) {
+            return;
+        }
+        ArrayDeque<ByteBuffer> free = freeBuffers.get(sizeClass - minSizeClass);
+        if (free.size() < maxBuffersPerClass) {
+            free.addFirst(buf);
+        }
+    }
+}
+/** @} */
@@ -62,6 +62,8 @@ import com.intel.daal.services.DaalContext;
  *        contain values of individual features.
  */
 public class HomogenNumericTable extends NumericTable {
+    private static final long serialVersionUID = -5575985323761436854L;
+
 
     /** @private */
     static {
@@ -634,6 +636,26 @@ public class HomogenNumericTable extends NumericTable {
         return ((HomogenNumericTableImpl)tableImpl).getLongArray();
     }
 
+    /**
+     * Gets the memory of the table as a sequence of direct buffers without copying.
+     * Each segment contains whole rows and does not exceed 1 gigabyte.
+     * Modifications of the segments are visible in the table
+     * @return Table data as a segmented buffer, or null if the table data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments() {
+        return ((HomogenNumericTableImpl)tableImpl).getDataSegments(SegmentedBuffer.defaultSegmentSize);
+    }
+
+    /**
+     * Gets the memory of the table as a sequence of direct buffers without copying.
+     * Each segment contains whole rows. Modifications of the segments are visible in the table
+     * @param maxSegmentSize Maximal size of a segment in bytes
+     * @return Table data as a segmented buffer, or null if the table data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return ((HomogenNumericTableImpl)tableImpl).getDataSegments(maxSegmentSize);
+    }
+
     /**
      * Gets data as an Object
      * @return Table data as an Object
@@ -649,5 +671,33 @@ public class HomogenNumericTable extends NumericTable {
     public Class<? extends Number> getNumericType() {
         return ((HomogenNumericTableImpl)tableImpl).getNumericType();
     }
+
+    /**
+     * Enables the native copy of the table data stored on Java side.
+     * The data is transferred to the native memory once, on the first access from the library,
+     * and blocks of rows are then returned to the algorithms without calls to Java methods.
+     * The copy requires additional memory of the size of the table.
+     * Has no effect for the tables with data stored in the native memory
+     */
+    public void enableNativeMirror() {
+        ((HomogenNumericTableImpl)tableImpl).enableNativeMirror();
+    }
+
+    /**
+     * Disables the native copy of the table data and frees the memory allocated for it.
+     * Must not be called while the table is used by an algorithm
+     */
+    public void disableNativeMirror() {
+        ((HomogenNumericTableImpl)tableImpl).disableNativeMirror();
+    }
+
+    /**
+     * Marks the native copy of the table data as outdated.
+     * Must be called after the array passed to the constructor of the table is modified directly.
+     * Modifications made via the methods of the table are tracked automatically
+     */
+    public void invalidateNativeMirror() {
+        ((HomogenNumericTableImpl)tableImpl).invalidateNativeMirror();
+    }
 }
 /** @} */
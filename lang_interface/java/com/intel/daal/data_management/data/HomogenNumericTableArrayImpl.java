@@ -61,6 +61,8 @@ import com.intel.daal.SerializationTag;
  *        of a homogen numeric table with data stored as array of primitives
  */
 class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
+    private static final long serialVersionUID = 5039688763747861569L;
+
 
     /** @private */
     static {
@@ -135,6 +137,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
                 data[i] = constValue;
             }
         }
+        onDataChanged();
     }
 
     /** @copydoc HomogenNumericTable::assign(int) */
@@ -153,6 +156,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
                 data[i] = constValue;
             }
         }
+        onDataChanged();
     }
 
     /** @copydoc HomogenNumericTable::assign(double) */
@@ -171,6 +175,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
                 data[i] = constValue;
             }
         }
+        onDataChanged();
     }
 
     /** @copydoc HomogenNumericTable::assign(float) */
@@ -189,6 +194,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
                 data[i] = constValue;
             }
         }
+        onDataChanged();
     }
 
     /** @copydoc NumericTable::getBlockOfRows(long,long,DoubleBuffer) */
@@ -299,6 +305,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         DataFeature df = dict.getFeature(0);
         DataFeatureUtils.VectorDownCastIface vectorDownCast = DataFeatureUtils.VectorDownCast.getCast(double.class, df.type);
         vectorDownCast.downCast(bufferSize, shift, buf, jData);
+        onDataChanged();
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,FloatBuffer) */
@@ -313,6 +320,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         DataFeature df = dict.getFeature(0);
         DataFeatureUtils.VectorDownCastIface vectorDownCast = DataFeatureUtils.VectorDownCast.getCast(float.class, df.type);
         vectorDownCast.downCast(bufferSize, shift, buf, jData);
+        onDataChanged();
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,IntBuffer) */
@@ -327,6 +335,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         DataFeature df = dict.getFeature(0);
         DataFeatureUtils.VectorDownCastIface vectorDownCast = DataFeatureUtils.VectorDownCast.getCast(int.class, df.type);
         vectorDownCast.downCast(bufferSize, shift, buf, jData);
+        onDataChanged();
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,DoubleBuffer) */
@@ -341,6 +350,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         DataFeature df = dict.getFeature((int)featureIndex);
         DataFeatureUtils.VectorDownCastIface vectorDownCast = DataFeatureUtils.VectorDownCast.getCast(double.class, df.type);
         vectorDownCast.downCastWithStride(bufferSize, shift, nColumns, buf, jData);
+        onDataChanged();
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,FloatBuffer) */
@@ -355,6 +365,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         DataFeature df = dict.getFeature((int)featureIndex);
         DataFeatureUtils.VectorDownCastIface vectorDownCast = DataFeatureUtils.VectorDownCast.getCast(float.class, df.type);
         vectorDownCast.downCastWithStride(bufferSize, shift, nColumns, buf, jData);
+        onDataChanged();
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,IntBuffer) */
@@ -369,6 +380,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         DataFeature df = dict.getFeature((int)featureIndex);
         DataFeatureUtils.VectorDownCastIface vectorDownCast = DataFeatureUtils.VectorDownCast.getCast(int.class, df.type);
         vectorDownCast.downCastWithStride(bufferSize, shift, nColumns, buf, jData);
+        onDataChanged();
     }
 
     /** @copydoc HomogenNumericTable::getDoubleArray() */
@@ -454,6 +466,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
      */
     public void set(long row, long column, double value) {
         java.lang.reflect.Array.setDouble(jData, (int)(row * getNumberOfColumns() + column), value);
+        onDataChanged();
     }
 
     /**
@@ -464,6 +477,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
      */
     public void set(long row, long column, float value) {
         java.lang.reflect.Array.setFloat(jData, (int)(row * getNumberOfColumns() + column), value);
+        onDataChanged();
     }
 
     /**
@@ -474,6 +488,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
      */
     public void set(long row, long column, long value) {
         java.lang.reflect.Array.setLong(jData, (int)(row * getNumberOfColumns() + column), value);
+        onDataChanged();
     }
 
     /**
@@ -484,6 +499,7 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
      */
     public void set(long row, long column, int value) {
         java.lang.reflect.Array.setInt(jData, (int)(row * getNumberOfColumns() + column), value);
+        onDataChanged();
     }
 
     /**
@@ -522,6 +538,36 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         return java.lang.reflect.Array.getInt(jData, (int)(row * getNumberOfColumns() + column));
     }
 
+    /** @copydoc HomogenNumericTable::enableNativeMirror() */
+    @Override
+    public void enableNativeMirror() {
+        checkCObject();
+        cSetNativeMirrorEnabled(cObject, true);
+        nativeMirrorEnabled = true;
+    }
+
+    /** @copydoc HomogenNumericTable::disableNativeMirror() */
+    @Override
+    public void disableNativeMirror() {
+        checkCObject();
+        cSetNativeMirrorEnabled(cObject, false);
+        nativeMirrorEnabled = false;
+    }
+
+    /** @copydoc HomogenNumericTable::invalidateNativeMirror() */
+    @Override
+    public void invalidateNativeMirror() {
+        if (cObject != 0) {
+            cInvalidateNativeMirror(cObject);
+        }
+    }
+
+    private void onDataChanged() {
+        if (nativeMirrorEnabled) {
+            invalidateNativeMirror();
+        }
+    }
+
     /** @copydoc NumericTable::allocateDataMemory() */
     @Override
     public void allocateDataMemory() {
@@ -575,6 +621,12 @@ class HomogenNumericTableArrayImpl extends HomogenNumericTableImpl {
         dataAllocatedInJava = true;
     }
 
+    private native void cSetNativeMirrorEnabled(long cObject, boolean enable);
+    private native void cInvalidateNativeMirror(long cObject);
+
+    /* True if the native copy of the table data is used by the library */
+    private transient boolean nativeMirrorEnabled = false;
+
     @Override
     protected void onUnpack(DaalContext context) {
         if (cObject == 0) {
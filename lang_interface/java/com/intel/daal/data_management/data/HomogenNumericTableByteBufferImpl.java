@@ -45,6 +45,7 @@
  */
 package com.intel.daal.data_management.data;
 
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
@@ -60,8 +61,11 @@ import com.intel.daal.services.DaalContext;
  *        of a homogen numeric table with data stored in a native C++ numeric table
  */
 class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
+    private static final long serialVersionUID = 2248232747350133351L;
+
 
     private static final long maxBufferSize = 2147483647;
+    private static final long maxArraySize  = 2147483639;
 
     /** @private */
     static {
@@ -189,10 +193,9 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         if (bufferSize * 8 > maxBufferSize) {
             throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
         }
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 8) /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asDoubleBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 8 /* sizeof(double) */);
+        getDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toDoubleBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc NumericTable::getBlockOfRows(long,long,FloatBuffer) */
@@ -207,10 +210,9 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         if (bufferSize * 4 > maxBufferSize) {
             throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
         }
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asFloatBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 4 /* sizeof(float) */);
+        getFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toFloatBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc NumericTable::getBlockOfRows(long,long,IntBuffer) */
@@ -225,10 +227,9 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         if (bufferSize * 4> maxBufferSize) {
             throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
         }
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getIntBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asIntBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 4 /* sizeof(int) */);
+        getIntBlockBuffer(getCObject(), vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toIntBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,DoubleBuffer) */
@@ -243,10 +244,9 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         if (bufferSize * 8 > maxBufferSize) {
             throw new IllegalArgumentException("size of the block of column values cannot exceed 2 gigabytes");
         }
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 8) /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asDoubleBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 8 /* sizeof(double) */);
+        getDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toDoubleBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,FloatBuffer) */
@@ -261,10 +261,9 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         if (bufferSize * 4 > maxBufferSize) {
             throw new IllegalArgumentException("size of the block of column values cannot exceed 2 gigabytes");
         }
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asFloatBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 4 /* sizeof(float) */);
+        getFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toFloatBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,IntBuffer) */
@@ -279,10 +278,9 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         if (bufferSize * 4 > maxBufferSize) {
             throw new IllegalArgumentException("size of the block of column values cannot exceed 2 gigabytes");
         }
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asIntBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 4 /* sizeof(int) */);
+        getIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toIntBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,DoubleBuffer) */
@@ -297,14 +295,10 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
             throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
         }
 
-        double[] data = new double[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 8) /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asDoubleBuffer().put(data);
-        releaseDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,FloatBuffer) */
@@ -319,14 +313,10 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
             throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
         }
 
-        float[] data = new float[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asFloatBuffer().put(data);
-        releaseFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,IntBuffer) */
@@ -341,14 +331,10 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
             throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
         }
 
-        int[] data = new int[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asIntBuffer().put(data);
-        releaseIntBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseIntBlockBuffer(getCObject(), vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,DoubleBuffer) */
@@ -362,14 +348,10 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
             throw new IllegalArgumentException("size of the block of column values cannot exceed 2 gigabytes");
         }
 
-        double[] data = new double[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 8) /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asDoubleBuffer().put(data);
-        releaseDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,FloatBuffer) */
@@ -383,14 +365,10 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
             throw new IllegalArgumentException("size of the block of column values cannot exceed 2 gigabytes");
         }
 
-        float[] data = new float[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asFloatBuffer().put(data);
-        releaseFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,IntBuffer) */
@@ -404,14 +382,10 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
             throw new IllegalArgumentException("size of the block of column values cannot exceed 2 gigabytes");
         }
 
-        int[] data = new int[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4) /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asIntBuffer().put(data);
-        releaseIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc HomogenNumericTable::getDoubleArray() */
@@ -419,6 +393,16 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
     public double[] getDoubleArray() {
         checkCObject();
 
+        long size = getNumberOfRows() * getNumberOfColumns();
+        if (size * 8 > maxBufferSize) {
+            SegmentedBuffer segments = getArraySegments(Double.class, size);
+            double[] buffer = new double[(int)size];
+            for (int i = 0; i < segments.getNumberOfSegments(); i++) {
+                segments.getDoubleSegment(i).get(buffer, (int)segments.getSegmentOffset(i), (int)segments.getSegmentSize(i));
+            }
+            return buffer;
+        }
+
         ByteBuffer byteBuffer = getDoubleBuffer(getCObject());
         byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
         DoubleBuffer doubleBuffer = byteBuffer.asDoubleBuffer();
@@ -435,6 +419,16 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
     public float[] getFloatArray() {
         checkCObject();
 
+        long size = getNumberOfRows() * getNumberOfColumns();
+        if (size * 4 > maxBufferSize) {
+            SegmentedBuffer segments = getArraySegments(Float.class, size);
+            float[] buffer = new float[(int)size];
+            for (int i = 0; i < segments.getNumberOfSegments(); i++) {
+                segments.getFloatSegment(i).get(buffer, (int)segments.getSegmentOffset(i), (int)segments.getSegmentSize(i));
+            }
+            return buffer;
+        }
+
         ByteBuffer byteBuffer = getFloatBuffer(getCObject());
         byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
         FloatBuffer floatBuffer = byteBuffer.asFloatBuffer();
@@ -462,6 +456,20 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         return buffer;
     }
 
+    /** @copydoc HomogenNumericTable::getDataSegments(long) */
+    @Override
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        checkCObject();
+
+        long nColumns = getNumberOfColumns();
+        long rowsPerSegment = SegmentedBuffer.getUnitsPerSegment(nColumns, SegmentedBuffer.getElementSize(type), maxSegmentSize);
+        ByteBuffer[] segments = cGetDataSegments(getCObject(), rowsPerSegment * nColumns * SegmentedBuffer.getElementSize(type));
+        if (segments == null) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+        return new SegmentedBuffer(type, segments);
+    }
+
     /** @copydoc HomogenNumericTable::getDataObject() */
     @Override
     public Object getDataObject() {
@@ -474,6 +482,17 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
         return null;
     }
 
+    /* Returns the segments of the table data that are copied into a Java array of the given type and size */
+    private SegmentedBuffer getArraySegments(Class<? extends Number> cls, long size) {
+        if (size > maxArraySize) {
+            throw new IllegalArgumentException("size of the table exceeds the maximal size of a Java array, use getDataSegments() instead");
+        }
+        if (type != cls) {
+            throw new IllegalArgumentException("type of the table data differs from the type of the array");
+        }
+        return getDataSegments(SegmentedBuffer.defaultSegmentSize);
+    }
+
     /** @copydoc NumericTableImpl::getNumberOfColumns() */
     @Override
     public long getNumberOfColumns() {
@@ -667,26 +686,29 @@ class HomogenNumericTableByteBufferImpl extends HomogenNumericTableImpl {
     private native ByteBuffer getLongBuffer(long cObject);
     private native ByteBuffer getIntBuffer(long cObject);
 
-    private native ByteBuffer getDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native ByteBuffer getFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native ByteBuffer getIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    /* Gets NIO buffers that share the memory of the C++ numeric table */
+    private native ByteBuffer[] cGetDataSegments(long cObject, long segmentSize);
+
+    private native Buffer getDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
+    private native Buffer getFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
+    private native Buffer getIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native void releaseDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native void releaseFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native void releaseIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native void releaseDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
+    private native void releaseFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
+    private native void releaseIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
     private native void assignLong(long cObject, long constValue);
     private native void assignInt(long cObject, int constValue);
     private native void assignDouble(long cObject, double constValue);
     private native void assignFloat(long cObject, float constValue);
 
-    private native ByteBuffer getDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native ByteBuffer getFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native ByteBuffer getIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native Buffer getDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native Buffer getFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native Buffer getIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native void releaseDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native void releaseFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native void releaseIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native void releaseDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native void releaseFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native void releaseIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
 
     private native void cSetDouble(long row, long column, double value);
     private native void cSetFloat(long row, long column, float value);
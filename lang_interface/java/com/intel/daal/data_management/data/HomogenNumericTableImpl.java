@@ -53,6 +53,8 @@ import com.intel.daal.services.DaalContext;
  *        different implementations of a homogen numeric table
  */
 abstract class HomogenNumericTableImpl extends NumericTableImpl {
+    private static final long serialVersionUID = 854572411376268488L;
+
     protected Class<? extends Number> type;
 
     /** @private */
@@ -101,5 +103,19 @@ abstract class HomogenNumericTableImpl extends NumericTableImpl {
     abstract public long getLong(long row, long column);
 
     abstract public int getInt(long row, long column);
+
+    /** @copydoc HomogenNumericTable::getDataSegments(long) */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return null;
+    }
+
+    /** @copydoc HomogenNumericTable::enableNativeMirror() */
+    public void enableNativeMirror() {}
+
+    /** @copydoc HomogenNumericTable::disableNativeMirror() */
+    public void disableNativeMirror() {}
+
+    /** @copydoc HomogenNumericTable::invalidateNativeMirror() */
+    public void invalidateNativeMirror() {}
 }
 /** @} */
@@ -60,6 +60,8 @@ import com.intel.daal.services.DaalContext;
  *        access the data that is stored as a contiguous homogeneous array.
  */
 public class HomogenTensor extends Tensor {
+    private static final long serialVersionUID = -3468206633302279053L;
+
 
     /** @private */
     static {
@@ -223,6 +225,27 @@ public class HomogenTensor extends Tensor {
         ((HomogenTensorImpl)tensorImpl).releaseSubtensor(fixedDims, rangeDimIdx, rangeDimNum, buf);
     }
 
+    /**
+     * Gets the memory of the tensor as a sequence of direct buffers without copying.
+     * Each segment contains whole slices along the first dimension, if such a slice
+     * does not exceed 1 gigabyte, and does not exceed 1 gigabyte itself.
+     * Modifications of the segments are visible in the tensor
+     * @return Tensor data as a segmented buffer, or null if the tensor data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments() {
+        return ((HomogenTensorImpl)tensorImpl).getDataSegments(SegmentedBuffer.defaultSegmentSize);
+    }
+
+    /**
+     * Gets the memory of the tensor as a sequence of direct buffers without copying.
+     * Modifications of the segments are visible in the tensor
+     * @param maxSegmentSize Maximal size of a segment in bytes
+     * @return Tensor data as a segmented buffer, or null if the tensor data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return ((HomogenTensorImpl)tensorImpl).getDataSegments(maxSegmentSize);
+    }
+
     /**
      * Gets data as an Object
      * @return Tensor data as an Object
@@ -45,8 +45,8 @@
  */
 package com.intel.daal.data_management.data;
 
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
@@ -59,6 +59,8 @@ import com.intel.daal.services.DaalContext;
  *        of a homogen tensor with data stored in a native C++ tensor
  */
 class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
+    private static final long serialVersionUID = -2834268317302571354L;
+
 
     private static final long maxBufferSize = 2147483647;
 
@@ -95,17 +97,15 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
         checkCObject();
 
         long[] sizeShift = sizeAndShift(fixedDims, rangeDimIdx, rangeDimNum);
-        long bufferSize = sizeShift[0] * 8;
+        long bufferSize = sizeShift[0];
 
         // Gets data from C++ Tensor object
-        if (bufferSize > maxBufferSize) {
-            throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
+        if (bufferSize * 8 > maxBufferSize) {
+            throw new IllegalArgumentException("size of the subtensor cannot exceed 2 gigabytes");
         }
-
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize));
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getDoubleSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, byteBuf);
-        return byteBuf.asDoubleBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 8 /* sizeof(double) */);
+        getDoubleSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, dst);
+        return DirectBufferPool.toDoubleBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc Tensor::getSubtensor(long,long,FloatBuffer) */
@@ -114,17 +114,15 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
         checkCObject();
 
         long[] sizeShift = sizeAndShift(fixedDims, rangeDimIdx, rangeDimNum);
-        long bufferSize = sizeShift[0] * 4;
+        long bufferSize = sizeShift[0];
 
         // Gets data from C++ Tensor object
-        if (bufferSize > maxBufferSize) {
-            throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
+        if (bufferSize * 4 > maxBufferSize) {
+            throw new IllegalArgumentException("size of the subtensor cannot exceed 2 gigabytes");
         }
-
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize));
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getFloatSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, byteBuf);
-        return byteBuf.asFloatBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 4 /* sizeof(float) */);
+        getFloatSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, dst);
+        return DirectBufferPool.toFloatBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc Tensor::getSubtensor(long,long,IntBuffer) */
@@ -133,17 +131,15 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
         checkCObject();
 
         long[] sizeShift = sizeAndShift(fixedDims, rangeDimIdx, rangeDimNum);
-        long bufferSize = sizeShift[0] * 4;
+        long bufferSize = sizeShift[0];
 
         // Gets data from C++ Tensor object
-        if (bufferSize > maxBufferSize) {
-            throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
+        if (bufferSize * 4 > maxBufferSize) {
+            throw new IllegalArgumentException("size of the subtensor cannot exceed 2 gigabytes");
         }
-
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize));
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getIntSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, byteBuf);
-        return byteBuf.asIntBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, DirectBufferPool.elementCount(bufferSize), 4 /* sizeof(int) */);
+        getIntSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, dst);
+        return DirectBufferPool.toIntBuffer(dst, buf, DirectBufferPool.elementCount(bufferSize));
     }
 
     /** @copydoc Tensor::releaseSubtensor(long,long,DoubleBuffer) */
@@ -152,21 +148,16 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
         checkCObject();
 
         long[] sizeShift = sizeAndShift(fixedDims, rangeDimIdx, rangeDimNum);
-        long bufferSize = sizeShift[0] * 8;
+        long bufferSize = sizeShift[0];
 
-        // Gets data from C++ Tensor object
-        if (bufferSize > maxBufferSize) {
-            throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
+        if (bufferSize * 8 > maxBufferSize) {
+            throw new IllegalArgumentException("size of the subtensor cannot exceed 2 gigabytes");
         }
 
-        double[] data = new double[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ Tensor object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 8));
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asDoubleBuffer().put(data);
-        releaseDoubleSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, byteBuf);
+        // Copies data to C++ Tensor object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseDoubleSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc Tensor::releaseSubtensor(long,long,FloatBuffer) */
@@ -175,21 +166,16 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
         checkCObject();
 
         long[] sizeShift = sizeAndShift(fixedDims, rangeDimIdx, rangeDimNum);
-        long bufferSize = sizeShift[0] * 8;
+        long bufferSize = sizeShift[0];
 
-        // Gets data from C++ Tensor object
-        if (bufferSize > maxBufferSize) {
-            throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
+        if (bufferSize * 4 > maxBufferSize) {
+            throw new IllegalArgumentException("size of the subtensor cannot exceed 2 gigabytes");
         }
 
-        float[] data = new float[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ Tensor object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4));
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asFloatBuffer().put(data);
-        releaseFloatSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, byteBuf);
+        // Copies data to C++ Tensor object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseFloatSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc Tensor::releaseSubtensor(long,long,IntBuffer) */
@@ -198,21 +184,35 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
         checkCObject();
 
         long[] sizeShift = sizeAndShift(fixedDims, rangeDimIdx, rangeDimNum);
-        long bufferSize = sizeShift[0] * 8;
+        long bufferSize = sizeShift[0];
 
-        // Gets data from C++ Tensor object
-        if (bufferSize > maxBufferSize) {
-            throw new IllegalArgumentException("size of the block of rows cannot exceed 2 gigabytes");
+        if (bufferSize * 4 > maxBufferSize) {
+            throw new IllegalArgumentException("size of the subtensor cannot exceed 2 gigabytes");
         }
 
-        int[] data = new int[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ Tensor object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect((int)(bufferSize * 4));
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asIntBuffer().put(data);
-        releaseIntSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, byteBuf);
+        // Copies data to C++ Tensor object
+        Buffer src = DirectBufferPool.getSource(buf, DirectBufferPool.elementCount(bufferSize));
+        releaseIntSubtensorBuffer(getCObject(), fixedDims, rangeDimIdx, rangeDimNum, src);
+        DirectBufferPool.releaseSource(src, buf);
+    }
+
+    /** @copydoc HomogenTensor::getDataSegments(long) */
+    @Override
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        checkCObject();
+
+        int elementSize = SegmentedBuffer.getElementSize(type);
+        long[] dims = getDimensions();
+        long sliceSize = (dims.length > 0 && dims[0] > 0) ? getSize() / dims[0] : 1;
+        if (sliceSize * elementSize > maxSegmentSize) {
+            sliceSize = 1;
+        }
+        long slicesPerSegment = SegmentedBuffer.getUnitsPerSegment(sliceSize, elementSize, maxSegmentSize);
+        ByteBuffer[] segments = cGetDataSegments(getCObject(), slicesPerSegment * sliceSize * elementSize);
+        if (segments == null) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+        return new SegmentedBuffer(type, segments);
     }
 
     /** @copydoc HomogenTensor::getDataObject() */
@@ -255,7 +255,7 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
             shift += rangeDimIdx * offsets[fixedDims.length];
 
             size = rangeDimNum;
-            for( int i=(int)(rangeDimIdx+1); i<nDim; i++ )
+            for( int i=fixedDims.length+1; i<nDim; i++ )
             {
                 size *= dims[i];
             }
@@ -268,12 +268,15 @@ class HomogenTensorByteBufferImpl extends HomogenTensorImpl {
     private native int getIndexType(long cObject);
 
     /* Gets NIO buffer containing data of the C++ tensor */
-    private native ByteBuffer getDoubleSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, ByteBuffer buffer);
-    private native ByteBuffer getFloatSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, ByteBuffer buffer);
-    private native ByteBuffer getIntSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, ByteBuffer buffer);
+    private native Buffer getDoubleSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, Buffer buffer);
+    private native Buffer getFloatSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, Buffer buffer);
+    private native Buffer getIntSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, Buffer buffer);
+
+    private native void releaseDoubleSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, Buffer buffer);
+    private native void releaseFloatSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, Buffer buffer);
+    private native void releaseIntSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, Buffer buffer);
 
-    private native void releaseDoubleSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, ByteBuffer buffer);
-    private native void releaseFloatSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, ByteBuffer buffer);
-    private native void releaseIntSubtensorBuffer(long cObject, long[] fixedDims, long rangeDimIdx, long rangeDimNum, ByteBuffer buffer);
+    /* Gets NIO buffers that share the memory of the C++ tensor */
+    private native ByteBuffer[] cGetDataSegments(long cObject, long segmentSize);
 }
 /** @} */
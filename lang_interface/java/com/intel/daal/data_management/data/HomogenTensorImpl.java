@@ -52,6 +52,8 @@ import com.intel.daal.services.DaalContext;
  *        different implementations of a homogen tensor
  */
 abstract class HomogenTensorImpl extends TensorImpl {
+    private static final long serialVersionUID = 9151432044745227120L;
+
     protected Class<? extends Number> type;
 
     /** @private */
@@ -70,5 +72,10 @@ abstract class HomogenTensorImpl extends TensorImpl {
     abstract public Object getDataObject();
 
     abstract public Class<? extends Number> getNumericType();
+
+    /** @copydoc HomogenTensor::getDataSegments(long) */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return null;
+    }
 }
 /** @} */
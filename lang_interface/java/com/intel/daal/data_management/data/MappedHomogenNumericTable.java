@@ -0,0 +1,169 @@
+/* file: MappedHomogenNumericTable.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup numeric_tables
+ * @{
+ */
+package com.intel.daal.data_management.data;
+
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-DATA_MANAGEMENT__DATA__MAPPEDHOMOGENNUMERICTABLE"></a>
+ * @brief Homogeneous numeric table with data stored in a memory-mapped binary file.
+ *        The file is mapped into the address space of the process, so that the table is opened without reading
+ *        the data, and the data is paged in by the operating system when the rows are accessed.
+ *        The table can be used as an input of any algorithm that accepts homogeneous numeric tables.
+ *
+ *        The file consists of the 64-byte header followed by the table data stored row by row in the little-endian
+ *        byte order. The header contains the following little-endian fields: the signature 0x544E4844 (int),
+ *        the version of the format equal to 1 (int), the type of the values as defined by DataFeatureUtils.IndexNumType (int),
+ *        the reserved field (int), the number of rows (long), the number of columns (long) and the offset of the data
+ *        from the beginning of the file (long)
+ */
+public class MappedHomogenNumericTable extends HomogenNumericTable {
+
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /**
+     * Opens the numeric table stored in the file for reading.
+     * The pages of the file are shared between all the processes that map the file.
+     * Modifications of the table are private to the process and are not written to the file
+     *
+     * @param context   Context to manage the numeric table
+     * @param fileName  Name of the file
+     */
+    public MappedHomogenNumericTable(DaalContext context, String fileName) {
+        this(context, fileName, false);
+    }
+
+    /**
+     * Opens the numeric table stored in the file
+     *
+     * @param context   Context to manage the numeric table
+     * @param fileName  Name of the file
+     * @param writable  If true, modifications of the table are written to the file,
+     *                  otherwise modifications are private to the process
+     */
+    public MappedHomogenNumericTable(DaalContext context, String fileName, boolean writable) {
+        super(context, cOpen(fileName, writable));
+    }
+
+    private MappedHomogenNumericTable(DaalContext context, long cTable) {
+        super(context, cTable);
+    }
+
+    /**
+     * Creates the file of the given size and opens it as the numeric table for writing.
+     * Existing file with the same name is overwritten
+     *
+     * @param context   Context to manage the numeric table
+     * @param fileName  Name of the file
+     * @param cls       Numeric type of values in the table: Double.class, Float.class, Long.class or Integer.class
+     * @param nColumns  Number of columns in the table
+     * @param nRows     Number of rows in the table
+     * @return Numeric table with data stored in the created file
+     */
+    public static MappedHomogenNumericTable create(DaalContext context, String fileName, Class<? extends Number> cls,
+                                                   long nColumns, long nRows) {
+        return new MappedHomogenNumericTable(context, cCreate(fileName, getIndexType(cls).getType(), nColumns, nRows));
+    }
+
+    /**
+     * Writes the numeric table into the file that can be opened as MappedHomogenNumericTable.
+     * The data is copied directly into the mapped memory of the file by blocks of rows
+     *
+     * @param fileName  Name of the file
+     * @param table     Numeric table to write
+     * @param cls       Numeric type of values in the file: Double.class, Float.class or Integer.class
+     */
+    public static void write(String fileName, NumericTable table, Class<? extends Number> cls) {
+        if (cls != Double.class && cls != Float.class && cls != Integer.class) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+        long nRows = table.getNumberOfRows();
+        DaalContext context = new DaalContext();
+        try {
+            MappedHomogenNumericTable mappedTable = create(context, fileName, cls, table.getNumberOfColumns(), nRows);
+            if (nRows > 0) {
+                table.getBlockOfRows(0, nRows, mappedTable.getDataSegments());
+            }
+            mappedTable.flush();
+        } finally {
+            context.dispose();
+        }
+    }
+
+    /**
+     * Writes the modifications of the table opened for writing to the file and waits for the write to complete.
+     * The modifications are also written when the table is released, but the errors of that write are not reported
+     */
+    public void flush() {
+        cFlush(getCObject());
+    }
+
+    private static DataFeatureUtils.IndexNumType getIndexType(Class<? extends Number> cls) {
+        if (cls == Double.class) {
+            return DataFeatureUtils.IndexNumType.DAAL_FLOAT64;
+        } else if (cls == Float.class) {
+            return DataFeatureUtils.IndexNumType.DAAL_FLOAT32;
+        } else if (cls == Long.class) {
+            return DataFeatureUtils.IndexNumType.DAAL_INT64_S;
+        } else if (cls == Integer.class) {
+            return DataFeatureUtils.IndexNumType.DAAL_INT32_S;
+        }
+        throw new IllegalArgumentException("type unsupported");
+    }
+
+    /* Maps the file and creates C++ HomogenNumericTable object over the mapped memory */
+    private static native long cOpen(String fileName, boolean writable);
+
+    /* Creates the file, maps it and creates C++ HomogenNumericTable object over the mapped memory */
+    private static native long cCreate(String fileName, int indexType, long nColumns, long nRows);
+
+    /* Writes the modified pages of the mapped file to the file */
+    private static native void cFlush(long cTable);
+}
+/** @} */
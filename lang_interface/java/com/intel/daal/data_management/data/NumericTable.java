@@ -64,6 +64,8 @@ import com.intel.daal.services.DaalContext;
  *  @brief  Class for the data management component responsible for the representation of the data in a numerical format.
  */
 abstract public class NumericTable extends SerializableBase implements NumericTableDenseIface {
+    private static final long serialVersionUID = -2785275004644335950L;
+
     protected NumericTableImpl tableImpl;
 
     /** @private */
@@ -183,6 +185,9 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
      * @param buf         Buffer to store results
      *
      * @return Block of table rows packed into DoubleBuffer
+     *         or into the buffer owned by the table if buf cannot hold the block.
+     *         The buffer owned by the table is reused for other blocks after the block
+     *         is released and must not be accessed after that
      */
     public DoubleBuffer getBlockOfRows(long vectorIndex, long vectorNum, DoubleBuffer buf) {
         return tableImpl.getBlockOfRows(vectorIndex, vectorNum, buf);
@@ -198,6 +203,9 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
      * @param buf         Buffer to store results
      *
      * @return Block of table rows packed into FloatBuffer
+     *         or into the buffer owned by the table if buf cannot hold the block.
+     *         The buffer owned by the table is reused for other blocks after the block
+     *         is released and must not be accessed after that
      */
     public FloatBuffer getBlockOfRows(long vectorIndex, long vectorNum, FloatBuffer buf) {
         return tableImpl.getBlockOfRows(vectorIndex, vectorNum, buf);
@@ -213,6 +221,9 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
      * @param buf         Buffer to store results
      *
      * @return Block of table rows packed into IntBuffer
+     *         or into the buffer owned by the table if buf cannot hold the block.
+     *         The buffer owned by the table is reused for other blocks after the block
+     *         is released and must not be accessed after that
      */
     public IntBuffer getBlockOfRows(long vectorIndex, long vectorNum, IntBuffer buf) {
         return tableImpl.getBlockOfRows(vectorIndex, vectorNum, buf);
@@ -260,6 +271,36 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
         tableImpl.releaseBlockOfRows(vectorIndex, vectorNum, buf);
     }
 
+    /**
+     * Reads block of rows from the table into the segmented buffer.
+     *        Unlike the methods that use a single NIO buffer, the size of the block is not limited
+     *        to 2 gigabytes. Each segment of the buffer is filled in place
+     *
+     * @param vectorIndex Index of the first row to include into the block
+     * @param vectorNum   Number of rows in the block
+     * @param buf         Buffer to store results, each segment of the buffer must contain whole rows.
+     *                    If null, the buffer of double values is allocated
+     *
+     * @return Block of table rows packed into SegmentedBuffer
+     */
+    public SegmentedBuffer getBlockOfRows(long vectorIndex, long vectorNum, SegmentedBuffer buf) {
+        return tableImpl.getBlockOfRows(vectorIndex, vectorNum, buf);
+    }
+
+    /**
+     * Transfers the data from the input segmented buffer into a block of table rows.
+     *        Unlike the methods that use a single NIO buffer, the size of the block is not limited
+     *        to 2 gigabytes
+     *
+     * @param vectorIndex Index of the first row to include into the block
+     * @param vectorNum   Number of rows in the block
+     * @param buf         Input SegmentedBuffer with at least vectorNum * nColumns values, where
+     *                    nColumns is the number of columns in the table
+     */
+    public void releaseBlockOfRows(long vectorIndex, long vectorNum, SegmentedBuffer buf) {
+        tableImpl.releaseBlockOfRows(vectorIndex, vectorNum, buf);
+    }
+
     /**
      * Gets block of values for a given feature and returns it to
      * java.nio.DoubleBuffer. This function needs to be defined by user
@@ -271,6 +312,9 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
      * @param buf          Buffer to store results
      *
      * @return Block of values of the feature packed into the DoubleBuffer
+     *         or into the buffer owned by the table if buf cannot hold the block.
+     *         The buffer owned by the table is reused for other blocks after the block
+     *         is released and must not be accessed after that
      */
     public DoubleBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum,
             DoubleBuffer buf) {
@@ -288,6 +332,9 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
      * @param buf          Buffer to store results
      *
      * @return Block of values of the feature packed into the FloatBuffer
+     *         or into the buffer owned by the table if buf cannot hold the block.
+     *         The buffer owned by the table is reused for other blocks after the block
+     *         is released and must not be accessed after that
      */
     public FloatBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum,
             FloatBuffer buf) {
@@ -305,6 +352,9 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
      * @param  buf          Buffer to store results
      *
      * @return Block of values of the feature packed into the IntBuffer
+     *         or into the buffer owned by the table if buf cannot hold the block.
+     *         The buffer owned by the table is reused for other blocks after the block
+     *         is released and must not be accessed after that
      */
     public IntBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum,
             IntBuffer buf) {
@@ -532,7 +582,7 @@ abstract public class NumericTable extends SerializableBase implements NumericTa
     @Override
     protected void onPack() {
         if (tableImpl != null) {
-            tableImpl.pack();
+            tableImpl.pack(compressionMethod, compressionLevel);
         }
     }
 
@@ -65,6 +65,8 @@ import com.intel.daal.SerializationTag;
  *  @brief  Class for the data management component responsible for the representation of the data in a numerical format.
  */
 abstract public class NumericTableImpl extends SerializableBase {
+    private static final long serialVersionUID = -2462156100377254304L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
@@ -439,5 +441,94 @@ abstract public class NumericTableImpl extends SerializableBase {
             FloatBuffer buf);
 
     abstract public void releaseBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, IntBuffer buf);
+
+    public SegmentedBuffer getBlockOfRows(long vectorIndex, long vectorNum, SegmentedBuffer buf) {
+        long nColumns = getNumberOfColumns();
+        if (buf == null) {
+            buf = SegmentedBuffer.allocate(Double.class, vectorNum, nColumns);
+        }
+        checkSegmentedBuffer(vectorNum, nColumns, buf);
+
+        Class<? extends Number> type = buf.getNumericType();
+        long rowsLeft = vectorNum;
+        for (int i = 0; i < buf.getNumberOfSegments() && rowsLeft > 0; i++) {
+            long nRows = buf.getSegmentSize(i) / nColumns;
+            if (nRows > rowsLeft) {
+                nRows = rowsLeft;
+            }
+            long rowIndex = vectorIndex + vectorNum - rowsLeft;
+            int size = (int)(nRows * nColumns);
+
+            if (type == Double.class) {
+                DoubleBuffer dst = buf.getDoubleSegment(i);
+                DoubleBuffer res = getBlockOfRows(rowIndex, nRows, dst);
+                if (res != dst) {
+                    res.position(0);
+                    res.limit(size);
+                    dst.put(res);
+                }
+            } else if (type == Float.class) {
+                FloatBuffer dst = buf.getFloatSegment(i);
+                FloatBuffer res = getBlockOfRows(rowIndex, nRows, dst);
+                if (res != dst) {
+                    res.position(0);
+                    res.limit(size);
+                    dst.put(res);
+                }
+            } else {
+                IntBuffer dst = buf.getIntSegment(i);
+                IntBuffer res = getBlockOfRows(rowIndex, nRows, dst);
+                if (res != dst) {
+                    res.position(0);
+                    res.limit(size);
+                    dst.put(res);
+                }
+            }
+            rowsLeft -= nRows;
+        }
+        return buf;
+    }
+
+    public void releaseBlockOfRows(long vectorIndex, long vectorNum, SegmentedBuffer buf) {
+        long nColumns = getNumberOfColumns();
+        checkSegmentedBuffer(vectorNum, nColumns, buf);
+
+        Class<? extends Number> type = buf.getNumericType();
+        long rowsLeft = vectorNum;
+        for (int i = 0; i < buf.getNumberOfSegments() && rowsLeft > 0; i++) {
+            long nRows = buf.getSegmentSize(i) / nColumns;
+            if (nRows > rowsLeft) {
+                nRows = rowsLeft;
+            }
+            long rowIndex = vectorIndex + vectorNum - rowsLeft;
+
+            if (type == Double.class) {
+                releaseBlockOfRows(rowIndex, nRows, buf.getDoubleSegment(i));
+            } else if (type == Float.class) {
+                releaseBlockOfRows(rowIndex, nRows, buf.getFloatSegment(i));
+            } else {
+                releaseBlockOfRows(rowIndex, nRows, buf.getIntSegment(i));
+            }
+            rowsLeft -= nRows;
+        }
+    }
+
+    private static void checkSegmentedBuffer(long vectorNum, long nColumns, SegmentedBuffer buf) {
+        if (nColumns <= 0) {
+            throw new IllegalArgumentException("number of columns must be positive");
+        }
+        Class<? extends Number> type = buf.getNumericType();
+        if (type != Double.class && type != Float.class && type != Integer.class) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+        if (buf.getSize() < vectorNum * nColumns) {
+            throw new IllegalArgumentException("size of the buffer is less than the size of the block of rows");
+        }
+        for (int i = 0; i < buf.getNumberOfSegments(); i++) {
+            if (buf.getSegmentSize(i) % nColumns != 0) {
+                throw new IllegalArgumentException("segments of the buffer must contain whole rows");
+            }
+        }
+    }
 }
 /** @} */
@@ -63,6 +63,8 @@ import com.intel.daal.services.DaalContext;
  * @brief Class that provides methods to access symmetric matrices.
  */
 public class PackedSymmetricMatrix extends NumericTable {
+    private static final long serialVersionUID = -5417466663511108354L;
+
 
     /** @private */
     static {
@@ -340,6 +342,25 @@ public class PackedSymmetricMatrix extends NumericTable {
         ((PackedSymmetricMatrixImpl)tableImpl).releasePackedArray(buf);
     }
 
+    /**
+     * Gets the packed array of the matrix as a sequence of direct buffers without copying.
+     * Each segment does not exceed 1 gigabyte. Modifications of the segments are visible in the matrix
+     * @return Packed array as a segmented buffer, or null if the matrix data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments() {
+        return ((PackedSymmetricMatrixImpl)tableImpl).getDataSegments(SegmentedBuffer.defaultSegmentSize);
+    }
+
+    /**
+     * Gets the packed array of the matrix as a sequence of direct buffers without copying.
+     * Modifications of the segments are visible in the matrix
+     * @param maxSegmentSize Maximal size of a segment in bytes
+     * @return Packed array as a segmented buffer, or null if the matrix data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return ((PackedSymmetricMatrixImpl)tableImpl).getDataSegments(maxSegmentSize);
+    }
+
     /**
      * Gets data as an Object
      * @return Table data as an Object
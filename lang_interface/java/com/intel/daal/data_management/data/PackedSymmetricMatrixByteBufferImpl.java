@@ -45,8 +45,8 @@
  */
 package com.intel.daal.data_management.data;
 
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
@@ -55,6 +55,8 @@ import java.nio.LongBuffer;
 import com.intel.daal.services.DaalContext;
 
 class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
+    private static final long serialVersionUID = -2598546342379012299L;
+
 
     /** @private */
     static {
@@ -122,171 +124,141 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
     @Override
     public DoubleBuffer getBlockOfRows(long vectorIndex, long vectorNum, DoubleBuffer buf) {
         int nColumns = (int) (getNumberOfColumns());
-        int bufferSize = (int) (vectorNum * nColumns);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum * nColumns);
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 8 /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asDoubleBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 8 /* sizeof(double) */);
+        getDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toDoubleBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc NumericTable::getBlockOfRows(long,long,FloatBuffer) */
     @Override
     public FloatBuffer getBlockOfRows(long vectorIndex, long vectorNum, FloatBuffer buf) {
         int nColumns = (int) (getNumberOfColumns());
-        int bufferSize = (int) (vectorNum * nColumns);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum * nColumns);
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asFloatBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 4 /* sizeof(float) */);
+        getFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toFloatBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc NumericTable::getBlockOfRows(long,long,IntBuffer) */
     @Override
     public IntBuffer getBlockOfRows(long vectorIndex, long vectorNum, IntBuffer buf) {
         int nColumns = (int) (getNumberOfColumns());
-        int bufferSize = (int) (vectorNum * nColumns);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum * nColumns);
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getIntBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asIntBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 4 /* sizeof(int) */);
+        getIntBlockBuffer(getCObject(), vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toIntBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,DoubleBuffer) */
     @Override
     public DoubleBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, DoubleBuffer buf) {
         int nColumns = (int) getNumberOfColumns();
-        int bufferSize = (int) vectorNum;
+        int bufferSize = DirectBufferPool.elementCount(vectorNum);
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 8 /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asDoubleBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 8 /* sizeof(double) */);
+        getDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toDoubleBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,FloatBuffer) */
     @Override
     public FloatBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, FloatBuffer buf) {
         int nColumns = (int) getNumberOfColumns();
-        int bufferSize = (int) vectorNum;
+        int bufferSize = DirectBufferPool.elementCount(vectorNum);
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asFloatBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 4 /* sizeof(float) */);
+        getFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toFloatBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc NumericTable::getBlockOfColumnValues(long,long,long,IntBuffer) */
     @Override
     public IntBuffer getBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, IntBuffer buf) {
         int nColumns = (int) getNumberOfColumns();
-        int bufferSize = (int) vectorNum;
+        int bufferSize = DirectBufferPool.elementCount(vectorNum);
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
-        return byteBuf.asIntBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 4 /* sizeof(int) */);
+        getIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, dst);
+        return DirectBufferPool.toIntBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,DoubleBuffer) */
     @Override
     public void releaseBlockOfRows(long vectorIndex, long vectorNum, DoubleBuffer buf) {
         int nColumns = (int) getNumberOfColumns();
-        int bufferSize = (int) (vectorNum * nColumns);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum * nColumns);
 
-        double[] data = new double[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 8 /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asDoubleBuffer().put(data);
-        releaseDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseDoubleBlockBuffer(getCObject(), vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,FloatBuffer) */
     @Override
     public void releaseBlockOfRows(long vectorIndex, long vectorNum, FloatBuffer buf) {
         int nColumns = (int) getNumberOfColumns();
-        int bufferSize = (int) (vectorNum * nColumns);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum * nColumns);
 
-        float[] data = new float[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asFloatBuffer().put(data);
-        releaseFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseFloatBlockBuffer(getCObject(), vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfRows(long,long,IntBuffer) */
     @Override
     public void releaseBlockOfRows(long vectorIndex, long vectorNum, IntBuffer buf) {
         int nColumns = (int) getNumberOfColumns();
-        int bufferSize = (int) (vectorNum * nColumns);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum * nColumns);
 
-        int[] data = new int[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asIntBuffer().put(data);
-        releaseIntBlockBuffer(getCObject(), vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseIntBlockBuffer(getCObject(), vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,DoubleBuffer) */
     @Override
     public void releaseBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, DoubleBuffer buf) {
-        int bufferSize = (int) (vectorNum);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum);
 
-        double[] data = new double[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 8 /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asDoubleBuffer().put(data);
-        releaseDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseDoubleColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,FloatBuffer) */
     @Override
     public void releaseBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, FloatBuffer buf) {
-        int bufferSize = (int) (vectorNum);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum);
 
-        float[] data = new float[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asFloatBuffer().put(data);
-        releaseFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseFloatColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc NumericTable::releaseBlockOfColumnValues(long,long,long,IntBuffer) */
     @Override
     public void releaseBlockOfColumnValues(long featureIndex, long vectorIndex, long vectorNum, IntBuffer buf) {
-        int bufferSize = (int) (vectorNum);
+        int bufferSize = DirectBufferPool.elementCount(vectorNum);
 
-        int[] data = new int[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asIntBuffer().put(data);
-        releaseIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseIntColumnBuffer(getCObject(), featureIndex, vectorIndex, vectorNum, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc PackedSymmetricMatrix::getPackedArray(DoubleBuffer) */
@@ -296,10 +268,9 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
         int bufferSize = (nDim * (nDim + 1)) / 2;
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 8 /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getDoublePackedBuffer(getCObject(), bufferSize, byteBuf);
-        return byteBuf.asDoubleBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 8 /* sizeof(double) */);
+        getDoublePackedBuffer(getCObject(), bufferSize, dst);
+        return DirectBufferPool.toDoubleBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc PackedSymmetricMatrix::getPackedArray(FloatBuffer) */
@@ -309,10 +280,9 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
         int bufferSize = (nDim * (nDim + 1)) / 2;
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getFloatPackedBuffer(getCObject(), bufferSize, byteBuf);
-        return byteBuf.asFloatBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 4 /* sizeof(float) */);
+        getFloatPackedBuffer(getCObject(), bufferSize, dst);
+        return DirectBufferPool.toFloatBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc PackedSymmetricMatrix::getPackedArray(IntBuffer) */
@@ -322,10 +292,9 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
         int bufferSize = (nDim * (nDim + 1)) / 2;
 
         // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf = getIntPackedBuffer(getCObject(), bufferSize, byteBuf);
-        return byteBuf.asIntBuffer();
+        Buffer dst = DirectBufferPool.getDestination(buf, bufferSize, 4 /* sizeof(int) */);
+        getIntPackedBuffer(getCObject(), bufferSize, dst);
+        return DirectBufferPool.toIntBuffer(dst, buf, bufferSize);
     }
 
     /** @copydoc PackedSymmetricMatrix::releasePackedArray(DoubleBuffer) */
@@ -334,14 +303,10 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
         int nDim = (int) getNumberOfColumns();
         int bufferSize = (nDim * (nDim + 1)) / 2;
 
-        double[] data = new double[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 8 /* sizeof(double) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asDoubleBuffer().put(data);
-        releaseDoublePackedBuffer(getCObject(), bufferSize, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseDoublePackedBuffer(getCObject(), bufferSize, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc PackedSymmetricMatrix::releasePackedArray(FloatBuffer) */
@@ -350,14 +315,10 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
         int nDim = (int) getNumberOfColumns();
         int bufferSize = (nDim * (nDim + 1)) / 2;
 
-        float[] data = new float[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(float) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asFloatBuffer().put(data);
-        releaseFloatPackedBuffer(getCObject(), bufferSize, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseFloatPackedBuffer(getCObject(), bufferSize, src);
+        DirectBufferPool.releaseSource(src, buf);
     }
 
     /** @copydoc PackedSymmetricMatrix::releasePackedArray(IntBuffer) */
@@ -366,14 +327,24 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
         int nDim = (int) getNumberOfColumns();
         int bufferSize = (nDim * (nDim + 1)) / 2;
 
-        int[] data = new int[buf.capacity()];
-        buf.position(0);
-        buf.get(data);
-        // Gets data from C++ NumericTable object
-        ByteBuffer byteBuf = ByteBuffer.allocateDirect(bufferSize * 4 /* sizeof(int) */);
-        byteBuf.order(ByteOrder.LITTLE_ENDIAN);
-        byteBuf.asIntBuffer().put(data);
-        releaseIntPackedBuffer(getCObject(), bufferSize, byteBuf);
+        // Copies data to C++ NumericTable object
+        Buffer src = DirectBufferPool.getSource(buf, bufferSize);
+        releaseIntPackedBuffer(getCObject(), bufferSize, src);
+        DirectBufferPool.releaseSource(src, buf);
+    }
+
+    /** @copydoc PackedSymmetricMatrix::getDataSegments(long) */
+    @Override
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        checkCObject();
+
+        int elementSize = SegmentedBuffer.getElementSize(type);
+        long elementsPerSegment = SegmentedBuffer.getUnitsPerSegment(1, elementSize, maxSegmentSize);
+        ByteBuffer[] segments = cGetDataSegments(getCObject(), elementsPerSegment * elementSize);
+        if (segments == null) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+        return new SegmentedBuffer(type, segments);
     }
 
     /** @copydoc PackedSymmetricMatrix::getDataObject */
@@ -455,17 +426,17 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
 
     /* Gets NIO buffer containing data of the C++ table */
 
-    private native ByteBuffer getDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native Buffer getDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native ByteBuffer getFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native Buffer getFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native ByteBuffer getIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native Buffer getIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native void releaseDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native void releaseDoubleBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native void releaseFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native void releaseFloatBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native void releaseIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native void releaseIntBlockBuffer(long cObject, long vectorIndex, long vectorNum, Buffer buffer);
 
     private native void assignLong(long cObject, long constValue);
 
@@ -475,20 +446,23 @@ class PackedSymmetricMatrixByteBufferImpl extends PackedSymmetricMatrixImpl {
 
     private native void assignFloat(long cObject, float constValue);
 
-    private native ByteBuffer getDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native ByteBuffer getFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native ByteBuffer getIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native Buffer getDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native Buffer getFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native Buffer getIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+
+    private native void releaseDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native void releaseFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
+    private native void releaseIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, Buffer buffer);
 
-    private native void releaseDoubleColumnBuffer(long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native void releaseFloatColumnBuffer (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
-    private native void releaseIntColumnBuffer   (long cObject, long featureIndex, long vectorIndex, long vectorNum, ByteBuffer buffer);
+    private native Buffer getDoublePackedBuffer(long cObject, long bufferSize, Buffer buffer);
+    private native Buffer getFloatPackedBuffer(long cObject, long bufferSize, Buffer buffer);
+    private native Buffer getIntPackedBuffer(long cObject, long bufferSize, Buffer buffer);
 
-    private native ByteBuffer getDoublePackedBuffer(long cObject, long bufferSize, ByteBuffer buffer);
-    private native ByteBuffer getFloatPackedBuffer(long cObject, long bufferSize, ByteBuffer buffer);
-    private native ByteBuffer getIntPackedBuffer(long cObject, long bufferSize, ByteBuffer buffer);
+    private native void releaseDoublePackedBuffer(long cObject, long bufferSize, Buffer buffer);
+    private native void releaseFloatPackedBuffer(long cObject, long bufferSize, Buffer buffer);
+    private native void releaseIntPackedBuffer(long cObject, long bufferSize, Buffer buffer);
 
-    private native void releaseDoublePackedBuffer(long cObject, long bufferSize, ByteBuffer buffer);
-    private native void releaseFloatPackedBuffer(long cObject, long bufferSize, ByteBuffer buffer);
-    private native void releaseIntPackedBuffer(long cObject, long bufferSize, ByteBuffer buffer);
+    /* Gets NIO buffers that share the memory of the packed array of the C++ matrix */
+    private native ByteBuffer[] cGetDataSegments(long cObject, long segmentSize);
 }
 /** @} */
@@ -56,6 +56,8 @@ import com.intel.daal.services.DaalContext;
 import com.intel.daal.data_management.data.PackedSymmetricMatrix;
 
 abstract class PackedSymmetricMatrixImpl extends NumericTableImpl {
+    private static final long serialVersionUID = -2721784186367343053L;
+
     protected Class<? extends Number> type;
 
     /** @private */
@@ -94,5 +96,10 @@ abstract class PackedSymmetricMatrixImpl extends NumericTableImpl {
     abstract void releasePackedArray(FloatBuffer buf);
 
     abstract void releasePackedArray(IntBuffer buf);
+
+    /** @copydoc PackedSymmetricMatrix::getDataSegments(long) */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return null;
+    }
 }
 /** @} */
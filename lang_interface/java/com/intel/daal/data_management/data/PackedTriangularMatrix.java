@@ -63,6 +63,8 @@ import com.intel.daal.services.DaalContext;
  * @brief Class that provides methods to access triangular matrices.
  */
 public class PackedTriangularMatrix extends NumericTable {
+    private static final long serialVersionUID = 795926338774639093L;
+
 
     /** @private */
     static {
@@ -340,6 +342,25 @@ public class PackedTriangularMatrix extends NumericTable {
         ((PackedTriangularMatrixImpl)tableImpl).releasePackedArray(buf);
     }
 
+    /**
+     * Gets the packed array of the matrix as a sequence of direct buffers without copying.
+     * Each segment does not exceed 1 gigabyte. Modifications of the segments are visible in the matrix
+     * @return Packed array as a segmented buffer, or null if the matrix data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments() {
+        return ((PackedTriangularMatrixImpl)tableImpl).getDataSegments(SegmentedBuffer.defaultSegmentSize);
+    }
+
+    /**
+     * Gets the packed array of the matrix as a sequence of direct buffers without copying.
+     * Modifications of the segments are visible in the matrix
+     * @param maxSegmentSize Maximal size of a segment in bytes
+     * @return Packed array as a segmented buffer, or null if the matrix data is stored in a Java array
+     */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return ((PackedTriangularMatrixImpl)tableImpl).getDataSegments(maxSegmentSize);
+    }
+
     /**
      * Gets data as an Object
      * @return Table data as an Object
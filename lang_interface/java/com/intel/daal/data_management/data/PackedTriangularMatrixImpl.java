@@ -56,6 +56,8 @@ import com.intel.daal.services.DaalContext;
 import com.intel.daal.data_management.data.PackedTriangularMatrix;
 
 abstract class PackedTriangularMatrixImpl extends NumericTableImpl {
+    private static final long serialVersionUID = 6738066633168453579L;
+
     protected Class<? extends Number> type;
 
     /** @private */
@@ -94,5 +96,10 @@ abstract class PackedTriangularMatrixImpl extends NumericTableImpl {
     abstract void releasePackedArray(FloatBuffer buf);
 
     abstract void releasePackedArray(IntBuffer buf);
+
+    /** @copydoc PackedTriangularMatrix::getDataSegments(long) */
+    public SegmentedBuffer getDataSegments(long maxSegmentSize) {
+        return null;
+    }
 }
 /** @} */
@@ -0,0 +1,315 @@
+/* file: SegmentedBuffer.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup numeric_tables
+ * @{
+ */
+package com.intel.daal.data_management.data;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * <a name="DAAL-CLASS-DATA_MANAGEMENT__DATA__SEGMENTEDBUFFER"></a>
+ * @brief Long-indexed buffer of numeric values stored in a sequence of direct little-endian NIO buffers.
+ *        Unlike a single NIO buffer, the buffer is not limited to 2 gigabytes.
+ *        Every segment contains a whole number of units, for example, rows of a numeric table,
+ *        so that each segment can be processed as an independent block of data
+ */
+public final class SegmentedBuffer {
+
+    /** Default maximal size of a segment in bytes */
+    public static final long defaultSegmentSize = 1L << 30;
+
+    private final Class<? extends Number> type;
+    private final int elementSize;
+    private final ByteBuffer[] segments;
+    private final long[] offsets;
+    private final long size;
+
+    /**
+     * Constructs the buffer from the sequence of direct buffers
+     * @param type      Type of the values stored in the buffer: Double.class, Float.class or Integer.class
+     * @param segments  Direct byte buffers that contain the values, the size of each buffer
+     *                  must be a multiple of the size of the value type
+     */
+    public SegmentedBuffer(Class<? extends Number> type, ByteBuffer[] segments) {
+        this.type = type;
+        this.elementSize = getElementSize(type);
+        this.segments = new ByteBuffer[segments.length];
+        this.offsets = new long[segments.length + 1];
+
+        long offset = 0;
+        for (int i = 0; i < segments.length; i++) {
+            ByteBuffer segment = segments[i];
+            if (segment == null || !segment.isDirect()) {
+                throw new IllegalArgumentException("segments of the buffer must be direct byte buffers");
+            }
+            if (segment.capacity() % elementSize != 0) {
+                throw new IllegalArgumentException("size of the segment must be a multiple of the size of the value type");
+            }
+            this.segments[i] = segment.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            this.segments[i].clear();
+            offsets[i] = offset;
+            offset += segment.capacity() / elementSize;
+        }
+        offsets[segments.length] = offset;
+        this.size = offset;
+    }
+
+    /**
+     * Allocates the buffer of direct segments of the default maximal size
+     * @param type      Type of the values stored in the buffer: Double.class, Float.class or Integer.class
+     * @param nUnits    Number of units, for example, rows of a numeric table
+     * @param unitSize  Number of values in a unit, for example, number of columns of a numeric table
+     * @return Allocated buffer
+     */
+    public static SegmentedBuffer allocate(Class<? extends Number> type, long nUnits, long unitSize) {
+        return allocate(type, nUnits, unitSize, defaultSegmentSize);
+    }
+
+    /**
+     * Allocates the buffer of direct segments
+     * @param type              Type of the values stored in the buffer: Double.class, Float.class or Integer.class
+     * @param nUnits            Number of units, for example, rows of a numeric table
+     * @param unitSize          Number of values in a unit, for example, number of columns of a numeric table
+     * @param maxSegmentSize    Maximal size of a segment in bytes
+     * @return Allocated buffer
+     */
+    public static SegmentedBuffer allocate(Class<? extends Number> type, long nUnits, long unitSize, long maxSegmentSize) {
+        long unitsPerSegment = getUnitsPerSegment(unitSize, getElementSize(type), maxSegmentSize);
+        int nSegments = (int)((nUnits + unitsPerSegment - 1) / unitsPerSegment);
+
+        ByteBuffer[] segments = new ByteBuffer[nSegments];
+        long unitsLeft = nUnits;
+        for (int i = 0; i < nSegments; i++) {
+            long nSegmentUnits = (unitsLeft < unitsPerSegment) ? unitsLeft : unitsPerSegment;
+            segments[i] = ByteBuffer.allocateDirect((int)(nSegmentUnits * unitSize * getElementSize(type)));
+            unitsLeft -= nSegmentUnits;
+        }
+        return new SegmentedBuffer(type, segments);
+    }
+
+    /**
+     * Returns the type of the values stored in the buffer
+     * @return Type of the values
+     */
+    public Class<? extends Number> getNumericType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of values in the buffer
+     * @return Number of values
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of segments in the buffer
+     * @return Number of segments
+     */
+    public int getNumberOfSegments() {
+        return segments.length;
+    }
+
+    /**
+     * Returns the little-endian byte buffer that shares the content of the segment
+     * @param segmentIdx    Index of the segment
+     * @return Segment of the buffer
+     */
+    public ByteBuffer getSegment(int segmentIdx) {
+        return segments[segmentIdx].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the index of the first value of the segment in the buffer
+     * @param segmentIdx    Index of the segment
+     * @return Index of the first value of the segment
+     */
+    public long getSegmentOffset(int segmentIdx) {
+        return offsets[segmentIdx];
+    }
+
+    /**
+     * Returns the number of values in the segment
+     * @param segmentIdx    Index of the segment
+     * @return Number of values in the segment
+     */
+    public long getSegmentSize(int segmentIdx) {
+        return offsets[segmentIdx + 1] - offsets[segmentIdx];
+    }
+
+    /**
+     * Returns the segment as a buffer of double values
+     * @param segmentIdx    Index of the segment
+     * @return Segment of the buffer
+     */
+    public DoubleBuffer getDoubleSegment(int segmentIdx) {
+        return getSegment(segmentIdx).asDoubleBuffer();
+    }
+
+    /**
+     * Returns the segment as a buffer of float values
+     * @param segmentIdx    Index of the segment
+     * @return Segment of the buffer
+     */
+    public FloatBuffer getFloatSegment(int segmentIdx) {
+        return getSegment(segmentIdx).asFloatBuffer();
+    }
+
+    /**
+     * Returns the segment as a buffer of int values
+     * @param segmentIdx    Index of the segment
+     * @return Segment of the buffer
+     */
+    public IntBuffer getIntSegment(int segmentIdx) {
+        return getSegment(segmentIdx).asIntBuffer();
+    }
+
+    /**
+     * Returns the double value at the given position of the buffer
+     * @param index     Index of the value
+     * @return Value at the given position
+     */
+    public double getDouble(long index) {
+        int segmentIdx = findSegment(index);
+        return segments[segmentIdx].getDouble(getByteOffset(segmentIdx, index));
+    }
+
+    /**
+     * Returns the float value at the given position of the buffer
+     * @param index     Index of the value
+     * @return Value at the given position
+     */
+    public float getFloat(long index) {
+        int segmentIdx = findSegment(index);
+        return segments[segmentIdx].getFloat(getByteOffset(segmentIdx, index));
+    }
+
+    /**
+     * Returns the int value at the given position of the buffer
+     * @param index     Index of the value
+     * @return Value at the given position
+     */
+    public int getInt(long index) {
+        int segmentIdx = findSegment(index);
+        return segments[segmentIdx].getInt(getByteOffset(segmentIdx, index));
+    }
+
+    /**
+     * Sets the double value at the given position of the buffer
+     * @param index     Index of the value
+     * @param value     New value
+     */
+    public void setDouble(long index, double value) {
+        int segmentIdx = findSegment(index);
+        segments[segmentIdx].putDouble(getByteOffset(segmentIdx, index), value);
+    }
+
+    /**
+     * Sets the float value at the given position of the buffer
+     * @param index     Index of the value
+     * @param value     New value
+     */
+    public void setFloat(long index, float value) {
+        int segmentIdx = findSegment(index);
+        segments[segmentIdx].putFloat(getByteOffset(segmentIdx, index), value);
+    }
+
+    /**
+     * Sets the int value at the given position of the buffer
+     * @param index     Index of the value
+     * @param value     New value
+     */
+    public void setInt(long index, int value) {
+        int segmentIdx = findSegment(index);
+        segments[segmentIdx].putInt(getByteOffset(segmentIdx, index), value);
+    }
+
+    /* Only the types of the blocks of data that numeric tables and tensors can transfer are supported */
+    static int getElementSize(Class<? extends Number> type) {
+        if (type == Double.class) {
+            return 8;
+        } else if (type == Float.class || type == Integer.class) {
+            return 4;
+        }
+        throw new IllegalArgumentException("type unsupported");
+    }
+
+    /* Returns the number of units that fit into one segment of the given maximal size */
+    static long getUnitsPerSegment(long unitSize, int elementSize, long maxSegmentSize) {
+        long unitBytes = unitSize * elementSize;
+        if (maxSegmentSize > Integer.MAX_VALUE) {
+            maxSegmentSize = Integer.MAX_VALUE;
+        }
+        if (unitBytes <= 0 || unitBytes > maxSegmentSize) {
+            throw new IllegalArgumentException("size of the unit must be positive and must not exceed the size of the segment");
+        }
+        return maxSegmentSize / unitBytes;
+    }
+
+    private int findSegment(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index of the value is out of range");
+        }
+        int segmentIdx = Arrays.binarySearch(offsets, index);
+        if (segmentIdx < 0) {
+            return -segmentIdx - 2;
+        }
+        /* Skip empty segments */
+        while (offsets[segmentIdx + 1] == index) {
+            segmentIdx++;
+        }
+        return segmentIdx;
+    }
+
+    private int getByteOffset(int segmentIdx, long index) {
+        return (int)((index - offsets[segmentIdx]) * elementSize);
+    }
+}
+/** @} */
@@ -53,6 +53,8 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 
+import com.intel.daal.data_management.compression.CompressionLevel;
+import com.intel.daal.data_management.compression.CompressionMethod;
 import com.intel.daal.services.ContextClient;
 import com.intel.daal.services.DaalContext;
 
@@ -107,7 +109,27 @@ public class SerializableBase extends ContextClient
      * Serializes an object
      */
     public void pack() {
+        pack(null, CompressionLevel.DefaultLevel);
+    }
+
+    /**
+     * Serializes an object and compresses the serialized data on the fly
+     * @param method    Compression method, null to serialize the object without compression
+     */
+    public void pack(CompressionMethod method) {
+        pack(method, CompressionLevel.DefaultLevel);
+    }
+
+    /**
+     * Serializes an object and compresses the serialized data on the fly.
+     * The data is decompressed while the object is unpacked
+     * @param method    Compression method, null to serialize the object without compression
+     * @param level     Compression level, null to use the default level of the method
+     */
+    public void pack(CompressionMethod method, CompressionLevel level) {
         synchronized(this) {
+            this.compressionMethod = method;
+            this.compressionLevel  = (level != null ? level : CompressionLevel.DefaultLevel);
             DaalContext myContext = getContext();
             if (myContext != null) {
                 changeContext(null);
@@ -185,19 +207,38 @@ public class SerializableBase extends ContextClient
     /* Private and Protected */
     /* --------------------- */
 
+    /* Version of the serialized form of the objects written before the serialized data could be compressed.
+       The objects serialized by the earlier versions of the library do not have serializedCompressionMethod */
+    private static final long serialVersionUID = 5752332365966728400L;
+
     /* Pointer to SharedPtr<> for the C object */
     protected transient long cObject;
 
     /* Serialized C object */
     protected byte[][] serializedCObject;
 
+    /* Compression method of the serialized C object, noCompression if the object is not compressed */
+    protected int serializedCompressionMethod = noCompression;
+
+    /* Compression method and level requested in the last call to pack() */
+    protected transient CompressionMethod compressionMethod;
+    protected transient CompressionLevel  compressionLevel;
+
+    private static final int noCompression = -1;
+
     protected boolean onSerializeCObject() {
         return true;
     }
 
     protected void serializeCObject() {
         if (onSerializeCObject() && this.cObject != 0) {
-            serializedCObject = cSerializeCObject(this.cObject);
+            if (compressionMethod != null) {
+                serializedCObject = cSerializeCObject(this.cObject, compressionMethod.getValue(), compressionLevel.getValue());
+                serializedCompressionMethod = compressionMethod.getValue();
+            } else {
+                serializedCObject = cSerializeCObject(this.cObject, noCompression, 0);
+                serializedCompressionMethod = noCompression;
+            }
             dispose();
         }
     }
@@ -213,12 +254,14 @@ public class SerializableBase extends ContextClient
             if (this.cObject != 0) {
                 this.dispose();
             }
-            this.cObject = cDeserializeCObject(serializedCObject);
+            this.cObject = cDeserializeCObject(serializedCObject, serializedCompressionMethod);
         }
     }
 
     private void readObject(ObjectInputStream aInputStream) throws ClassNotFoundException, IOException {
-        aInputStream.defaultReadObject();
+        ObjectInputStream.GetField fields = aInputStream.readFields();
+        this.serializedCObject = (byte[][])fields.get("serializedCObject", null);
+        this.serializedCompressionMethod = fields.get("serializedCompressionMethod", noCompression);
         this.cObject = 0;
     }
 
@@ -226,9 +269,9 @@ public class SerializableBase extends ContextClient
         aOutputStream.defaultWriteObject();
     }
 
-    private native byte[][] cSerializeCObject(long cDataCollection);
+    private native byte[][] cSerializeCObject(long cDataCollection, int compressionMethod, int compressionLevel);
 
-    private native long cDeserializeCObject(byte[][] byteArray);
+    private native long cDeserializeCObject(byte[][] byteArray, int compressionMethod);
 
     private native void cFreeByteBuffer(ByteBuffer buffer);
 
@@ -0,0 +1,357 @@
+/* file: SerializationCodec.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup serialization
+ * @{
+ */
+package com.intel.daal.data_management.data;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+import com.intel.daal.services.DaalContext;
+
+/**
+ * <a name="DAAL-CLASS-DATA_MANAGEMENT__DATA__SERIALIZATIONCODEC"></a>
+ * @brief Encodes serializable objects into a compact binary record and decodes them back.
+ *
+ * A record consists of the header and the archive of the native object:
+ *  - 32-bit signature,
+ *  - 32-bit flags, reserved,
+ *  - 32-bit length of the name of the Java class, followed by the name in UTF-8,
+ *  - 64-bit length of the archive, followed by the archive.
+ *
+ * The header is written in the big-endian byte order. The archive is copied by the native code
+ * directly between the native object and the memory of the buffer, without intermediate Java arrays
+ * and Java serialization. The decoded object is created with the constructor of its class
+ * that takes the context and the address of the native object.
+ */
+public final class SerializationCodec {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    private static final int     signature = 0x44574331; /* "DWC1" */
+    private static final Charset utf8      = Charset.forName("UTF-8");
+
+    private SerializationCodec() {}
+
+    /**
+     * Encodes the object into a new direct buffer
+     * @param object    Object to encode
+     * @return Direct buffer with the record of the object, positioned at the start of the record
+     */
+    public static ByteBuffer encode(SerializableBase object) {
+        Archive archive = new Archive(object);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(archive.getRecordSize());
+            archive.writeTo(buffer);
+            buffer.flip();
+            return buffer;
+        } finally {
+            archive.release();
+        }
+    }
+
+    /**
+     * Encodes the object into a new array
+     * @param object    Object to encode
+     * @return Array with the record of the object
+     */
+    public static byte[] encodeToArray(SerializableBase object) {
+        Archive archive = new Archive(object);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(archive.getRecordSize());
+            archive.writeTo(buffer);
+            return buffer.array();
+        } finally {
+            archive.release();
+        }
+    }
+
+    /**
+     * Encodes the object into the buffer starting at its current position.
+     * The position of the buffer is advanced by the size of the record
+     * @param object    Object to encode
+     * @param dst       Direct buffer or buffer backed by an array
+     * @throws BufferOverflowException if the buffer has not enough space for the record
+     */
+    public static void encode(SerializableBase object, ByteBuffer dst) {
+        if (dst.isReadOnly() || (!dst.isDirect() && !dst.hasArray())) {
+            throw new IllegalArgumentException("Buffer must be writable and either direct or backed by an array");
+        }
+        Archive archive = new Archive(object);
+        try {
+            archive.writeTo(dst);
+        } finally {
+            archive.release();
+        }
+    }
+
+    /**
+     * Encodes the object into the channel
+     * @param object    Object to encode
+     * @param channel   Channel to write the record to
+     * @return Number of bytes written to the channel
+     */
+    public static long encode(SerializableBase object, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = encode(object);
+        long size = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return size;
+    }
+
+    /**
+     * Decodes the object from the buffer starting at its current position.
+     * The position of the buffer is advanced by the size of the record
+     * @param context   Context to manage the decoded object
+     * @param src       Direct buffer or buffer backed by an array
+     * @return Decoded object
+     * @throws BufferUnderflowException if the buffer does not contain the whole record
+     */
+    public static SerializableBase decode(DaalContext context, ByteBuffer src) {
+        if (!src.isDirect() && !src.hasArray()) {
+            throw new IllegalArgumentException("Buffer must be either direct or backed by an array");
+        }
+        ByteBuffer header = src.duplicate().order(ByteOrder.BIG_ENDIAN);
+        Constructor<? extends SerializableBase> constructor = getConstructor(readClassName(header));
+        long archiveSize = header.getLong();
+        if (archiveSize < 0 || archiveSize > header.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        long cObject;
+        if (src.isDirect()) {
+            cObject = cDeserializeBuffer(context, src, header.position(), archiveSize);
+        } else {
+            cObject = cDeserializeArray(context, src.array(), src.arrayOffset() + header.position(), archiveSize);
+        }
+        src.position(header.position() + (int)archiveSize);
+        return create(context, constructor, cObject);
+    }
+
+    /**
+     * Decodes the object from the array
+     * @param context   Context to manage the decoded object
+     * @param src       Array with the record of the object
+     * @return Decoded object
+     */
+    public static SerializableBase decode(DaalContext context, byte[] src) {
+        return decode(context, ByteBuffer.wrap(src));
+    }
+
+    /**
+     * Decodes the object from the channel
+     * @param context   Context to manage the decoded object
+     * @param channel   Channel to read the record from
+     * @return Decoded object
+     */
+    public static SerializableBase decode(DaalContext context, ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        readFully(channel, header);
+        header.flip();
+        checkSignature(header.getInt());
+        header.getInt();
+        int nameLength = header.getInt();
+        if (nameLength <= 0) {
+            throw new IOException("Incorrect record of the serialized object");
+        }
+
+        ByteBuffer name = ByteBuffer.allocate(nameLength + 8);
+        readFully(channel, name);
+        name.flip();
+        Constructor<? extends SerializableBase> constructor = getConstructor(new String(name.array(), 0, nameLength, utf8));
+        name.position(nameLength);
+        long archiveSize = name.getLong();
+        if (archiveSize <= 0 || archiveSize > Integer.MAX_VALUE) {
+            throw new IOException("Incorrect record of the serialized object");
+        }
+
+        ByteBuffer archive = ByteBuffer.allocateDirect((int)archiveSize);
+        readFully(channel, archive);
+        return create(context, constructor, cDeserializeBuffer(context, archive, 0, archiveSize));
+    }
+
+    /* Native archive of an object that is being encoded */
+    private static final class Archive {
+        private final byte[] className;
+        private final long size;
+        private long cArchive;
+
+        Archive(SerializableBase object) {
+            className = object.getClass().getName().getBytes(utf8);
+            cArchive  = cSerialize(object.getCObject());
+            size      = cGetArchiveSize(cArchive);
+            if (getHeaderSize() + size > Integer.MAX_VALUE) {
+                release();
+                throw new IllegalArgumentException("Serialized object exceeds the maximum size of a buffer");
+            }
+        }
+
+        int getHeaderSize() {
+            return 4 + 4 + 4 + className.length + 8;
+        }
+
+        int getRecordSize() {
+            return getHeaderSize() + (int)size;
+        }
+
+        void writeTo(ByteBuffer dst) {
+            if (dst.remaining() < getRecordSize()) {
+                throw new BufferOverflowException();
+            }
+            ByteBuffer header = dst.duplicate().order(ByteOrder.BIG_ENDIAN);
+            header.putInt(signature);
+            header.putInt(0);
+            header.putInt(className.length);
+            header.put(className);
+            header.putLong(size);
+
+            if (dst.isDirect()) {
+                cCopyArchiveToBuffer(cArchive, dst, header.position());
+            } else {
+                cCopyArchiveToArray(cArchive, dst.array(), dst.arrayOffset() + header.position());
+            }
+            dst.position(header.position() + (int)size);
+        }
+
+        void release() {
+            if (cArchive != 0) {
+                cReleaseArchive(cArchive);
+                cArchive = 0;
+            }
+        }
+    }
+
+    private static String readClassName(ByteBuffer header) {
+        checkSignature(header.getInt());
+        header.getInt();
+        int nameLength = header.getInt();
+        if (nameLength <= 0 || nameLength > header.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] name = new byte[nameLength];
+        header.get(name);
+        return new String(name, utf8);
+    }
+
+    private static void checkSignature(int value) {
+        if (value != signature) {
+            throw new IllegalArgumentException("Buffer does not contain a record of a serialized object");
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of the record of the serialized object");
+            }
+        }
+    }
+
+    /* Resolves the class named in the record without initializing it and checks that it is a serializable class
+       of the library before any object is constructed from the record */
+    private static Constructor<? extends SerializableBase> getConstructor(String className) {
+        Class<?> cls;
+        try {
+            cls = Class.forName(className, false, SerializableBase.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown class of the serialized object: " + className, e);
+        }
+        if (!SerializableBase.class.isAssignableFrom(cls)) {
+            throw new IllegalArgumentException(className + " is not a serializable class");
+        }
+        try {
+            return cls.asSubclass(SerializableBase.class).getConstructor(DaalContext.class, long.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(className + " cannot be constructed from a native object", e);
+        }
+    }
+
+    private static SerializableBase create(DaalContext context, Constructor<? extends SerializableBase> constructor, long cObject) {
+        try {
+            return constructor.newInstance(context, cObject);
+        } catch (RuntimeException e) {
+            cDispose(cObject);
+            throw e;
+        } catch (InstantiationException e) {
+            cDispose(cObject);
+            throw new IllegalArgumentException(constructor.getDeclaringClass().getName() + " cannot be constructed from a native object", e);
+        } catch (IllegalAccessException e) {
+            cDispose(cObject);
+            throw new IllegalArgumentException(constructor.getDeclaringClass().getName() + " cannot be constructed from a native object", e);
+        } catch (InvocationTargetException e) {
+            cDispose(cObject);
+            throw new IllegalArgumentException(constructor.getDeclaringClass().getName() + " cannot be constructed from a native object",
+                                               e.getCause());
+        }
+    }
+
+    private static native long cSerialize(long cObject);
+
+    private static native long cGetArchiveSize(long cArchive);
+
+    private static native void cCopyArchiveToBuffer(long cArchive, ByteBuffer dst, long offset);
+
+    private static native void cCopyArchiveToArray(long cArchive, byte[] dst, int offset);
+
+    private static native void cReleaseArchive(long cArchive);
+
+    private static native long cDeserializeBuffer(DaalContext context, ByteBuffer src, long offset, long size);
+
+    private static native long cDeserializeArray(DaalContext context, byte[] src, int offset, long size);
+
+    private static native void cDispose(long cObject);
+}
+/** @} */
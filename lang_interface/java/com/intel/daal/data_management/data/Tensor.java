@@ -63,6 +63,8 @@ import com.intel.daal.services.DaalContext;
  *  @brief  Class for the data management component responsible for the representation of the tensor data.
  */
 abstract public class Tensor extends SerializableBase implements TensorDenseIface {
+    private static final long serialVersionUID = 4121265878230871541L;
+
     protected TensorImpl tensorImpl;
 
     /** @private */
@@ -127,6 +129,9 @@ abstract public class Tensor extends SerializableBase implements TensorDenseIfac
      * @param  buf          Buffer to store results
      *
      * @return Subtensor packed into DoubleBuffer
+     *         or into the buffer owned by the tensor if buf cannot hold the subtensor.
+     *         The buffer owned by the tensor is reused for other subtensors after the subtensor
+     *         is released and must not be accessed after that
      */
     public DoubleBuffer getSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, DoubleBuffer buf) {
         return tensorImpl.getSubtensor(fixedDims, rangeDimIdx, rangeDimNum, buf);
@@ -143,6 +148,9 @@ abstract public class Tensor extends SerializableBase implements TensorDenseIfac
      * @param  buf          Buffer to store results
      *
      * @return Subtensor packed into FloatBuffer
+     *         or into the buffer owned by the tensor if buf cannot hold the subtensor.
+     *         The buffer owned by the tensor is reused for other subtensors after the subtensor
+     *         is released and must not be accessed after that
      */
     public FloatBuffer getSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, FloatBuffer buf) {
         return tensorImpl.getSubtensor(fixedDims, rangeDimIdx, rangeDimNum, buf);
@@ -159,6 +167,9 @@ abstract public class Tensor extends SerializableBase implements TensorDenseIfac
      * @param  buf          Buffer to store results
      *
      * @return Subtensor packed into IntBuffer
+     *         or into the buffer owned by the tensor if buf cannot hold the subtensor.
+     *         The buffer owned by the tensor is reused for other subtensors after the subtensor
+     *         is released and must not be accessed after that
      */
     public IntBuffer getSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, IntBuffer buf) {
         return tensorImpl.getSubtensor(fixedDims, rangeDimIdx, rangeDimNum, buf);
@@ -206,6 +217,37 @@ abstract public class Tensor extends SerializableBase implements TensorDenseIfac
         tensorImpl.releaseSubtensor(fixedDims, rangeDimIdx, rangeDimNum, buf);
     }
 
+    /**
+     * Reads subtensor from the tensor into the segmented buffer.
+     * Unlike the methods that use a single NIO buffer, the size of the subtensor is not limited
+     * to 2 gigabytes. Each segment of the buffer is filled in place
+     *
+     * @param  fixedDims    The number fixed dimensions and values at which dimensions are fixed
+     * @param  rangeDimIdx  Values for the next dimension after fixed to get data from
+     * @param  rangeDimNum  Range for dimension values to get data from
+     * @param  buf          Buffer to store results, each segment of the buffer must contain whole slices
+     *                      of the subtensor along the range dimension. If null, the buffer of double values is allocated
+     *
+     * @return Subtensor packed into SegmentedBuffer
+     */
+    public SegmentedBuffer getSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, SegmentedBuffer buf) {
+        return tensorImpl.getSubtensor(fixedDims, rangeDimIdx, rangeDimNum, buf);
+    }
+
+    /**
+     * Transfers the data from the input segmented buffer into subtensor of the tensor.
+     * Unlike the methods that use a single NIO buffer, the size of the subtensor is not limited
+     * to 2 gigabytes
+     *
+     * @param  fixedDims    The number fixed dimensions and values at which dimensions are fixed
+     * @param  rangeDimIdx  Values for the next dimension after fixed to get data from
+     * @param  rangeDimNum  Range for dimension values to get data from
+     * @param  buf          Input SegmentedBuffer with the subtensor data
+     */
+    public void releaseSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, SegmentedBuffer buf) {
+        tensorImpl.releaseSubtensor(fixedDims, rangeDimIdx, rangeDimNum, buf);
+    }
+
     /**
      *  Allocates memory for a data set
      */
@@ -255,7 +297,7 @@ abstract public class Tensor extends SerializableBase implements TensorDenseIfac
     @Override
     protected void onPack() {
         if (tensorImpl != null) {
-            tensorImpl.pack();
+            tensorImpl.pack(compressionMethod, compressionLevel);
         }
     }
 
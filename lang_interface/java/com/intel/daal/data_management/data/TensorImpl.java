@@ -65,6 +65,8 @@ import com.intel.daal.SerializationTag;
  *  @brief  Class for the data management component responsible for the representation of the data in a numerical format.
  */
 abstract public class TensorImpl extends SerializableBase {
+    private static final long serialVersionUID = -4865432900040029611L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
@@ -190,5 +192,112 @@ abstract public class TensorImpl extends SerializableBase {
     abstract public void releaseSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, FloatBuffer buf);
 
     abstract public void releaseSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, IntBuffer buf);
+
+    public SegmentedBuffer getSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, SegmentedBuffer buf) {
+        long sliceSize = getSliceSize(fixedDims);
+        if (fixedDims.length >= getDimensions().length) {
+            rangeDimIdx = 0;
+            rangeDimNum = 1;
+        }
+        if (buf == null) {
+            buf = SegmentedBuffer.allocate(Double.class, rangeDimNum, sliceSize);
+        }
+        checkSegmentedBuffer(rangeDimNum, sliceSize, buf);
+
+        Class<? extends Number> type = buf.getNumericType();
+        long slicesLeft = rangeDimNum;
+        for (int i = 0; i < buf.getNumberOfSegments() && slicesLeft > 0; i++) {
+            long nSlices = buf.getSegmentSize(i) / sliceSize;
+            if (nSlices > slicesLeft) {
+                nSlices = slicesLeft;
+            }
+            long sliceIndex = rangeDimIdx + rangeDimNum - slicesLeft;
+            int size = (int)(nSlices * sliceSize);
+
+            if (type == Double.class) {
+                DoubleBuffer dst = buf.getDoubleSegment(i);
+                DoubleBuffer res = getSubtensor(fixedDims, sliceIndex, nSlices, dst);
+                if (res != dst) {
+                    res.position(0);
+                    res.limit(size);
+                    dst.put(res);
+                }
+            } else if (type == Float.class) {
+                FloatBuffer dst = buf.getFloatSegment(i);
+                FloatBuffer res = getSubtensor(fixedDims, sliceIndex, nSlices, dst);
+                if (res != dst) {
+                    res.position(0);
+                    res.limit(size);
+                    dst.put(res);
+                }
+            } else {
+                IntBuffer dst = buf.getIntSegment(i);
+                IntBuffer res = getSubtensor(fixedDims, sliceIndex, nSlices, dst);
+                if (res != dst) {
+                    res.position(0);
+                    res.limit(size);
+                    dst.put(res);
+                }
+            }
+            slicesLeft -= nSlices;
+        }
+        return buf;
+    }
+
+    public void releaseSubtensor(long[] fixedDims, long rangeDimIdx, long rangeDimNum, SegmentedBuffer buf) {
+        long sliceSize = getSliceSize(fixedDims);
+        if (fixedDims.length >= getDimensions().length) {
+            rangeDimIdx = 0;
+            rangeDimNum = 1;
+        }
+        checkSegmentedBuffer(rangeDimNum, sliceSize, buf);
+
+        Class<? extends Number> type = buf.getNumericType();
+        long slicesLeft = rangeDimNum;
+        for (int i = 0; i < buf.getNumberOfSegments() && slicesLeft > 0; i++) {
+            long nSlices = buf.getSegmentSize(i) / sliceSize;
+            if (nSlices > slicesLeft) {
+                nSlices = slicesLeft;
+            }
+            long sliceIndex = rangeDimIdx + rangeDimNum - slicesLeft;
+
+            if (type == Double.class) {
+                releaseSubtensor(fixedDims, sliceIndex, nSlices, buf.getDoubleSegment(i));
+            } else if (type == Float.class) {
+                releaseSubtensor(fixedDims, sliceIndex, nSlices, buf.getFloatSegment(i));
+            } else {
+                releaseSubtensor(fixedDims, sliceIndex, nSlices, buf.getIntSegment(i));
+            }
+            slicesLeft -= nSlices;
+        }
+    }
+
+    /* Returns the number of elements in the slice of the subtensor along the range dimension */
+    private long getSliceSize(long[] fixedDims) {
+        long[] dims = getDimensions();
+        long sliceSize = 1;
+        for (int i = fixedDims.length + 1; i < dims.length; i++) {
+            sliceSize *= dims[i];
+        }
+        return sliceSize;
+    }
+
+    private static void checkSegmentedBuffer(long nSlices, long sliceSize, SegmentedBuffer buf) {
+        if (sliceSize <= 0) {
+            throw new IllegalArgumentException("size of the subtensor must be positive");
+        }
+        Class<? extends Number> type = buf.getNumericType();
+        if (type != Double.class && type != Float.class && type != Integer.class) {
+            throw new IllegalArgumentException("type unsupported");
+        }
+        if (buf.getSize() < nSlices * sliceSize) {
+            throw new IllegalArgumentException("size of the buffer is less than the size of the subtensor");
+        }
+        for (int i = 0; i < buf.getNumberOfSegments(); i++) {
+            if (buf.getSegmentSize(i) % sliceSize != 0) {
+                throw new IllegalArgumentException("segments of the buffer must contain whole slices of the subtensor");
+            }
+        }
+    }
 }
 /** @} */
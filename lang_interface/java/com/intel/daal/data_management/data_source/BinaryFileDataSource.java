@@ -0,0 +1,123 @@
+/* file: BinaryFileDataSource.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup data_sources
+ * @{
+ */
+package com.intel.daal.data_management.data_source;
+
+import com.intel.daal.data_management.compression.CompressionMethod;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+/**
+ *  <a name="DAAL-CLASS-DATA_MANAGEMENT__DATA_SOURCE__BINARYFILEDATASOURCE"></a>
+ * @brief Specifies the methods for accessing the data stored in binary columnar files.
+ *        The files keep the data dictionary and the values of each feature in chunks of columns,
+ *        optionally compressed, and are loaded into numeric tables without parsing
+ */
+public class BinaryFileDataSource extends DataSource {
+    /** @private */
+    static {
+        System.loadLibrary("JavaAPI");
+    }
+
+    /** Default number of rows in a chunk of a binary columnar file */
+    public static final long defaultRowsPerChunk = 65536;
+
+    /**
+     * Constructs the data source for the binary columnar file.
+     * The data dictionary is created from the header of the file
+     * @param context   Context to manage the data source
+     * @param filename  Name of the file
+     */
+    public BinaryFileDataSource(DaalContext context, String filename) {
+        this(context, filename, NumericTableAllocationFlag.NotAllocateNumericTable);
+    }
+
+    /**
+     * Constructs the data source for the binary columnar file.
+     * The data dictionary is created from the header of the file
+     * @param context   Context to manage the data source
+     * @param filename  Name of the file
+     * @param doNT      Flag that specifies whether the numeric table associated with the data source is allocated
+     */
+    public BinaryFileDataSource(DaalContext context, String filename, NumericTableAllocationFlag doNT) {
+        super(context);
+
+        cObject = cInit(filename);
+        if (doNT.ordinal() == NumericTableAllocationFlag.DoAllocateNumericTable.ordinal()) {
+            this.allocateNumericTable();
+        }
+    }
+
+    /**
+     * Writes the numeric table into a binary columnar file without compression
+     * @param filename  Name of the file
+     * @param table     Numeric table to write
+     */
+    public static void write(String filename, NumericTable table) {
+        write(filename, table, null, defaultRowsPerChunk);
+    }
+
+    /**
+     * Writes the numeric table into a binary columnar file
+     * @param filename      Name of the file
+     * @param table         Numeric table to write
+     * @param method        Compression method for the columns of the chunks, null to write the columns without compression
+     * @param rowsPerChunk  Number of rows in a chunk
+     */
+    public static void write(String filename, NumericTable table, CompressionMethod method, long rowsPerChunk) {
+        if (table == null) {
+            throw new IllegalArgumentException("Numeric table must not be null");
+        }
+        if (rowsPerChunk <= 0) {
+            throw new IllegalArgumentException("Number of rows in a chunk must be positive");
+        }
+        cWrite(filename, table.getCObject(), (method == null ? -1 : method.getValue()), rowsPerChunk);
+    }
+
+    private native long cInit(String filename);
+
+    private static native void cWrite(String filename, long cTable, int method, long rowsPerChunk);
+}
+/** @} */
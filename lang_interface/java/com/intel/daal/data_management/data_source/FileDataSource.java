@@ -87,6 +87,29 @@ public class FileDataSource extends DataSource {
 
     protected native long cInit(String filename);
 
+    /**
+     * Sets the number of threads used to parse the rows in the loadDataBlock methods.
+     * If the number of threads is not equal to 1, the rows are read in blocks and
+     * disjoint ranges of rows of a block are parsed concurrently
+     * @param nThreads  Number of threads, 0 to use all threads of the library, 1 to parse the rows sequentially
+     */
+    public void setNumberOfThreads(long nThreads) {
+        if (nThreads < 0) {
+            throw new IllegalArgumentException("Number of threads must not be negative");
+        }
+        cSetNumberOfThreads(cObject, nThreads);
+    }
+
+    /**
+     * Returns the number of threads used to parse the rows in the loadDataBlock methods
+     * @return Number of threads, 0 if all threads of the library are used
+     */
+    public long getNumberOfThreads() {
+        return cGetNumberOfThreads(cObject);
+    }
+
     private native long cGetFeatureManager(long cObject);
+    private native void cSetNumberOfThreads(long cObject, long nThreads);
+    private native long cGetNumberOfThreads(long cObject);
 }
 /** @} */
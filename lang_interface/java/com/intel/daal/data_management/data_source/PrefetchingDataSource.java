@@ -0,0 +1,237 @@
+/* file: PrefetchingDataSource.java */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/**
+ * @ingroup data_sources
+ * @{
+ */
+package com.intel.daal.data_management.data_source;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.ContextClient;
+import com.intel.daal.services.DaalContext;
+
+/**
+ *  <a name="DAAL-CLASS-DATA_MANAGEMENT__DATA_SOURCE__PREFETCHINGDATASOURCE"></a>
+ * @brief Loads blocks of rows from a Data Source on a background thread ahead of their consumption.
+ *        While an online algorithm processes a block returned by next(), the following blocks
+ *        are parsed into other Numeric Tables. The number of blocks loaded ahead is bounded
+ *        by the queue depth, so the background thread waits when the consumer falls behind.
+ *
+ *        The Data Source must not be used directly while the Prefetching Data Source is active.
+ *        Call dispose() before the Data Source is disposed to stop the background thread.
+ */
+public class PrefetchingDataSource extends ContextClient {
+
+    /* Block of rows loaded by the background thread.
+     * A block without a table marks the end of data or an error */
+    private static final class Block {
+        final NumericTable table;
+        final Throwable error;
+
+        Block(NumericTable table, Throwable error) {
+            this.table = table;
+            this.error = error;
+        }
+    }
+
+    private final DataSource dataSource;
+    private final long blockSize;
+
+    /* Tables available for loading and tables with loaded blocks */
+    private final BlockingQueue<NumericTable> freeTables;
+    private final BlockingQueue<Block> loadedBlocks;
+
+    private final Thread loader;
+    private volatile boolean stopped;
+
+    /* Table returned by the last call to next() */
+    private NumericTable currentTable;
+    private boolean finished;
+
+    /**
+     * Constructs the Prefetching Data Source that loads one block ahead of the consumer
+     * @param context     Context to manage the Prefetching Data Source
+     * @param dataSource  Data Source to load the blocks from. The dictionary of the Data Source must be available
+     * @param blockSize   Maximum number of rows in a block
+     */
+    public PrefetchingDataSource(DaalContext context, DataSource dataSource, long blockSize) {
+        this(context, dataSource, blockSize, 1);
+    }
+
+    /**
+     * Constructs the Prefetching Data Source
+     * @param context     Context to manage the Prefetching Data Source
+     * @param dataSource  Data Source to load the blocks from. The dictionary of the Data Source must be available
+     * @param blockSize   Maximum number of rows in a block
+     * @param queueDepth  Maximum number of blocks loaded ahead of the block that is being consumed
+     */
+    public PrefetchingDataSource(DaalContext context, DataSource dataSource, long blockSize, int queueDepth) {
+        super(context);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Data source must not be null");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        if (queueDepth <= 0) {
+            throw new IllegalArgumentException("Queue depth must be positive");
+        }
+
+        this.dataSource = dataSource;
+        this.blockSize  = blockSize;
+
+        final int nTables = queueDepth + 1;
+        final long nColumns = dataSource.getNumberOfColumns();
+        freeTables   = new ArrayBlockingQueue<NumericTable>(nTables);
+        loadedBlocks = new ArrayBlockingQueue<Block>(nTables);
+        for (int i = 0; i < nTables; i++) {
+            freeTables.add(new HomogenNumericTable(context, Float.class, nColumns, blockSize,
+                                                   NumericTable.AllocationFlag.DoAllocate));
+        }
+
+        loader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                load();
+            }
+        }, "DataSourcePrefetcher");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Returns the next block of rows loaded from the Data Source.
+     * The returned Numeric Table stays valid until the next call to next() or dispose(),
+     * after which it is reused to load the following blocks
+     * @return Numeric Table with the next block of rows, or null if there is no more data in the Data Source
+     */
+    public NumericTable next() {
+        if (finished) {
+            return null;
+        }
+        if (currentTable != null) {
+            freeTables.add(currentTable);
+            currentTable = null;
+        }
+
+        Block block;
+        try {
+            block = loadedBlocks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the next block of data", e);
+        }
+
+        if (block.table == null) {
+            finished = true;
+            if (block.error instanceof RuntimeException) {
+                throw (RuntimeException)block.error;
+            }
+            if (block.error instanceof Error) {
+                throw (Error)block.error;
+            }
+            if (block.error != null) {
+                throw new IllegalStateException("Failed to load a block of data", block.error);
+            }
+            return null;
+        }
+
+        currentTable = block.table;
+        return currentTable;
+    }
+
+    /**
+     * Returns the maximum number of rows in a block
+     * @return Maximum number of rows in a block
+     */
+    public long getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Stops the background thread. The Numeric Tables with the blocks are released with the Context
+     */
+    @Override
+    public void dispose() {
+        stopped = true;
+        loader.interrupt();
+        boolean interrupted = false;
+        while (loader.isAlive()) {
+            try {
+                loader.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        finished = true;
+        currentTable = null;
+    }
+
+    private void load() {
+        try {
+            while (!stopped) {
+                NumericTable table = freeTables.take();
+                if (stopped) {
+                    return;
+                }
+                long nRows = dataSource.loadDataBlock(blockSize, table);
+                if (nRows <= 0) {
+                    loadedBlocks.put(new Block(null, null));
+                    return;
+                }
+                loadedBlocks.put(new Block(table, null));
+            }
+        } catch (InterruptedException e) {
+            /* dispose() stops the loading */
+        } catch (Throwable e) {
+            loadedBlocks.offer(new Block(null, e));
+        }
+    }
+}
+/** @} */
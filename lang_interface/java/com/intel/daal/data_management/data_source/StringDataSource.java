@@ -56,6 +56,8 @@ import com.intel.daal.services.DaalContext;
  * @brief Specifies the methods for accessing the data stored as a text in java.io.Strings format
  */
 public class StringDataSource extends DataSource implements Serializable {
+    private static final long serialVersionUID = 1015427219487310269L;
+
     /** @private */
     static {
         System.loadLibrary("JavaAPI");
@@ -104,6 +106,27 @@ public class StringDataSource extends DataSource implements Serializable {
 
     private native void cSetData(long ptr, String data, long length);
 
+    /**
+     * Sets the number of threads used to parse the rows in the loadDataBlock methods.
+     * If the number of threads is not equal to 1, the rows are read in blocks and
+     * disjoint ranges of rows of a block are parsed concurrently
+     * @param nThreads  Number of threads, 0 to use all threads of the library, 1 to parse the rows sequentially
+     */
+    public void setNumberOfThreads(long nThreads) {
+        if (nThreads < 0) {
+            throw new IllegalArgumentException("Number of threads must not be negative");
+        }
+        cSetNumberOfThreads(cObject, nThreads);
+    }
+
+    /**
+     * Returns the number of threads used to parse the rows in the loadDataBlock methods
+     * @return Number of threads, 0 if all threads of the library are used
+     */
+    public long getNumberOfThreads() {
+        return cGetNumberOfThreads(cObject);
+    }
+
     protected String _dataForSerialization;
 
     private void readObject(ObjectInputStream aInputStream) throws ClassNotFoundException, IOException {
@@ -114,5 +137,7 @@ public class StringDataSource extends DataSource implements Serializable {
 
     private native void cDispose(long ptr);
     private native long cGetFeatureManager(long cObject);
+    private native void cSetNumberOfThreads(long cObject, long nThreads);
+    private native long cGetNumberOfThreads(long cObject);
 }
 /** @} */
@@ -58,6 +58,7 @@ public class Environment {
     protected static native void cSetNumberOfThreads(int numThreads);
     protected static native int  cGetNumberOfThreads();
     protected static native void cEnableThreadPinning(boolean enableThreadPinningFlag);
+    protected static native long cGetNumberOfThreadAttachments();
 
     /** @private */
     static {
@@ -114,5 +115,15 @@ public class Environment {
     public static int getNumberOfThreads() {
         return cGetNumberOfThreads();
     }
+
+    /**
+    * Returns the number of times the native threads of the library were attached to Java VM.
+    * The threads stay attached until they exit, so the value stops growing once all the worker threads
+    * have called Java objects such as numeric tables or tree node visitors
+    * @return Number of attachments of the native threads to Java VM
+    */
+    public static long getNumberOfThreadAttachments() {
+        return cGetNumberOfThreadAttachments();
+    }
 }
 /** @} */
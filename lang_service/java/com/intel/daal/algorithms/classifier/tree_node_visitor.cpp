@@ -51,46 +51,29 @@ namespace classification
 
 bool JavaTreeNodeVisitor::onLeafNode(size_t level, size_t response)
 {
-    ThreadLocalStorage tls = _tls.local();
-    jint status = jvm->AttachCurrentThread((void **)(&tls.jniEnv), NULL);
-    JNIEnv *env = tls.jniEnv;
+    /* Worker threads stay attached to Java VM, so the repeated calls do not attach them again */
+    JNIEnv *env = NULL;
+    if(!daal::internal::attachCurrentThread(jvm, env))
+        return false;
 
-    /* Get current context */
-    jclass javaObjectClass = env->GetObjectClass(javaObject);
-    if(javaObjectClass == NULL)
-        throwError(env, "Couldn't find class of this java object");
-
-    jmethodID methodID = env->GetMethodID(javaObjectClass, "onLeafNode", "(JJ)Z");
+    jmethodID methodID = daal::internal::JavaMethodCache::get(env, javaObject, "onLeafNode", "(JJ)Z");
     if(methodID == NULL)
         throwError(env, "Couldn't find onLeafNode method");
 
     jboolean val = env->CallBooleanMethod(javaObject, methodID, (jlong)level, (jlong)response);
-
-    if(!tls.is_main_thread)
-        status = jvm->DetachCurrentThread();
-    _tls.local() = tls;
     return val != 0;
 }
 
 bool JavaTreeNodeVisitor::onSplitNode(size_t level, size_t featureIndex, double featureValue)
 {
-    ThreadLocalStorage tls = _tls.local();
-    jint status = jvm->AttachCurrentThread((void **)(&tls.jniEnv), NULL);
-    JNIEnv *env = tls.jniEnv;
+    JNIEnv *env = NULL;
+    if(!daal::internal::attachCurrentThread(jvm, env))
+        return false;
 
-    /* Get current context */
-    jclass javaObjectClass = env->GetObjectClass(javaObject);
-    if(javaObjectClass == NULL)
-        throwError(env, "Couldn't find class of this java object");
-
-    jmethodID methodID = env->GetMethodID(javaObjectClass, "onSplitNode", "(JJD)Z");
+    jmethodID methodID = daal::internal::JavaMethodCache::get(env, javaObject, "onSplitNode", "(JJD)Z");
     if(methodID == NULL)
         throwError(env, "Couldn't find onSplitNode method");
     jboolean val = env->CallBooleanMethod(javaObject, methodID, (jlong)level, (jlong)featureIndex, (jdouble)featureValue);
-
-    if(!tls.is_main_thread)
-        status = jvm->DetachCurrentThread();
-    _tls.local() = tls;
     return val != 0;
 }
 
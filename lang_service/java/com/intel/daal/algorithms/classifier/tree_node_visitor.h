@@ -50,6 +50,7 @@
 #include "daal.h"
 #include "algorithms/classifier/tree_traverse.h"
 #include "java_callback.h"
+#include "java_threading_helper.h"
 
 namespace daal
 {
@@ -0,0 +1,130 @@
+/* file: train_distributed_types.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+
+#include <jni.h>
+
+#include "daal.h"
+#include "decision_forest/classification/training/JDistributedStep1Parameter.h"
+#include "decision_forest/classification/training/JDistributedStep2MasterInput.h"
+#include "decision_forest/classification/training/JTrainingPartialResult.h"
+#include "common_helpers.h"
+
+USING_COMMON_NAMESPACES()
+namespace dfc = daal::algorithms::decision_forest::classification;
+namespace dfct = daal::algorithms::decision_forest::classification::training;
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_classification_training_DistributedStep1Parameter
+* Method:    cGetFirstTreeIndex
+* Signature: (J)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_decision_1forest_classification_training_DistributedStep1Parameter_cGetFirstTreeIndex
+(JNIEnv *, jobject, jlong parAddr)
+{
+    return(jlong)(*(dfct::DistributedStep1Parameter *)parAddr).firstTreeIndex;
+}
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_classification_training_DistributedStep1Parameter
+* Method:    cSetFirstTreeIndex
+* Signature: (JJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_decision_1forest_classification_training_DistributedStep1Parameter_cSetFirstTreeIndex
+(JNIEnv *, jobject, jlong parAddr, jlong value)
+{
+    (*(dfct::DistributedStep1Parameter *)parAddr).firstTreeIndex = value;
+}
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_classification_training_DistributedStep2MasterInput
+* Method:    cAddInput
+* Signature: (JIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_decision_1forest_classification_training_DistributedStep2MasterInput_cAddInput
+(JNIEnv *, jobject thisObj, jlong inputAddr, jint id, jlong presAddr)
+{
+    jniInput<dfct::DistributedInput>::add<dfct::Step2MasterInputId, dfct::PartialResult>(inputAddr, id, presAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_classification_training_TrainingPartialResult
+* Method:    cNewPartialResult
+* Signature: ()J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_decision_1forest_classification_training_TrainingPartialResult_cNewPartialResult
+(JNIEnv *, jobject thisObj)
+{
+    return jniArgument<dfct::PartialResult>::newObj();
+}
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_classification_training_TrainingPartialResult
+* Method:    cGetModel
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_decision_1forest_classification_training_TrainingPartialResult_cGetModel
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id)
+{
+    return jniArgument<dfct::PartialResult>::get<classifier::training::PartialResultId, dfc::Model>(presAddr, id);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_classification_training_TrainingPartialResult
+* Method:    cGetNumericTable
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_decision_1forest_classification_training_TrainingPartialResult_cGetNumericTable
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id)
+{
+    return jniArgument<dfct::PartialResult>::get<dfct::PartialResultNumericTableId, NumericTable>(presAddr, id);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_classification_training_TrainingPartialResult
+* Method:    cSetNumericTable
+* Signature: (JIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_decision_1forest_classification_training_TrainingPartialResult_cSetNumericTable
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id, jlong ntAddr)
+{
+    jniArgument<dfct::PartialResult>::set<dfct::PartialResultNumericTableId, NumericTable>(presAddr, id, ntAddr);
+}
@@ -82,3 +82,14 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_decision_1forest_regressi
 {
     return jniBatch<dfrp::Method, dfrp::Batch, dfrp::defaultDense>::getClone(prec, method, algAddr);
 }
+
+/*
+* Class:     com_intel_daal_algorithms_decision_forest_regression_prediction_PredictionBatch
+* Method:    cSetResult
+* Signature: (JIIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_decision_1forest_regression_prediction_PredictionBatch_cSetResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method, jlong resAddr)
+{
+    jniBatch<dfrp::Method, dfrp::Batch, dfrp::defaultDense>::setResult<dfrp::Result>(prec, method, algAddr, resAddr);
+}
@@ -104,3 +104,14 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_decision_1tree_regression
 {
     return jniBatch<dtrp::Method, dtrp::Batch, dtrp::defaultDense>::getClone(prec, method, algAddr);
 }
+
+/*
+* Class:     com_intel_daal_algorithms_decision_tree_regression_prediction_PredictionBatch
+* Method:    cSetResult
+* Signature: (JIIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_decision_1tree_regression_prediction_PredictionBatch_cSetResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method, jlong resAddr)
+{
+    jniBatch<dtrp::Method, dtrp::Batch, dtrp::defaultDense>::setResult<dtrp::Result>(prec, method, algAddr, resAddr);
+}
@@ -54,6 +54,17 @@ namespace dtrp = daal::algorithms::decision_tree::regression::prediction;
 
 #define predictionId  com_intel_daal_algorithms_decision_tree_regression_prediction_PredictionResultId_predictionId
 
+/*
+* Class:     com_intel_daal_algorithms_decision_tree_regression_prediction_PredictionResult
+* Method:    cNewResult
+* Signature: ()J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_decision_1tree_regression_prediction_PredictionResult_cNewResult
+(JNIEnv *, jobject)
+{
+    return jniArgument<dtrp::Result>::newObj();
+}
+
 /*
 * Class:     com_intel_daal_algorithms_decision_tree_regression_prediction_PredictionResult
 * Method:    cGetResultTable
@@ -43,6 +43,7 @@
 #include "engines/JBatchBase.h"
 
 #include "daal.h"
+#include "common_helpers_functions.h"
 
 using namespace daal;
 using namespace daal::services;
@@ -59,3 +60,42 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_engines_BatchBase_cGetInp
     return (jlong) & (staticPointerCast<engines::BatchBase, AlgorithmIface>(
         *((SharedPtr<AlgorithmIface> *)algAddr)))->input;
 }
+
+/*
+ * Class:     com_intel_daal_algorithms_engines_BatchBase
+ * Method:    cSkipAhead
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_engines_BatchBase_cSkipAhead
+  (JNIEnv *env, jobject thisObj, jlong algAddr, jlong nSkip)
+{
+    services::Status s = staticPointerCast<engines::BatchBase, AlgorithmIface>(
+        *((SharedPtr<AlgorithmIface> *)algAddr))->skipAhead((size_t)nSkip);
+    DAAL_CHECK_THROW(s);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_engines_BatchBase
+ * Method:    cLeapfrog
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_engines_BatchBase_cLeapfrog
+  (JNIEnv *env, jobject thisObj, jlong algAddr, jlong threadIdx, jlong nThreads)
+{
+    services::Status s = staticPointerCast<engines::BatchBase, AlgorithmIface>(
+        *((SharedPtr<AlgorithmIface> *)algAddr))->leapfrog((size_t)threadIdx, (size_t)nThreads);
+    DAAL_CHECK_THROW(s);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_engines_BatchBase
+ * Method:    cSkipAheadToBlock
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_engines_BatchBase_cSkipAheadToBlock
+  (JNIEnv *env, jobject thisObj, jlong algAddr, jlong threadIdx, jlong nThreads)
+{
+    services::Status s = staticPointerCast<engines::BatchBase, AlgorithmIface>(
+        *((SharedPtr<AlgorithmIface> *)algAddr))->skipAheadToBlock((size_t)threadIdx, (size_t)nThreads);
+    DAAL_CHECK_THROW(s);
+}
@@ -46,6 +46,7 @@
 #include "gbt/classification/JModel.h"
 #include "common_helpers.h"
 #include "common_helpers_functions.h"
+#include "java_tree_arrays.h"
 #include "../../regression/tree_node_visitor.h"
 
 USING_COMMON_NAMESPACES()
@@ -106,3 +107,58 @@ JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_classification_Model_c
 {
     (*(gbtc::ModelPtr *)modAddr)->clear();
 }
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_Model
+* Method:    cCreate
+* Signature: (J)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_Model_cCreate
+(JNIEnv *env, jclass, jlong nFeatures)
+{
+    services::Status s;
+    gbtc::ModelPtr model = gbtc::Model::create((size_t)nFeatures, &s);
+    if (!s)
+    {
+        DAAL_CHECK_THROW(s);
+        return 0;
+    }
+    return (jlong)(new gbtc::ModelPtr(model));
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_Model
+* Method:    cGetNumberOfNodes
+* Signature: (JJ)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_Model_cGetNumberOfNodes
+(JNIEnv *, jobject, jlong modAddr, jlong iTree)
+{
+    return (jlong)(*(gbtc::ModelPtr *)modAddr)->getNumberOfNodes((size_t)iTree);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_Model
+* Method:    cExportTree
+* Signature: (JJ[I[D[I[I[D)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_classification_Model_cExportTree
+(JNIEnv *env, jobject, jlong modAddr, jlong iTree, jintArray featureIndex, jdoubleArray featureValue,
+ jintArray leftChild, jintArray rightChild, jdoubleArray response)
+{
+    daal::exportTreeToJavaArrays(env, *(*(gbtc::ModelPtr *)modAddr), (size_t)iTree,
+                                 featureIndex, featureValue, leftChild, rightChild, response);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_Model
+* Method:    cImportTree
+* Signature: (J[I[D[I[I[D)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_classification_Model_cImportTree
+(JNIEnv *env, jobject, jlong modAddr, jintArray featureIndex, jdoubleArray featureValue,
+ jintArray leftChild, jintArray rightChild, jdoubleArray response)
+{
+    daal::importTreeFromJavaArrays(env, *(*(gbtc::ModelPtr *)modAddr),
+                                   featureIndex, featureValue, leftChild, rightChild, response);
+}
@@ -0,0 +1,171 @@
+/* file: train_distributed.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include <jni.h>
+
+#include "daal.h"
+#include "gbt/classification/training/JTrainingDistributedStep1Local.h"
+#include "gbt/classification/training/JTrainingDistributedStep2Master.h"
+#include "common_helpers.h"
+
+USING_COMMON_NAMESPACES()
+namespace gbtct = daal::algorithms::gbt::classification::training;
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local
+* Method:    cInit
+* Signature: (IIJ)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local_cInit
+(JNIEnv *, jobject thisObj, jint prec, jint method, jlong nClasses)
+{
+    return jniDistributed<step1Local, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::newObj(prec, method, nClasses);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local
+* Method:    cInitParameter
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local_cInitParameter
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step1Local, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getParameter(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local
+* Method:    cGetInput
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local_cGetInput
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step1Local, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getInput(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local
+* Method:    cGetPartialResult
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local_cGetPartialResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step1Local, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getPartialResult(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local
+* Method:    cClone
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep1Local_cClone
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step1Local, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getClone(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master
+* Method:    cInit
+* Signature: (IIJ)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master_cInit
+(JNIEnv *, jobject thisObj, jint prec, jint method, jlong nClasses)
+{
+    return jniDistributed<step2Master, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::newObj(prec, method, nClasses);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master
+* Method:    cInitParameter
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master_cInitParameter
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step2Master, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getParameter(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master
+* Method:    cGetInput
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master_cGetInput
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step2Master, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getInput(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master
+* Method:    cGetPartialResult
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master_cGetPartialResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step2Master, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getPartialResult(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master
+* Method:    cGetResult
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master_cGetResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step2Master, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getResult(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master
+* Method:    cClone
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_classification_training_TrainingDistributedStep2Master_cClone
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniDistributed<step2Master, gbtct::Method, gbtct::Distributed, gbtct::defaultDense>::getClone(prec, method, algAddr);
+}
@@ -46,6 +46,7 @@
 #include "gbt/regression/JModel.h"
 #include "common_helpers.h"
 #include "common_helpers_functions.h"
+#include "java_tree_arrays.h"
 #include "../../regression/tree_node_visitor.h"
 #include "algorithms/gradient_boosted_trees/gbt_regression_model.h"
 
@@ -108,3 +109,58 @@ JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_Model_cClea
 {
     (*(gbtr::ModelPtr *)modAddr)->clear();
 }
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_Model
+* Method:    cCreate
+* Signature: (J)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_Model_cCreate
+(JNIEnv *env, jclass, jlong nFeatures)
+{
+    services::Status s;
+    gbtr::ModelPtr model = gbtr::Model::create((size_t)nFeatures, &s);
+    if (!s)
+    {
+        DAAL_CHECK_THROW(s);
+        return 0;
+    }
+    return (jlong)(new gbtr::ModelPtr(model));
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_Model
+* Method:    cGetNumberOfNodes
+* Signature: (JJ)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_Model_cGetNumberOfNodes
+(JNIEnv *, jobject, jlong modAddr, jlong iTree)
+{
+    return (jlong)(*(gbtr::ModelPtr *)modAddr)->getNumberOfNodes((size_t)iTree);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_Model
+* Method:    cExportTree
+* Signature: (JJ[I[D[I[I[D)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_Model_cExportTree
+(JNIEnv *env, jobject, jlong modAddr, jlong iTree, jintArray featureIndex, jdoubleArray featureValue,
+ jintArray leftChild, jintArray rightChild, jdoubleArray response)
+{
+    daal::exportTreeToJavaArrays(env, *(*(gbtr::ModelPtr *)modAddr), (size_t)iTree,
+                                 featureIndex, featureValue, leftChild, rightChild, response);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_Model
+* Method:    cImportTree
+* Signature: (J[I[D[I[I[D)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_Model_cImportTree
+(JNIEnv *env, jobject, jlong modAddr, jintArray featureIndex, jdoubleArray featureValue,
+ jintArray leftChild, jintArray rightChild, jdoubleArray response)
+{
+    daal::importTreeFromJavaArrays(env, *(*(gbtr::ModelPtr *)modAddr),
+                                   featureIndex, featureValue, leftChild, rightChild, response);
+}
@@ -0,0 +1,179 @@
+/* file: train_distributed_types.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include <jni.h>
+
+#include "daal.h"
+#include "gbt/regression/training/JDistributedStep1LocalInput.h"
+#include "gbt/regression/training/JDistributedPartialResultStep1.h"
+#include "gbt/regression/training/JDistributedStep2MasterInput.h"
+#include "gbt/regression/training/JDistributedPartialResult.h"
+#include "common_helpers.h"
+
+USING_COMMON_NAMESPACES()
+namespace gbtrt = daal::algorithms::gbt::regression::training;
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput
+* Method:    cSetTrainingState
+* Signature: (JIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput_cSetTrainingState
+(JNIEnv *, jobject thisObj, jlong inputAddr, jint id, jlong presAddr)
+{
+    jniInput<gbtrt::DistributedStep1LocalInput>::
+        set<gbtrt::DistributedStep1LocalInputId, gbtrt::DistributedPartialResult>(inputAddr, id, presAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput
+* Method:    cGetTrainingState
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput_cGetTrainingState
+(JNIEnv *, jobject thisObj, jlong inputAddr, jint id)
+{
+    gbtrt::DistributedStep1LocalInput *input = (gbtrt::DistributedStep1LocalInput *)inputAddr;
+    gbtrt::DistributedPartialResultPtr state = input->get((gbtrt::DistributedStep1LocalInputId)id);
+    if(!state)
+        return (jlong)0;
+    return (jlong)(new SerializationIfacePtr(state));
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput
+* Method:    cSetInternalInput
+* Signature: (JIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput_cSetInternalInput
+(JNIEnv *, jobject thisObj, jlong inputAddr, jint id, jlong ntAddr)
+{
+    jniInput<gbtrt::DistributedStep1LocalInput>::
+        set<gbtrt::DistributedStep1LocalInternalInputId, NumericTable>(inputAddr, id, ntAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput
+* Method:    cGetInternalInput
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedStep1LocalInput_cGetInternalInput
+(JNIEnv *, jobject thisObj, jlong inputAddr, jint id)
+{
+    gbtrt::DistributedStep1LocalInput *input = (gbtrt::DistributedStep1LocalInput *)inputAddr;
+    NumericTablePtr table = input->get((gbtrt::DistributedStep1LocalInternalInputId)id);
+    if(!table)
+        return (jlong)0;
+    return (jlong)(new SerializationIfacePtr(table));
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResultStep1
+* Method:    cGetNumericTable
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResultStep1_cGetNumericTable
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id)
+{
+    return jniArgument<gbtrt::DistributedPartialResultStep1>::
+        get<gbtrt::DistributedPartialResultStep1Id, NumericTable>(presAddr, id);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResultStep1
+* Method:    cSetNumericTable
+* Signature: (JIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResultStep1_cSetNumericTable
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id, jlong ntAddr)
+{
+    jniArgument<gbtrt::DistributedPartialResultStep1>::
+        set<gbtrt::DistributedPartialResultStep1Id, NumericTable>(presAddr, id, ntAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedStep2MasterInput
+* Method:    cAddInput
+* Signature: (JIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedStep2MasterInput_cAddInput
+(JNIEnv *, jobject thisObj, jlong inputAddr, jint id, jlong presAddr)
+{
+    jniInput<gbtrt::DistributedStep2MasterInput>::
+        add<gbtrt::DistributedStep2MasterInputId, gbtrt::DistributedPartialResultStep1>(inputAddr, id, presAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResult
+* Method:    cGetNumericTable
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResult_cGetNumericTable
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id)
+{
+    return jniArgument<gbtrt::DistributedPartialResult>::
+        get<gbtrt::DistributedPartialResultId, NumericTable>(presAddr, id);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResult
+* Method:    cGetModel
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResult_cGetModel
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id)
+{
+    return jniArgument<gbtrt::DistributedPartialResult>::
+        get<gbtrt::DistributedPartialResultModelId, gbt::regression::Model>(presAddr, id);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResult
+* Method:    cIsCompleted
+* Signature: (J)Z
+*/
+JNIEXPORT jboolean JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_DistributedPartialResult_cIsCompleted
+(JNIEnv *, jobject thisObj, jlong presAddr)
+{
+    gbtrt::DistributedPartialResultPtr pres =
+        services::staticPointerCast<gbtrt::DistributedPartialResult, SerializationIface>(*((SerializationIfacePtr *)presAddr));
+    return (jboolean)pres->isCompleted();
+}
@@ -0,0 +1,152 @@
+/* file: train_online.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include <jni.h>
+
+#include "daal.h"
+#include "gbt/regression/training/JTrainingOnline.h"
+#include "gbt/regression/training/JOnlinePartialResult.h"
+#include "common_helpers.h"
+
+USING_COMMON_NAMESPACES()
+namespace gbtrt = daal::algorithms::gbt::regression::training;
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_TrainingOnline
+* Method:    cInit
+* Signature: (II)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_TrainingOnline_cInit
+(JNIEnv *, jobject thisObj, jint prec, jint method)
+{
+    return jniOnline<gbtrt::Method, gbtrt::Online, gbtrt::defaultDense>::newObj(prec, method);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_TrainingOnline
+* Method:    cInitParameter
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_TrainingOnline_cInitParameter
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniOnline<gbtrt::Method, gbtrt::Online, gbtrt::defaultDense>::getParameter(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_TrainingOnline
+* Method:    cGetInput
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_TrainingOnline_cGetInput
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniOnline<gbtrt::Method, gbtrt::Online, gbtrt::defaultDense>::getInput(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_TrainingOnline
+* Method:    cGetPartialResult
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_TrainingOnline_cGetPartialResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniOnline<gbtrt::Method, gbtrt::Online, gbtrt::defaultDense>::getPartialResult(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_TrainingOnline
+* Method:    cSetPartialResult
+* Signature: (JIIJ)V
+*/
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_TrainingOnline_cSetPartialResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method, jlong presAddr)
+{
+    jniOnline<gbtrt::Method, gbtrt::Online, gbtrt::defaultDense>::
+        setPartialResult<gbtrt::OnlinePartialResult>(prec, method, algAddr, presAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_TrainingOnline
+* Method:    cGetResult
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_TrainingOnline_cGetResult
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniOnline<gbtrt::Method, gbtrt::Online, gbtrt::defaultDense>::getResult(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_TrainingOnline
+* Method:    cClone
+* Signature: (JII)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_TrainingOnline_cClone
+(JNIEnv *, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniOnline<gbtrt::Method, gbtrt::Online, gbtrt::defaultDense>::getClone(prec, method, algAddr);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_OnlinePartialResult
+* Method:    cGetNumericTable
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_OnlinePartialResult_cGetNumericTable
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id)
+{
+    return jniArgument<gbtrt::OnlinePartialResult>::
+        get<gbtrt::DistributedPartialResultId, NumericTable>(presAddr, id);
+}
+
+/*
+* Class:     com_intel_daal_algorithms_gbt_regression_training_OnlinePartialResult
+* Method:    cGetModel
+* Signature: (JI)J
+*/
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_gbt_regression_training_OnlinePartialResult_cGetModel
+(JNIEnv *, jobject thisObj, jlong presAddr, jint id)
+{
+    return jniArgument<gbtrt::OnlinePartialResult>::
+        get<gbtrt::DistributedPartialResultModelId, gbt::regression::Model>(presAddr, id);
+}
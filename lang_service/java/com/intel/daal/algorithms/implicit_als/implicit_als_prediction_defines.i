@@ -44,10 +44,12 @@
 #include "implicit_als/prediction/ratings/JRatingsPartialResultId.h"
 #include "implicit_als/prediction/ratings/JRatingsResultId.h"
 #include "implicit_als/prediction/ratings/JRatingsMethod.h"
+#include "implicit_als/prediction/ratings/JRatingsStep2MasterInputId.h"
 
 #include "common_defines.i"
 
 #define defaultDenseId          com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsMethod_defaultDenseId
+#define topKId                  com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsMethod_topKId
 
 #define modelId                 com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsModelInputId_modelId
 
@@ -55,5 +57,8 @@
 #define itemsPartialModelId     com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsPartialModelInputId_itemsPartialModelId
 
 #define predictionId            com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsResultId_predictionId
+#define topItemsId              com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsResultId_topItemsId
 
 #define finalResultId           com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsPartialResultId_finalResultId
+
+#define partialResultsId        com_intel_daal_algorithms_implicit_als_prediction_ratings_RatingsStep2MasterInputId_partialResultsId
@@ -60,7 +60,7 @@ using namespace daal::algorithms::implicit_als::prediction::ratings;
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsBatch_cInit
   (JNIEnv *env, jobject thisObj, jint prec, jint method)
 {
-    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense>::newObj(prec, method);
+    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense, topK>::newObj(prec, method);
 }
 
 /*
@@ -71,7 +71,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsBatch_cInitParameter
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense>::getParameter(prec, method, algAddr);
+    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense, topK>::getParameter(prec, method, algAddr);
 }
 
 /*
@@ -82,7 +82,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsBatch_cGetResult
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense>::getResult(prec, method, algAddr);
+    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense, topK>::getResult(prec, method, algAddr);
 }
 
 /*
@@ -93,7 +93,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_
 JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsBatch_cSetResult
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method, jlong resultAddr)
 {
-    jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense>::
+    jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense, topK>::
         setResult<implicit_als::prediction::ratings::Result>(prec, method, algAddr, resultAddr);
 }
 
@@ -105,5 +105,5 @@ JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_r
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsBatch_cClone
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense>::getClone(prec, method, algAddr);
+    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense, topK>::getClone(prec, method, algAddr);
 }
@@ -60,7 +60,7 @@ using namespace daal::algorithms::implicit_als::prediction::ratings;
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributed_cInit
   (JNIEnv *env, jobject thisObj, jint prec, jint method)
 {
-    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::newObj(prec, method);
+    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::newObj(prec, method);
 }
 
 /*
@@ -71,7 +71,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributed_cInitParameter
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::getParameter(prec, method, algAddr);
+    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::getParameter(prec, method, algAddr);
 }
 
 /*
@@ -82,7 +82,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributed_cGetPartialResult
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::getPartialResult(prec, method, algAddr);
+    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::getPartialResult(prec, method, algAddr);
 }
 
 /*
@@ -93,7 +93,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_
 JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributed_cSetPartialResult
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method, jlong partialResultAddr, jboolean initFlag)
 {
-    jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::
+    jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::
         setPartialResult<implicit_als::prediction::ratings::PartialResult>(prec, method, algAddr, partialResultAddr, initFlag);
 }
 
@@ -105,7 +105,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_r
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributed_cGetResult
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::getResult(prec, method, algAddr);
+    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::getResult(prec, method, algAddr);
 }
 
 /*
@@ -116,7 +116,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_
 JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributed_cSetResult
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method, jlong resultAddr)
 {
-    jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::
+    jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::
         setResult<implicit_als::prediction::ratings::Result>(prec, method, algAddr, resultAddr);
 }
 
@@ -128,5 +128,5 @@ JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_r
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributed_cClone
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::getClone(prec, method, algAddr);
+    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::getClone(prec, method, algAddr);
 }
@@ -60,7 +60,7 @@ using namespace daal::algorithms::implicit_als::prediction::ratings;
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsDistributedInput_cInit
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense>::getInput(prec, method, algAddr);
+    return jniDistributed<step1Local, implicit_als::prediction::ratings::Method, Distributed, defaultDense, topK>::getInput(prec, method, algAddr);
 }
 
 /*
@@ -60,7 +60,7 @@ using namespace daal::algorithms::implicit_als::prediction::ratings;
 JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_implicit_1als_prediction_ratings_RatingsInput_cInit
   (JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
 {
-    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense>::getInput(prec, method, algAddr);
+    return jniBatch<implicit_als::prediction::ratings::Method, Batch, defaultDense, topK>::getInput(prec, method, algAddr);
 }
 
 /*
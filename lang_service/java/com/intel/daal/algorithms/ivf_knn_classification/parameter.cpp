@@ -0,0 +1,168 @@
+/* file: parameter.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include <jni.h>
+#include "daal.h"
+#include "ivf_knn_classification/JParameter.h"
+#include "common_helpers.h"
+
+USING_COMMON_NAMESPACES();
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cSetK
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cSetK
+(JNIEnv *env, jobject thisObj, jlong parAddr, jlong value)
+{
+    (*(ivf_knn_classification::Parameter *)parAddr).k = value;
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cGetK
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cGetK
+(JNIEnv *env, jobject thisObj, jlong parAddr)
+{
+    return (jlong)((*(ivf_knn_classification::Parameter *)parAddr).k);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cSetNLists
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cSetNLists
+(JNIEnv *env, jobject thisObj, jlong parAddr, jlong value)
+{
+    (*(ivf_knn_classification::Parameter *)parAddr).nLists = value;
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cGetNLists
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cGetNLists
+(JNIEnv *env, jobject thisObj, jlong parAddr)
+{
+    return (jlong)((*(ivf_knn_classification::Parameter *)parAddr).nLists);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cSetNProbes
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cSetNProbes
+(JNIEnv *env, jobject thisObj, jlong parAddr, jlong value)
+{
+    (*(ivf_knn_classification::Parameter *)parAddr).nProbes = value;
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cGetNProbes
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cGetNProbes
+(JNIEnv *env, jobject thisObj, jlong parAddr)
+{
+    return (jlong)((*(ivf_knn_classification::Parameter *)parAddr).nProbes);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cSetNIterations
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cSetNIterations
+(JNIEnv *env, jobject thisObj, jlong parAddr, jlong value)
+{
+    (*(ivf_knn_classification::Parameter *)parAddr).nIterations = value;
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cGetNIterations
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cGetNIterations
+(JNIEnv *env, jobject thisObj, jlong parAddr)
+{
+    return (jlong)((*(ivf_knn_classification::Parameter *)parAddr).nIterations);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cSetEngine
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cSetEngine
+(JNIEnv *env, jobject thisObj, jlong cParameter, jlong engineAddr)
+{
+    (((ivf_knn_classification::Parameter *)cParameter))->engine = staticPointerCast<engines::BatchBase, AlgorithmIface> (*(SharedPtr<AlgorithmIface> *)engineAddr);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cSetResultsToCompute
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cSetResultsToCompute
+(JNIEnv *env, jobject thisObj, jlong parAddr, jlong value)
+{
+    (*(ivf_knn_classification::Parameter *)parAddr).resultsToCompute = value;
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_1knn_1classification_Parameter
+ * Method:    cGetResultsToCompute
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_Parameter_cGetResultsToCompute
+(JNIEnv *env, jobject thisObj, jlong parAddr)
+{
+    return (jlong)((*(ivf_knn_classification::Parameter *)parAddr).resultsToCompute);
+}
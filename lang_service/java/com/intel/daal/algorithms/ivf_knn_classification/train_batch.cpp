@@ -0,0 +1,107 @@
+/* file: train_batch.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include <jni.h>
+
+#include "ivf_knn_classification/training/JTrainingBatch.h"
+#include "ivf_knn_classification/training/JTrainingMethod.h"
+
+#include "common_helpers.h"
+
+#define defaultDense com_intel_daal_algorithms_ivf_knn_classification_training_TrainingMethod_defaultDenseValue
+
+USING_COMMON_NAMESPACES();
+using namespace daal::algorithms::ivf_knn_classification::training;
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_knn_classification_training_BatchTraining
+ * Method:    cInit
+ * Signature:(II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_training_TrainingBatch_cInit
+(JNIEnv *env, jobject thisObj, jint prec, jint method)
+{
+    return jniBatch<ivf_knn_classification::training::Method, Batch, defaultDense>::newObj(prec, method);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_knn_classification_training_TrainingBatch
+ * Method:    cInitParameter
+ * Signature: (JII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_training_TrainingBatch_cInitParameter
+(JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniBatch<ivf_knn_classification::training::Method, Batch, defaultDense>::getParameter(prec, method, algAddr);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_knn_classification_training_BatchTraining
+ * Method:    cGetInput
+ * Signature:(JII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_training_TrainingBatch_cGetInput
+(JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniBatch<ivf_knn_classification::training::Method, Batch, defaultDense>::getInput(prec, method, algAddr);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_knn_classification_training_BatchTraining
+ * Method:    cGetResult
+ * Signature:(JII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_training_TrainingBatch_cGetResult
+(JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniBatch<ivf_knn_classification::training::Method, Batch, defaultDense>::getResult(prec, method, algAddr);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_ivf_knn_classification_training_BatchTraining
+ * Method:    cClone
+ * Signature:(JII)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_ivf_1knn_1classification_training_TrainingBatch_cClone
+(JNIEnv *env, jobject thisObj, jlong algAddr, jint prec, jint method)
+{
+    return jniBatch<ivf_knn_classification::training::Method, Batch, defaultDense>::getClone(prec, method, algAddr);
+}
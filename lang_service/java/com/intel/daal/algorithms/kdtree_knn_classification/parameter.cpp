@@ -122,3 +122,47 @@ JNIEXPORT jint JNICALL Java_com_intel_daal_algorithms_kdtree_1knn_1classificatio
 {
     return (jint)((*(kdtree_knn_classification::Parameter *)parAddr).dataUseInModel);
 }
+
+/*
+ * Class:     com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter
+ * Method:    cSetResultsToCompute
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter_cSetResultsToCompute
+(JNIEnv *env, jobject thisObj, jlong parAddr, jlong value)
+{
+    (*(kdtree_knn_classification::Parameter *)parAddr).resultsToCompute = value;
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter
+ * Method:    cGetResultsToCompute
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter_cGetResultsToCompute
+(JNIEnv *env, jobject thisObj, jlong parAddr)
+{
+    return (jlong)((*(kdtree_knn_classification::Parameter *)parAddr).resultsToCompute);
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter
+ * Method:    cSetRebalanceRatio
+ * Signature:(JD)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter_cSetRebalanceRatio
+(JNIEnv *env, jobject thisObj, jlong parAddr, jdouble value)
+{
+    (*(kdtree_knn_classification::Parameter *)parAddr).rebalanceRatio = value;
+}
+
+/*
+ * Class:     com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter
+ * Method:    cGetRebalanceRatio
+ * Signature:(J)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_intel_daal_algorithms_kdtree_1knn_1classification_Parameter_cGetRebalanceRatio
+(JNIEnv *env, jobject thisObj, jlong parAddr)
+{
+    return (jdouble)((*(kdtree_knn_classification::Parameter *)parAddr).rebalanceRatio);
+}
@@ -49,6 +49,7 @@
 #include <jni.h>
 #include "daal.h"
 #include "java_callback.h"
+#include "java_threading_helper.h"
 #include "algorithms/regression/tree_traverse.h"
 
 namespace daal
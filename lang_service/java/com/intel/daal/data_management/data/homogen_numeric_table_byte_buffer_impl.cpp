@@ -45,10 +45,21 @@
 #include "numeric_table.h"
 #include "homogen_numeric_table.h"
 #include "common_helpers_functions.h"
+#include "java_data_segments.h"
 
 using namespace daal;
 using namespace daal::data_management;
 
+template<typename T>
+static bool getTableData(SerializationIface *obj, void *&data, size_t &size)
+{
+    HomogenNumericTable<T> *nt = dynamic_cast<HomogenNumericTable<T> *>(obj);
+    if (!nt) { return false; }
+    data = nt->getArray();
+    size = nt->getNumberOfRows() * nt->getNumberOfColumns() * sizeof(T);
+    return true;
+}
+
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    getIndexType
@@ -210,7 +221,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumer
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    releaseFloatBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_releaseFloatBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -235,7 +246,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericT
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    releaseDoubleBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_releaseDoubleBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -260,7 +271,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericT
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    releaseIntBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_releaseIntBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -285,7 +296,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericT
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    getDoubleBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_getDoubleBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -311,7 +322,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumer
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    getFloatBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_getFloatBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -338,7 +349,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumer
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    getIntBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_getIntBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -365,7 +376,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumer
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    getDoubleColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_getDoubleColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -392,7 +403,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumer
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    getFloatColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_getFloatColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -419,7 +430,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumer
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    getIntColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_getIntColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -445,7 +456,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenNumer
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    releaseFloatColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_releaseFloatColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -470,7 +481,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericT
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    releaseDoubleColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_releaseDoubleColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -495,7 +506,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericT
 /*
  * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
  * Method:    releaseIntColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_releaseIntColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -777,3 +788,22 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericT
 
     DAAL_CHECK_THROW(((HomogenNumericTable<int> *)tbl)->allocateDataMemory());
 }
+
+/*
+ * Class:     com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl
+ * Method:    cGetDataSegments
+ * Signature:(JJ)[Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_intel_daal_data_1management_data_HomogenNumericTableByteBufferImpl_cGetDataSegments
+(JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong segmentSize)
+{
+    SerializationIface *obj = ((SerializationIfacePtr *)numTableAddr)->get();
+
+    void *data  = NULL;
+    size_t size = 0;
+    if (!getTableData<double>(obj, data, size) && !getTableData<float>(obj, data, size) && !getTableData<int>(obj, data, size))
+    {
+        return NULL;
+    }
+    return daal::internal::createDataSegments(env, data, size, (size_t)segmentSize);
+}
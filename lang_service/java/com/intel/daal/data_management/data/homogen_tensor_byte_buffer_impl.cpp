@@ -44,11 +44,22 @@
 #include "JHomogenTensorByteBufferImpl.h"
 #include "daal.h"
 #include "common_helpers_functions.h"
+#include "java_data_segments.h"
 
 using namespace daal;
 using namespace daal::services;
 using namespace daal::data_management;
 
+template<typename T>
+static bool getTensorData(SerializationIface *obj, void *&data, size_t &size)
+{
+    HomogenTensor<T> *tensor = dynamic_cast<HomogenTensor<T> *>(obj);
+    if (!tensor) { return false; }
+    data = tensor->getArray();
+    size = tensor->getSize() * sizeof(T);
+    return true;
+}
+
 /*
  * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
  * Method:    getIndexType
@@ -89,7 +100,7 @@ JNIEXPORT jint JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorBy
 /*
  * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
  * Method:    getDoubleSubtensorBuffer
- * Signature: (J[JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature: (J[JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorByteBufferImpl_getDoubleSubtensorBuffer
   (JNIEnv *env, jobject thisObject, jlong cObject, jlongArray jDims, jlong jRangeIdx, jlong jRangeNum, jobject jBuff)
@@ -129,7 +140,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenTenso
 /*
  * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
  * Method:    getFloatSubtensorBuffer
- * Signature: (J[JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature: (J[JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorByteBufferImpl_getFloatSubtensorBuffer
   (JNIEnv *env, jobject thisObject, jlong cObject, jlongArray jDims, jlong jRangeIdx, jlong jRangeNum, jobject jBuff)
@@ -169,7 +180,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenTenso
 /*
  * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
  * Method:    getIntSubtensorBuffer
- * Signature: (J[JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature: (J[JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorByteBufferImpl_getIntSubtensorBuffer
   (JNIEnv *env, jobject thisObject, jlong cObject, jlongArray jDims, jlong jRangeIdx, jlong jRangeNum, jobject jBuff)
@@ -209,7 +220,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_HomogenTenso
 /*
  * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
  * Method:    releaseDoubleSubtensorBuffer
- * Signature: (J[JJJLjava/nio/ByteBuffer;)V
+ * Signature: (J[JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorByteBufferImpl_releaseDoubleSubtensorBuffer
   (JNIEnv *env, jobject thisObject, jlong cObject, jlongArray jDims, jlong jRangeIdx, jlong jRangeNum, jobject jBuff)
@@ -248,7 +259,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorBy
 /*
  * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
  * Method:    releaseFloatSubtensorBuffer
- * Signature: (J[JJJLjava/nio/ByteBuffer;)V
+ * Signature: (J[JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorByteBufferImpl_releaseFloatSubtensorBuffer
   (JNIEnv *env, jobject thisObject, jlong cObject, jlongArray jDims, jlong jRangeIdx, jlong jRangeNum, jobject jBuff)
@@ -287,7 +298,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorBy
 /*
  * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
  * Method:    releaseIntSubtensorBuffer
- * Signature: (J[JJJLjava/nio/ByteBuffer;)V
+ * Signature: (J[JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorByteBufferImpl_releaseIntSubtensorBuffer
   (JNIEnv *env, jobject thisObject, jlong cObject, jlongArray jDims, jlong jRangeIdx, jlong jRangeNum, jobject jBuff)
@@ -322,3 +333,22 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorBy
 
     DAAL_CHECK_THROW(tensor->releaseSubtensor(block));
 }
+
+/*
+ * Class:     com_intel_daal_data_management_data_HomogenTensorByteBufferImpl
+ * Method:    cGetDataSegments
+ * Signature: (JJ)[Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_intel_daal_data_1management_data_HomogenTensorByteBufferImpl_cGetDataSegments
+  (JNIEnv *env, jobject thisObject, jlong cObject, jlong segmentSize)
+{
+    SerializationIface *obj = ((SerializationIfacePtr *)cObject)->get();
+
+    void *data  = NULL;
+    size_t size = 0;
+    if (!getTensorData<double>(obj, data, size) && !getTensorData<float>(obj, data, size) && !getTensorData<int>(obj, data, size))
+    {
+        return NULL;
+    }
+    return daal::internal::createDataSegments(env, data, size, (size_t)segmentSize);
+}
@@ -142,15 +142,8 @@ public:
         this->_status |= daal::internal::attachCurrentThread(jvm, local_tls);
         if (!this->_status) return 0;
 
-        /* Get class associated with Java object */
-        local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaNumTable);
-        if(local_tls.jcls == NULL)
-        {
-            return 0;
-        }
-
-        /* Get ID of the 'getBlockOfRows' method of the Java class */
-        jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, "getSparseBlockSize", "(JJ)J");
+        /* Get ID of the 'getSparseBlockSize' method of the Java class, resolved once per table */
+        jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable, "getSparseBlockSize", "(JJ)J");
         if(jmeth == NULL)
         {
             return 0;
@@ -159,7 +152,7 @@ public:
         size_t bufferSize = (size_t)((local_tls.jenv)->CallObjectMethod(
                                          jJavaNumTable, jmeth, (jlong)0, (jlong)getNumberOfRows()));
 
-        this->_status |= daal::internal::detachCurrentThread(jvm, local_tls);
+        this->_status |= daal::internal::releaseCurrentThread(jvm, local_tls);
         if (!this->_status) return bufferSize;
 
         tls.local() = local_tls;
@@ -178,12 +171,8 @@ protected:
         /* Get JNI interface pointer for current thread */
         DAAL_CHECK_STATUS(status, daal::internal::attachCurrentThread(jvm, local_tls))
 
-        /* Get class associated with Java object */
-        local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaNumTable);
-        if(local_tls.jcls == NULL) { return services::Status(); }
-
-        /* Get ID of the 'getBlockOfRows' method of the Java class */
-        jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, "getSparseBlockSize", "(JJ)J");
+        /* Get ID of the 'getSparseBlockSize' method of the Java class, resolved once per table */
+        jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable, "getSparseBlockSize", "(JJ)J");
         if(jmeth == NULL) { return services::Status(); }
         size_t nValues = (size_t)((local_tls.jenv)->CallObjectMethod(jJavaNumTable, jmeth, (jlong)idx, (jlong)nrows));
 
@@ -214,12 +203,16 @@ protected:
         jobject jColIndices = (local_tls.jenv)->NewDirectByteBuffer(colIndicesBufJava, colIndicesSizeJava);
         jobject jRowOffsets = (local_tls.jenv)->NewDirectByteBuffer(rowOffsetsBufJava, rowOffsetsSizeJava);
 
-        jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls,
-                                              javaMethodName, "(JJLjava/nio/ByteBuffer;Ljava/nio/ByteBuffer;Ljava/nio/ByteBuffer;)J");
+        jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable,
+                             javaMethodName, "(JJLjava/nio/ByteBuffer;Ljava/nio/ByteBuffer;Ljava/nio/ByteBuffer;)J");
         if(jmeth == NULL) { return services::Status(); }
         size_t nRows = (size_t)((local_tls.jenv)->CallObjectMethod(
                                     jJavaNumTable, jmeth, (jlong)idx, (jlong)nrows, jdata, jColIndices, jRowOffsets));
 
+        (local_tls.jenv)->DeleteLocalRef(jdata);
+        (local_tls.jenv)->DeleteLocalRef(jColIndices);
+        (local_tls.jenv)->DeleteLocalRef(jRowOffsets);
+
         if(nRows == 0) { return services::Status(); }
 
         if(sizeof(size_t) != sizeof(__int64))
@@ -240,7 +233,7 @@ protected:
         block.setColumnIndicesPtr(colIndicesBuf, nValues);
         block.setRowIndicesPtr(rowOffsetsBuf, nrows);
 
-        DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+        DAAL_CHECK_STATUS(status, daal::internal::releaseCurrentThread(jvm, local_tls))
 
         tls.local() = local_tls;
 
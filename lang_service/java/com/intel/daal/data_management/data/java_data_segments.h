@@ -0,0 +1,106 @@
+/* file: java_data_segments.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Helper functions that expose the memory of C++ data objects to Java
+//  as a sequence of direct NIO buffers
+//--
+*/
+
+#ifndef __JAVA_DATA_SEGMENTS_H__
+#define __JAVA_DATA_SEGMENTS_H__
+
+#include <jni.h>
+
+#include "services/daal_defines.h"
+
+namespace daal
+{
+
+namespace internal
+{
+
+/**
+ * Creates the array of direct NIO buffers that share the memory of the given size.
+ * All the buffers except the last one have the size segmentSize
+ *
+ * \param[in] env           JNI interface pointer
+ * \param[in] data          Pointer to the memory
+ * \param[in] size          Size of the memory in bytes
+ * \param[in] segmentSize   Size of a segment in bytes, must not exceed 2 gigabytes
+ *
+ * \return Array of java.nio.ByteBuffer objects, or NULL if a Java exception is pending
+ */
+inline jobjectArray createDataSegments(JNIEnv *env, void *data, size_t size, size_t segmentSize)
+{
+    jclass byteBufferClass = env->FindClass("java/nio/ByteBuffer");
+    if (!byteBufferClass) { return NULL; }
+
+    size_t nSegments = 0;
+    if (data && size > 0 && segmentSize > 0)
+    {
+        nSegments = (size + segmentSize - 1) / segmentSize;
+    }
+
+    jobjectArray segments = env->NewObjectArray((jsize)nSegments, byteBufferClass, NULL);
+    if (!segments) { return NULL; }
+
+    byte *ptr = (byte *)data;
+    for (size_t i = 0; i < nSegments; i++)
+    {
+        size_t offset = i * segmentSize;
+        size_t nBytes = (size - offset < segmentSize ? size - offset : segmentSize);
+
+        jobject segment = env->NewDirectByteBuffer(ptr + offset, (jlong)nBytes);
+        if (!segment) { return NULL; }
+
+        env->SetObjectArrayElement(segments, (jsize)i, segment);
+        env->DeleteLocalRef(segment);
+    }
+    return segments;
+}
+
+} // namespace internal
+
+} // namespace daal
+
+#endif
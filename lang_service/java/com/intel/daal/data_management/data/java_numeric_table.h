@@ -62,6 +62,31 @@ using namespace daal::data_management;
 namespace daal
 {
 
+namespace internal
+{
+/* Index of the native copy of the Java table data that stores values of type T
+ * and the Java method that returns the block of rows of this type */
+template<typename T> struct JavaNativeMirrorTraits {};
+template<> struct JavaNativeMirrorTraits<double>
+{
+    static const size_t index = 0;
+    static const char *getRowsMethod()    { return "getDoubleBlock"; }
+    static const char *getRowsSignature() { return "(JJLjava/nio/ByteBuffer;)Ljava/nio/DoubleBuffer;"; }
+};
+template<> struct JavaNativeMirrorTraits<float>
+{
+    static const size_t index = 1;
+    static const char *getRowsMethod()    { return "getFloatBlock"; }
+    static const char *getRowsSignature() { return "(JJLjava/nio/ByteBuffer;)Ljava/nio/FloatBuffer;"; }
+};
+template<> struct JavaNativeMirrorTraits<int>
+{
+    static const size_t index = 2;
+    static const char *getRowsMethod()    { return "getIntBlock"; }
+    static const char *getRowsSignature() { return "(JJLjava/nio/ByteBuffer;)Ljava/nio/IntBuffer;"; }
+};
+} // namespace internal
+
 class JavaNumericTableBase
 {
 public:
@@ -94,7 +119,7 @@ public:
     DECLARE_SERIALIZABLE_TAG();
 
     explicit JavaNumericTable(DictionaryIface::FeaturesEqual featuresEqual = DictionaryIface::notEqual):
-        NumericTable(0, 0, featuresEqual), jvm(NULL), jJavaNumTable(NULL)
+        NumericTable(0, 0, featuresEqual), jvm(NULL), jJavaNumTable(NULL), _mirrorEnabled(false), _dataVersion(1)
     {
     }
 
@@ -108,7 +133,7 @@ public:
      */
     JavaNumericTable(size_t featnum, size_t obsnum, JavaVM *_jvm, jobject _JavaNumTable,
                      StorageLayout layout = layout_unknown, DictionaryIface::FeaturesEqual featuresEqual = DictionaryIface::notEqual):
-        NumericTable(featnum, obsnum, featuresEqual), jvm(_jvm)
+        NumericTable(featnum, obsnum, featuresEqual), jvm(_jvm), _mirrorEnabled(false), _dataVersion(1)
     {
         _layout = layout;
         _memStatus = userAllocated;
@@ -152,7 +177,7 @@ public:
                     (local_tls.jenv)->DeleteGlobalRef(jJavaNumTable);
                 }
 
-                this->_status |= daal::internal::detachCurrentThread(jvm, local_tls, true);
+                this->_status |= daal::internal::releaseCurrentThread(jvm, local_tls);
             }
         }
     }
@@ -251,34 +276,51 @@ public:
         size_t ncols = _ddict->getNumberOfFeatures();
         size_t bufferSize = nrows * ncols * sizeof(T);
 
-        if( !block.resizeBuffer( ncols, nrows ) ) { return services::Status(); }
+        if (_mirrorEnabled && rwFlag == readOnly)
+        {
+            T *mirror = NULL;
+            status |= acquireNativeMirror<T>(local_tls, javaMethodName, javaMethodSignature, mirror);
+            status |= daal::internal::releaseCurrentThread(jvm, local_tls);
+            tls.local() = local_tls;
+            if (!status) { return status; }
 
-        void *buf = block.getBlockPtr();
+            size_t nobs = getNumberOfRows();
+            if (idx >= nobs)
+            {
+                releaseNativeMirror<T>(mirror);
+                block.resizeBuffer( ncols, 0 );
+                return status;
+            }
+            nrows = ( idx + nrows < nobs ) ? nrows : nobs - idx;
 
-        /* Get class associated with Java object */
-        local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaNumTable);
-        if(local_tls.jcls == NULL)
-        {
-            return services::Status(services::ErrorCouldntFindClassForJavaObject);
+            /* Block is served directly from the native copy, no calls to Java are needed.
+             * The copy is kept allocated until the block is released, even if the copy is refreshed meanwhile */
+            block.setPtr( mirror + idx * ncols, ncols, nrows );
+            return status;
         }
 
-        /* Get ID of the 'getBlockOfRows' method of the Java class */
-        jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, javaMethodName,
-                                                        javaMethodSignature);
+        if( !block.resizeBuffer( ncols, nrows ) ) { return services::Status(); }
+
+        void *buf = block.getBlockPtr();
+
+        /* Get ID of the 'getBlockOfRows' method of the Java class, resolved once per table */
+        jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable, javaMethodName, javaMethodSignature);
         if(jmeth == NULL)
         {
             return services::Status(services::Error::create(services::ErrorCouldntFindJavaMethod, services::Method, services::String(javaMethodName)));
         }
 
         /* Call 'getBlockOfRows' Java method */
-        local_tls.jbuf = (local_tls.jenv)->NewDirectByteBuffer( buf, bufferSize);
-        local_tls.jbuf = (local_tls.jenv)->CallObjectMethod(jJavaNumTable, jmeth, (jlong)idx, (jlong)nrows, local_tls.jbuf);
+        jobject jarg = (local_tls.jenv)->NewDirectByteBuffer( buf, bufferSize);
+        local_tls.jbuf = (local_tls.jenv)->CallObjectMethod(jJavaNumTable, jmeth, (jlong)idx, (jlong)nrows, jarg);
+        (local_tls.jenv)->DeleteLocalRef(jarg);
 
-        buf = (local_tls.jenv)->GetDirectBufferAddress(local_tls.jbuf);
+        status |= checkJavaException(local_tls.jenv, javaMethodName);
+        buf = status ? (local_tls.jenv)->GetDirectBufferAddress(local_tls.jbuf) : NULL;
 
         block.setPtr( (T *)buf, ncols, nrows );
 
-        DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+        status |= daal::internal::releaseCurrentThread(jvm, local_tls);
 
         tls.local() = local_tls;
 
@@ -290,20 +332,18 @@ public:
     {
         services::Status status;
         daal::internal::_java_tls local_tls = tls.local();
-        if(block.getRWFlag() == writeOnly)
+        if(block.getRWFlag() == readOnly)
+        {
+            /* Unpins the native copy if the block was served from it */
+            releaseNativeMirror<T>(block.getBlockPtr());
+        }
+        else if(block.getRWFlag() & (int)writeOnly)
         {
             /* Get JNI interface pointer for current thread */
             DAAL_CHECK_STATUS(status, daal::internal::attachCurrentThread(jvm, local_tls))
 
-            /* Get class associated with Java object */
-            local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaNumTable);
-            if(local_tls.jcls == NULL)
-            {
-                return services::Status(services::ErrorCouldntFindClassForJavaObject);
-            }
-
-            /* Get ID of the 'releaseBlockOfRows' method of the Java class */
-            jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, javaMethodName, "(JJLjava/nio/ByteBuffer;)V");
+            /* Get ID of the 'releaseBlockOfRows' method of the Java class, resolved once per table */
+            jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable, javaMethodName, "(JJLjava/nio/ByteBuffer;)V");
             if(jmeth == NULL)
             {
                 return services::Status(services::Error::create(services::ErrorCouldntFindJavaMethod, services::Method, services::String(javaMethodName)));
@@ -315,11 +355,13 @@ public:
             size_t bufferSize = nrows * ncols * sizeof(T);
             local_tls.jbuf = (local_tls.jenv)->NewDirectByteBuffer( block.getBlockPtr(), bufferSize);
 
-            /* Call 'releaseBlockOfRows' Java method */
+            /* Call 'releaseBlockOfRows' Java method.
+             * The Java table marks the native copy as outdated when its data is changed */
             (local_tls.jenv)->CallObjectMethod(
                 jJavaNumTable, jmeth, (jlong)idx, (jlong)nrows, local_tls.jbuf, block.getRWFlag());
+            status |= checkJavaException(local_tls.jenv, javaMethodName);
 
-            DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+            status |= daal::internal::releaseCurrentThread(jvm, local_tls);
         }
 
         tls.local() = local_tls;
@@ -342,34 +384,64 @@ public:
 
         size_t bufferSize = nrows * sizeof(T);
 
-        if( !block.resizeBuffer( 1, nrows ) ) { return services::Status(); }
+        if (_mirrorEnabled && rwFlag == readOnly)
+        {
+            T *mirror = NULL;
+            status |= acquireNativeMirror<T>(local_tls, internal::JavaNativeMirrorTraits<T>::getRowsMethod(),
+                                             internal::JavaNativeMirrorTraits<T>::getRowsSignature(), mirror);
+            status |= daal::internal::releaseCurrentThread(jvm, local_tls);
+            tls.local() = local_tls;
+            if (!status) { return status; }
 
-        void *buf = block.getBlockPtr();
+            size_t ncols = _ddict->getNumberOfFeatures();
+            size_t nobs = getNumberOfRows();
+            if (idx >= nobs)
+            {
+                releaseNativeMirror<T>(mirror);
+                block.resizeBuffer( 1, 0 );
+                return status;
+            }
+            nrows = ( idx + nrows < nobs ) ? nrows : nobs - idx;
 
-        /* Get class associated with Java object */
-        local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaNumTable);
-        if(local_tls.jcls == NULL)
-        {
-            return services::Status(services::ErrorCouldntFindClassForJavaObject);
+            if( !block.resizeBuffer( 1, nrows ) )
+            {
+                releaseNativeMirror<T>(mirror);
+                return services::Status(services::ErrorMemoryAllocationFailed);
+            }
+
+            /* Column values are gathered from the native copy, no calls to Java are needed */
+            T *dst = block.getBlockPtr();
+            const T *src = mirror + idx * ncols + feature_idx;
+            for (size_t i = 0; i < nrows; i++)
+            {
+                dst[i] = src[i * ncols];
+            }
+            releaseNativeMirror<T>(mirror);
+            return status;
         }
 
-        /* Get ID of the 'getBlockOfRows' method of the Java class */
-        jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, javaMethodName,
-                                                        javaMethodSignature);
+        if( !block.resizeBuffer( 1, nrows ) ) { return services::Status(); }
+
+        void *buf = block.getBlockPtr();
+
+        /* Get ID of the 'getBlockOfRows' method of the Java class, resolved once per table */
+        jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable, javaMethodName, javaMethodSignature);
         if(jmeth == NULL)
         {
             return services::Status(services::Error::create(services::ErrorCouldntFindJavaMethod, services::Method, services::String(javaMethodName)));
         }
 
         /* Call 'getBlockOfRows' Java method */
-        local_tls.jbuf = (local_tls.jenv)->NewDirectByteBuffer(buf, bufferSize);
+        jobject jarg = (local_tls.jenv)->NewDirectByteBuffer(buf, bufferSize);
 
         local_tls.jbuf = (local_tls.jenv)->CallObjectMethod(
-                             jJavaNumTable, jmeth, (jlong)feature_idx, (jlong)idx, (jlong)nrows, local_tls.jbuf);
+                             jJavaNumTable, jmeth, (jlong)feature_idx, (jlong)idx, (jlong)nrows, jarg);
+        (local_tls.jenv)->DeleteLocalRef(jarg);
 
-        buf = (local_tls.jenv)->GetDirectBufferAddress(local_tls.jbuf);
+        status |= checkJavaException(local_tls.jenv, javaMethodName);
+        buf = status ? (local_tls.jenv)->GetDirectBufferAddress(local_tls.jbuf) : NULL;
 
-        DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+        status |= daal::internal::releaseCurrentThread(jvm, local_tls);
 
         tls.local() = local_tls;
 
@@ -381,22 +453,14 @@ public:
     services::Status releaseTFeature(BlockDescriptor<T> &block, const char *javaMethodName)
     {
         services::Status status;
-        if(block.getRWFlag() == writeOnly)
+        if(block.getRWFlag() & (int)writeOnly)
         {
             daal::internal::_java_tls local_tls = tls.local();
             /* Get JNI interface pointer for current thread */
             DAAL_CHECK_STATUS(status, daal::internal::attachCurrentThread(jvm, local_tls))
 
-            /* Get class associated with Java object */
-            local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaNumTable);
-            if(local_tls.jcls == NULL)
-            {
-                return services::Status(services::ErrorCouldntFindClassForJavaObject);
-            }
-
-            /* Get ID of the 'releaseBlockOfRows' method of the Java class */
-            jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, javaMethodName,
-                                                            "(JJJLjava/nio/ByteBuffer;)V");
+            /* Get ID of the 'releaseBlockOfRows' method of the Java class, resolved once per table */
+            jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable, javaMethodName, "(JJJLjava/nio/ByteBuffer;)V");
             if(jmeth == NULL)
             {
                 return services::Status(services::Error::create(services::ErrorCouldntFindJavaMethod, services::Method, services::String(javaMethodName)));
@@ -412,8 +476,9 @@ public:
             /* Call 'releaseBlockOfRows' Java method */
             (local_tls.jenv)->CallObjectMethod( jJavaNumTable, jmeth, (jlong)feature_idx, (jlong)idx, (jlong)nrows,
                                                 local_tls.jbuf, block.getRWFlag());
+            status |= checkJavaException(local_tls.jenv, javaMethodName);
 
-            DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+            status |= daal::internal::releaseCurrentThread(jvm, local_tls);
 
             tls.local() = local_tls;
         }
@@ -426,11 +491,205 @@ public:
         return jJavaNumTable;
     }
 
+    /**
+     *  Enables or disables the native copy of the Java table data.
+     *  When the copy is enabled, the data is transferred from Java once and
+     *  the blocks of rows are returned as pointers into the native memory
+     *  without calls to the Java methods
+     *
+     *  \param[in] enable  Flag that enables the native copy
+     */
+    void setNativeMirrorEnabled(bool enable)
+    {
+        tbb::spin_mutex::scoped_lock lock(_mirrorMutex);
+        _mirrorEnabled = enable;
+        if (!enable)
+        {
+            for (size_t i = 0; i < nMirrors; i++)
+            {
+                if (_mirrors[i].nBlocks) { _retiredMirrors.push_back(_mirrors[i]); }
+                _mirrors[i] = NativeMirror();
+            }
+        }
+    }
+
+    /**
+     *  Returns true if the native copy of the Java table data is enabled
+     */
+    bool isNativeMirrorEnabled() const { return _mirrorEnabled; }
+
+    /**
+     *  Marks the native copy of the Java table data as outdated.
+     *  The copy is refreshed on the next request of a block of rows
+     */
+    void invalidateNativeMirror()
+    {
+        tbb::spin_mutex::scoped_lock lock(_mirrorMutex);
+        _dataVersion++;
+    }
+
 protected:
     tbb::enumerable_thread_specific<daal::internal::_java_tls> tls;  /**< Thread local storage */
     jobject jJavaNumTable;                                           /**< Java object associated with this C++ object */
     JavaVM *jvm;                                                     /**< Java VM interface function table */
 
+    /* Native copy of the Java table data converted to one of the types served to the kernels */
+    struct NativeMirror
+    {
+        NativeMirror() : size(0), version(0), nBlocks(0) {}
+        services::SharedPtr<byte> data;
+        size_t size;                     /* Size of the copy in bytes */
+        size_t version;                  /* Version of the Java data the copy corresponds to, 0 if not filled */
+        size_t nBlocks;                  /* Number of the blocks served from the copy and not released yet */
+
+        bool contains(const void *ptr) const
+        {
+            const byte *p = (const byte *)ptr;
+            return data && p >= data.get() && p < data.get() + size;
+        }
+    };
+
+    static const size_t nMirrors = 3;
+    NativeMirror _mirrors[nMirrors];
+    services::Collection<NativeMirror> _retiredMirrors;  /* Outdated copies that still serve unreleased blocks */
+    bool _mirrorEnabled;
+    size_t _dataVersion;
+    tbb::spin_mutex _mirrorMutex;   /* Guards the state of the copies, never held across calls to Java */
+    tbb::mutex _mirrorFillMutex;    /* Serializes the transfers of the data from Java */
+
+    /* Returns an error and clears the exception if the last call to the Java method threw it */
+    static services::Status checkJavaException(JNIEnv *jenv, const char *javaMethodName)
+    {
+        if (!jenv->ExceptionCheck()) { return services::Status(); }
+        jenv->ExceptionClear();
+        return services::Status(services::Error::create(services::ErrorJavaMethodThrewException, services::Method,
+                                                        services::String(javaMethodName)));
+    }
+
+    template<typename T>
+    static T *pinNativeMirror(NativeMirror &mirror)
+    {
+        if (mirror.data) { mirror.nBlocks++; }
+        return (T *)mirror.data.get();
+    }
+
+    /* Returns the native copy of the whole table, transferring the data from Java if the copy is outdated.
+     * The copy is pinned and stays allocated until releaseNativeMirror() is called for it */
+    template<typename T>
+    services::Status acquireNativeMirror(daal::internal::_java_tls &local_tls, const char *javaMethodName,
+                                         const char *javaMethodSignature, T *&ptr)
+    {
+        const size_t index = internal::JavaNativeMirrorTraits<T>::index;
+        {
+            tbb::spin_mutex::scoped_lock lock(_mirrorMutex);
+            if (_mirrors[index].version == _dataVersion)
+            {
+                ptr = pinNativeMirror<T>(_mirrors[index]);
+                return services::Status();
+            }
+        }
+
+        /* Only one thread transfers the data, the others wait for it and use the result */
+        tbb::mutex::scoped_lock fillLock(_mirrorFillMutex);
+
+        NativeMirror fresh;
+        {
+            tbb::spin_mutex::scoped_lock lock(_mirrorMutex);
+            if (_mirrors[index].version == _dataVersion)
+            {
+                ptr = pinNativeMirror<T>(_mirrors[index]);
+                return services::Status();
+            }
+            fresh.version = _dataVersion;
+        }
+
+        services::Status status = fillNativeMirror<T>(local_tls, javaMethodName, javaMethodSignature, fresh);
+        if (!status) { return status; }
+
+        tbb::spin_mutex::scoped_lock lock(_mirrorMutex);
+        NativeMirror &mirror = _mirrors[index];
+        /* The outdated copy is not overwritten while the blocks served from it are in use */
+        if (mirror.nBlocks) { _retiredMirrors.push_back(mirror); }
+        mirror = fresh;
+        ptr = pinNativeMirror<T>(mirror);
+        return status;
+    }
+
+    /* Unpins the native copy that contains the pointer, frees the outdated copy when it is not used anymore */
+    template<typename T>
+    void releaseNativeMirror(const T *ptr)
+    {
+        if (!ptr) { return; }
+
+        tbb::spin_mutex::scoped_lock lock(_mirrorMutex);
+        NativeMirror &mirror = _mirrors[internal::JavaNativeMirrorTraits<T>::index];
+        if (mirror.contains(ptr))
+        {
+            mirror.nBlocks--;
+            return;
+        }
+        for (size_t i = 0; i < _retiredMirrors.size(); i++)
+        {
+            if (_retiredMirrors[i].contains(ptr))
+            {
+                if (--_retiredMirrors[i].nBlocks == 0) { _retiredMirrors.erase(i); }
+                return;
+            }
+        }
+    }
+
+    /* Transfers the whole table from Java into the new native copy */
+    template<typename T>
+    services::Status fillNativeMirror(daal::internal::_java_tls &local_tls, const char *javaMethodName,
+                                      const char *javaMethodSignature, NativeMirror &mirror)
+    {
+        size_t ncols = _ddict->getNumberOfFeatures();
+        size_t nobs  = getNumberOfRows();
+        size_t rowSize = ncols * sizeof(T);
+
+        mirror.size = nobs * rowSize;
+        if (!mirror.size) { return services::Status(); }
+
+        mirror.data = services::SharedPtr<byte>((byte *)daal::services::daal_malloc(mirror.size), services::ServiceDeleter());
+        if (!mirror.data) { return services::Status(services::ErrorMemoryAllocationFailed); }
+
+        jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaNumTable, javaMethodName, javaMethodSignature);
+        if(jmeth == NULL)
+        {
+            return services::Status(services::Error::create(services::ErrorCouldntFindJavaMethod, services::Method, services::String(javaMethodName)));
+        }
+
+        /* Transfer the data in chunks that fit into a single Java NIO buffer */
+        const size_t maxChunkSize = ((size_t)1 << 30);
+        size_t chunkRows = (maxChunkSize / rowSize) ? (maxChunkSize / rowSize) : 1;
+
+        T *data = (T *)mirror.data.get();
+        for (size_t idx = 0; idx < nobs; idx += chunkRows)
+        {
+            size_t nrows = (idx + chunkRows < nobs) ? chunkRows : nobs - idx;
+            T *chunk = data + idx * ncols;
+
+            jobject jchunk = (local_tls.jenv)->NewDirectByteBuffer(chunk, nrows * rowSize);
+            services::Status status = checkJavaException(local_tls.jenv, "NewDirectByteBuffer");
+            if (!status) { return status; }
+
+            jobject jres = (local_tls.jenv)->CallObjectMethod(jJavaNumTable, jmeth, (jlong)idx, (jlong)nrows, jchunk);
+            (local_tls.jenv)->DeleteLocalRef(jchunk);
+            status = checkJavaException(local_tls.jenv, javaMethodName);
+            if (!status) { return status; }
+
+            void *res = (jres != NULL) ? (local_tls.jenv)->GetDirectBufferAddress(jres) : NULL;
+            if (res != NULL && res != (void *)chunk)
+            {
+                daal::services::daal_memcpy_s(chunk, nrows * rowSize, res, nrows * rowSize);
+            }
+
+            (local_tls.jenv)->DeleteLocalRef(jres);
+        }
+
+        return services::Status();
+    }
+
     template<typename Archive, bool onDeserialize>
     services::Status serialImpl(Archive *arch)
     {
@@ -484,7 +743,7 @@ protected:
 
             (local_tls.jenv)->ReleaseByteArrayElements(jbuf, ptr, 0);
 
-            DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+            DAAL_CHECK_STATUS(status, daal::internal::releaseCurrentThread(jvm, local_tls))
 
             tls.local() = local_tls;
         }
@@ -550,7 +809,7 @@ protected:
                 _memStatus = internallyAllocated;
             }
 
-            DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+            DAAL_CHECK_STATUS(status, daal::internal::releaseCurrentThread(jvm, local_tls))
 
             tls.local() = local_tls;
         }
@@ -142,7 +142,7 @@ public:
                     (local_tls.jenv)->DeleteGlobalRef(jJavaTensor);
                 }
 
-                this->_status |= daal::internal::detachCurrentThread(jvm, local_tls, true);
+                this->_status |= daal::internal::releaseCurrentThread(jvm, local_tls);
             }
         }
     }
@@ -271,16 +271,8 @@ public:
 
         void *buf = subtensor.getPtr();
 
-        /* Get class associated with Java object */
-        local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaTensor);
-        if(local_tls.jcls == NULL)
-        {
-            return services::Status(services::ErrorCouldntFindClassForJavaObject);
-        }
-
-        /* Get ID of the 'getSubtensor' method of the Java class */
-        jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, javaMethodName,
-                                                        javaMethodSignature);
+        /* Get ID of the 'getSubtensor' method of the Java class, resolved once per tensor */
+        jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaTensor, javaMethodName, javaMethodSignature);
         if(jmeth == NULL)
         {
             return services::Status(Error::create(services::ErrorCouldntFindJavaMethod, services::Method, services::String(javaMethodName)));
@@ -294,15 +286,17 @@ public:
 
 
         /* Call 'getSubtensor' Java method */
-        local_tls.jbuf = (local_tls.jenv)->NewDirectByteBuffer( buf, bufferSize);
+        jobject jarg = (local_tls.jenv)->NewDirectByteBuffer( buf, bufferSize);
         local_tls.jbuf = (local_tls.jenv)->CallObjectMethod(jJavaTensor, jmeth, jFixedDimNums,
-                                                            (jlong)rangeDimIdx, (jlong)rangeDimNum, local_tls.jbuf);
+                                                            (jlong)rangeDimIdx, (jlong)rangeDimNum, jarg);
+        (local_tls.jenv)->DeleteLocalRef(jarg);
+        (local_tls.jenv)->DeleteLocalRef(jFixedDimNums);
 
         buf = (local_tls.jenv)->GetDirectBufferAddress(local_tls.jbuf);
 
         subtensor.setPtr( (T *)buf );
 
-        DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+        DAAL_CHECK_STATUS(status, daal::internal::releaseCurrentThread(jvm, local_tls))
 
         tls.local() = local_tls;
 
@@ -318,17 +312,10 @@ public:
         if(subtensor.getRWFlag() == writeOnly)
         {
             /* Get JNI interface pointer for current thread */
-            DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
-
-            /* Get class associated with Java object */
-            local_tls.jcls = (local_tls.jenv)->GetObjectClass(jJavaTensor);
-            if(local_tls.jcls == NULL)
-            {
-                return services::Status(services::ErrorCouldntFindClassForJavaObject);
-            }
+            DAAL_CHECK_STATUS(status, daal::internal::attachCurrentThread(jvm, local_tls))
 
-            /* Get ID of the 'releaseSubtensor' method of the Java class */
-            jmethodID jmeth = (local_tls.jenv)->GetMethodID(local_tls.jcls, javaMethodName, "([JJJLjava/nio/ByteBuffer;)V");
+            /* Get ID of the 'releaseSubtensor' method of the Java class, resolved once per tensor */
+            jmethodID jmeth = daal::internal::JavaMethodCache::get(local_tls.jenv, jJavaTensor, javaMethodName, "([JJJLjava/nio/ByteBuffer;)V");
             if(jmeth == NULL)
             {
                 return services::Status(Error::create(services::ErrorCouldntFindJavaMethod, services::Method, services::String(javaMethodName)));
@@ -381,8 +368,9 @@ public:
             /* Call 'releaseSubtensor' Java method */
             (local_tls.jenv)->CallObjectMethod(
                 jJavaTensor, jmeth, jFixedDimNums, (jlong)rangeDimIdx, (jlong)rangeDimNum, local_tls.jbuf);
+            (local_tls.jenv)->DeleteLocalRef(jFixedDimNums);
 
-            DAAL_CHECK_STATUS(status, daal::internal::detachCurrentThread(jvm, local_tls))
+            DAAL_CHECK_STATUS(status, daal::internal::releaseCurrentThread(jvm, local_tls))
 
             daal::services::daal_free( _dimOffsets );
         }
@@ -0,0 +1,229 @@
+/* file: java_threading_helper.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include <string.h>
+
+#if defined(_WIN32) || defined(_WIN64)
+#include <windows.h>
+#else
+#include <pthread.h>
+#endif
+
+#include "java_threading_helper.h"
+#include "services/collection.h"
+
+namespace daal
+{
+namespace internal
+{
+namespace
+{
+
+tbb::atomic<size_t> nThreadAttachments;
+
+/* Detaches the thread attached by the library from Java VM when the thread exits */
+#if defined(_WIN32) || defined(_WIN64)
+
+void NTAPI detachOnThreadExit(void *jvm)
+{
+    if (jvm) { ((JavaVM *)jvm)->DetachCurrentThread(); }
+}
+
+struct ThreadExitHook
+{
+    DWORD key;
+    ThreadExitHook() { key = FlsAlloc(&detachOnThreadExit); }
+    bool set(JavaVM *jvm) { return key != FLS_OUT_OF_INDEXES && FlsSetValue(key, jvm); }
+    bool isSet() const { return key != FLS_OUT_OF_INDEXES && FlsGetValue(key) != NULL; }
+};
+
+#else
+
+extern "C" void detachOnThreadExit(void *jvm)
+{
+    if (jvm) { ((JavaVM *)jvm)->DetachCurrentThread(); }
+}
+
+struct ThreadExitHook
+{
+    pthread_key_t key;
+    bool valid;
+    ThreadExitHook() { valid = (pthread_key_create(&key, &detachOnThreadExit) == 0); }
+    bool set(JavaVM *jvm) { return valid && pthread_setspecific(key, jvm) == 0; }
+    bool isSet() const { return valid && pthread_getspecific(key) != NULL; }
+};
+
+#endif
+
+ThreadExitHook threadExitHook;
+
+struct JavaMethodEntry
+{
+    jweak jcls;
+    const char *name;
+    const char *signature;
+    jmethodID id;
+};
+
+services::Collection<JavaMethodEntry> javaMethodEntries;
+tbb::spin_rw_mutex javaMethodEntriesMutex;
+
+jmethodID findJavaMethod(JNIEnv *jenv, jclass jcls, const char *name, const char *signature)
+{
+    for (size_t i = 0; i < javaMethodEntries.size(); i++)
+    {
+        const JavaMethodEntry &entry = javaMethodEntries[i];
+        if (!strcmp(entry.name, name) && !strcmp(entry.signature, signature) && jenv->IsSameObject(entry.jcls, jcls))
+        {
+            return entry.id;
+        }
+    }
+    return NULL;
+}
+
+} // namespace
+
+services::Status attachCurrentThread(JavaVM *jvm, JNIEnv *&jenv)
+{
+    jint status = jvm->GetEnv((void **)(&jenv), JNI_VERSION_1_2);
+    if (status == JNI_OK)
+    {
+        return services::Status();
+    }
+    if (status != JNI_EDETACHED)
+    {
+        return services::Status(services::ErrorCouldntAttachCurrentThreadToJavaVM);
+    }
+
+    /* Daemon threads do not prevent Java VM from shutting down while the worker threads are alive */
+    status = jvm->AttachCurrentThreadAsDaemon((void **)(&jenv), NULL);
+    if (status != JNI_OK)
+    {
+        return services::Status(services::ErrorCouldntAttachCurrentThreadToJavaVM);
+    }
+    nThreadAttachments++;
+
+    /* If the hook is not available, the thread stays attached until Java VM is destroyed */
+    threadExitHook.set(jvm);
+    return services::Status();
+}
+
+services::Status attachCurrentThread(JavaVM *jvm, _java_tls &local_tls)
+{
+    /* GetEnv is cheap, so the JNI interface pointer is not trusted across the calls */
+    services::Status status = attachCurrentThread(jvm, local_tls.jenv);
+    local_tls.is_attached = status.ok();
+    return status;
+}
+
+services::Status releaseCurrentThread(JavaVM *jvm, _java_tls &local_tls)
+{
+    if (local_tls.is_attached && isCurrentThreadAttachedByLibrary())
+    {
+        if (local_tls.jbuf != NULL) { (local_tls.jenv)->DeleteLocalRef(local_tls.jbuf); }
+        if (local_tls.jcls != NULL) { (local_tls.jenv)->DeleteLocalRef(local_tls.jcls); }
+        local_tls.jbuf = NULL;
+        local_tls.jcls = NULL;
+    }
+    return services::Status();
+}
+
+bool isCurrentThreadAttachedByLibrary()
+{
+    return threadExitHook.isSet();
+}
+
+size_t getNumberOfThreadAttachments()
+{
+    return nThreadAttachments;
+}
+
+jmethodID JavaMethodCache::get(JNIEnv *jenv, jobject jobj, const char *name, const char *signature)
+{
+    jclass jcls = jenv->GetObjectClass(jobj);
+    if (jcls == NULL) { return NULL; }
+
+    jmethodID id = NULL;
+    {
+        tbb::spin_rw_mutex::scoped_lock lock(javaMethodEntriesMutex, false);
+        id = findJavaMethod(jenv, jcls, name, signature);
+    }
+
+    if (id == NULL)
+    {
+        id = jenv->GetMethodID(jcls, name, signature);
+        if (id != NULL)
+        {
+            tbb::spin_rw_mutex::scoped_lock lock(javaMethodEntriesMutex, true);
+            JavaMethodEntry entry;
+            entry.jcls      = NULL;
+            entry.name      = name;
+            entry.signature = signature;
+            entry.id        = id;
+            if (findJavaMethod(jenv, jcls, name, signature) == NULL)
+            {
+                entry.jcls = (jweak)jenv->NewWeakGlobalRef(jcls);
+            }
+
+            if (entry.jcls != NULL)
+            {
+                /* The entries of unloaded classes are reused */
+                size_t i = 0;
+                while (i < javaMethodEntries.size() && !jenv->IsSameObject(javaMethodEntries[i].jcls, NULL)) { i++; }
+                if (i < javaMethodEntries.size())
+                {
+                    jenv->DeleteWeakGlobalRef(javaMethodEntries[i].jcls);
+                    javaMethodEntries[i] = entry;
+                }
+                else
+                {
+                    javaMethodEntries.push_back(entry);
+                }
+            }
+        }
+    }
+
+    jenv->DeleteLocalRef(jcls);
+    return id;
+}
+
+} // namespace internal
+} // namespace daal
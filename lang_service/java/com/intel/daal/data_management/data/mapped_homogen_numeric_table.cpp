@@ -0,0 +1,345 @@
+/* file: mapped_homogen_numeric_table.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include <jni.h>
+
+#if defined(_WIN32) || defined(_WIN64)
+#include <windows.h>
+#else
+#include <fcntl.h>
+#include <sys/mman.h>
+#include <sys/stat.h>
+#include <unistd.h>
+#endif
+
+#include "JMappedHomogenNumericTable.h"
+#include "numeric_table.h"
+#include "homogen_numeric_table.h"
+#include "common_helpers_functions.h"
+
+using namespace daal;
+using namespace daal::services;
+using namespace daal::data_management;
+
+namespace
+{
+
+const int    mappedTableSignature  = 0x544E4844; /* "DHNT" */
+const int    mappedTableVersion    = 1;
+const size_t mappedTableHeaderSize = 64;
+
+/* Header of the file that stores the memory-mapped numeric table */
+struct MappedTableHeader
+{
+    int        signature;
+    int        version;
+    int        indexType;
+    int        reserved;
+    DAAL_INT64 nRows;
+    DAAL_INT64 nColumns;
+    DAAL_INT64 dataOffset;
+};
+
+/* Writes the modified pages of the shared mapping that contain the memory range to the file */
+Status flushMemory(void *ptr, size_t size)
+{
+#if defined(_WIN32) || defined(_WIN64)
+    if (!FlushViewOfFile(ptr, size)) { return Status(ErrorOnFileWrite); }
+#else
+    const size_t pageSize = (size_t)sysconf(_SC_PAGESIZE);
+    const size_t shift = (size_t)ptr % pageSize;
+    if (msync((byte *)ptr - shift, size + shift, MS_SYNC) != 0) { return Status(ErrorOnFileWrite); }
+#endif
+    return Status();
+}
+
+/* Unmaps the file. The modifications of the writable mapping are written to the file first */
+Status unmapFile(void *base, size_t size, bool writable)
+{
+    Status s;
+    if (writable) { s |= flushMemory(base, size); }
+#if defined(_WIN32) || defined(_WIN64)
+    if (!UnmapViewOfFile(base)) { s |= Status(ErrorOnFileWrite); }
+#else
+    if (munmap(base, size) != 0) { s |= Status(ErrorOnFileWrite); }
+#endif
+    return s;
+}
+
+/* Maps the whole file into memory. If the mapping is not writable, modifications are private to the process */
+byte *mapFile(const char *fileName, bool writable, size_t &size)
+{
+#if defined(_WIN32) || defined(_WIN64)
+    HANDLE file = CreateFileA(fileName, GENERIC_READ | (writable ? GENERIC_WRITE : 0), FILE_SHARE_READ | FILE_SHARE_WRITE,
+                              NULL, OPEN_EXISTING, FILE_ATTRIBUTE_NORMAL, NULL);
+    if (file == INVALID_HANDLE_VALUE) { return NULL; }
+
+    LARGE_INTEGER fileSize;
+    if (!GetFileSizeEx(file, &fileSize) || fileSize.QuadPart == 0) { CloseHandle(file); return NULL; }
+    size = (size_t)fileSize.QuadPart;
+
+    HANDLE mapping = CreateFileMappingA(file, NULL, (writable ? PAGE_READWRITE : PAGE_WRITECOPY), 0, 0, NULL);
+    CloseHandle(file);
+    if (!mapping) { return NULL; }
+
+    void *base = MapViewOfFile(mapping, (writable ? FILE_MAP_WRITE : FILE_MAP_COPY), 0, 0, 0);
+    CloseHandle(mapping);
+    return (byte *)base;
+#else
+    int fd = open(fileName, (writable ? O_RDWR : O_RDONLY));
+    if (fd < 0) { return NULL; }
+
+    struct stat fileStat;
+    if (fstat(fd, &fileStat) != 0 || fileStat.st_size == 0) { close(fd); return NULL; }
+    size = (size_t)fileStat.st_size;
+
+    void *base = mmap(NULL, size, PROT_READ | PROT_WRITE, (writable ? MAP_SHARED : MAP_PRIVATE), fd, 0);
+    close(fd);
+    return (base == MAP_FAILED ? NULL : (byte *)base);
+#endif
+}
+
+/* Creates the file of the given size and maps it into memory for writing */
+byte *createFile(const char *fileName, size_t size)
+{
+#if defined(_WIN32) || defined(_WIN64)
+    HANDLE file = CreateFileA(fileName, GENERIC_READ | GENERIC_WRITE, FILE_SHARE_READ, NULL, CREATE_ALWAYS, FILE_ATTRIBUTE_NORMAL, NULL);
+    if (file == INVALID_HANDLE_VALUE) { return NULL; }
+
+    LARGE_INTEGER fileSize;
+    fileSize.QuadPart = (LONGLONG)size;
+    HANDLE mapping = CreateFileMappingA(file, NULL, PAGE_READWRITE, (DWORD)(fileSize.QuadPart >> 32), (DWORD)(fileSize.QuadPart & 0xFFFFFFFF), NULL);
+    CloseHandle(file);
+    if (!mapping) { return NULL; }
+
+    void *base = MapViewOfFile(mapping, FILE_MAP_WRITE, 0, 0, 0);
+    CloseHandle(mapping);
+    return (byte *)base;
+#else
+    int fd = open(fileName, O_RDWR | O_CREAT | O_TRUNC, 0644);
+    if (fd < 0) { return NULL; }
+
+    if (ftruncate(fd, (off_t)size) != 0) { close(fd); return NULL; }
+
+    void *base = mmap(NULL, size, PROT_READ | PROT_WRITE, MAP_SHARED, fd, 0);
+    close(fd);
+    return (base == MAP_FAILED ? NULL : (byte *)base);
+#endif
+}
+
+/* Unmaps the file when the last reference to the table data is released.
+ * The deleter cannot report errors, MappedHomogenNumericTable.flush() reports the errors of writing to the file */
+class MappedFileDeleter : public DeleterIface
+{
+public:
+    MappedFileDeleter(void *base, size_t size, bool writable) : _base(base), _size(size), _writable(writable) {}
+
+    void operator() (const void *ptr) DAAL_C11_OVERRIDE
+    {
+        unmapFile(_base, _size, _writable);
+    }
+
+private:
+    void  *_base;
+    size_t _size;
+    bool   _writable;
+};
+
+size_t getElementSize(int indexType)
+{
+    switch (indexType)
+    {
+    case data_feature_utils::DAAL_FLOAT64:
+    case data_feature_utils::DAAL_INT64_S: return 8;
+    case data_feature_utils::DAAL_FLOAT32:
+    case data_feature_utils::DAAL_INT32_S: return 4;
+    default: return 0;
+    }
+}
+
+template<typename T>
+NumericTablePtr createTable(byte *base, size_t size, bool writable, const MappedTableHeader &header, Status &s)
+{
+    SharedPtr<T> ptr((T *)(base + header.dataOffset), MappedFileDeleter(base, size, writable));
+    return HomogenNumericTable<T>::create(ptr, (size_t)header.nColumns, (size_t)header.nRows, &s);
+}
+
+/* Returns the memory of the homogeneous numeric table with values of type T */
+template<typename T>
+bool getTableMemory(NumericTable *table, void *&ptr, size_t &size)
+{
+    HomogenNumericTable<T> *homogenTable = dynamic_cast<HomogenNumericTable<T> *>(table);
+    if (!homogenTable) { return false; }
+    ptr  = homogenTable->getArray();
+    size = homogenTable->getNumberOfRows() * homogenTable->getNumberOfColumns() * sizeof(T);
+    return true;
+}
+
+/* Creates the numeric table over the mapped file. The file is unmapped in case of an error */
+jlong createMappedTable(JNIEnv *env, byte *base, size_t size, bool writable)
+{
+    MappedTableHeader header = *(const MappedTableHeader *)base;
+    const size_t elementSize = getElementSize(header.indexType);
+
+    bool isValid = (size >= mappedTableHeaderSize && header.signature == mappedTableSignature &&
+                    header.version == mappedTableVersion && elementSize > 0 &&
+                    header.nRows >= 0 && header.nColumns > 0 &&
+                    header.dataOffset >= (DAAL_INT64)mappedTableHeaderSize && header.dataOffset % elementSize == 0 &&
+                    (size_t)header.dataOffset <= size);
+    if (isValid)
+    {
+        const size_t maxRows = (size - (size_t)header.dataOffset) / elementSize / (size_t)header.nColumns;
+        isValid = ((size_t)header.nRows <= maxRows);
+    }
+    if (!isValid)
+    {
+        Status s(ErrorOnFileRead);
+        s |= unmapFile(base, size, writable);
+        DAAL_CHECK_THROW(s);
+        return (jlong)0;
+    }
+
+    Status s;
+    NumericTablePtr table;
+    switch (header.indexType)
+    {
+    case data_feature_utils::DAAL_FLOAT64: table = createTable<double    >(base, size, writable, header, s); break;
+    case data_feature_utils::DAAL_FLOAT32: table = createTable<float     >(base, size, writable, header, s); break;
+    case data_feature_utils::DAAL_INT64_S: table = createTable<DAAL_INT64>(base, size, writable, header, s); break;
+    case data_feature_utils::DAAL_INT32_S: table = createTable<int       >(base, size, writable, header, s); break;
+    }
+    if (!s || !table)
+    {
+        DAAL_CHECK_THROW(s);
+        return (jlong)0;
+    }
+    return (jlong)(new SerializationIfacePtr(table));
+}
+
+} // namespace
+
+/*
+ * Class:     com_intel_daal_data_1management_data_MappedHomogenNumericTable
+ * Method:    cOpen
+ * Signature:(Ljava/lang/String;Z)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_MappedHomogenNumericTable_cOpen
+(JNIEnv *env, jclass thisClass, jstring jFileName, jboolean writable)
+{
+    const char *fileName = env->GetStringUTFChars(jFileName, NULL);
+    size_t size = 0;
+    byte *base = mapFile(fileName, (writable != JNI_FALSE), size);
+    env->ReleaseStringUTFChars(jFileName, fileName);
+
+    if (!base)
+    {
+        DAAL_CHECK_THROW(Status(ErrorOnFileOpen));
+        return (jlong)0;
+    }
+    if (size < mappedTableHeaderSize)
+    {
+        Status s(ErrorOnFileRead);
+        s |= unmapFile(base, size, (writable != JNI_FALSE));
+        DAAL_CHECK_THROW(s);
+        return (jlong)0;
+    }
+    return createMappedTable(env, base, size, (writable != JNI_FALSE));
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_MappedHomogenNumericTable
+ * Method:    cCreate
+ * Signature:(Ljava/lang/String;IJJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_MappedHomogenNumericTable_cCreate
+(JNIEnv *env, jclass thisClass, jstring jFileName, jint indexType, jlong nColumns, jlong nRows)
+{
+    const size_t elementSize = getElementSize(indexType);
+    if (elementSize == 0 || nColumns <= 0 || nRows < 0 ||
+        (size_t)nRows > ((size_t)-1 - mappedTableHeaderSize) / elementSize / (size_t)nColumns)
+    {
+        DAAL_CHECK_THROW(Status(ErrorIncorrectParameter));
+        return (jlong)0;
+    }
+    const size_t size = mappedTableHeaderSize + (size_t)nRows * (size_t)nColumns * elementSize;
+
+    const char *fileName = env->GetStringUTFChars(jFileName, NULL);
+    byte *base = createFile(fileName, size);
+    env->ReleaseStringUTFChars(jFileName, fileName);
+
+    if (!base)
+    {
+        DAAL_CHECK_THROW(Status(ErrorOnFileOpen));
+        return (jlong)0;
+    }
+
+    MappedTableHeader *header = (MappedTableHeader *)base;
+    header->signature  = mappedTableSignature;
+    header->version    = mappedTableVersion;
+    header->indexType  = indexType;
+    header->reserved   = 0;
+    header->nRows      = nRows;
+    header->nColumns   = nColumns;
+    header->dataOffset = mappedTableHeaderSize;
+
+    return createMappedTable(env, base, size, true);
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_MappedHomogenNumericTable
+ * Method:    cFlush
+ * Signature:(J)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_MappedHomogenNumericTable_cFlush
+(JNIEnv *env, jclass thisClass, jlong cTable)
+{
+    NumericTable *table = dynamic_cast<NumericTable *>(((SerializationIfacePtr *)cTable)->get());
+    void *ptr = NULL;
+    size_t size = 0;
+    if (!table ||
+        !(getTableMemory<double>(table, ptr, size) || getTableMemory<float>(table, ptr, size) ||
+          getTableMemory<DAAL_INT64>(table, ptr, size) || getTableMemory<int>(table, ptr, size)))
+    {
+        DAAL_CHECK_THROW(Status(ErrorIncorrectTypeOfNumericTable));
+        return;
+    }
+    if (size) { DAAL_CHECK_THROW(flushMemory(ptr, size)); }
+}
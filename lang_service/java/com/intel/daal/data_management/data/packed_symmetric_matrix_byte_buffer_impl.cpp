@@ -45,10 +45,29 @@
 #include "numeric_table.h"
 #include "symmetric_matrix.h"
 #include "common_helpers_functions.h"
+#include "java_data_segments.h"
 
 using namespace daal;
 using namespace daal::data_management;
 
+template<NumericTableIface::StorageLayout packedLayout, typename T>
+static bool getPackedData(SerializationIface *obj, void *&data, size_t &size)
+{
+    PackedSymmetricMatrix<packedLayout, T> *nt = dynamic_cast<PackedSymmetricMatrix<packedLayout, T> *>(obj);
+    if (!nt) { return false; }
+    size_t nDim = nt->getNumberOfColumns();
+    data = nt->getArray();
+    size = (nDim * (nDim + 1)) / 2 * sizeof(T);
+    return true;
+}
+
+template<typename T>
+static bool getPackedData(SerializationIface *obj, void *&data, size_t &size)
+{
+    return getPackedData<NumericTableIface::StorageLayout::upperPackedSymmetricMatrix, T>(obj, data, size) ||
+           getPackedData<NumericTableIface::StorageLayout::lowerPackedSymmetricMatrix, T>(obj, data, size);
+}
+
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getIndexType
@@ -177,7 +196,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetri
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseFloatBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseFloatBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -202,7 +221,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetric
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseDoubleBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseDoubleBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -227,7 +246,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetric
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseIntBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseIntBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -252,7 +271,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetric
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getDoubleBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getDoubleBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -278,7 +297,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getFloatBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getFloatBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -305,7 +324,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getIntBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getIntBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -331,7 +350,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getDoubleColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getDoubleColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -357,7 +376,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getFloatColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getFloatColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -383,7 +402,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getIntColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getIntColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -409,7 +428,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseFloatColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseFloatColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -435,7 +454,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetric
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseDoubleColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseDoubleColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -461,7 +480,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetric
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseIntColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseIntColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -575,7 +594,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetric
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getDoublePackedBuffer
- * Signature:(JILjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JILjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getDoublePackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -603,7 +622,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getFloatPackedBuffer
- * Signature:(JILjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JILjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getFloatPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jint nDim, jobject byteBuffer)
@@ -631,7 +650,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    getIntPackedBuffer
- * Signature:(JILjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JILjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_getIntPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jint nDim, jobject byteBuffer)
@@ -659,7 +678,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseDoublePackedBuffer
- * Signature:(JLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseDoublePackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -687,7 +706,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseFloatPackedBuffer
- * Signature:(JLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseFloatPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -715,7 +734,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmet
 /*
  * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
  * Method:    releaseIntPackedBuffer
- * Signature:(JLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_releaseIntPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -815,3 +834,23 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetric
     }
     DAAL_CHECK_THROW(s);
 }
+
+/*
+ * Class:     com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl
+ * Method:    cGetDataSegments
+ * Signature:(JJ)[Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_intel_daal_data_1management_data_PackedSymmetricMatrixByteBufferImpl_cGetDataSegments
+(JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong segmentSize)
+{
+    SerializationIface *obj = ((SerializationIfacePtr *)numTableAddr)->get();
+
+    void *data  = NULL;
+    size_t size = 0;
+    if (!getPackedData<double>(obj, data, size) && !getPackedData<float>(obj, data, size) &&
+        !getPackedData<long>(obj, data, size) && !getPackedData<int>(obj, data, size))
+    {
+        return NULL;
+    }
+    return daal::internal::createDataSegments(env, data, size, (size_t)segmentSize);
+}
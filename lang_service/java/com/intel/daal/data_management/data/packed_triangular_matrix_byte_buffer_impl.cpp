@@ -45,10 +45,29 @@
 #include "numeric_table.h"
 #include "symmetric_matrix.h"
 #include "common_helpers_functions.h"
+#include "java_data_segments.h"
 
 using namespace daal;
 using namespace daal::data_management;
 
+template<NumericTableIface::StorageLayout packedLayout, typename T>
+static bool getPackedData(SerializationIface *obj, void *&data, size_t &size)
+{
+    PackedTriangularMatrix<packedLayout, T> *nt = dynamic_cast<PackedTriangularMatrix<packedLayout, T> *>(obj);
+    if (!nt) { return false; }
+    size_t nDim = nt->getNumberOfColumns();
+    data = nt->getArray();
+    size = (nDim * (nDim + 1)) / 2 * sizeof(T);
+    return true;
+}
+
+template<typename T>
+static bool getPackedData(SerializationIface *obj, void *&data, size_t &size)
+{
+    return getPackedData<NumericTableIface::StorageLayout::upperPackedTriangularMatrix, T>(obj, data, size) ||
+           getPackedData<NumericTableIface::StorageLayout::lowerPackedTriangularMatrix, T>(obj, data, size);
+}
+
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getIndexType
@@ -177,7 +196,7 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_PackedTriangul
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseFloatBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseFloatBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -202,7 +221,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangula
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseDoubleBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseDoubleBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -227,7 +246,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangula
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseIntBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseIntBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -252,7 +271,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangula
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getDoubleBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getDoubleBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -279,7 +298,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getFloatBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getFloatBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -306,7 +325,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getIntBlockBuffer
- * Signature:(JJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getIntBlockBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -333,7 +352,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getDoubleColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getDoubleColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -360,7 +379,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getFloatColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getFloatColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -387,7 +406,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getIntColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JJJJLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getIntColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -414,7 +433,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseFloatColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseFloatColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -440,7 +459,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangula
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseDoubleColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseDoubleColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -466,7 +485,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangula
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseIntColumnBuffer
- * Signature:(JJJJLjava/nio/ByteBuffer;)V
+ * Signature:(JJJJLjava/nio/Buffer;)V
  */
 JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseIntColumnBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong featureIndex, jlong vectorIndex, jlong vectorNum, jobject byteBuffer)
@@ -580,7 +599,7 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangula
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getDoublePackedBuffer
- * Signature:(JILjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JILjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getDoublePackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -608,7 +627,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getFloatPackedBuffer
- * Signature:(JILjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JILjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getFloatPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jint nDim, jobject byteBuffer)
@@ -636,7 +655,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    getIntPackedBuffer
- * Signature:(JILjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JILjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_getIntPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jint nDim, jobject byteBuffer)
@@ -664,7 +683,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseDoublePackedBuffer
- * Signature:(JLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseDoublePackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -692,7 +711,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseFloatPackedBuffer
- * Signature:(JLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseFloatPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -720,7 +739,7 @@ JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriang
 /*
  * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
  * Method:    releaseIntPackedBuffer
- * Signature:(JLjava/nio/ByteBuffer;)Ljava/nio/ByteBuffer;
+ * Signature:(JLjava/nio/Buffer;)Ljava/nio/Buffer;
  */
 JNIEXPORT jobject JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_releaseIntPackedBuffer
 (JNIEnv *env, jobject thisObj, jlong numTableAddr, jobject byteBuffer)
@@ -822,3 +841,23 @@ JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_PackedTriangula
 
     DAAL_CHECK_THROW(s);
 }
+
+/*
+ * Class:     com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl
+ * Method:    cGetDataSegments
+ * Signature:(JJ)[Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_intel_daal_data_1management_data_PackedTriangularMatrixByteBufferImpl_cGetDataSegments
+(JNIEnv *env, jobject thisObj, jlong numTableAddr, jlong segmentSize)
+{
+    SerializationIface *obj = ((SerializationIfacePtr *)numTableAddr)->get();
+
+    void *data  = NULL;
+    size_t size = 0;
+    if (!getPackedData<double>(obj, data, size) && !getPackedData<float>(obj, data, size) &&
+        !getPackedData<long>(obj, data, size) && !getPackedData<int>(obj, data, size))
+    {
+        return NULL;
+    }
+    return daal::internal::createDataSegments(env, data, size, (size_t)segmentSize);
+}
@@ -48,18 +48,10 @@
 using namespace daal::data_management;
 using namespace daal::services;
 
-/*
- * Class:     com_intel_daal_data_1management_data_SerializableBase
- * Method:    cSerializeCObject
- * Signature: (J)Ljava/nio/ByteBuffer;
- */
-JNIEXPORT jobjectArray JNICALL Java_com_intel_daal_data_1management_data_SerializableBase_cSerializeCObject
-(JNIEnv *env, jobject thisObj, jlong ptr)
-{
-    SerializationIface *nt = (*(SerializationIfacePtr *)ptr).get();
-    InputDataArchive dataArch;
-    nt->serialize(dataArch);
+static const jint noCompression = -1;
 
+static jobjectArray archiveToByteArrays(JNIEnv *env, InputDataArchive &dataArch)
+{
     size_t length = dataArch.getSizeOfArchive();
 
     size_t maxBlockLenght = 1024*1024*1024;
@@ -109,13 +101,90 @@ JNIEXPORT jobjectArray JNICALL Java_com_intel_daal_data_1management_data_Seriali
     return byte2dArray;
 }
 
+template<CompressionMethod method>
+static jobjectArray serializeCompressed(JNIEnv *env, SerializationIface *obj, jint level)
+{
+    Compressor<method> compressor;
+    compressor.parameter.level = (CompressionLevel)level;
+
+    InputDataArchive dataArch(&compressor);
+    obj->serialize(dataArch);
+
+    if(compressor.getErrors()->size() > 0)
+    {
+        env->ThrowNew(env->FindClass("java/lang/Exception"), compressor.getErrors()->getDescription());
+        return NULL;
+    }
+
+    return archiveToByteArrays(env, dataArch);
+}
+
+static jlong archiveToCObject(JNIEnv *env, OutputDataArchive &dataArch)
+{
+    SerializationIfacePtr *sPtr = new SerializationIfacePtr();
+
+    *sPtr = dataArch.getAsSharedPtr();
+
+    if(dataArch.getErrors()->size() > 0)
+    {
+        env->ThrowNew(env->FindClass("java/lang/Exception"), dataArch.getErrors()->getDescription());
+        delete sPtr;
+        return (jlong)0;
+    }
+
+    return (jlong)sPtr;
+}
+
+template<CompressionMethod method>
+static jlong deserializeCompressed(JNIEnv *env, daal::byte *buffer, size_t length)
+{
+    Decompressor<method> decompressor;
+    OutputDataArchive dataArch(&decompressor, buffer, length);
+
+    if(decompressor.getErrors()->size() > 0)
+    {
+        env->ThrowNew(env->FindClass("java/lang/Exception"), decompressor.getErrors()->getDescription());
+        return (jlong)0;
+    }
+
+    return archiveToCObject(env, dataArch);
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializableBase
+ * Method:    cSerializeCObject
+ * Signature: (JII)[[B
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_intel_daal_data_1management_data_SerializableBase_cSerializeCObject
+(JNIEnv *env, jobject thisObj, jlong ptr, jint compressionMethod, jint compressionLevel)
+{
+    SerializationIface *nt = (*(SerializationIfacePtr *)ptr).get();
+
+    switch(compressionMethod)
+    {
+    case noCompression:
+        {
+            InputDataArchive dataArch;
+            nt->serialize(dataArch);
+            return archiveToByteArrays(env, dataArch);
+        }
+    case zlib:  return serializeCompressed<zlib> (env, nt, compressionLevel);
+    case lzo:   return serializeCompressed<lzo>  (env, nt, compressionLevel);
+    case rle:   return serializeCompressed<rle>  (env, nt, compressionLevel);
+    case bzip2: return serializeCompressed<bzip2>(env, nt, compressionLevel);
+    default:
+        env->ThrowNew(env->FindClass("java/lang/IllegalArgumentException"), "Unsupported compression method");
+        return NULL;
+    }
+}
+
 /*
  * Class:     com_intel_daal_data_1management_data_SerializableBase
  * Method:    cDeserializeCObject
- * Signature: (Ljava/nio/ByteBuffer;J)J
+ * Signature: ([[BI)J
  */
 JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_SerializableBase_cDeserializeCObject
-(JNIEnv *env, jobject thisObj, jobjectArray byte2dArray)
+(JNIEnv *env, jobject thisObj, jobjectArray byte2dArray, jint compressionMethod)
 {
     int length2D = env->GetArrayLength(byte2dArray);
 
@@ -147,23 +216,26 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_SerializableBa
         offset += smallLength;
     }
 
-    OutputDataArchive dataArch(buffer, offset);
-
-    SerializationIfacePtr *sPtr = new SerializationIfacePtr();
-
-    *sPtr = dataArch.getAsSharedPtr();
-
-    if(dataArch.getErrors()->size() > 0)
+    jlong cObject = 0;
+    switch(compressionMethod)
     {
-        env->ThrowNew(env->FindClass("java/lang/Exception"), dataArch.getErrors()->getDescription());
-        daal_free(buffer);
-        delete sPtr;
-        return (jlong)0;
+    case noCompression:
+        {
+            OutputDataArchive dataArch(buffer, offset);
+            cObject = archiveToCObject(env, dataArch);
+            break;
+        }
+    case zlib:  cObject = deserializeCompressed<zlib> (env, buffer, offset); break;
+    case lzo:   cObject = deserializeCompressed<lzo>  (env, buffer, offset); break;
+    case rle:   cObject = deserializeCompressed<rle>  (env, buffer, offset); break;
+    case bzip2: cObject = deserializeCompressed<bzip2>(env, buffer, offset); break;
+    default:
+        env->ThrowNew(env->FindClass("java/lang/IllegalArgumentException"), "Unsupported compression method");
     }
 
     daal_free(buffer);
 
-    return (jlong)sPtr;
+    return cObject;
 }
 
 /*
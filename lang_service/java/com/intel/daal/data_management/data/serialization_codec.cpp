@@ -0,0 +1,221 @@
+/* file: serialization_codec.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include "JSerializationCodec.h"
+#include "daal.h"
+
+#include "java_numeric_table.h"
+#include "java_tensor.h"
+#include "common_helpers_functions.h"
+
+using namespace daal;
+using namespace daal::data_management;
+using namespace daal::services;
+
+static void throwArchiveErrors(JNIEnv *env, const services::SharedPtr<services::ErrorCollection> &errors)
+{
+    env->ThrowNew(env->FindClass("java/lang/Exception"), errors->getDescription());
+}
+
+/* Deserializes the object from the memory of the buffer and returns the address of the pointer to it.
+ * The memory of the Java array, if any, is released as soon as the archive is copied */
+static jlong deserialize(JNIEnv *env, jobject context, byte *data, size_t offset, size_t size, jbyteArray array)
+{
+    OutputDataArchive dataArch(data + offset, size);
+    if (array)
+    {
+        env->ReleasePrimitiveArrayCritical(array, data, JNI_ABORT);
+    }
+    if(dataArch.getErrors()->size() > 0)
+    {
+        throwArchiveErrors(env, dataArch.getErrors());
+        return (jlong)0;
+    }
+
+    JavaVM *jvm;
+    if(env->GetJavaVM(&jvm) == 0)
+    {
+        JavaNumericTableBase::setJavaVM(jvm);
+        JavaTensorBase::setJavaVM(jvm);
+    }
+    JavaNumericTableBase::setDaalContext(env->NewGlobalRef(context));
+    JavaTensorBase::setDaalContext(env->NewGlobalRef(context));
+
+    SerializationIfacePtr *sPtr = new SerializationIfacePtr(dataArch.getAsSharedPtr());
+
+    env->DeleteGlobalRef(JavaNumericTableBase::getDaalContext());
+    JavaNumericTableBase::setDaalContext(NULL);
+    env->DeleteGlobalRef(JavaTensorBase::getDaalContext());
+    JavaTensorBase::setDaalContext(NULL);
+
+    if(dataArch.getErrors()->size() > 0 || !sPtr->get())
+    {
+        delete sPtr;
+        throwArchiveErrors(env, dataArch.getErrors());
+        return (jlong)0;
+    }
+    return (jlong)sPtr;
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cSerialize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cSerialize
+(JNIEnv *env, jclass cls, jlong ptr)
+{
+    SerializationIface *object = (*(SerializationIfacePtr *)ptr).get();
+    InputDataArchive *dataArch = new InputDataArchive();
+    object->serialize(*dataArch);
+
+    if(dataArch->getErrors()->size() > 0)
+    {
+        throwArchiveErrors(env, dataArch->getErrors());
+        delete dataArch;
+        return (jlong)0;
+    }
+    return (jlong)dataArch;
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cGetArchiveSize
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cGetArchiveSize
+(JNIEnv *env, jclass cls, jlong archiveAddr)
+{
+    return (jlong)((InputDataArchive *)archiveAddr)->getSizeOfArchive();
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cCopyArchiveToBuffer
+ * Signature: (JLjava/nio/ByteBuffer;J)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cCopyArchiveToBuffer
+(JNIEnv *env, jclass cls, jlong archiveAddr, jobject dst, jlong offset)
+{
+    InputDataArchive *dataArch = (InputDataArchive *)archiveAddr;
+    byte *dstPtr = (byte *)env->GetDirectBufferAddress(dst);
+    if (!dstPtr)
+    {
+        DAAL_CHECK_THROW(services::Status(services::ErrorNullPtr));
+        return;
+    }
+    dataArch->copyArchiveToArray(dstPtr + offset, dataArch->getSizeOfArchive());
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cCopyArchiveToArray
+ * Signature: (J[BI)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cCopyArchiveToArray
+(JNIEnv *env, jclass cls, jlong archiveAddr, jbyteArray dst, jint offset)
+{
+    InputDataArchive *dataArch = (InputDataArchive *)archiveAddr;
+    byte *dstPtr = (byte *)env->GetPrimitiveArrayCritical(dst, NULL);
+    if (!dstPtr)
+    {
+        DAAL_CHECK_THROW(services::Status(services::ErrorMemoryAllocationFailed));
+        return;
+    }
+    dataArch->copyArchiveToArray(dstPtr + offset, dataArch->getSizeOfArchive());
+    env->ReleasePrimitiveArrayCritical(dst, dstPtr, 0);
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cReleaseArchive
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cReleaseArchive
+(JNIEnv *env, jclass cls, jlong archiveAddr)
+{
+    delete (InputDataArchive *)archiveAddr;
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cDeserializeBuffer
+ * Signature: (Lcom/intel/daal/services/DaalContext;Ljava/nio/ByteBuffer;JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cDeserializeBuffer
+(JNIEnv *env, jclass cls, jobject context, jobject src, jlong offset, jlong size)
+{
+    byte *srcPtr = (byte *)env->GetDirectBufferAddress(src);
+    if (!srcPtr)
+    {
+        DAAL_CHECK_THROW(services::Status(services::ErrorNullPtr));
+        return (jlong)0;
+    }
+    return deserialize(env, context, srcPtr, (size_t)offset, (size_t)size, NULL);
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cDeserializeArray
+ * Signature: (Lcom/intel/daal/services/DaalContext;[BIJ)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cDeserializeArray
+(JNIEnv *env, jclass cls, jobject context, jbyteArray src, jint offset, jlong size)
+{
+    byte *srcPtr = (byte *)env->GetPrimitiveArrayCritical(src, NULL);
+    if (!srcPtr)
+    {
+        DAAL_CHECK_THROW(services::Status(services::ErrorMemoryAllocationFailed));
+        return (jlong)0;
+    }
+    return deserialize(env, context, srcPtr, (size_t)offset, (size_t)size, src);
+}
+
+/*
+ * Class:     com_intel_daal_data_1management_data_SerializationCodec
+ * Method:    cDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_SerializationCodec_cDispose
+(JNIEnv *env, jclass cls, jlong ptr)
+{
+    delete (SerializationIfacePtr *)ptr;
+}
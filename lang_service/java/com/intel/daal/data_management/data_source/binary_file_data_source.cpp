@@ -0,0 +1,97 @@
+/* file: binary_file_data_source.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#include "JBinaryFileDataSource.h"
+
+#include "binary_file_data_source.h"
+#include "common_helpers_functions.h"
+
+using namespace daal;
+using namespace daal::data_management;
+
+/*
+ * Class:     com_intel_daal_data_management_data_source_BinaryFileDataSource
+ * Method:    cInit
+ * Signature:(Ljava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_1source_BinaryFileDataSource_cInit
+(JNIEnv *env, jobject obj, jstring jFileName)
+{
+    const char *fileName = env->GetStringUTFChars(jFileName, NULL);
+
+    DataSource *ds = new BinaryFileDataSource<>(fileName);
+    env->ReleaseStringUTFChars(jFileName, fileName);
+    if(!ds->status())
+    {
+        const services::Status s = ds->status();
+        delete ds;
+        DAAL_CHECK_THROW(s);
+        return (jlong)0;
+    }
+
+    return(jlong)(ds);
+}
+
+/*
+ * Class:     com_intel_daal_data_management_data_source_BinaryFileDataSource
+ * Method:    cWrite
+ * Signature:(Ljava/lang/String;JIJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_1source_BinaryFileDataSource_cWrite
+(JNIEnv *env, jclass cls, jstring jFileName, jlong ntAddr, jint method, jlong rowsPerChunk)
+{
+    NumericTable *nt = ((NumericTablePtr *)ntAddr)->get();
+
+    const char *fileName = env->GetStringUTFChars(jFileName, NULL);
+    const std::string name(fileName);
+    env->ReleaseStringUTFChars(jFileName, fileName);
+
+    services::Status s;
+    if(method < 0)
+    {
+        s = BinaryFileWriter::write(name, *nt, (size_t)rowsPerChunk);
+    }
+    else
+    {
+        s = BinaryFileWriter::write(name, *nt, (CompressionMethod)method, (size_t)rowsPerChunk);
+    }
+    DAAL_CHECK_THROW(s);
+}
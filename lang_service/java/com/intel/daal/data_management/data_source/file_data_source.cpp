@@ -85,3 +85,25 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_1source_FileDa
 
     return (jlong)featureManager;
 }
+
+/*
+ * Class:     com_intel_daal_data_management_data_source_FileDataSource
+ * Method:    cSetNumberOfThreads
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_1source_FileDataSource_cSetNumberOfThreads
+(JNIEnv *env, jobject obj, jlong ptr, jlong nThreads)
+{
+    ((FileDataSource<CSVFeatureManager> *)ptr)->setNumberOfThreads((size_t)nThreads);
+}
+
+/*
+ * Class:     com_intel_daal_data_management_data_source_FileDataSource
+ * Method:    cGetNumberOfThreads
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_1source_FileDataSource_cGetNumberOfThreads
+(JNIEnv *env, jobject obj, jlong ptr)
+{
+    return (jlong)(((FileDataSource<CSVFeatureManager> *)ptr)->getNumberOfThreads());
+}
@@ -143,3 +143,25 @@ JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_1source_String
 
     return (jlong)featureManager;
 }
+
+/*
+ * Class:     com_intel_daal_data_management_data_source_StringDataSource
+ * Method:    cSetNumberOfThreads
+ * Signature:(JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_intel_daal_data_1management_data_1source_StringDataSource_cSetNumberOfThreads
+(JNIEnv *env, jobject obj, jlong ptr, jlong nThreads)
+{
+    ((StringDataSource<CSVFeatureManager> *)ptr)->setNumberOfThreads((size_t)nThreads);
+}
+
+/*
+ * Class:     com_intel_daal_data_management_data_source_StringDataSource
+ * Method:    cGetNumberOfThreads
+ * Signature:(J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_data_1management_data_1source_StringDataSource_cGetNumberOfThreads
+(JNIEnv *env, jobject obj, jlong ptr)
+{
+    return (jlong)(((StringDataSource<CSVFeatureManager> *)ptr)->getNumberOfThreads());
+}
@@ -0,0 +1,124 @@
+/* file: java_threading_helper.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#ifndef __JAVA_THREADING_HELPER_H__
+#define __JAVA_THREADING_HELPER_H__
+
+#include <jni.h>
+#include <tbb/tbb.h>
+
+#include "services/error_handling.h"
+
+namespace daal
+{
+
+namespace internal
+{
+
+struct _java_tls
+{
+    JNIEnv *jenv;    // JNI interface poiner
+    jobject jbuf;
+    jclass jcls;     // Java class associated with this C++ object
+    bool is_main_thread;
+    bool is_attached;
+    /* Default constructor */
+    _java_tls()
+    {
+        jenv = NULL;
+        jbuf = NULL;
+        jcls = NULL;
+        is_main_thread = false;
+        is_attached = false;
+    }
+};
+
+/**
+ * Returns the JNI interface pointer for the current thread.
+ * Native threads that are not yet known to Java VM are attached as daemon threads and stay attached
+ * until they exit, so the repeated calls from the same worker thread do not create new java.lang.Thread objects
+ */
+services::Status attachCurrentThread(JavaVM *jvm, JNIEnv *&jenv);
+
+/**
+ * Attaches the current thread to Java VM and stores the JNI interface pointer in the thread local storage
+ */
+services::Status attachCurrentThread(JavaVM *jvm, _java_tls &local_tls);
+
+/**
+ * Finishes the sequence of JNI calls started by attachCurrentThread().
+ * The thread stays attached to Java VM. The local references stored in the thread local storage are deleted
+ * if the thread was attached by the library, as such threads never return to Java to free them
+ */
+services::Status releaseCurrentThread(JavaVM *jvm, _java_tls &local_tls);
+
+/**
+ * Returns true if the current thread was attached to Java VM by the library
+ */
+bool isCurrentThreadAttachedByLibrary();
+
+/**
+ * Returns the number of times native threads were attached to Java VM by the library
+ */
+size_t getNumberOfThreadAttachments();
+
+/**
+ * Process-wide cache of the Java method identifiers keyed by the Java class, so the objects of the same class
+ * share the identifiers. The classes are referenced weakly, the identifiers of an unloaded class are not used
+ */
+class JavaMethodCache
+{
+public:
+    /**
+     * Returns the identifier of the method of the class of the Java object, NULL if the method is not found
+     * \param[in] jenv       JNI interface pointer for the current thread
+     * \param[in] jobj       Java object
+     * \param[in] name       Name of the method, a string literal
+     * \param[in] signature  Signature of the method, a string literal
+     */
+    static jmethodID get(JNIEnv *jenv, jobject jobj, const char *name, const char *signature);
+};
+
+} // namespace internal
+
+} // namespace daal
+
+#endif
@@ -0,0 +1,109 @@
+/* file: java_tree_arrays.h */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+#ifndef __JAVA_TREE_ARRAYS_H__
+#define __JAVA_TREE_ARRAYS_H__
+
+#include <jni.h>
+#include "daal.h"
+#include "common_helpers_functions.h"
+
+namespace daal
+{
+
+/**
+ * Copies the tree of the tree ensemble model into Java arrays of node attributes in one call.
+ * The arrays are allocated by the caller and hold getNumberOfNodes(iTree) elements each
+ */
+template <typename ModelType>
+void exportTreeToJavaArrays(JNIEnv *env, const ModelType &model, size_t iTree, jintArray jFeatureIndex, jdoubleArray jFeatureValue,
+                            jintArray jLeftChild, jintArray jRightChild, jdoubleArray jResponse)
+{
+    jint    *featureIndex = env->GetIntArrayElements(jFeatureIndex, 0);
+    jdouble *featureValue = env->GetDoubleArrayElements(jFeatureValue, 0);
+    jint    *leftChild    = env->GetIntArrayElements(jLeftChild, 0);
+    jint    *rightChild   = env->GetIntArrayElements(jRightChild, 0);
+    jdouble *response     = env->GetDoubleArrayElements(jResponse, 0);
+
+    services::Status s = model.exportTree(iTree, (int *)featureIndex, (double *)featureValue,
+                                          (int *)leftChild, (int *)rightChild, (double *)response);
+
+    /* The values are copied back to Java only if the export succeeded */
+    const jint mode = s ? 0 : JNI_ABORT;
+    env->ReleaseIntArrayElements(jFeatureIndex, featureIndex, mode);
+    env->ReleaseDoubleArrayElements(jFeatureValue, featureValue, mode);
+    env->ReleaseIntArrayElements(jLeftChild, leftChild, mode);
+    env->ReleaseIntArrayElements(jRightChild, rightChild, mode);
+    env->ReleaseDoubleArrayElements(jResponse, response, mode);
+
+    DAAL_CHECK_THROW(s);
+}
+
+/**
+ * Adds the tree given by Java arrays of node attributes to the tree ensemble model in one call
+ */
+template <typename ModelType>
+void importTreeFromJavaArrays(JNIEnv *env, ModelType &model, jintArray jFeatureIndex, jdoubleArray jFeatureValue,
+                              jintArray jLeftChild, jintArray jRightChild, jdoubleArray jResponse)
+{
+    const size_t nNodes = (size_t)env->GetArrayLength(jFeatureIndex);
+
+    jint    *featureIndex = env->GetIntArrayElements(jFeatureIndex, 0);
+    jdouble *featureValue = env->GetDoubleArrayElements(jFeatureValue, 0);
+    jint    *leftChild    = env->GetIntArrayElements(jLeftChild, 0);
+    jint    *rightChild   = env->GetIntArrayElements(jRightChild, 0);
+    jdouble *response     = env->GetDoubleArrayElements(jResponse, 0);
+
+    services::Status s = model.importTree(nNodes, (const int *)featureIndex, (const double *)featureValue,
+                                          (const int *)leftChild, (const int *)rightChild, (const double *)response);
+
+    env->ReleaseIntArrayElements(jFeatureIndex, featureIndex, JNI_ABORT);
+    env->ReleaseDoubleArrayElements(jFeatureValue, featureValue, JNI_ABORT);
+    env->ReleaseIntArrayElements(jLeftChild, leftChild, JNI_ABORT);
+    env->ReleaseIntArrayElements(jRightChild, rightChild, JNI_ABORT);
+    env->ReleaseDoubleArrayElements(jResponse, response, JNI_ABORT);
+
+    DAAL_CHECK_THROW(s);
+}
+
+} // namespace daal
+
+#endif
@@ -43,6 +43,7 @@
 
 #include "JEnvironment.h"
 #include "daal.h"
+#include "java_threading_helper.h"
 
 using namespace daal::services;
 
@@ -111,3 +112,14 @@ JNIEXPORT void JNICALL Java_com_intel_daal_services_Environment_cEnableThreadPin
 {
     return Environment::getInstance()->enableThreadPinning(enableThreadPinningFlag);
 }
+
+/*
+ * Class:     com_intel_daal_services_Environment
+ * Method:    cGetNumberOfThreadAttachments
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_intel_daal_services_Environment_cGetNumberOfThreadAttachments
+  (JNIEnv *, jclass)
+{
+    return (jlong)daal::internal::getNumberOfThreadAttachments();
+}
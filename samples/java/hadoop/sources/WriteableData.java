@@ -27,22 +27,22 @@ public class WriteableData implements Writable {
 
     protected int id;
     protected SerializableBase value;
+    protected byte[] buffer;
 
     public WriteableData() {
-        this.id    = 0;
-        this.value = null;
+        this.id     = 0;
+        this.value  = null;
+        this.buffer = null;
     }
 
     public WriteableData( SerializableBase val ) {
-        this.id    = 0;
-        this.value = val;
-        val.pack();
+        this(0, val);
     }
 
     public WriteableData( int id, SerializableBase val ) {
-        this.id    = id;
-        this.value = val;
-        val.pack();
+        this.id     = id;
+        this.value  = val;
+        this.buffer = SerializationCodec.encodeToArray(val);
     }
 
     public int getId() {
@@ -50,18 +50,13 @@ public class WriteableData implements Writable {
     }
 
     public ContextClient getObject(DaalContext context) {
-        this.value.unpack(context);
+        if (this.value == null) {
+            this.value = SerializationCodec.decode(context, this.buffer);
+        }
         return this.value;
     }
 
     public void write(DataOutput out) throws IOException {
-        ByteArrayOutputStream outputByteStream = new ByteArrayOutputStream();
-        ObjectOutputStream outputStream = new ObjectOutputStream(outputByteStream);
-
-        outputStream.writeObject(value);
-
-        byte[] buffer = outputByteStream.toByteArray();
-
         out.writeInt(buffer.length);
         out.write(buffer);
 
@@ -71,18 +66,9 @@ public class WriteableData implements Writable {
     public void readFields(DataInput in) throws IOException {
         int length = in.readInt();
 
-        byte[] buffer = new byte[length];
-        in.readFully(buffer);
-
-        ByteArrayInputStream inputByteStream = new ByteArrayInputStream(buffer);
-        ObjectInputStream inputStream = new ObjectInputStream(inputByteStream);
-
-        try {
-            this.value = (SerializableBase)inputStream.readObject();
-        } catch (ClassNotFoundException e) {
-            e.printStackTrace();
-            this.value = null;
-        }
+        this.buffer = new byte[length];
+        in.readFully(this.buffer);
+        this.value = null;
 
         id = in.readInt();
     }
@@ -0,0 +1,74 @@
+#!/bin/bash
+#==============================================================
+#
+# SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+# http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+#
+# Copyright 2017-2018 Intel Corporation
+#
+# THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+# NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+# PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+#
+# =============================================================
+
+##  Content:
+##     Intel(R) Data Analytics Acceleration Library Java API benchmarks
+##******************************************************************************
+# Don't forget to set the env below
+#  export DAALROOT=${PWD}/../../../daal
+#  export JMH_JARS=/tmp/jmh/jmh-core-1.19.jar:/tmp/jmh/jmh-generator-annprocess-1.19.jar:/tmp/jmh/jopt-simple-4.6.jar:/tmp/jmh/commons-math3-3.2.jar
+
+help_message() {
+    echo "Usage: launcher.sh {arch|help} [JMH options]"
+    echo "arch          - can be ia32 or intel64, optional for building benchmarks."
+    echo "JMH options   - passed to org.openjdk.jmh.Main, for example a regular expression"
+    echo "                that selects the benchmarks to run"
+    echo "help          - print this message"
+    echo "Example: launcher.sh intel64 SerializationBenchmark -f 1 -wi 3 -i 5"
+}
+
+daal_ia=
+first_arg=$1
+
+while [ "$1" != "" ]; do
+    case $1 in
+        ia32|intel64)          daal_ia=$1
+                               ;;
+        help)                  help_message
+                               exit 0
+                               ;;
+        *)                     break
+                               ;;
+    esac
+    shift
+done
+
+if [ "${daal_ia}" != "ia32" -a "${daal_ia}" != "intel64" ]; then
+    echo Bad argument arch = ${first_arg} , must be ia32 or intel64
+    help_message
+    exit 1
+fi
+
+# Setting paths by OS
+os_name=`uname -s`
+if [ "${os_name}" == "Darwin" ]; then
+    export DYLD_LIBRARY_PATH=${DAALROOT}/lib/:${DAALROOT}/../tbb/lib/:$DYLD_LIBRARY_PATH
+    lib_path=${DAALROOT}/lib
+else
+    export LD_LIBRARY_PATH=${DAALROOT}/lib/${daal_ia}_lin/:${DAALROOT}/../tbb/lib/${daal_ia}_lin/gcc4.4/:$LD_LIBRARY_PATH
+    lib_path=${DAALROOT}/lib/${daal_ia}_lin
+fi
+
+export CLASSPATH=${JMH_JARS}:${DAALROOT}/lib/daal.jar:$CLASSPATH
+
+# Creating _results folder
+mkdir -p ./_results/classes
+
+# Building benchmarks. The JMH annotation processor generates the benchmark stubs
+javac -d ./_results/classes -sourcepath ./ sources/*.java
+jar -cf ./_results/daal_benchmarks.jar -C ./_results/classes .
+
+# Running benchmarks
+java -Djava.library.path=${lib_path} -cp ./_results/daal_benchmarks.jar:${CLASSPATH} org.openjdk.jmh.Main \
+     -rf json -rff ./_results/daal_benchmarks.json "$@" 2>&1 | tee ./_results/daal_benchmarks.res
@@ -0,0 +1,155 @@
+/* file: AlgorithmBatchBenchmark.java */
+//==============================================================
+//
+// SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+// http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+//
+// Copyright 2017-2018 Intel Corporation
+//
+// THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+// NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+// PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+//
+// =============================================================
+
+/*
+//  Content:
+//      Benchmark of the batch computations of the Intel(R) DAAL algorithms
+////////////////////////////////////////////////////////////////////////////////
+*/
+
+package DAAL;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.intel.daal.algorithms.classifier.prediction.ModelInputId;
+import com.intel.daal.algorithms.classifier.prediction.NumericTableInputId;
+import com.intel.daal.algorithms.classifier.prediction.PredictionResultId;
+import com.intel.daal.algorithms.classifier.training.InputId;
+import com.intel.daal.algorithms.classifier.training.TrainingResultId;
+import com.intel.daal.algorithms.covariance.ResultId;
+import com.intel.daal.algorithms.kmeans.init.InitBatch;
+import com.intel.daal.algorithms.kmeans.init.InitInputId;
+import com.intel.daal.algorithms.kmeans.init.InitMethod;
+import com.intel.daal.algorithms.kmeans.init.InitResultId;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+import com.intel.daal.services.Environment;
+
+/*
+ * Measures end-to-end compute() of K-Means clustering, covariance,
+ * decision forest classification prediction and kd-tree based kNN classification prediction
+ * at several sizes of the input data and numbers of threads
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AlgorithmBatchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public long nRows;
+
+    @Param({"20"})
+    public long nColumns;
+
+    @Param({"1", "4", "0"})
+    public int nThreads;
+
+    private static final int nClusters     = 20;
+    private static final int maxIterations = 5;
+    private static final int nClasses      = 5;
+    private static final int nTrees        = 50;
+    private static final long nTrainRows   = 10000;
+
+    private DaalContext context;
+    private NumericTable data;
+    private NumericTable centroids;
+    private com.intel.daal.algorithms.decision_forest.classification.Model forestModel;
+    private com.intel.daal.algorithms.kdtree_knn_classification.Model knnModel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (nThreads > 0) {
+            Environment.setNumberOfThreads(nThreads);
+        }
+        context = new DaalContext();
+        data = BenchmarkData.nativeTable(context, nColumns, nRows);
+
+        InitBatch init = new InitBatch(context, Float.class, InitMethod.randomDense, nClusters);
+        init.input.set(InitInputId.data, data);
+        centroids = init.compute().get(InitResultId.centroids);
+
+        HomogenNumericTable trainData = BenchmarkData.nativeTable(context, nColumns, nTrainRows);
+        HomogenNumericTable trainLabels = BenchmarkData.nativeTable(context,
+                BenchmarkData.randomLabels(nTrainRows, nClasses), 1, nTrainRows);
+
+        com.intel.daal.algorithms.decision_forest.classification.training.TrainingBatch forestTraining =
+            new com.intel.daal.algorithms.decision_forest.classification.training.TrainingBatch(context, Float.class,
+                com.intel.daal.algorithms.decision_forest.classification.training.TrainingMethod.defaultDense, nClasses);
+        forestTraining.parameter.setNTrees(nTrees);
+        forestTraining.input.set(InputId.data, trainData);
+        forestTraining.input.set(InputId.labels, trainLabels);
+        forestModel = forestTraining.compute().get(TrainingResultId.model);
+
+        com.intel.daal.algorithms.kdtree_knn_classification.training.TrainingBatch knnTraining =
+            new com.intel.daal.algorithms.kdtree_knn_classification.training.TrainingBatch(context, Float.class,
+                com.intel.daal.algorithms.kdtree_knn_classification.training.TrainingMethod.defaultDense);
+        knnTraining.input.set(InputId.data, trainData);
+        knnTraining.input.set(InputId.labels, trainLabels);
+        knnModel = knnTraining.compute().get(TrainingResultId.model);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.dispose();
+    }
+
+    @Benchmark
+    public void kmeans(Blackhole blackhole) {
+        DaalContext localContext = new DaalContext();
+        com.intel.daal.algorithms.kmeans.Batch algorithm = new com.intel.daal.algorithms.kmeans.Batch(localContext,
+                Float.class, com.intel.daal.algorithms.kmeans.Method.lloydDense, nClusters, maxIterations);
+        algorithm.input.set(com.intel.daal.algorithms.kmeans.InputId.data, data);
+        algorithm.input.set(com.intel.daal.algorithms.kmeans.InputId.inputCentroids, centroids);
+        blackhole.consume(algorithm.compute().get(com.intel.daal.algorithms.kmeans.ResultId.centroids));
+        localContext.dispose();
+    }
+
+    @Benchmark
+    public void covariance(Blackhole blackhole) {
+        DaalContext localContext = new DaalContext();
+        com.intel.daal.algorithms.covariance.Batch algorithm = new com.intel.daal.algorithms.covariance.Batch(localContext,
+                Float.class, com.intel.daal.algorithms.covariance.Method.defaultDense);
+        algorithm.input.set(com.intel.daal.algorithms.covariance.InputId.data, data);
+        blackhole.consume(algorithm.compute().get(ResultId.covariance));
+        localContext.dispose();
+    }
+
+    @Benchmark
+    public void decisionForestPrediction(Blackhole blackhole) {
+        DaalContext localContext = new DaalContext();
+        com.intel.daal.algorithms.decision_forest.classification.prediction.PredictionBatch algorithm =
+            new com.intel.daal.algorithms.decision_forest.classification.prediction.PredictionBatch(localContext, Float.class,
+                com.intel.daal.algorithms.decision_forest.classification.prediction.PredictionMethod.defaultDense, nClasses);
+        algorithm.input.set(NumericTableInputId.data, data);
+        algorithm.input.set(ModelInputId.model, forestModel);
+        blackhole.consume(algorithm.compute().get(PredictionResultId.prediction));
+        localContext.dispose();
+    }
+
+    @Benchmark
+    public void kdtreeKnnPrediction(Blackhole blackhole) {
+        DaalContext localContext = new DaalContext();
+        com.intel.daal.algorithms.kdtree_knn_classification.prediction.PredictionBatch algorithm =
+            new com.intel.daal.algorithms.kdtree_knn_classification.prediction.PredictionBatch(localContext, Float.class,
+                com.intel.daal.algorithms.kdtree_knn_classification.prediction.PredictionMethod.defaultDense);
+        algorithm.input.set(NumericTableInputId.data, data);
+        algorithm.input.set(ModelInputId.model, knnModel);
+        blackhole.consume(algorithm.compute().get(PredictionResultId.prediction));
+        localContext.dispose();
+    }
+}
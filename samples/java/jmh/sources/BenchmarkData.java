@@ -0,0 +1,101 @@
+/* file: BenchmarkData.java */
+//==============================================================
+//
+// SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+// http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+//
+// Copyright 2017-2018 Intel Corporation
+//
+// THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+// NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+// PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+//
+// =============================================================
+
+/*
+//  Content:
+//      Generation of the input data for the Java API benchmarks
+////////////////////////////////////////////////////////////////////////////////
+*/
+
+package DAAL;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+final class BenchmarkData {
+
+    private static final long seed = 777;
+
+    private BenchmarkData() {}
+
+    /* Returns nRows x nColumns uniformly distributed values in [0, 1) */
+    static float[] randomArray(long nColumns, long nRows) {
+        Random random = new Random(seed);
+        float[] data = new float[(int)(nColumns * nRows)];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextFloat();
+        }
+        return data;
+    }
+
+    /* Returns nRows random class labels in [0, nClasses) */
+    static float[] randomLabels(long nRows, int nClasses) {
+        Random random = new Random(seed + 1);
+        float[] labels = new float[(int)nRows];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = random.nextInt(nClasses);
+        }
+        return labels;
+    }
+
+    /* Creates a numeric table with the memory allocated on the native side */
+    static HomogenNumericTable nativeTable(DaalContext context, float[] data, long nColumns, long nRows) {
+        HomogenNumericTable table = new HomogenNumericTable(context, Float.class, nColumns, nRows,
+                NumericTable.AllocationFlag.DoAllocate);
+        FloatBuffer block = ByteBuffer.allocateDirect((int)(nColumns * nRows * 4)).asFloatBuffer();
+        block = table.getBlockOfRows(0, nRows, block);
+        block.put(data, 0, (int)(nColumns * nRows));
+        table.releaseBlockOfRows(0, nRows, block);
+        return table;
+    }
+
+    static HomogenNumericTable nativeTable(DaalContext context, long nColumns, long nRows) {
+        return nativeTable(context, randomArray(nColumns, nRows), nColumns, nRows);
+    }
+
+    /* Writes a CSV file with nRows x nColumns random values and returns its path */
+    static String csvFile(long nColumns, long nRows) throws IOException {
+        File file = File.createTempFile("daal_benchmark_", ".csv");
+        file.deleteOnExit();
+
+        Random random = new Random(seed);
+        BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+        try {
+            StringBuilder row = new StringBuilder();
+            for (long i = 0; i < nRows; i++) {
+                row.setLength(0);
+                for (long j = 0; j < nColumns; j++) {
+                    if (j > 0) {
+                        row.append(',');
+                    }
+                    row.append(random.nextFloat() * 1000.0f);
+                }
+                row.append('\n');
+                writer.write(row.toString());
+            }
+        } finally {
+            writer.close();
+        }
+        return file.getAbsolutePath();
+    }
+}
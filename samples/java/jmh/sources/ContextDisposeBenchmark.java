@@ -0,0 +1,56 @@
+/* file: ContextDisposeBenchmark.java */
+//==============================================================
+//
+// SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+// http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+//
+// Copyright 2017-2018 Intel Corporation
+//
+// THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+// NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+// PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+//
+// =============================================================
+
+/*
+//  Content:
+//      Benchmark of the disposal of a context with many clients
+////////////////////////////////////////////////////////////////////////////////
+*/
+
+package DAAL;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.NumericTable;
+import com.intel.daal.services.DaalContext;
+
+/*
+ * Measures DaalContext.dispose for a context that manages many small numeric tables
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ContextDisposeBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int nClients;
+
+    private DaalContext context;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        context = new DaalContext();
+        for (int i = 0; i < nClients; i++) {
+            new HomogenNumericTable(context, Float.class, 4, 4, NumericTable.AllocationFlag.DoAllocate);
+        }
+    }
+
+    @Benchmark
+    public void dispose() {
+        context.dispose();
+    }
+}
@@ -0,0 +1,68 @@
+/* file: CsvDataSourceBenchmark.java */
+//==============================================================
+//
+// SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+// http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+//
+// Copyright 2017-2018 Intel Corporation
+//
+// THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+// NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+// PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+//
+// =============================================================
+
+/*
+//  Content:
+//      Benchmark of the loading of a CSV file with FileDataSource
+////////////////////////////////////////////////////////////////////////////////
+*/
+
+package DAAL;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.intel.daal.data_management.data_source.DataSource;
+import com.intel.daal.data_management.data_source.FileDataSource;
+import com.intel.daal.services.DaalContext;
+
+/*
+ * Measures FileDataSource.loadDataBlock on a generated CSV file
+ * with the sequential and the parallel parsing of rows
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CsvDataSourceBenchmark {
+
+    @Param({"10000", "1000000"})
+    public long nRows;
+
+    @Param({"20"})
+    public long nColumns;
+
+    @Param({"1", "4"})
+    public long nThreads;
+
+    private String fileName;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fileName = BenchmarkData.csvFile(nColumns, nRows);
+    }
+
+    @Benchmark
+    public long loadDataBlock() {
+        DaalContext context = new DaalContext();
+        FileDataSource dataSource = new FileDataSource(context, fileName,
+                DataSource.DictionaryCreationFlag.DoDictionaryFromContext,
+                DataSource.NumericTableAllocationFlag.DoAllocateNumericTable);
+        dataSource.setNumberOfThreads(nThreads);
+        long nLoaded = dataSource.loadDataBlock(nRows);
+        context.dispose();
+        return nLoaded;
+    }
+}
@@ -0,0 +1,92 @@
+/* file: NumericTableBlockBenchmark.java */
+//==============================================================
+//
+// SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+// http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+//
+// Copyright 2017-2018 Intel Corporation
+//
+// THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+// NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+// PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+//
+// =============================================================
+
+/*
+//  Content:
+//      Benchmark of the access to the blocks of rows of a homogeneous numeric table
+////////////////////////////////////////////////////////////////////////////////
+*/
+
+package DAAL;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.services.DaalContext;
+
+/*
+ * Measures getBlockOfRows/releaseBlockOfRows for the table backed by a Java array
+ * and for the table backed by the native memory (ByteBuffer implementation)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class NumericTableBlockBenchmark {
+
+    @Param({"array", "byteBuffer"})
+    public String impl;
+
+    @Param({"1000", "100000"})
+    public long nRows;
+
+    @Param({"10", "100"})
+    public long nColumns;
+
+    @Param({"1024"})
+    public long blockSize;
+
+    private DaalContext context;
+    private HomogenNumericTable table;
+    private FloatBuffer block;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new DaalContext();
+        float[] data = BenchmarkData.randomArray(nColumns, nRows);
+        if (impl.equals("array")) {
+            table = new HomogenNumericTable(context, data, nColumns, nRows);
+        } else {
+            table = BenchmarkData.nativeTable(context, data, nColumns, nRows);
+        }
+        block = ByteBuffer.allocateDirect((int)(nColumns * blockSize * 4)).asFloatBuffer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.dispose();
+    }
+
+    @Benchmark
+    public void readBlocks(Blackhole blackhole) {
+        for (long i = 0; i < nRows; i += blockSize) {
+            long nBlockRows = Math.min(blockSize, nRows - i);
+            block = table.getBlockOfRows(i, nBlockRows, block);
+            blackhole.consume(block.get(0));
+            table.releaseBlockOfRows(i, nBlockRows, block);
+        }
+    }
+
+    @Benchmark
+    public void readWholeTable(Blackhole blackhole) {
+        FloatBuffer all = ByteBuffer.allocateDirect((int)(nColumns * nRows * 4)).asFloatBuffer();
+        all = table.getBlockOfRows(0, nRows, all);
+        blackhole.consume(all.get(0));
+        table.releaseBlockOfRows(0, nRows, all);
+    }
+}
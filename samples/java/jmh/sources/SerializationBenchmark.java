@@ -0,0 +1,87 @@
+/* file: SerializationBenchmark.java */
+//==============================================================
+//
+// SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+// http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+//
+// Copyright 2017-2018 Intel Corporation
+//
+// THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+// NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+// PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+//
+// =============================================================
+
+/*
+//  Content:
+//      Benchmark of the serialization and deserialization of the Intel(R) DAAL objects
+////////////////////////////////////////////////////////////////////////////////
+*/
+
+package DAAL;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.intel.daal.data_management.compression.CompressionLevel;
+import com.intel.daal.data_management.compression.CompressionMethod;
+import com.intel.daal.data_management.data.HomogenNumericTable;
+import com.intel.daal.data_management.data.SerializationCodec;
+import com.intel.daal.services.DaalContext;
+
+/*
+ * Measures SerializableBase.pack/unpack with and without compression
+ * and the round trip through SerializationCodec
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    public long nRows;
+
+    @Param({"20"})
+    public long nColumns;
+
+    @Param({"none", "zlib", "lzo"})
+    public String compression;
+
+    private DaalContext context;
+    private HomogenNumericTable table;
+    private CompressionMethod method;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new DaalContext();
+        table = BenchmarkData.nativeTable(context, nColumns, nRows);
+        if (compression.equals("zlib")) {
+            method = CompressionMethod.zlib;
+        } else if (compression.equals("lzo")) {
+            method = CompressionMethod.lzo;
+        } else {
+            method = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.dispose();
+    }
+
+    @Benchmark
+    public void packUnpack() {
+        table.pack(method, CompressionLevel.DefaultLevel);
+        table.unpack(context);
+    }
+
+    @Benchmark
+    public void codecRoundTrip(Blackhole blackhole) {
+        DaalContext localContext = new DaalContext();
+        byte[] buffer = SerializationCodec.encodeToArray(table);
+        blackhole.consume(SerializationCodec.decode(localContext, buffer));
+        localContext.dispose();
+    }
+}
@@ -0,0 +1,66 @@
+/* file: SerializableBaseKryoSerializer.java */
+//==============================================================
+//
+// SAMPLE SOURCE CODE - SUBJECT TO THE TERMS OF SAMPLE CODE LICENSE AGREEMENT,
+// http://software.intel.com/en-us/articles/intel-sample-source-code-license-agreement/
+//
+// Copyright 2017-2018 Intel Corporation
+//
+// THIS FILE IS PROVIDED "AS IS" WITH NO WARRANTIES, EXPRESS OR IMPLIED, INCLUDING BUT
+// NOT LIMITED TO ANY IMPLIED WARRANTY OF MERCHANTABILITY, FITNESS FOR A PARTICULAR
+// PURPOSE, NON-INFRINGEMENT OF INTELLECTUAL PROPERTY RIGHTS.
+//
+// =============================================================
+
+/*
+//  Content:
+//      Kryo serializer that transfers Intel(R) DAAL objects in the binary format
+//      of the SerializationCodec instead of the Java serialization
+////////////////////////////////////////////////////////////////////////////////
+*/
+
+package DAAL;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+import com.intel.daal.data_management.data.SerializableBase;
+import com.intel.daal.data_management.data.SerializationCodec;
+import com.intel.daal.services.DaalContext;
+
+/**
+ * Kryo serializer for the Intel(R) DAAL objects. To use it with Spark, register it for
+ * the SerializableBase hierarchy in a KryoRegistrator:
+ * <pre>
+ *     kryo.addDefaultSerializer(SerializableBase.class, new SerializableBaseKryoSerializer());
+ * </pre>
+ * The objects read by the serializer belong to its context
+ */
+public class SerializableBaseKryoSerializer extends Serializer<SerializableBase> {
+
+    private final DaalContext context;
+
+    public SerializableBaseKryoSerializer() {
+        this(new DaalContext());
+    }
+
+    public SerializableBaseKryoSerializer(DaalContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, SerializableBase object) {
+        byte[] buffer = SerializationCodec.encodeToArray(object);
+        output.writeInt(buffer.length);
+        output.writeBytes(buffer);
+    }
+
+    @Override
+    public SerializableBase read(Kryo kryo, Input input, Class<SerializableBase> type) {
+        int length = input.readInt();
+        byte[] buffer = input.readBytes(length);
+        return SerializationCodec.decode(context, buffer);
+    }
+}
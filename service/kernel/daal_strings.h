@@ -94,6 +94,10 @@
     DECLARE_DAAL_STRING_CONST(cosineDistance                     ) \
     DECLARE_DAAL_STRING_CONST(quantiles                          ) \
     DECLARE_DAAL_STRING_CONST(quantileOrders                     ) \
+    DECLARE_DAAL_STRING_CONST(sketchItems                        ) \
+    DECLARE_DAAL_STRING_CONST(sketchLevelSizes                   ) \
+    DECLARE_DAAL_STRING_CONST(accuracy                           ) \
+    DECLARE_DAAL_STRING_CONST(engine                             ) \
     DECLARE_DAAL_STRING_CONST(covariance                         ) \
     DECLARE_DAAL_STRING_CONST(correlation                        ) \
     DECLARE_DAAL_STRING_CONST(mean                               ) \
@@ -142,6 +146,14 @@
     DECLARE_DAAL_STRING_CONST(nTransactions                      ) \
     DECLARE_DAAL_STRING_CONST(maxBins                            ) \
     DECLARE_DAAL_STRING_CONST(minBinSize                         ) \
+    DECLARE_DAAL_STRING_CONST(trainingState                      ) \
+    DECLARE_DAAL_STRING_CONST(binCandidates                      ) \
+    DECLARE_DAAL_STRING_CONST(localStatistics                    ) \
+    DECLARE_DAAL_STRING_CONST(histograms                         ) \
+    DECLARE_DAAL_STRING_CONST(binBorders                         ) \
+    DECLARE_DAAL_STRING_CONST(treeNodes                          ) \
+    DECLARE_DAAL_STRING_CONST(trainingStatus                     ) \
+    DECLARE_DAAL_STRING_CONST(partialModel                       ) \
     DECLARE_DAAL_STRING_CONST(maxItemsetSize                     ) \
     DECLARE_DAAL_STRING_CONST(minItemsetSize                     ) \
     DECLARE_DAAL_STRING_CONST(largeItemsets                      ) \
@@ -283,12 +295,24 @@
     DECLARE_DAAL_STRING_CONST(retainRatio                        ) \
     DECLARE_DAAL_STRING_CONST(k                                  ) \
     DECLARE_DAAL_STRING_CONST(kdTreeTable                        ) \
+    DECLARE_DAAL_STRING_CONST(distances                          ) \
+    DECLARE_DAAL_STRING_CONST(resultsToCompute                   ) \
+    DECLARE_DAAL_STRING_CONST(nLists                             ) \
+    DECLARE_DAAL_STRING_CONST(nProbes                            ) \
+    DECLARE_DAAL_STRING_CONST(listOffsets                        ) \
+    DECLARE_DAAL_STRING_CONST(rebalanceRatio                     ) \
+    DECLARE_DAAL_STRING_CONST(removedIndices                     ) \
+    DECLARE_DAAL_STRING_CONST(onlineCentroids                    ) \
+    DECLARE_DAAL_STRING_CONST(onlineClusterSizes                 ) \
+    DECLARE_DAAL_STRING_CONST(onlineObjectiveFunction            ) \
     DECLARE_DAAL_STRING_CONST(auxRetainMask                      ) \
     DECLARE_DAAL_STRING_CONST(auxValue                           ) \
     DECLARE_DAAL_STRING_CONST(auxSmBeta                          ) \
     DECLARE_DAAL_STRING_CONST(argument                           ) \
     DECLARE_DAAL_STRING_CONST(valueIdx                           ) \
     DECLARE_DAAL_STRING_CONST(variableImportance                 ) \
+    DECLARE_DAAL_STRING_CONST(partialVariableImportance          ) \
+    DECLARE_DAAL_STRING_CONST(partialOutOfBagError               ) \
     DECLARE_DAAL_STRING_CONST(gradientIdx                        ) \
     DECLARE_DAAL_STRING_CONST(hessianIdx                         ) \
     DECLARE_DAAL_STRING_CONST(inputArgument                      ) \
@@ -325,7 +349,9 @@
     DECLARE_DAAL_STRING_CONST(groupSum                           ) \
     DECLARE_DAAL_STRING_CONST(auxIntermediateValue               ) \
     DECLARE_DAAL_STRING_CONST(numberOfModels                     ) \
-    DECLARE_DAAL_STRING_CONST(inputCollection                    )
+    DECLARE_DAAL_STRING_CONST(inputCollection                    ) \
+    DECLARE_DAAL_STRING_CONST(nTopItems                          ) \
+    DECLARE_DAAL_STRING_CONST(topItems                           )
 
 
 /**
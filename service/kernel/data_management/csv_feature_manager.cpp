@@ -0,0 +1,134 @@
+/* file: csv_feature_manager.cpp */
+/*******************************************************************************
+* Copyright 2014-2018 Intel Corporation
+* All Rights Reserved.
+*
+* If this  software was obtained  under the  Intel Simplified  Software License,
+* the following terms apply:
+*
+* The source code,  information  and material  ("Material") contained  herein is
+* owned by Intel Corporation or its  suppliers or licensors,  and  title to such
+* Material remains with Intel  Corporation or its  suppliers or  licensors.  The
+* Material  contains  proprietary  information  of  Intel or  its suppliers  and
+* licensors.  The Material is protected by  worldwide copyright  laws and treaty
+* provisions.  No part  of  the  Material   may  be  used,  copied,  reproduced,
+* modified, published,  uploaded, posted, transmitted,  distributed or disclosed
+* in any way without Intel's prior express written permission.  No license under
+* any patent,  copyright or other  intellectual property rights  in the Material
+* is granted to  or  conferred  upon  you,  either   expressly,  by implication,
+* inducement,  estoppel  or  otherwise.  Any  license   under such  intellectual
+* property rights must be express and approved by Intel in writing.
+*
+* Unless otherwise agreed by Intel in writing,  you may not remove or alter this
+* notice or  any  other  notice   embedded  in  Materials  by  Intel  or Intel's
+* suppliers or licensors in any way.
+*
+*
+* If this  software  was obtained  under the  Apache License,  Version  2.0 (the
+* "License"), the following terms apply:
+*
+* You may  not use this  file except  in compliance  with  the License.  You may
+* obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+*
+*
+* Unless  required  by   applicable  law  or  agreed  to  in  writing,  software
+* distributed under the License  is distributed  on an  "AS IS"  BASIS,  WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*
+* See the   License  for the   specific  language   governing   permissions  and
+* limitations under the License.
+*******************************************************************************/
+
+/*
+//++
+//  Implementation of the parallel parser of CSV rows with continuous features
+//--
+*/
+
+#include "csv_feature_manager.h"
+#include "threading.h"
+
+namespace daal
+{
+namespace data_management
+{
+namespace csv_internal
+{
+
+template <typename T>
+static void parseRow(char *row, char delimiter, const size_t *featureIndices, size_t nFeatures, T *data)
+{
+    char *word = row;
+    size_t i = 0;
+    for (; i < nFeatures; i++)
+    {
+        char *wordEnd = word;
+        while (*wordEnd != delimiter && *wordEnd != '\0') { wordEnd++; }
+
+        if (featureIndices[i] != (size_t)-1)
+        {
+            const char wordEndValue = *wordEnd;
+            *wordEnd = '\0';
+            readContinuousValue<T>(word, data[featureIndices[i]]);
+            *wordEnd = wordEndValue;
+        }
+
+        if (*wordEnd == '\0')
+        {
+            i++;
+            break;
+        }
+        word = wordEnd + 1;
+    }
+
+    for (; i < nFeatures; i++)
+    {
+        if (featureIndices[i] != (size_t)-1)
+        {
+            data[featureIndices[i]] = (T)0;
+        }
+    }
+}
+
+template <typename T>
+static void parseContinuousRowsImpl(char *rawData, const size_t *rowOffsets, size_t nRows, char delimiter,
+                                    const size_t *featureIndices, size_t nFeatures, T *data, size_t nColumns, size_t nThreads)
+{
+    size_t nBlocks = (nThreads ? nThreads : daal::threader_get_threads_number());
+    if (nBlocks > nRows) { nBlocks = nRows; }
+    if (nBlocks <= 1)
+    {
+        for (size_t i = 0; i < nRows; i++)
+        {
+            parseRow<T>(rawData + rowOffsets[i], delimiter, featureIndices, nFeatures, data + i * nColumns);
+        }
+        return;
+    }
+
+    const size_t nRowsInBlock = nRows / nBlocks + !!(nRows % nBlocks);
+    daal::threader_for((int)nBlocks, (int)nBlocks, [&](int iBlock)
+    {
+        const size_t iStart = iBlock * nRowsInBlock;
+        const size_t iEnd   = (iStart + nRowsInBlock < nRows ? iStart + nRowsInBlock : nRows);
+        for (size_t i = iStart; i < iEnd; i++)
+        {
+            parseRow<T>(rawData + rowOffsets[i], delimiter, featureIndices, nFeatures, data + i * nColumns);
+        }
+    });
+}
+
+DAAL_EXPORT void parseContinuousRows(char *rawData, const size_t *rowOffsets, size_t nRows, char delimiter,
+                                     const size_t *featureIndices, size_t nFeatures, float *data, size_t nColumns, size_t nThreads)
+{
+    parseContinuousRowsImpl<float>(rawData, rowOffsets, nRows, delimiter, featureIndices, nFeatures, data, nColumns, nThreads);
+}
+
+DAAL_EXPORT void parseContinuousRows(char *rawData, const size_t *rowOffsets, size_t nRows, char delimiter,
+                                     const size_t *featureIndices, size_t nFeatures, double *data, size_t nColumns, size_t nThreads)
+{
+    parseContinuousRowsImpl<double>(rawData, rowOffsets, nRows, delimiter, featureIndices, nFeatures, data, nColumns, nThreads);
+}
+
+} // namespace csv_internal
+} // namespace data_management
+} // namespace daal
@@ -1036,6 +1036,7 @@ void ErrorMessageCollection::parseResourceFile()
     add(ErrorSQLstmtHandle, "ErrorSQLstmtHandle");
     add(ErrorOnFileOpen, "Error on file open");
     add(ErrorOnFileRead, "Error on file read");
+    add(ErrorOnFileWrite, "Error on file write");
 
     add(ErrorKDBNoConnection, "ErrorKDBNoConnection");
     add(ErrorKDBWrongCredentials, "ErrorKDBWrongCredentials");
@@ -1057,6 +1058,7 @@ void ErrorMessageCollection::parseResourceFile()
     add(ErrorCouldntCreateGlobalReferenceToJavaObject, "Couldn't create global reference to Java object");
     add(ErrorCouldntFindJavaMethod, "Couldn't find Java method");
     add(ErrorCouldntFindClassForJavaObject, "Couldn't find class for Java object");
+    add(ErrorJavaMethodThrewException, "Java method called from the library threw an exception");
 
     add(UnknownError, "UnknownError");
 